@@ -55,6 +55,7 @@ import org.opendaylight.controller.sal.packet.IPv4;
 import org.opendaylight.controller.sal.packet.Packet;
 import org.opendaylight.controller.sal.packet.PacketResult;
 import org.opendaylight.controller.sal.packet.RawPacket;
+import org.opendaylight.controller.sal.packet.flyweight.PacketView;
 import org.opendaylight.controller.sal.utils.EtherTypes;
 import org.opendaylight.controller.sal.utils.HexEncode;
 import org.opendaylight.controller.sal.utils.NetUtils;
@@ -91,6 +92,12 @@ import org.slf4j.LoggerFactory;
 
 public class ArpHandler implements IHostFinder, IListenDataPacket, ICacheUpdateAware<ARPEvent, Boolean> {
     private static final Logger log = LoggerFactory.getLogger(ArpHandler.class);
+    private static final ThreadLocal<PacketView> packetView = new ThreadLocal<PacketView>() {
+        @Override
+        protected PacketView initialValue() {
+            return new PacketView();
+        }
+    };
     static final String ARP_EVENT_CACHE_NAME = "arphandler.arpRequestReplyEvent";
     private IfIptoHost hostTracker;
     private ISwitchManager switchManager;
@@ -648,6 +655,11 @@ public class ArpHandler implements IHostFinder, IListenDataPacket, ICacheUpdateA
             return PacketResult.IGNORED;
         }
         log.trace("Received a frame of size: {}", inPkt.getPacketData().length);
+        // only IP and ARP packets are handled, do not decode the others
+        short etherType = packetView.get().wrap(inPkt).getEtherType();
+        if ((etherType != EtherTypes.IPv4.shortValue()) && (etherType != EtherTypes.ARP.shortValue())) {
+            return PacketResult.IGNORED;
+        }
         Packet formattedPak = this.dataPacketService.decodeDataPacket(inPkt);
         if (formattedPak instanceof Ethernet) {
             Packet nextPak = formattedPak.getPayload();
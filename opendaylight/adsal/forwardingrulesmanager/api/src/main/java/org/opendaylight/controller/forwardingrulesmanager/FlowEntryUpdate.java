@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.forwardingrulesmanager;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * One request of a bulk flow programming: installation or removal of a flow
+ * entry, or replacement of an installed flow entry with a new one.
+ */
+public class FlowEntryUpdate {
+    private final UpdateType type;
+    private final FlowEntry oldFlowEntry;
+    private final FlowEntry flowEntry;
+
+    private FlowEntryUpdate(UpdateType type, FlowEntry oldFlowEntry, FlowEntry flowEntry) {
+        this.type = type;
+        this.oldFlowEntry = oldFlowEntry;
+        this.flowEntry = flowEntry;
+    }
+
+    public static FlowEntryUpdate install(FlowEntry flowEntry) {
+        return new FlowEntryUpdate(UpdateType.ADDED, null, flowEntry);
+    }
+
+    public static FlowEntryUpdate modify(FlowEntry currentFlowEntry, FlowEntry newFlowEntry) {
+        return new FlowEntryUpdate(UpdateType.CHANGED, currentFlowEntry, newFlowEntry);
+    }
+
+    public static FlowEntryUpdate uninstall(FlowEntry flowEntry) {
+        return new FlowEntryUpdate(UpdateType.REMOVED, null, flowEntry);
+    }
+
+    public UpdateType getType() {
+        return type;
+    }
+
+    /**
+     * @return the flow entry to install or to uninstall, or the new flow entry
+     *         of a modification
+     */
+    public FlowEntry getFlowEntry() {
+        return flowEntry;
+    }
+
+    /**
+     * @return the flow entry being replaced by a modification, null otherwise
+     */
+    public FlowEntry getOldFlowEntry() {
+        return oldFlowEntry;
+    }
+
+    @Override
+    public String toString() {
+        return "FlowEntryUpdate[type=" + type + ", oldFlowEntry=" + oldFlowEntry + ", flowEntry=" + flowEntry + "]";
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.controller.forwardingrulesmanager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
@@ -168,6 +169,22 @@ public interface IForwardingRulesManager {
      */
     public Status modifyOrAddFlowEntryAsync(FlowEntry newone);
 
+    /**
+     * It requests FRM to install, modify and remove the passed Flow Entries in
+     * bulk. The requests are validated as their single entry counterparts are,
+     * then the flows are programmed on each network node back to back and
+     * acknowledged by the node as a whole, instead of one round trip per flow.
+     * Requests targeting different nodes are programmed in parallel. FRM
+     * updates its database according to the result of each flow. A partially
+     * failed modification is not rolled back.
+     *
+     * @param updates
+     *            the flow entry installations, modifications and removals
+     * @return for each request in order, the future {@code Status} object
+     *         indicating the result of the request
+     */
+    public List<Future<Status>> updateFlowEntries(List<FlowEntryUpdate> updates);
+
     /**
      * Requests ForwardingRulesManager to solicit the network node to inform us
      * about the status of its execution on the asynchronous requests that were
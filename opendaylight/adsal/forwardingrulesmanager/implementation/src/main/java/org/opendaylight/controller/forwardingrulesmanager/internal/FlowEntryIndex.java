@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.forwardingrulesmanager.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntryInstall;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+
+/**
+ * Secondary indexes on the installed flow entries: by node, by node and flow
+ * name, by group, by port and by request id. They let forwarding rules manager
+ * find the entries of a node, of a group or using a port in time proportional
+ * to the number of such entries, instead of going through the whole installed
+ * software view.
+ *
+ * The indexes are local to the controller. They are updated along with the
+ * local writes to the installed software view and through the cache events
+ * for the writes of the other controllers. Updates are serialized, readers may
+ * run concurrently with them.
+ */
+final class FlowEntryIndex {
+    /*
+     * The indexed entries. The entry stored for a key may differ from the one
+     * used to remove it because FlowEntryInstall equality does not account
+     * for the actions, the stored one is what the indexes were built from.
+     */
+    private final ConcurrentMap<FlowEntryInstall, FlowEntryInstall> entries =
+            new ConcurrentHashMap<FlowEntryInstall, FlowEntryInstall>();
+    private final ConcurrentMap<Node, Set<FlowEntryInstall>> byNode =
+            new ConcurrentHashMap<Node, Set<FlowEntryInstall>>();
+    private final ConcurrentMap<NodeKey, Set<FlowEntryInstall>> byName =
+            new ConcurrentHashMap<NodeKey, Set<FlowEntryInstall>>();
+    private final ConcurrentMap<String, Set<FlowEntryInstall>> byGroup =
+            new ConcurrentHashMap<String, Set<FlowEntryInstall>>();
+    private final ConcurrentMap<NodeConnector, Set<FlowEntryInstall>> byPort =
+            new ConcurrentHashMap<NodeConnector, Set<FlowEntryInstall>>();
+    // Request ids are only unique per controller, the entries of different
+    // controllers may share one on different nodes
+    private final ConcurrentMap<NodeKey, FlowEntryInstall> byRequestId =
+            new ConcurrentHashMap<NodeKey, FlowEntryInstall>();
+
+    /**
+     * Indexes the entry, replacing the previous version of it if any
+     */
+    synchronized void add(FlowEntryInstall entry) {
+        FlowEntryInstall old = entries.put(entry, entry);
+        if (old != null) {
+            unindex(old);
+        }
+        put(byNode, entry.getNode(), entry);
+        put(byName, new NodeKey(entry.getNode(), entry.getFlowName()), entry);
+        if (entry.getGroupName() != null) {
+            put(byGroup, entry.getGroupName(), entry);
+        }
+        for (NodeConnector port : getPorts(entry)) {
+            put(byPort, port, entry);
+        }
+        if (entry.getRequestId() != 0) {
+            byRequestId.put(new NodeKey(entry.getNode(), entry.getRequestId()), entry);
+        }
+    }
+
+    synchronized void remove(FlowEntryInstall entry) {
+        FlowEntryInstall old = entries.remove(entry);
+        if (old != null) {
+            unindex(old);
+        }
+    }
+
+    private void unindex(FlowEntryInstall entry) {
+        remove(byNode, entry.getNode(), entry);
+        remove(byName, new NodeKey(entry.getNode(), entry.getFlowName()), entry);
+        if (entry.getGroupName() != null) {
+            remove(byGroup, entry.getGroupName(), entry);
+        }
+        for (NodeConnector port : getPorts(entry)) {
+            remove(byPort, port, entry);
+        }
+        if (entry.getRequestId() != 0) {
+            byRequestId.remove(new NodeKey(entry.getNode(), entry.getRequestId()), entry);
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        byNode.clear();
+        byName.clear();
+        byGroup.clear();
+        byPort.clear();
+        byRequestId.clear();
+    }
+
+    boolean containsNode(Node node) {
+        return byNode.containsKey(node);
+    }
+
+    /**
+     * @return the entries installed on the node
+     */
+    List<FlowEntryInstall> getNodeEntries(Node node) {
+        return get(byNode, node);
+    }
+
+    /**
+     * @return the entries part of the group
+     */
+    List<FlowEntryInstall> getGroupEntries(String groupName) {
+        return get(byGroup, groupName);
+    }
+
+    /**
+     * @return the entries which have the node connector as input or output
+     *         port
+     */
+    List<FlowEntryInstall> getPortEntries(NodeConnector port) {
+        return get(byPort, port);
+    }
+
+    /**
+     * @return one of the entries installed on the node with the flow name, null
+     *         if none
+     */
+    FlowEntryInstall getEntry(Node node, String flowName) {
+        Set<FlowEntryInstall> set = byName.get(new NodeKey(node, flowName));
+        if (set != null) {
+            for (FlowEntryInstall entry : set) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the entry installed on the node by the asynchronous request with
+     *         the given id, null if none
+     */
+    FlowEntryInstall getEntry(Node node, long requestId) {
+        return byRequestId.get(new NodeKey(node, requestId));
+    }
+
+    /*
+     * The ports a flow is interested in, same as the ones FRM checks when a
+     * port goes down: input port and output ports
+     */
+    private static Set<NodeConnector> getPorts(FlowEntryInstall entry) {
+        Set<NodeConnector> ports = new HashSet<NodeConnector>();
+        Flow flow = entry.getInstall().getFlow();
+        Match match = flow.getMatch();
+        if (match != null && match.isPresent(MatchType.IN_PORT)) {
+            ports.add((NodeConnector) match.getField(MatchType.IN_PORT).getValue());
+        }
+        List<Action> actions = flow.getActions();
+        if (actions != null) {
+            for (Action action : actions) {
+                if (action instanceof Output) {
+                    ports.add(((Output) action).getPort());
+                }
+            }
+        }
+        return ports;
+    }
+
+    private static <K> void put(ConcurrentMap<K, Set<FlowEntryInstall>> index, K key, FlowEntryInstall entry) {
+        Set<FlowEntryInstall> set = index.get(key);
+        if (set == null) {
+            set = Collections.newSetFromMap(new ConcurrentHashMap<FlowEntryInstall, Boolean>());
+            index.put(key, set);
+        }
+        set.add(entry);
+    }
+
+    private static <K> void remove(ConcurrentMap<K, Set<FlowEntryInstall>> index, K key, FlowEntryInstall entry) {
+        Set<FlowEntryInstall> set = index.get(key);
+        if (set != null) {
+            set.remove(entry);
+            if (set.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static <K> List<FlowEntryInstall> get(ConcurrentMap<K, Set<FlowEntryInstall>> index, K key) {
+        Set<FlowEntryInstall> set = (key == null) ? null : index.get(key);
+        return (set == null) ? new ArrayList<FlowEntryInstall>(0) : new ArrayList<FlowEntryInstall>(set);
+    }
+
+    /*
+     * Key of an entry identifier which is only unique within a node: flow name
+     * or request id
+     */
+    private static final class NodeKey {
+        private final Node node;
+        private final Object id;
+
+        NodeKey(Node node, Object id) {
+            this.node = node;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ((node == null) ? 0 : node.hashCode()) + ((id == null) ? 0 : id.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey other = (NodeKey) obj;
+            return (node == null ? other.node == null : node.equals(other.node))
+                    && (id == null ? other.id == null : id.equals(other.id));
+        }
+    }
+}
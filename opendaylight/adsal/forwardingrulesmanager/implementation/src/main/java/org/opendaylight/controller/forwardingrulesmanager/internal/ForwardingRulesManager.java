@@ -14,7 +14,9 @@ import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,6 +28,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.opendaylight.controller.clustering.services.CacheConfigException;
@@ -41,6 +45,7 @@ import org.opendaylight.controller.containermanager.IContainerManager;
 import org.opendaylight.controller.forwardingrulesmanager.FlowConfig;
 import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
 import org.opendaylight.controller.forwardingrulesmanager.FlowEntryInstall;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntryUpdate;
 import org.opendaylight.controller.forwardingrulesmanager.IForwardingRulesManager;
 import org.opendaylight.controller.forwardingrulesmanager.IForwardingRulesManagerAware;
 import org.opendaylight.controller.forwardingrulesmanager.PortGroup;
@@ -64,6 +69,7 @@ import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.core.Property;
 import org.opendaylight.controller.sal.core.UpdateType;
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
 import org.opendaylight.controller.sal.flowprogrammer.IFlowProgrammerListener;
 import org.opendaylight.controller.sal.flowprogrammer.IFlowProgrammerService;
 import org.opendaylight.controller.sal.match.Match;
@@ -125,10 +131,9 @@ public class ForwardingRulesManager implements
     private ConcurrentMap<FlowEntry, FlowEntry> originalSwView;
     private ConcurrentMap<FlowEntryInstall, FlowEntryInstall> installedSwView;
     /*
-     * Per node and per group indexing
+     * Per node, per flow name, per group, per port and per request id indexing
      */
-    private ConcurrentMap<Node, List<FlowEntryInstall>> nodeFlows;
-    private ConcurrentMap<String, List<FlowEntryInstall>> groupFlows;
+    private FlowEntryIndex flowIndex;
 
     /*
      * Inactive flow list. This is for the global instance of FRM It will
@@ -311,6 +316,53 @@ public class ForwardingRulesManager implements
      */
     private Status addEntry(FlowEntry flowEntry, boolean async) {
 
+        // Validity and conflict checks
+        List<FlowEntryInstall> toInstallSafe = new ArrayList<FlowEntryInstall>();
+        Status status = deriveAddEntries(flowEntry, toInstallSafe);
+        if (status != null) {
+            return status;
+        }
+
+        // Try to install an entry at the time
+        Status error = new Status(null, null);
+        Status succeded = null;
+        boolean oneSucceded = false;
+        for (FlowEntryInstall installEntry : toInstallSafe) {
+
+            // Install and update database
+            Status ret = addEntryInternal(installEntry, async);
+
+            if (ret.isSuccess()) {
+                oneSucceded = true;
+                /*
+                 * The first successful status response will be returned For the
+                 * asynchronous call, we can discard the container flow
+                 * complication for now and assume we will always deal with one
+                 * flow only per request
+                 */
+                succeded = ret;
+            } else {
+                error = ret;
+                log.trace("Failed to install the entry: {}. The failure is: {}", installEntry, ret.getDescription());
+            }
+        }
+
+        return (oneSucceded) ? succeded : error;
+    }
+
+    /**
+     * Runs the validity checks of a flow entry addition and derives the
+     * container flows merged entries which do not clash with existing ones
+     *
+     * @param flowEntry
+     *            the original flow entry application requested to add
+     * @param toInstallSafe
+     *            the list filled with the entries good to be installed
+     * @return null if there are entries to install, otherwise the status of
+     *         this request
+     */
+    private Status deriveAddEntries(FlowEntry flowEntry, List<FlowEntryInstall> toInstallSafe) {
+
         // Sanity Check
         if (flowEntry == null || flowEntry.getNode() == null || flowEntry.getFlow() == null) {
             String logMsg = INVALID_FLOW_ENTRY + ": {}";
@@ -366,7 +418,6 @@ public class ForwardingRulesManager implements
         }
 
         // Derive the list of entries good to be installed
-        List<FlowEntryInstall> toInstallSafe = new ArrayList<FlowEntryInstall>();
         for (FlowEntryInstall entry : toInstallList) {
             // Conflict Check: Verify new entry would not overwrite existing
             // ones
@@ -387,31 +438,7 @@ public class ForwardingRulesManager implements
             return new Status(StatusCode.CONFLICT, msg);
         }
 
-        // Try to install an entry at the time
-        Status error = new Status(null, null);
-        Status succeded = null;
-        boolean oneSucceded = false;
-        for (FlowEntryInstall installEntry : toInstallSafe) {
-
-            // Install and update database
-            Status ret = addEntryInternal(installEntry, async);
-
-            if (ret.isSuccess()) {
-                oneSucceded = true;
-                /*
-                 * The first successful status response will be returned For the
-                 * asynchronous call, we can discard the container flow
-                 * complication for now and assume we will always deal with one
-                 * flow only per request
-                 */
-                succeded = ret;
-            } else {
-                error = ret;
-                log.trace("Failed to install the entry: {}. The failure is: {}", installEntry, ret.getDescription());
-            }
-        }
-
-        return (oneSucceded) ? succeded : error;
+        return null;
     }
 
     /**
@@ -461,51 +488,10 @@ public class ForwardingRulesManager implements
     private Status modifyEntry(FlowEntry currentFlowEntry, FlowEntry newFlowEntry, boolean async) {
         Status retExt;
 
-        // Sanity checks
-        if (currentFlowEntry == null || currentFlowEntry.getNode() == null || newFlowEntry == null
-                || newFlowEntry.getNode() == null || newFlowEntry.getFlow() == null) {
-            String msg = "Modify: " + INVALID_FLOW_ENTRY;
-            String logMsg = msg + ": {} or {}";
-            log.warn(logMsg, currentFlowEntry, newFlowEntry);
-            return new Status(StatusCode.NOTACCEPTABLE, msg);
-        }
-        if (!currentFlowEntry.getNode().equals(newFlowEntry.getNode())
-                || !currentFlowEntry.getFlowName().equals(newFlowEntry.getFlowName())) {
-            String msg = "Modify: Incompatible Flow Entries";
-            String logMsg = msg + ": {} and {}";
-            log.warn(logMsg, currentFlowEntry, newFlowEntry);
-            return new Status(StatusCode.NOTACCEPTABLE, msg);
-        }
-
-        // Equality Check
-        if (currentFlowEntry.getFlow().equals(newFlowEntry.getFlow())) {
-            String msg = "Modify skipped as flows are the same";
-            String logMsg = msg + ": {} and {}";
-            log.debug(logMsg, currentFlowEntry, newFlowEntry);
-            return new Status(StatusCode.SUCCESS, msg);
-        }
-
-        // Operational check: input, output and queue ports presence check and
-        // action validation for this container
-        Status status = validateEntry(newFlowEntry);
-        if (!status.isSuccess()) {
-            String msg = String.format("Modify: %s: %s", INVALID_FLOW_ENTRY, status.getDescription());
-            log.warn("{}: {}", msg, newFlowEntry);
-            return new Status(StatusCode.NOTACCEPTABLE, msg);
-        }
-
-        /*
-         * Conflict Check: Verify the new entry would not conflict with an
-         * existing one. This is a loose check on the previous original flow
-         * entry requests. No check on the container flow merged flow entries
-         * (if any) yet
-         */
-        FlowEntry sameMatchOriginalEntry = originalSwView.get(newFlowEntry);
-        if (sameMatchOriginalEntry != null && !sameMatchOriginalEntry.equals(currentFlowEntry)) {
-            String msg = "Operation Rejected: Another flow with same match and priority exists on the target node";
-            String logMsg = msg + ": {}";
-            log.warn(logMsg, currentFlowEntry);
-            return new Status(StatusCode.CONFLICT, msg);
+        // Validity and conflict checks
+        Status status = validateModifyEntry(currentFlowEntry, newFlowEntry);
+        if (status != null) {
+            return status;
         }
 
         // Derive the installed and toInstall entries
@@ -623,6 +609,65 @@ public class ForwardingRulesManager implements
         return succeeded;
     }
 
+    /**
+     * Runs the validity and conflict checks of a flow entry modification
+     *
+     * @param currentFlowEntry
+     * @param newFlowEntry
+     * @return null if the modification can proceed, otherwise the status of
+     *         this request
+     */
+    private Status validateModifyEntry(FlowEntry currentFlowEntry, FlowEntry newFlowEntry) {
+        // Sanity checks
+        if (currentFlowEntry == null || currentFlowEntry.getNode() == null || newFlowEntry == null
+                || newFlowEntry.getNode() == null || newFlowEntry.getFlow() == null) {
+            String msg = "Modify: " + INVALID_FLOW_ENTRY;
+            String logMsg = msg + ": {} or {}";
+            log.warn(logMsg, currentFlowEntry, newFlowEntry);
+            return new Status(StatusCode.NOTACCEPTABLE, msg);
+        }
+        if (!currentFlowEntry.getNode().equals(newFlowEntry.getNode())
+                || !currentFlowEntry.getFlowName().equals(newFlowEntry.getFlowName())) {
+            String msg = "Modify: Incompatible Flow Entries";
+            String logMsg = msg + ": {} and {}";
+            log.warn(logMsg, currentFlowEntry, newFlowEntry);
+            return new Status(StatusCode.NOTACCEPTABLE, msg);
+        }
+
+        // Equality Check
+        if (currentFlowEntry.getFlow().equals(newFlowEntry.getFlow())) {
+            String msg = "Modify skipped as flows are the same";
+            String logMsg = msg + ": {} and {}";
+            log.debug(logMsg, currentFlowEntry, newFlowEntry);
+            return new Status(StatusCode.SUCCESS, msg);
+        }
+
+        // Operational check: input, output and queue ports presence check and
+        // action validation for this container
+        Status status = validateEntry(newFlowEntry);
+        if (!status.isSuccess()) {
+            String msg = String.format("Modify: %s: %s", INVALID_FLOW_ENTRY, status.getDescription());
+            log.warn("{}: {}", msg, newFlowEntry);
+            return new Status(StatusCode.NOTACCEPTABLE, msg);
+        }
+
+        /*
+         * Conflict Check: Verify the new entry would not conflict with an
+         * existing one. This is a loose check on the previous original flow
+         * entry requests. No check on the container flow merged flow entries
+         * (if any) yet
+         */
+        FlowEntry sameMatchOriginalEntry = originalSwView.get(newFlowEntry);
+        if (sameMatchOriginalEntry != null && !sameMatchOriginalEntry.equals(currentFlowEntry)) {
+            String msg = "Operation Rejected: Another flow with same match and priority exists on the target node";
+            String logMsg = msg + ": {}";
+            log.warn(logMsg, currentFlowEntry);
+            return new Status(StatusCode.CONFLICT, msg);
+        }
+
+        return null;
+    }
+
     /**
      * This is the function that modifies the final container flows merged
      * entries on the network node and update the database. It expects that all
@@ -894,15 +939,17 @@ public class ForwardingRulesManager implements
     }
 
     private void updateIndexDatabase(FlowEntryInstall entry, boolean add) {
-        // Update node indexed flow database
-        updateNodeFlowsDB(entry, add);
-
-        // Update group indexed flow database
-        updateGroupFlowsDB(entry, add);
+        if (add) {
+            flowIndex.add(entry);
+        } else {
+            flowIndex.remove(entry);
+        }
     }
 
     /*
-     * Update the node mapped flows database
+     * Update the node mapped flows database. The index is updated right away so
+     * that the lookups see the entries this controller just programmed, the
+     * cache events only carry the updates of the other controllers to it.
      */
     private void updateSwViews(FlowEntryInstall flowEntries, boolean add) {
         if (add) {
@@ -912,85 +959,7 @@ public class ForwardingRulesManager implements
             originalSwView.remove(flowEntries.getOriginal());
             installedSwView.remove(flowEntries);
         }
-    }
-
-    /*
-     * Update the node mapped flows database
-     */
-    private void updateNodeFlowsDB(FlowEntryInstall flowEntries, boolean add) {
-        Node node = flowEntries.getNode();
-
-        List<FlowEntryInstall> nodeIndeces = this.nodeFlows.get(node);
-        if (nodeIndeces == null) {
-            if (!add) {
-                return;
-            } else {
-                nodeIndeces = new ArrayList<FlowEntryInstall>();
-            }
-        }
-
-        if (add) {
-            // there may be an already existing entry.
-            // remove it before adding the new one.
-            // This is necessary since we have observed that in some cases
-            // Infinispan does aggregation for operations (eg:- remove and then put a different value)
-            // related to the same key within the same transaction.
-            // Need this defensive code as the new FlowEntryInstall may be different
-            // than the old one even though the equals method returns true. This is because
-            // the equals method does not take into account the action list.
-            if(nodeIndeces.contains(flowEntries)) {
-                nodeIndeces.remove(flowEntries);
-            }
-            nodeIndeces.add(flowEntries);
-        } else {
-            nodeIndeces.remove(flowEntries);
-        }
-
-        // Update cache across cluster
-        if (nodeIndeces.isEmpty()) {
-            this.nodeFlows.remove(node);
-        } else {
-            this.nodeFlows.put(node, nodeIndeces);
-        }
-    }
-
-    /*
-     * Update the group name mapped flows database
-     */
-    private void updateGroupFlowsDB(FlowEntryInstall flowEntries, boolean add) {
-        String groupName = flowEntries.getGroupName();
-
-        // Flow may not be part of a group
-        if (groupName == null) {
-            return;
-        }
-
-        List<FlowEntryInstall> indices = this.groupFlows.get(groupName);
-        if (indices == null) {
-            if (!add) {
-                return;
-            } else {
-                indices = new ArrayList<FlowEntryInstall>();
-            }
-        }
-
-        if (add) {
-            // same comments in the similar code section in
-            // updateNodeFlowsDB method apply here too
-            if(indices.contains(flowEntries)) {
-                indices.remove(flowEntries);
-            }
-            indices.add(flowEntries);
-        } else {
-            indices.remove(flowEntries);
-        }
-
-        // Update cache across cluster
-        if (indices.isEmpty()) {
-            this.groupFlows.remove(groupName);
-        } else {
-            this.groupFlows.put(groupName, indices);
-        }
+        updateIndexDatabase(flowEntries, add);
     }
 
     /**
@@ -999,15 +968,8 @@ public class ForwardingRulesManager implements
      */
     @SuppressWarnings("unused")
     private Status removeEntry(Node node, String flowName) {
-        FlowEntryInstall target = null;
-
         // Find in database
-        for (FlowEntryInstall entry : installedSwView.values()) {
-            if (entry.equalsByNodeAndName(node, flowName)) {
-                target = entry;
-                break;
-            }
-        }
+        FlowEntryInstall target = flowIndex.getEntry(node, flowName);
 
         // If it is not there, stop any further processing
         if (target == null) {
@@ -1110,6 +1072,389 @@ public class ForwardingRulesManager implements
         return status;
     }
 
+    @Override
+    public List<Future<Status>> updateFlowEntries(List<FlowEntryUpdate> updates) {
+        List<Future<Status>> result = new ArrayList<Future<Status>>(updates.size());
+        Map<Node, List<BulkRequest>> batches = new HashMap<Node, List<BulkRequest>>();
+        // Entries to be installed by this bulk request
+        Set<FlowEntryInstall> pending = new HashSet<FlowEntryInstall>();
+
+        for (FlowEntryUpdate update : updates) {
+            BulkRequest request = new BulkRequest(update.getType() == UpdateType.CHANGED);
+            Status status = deriveBulkOperations(update, request.operations, pending);
+            if (status != null) {
+                request.complete(status);
+            } else {
+                addToBatch(batches, request);
+            }
+            result.add(request);
+        }
+
+        programBatches(batches);
+        return result;
+    }
+
+    /**
+     * Runs the validity and conflict checks of a bulk request and derives the
+     * operations on the container flows merged entries it translates to. The
+     * operations of a request all target the same network node.
+     *
+     * @param update
+     *            the bulk request
+     * @param operations
+     *            the list filled with the entry operations to program
+     * @param pending
+     *            the entries to be installed by the previous requests of the
+     *            same bulk
+     * @return null if there are operations to program, otherwise the status of
+     *         this request
+     */
+    private Status deriveBulkOperations(FlowEntryUpdate update, List<BulkOperation> operations,
+            Set<FlowEntryInstall> pending) {
+        FlowEntry flowEntry = update.getFlowEntry();
+        FlowEntry target = (update.getType() == UpdateType.CHANGED) ? update.getOldFlowEntry() : flowEntry;
+        if (target != null && !isContainerModeAllowed(target)) {
+            String msg = "Controller in container mode: Update Refused";
+            String logMsg = msg + ": {}";
+            log.warn(logMsg, target);
+            return new Status(StatusCode.NOTACCEPTABLE, msg);
+        }
+
+        Status status;
+        List<FlowEntryInstall> toInstallSafe = new ArrayList<FlowEntryInstall>();
+        switch (update.getType()) {
+        case ADDED:
+            status = deriveAddEntries(flowEntry, toInstallSafe);
+            if (status != null) {
+                return status;
+            }
+            for (FlowEntryInstall entry : toInstallSafe) {
+                // Conflict Check: Verify an earlier request of the bulk is
+                // not installing the same entry
+                if (pending.add(entry)) {
+                    operations.add(new BulkOperation(UpdateType.ADDED, entry, null));
+                }
+            }
+            if (operations.isEmpty()) {
+                String msg = "A flow with same match and priority exists on the target node";
+                String logMsg = msg + ": {}";
+                log.warn(logMsg, flowEntry);
+                return new Status(StatusCode.CONFLICT, msg);
+            }
+            return null;
+
+        case REMOVED:
+            // Sanity Check
+            if (flowEntry == null || flowEntry.getNode() == null || flowEntry.getFlow() == null) {
+                String logMsg = INVALID_FLOW_ENTRY + ": {}";
+                log.warn(logMsg, flowEntry);
+                return new Status(StatusCode.NOTACCEPTABLE, INVALID_FLOW_ENTRY);
+            }
+            for (FlowEntryInstall entry : deriveInstallEntries(flowEntry.clone(), container.getContainerFlows())) {
+                if (installedSwView.containsKey(entry)) {
+                    operations.add(new BulkOperation(UpdateType.REMOVED, entry, null));
+                }
+            }
+            if (operations.isEmpty()) {
+                String logMsg = "Removal skipped (not present in software view) for flow entry: {}";
+                log.debug(logMsg, flowEntry);
+                return new Status(StatusCode.SUCCESS);
+            }
+            return null;
+
+        case CHANGED:
+            FlowEntry currentFlowEntry = update.getOldFlowEntry();
+            status = validateModifyEntry(currentFlowEntry, flowEntry);
+            if (status != null) {
+                return status;
+            }
+            List<FlowEntryInstall> installedList = deriveInstallEntries(currentFlowEntry.clone(),
+                    container.getContainerFlows());
+            List<FlowEntryInstall> toInstallList = deriveInstallEntries(flowEntry.clone(),
+                    container.getContainerFlows());
+            if (toInstallList.isEmpty()) {
+                String msg = "Modify Operation Rejected: The new entry conflicts with all the container flows";
+                String logMsg = msg + ": {}";
+                log.warn(logMsg, flowEntry);
+                return new Status(StatusCode.CONFLICT, msg);
+            }
+
+            // Same decoupling rules as in modifyEntry()
+            boolean decouple = installedList.size() != toInstallList.size();
+            for (FlowEntryInstall installEntry : toInstallList) {
+                FlowEntryInstall sameMatchEntry = installedSwView.get(installEntry);
+                if ((sameMatchEntry != null && !sameMatchEntry.getOriginal().equals(currentFlowEntry))
+                        || pending.contains(installEntry)) {
+                    log.trace("Modify: new container flow merged flow entry clashes with existing flow");
+                    decouple = true;
+                } else {
+                    toInstallSafe.add(installEntry);
+                }
+            }
+            if (toInstallSafe.isEmpty()) {
+                // Removing the current entries would leave none of the new ones installed
+                String msg = "Modify Operation Rejected: The new entries clash with existing flows";
+                String logMsg = msg + ": {}";
+                log.warn(logMsg, flowEntry);
+                return new Status(StatusCode.CONFLICT, msg);
+            }
+            if (decouple) {
+                for (FlowEntryInstall currEntry : installedList) {
+                    operations.add(new BulkOperation(UpdateType.REMOVED, currEntry, null));
+                }
+                // The new entries are only added once the current ones are gone
+                for (FlowEntryInstall newEntry : toInstallSafe) {
+                    operations.add(new BulkOperation(UpdateType.ADDED, newEntry, null, true));
+                }
+            } else {
+                for (int i = 0; i < toInstallList.size(); i++) {
+                    operations.add(new BulkOperation(UpdateType.CHANGED, installedList.get(i), toInstallList.get(i)));
+                }
+            }
+            pending.addAll(toInstallSafe);
+            return null;
+
+        default:
+            return new Status(StatusCode.BADREQUEST, "Unsupported update type: " + update.getType());
+        }
+    }
+
+    private void addToBatch(Map<Node, List<BulkRequest>> batches, BulkRequest request) {
+        Node node = request.operations.get(0).entry.getNode();
+        List<BulkRequest> batch = batches.get(node);
+        if (batch == null) {
+            batch = new ArrayList<BulkRequest>();
+            batches.put(node, batch);
+        }
+        batch.add(request);
+    }
+
+    /**
+     * Programs the per node batches of bulk requests. The network nodes are
+     * programmed in parallel.
+     */
+    private void programBatches(Map<Node, List<BulkRequest>> batches) {
+        for (final Map.Entry<Node, List<BulkRequest>> batch : batches.entrySet()) {
+            Runnable r = new Runnable() {
+                @Override
+                public void run() {
+                    programBatch(batch.getKey(), batch.getValue());
+                }
+            };
+            if (executor != null) {
+                executor.execute(r);
+            } else {
+                r.run();
+            }
+        }
+    }
+
+    /**
+     * Programs the operations of the bulk requests targeting a network node and
+     * updates the database with the result of each operation. If the node is
+     * connected to this controller, the operations are handed to the SDN
+     * plugin at once and acknowledged by the node as a whole. Otherwise they
+     * are programmed one at a time by the controller the node is connected to.
+     * The additions of the decoupled modifications are programmed in a second
+     * round, only for the requests whose removals all succeeded.
+     */
+    private void programBatch(Node node, List<BulkRequest> requests) {
+        List<BulkOperation> operations = new ArrayList<BulkOperation>();
+        for (BulkRequest request : requests) {
+            for (BulkOperation operation : request.operations) {
+                if (!operation.deferred) {
+                    operations.add(operation);
+                }
+            }
+        }
+
+        try {
+            boolean local = connectionManager.getLocalityStatus(node) != ConnectionLocality.NOT_LOCAL;
+            programOperations(node, operations, local);
+
+            operations.clear();
+            for (BulkRequest request : requests) {
+                Status failure = null;
+                for (BulkOperation operation : request.operations) {
+                    if (operation.deferred) {
+                        if (failure == null) {
+                            operations.add(operation);
+                        } else {
+                            operation.status = failure;
+                        }
+                    } else if (!operation.status.isSuccess() && failure == null) {
+                        failure = operation.status;
+                    }
+                }
+            }
+            if (!operations.isEmpty()) {
+                programOperations(node, operations, local);
+            }
+        } finally {
+            for (BulkRequest request : requests) {
+                request.run();
+            }
+        }
+    }
+
+    private void programOperations(Node node, List<BulkOperation> operations, boolean local) {
+        if (!local) {
+            for (BulkOperation operation : operations) {
+                switch (operation.type) {
+                case ADDED:
+                    operation.status = addEntryInternal(operation.entry, false);
+                    break;
+                case CHANGED:
+                    operation.status = modifyEntryInternal(operation.entry, operation.newEntry, false);
+                    break;
+                case REMOVED:
+                    operation.status = removeEntryInternal(operation.entry, false);
+                    break;
+                }
+            }
+            return;
+        }
+
+        List<FlowUpdate> flowUpdates = new ArrayList<FlowUpdate>(operations.size());
+        for (BulkOperation operation : operations) {
+            if (operation.type == UpdateType.REMOVED) {
+                // Mark the entry to be deleted (for CC just in case we fail)
+                operation.entry.toBeDeleted();
+            }
+            flowUpdates.add(operation.toFlowUpdate());
+        }
+        List<Future<Status>> results = programmer.updateFlows(node, flowUpdates);
+
+        for (int i = 0; i < operations.size(); i++) {
+            BulkOperation operation = operations.get(i);
+            operation.status = getBulkStatus(results.get(i));
+            if (!operation.status.isSuccess()) {
+                log.trace("SDN Plugin failed to program the flow: {}. The failure is: {}",
+                        operation.entry.getInstall(), operation.status.getDescription());
+                continue;
+            }
+
+            // Update DB
+            switch (operation.type) {
+            case ADDED:
+                operation.entry.setRequestId(operation.status.getRequestId());
+                updateSwViews(operation.entry, true);
+                break;
+            case CHANGED:
+                operation.newEntry.setRequestId(operation.status.getRequestId());
+                updateSwViews(operation.entry, false);
+                updateSwViews(operation.newEntry, true);
+                break;
+            case REMOVED:
+                updateSwViews(operation.entry, false);
+                break;
+            }
+        }
+    }
+
+    private Status getBulkStatus(Future<Status> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            log.error("", e);
+            return new Status(StatusCode.INTERNALERROR, "Interrupted while waiting for the flow programming");
+        } catch (ExecutionException e) {
+            log.error("", e);
+            return new Status(StatusCode.INTERNALERROR, e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Waits for the completion of bulk requests, logging the failed ones
+     */
+    private void awaitBulkRequests(List<? extends Future<Status>> requests) {
+        for (Future<Status> request : requests) {
+            Status status = getBulkStatus(request);
+            if (!status.isSuccess()) {
+                log.trace("Bulk flow programming request failed: {}", status.getDescription());
+            }
+        }
+    }
+
+    /**
+     * Operation on a container flows merged entry, part of a bulk request
+     */
+    private static class BulkOperation {
+        private final UpdateType type;
+        private final FlowEntryInstall entry;
+        private final FlowEntryInstall newEntry;
+        // Programmed only once the other operations of the request succeeded
+        private final boolean deferred;
+        private Status status = new Status(StatusCode.UNDEFINED);
+
+        BulkOperation(UpdateType type, FlowEntryInstall entry, FlowEntryInstall newEntry) {
+            this(type, entry, newEntry, false);
+        }
+
+        BulkOperation(UpdateType type, FlowEntryInstall entry, FlowEntryInstall newEntry, boolean deferred) {
+            this.type = type;
+            this.entry = entry;
+            this.newEntry = newEntry;
+            this.deferred = deferred;
+        }
+
+        FlowUpdate toFlowUpdate() {
+            switch (type) {
+            case ADDED:
+                return FlowUpdate.add(entry.getInstall().getFlow());
+            case CHANGED:
+                return FlowUpdate.modify(entry.getInstall().getFlow(), newEntry.getInstall().getFlow());
+            default:
+                return FlowUpdate.remove(entry.getInstall().getFlow());
+            }
+        }
+    }
+
+    /**
+     * The future result of a bulk request. It completes once all its entry
+     * operations are programmed. As for the single entry requests, the first
+     * successful status is returned, unless the request requires all the
+     * operations to succeed, as a modification does.
+     */
+    private static class BulkRequest extends FutureTask<Status> {
+        private final List<BulkOperation> operations;
+
+        BulkRequest(boolean all) {
+            this(new ArrayList<BulkOperation>(1), all);
+        }
+
+        private BulkRequest(final List<BulkOperation> operations, final boolean all) {
+            super(new Callable<Status>() {
+                @Override
+                public Status call() {
+                    Status succeeded = null;
+                    Status error = null;
+                    for (BulkOperation operation : operations) {
+                        if (operation.status.isSuccess()) {
+                            if (succeeded == null) {
+                                succeeded = operation.status;
+                            }
+                        } else if (error == null) {
+                            error = operation.status;
+                        }
+                    }
+                    if (error != null && (all || succeeded == null)) {
+                        return error;
+                    }
+                    if (succeeded == null) {
+                        return new Status(StatusCode.INTERNALERROR, "No flow entry operation was programmed");
+                    }
+                    return succeeded;
+                }
+            });
+            this.operations = operations;
+        }
+
+        void complete(Status status) {
+            set(status);
+        }
+    }
+
     /**
      * Returns whether the specified flow entry is allowed to be
      * installed/removed/modified based on the current container mode status.
@@ -1189,19 +1534,17 @@ public class ForwardingRulesManager implements
         }
         int toBeRemoved = 0;
         String error = "";
-        if (groupFlows.containsKey(groupName)) {
-            List<FlowEntryInstall> list = new ArrayList<FlowEntryInstall>(groupFlows.get(groupName));
-            toBeRemoved = list.size();
-            for (FlowEntryInstall entry : list) {
-                // since this is the entry that was stored in groupFlows
-                // it is already validated and merged
-                // so can call removeEntryInternal directly
-                Status status = this.removeEntryInternal(entry, false);
-                if (status.isSuccess()) {
-                    toBeRemoved -= 1;
-                } else {
-                    error = status.getDescription();
-                }
+        List<FlowEntryInstall> list = flowIndex.getGroupEntries(groupName);
+        toBeRemoved = list.size();
+        for (FlowEntryInstall entry : list) {
+            // since this is the entry that was stored in the group index
+            // it is already validated and merged
+            // so can call removeEntryInternal directly
+            Status status = this.removeEntryInternal(entry, false);
+            if (status.isSuccess()) {
+                toBeRemoved -= 1;
+            } else {
+                error = status.getDescription();
             }
         }
         return (toBeRemoved == 0) ? new Status(StatusCode.SUCCESS) : new Status(StatusCode.INTERNALERROR,
@@ -1222,11 +1565,8 @@ public class ForwardingRulesManager implements
             log.warn(logMsg, groupName);
             return new Status(StatusCode.NOTACCEPTABLE, msg);
         }
-        if (groupFlows.containsKey(groupName)) {
-            List<FlowEntryInstall> list = new ArrayList<FlowEntryInstall>(groupFlows.get(groupName));
-            for (FlowEntryInstall entry : list) {
-                this.removeEntry(entry.getOriginal(), true);
-            }
+        for (FlowEntryInstall entry : flowIndex.getGroupEntries(groupName)) {
+            this.removeEntry(entry.getOriginal(), true);
         }
         return new Status(StatusCode.SUCCESS);
     }
@@ -1241,25 +1581,35 @@ public class ForwardingRulesManager implements
      * is obtained in two phases on per node basis: 1) Uninstall of all flows 2)
      * Reinstall of all flows This is needed because a new container flows
      * merged flow may conflict with an existing old container flows merged flow
-     * on the network node
+     * on the network node. Each phase programs the flows of a node in bulk.
      */
     protected void updateFlowsContainerFlow() {
         Set<FlowEntry> toReInstall = new HashSet<FlowEntry>();
+        Map<Node, List<BulkRequest>> toRemove = new HashMap<Node, List<BulkRequest>>();
+        List<BulkRequest> removals = new ArrayList<BulkRequest>();
         // First remove all installed entries
         for (ConcurrentMap.Entry<FlowEntryInstall, FlowEntryInstall> entry : installedSwView.entrySet()) {
             FlowEntryInstall current = entry.getValue();
             // Store the original entry
             toReInstall.add(current.getOriginal());
-            // Remove the old couples. No validity checks to be run, use the
-            // internal remove
-            this.removeEntryInternal(current, false);
+            // Remove the old couples. No validity checks to be run, program
+            // the removal of the installed entry directly
+            BulkRequest request = new BulkRequest(false);
+            request.operations.add(new BulkOperation(UpdateType.REMOVED, current, null));
+            addToBatch(toRemove, request);
+            removals.add(request);
         }
+        programBatches(toRemove);
+        awaitBulkRequests(removals);
+
         // Then reinstall the original entries
+        List<FlowEntryUpdate> toInstall = new ArrayList<FlowEntryUpdate>(toReInstall.size());
         for (FlowEntry entry : toReInstall) {
             // Reinstall the original flow entries, via the regular path: new
             // cFlow merge + validations
-            this.installFlowEntry(entry);
+            toInstall.add(FlowEntryUpdate.install(entry));
         }
+        awaitBulkRequests(updateFlowEntries(toInstall));
     }
 
     private void nonClusterObjectCreate() {
@@ -1315,12 +1665,28 @@ public class ForwardingRulesManager implements
     public List<FlowEntry> getFlowEntriesForGroup(String policyName) {
         List<FlowEntry> list = new ArrayList<FlowEntry>();
         if (policyName != null && !policyName.trim().isEmpty()) {
-            for (Map.Entry<FlowEntry, FlowEntry> entry : this.originalSwView.entrySet()) {
-                if (policyName.equals(entry.getKey().getGroupName())) {
-                    list.add(entry.getValue().clone());
-                }
+            list = getOriginalEntries(flowIndex.getGroupEntries(policyName));
+        }
+        return list;
+    }
+
+    /*
+     * Returns a copy of the original flow entries the passed installed entries
+     * were derived from. An original entry may have more than one container
+     * flow merged entry installed.
+     */
+    private List<FlowEntry> getOriginalEntries(List<FlowEntryInstall> installed) {
+        Set<FlowEntry> originals = new LinkedHashSet<FlowEntry>();
+        for (FlowEntryInstall entry : installed) {
+            FlowEntry original = this.originalSwView.get(entry.getOriginal());
+            if (original != null) {
+                originals.add(original);
             }
         }
+        List<FlowEntry> list = new ArrayList<FlowEntry>(originals.size());
+        for (FlowEntry original : originals) {
+            list.add(original.clone());
+        }
         return list;
     }
 
@@ -1328,60 +1694,66 @@ public class ForwardingRulesManager implements
     public List<FlowEntry> getInstalledFlowEntriesForGroup(String policyName) {
         List<FlowEntry> list = new ArrayList<FlowEntry>();
         if (policyName != null && !policyName.trim().isEmpty()) {
-            for (Map.Entry<FlowEntryInstall, FlowEntryInstall> entry : this.installedSwView.entrySet()) {
-                if (policyName.equals(entry.getKey().getGroupName())) {
-                    list.add(entry.getValue().getInstall().clone());
+            for (FlowEntryInstall index : flowIndex.getGroupEntries(policyName)) {
+                FlowEntryInstall entry = this.installedSwView.get(index);
+                if (entry != null) {
+                    list.add(entry.getInstall().clone());
                 }
             }
         }
         return list;
     }
 
+    /*
+     * Returns the current version of an entry installed on the node with the
+     * flow name, null if none
+     */
+    private FlowEntryInstall getInstalledEntry(Node node, String flowName) {
+        FlowEntryInstall index = flowIndex.getEntry(node, flowName);
+        return (index == null) ? null : this.installedSwView.get(index);
+    }
+
     @Override
     public void addOutputPort(Node node, String flowName, List<NodeConnector> portList) {
-
-        for (FlowEntryInstall flow : this.nodeFlows.get(node)) {
-            if (flow.getFlowName().equals(flowName)) {
-                FlowEntry currentFlowEntry = flow.getOriginal();
-                FlowEntry newFlowEntry = currentFlowEntry.clone();
-                for (NodeConnector dstPort : portList) {
-                    newFlowEntry.getFlow().addAction(new Output(dstPort));
-                }
-                Status error = modifyEntry(currentFlowEntry, newFlowEntry, false);
-                if (error.isSuccess()) {
-                    log.trace("Ports {} added to FlowEntry {}", portList, flowName);
-                } else {
-                    log.warn("Failed to add ports {} to Flow entry {}. The failure is: {}", portList,
-                            currentFlowEntry.toString(), error.getDescription());
-                }
-                return;
-            }
+        FlowEntryInstall flow = getInstalledEntry(node, flowName);
+        if (flow == null) {
+            log.warn("Failed to add ports to Flow {} on Node {}: Entry Not Found", flowName, node);
+            return;
+        }
+        FlowEntry currentFlowEntry = flow.getOriginal();
+        FlowEntry newFlowEntry = currentFlowEntry.clone();
+        for (NodeConnector dstPort : portList) {
+            newFlowEntry.getFlow().addAction(new Output(dstPort));
+        }
+        Status error = modifyEntry(currentFlowEntry, newFlowEntry, false);
+        if (error.isSuccess()) {
+            log.trace("Ports {} added to FlowEntry {}", portList, flowName);
+        } else {
+            log.warn("Failed to add ports {} to Flow entry {}. The failure is: {}", portList,
+                    currentFlowEntry.toString(), error.getDescription());
         }
-        log.warn("Failed to add ports to Flow {} on Node {}: Entry Not Found", flowName, node);
     }
 
     @Override
     public void removeOutputPort(Node node, String flowName, List<NodeConnector> portList) {
-        for (FlowEntryInstall index : this.nodeFlows.get(node)) {
-            FlowEntryInstall flow = this.installedSwView.get(index);
-            if (flow.getFlowName().equals(flowName)) {
-                FlowEntry currentFlowEntry = flow.getOriginal();
-                FlowEntry newFlowEntry = currentFlowEntry.clone();
-                for (NodeConnector dstPort : portList) {
-                    Action action = new Output(dstPort);
-                    newFlowEntry.getFlow().removeAction(action);
-                }
-                Status status = modifyEntry(currentFlowEntry, newFlowEntry, false);
-                if (status.isSuccess()) {
-                    log.trace("Ports {} removed from FlowEntry {}", portList, flowName);
-                } else {
-                    log.warn("Failed to remove ports {} from Flow entry {}. The failure is: {}", portList,
-                            currentFlowEntry.toString(), status.getDescription());
-                }
-                return;
-            }
+        FlowEntryInstall flow = getInstalledEntry(node, flowName);
+        if (flow == null) {
+            log.warn("Failed to remove ports from Flow {} on Node {}: Entry Not Found", flowName, node);
+            return;
+        }
+        FlowEntry currentFlowEntry = flow.getOriginal();
+        FlowEntry newFlowEntry = currentFlowEntry.clone();
+        for (NodeConnector dstPort : portList) {
+            Action action = new Output(dstPort);
+            newFlowEntry.getFlow().removeAction(action);
+        }
+        Status status = modifyEntry(currentFlowEntry, newFlowEntry, false);
+        if (status.isSuccess()) {
+            log.trace("Ports {} removed from FlowEntry {}", portList, flowName);
+        } else {
+            log.warn("Failed to remove ports {} from Flow entry {}. The failure is: {}", portList,
+                    currentFlowEntry.toString(), status.getDescription());
         }
-        log.warn("Failed to remove ports from Flow {} on Node {}: Entry Not Found", flowName, node);
     }
 
     /*
@@ -1393,12 +1765,9 @@ public class ForwardingRulesManager implements
         FlowEntry newFlowEntry = null;
 
         // Find the flow
-        for (FlowEntryInstall index : this.nodeFlows.get(node)) {
-            FlowEntryInstall flow = this.installedSwView.get(index);
-            if (flow.getFlowName().equals(flowName)) {
-                currentFlowEntry = flow.getOriginal();
-                break;
-            }
+        FlowEntryInstall flow = getInstalledEntry(node, flowName);
+        if (flow != null) {
+            currentFlowEntry = flow.getOriginal();
         }
         if (currentFlowEntry == null) {
             log.warn("Failed to replace output port for flow {} on node {}: Entry Not Found", flowName, node);
@@ -1431,13 +1800,11 @@ public class ForwardingRulesManager implements
 
     @Override
     public NodeConnector getOutputPort(Node node, String flowName) {
-        for (FlowEntryInstall index : this.nodeFlows.get(node)) {
-            FlowEntryInstall flow = this.installedSwView.get(index);
-            if (flow.getFlowName().equals(flowName)) {
-                for (Action action : flow.getOriginal().getFlow().getActions()) {
-                    if (action.getType() == ActionType.OUTPUT) {
-                        return ((Output) action).getPort();
-                    }
+        FlowEntryInstall flow = getInstalledEntry(node, flowName);
+        if (flow != null) {
+            for (Action action : flow.getOriginal().getFlow().getActions()) {
+                if (action.getType() == ActionType.OUTPUT) {
+                    return ((Output) action).getPort();
                 }
             }
         }
@@ -2251,12 +2618,8 @@ public class ForwardingRulesManager implements
      */
     private void cleanDatabaseForNode(Node node) {
         log.trace("Cleaning Flow database for Node {}", node);
-        if (nodeFlows.containsKey(node)) {
-            List<FlowEntryInstall> toRemove = new ArrayList<FlowEntryInstall>(nodeFlows.get(node));
-
-            for (FlowEntryInstall entry : toRemove) {
-                updateSwViews(entry, false);
-            }
+        for (FlowEntryInstall entry : flowIndex.getNodeEntries(node)) {
+            updateSwViews(entry, false);
         }
     }
 
@@ -2362,26 +2725,20 @@ public class ForwardingRulesManager implements
      */
     private boolean removeFlowsOnNodeConnectorDown(NodeConnector nodeConnector) {
         boolean updated = false;
-        List<FlowEntryInstall> nodeFlowEntries = nodeFlows.get(nodeConnector.getNode());
-        if (nodeFlowEntries == null) {
-            return updated;
-        }
-        for (FlowEntryInstall fei : new ArrayList<FlowEntryInstall>(nodeFlowEntries)) {
-            if (doesFlowContainNodeConnector(fei.getInstall().getFlow(), nodeConnector)) {
-                Status status = this.removeEntryInternal(fei, true);
-                if (!status.isSuccess()) {
-                    continue;
-                }
-                /*
-                 * If the flow entry is a static flow, then update its
-                 * configuration
-                 */
-                if (fei.getGroupName().equals(FlowConfig.STATICFLOWGROUP)) {
-                    FlowConfig flowConfig = getStaticFlow(fei.getFlowName(), fei.getNode());
-                    if (flowConfig != null) {
-                        flowConfig.setStatus(PORT_REMOVED);
-                        updated = true;
-                    }
+        for (FlowEntryInstall fei : flowIndex.getPortEntries(nodeConnector)) {
+            Status status = this.removeEntryInternal(fei, true);
+            if (!status.isSuccess()) {
+                continue;
+            }
+            /*
+             * If the flow entry is a static flow, then update its
+             * configuration
+             */
+            if (fei.getGroupName().equals(FlowConfig.STATICFLOWGROUP)) {
+                FlowConfig flowConfig = getStaticFlow(fei.getFlowName(), fei.getNode());
+                if (flowConfig != null) {
+                    flowConfig.setStatus(PORT_REMOVED);
+                    updated = true;
                 }
             }
         }
@@ -2582,8 +2939,7 @@ public class ForwardingRulesManager implements
             portGroupProvider.registerPortGroupChange(this);
         }
 
-        nodeFlows = new ConcurrentHashMap<Node, List<FlowEntryInstall>>();
-        groupFlows = new ConcurrentHashMap<String, List<FlowEntryInstall>>();
+        flowIndex = new FlowEntryIndex();
 
         cacheStartup();
 
@@ -3077,23 +3433,14 @@ public class ForwardingRulesManager implements
         String errorString = (error == null) ? "Not provided" : error.toString();
         /*
          * If this was for a flow install, remove the corresponding entry from
-         * the software view. If it was a Looking for the rid going through the
-         * software database. TODO: A more efficient rid <-> FlowEntryInstall
-         * mapping will have to be added in future
+         * the software view. The entry is looked up by rid in the index.
          */
         FlowEntryInstall target = null;
-        List<FlowEntryInstall> flowEntryInstallList = nodeFlows.get(node);
-        // flowEntryInstallList could be null.
-        // so check for it.
-        if(flowEntryInstallList != null) {
-            for (FlowEntryInstall index : flowEntryInstallList) {
-                FlowEntryInstall entry = installedSwView.get(index);
-                if(entry != null) {
-                    if (entry.getRequestId() == rid) {
-                        target = entry;
-                        break;
-                    }
-                }
+        FlowEntryInstall index = flowIndex.getEntry(node, rid);
+        if (index != null) {
+            FlowEntryInstall entry = installedSwView.get(index);
+            if (entry != null && entry.getRequestId() == rid) {
+                target = entry;
             }
         }
         if (target != null) {
@@ -3173,9 +3520,10 @@ public class ForwardingRulesManager implements
     @Override
     public void entryUpdated(Object key, Object new_value, String cacheName, boolean originLocal) {
         /*
-         * Streamline the updates for the per node and per group index databases
+         * Streamline the remote updates for the index databases, the local
+         * ones are applied by updateSwViews()
          */
-        if (cacheName.equals(INSTALLED_SW_VIEW_CACHE)) {
+        if (cacheName.equals(INSTALLED_SW_VIEW_CACHE) && !originLocal) {
             pendingEvents.offer(new UpdateIndexDBs((FlowEntryInstall)new_value, true));
         }
 
@@ -3230,9 +3578,10 @@ public class ForwardingRulesManager implements
     @Override
     public void entryDeleted(Object key, String cacheName, boolean originLocal) {
         /*
-         * Streamline the updates for the per node and per group index databases
+         * Streamline the remote updates for the index databases, the local
+         * ones are applied by updateSwViews()
          */
-        if (cacheName.equals(INSTALLED_SW_VIEW_CACHE)) {
+        if (cacheName.equals(INSTALLED_SW_VIEW_CACHE) && !originLocal) {
             pendingEvents.offer(new UpdateIndexDBs((FlowEntryInstall)key, false));
         }
     }
@@ -3244,11 +3593,7 @@ public class ForwardingRulesManager implements
     public List<FlowEntry> getFlowEntriesForNode(Node node) {
         List<FlowEntry> list = new ArrayList<FlowEntry>();
         if (node != null) {
-            for (Map.Entry<FlowEntry, FlowEntry> entry : this.originalSwView.entrySet()) {
-                if (node.equals(entry.getKey().getNode())) {
-                    list.add(entry.getValue().clone());
-                }
-            }
+            list = getOriginalEntries(flowIndex.getNodeEntries(node));
         }
         return list;
     }
@@ -3260,11 +3605,8 @@ public class ForwardingRulesManager implements
     public List<FlowEntry> getInstalledFlowEntriesForNode(Node node) {
         List<FlowEntry> list = new ArrayList<FlowEntry>();
         if (node != null) {
-            List<FlowEntryInstall> flowEntryInstallList = this.nodeFlows.get(node);
-            if(flowEntryInstallList != null) {
-                for(FlowEntryInstall fi: flowEntryInstallList) {
-                    list.add(fi.getInstall().clone());
-                }
+            for (FlowEntryInstall fi : flowIndex.getNodeEntries(node)) {
+                list.add(fi.getInstall().clone());
             }
         }
         return list;
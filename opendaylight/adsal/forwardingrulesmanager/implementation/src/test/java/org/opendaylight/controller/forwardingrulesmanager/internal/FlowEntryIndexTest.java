@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.forwardingrulesmanager.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntryInstall;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Drop;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+public class FlowEntryIndexTest {
+    private final Node node1 = NodeCreator.createOFNode(1L);
+    private final Node node2 = NodeCreator.createOFNode(2L);
+
+    @Test
+    public void testAddRemove() {
+        FlowEntryIndex index = new FlowEntryIndex();
+        NodeConnector in = NodeConnectorCreator.createOFNodeConnector((short) 1, node1);
+        NodeConnector out = NodeConnectorCreator.createOFNodeConnector((short) 2, node1);
+        FlowEntryInstall entry = createEntry("group", "flow", node1, 1, in, out, 5L);
+        FlowEntryInstall other = createEntry("other", "flow2", node1, 2, null, out, 0L);
+
+        index.add(entry);
+        index.add(other);
+        Assert.assertTrue(index.containsNode(node1));
+        Assert.assertFalse(index.containsNode(node2));
+        Assert.assertEquals(2, index.getNodeEntries(node1).size());
+        Assert.assertEquals(0, index.getNodeEntries(node2).size());
+        Assert.assertSame(entry, index.getEntry(node1, "flow"));
+        Assert.assertNull(index.getEntry(node2, "flow"));
+        Assert.assertEquals(1, index.getGroupEntries("group").size());
+        Assert.assertSame(other, index.getGroupEntries("other").get(0));
+        Assert.assertEquals(1, index.getPortEntries(in).size());
+        Assert.assertEquals(2, index.getPortEntries(out).size());
+        Assert.assertSame(entry, index.getEntry(node1, 5L));
+        Assert.assertNull(index.getEntry(node1, 0L));
+
+        index.remove(entry);
+        Assert.assertEquals(1, index.getNodeEntries(node1).size());
+        Assert.assertNull(index.getEntry(node1, "flow"));
+        Assert.assertTrue(index.getGroupEntries("group").isEmpty());
+        Assert.assertTrue(index.getPortEntries(in).isEmpty());
+        Assert.assertEquals(1, index.getPortEntries(out).size());
+        Assert.assertNull(index.getEntry(node1, 5L));
+
+        index.remove(other);
+        Assert.assertFalse(index.containsNode(node1));
+        Assert.assertTrue(index.getPortEntries(out).isEmpty());
+    }
+
+    @Test
+    public void testReplace() {
+        FlowEntryIndex index = new FlowEntryIndex();
+        NodeConnector out = NodeConnectorCreator.createOFNodeConnector((short) 2, node1);
+        FlowEntryInstall entry = createEntry("group", "flow", node1, 1, null, out, 5L);
+        // Same match and priority, new actions and request id
+        FlowEntryInstall update = createEntry("group", "flow", node1, 1, null, null, 6L);
+
+        index.add(entry);
+        index.add(update);
+        Assert.assertEquals(1, index.getNodeEntries(node1).size());
+        Assert.assertSame(update, index.getEntry(node1, "flow"));
+        Assert.assertTrue(index.getPortEntries(out).isEmpty());
+        Assert.assertNull(index.getEntry(node1, 5L));
+        Assert.assertSame(update, index.getEntry(node1, 6L));
+
+        // Removed through an equal entry
+        index.remove(entry);
+        Assert.assertNull(index.getEntry(node1, "flow"));
+        Assert.assertNull(index.getEntry(node1, 6L));
+    }
+
+    @Test
+    public void testSameRequestIdOnDifferentNodes() {
+        FlowEntryIndex index = new FlowEntryIndex();
+        // Entries programmed by two controllers of the cluster
+        FlowEntryInstall entry1 = createEntry("group", "flow", node1, 1, null, null, 7L);
+        FlowEntryInstall entry2 = createEntry("group", "flow", node2, 1, null, null, 7L);
+
+        index.add(entry1);
+        index.add(entry2);
+        Assert.assertSame(entry1, index.getEntry(node1, 7L));
+        Assert.assertSame(entry2, index.getEntry(node2, 7L));
+        Assert.assertSame(entry1, index.getEntry(node1, "flow"));
+        Assert.assertSame(entry2, index.getEntry(node2, "flow"));
+        Assert.assertEquals(2, index.getGroupEntries("group").size());
+
+        index.remove(entry1);
+        Assert.assertNull(index.getEntry(node1, 7L));
+        Assert.assertSame(entry2, index.getEntry(node2, 7L));
+    }
+
+    @Test
+    public void testClear() {
+        FlowEntryIndex index = new FlowEntryIndex();
+        NodeConnector out = NodeConnectorCreator.createOFNodeConnector((short) 2, node1);
+        index.add(createEntry("group", "flow", node1, 1, null, out, 5L));
+        index.add(createEntry("group", "flow", node2, 1, null, null, 5L));
+
+        index.clear();
+        Assert.assertFalse(index.containsNode(node1));
+        Assert.assertFalse(index.containsNode(node2));
+        Assert.assertNull(index.getEntry(node1, "flow"));
+        Assert.assertTrue(index.getGroupEntries("group").isEmpty());
+        Assert.assertTrue(index.getPortEntries(out).isEmpty());
+        Assert.assertNull(index.getEntry(node1, 5L));
+        Assert.assertNull(index.getEntry(node2, 5L));
+        Assert.assertTrue(index.getGroupEntries(null).isEmpty());
+    }
+
+    private static FlowEntryInstall createEntry(String group, String name, Node node, int priority,
+            NodeConnector in, NodeConnector out, long rid) {
+        Match match = new Match();
+        if (in != null) {
+            match.setField(MatchType.IN_PORT, in);
+        }
+        List<Action> actions = new ArrayList<Action>();
+        actions.add((out != null) ? new Output(out) : new Drop());
+        Flow flow = new Flow(match, actions);
+        flow.setPriority((short) priority);
+        FlowEntryInstall entry = new FlowEntryInstall(new FlowEntry(group, name, flow, node), null);
+        entry.setRequestId(rid);
+        return entry;
+    }
+}
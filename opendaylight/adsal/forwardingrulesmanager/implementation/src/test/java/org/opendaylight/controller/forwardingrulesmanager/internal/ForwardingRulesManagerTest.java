@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2013 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.forwardingrulesmanager.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.connectionmanager.IConnectionManager;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntryUpdate;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.connection.ConnectionLocality;
+import org.opendaylight.controller.sal.core.ContainerFlow;
+import org.opendaylight.controller.sal.core.IContainer;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
+import org.opendaylight.controller.sal.flowprogrammer.IFlowProgrammerService;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.GlobalConstants;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+import org.opendaylight.controller.switchmanager.ISwitchManager;
+
+public class ForwardingRulesManagerTest {
+    private final Node node = NodeCreator.createOFNode(1L);
+    private final NodeConnector port = NodeConnectorCreator.createOFNodeConnector((short) 2, node);
+    private final List<ContainerFlow> containerFlows = new ArrayList<ContainerFlow>();
+    // Flow updates handed to the programmer, one list per batch
+    private final List<List<FlowUpdate>> batches = new ArrayList<List<FlowUpdate>>();
+    // Results the programmer answers the batches with
+    private final Queue<List<StatusCode>> results = new LinkedList<List<StatusCode>>();
+    private ForwardingRulesManager frm;
+
+    @Before
+    public void setUp() {
+        frm = new ForwardingRulesManager();
+        frm.setIContainer(proxy(IContainer.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getName")) {
+                    return GlobalConstants.DEFAULT.toString();
+                }
+                if (method.getName().equals("getContainerFlows")) {
+                    return containerFlows;
+                }
+                return null;
+            }
+        }));
+        frm.setSwitchManager(proxy(ISwitchManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getNodes")) {
+                    return Collections.singleton(node);
+                }
+                if (method.getName().equals("getNodeConnectors")) {
+                    return Collections.singleton(port);
+                }
+                return null;
+            }
+        }));
+        frm.setIConnectionManager(proxy(IConnectionManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getLocalityStatus")) {
+                    return ConnectionLocality.LOCAL;
+                }
+                return null;
+            }
+        }));
+        frm.setFlowProgrammerService(proxy(IFlowProgrammerService.class, new InvocationHandler() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("updateFlows")) {
+                    List<FlowUpdate> updates = (List<FlowUpdate>) args[1];
+                    batches.add(new ArrayList<FlowUpdate>(updates));
+                    List<StatusCode> codes = results.poll();
+                    Assert.assertEquals(updates.size(), codes.size());
+                    List<Future<Status>> futures = new ArrayList<Future<Status>>();
+                    for (StatusCode code : codes) {
+                        futures.add(done(new Status(code, null)));
+                    }
+                    return futures;
+                }
+                return null;
+            }
+        }));
+        frm.init();
+    }
+
+    @Test
+    public void testBulkInstallStatus() throws Exception {
+        FlowEntry first = createEntry("first", (short) 1, null);
+        FlowEntry second = createEntry("second", (short) 2, null);
+
+        results.add(Arrays.asList(StatusCode.SUCCESS, StatusCode.TIMEOUT));
+        List<Future<Status>> statuses = frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.install(first),
+                FlowEntryUpdate.install(second), FlowEntryUpdate.install(first.clone())));
+
+        // Both entries go out in a single batch
+        Assert.assertEquals(1, batches.size());
+        Assert.assertEquals(2, batches.get(0).size());
+        Assert.assertTrue(statuses.get(0).get().isSuccess());
+        Assert.assertEquals(StatusCode.TIMEOUT, statuses.get(1).get().getCode());
+        // Same entry installed twice in the bulk
+        Assert.assertEquals(StatusCode.CONFLICT, statuses.get(2).get().getCode());
+        // Lookups see the installed entry right away
+        Assert.assertEquals(Arrays.asList(first), frm.getFlowEntriesForNode(node));
+        Assert.assertEquals(Arrays.asList(first), frm.getFlowEntriesForGroup("group"));
+
+        // The failed entry was not recorded, the installed one was
+        results.add(Arrays.asList(StatusCode.SUCCESS));
+        statuses = frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.install(second),
+                FlowEntryUpdate.install(createEntry("other", (short) 1, null))));
+        Assert.assertEquals(2, batches.size());
+        Assert.assertTrue(statuses.get(0).get().isSuccess());
+        Assert.assertEquals(StatusCode.CONFLICT, statuses.get(1).get().getCode());
+    }
+
+    @Test
+    public void testBulkModifyAddsAfterRemoval() throws Exception {
+        // The current entry is merged with both container flows, the new one
+        // with a single one: the modification is programmed as removals and
+        // additions
+        containerFlows.add(new ContainerFlow(createMatch((short) 10)));
+        containerFlows.add(new ContainerFlow(createMatch((short) 20)));
+        FlowEntry current = createEntry("flow", (short) 1, null);
+        FlowEntry modified = createEntry("flow", (short) 1, (short) 10);
+
+        results.add(Arrays.asList(StatusCode.SUCCESS, StatusCode.SUCCESS));
+        Assert.assertTrue(frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.install(current))).get(0).get()
+                .isSuccess());
+
+        // One removal fails: nothing is added
+        results.add(Arrays.asList(StatusCode.SUCCESS, StatusCode.INTERNALERROR));
+        Status status = frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.modify(current, modified))).get(0).get();
+        Assert.assertEquals(StatusCode.INTERNALERROR, status.getCode());
+        Assert.assertEquals(2, batches.size());
+        Assert.assertEquals(Arrays.asList(UpdateType.REMOVED, UpdateType.REMOVED), types(batches.get(1)));
+
+        // The removals succeed: the new entry is added in a second batch
+        results.add(Arrays.asList(StatusCode.SUCCESS, StatusCode.SUCCESS));
+        results.add(Arrays.asList(StatusCode.SUCCESS));
+        status = frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.modify(current, modified))).get(0).get();
+        Assert.assertTrue(status.isSuccess());
+        Assert.assertEquals(4, batches.size());
+        Assert.assertEquals(Arrays.asList(UpdateType.REMOVED, UpdateType.REMOVED), types(batches.get(2)));
+        Assert.assertEquals(Arrays.asList(UpdateType.ADDED), types(batches.get(3)));
+    }
+
+    @Test
+    public void testBulkModifyClashingWithExistingFlow() throws Exception {
+        FlowEntry current = createEntry("flow", (short) 1, null);
+        FlowEntry other = createEntry("other", (short) 2, null);
+        results.add(Arrays.asList(StatusCode.SUCCESS, StatusCode.SUCCESS));
+        frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.install(current), FlowEntryUpdate.install(other)));
+
+        // The new entry has the same match and priority as the other flow:
+        // the modification is refused and the current entry is kept
+        FlowEntry modified = createEntry("flow", (short) 2, null);
+        Status status = frm.updateFlowEntries(Arrays.asList(FlowEntryUpdate.modify(current, modified))).get(0).get();
+        Assert.assertEquals(StatusCode.CONFLICT, status.getCode());
+        Assert.assertEquals(1, batches.size());
+        Assert.assertTrue(frm.getFlowEntriesForNode(node).contains(current));
+    }
+
+    private FlowEntry createEntry(String name, short priority, Short vlan) {
+        List<Action> actions = new ArrayList<Action>();
+        actions.add(new Output(port));
+        Flow flow = new Flow(createMatch(vlan), actions);
+        flow.setPriority(priority);
+        return new FlowEntry("group", name, flow, node);
+    }
+
+    private static Match createMatch(Short vlan) {
+        Match match = new Match();
+        match.setField(MatchType.DL_TYPE, EtherTypes.IPv4.shortValue());
+        if (vlan != null) {
+            match.setField(MatchType.DL_VLAN, vlan);
+        }
+        return match;
+    }
+
+    private static List<UpdateType> types(List<FlowUpdate> updates) {
+        List<UpdateType> types = new ArrayList<UpdateType>();
+        for (FlowUpdate update : updates) {
+            types.add(update.getType());
+        }
+        return types;
+    }
+
+    private static Future<Status> done(final Status status) {
+        FutureTask<Status> future = new FutureTask<Status>(new Callable<Status>() {
+            @Override
+            public Status call() {
+                return status;
+            }
+        });
+        future.run();
+        return future;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
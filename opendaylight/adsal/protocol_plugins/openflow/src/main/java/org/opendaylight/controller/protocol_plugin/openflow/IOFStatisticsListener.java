@@ -13,8 +13,15 @@ import org.openflow.protocol.statistics.OFStatistics;
 
 /**
  * Interface which defines the notification functions which will get called when
- * the information contained in the OF statistics reply message received from a
- * network node is different from the cached one.
+ * an OF statistics reply message is received from a network node.
+ *
+ * Every successful poll is notified with the complete list of statistics
+ * objects of the switch, whether or not it differs from the previous one; a
+ * poll which times out or fails is not notified. Listeners are called one at a
+ * time from the "Statistics Collector" thread, not from the thread of the
+ * switch, and the polls of a switch are notified in the order in which they
+ * were sent. Listeners should not block, as this delays the polls of all the
+ * switches.
  */
 public interface IOFStatisticsListener {
     /**
@@ -28,6 +28,16 @@ public interface IMessageReadWrite {
          */
         public void asyncSend(OFMessage msg) throws Exception;
 
+        /**
+         * Sends the OF messages out over the socket channel in one write, in
+         * the order of the list. For secure communication, the data will be
+         * encrypted.
+         *
+         * @param msgs OF messages to be sent
+         * @throws Exception
+         */
+        public void asyncSend(List<OFMessage> msgs) throws Exception;
+
         /**
          * Resumes sending the remaining messages in the outgoing buffer
          * @throws Exception
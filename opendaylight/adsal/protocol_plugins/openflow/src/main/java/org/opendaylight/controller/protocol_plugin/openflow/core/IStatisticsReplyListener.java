@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core;
+
+/**
+ * Receives the result of a statistics request sent with
+ * {@link ISwitch#asyncGetStatistics}.
+ */
+public interface IStatisticsReplyListener {
+    /**
+     * Called once per request, from the thread which received the last reply,
+     * the error or noticed the timeout. Implementations should not block.
+     *
+     * @param sw
+     *            the switch the request was sent to
+     * @param result
+     *            List<OFStatistics>, the statistics records received from the
+     *            switch; OFError if the switch failed to handle the request or
+     *            NULL if timeout has occurred while waiting for the response.
+     */
+    public void statisticsReceived(ISwitch sw, Object result);
+}
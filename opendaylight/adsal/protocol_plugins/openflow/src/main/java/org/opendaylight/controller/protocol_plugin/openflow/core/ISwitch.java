@@ -141,6 +141,23 @@ public interface ISwitch {
      */
     public Object syncSend(OFMessage msg);
 
+    /**
+     * Sends the OF messages in order, each with a unique XID which is
+     * automatically generated, followed by a single Barrier Request and waits
+     * for the result of the batch from the switch.
+     *
+     * @param msgs
+     *            The messages to be sent
+     * @return A list with, for each message in order, one of the followings
+     *         instances/values: Boolean with value true to indicate the
+     *         message has been successfully processed and acknowledged by the
+     *         switch; Boolean with value false to indicate the batch has
+     *         failed to be processed by the switch within a period of time or
+     *         OFError to indicate that the message has been denied by the
+     *         switch which responded with OFError.
+     */
+    public List<Object> syncSend(List<OFMessage> msgs);
+
     /**
      * Returns a map containing all OFPhysicalPorts of this switch.
      *
@@ -212,6 +229,19 @@ public interface ISwitch {
      */
     public Object getStatistics(OFStatisticsRequest req);
 
+    /**
+     * Sends OFStatisticsRequest with a unique XID generated automatically
+     * without waiting for the result. The listener is given the same result
+     * getStatistics() would return, once all the replies are received, the
+     * switch reports an error or the response timer expires.
+     *
+     * @param req
+     *            the OF Statistic Request to be sent
+     * @param listener
+     *            the listener called with the result
+     */
+    public void asyncGetStatistics(OFStatisticsRequest req, IStatisticsReplyListener listener);
+
     /**
      * Returns true if the switch has reached the operational state (has sent
      * FEATURE_REPLY to the controller).
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Direct buffers of a fixed size shared by the connections of all switches. A
+ * connection only holds a buffer while it has data to be parsed or sent, so
+ * idle switches do not pin any direct memory and buffers are not reallocated
+ * under load. Buffers released while the pool is full are left to the garbage
+ * collector.
+ */
+class BufferPool {
+    private static final Logger logger = LoggerFactory
+            .getLogger(BufferPool.class);
+
+    /**
+     * Large enough to hold any OF message, whose length is an unsigned short,
+     * together with a partially received one.
+     */
+    static final int BUFFER_SIZE = 128 * 1024;
+
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxPooled;
+
+    BufferPool() {
+        this.maxPooled = getMaxPooled();
+    }
+
+    /**
+     * Returns a cleared buffer of BUFFER_SIZE bytes.
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool. It must not be used by the caller
+     * afterwards.
+     */
+    void release(ByteBuffer buffer) {
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        buffers.add(buffer);
+    }
+
+    /**
+     * Returns the buffers of a chain whose data has been fully consumed to the
+     * pool. The chain has been flipped for reading, the remaining buffers are
+     * put back in write mode with their unconsumed data.
+     */
+    void releaseConsumed(Queue<ByteBuffer> chain) {
+        Iterator<ByteBuffer> it = chain.iterator();
+        while (it.hasNext()) {
+            ByteBuffer buffer = it.next();
+            if (!buffer.hasRemaining()) {
+                it.remove();
+                release(buffer);
+            } else if (buffer.position() > 0) {
+                // partially consumed
+                buffer.compact();
+            } else {
+                // not consumed at all, back to write mode
+                buffer.position(buffer.limit());
+                buffer.limit(buffer.capacity());
+            }
+        }
+    }
+
+    /**
+     * Maximum number of idle buffers kept, of.bufferPoolSize or 256 by
+     * default.
+     */
+    private static int getMaxPooled() {
+        int rv = 256;
+        String poolSize = System.getProperty("of.bufferPoolSize");
+        if (poolSize != null) {
+            try {
+                rv = Integer.parseInt(poolSize);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid of.bufferPoolSize: {} use default({})", poolSize, rv);
+            }
+        }
+        return Math.max(rv, 0);
+    }
+}
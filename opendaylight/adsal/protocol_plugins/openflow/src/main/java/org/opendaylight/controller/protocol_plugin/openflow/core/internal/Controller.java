@@ -47,6 +47,7 @@ public class Controller implements IController, CommandProvider, IPluginInConnec
     private static final Logger logger = LoggerFactory
             .getLogger(Controller.class);
     private ControllerIO controllerIO;
+    private SwitchEventLoopGroup switchEventLoops;
     private Thread switchEventThread;
     private volatile boolean shutdownSwitchEventThread;// default to false
     private ConcurrentHashMap<Long, ISwitch> switches;
@@ -157,6 +158,9 @@ public class Controller implements IController, CommandProvider, IPluginInConnec
         // spawn a thread to start to listen on the open flow port
         controllerIO = new ControllerIO(this);
         try {
+            // threads serving all switch connections
+            switchEventLoops = new SwitchEventLoopGroup();
+            switchEventLoops.start();
             controllerIO.start();
         } catch (IOException ex) {
             logger.error("Caught exception while starting:", ex);
@@ -183,6 +187,9 @@ public class Controller implements IController, CommandProvider, IPluginInConnec
         } catch (IOException ex) {
             logger.error("Caught exception while stopping:", ex);
         }
+        if (switchEventLoops != null) {
+            switchEventLoops.shutDown();
+        }
     }
 
     /**
@@ -243,7 +250,8 @@ public class Controller implements IController, CommandProvider, IPluginInConnec
             // create new switch
             int i = this.switchInstanceNumber.addAndGet(1);
             String instanceName = "SwitchHandler-" + i;
-            SwitchHandler switchHandler = new SwitchHandler(this, sc, instanceName);
+            SwitchHandler switchHandler = new SwitchHandler(this, sc, instanceName,
+                    switchEventLoops.next(), switchEventLoops.getTimer());
             switchHandler.start();
             if (sc.isConnected()) {
                 logger.info("Switch:{} is connected to the Controller",
@@ -10,10 +10,11 @@ package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousCloseException;
-import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.List;
 
 import org.opendaylight.controller.protocol_plugin.openflow.core.IMessageReadWrite;
@@ -24,29 +25,38 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class implements methods to read/write messages over an established
- * socket channel. The data exchange is in clear text format.
+ * socket channel. The data exchange is in clear text format. The socket
+ * channel is registered with the selector by its owner, this class only
+ * changes the interest set of the registration.
+ *
+ * Buffers are taken from the shared {@link BufferPool} only while needed:
+ * the incoming buffer while it holds a partially received message, the
+ * outgoing buffers until their data is written to the socket. OF messages are
+ * parsed directly from the incoming buffer and encoded directly into the
+ * outgoing buffers, which are written by one gathering write.
+ *
+ * An instance is only used by the event loop serving its switch, so its
+ * buffers are not synchronized.
  */
 public class MessageReadWriteService implements IMessageReadWrite {
     private static final Logger logger = LoggerFactory
             .getLogger(MessageReadWriteService.class);
-    private static final int bufferSize = 1024 * 1024;
 
     private Selector selector;
-    private SelectionKey clientSelectionKey;
     private SocketChannel socket;
+    private BufferPool bufferPool;
     private ByteBuffer inBuffer;
-    private ByteBuffer outBuffer;
+    // outgoing data, each buffer is in write mode
+    private final ArrayDeque<ByteBuffer> outBuffers;
     private BasicFactory factory;
 
-    public MessageReadWriteService(SocketChannel socket, Selector selector)
-            throws ClosedChannelException {
+    public MessageReadWriteService(SocketChannel socket, Selector selector,
+            BufferPool bufferPool) {
         this.socket = socket;
         this.selector = selector;
+        this.bufferPool = bufferPool;
         this.factory = new BasicFactory();
-        this.inBuffer = ByteBuffer.allocateDirect(bufferSize);
-        this.outBuffer = ByteBuffer.allocateDirect(bufferSize);
-        this.clientSelectionKey = this.socket.register(this.selector,
-                SelectionKey.OP_READ);
+        this.outBuffers = new ArrayDeque<ByteBuffer>();
     }
 
     /**
@@ -58,32 +68,29 @@ public class MessageReadWriteService implements IMessageReadWrite {
      */
     @Override
     public void asyncSend(OFMessage msg) throws Exception {
-        synchronized (outBuffer) {
-            int msgLen = msg.getLengthU();
-            if (outBuffer.remaining() < msgLen) {
-                // increase the buffer size so that it can contain this message
-                ByteBuffer newBuffer = ByteBuffer.allocateDirect(outBuffer
-                        .capacity() + msgLen);
-                outBuffer.flip();
-                newBuffer.put(outBuffer);
-                outBuffer = newBuffer;
-            }
-        }
-        synchronized (outBuffer) {
-            msg.writeTo(outBuffer);
-
-            if (!socket.isOpen()) {
-                return;
-            }
+        asyncSend(Collections.singletonList(msg));
+    }
 
-            outBuffer.flip();
-            socket.write(outBuffer);
-            outBuffer.compact();
-            if (outBuffer.position() > 0) {
-                this.clientSelectionKey = this.socket.register(this.selector,
-                        SelectionKey.OP_WRITE, this);
+    /**
+     * Sends the OF messages out over the socket channel in one write.
+     *
+     * @param msgs
+     *            OF messages to be sent
+     * @throws Exception
+     */
+    @Override
+    public void asyncSend(List<OFMessage> msgs) throws Exception {
+        if (!socket.isOpen() || (bufferPool == null)) {
+            return;
+        }
+        for (OFMessage msg : msgs) {
+            msg.writeTo(getOutBuffer(msg.getLengthU()));
+        }
+        flush();
+        if (logger.isTraceEnabled()) {
+            for (OFMessage msg : msgs) {
+                logger.trace("Message sent: {}", msg);
             }
-            logger.trace("Message sent: {}", msg);
         }
     }
 
@@ -94,22 +101,62 @@ public class MessageReadWriteService implements IMessageReadWrite {
      */
     @Override
     public void resumeSend() throws Exception {
-        synchronized (outBuffer) {
-            if (!socket.isOpen()) {
-                return;
-            }
+        if (!socket.isOpen() || (bufferPool == null)) {
+            return;
+        }
+        flush();
+    }
 
-            outBuffer.flip();
-            socket.write(outBuffer);
-            outBuffer.compact();
-            if (outBuffer.position() > 0) {
-                this.clientSelectionKey = this.socket.register(this.selector,
-                        SelectionKey.OP_WRITE, this);
-            } else {
-                this.clientSelectionKey = this.socket.register(this.selector,
-                        SelectionKey.OP_READ, this);
-            }
+    /*
+     * Returns the last outgoing buffer if it has room for msgLen bytes,
+     * otherwise appends a new one from the pool.
+     */
+    private ByteBuffer getOutBuffer(int msgLen) {
+        ByteBuffer buffer = outBuffers.peekLast();
+        if ((buffer == null) || (buffer.remaining() < msgLen)) {
+            buffer = bufferPool.acquire();
+            outBuffers.addLast(buffer);
         }
+        return buffer;
+    }
+
+    /*
+     * Writes as much of the outgoing buffers as the socket takes, returns the
+     * emptied buffers to the pool and waits for the socket to become writable
+     * if some data is left.
+     */
+    private void flush() throws Exception {
+        if (outBuffers.isEmpty()) {
+            setInterestOps(SelectionKey.OP_READ);
+            return;
+        }
+        ByteBuffer[] buffers = outBuffers.toArray(new ByteBuffer[outBuffers.size()]);
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+        }
+        try {
+            socket.write(buffers);
+        } finally {
+            bufferPool.releaseConsumed(outBuffers);
+        }
+        if (outBuffers.isEmpty()) {
+            setInterestOps(SelectionKey.OP_READ);
+        } else {
+            setInterestOps(SelectionKey.OP_WRITE);
+        }
+    }
+
+    /*
+     * Update the interest set of the existing registration, which keeps its
+     * attachment. It is called by the event loop, the new interest set is
+     * used by its next select.
+     */
+    private void setInterestOps(int ops) {
+        SelectionKey key = this.socket.keyFor(this.selector);
+        if ((key == null) || !key.isValid() || (key.interestOps() == ops)) {
+            return;
+        }
+        key.interestOps(ops);
     }
 
     /**
@@ -121,10 +168,13 @@ public class MessageReadWriteService implements IMessageReadWrite {
      */
     @Override
     public List<OFMessage> readMessages() throws Exception {
-        if (!socket.isOpen()) {
+        if (!socket.isOpen() || (bufferPool == null)) {
             return null;
         }
 
+        if (inBuffer == null) {
+            inBuffer = bufferPool.acquire();
+        }
         List<OFMessage> msgs = null;
         int bytesRead = -1;
         bytesRead = socket.read(inBuffer);
@@ -136,20 +186,31 @@ public class MessageReadWriteService implements IMessageReadWrite {
             inBuffer.flip();
             msgs = factory.parseMessages(inBuffer);
             if (inBuffer.hasRemaining()) {
+                // keep the partially received message
                 inBuffer.compact();
-            } else {
-                inBuffer.clear();
+                return msgs;
             }
         } catch (Exception e) {
-            inBuffer.clear();
             logger.debug("Caught exception: ", e);
         }
+        bufferPool.release(inBuffer);
+        inBuffer = null;
         return msgs;
     }
 
     @Override
     public void stop() {
-        inBuffer = null;
-        outBuffer = null;
+        if (bufferPool == null) {
+            return;
+        }
+        if (inBuffer != null) {
+            bufferPool.release(inBuffer);
+            inBuffer = null;
+        }
+        for (ByteBuffer buffer : outBuffers) {
+            bufferPool.release(buffer);
+        }
+        outBuffers.clear();
+        bufferPool = null;
     }
 }
@@ -18,6 +18,8 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.security.KeyStore;
 import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.List;
 
 import javax.net.ssl.KeyManagerFactory;
@@ -36,7 +38,17 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class implements methods to read/write messages over an established
- * socket channel. The data exchange is encrypted/decrypted by SSLEngine.
+ * socket channel. The data exchange is encrypted/decrypted by SSLEngine. The
+ * socket channel is registered with the selector by its owner once the
+ * initial handshake is done.
+ *
+ * The clear text messages to be sent are encoded into buffers taken from the
+ * shared {@link BufferPool}, which are returned as soon as SSL Engine has
+ * consumed their data. The network buffers and the incoming application
+ * buffer are sized from the SSL session once per connection.
+ *
+ * Once constructed, an instance is only used by the event loop serving its
+ * switch, so its buffers are not synchronized.
  */
 public class SecureMessageReadWriteService implements IMessageReadWrite {
     private static final Logger logger = LoggerFactory
@@ -45,10 +57,12 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
     private Selector selector;
     private SocketChannel socket;
     private BasicFactory factory;
+    private BufferPool bufferPool;
 
     private SSLEngine sslEngine;
     private SSLEngineResult sslEngineResult; // results from sslEngine last operation
-    private ByteBuffer myAppData; // clear text message to be sent
+    // clear text messages to be sent, each buffer is in write mode
+    private final ArrayDeque<ByteBuffer> myAppData = new ArrayDeque<ByteBuffer>();
     private ByteBuffer myNetData; // encrypted message to be sent
     private ByteBuffer peerAppData; // clear text message received from the
                                     // switch
@@ -61,10 +75,11 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
     private static String keyStorePassword = null;
     private static String trustStorePassword = null;
 
-    public SecureMessageReadWriteService(SocketChannel socket, Selector selector)
-            throws Exception {
+    public SecureMessageReadWriteService(SocketChannel socket, Selector selector,
+            BufferPool bufferPool) throws Exception {
         this.socket = socket;
         this.selector = selector;
+        this.bufferPool = bufferPool;
         this.factory = new BasicFactory();
 
         try {
@@ -168,8 +183,6 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
 
         // Do initial handshake
         doHandshake(socket, sslEngine);
-
-        this.socket.register(this.selector, SelectionKey.OP_READ);
     }
 
     /**
@@ -182,45 +195,30 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
      */
     @Override
     public void asyncSend(OFMessage msg) throws Exception {
-        synchronized (myAppData) {
-            int msgLen = msg.getLengthU();
-            if (myAppData.remaining() < msgLen) {
-                // increase the buffer size so that it can contain this message
-                ByteBuffer newBuffer = ByteBuffer.allocateDirect(myAppData
-                        .capacity() + msgLen);
-                myAppData.flip();
-                newBuffer.put(myAppData);
-                myAppData = newBuffer;
-            }
-        }
-        synchronized (myAppData) {
-            msg.writeTo(myAppData);
-            myAppData.flip();
-            sslEngineResult = sslEngine.wrap(myAppData, myNetData);
-            logger.trace("asyncSend sslEngine wrap: {}", sslEngineResult);
-            runDelegatedTasks(sslEngineResult, sslEngine);
-
-            if (!socket.isOpen()) {
-                return;
-            }
-
-            myNetData.flip();
-            socket.write(myNetData);
-            if (myNetData.hasRemaining()) {
-                myNetData.compact();
-            } else {
-                myNetData.clear();
-            }
+        asyncSend(Collections.singletonList(msg));
+    }
 
-            if (myAppData.hasRemaining()) {
-                myAppData.compact();
-                this.socket.register(this.selector, SelectionKey.OP_WRITE, this);
-            } else {
-                myAppData.clear();
-                this.socket.register(this.selector, SelectionKey.OP_READ, this);
+    /**
+     * Sends the OF messages out over the socket channel. The messages are
+     * encrypted together by SSL Engine and written in one write.
+     *
+     * @param msgs
+     *            OF messages to be sent
+     * @throws Exception
+     */
+    @Override
+    public void asyncSend(List<OFMessage> msgs) throws Exception {
+        if (!socket.isOpen() || (bufferPool == null)) {
+            return;
+        }
+        for (OFMessage msg : msgs) {
+            msg.writeTo(getAppBuffer(msg.getLengthU()));
+        }
+        wrapAndSend();
+        if (logger.isTraceEnabled()) {
+            for (OFMessage msg : msgs) {
+                logger.trace("Message sent: {}", msg);
             }
-
-            logger.trace("Message sent: {}", msg);
         }
     }
 
@@ -231,31 +229,56 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
      */
     @Override
     public void resumeSend() throws Exception {
-        synchronized (myAppData) {
-            myAppData.flip();
-            sslEngineResult = sslEngine.wrap(myAppData, myNetData);
-            logger.trace("resumeSend sslEngine wrap: {}", sslEngineResult);
-            runDelegatedTasks(sslEngineResult, sslEngine);
+        if (!socket.isOpen() || (bufferPool == null)) {
+            return;
+        }
+        wrapAndSend();
+    }
 
-            if (!socket.isOpen()) {
-                return;
-            }
+    /*
+     * Returns the last clear text buffer if it has room for msgLen bytes,
+     * otherwise appends a new one from the pool.
+     */
+    private ByteBuffer getAppBuffer(int msgLen) {
+        ByteBuffer buffer = myAppData.peekLast();
+        if ((buffer == null) || (buffer.remaining() < msgLen)) {
+            buffer = bufferPool.acquire();
+            myAppData.addLast(buffer);
+        }
+        return buffer;
+    }
 
-            myNetData.flip();
-            socket.write(myNetData);
-            if (myNetData.hasRemaining()) {
-                myNetData.compact();
-            } else {
-                myNetData.clear();
+    private void wrapAndSend() throws Exception {
+        if (!myAppData.isEmpty()) {
+            ByteBuffer[] buffers = myAppData.toArray(new ByteBuffer[myAppData.size()]);
+            for (ByteBuffer buffer : buffers) {
+                buffer.flip();
             }
-
-            if (myAppData.hasRemaining()) {
-                myAppData.compact();
-                this.socket.register(this.selector, SelectionKey.OP_WRITE, this);
-            } else {
-                myAppData.clear();
-                this.socket.register(this.selector, SelectionKey.OP_READ, this);
+            try {
+                sslEngineResult = sslEngine.wrap(buffers, myNetData);
+            } finally {
+                bufferPool.releaseConsumed(myAppData);
             }
+            logger.trace("sslEngine wrap: {}", sslEngineResult);
+            runDelegatedTasks(sslEngineResult, sslEngine);
+        }
+
+        if (!socket.isOpen()) {
+            return;
+        }
+
+        myNetData.flip();
+        socket.write(myNetData);
+        if (myNetData.hasRemaining()) {
+            myNetData.compact();
+        } else {
+            myNetData.clear();
+        }
+
+        if (!myAppData.isEmpty() || (myNetData.position() > 0)) {
+            setInterestOps(SelectionKey.OP_WRITE);
+        } else {
+            setInterestOps(SelectionKey.OP_READ);
         }
     }
 
@@ -313,11 +336,22 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
             logger.debug("Caught exception: ", e);
         }
 
-        this.socket.register(this.selector, SelectionKey.OP_READ, this);
-
         return msgs;
     }
 
+    /*
+     * Update the interest set of the existing registration, which keeps its
+     * attachment. It is called by the event loop, the new interest set is
+     * used by its next select.
+     */
+    private void setInterestOps(int ops) {
+        SelectionKey key = this.socket.keyFor(this.selector);
+        if ((key == null) || !key.isValid() || (key.interestOps() == ops)) {
+            return;
+        }
+        key.interestOps(ops);
+    }
+
     /**
      * If the result indicates that we have outstanding tasks to do, go ahead
      * and run them in this thread.
@@ -422,8 +456,6 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
 
     private void createBuffers(SSLEngine engine) {
         SSLSession session = engine.getSession();
-        this.myAppData = ByteBuffer
-                .allocate(session.getApplicationBufferSize());
         this.peerAppData = ByteBuffer.allocate(session
                 .getApplicationBufferSize() * 20);
         this.myNetData = ByteBuffer.allocate(session.getPacketBufferSize());
@@ -432,9 +464,15 @@ public class SecureMessageReadWriteService implements IMessageReadWrite {
 
     @Override
     public void stop() throws IOException {
+        if (bufferPool != null) {
+            for (ByteBuffer buffer : myAppData) {
+                bufferPool.release(buffer);
+            }
+            myAppData.clear();
+            bufferPool = null;
+        }
         this.sslEngine = null;
         this.sslEngineResult = null;
-        this.myAppData = null;
         this.myNetData = null;
         this.peerAppData = null;
         this.peerNetData = null;
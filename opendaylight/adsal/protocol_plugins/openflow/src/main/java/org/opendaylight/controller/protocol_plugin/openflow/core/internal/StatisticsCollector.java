@@ -13,7 +13,12 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.opendaylight.controller.protocol_plugin.openflow.core.IStatisticsReplyListener;
 import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
 import org.openflow.protocol.OFError;
 import org.openflow.protocol.OFStatisticsReply;
@@ -28,6 +33,9 @@ public class StatisticsCollector implements Callable<Object> {
     private CountDownLatch latch;
     private Object result;
     private List<OFStatistics> stats;
+    private IStatisticsReplyListener listener;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile Future<?> timeout;
 
     public StatisticsCollector(ISwitch sw, int xid, OFStatisticsRequest request) {
         this.sw = sw;
@@ -38,6 +46,16 @@ public class StatisticsCollector implements Callable<Object> {
         stats = new CopyOnWriteArrayList<OFStatistics>();
     }
 
+    /*
+     * Collector which hands the result to the listener instead of a waiting
+     * caller
+     */
+    public StatisticsCollector(ISwitch sw, int xid, OFStatisticsRequest request,
+            IStatisticsReplyListener listener) {
+        this(sw, xid, request);
+        this.listener = listener;
+    }
+
     /*
      * accumulate the stats records in result
      * Returns: true: if this is the last record
@@ -67,12 +85,61 @@ public class StatisticsCollector implements Callable<Object> {
         return result;
     }
 
+    /*
+     * Same as call(), but waits in the calling thread for the given time at
+     * most. Throws TimeoutException if not all stats replies were received.
+     */
+    public Object call(long timeout, TimeUnit unit) throws Exception {
+        sw.asyncSend(request, xid);
+        request = null;
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return result;
+    }
+
+    /*
+     * Sends the request without waiting, the listener is called on completion.
+     * The timeout task is cancelled then.
+     */
+    public void send(Future<?> timeout) {
+        this.timeout = timeout;
+        sw.asyncSend(request, xid);
+        request = null;
+    }
+
     public Integer getXid() {
         return this.xid;
     }
 
     public void wakeup() {
         this.latch.countDown();
+        if (listener != null) {
+            complete(result);
+        }
+    }
+
+    /*
+     * No reply came within the response time
+     */
+    public void expire() {
+        this.latch.countDown();
+        if (listener != null) {
+            complete(null);
+        }
+    }
+
+    private void complete(Object value) {
+        // The listener is called once, whichever of reply, error and timeout
+        // comes first
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        Future<?> t = timeout;
+        if (t != null) {
+            t.cancel(false);
+        }
+        listener.statisticsReceived(sw, value);
     }
 
     public void wakeup(OFError errorMsg) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single thread multiplexing the socket channels of many switches over one
+ * selector. Channels are registered with their {@link SwitchHandler} as
+ * attachment, which is called back when the channel is ready for reading or
+ * writing. All other work of the switches connected to this loop, e.g.
+ * draining of their transmit queues, is submitted as tasks, so that a switch
+ * connection is only ever served by its loop thread.
+ */
+class SwitchEventLoop implements Runnable {
+    private static final Logger logger = LoggerFactory
+            .getLogger(SwitchEventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+    // avoids waking up the selector for every task submitted while it is awake
+    private final AtomicBoolean wakenUp = new AtomicBoolean();
+    private final Thread thread;
+    private final BufferPool bufferPool;
+    private volatile boolean running;
+
+    SwitchEventLoop(String name, BufferPool bufferPool) throws IOException {
+        this.selector = SelectorProvider.provider().openSelector();
+        this.thread = new Thread(this, name);
+        this.bufferPool = bufferPool;
+    }
+
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    Selector getSelector() {
+        return selector;
+    }
+
+    BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Run the task in the loop thread, after the tasks submitted before.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (!inEventLoop() && wakenUp.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                wakenUp.set(false);
+                if (tasks.isEmpty()) {
+                    // a task submitted from now on wakes up the select
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+                processSelectedKeys();
+                runTasks();
+            } catch (Exception e) {
+                logger.warn("Unexpected exception in {}", thread.getName(), e);
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close selector of {}", thread.getName(), e);
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while (selectedKeys.hasNext()) {
+            SelectionKey skey = selectedKeys.next();
+            selectedKeys.remove();
+            SwitchHandler switchHandler = (SwitchHandler) skey.attachment();
+            if (switchHandler == null) {
+                continue;
+            }
+            if (skey.isValid() && skey.isWritable()) {
+                switchHandler.resumeSend();
+            }
+            if (skey.isValid() && skey.isReadable()) {
+                switchHandler.handleMessages();
+            }
+        }
+    }
+
+    private void runTasks() {
+        // tasks submitted by these tasks wait for the next round, so that
+        // they do not starve the I/O
+        for (int i = tasks.size(); i > 0; i--) {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.warn("Task {} failed in {}", task, thread.getName(), e);
+            }
+        }
+    }
+
+    void shutDown() {
+        running = false;
+        selector.wakeup();
+    }
+}
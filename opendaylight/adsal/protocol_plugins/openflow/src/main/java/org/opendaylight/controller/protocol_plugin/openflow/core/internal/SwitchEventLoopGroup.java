@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The threads shared by all switch connections: a fixed number of
+ * {@link SwitchEventLoop}s, assigned to new connections in round robin, and a
+ * single timer thread for the periodic and timeout tasks of the switches. The
+ * loops also share one {@link BufferPool} for the I/O buffers.
+ */
+class SwitchEventLoopGroup {
+    private static final Logger logger = LoggerFactory
+            .getLogger(SwitchEventLoopGroup.class);
+
+    private final SwitchEventLoop[] eventLoops;
+    private final AtomicInteger nextEventLoop = new AtomicInteger();
+    private final ScheduledExecutorService timer;
+
+    SwitchEventLoopGroup() throws IOException {
+        int ioThreads = getIOThreads();
+        BufferPool bufferPool = new BufferPool();
+        this.eventLoops = new SwitchEventLoop[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            eventLoops[i] = new SwitchEventLoop("SwitchEventLoop-" + i, bufferPool);
+        }
+        this.timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "SwitchTimer");
+            }
+        });
+        logger.debug("Switch connections are served by {} I/O threads", ioThreads);
+    }
+
+    void start() {
+        for (SwitchEventLoop eventLoop : eventLoops) {
+            eventLoop.start();
+        }
+    }
+
+    SwitchEventLoop next() {
+        return eventLoops[(nextEventLoop.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.length];
+    }
+
+    ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    void shutDown() {
+        for (SwitchEventLoop eventLoop : eventLoops) {
+            eventLoop.shutDown();
+        }
+        timer.shutdownNow();
+    }
+
+    /**
+     * Number of I/O threads, of.ioThreads or the number of processors by
+     * default.
+     */
+    private static int getIOThreads() {
+        int rv = Runtime.getRuntime().availableProcessors();
+        String ioThreads = System.getProperty("of.ioThreads");
+        if (ioThreads != null) {
+            try {
+                rv = Integer.parseInt(ioThreads);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid of.ioThreads: {} use default({})", ioThreads, rv);
+            }
+        }
+        return Math.max(rv, 1);
+    }
+}
@@ -9,31 +9,26 @@
 package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
 
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.nio.channels.spi.SelectorProvider;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.PriorityBlockingQueue;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opendaylight.controller.protocol_plugin.openflow.core.IController;
 import org.opendaylight.controller.protocol_plugin.openflow.core.IMessageReadWrite;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IStatisticsReplyListener;
 import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
 import org.openflow.protocol.OFBarrierReply;
 import org.openflow.protocol.OFBarrierRequest;
@@ -65,8 +60,10 @@ import org.slf4j.LoggerFactory;
 public class SwitchHandler implements ISwitch {
     private static final Logger logger = LoggerFactory.getLogger(SwitchHandler.class);
     private static final int SWITCH_LIVENESS_TIMER = 5000;
-    private static final int switchLivenessTimeout = getSwitchLivenessTimeout();
+    // maximum number of queued messages sent in one write
+    private static final int TRANSMIT_BATCH_SIZE = 128;
     private final int MESSAGE_RESPONSE_TIMER = 2000;
+    private final int switchLivenessTimeout;
 
     private final String instanceName;
     private final ISwitch thisISwitch;
@@ -76,25 +73,29 @@ public class SwitchHandler implements ISwitch {
     private Integer capabilities;
     private Byte tables;
     private Integer actions;
-    private Selector selector;
     private final SocketChannel socket;
     private final BasicFactory factory;
     private final AtomicInteger xid;
     private SwitchState state;
-    private Timer periodicTimer;
+    private final SwitchEventLoop eventLoop;
+    private final ScheduledExecutorService timer;
+    private ScheduledFuture<?> periodicTimer;
     private final Map<Short, OFPhysicalPort> physicalPorts;
     private final Map<Short, Integer> portBandwidth;
     private final Date connectedDate;
     private Long lastMsgReceivedTimeStamp;
     private Boolean probeSent;
-    private final ExecutorService executor;
     private final ConcurrentHashMap<Integer, Callable<Object>> messageWaitingDone;
-    private boolean running;
-    private IMessageReadWrite msgReadWriteService;
-    private Thread switchHandlerThread;
+    private volatile boolean running;
+    private volatile IMessageReadWrite msgReadWriteService;
     private Integer responseTimerValue;
     private PriorityBlockingQueue<PriorityMessage> transmitQ;
-    private Thread transmitThread;
+    private final AtomicBoolean transmitScheduled;
+    // whether the channel is registered with the selector, accessed by the event loop only
+    private boolean registered;
+    // xid of the barrier request the transmit queue waits for, accessed by the event loop only
+    private Integer transmitBarrierXid;
+    private ScheduledFuture<?> transmitBarrierTimeout;
 
     private enum SwitchState {
         NON_OPERATIONAL(0), WAIT_FEATURES_REPLY(1), WAIT_CONFIG_REPLY(2), OPERATIONAL(3);
@@ -111,7 +112,8 @@ public class SwitchHandler implements ISwitch {
         }
     }
 
-    public SwitchHandler(Controller core, SocketChannel sc, String name) {
+    public SwitchHandler(Controller core, SocketChannel sc, String name,
+            SwitchEventLoop eventLoop, ScheduledExecutorService timer) {
         this.instanceName = name;
         this.thisISwitch = this;
         this.sid = (long) 0;
@@ -129,9 +131,12 @@ public class SwitchHandler implements ISwitch {
         this.state = SwitchState.NON_OPERATIONAL;
         this.probeSent = false;
         this.xid = new AtomicInteger(this.socket.hashCode());
+        this.eventLoop = eventLoop;
+        this.timer = timer;
         this.periodicTimer = null;
-        this.executor = Executors.newFixedThreadPool(4);
+        this.transmitScheduled = new AtomicBoolean();
         this.messageWaitingDone = new ConcurrentHashMap<Integer, Callable<Object>>();
+        this.switchLivenessTimeout = getSwitchLivenessTimeout();
         this.responseTimerValue = MESSAGE_RESPONSE_TIMER;
         String rTimer = System.getProperty("of.messageResponseTimer");
         if (rTimer != null) {
@@ -144,78 +149,43 @@ public class SwitchHandler implements ISwitch {
     }
 
     public void start() {
+        running = true;
         try {
-            startTransmitThread();
+            createTransmitQueue();
             setupCommChannel();
-            sendFirstHello();
-            startHandlerThread();
         } catch (Exception e) {
             reportError(e);
         }
     }
 
-    private void startHandlerThread() {
-        switchHandlerThread = new Thread(new Runnable() {
-            @Override
-            public void run() {
-                running = true;
-                while (running) {
-                    try {
-                        // wait for an incoming connection
-                        selector.select(0);
-                        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
-                        while (selectedKeys.hasNext()) {
-                            SelectionKey skey = selectedKeys.next();
-                            selectedKeys.remove();
-                            if (skey.isValid() && skey.isWritable()) {
-                                resumeSend();
-                            }
-                            if (skey.isValid() && skey.isReadable()) {
-                                handleMessages();
-                            }
-                        }
-                    } catch (Exception e) {
-                        reportError(e);
-                    }
-                }
-            }
-        }, instanceName);
-        switchHandlerThread.start();
-    }
-
     private void stopInternal() {
         logger.debug("{} receives stop signal",
                 (isOperational() ? HexString.toHexString(sid) : "unknown"));
         running = false;
         cancelSwitchTimer();
         try {
-            selector.wakeup();
-            selector.close();
-        } catch (Exception e) {
-        }
-        try {
+            // also cancels the selection key
             socket.close();
         } catch (Exception e) {
         }
-        try {
-            msgReadWriteService.stop();
-        } catch (Exception e) {
-        }
-        logger.debug("executor shutdown now");
-        executor.shutdownNow();
-
+        // buffers of the service may be in use by the event loop
+        final IMessageReadWrite service = msgReadWriteService;
         msgReadWriteService = null;
+        if (service != null) {
+            eventLoop.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        service.stop();
+                    } catch (Exception e) {
+                    }
+                }
+            });
+        }
     }
 
     public void stop() {
         stopInternal();
-
-        if (switchHandlerThread != null) {
-            switchHandlerThread.interrupt();
-        }
-        if (transmitThread != null) {
-            transmitThread.interrupt();
-        }
     }
 
     @Override
@@ -260,6 +230,7 @@ public class SwitchHandler implements ISwitch {
         msg.setXid(xid);
         if (transmitQ != null) {
             transmitQ.add(new PriorityMessage(msg, 0));
+            scheduleTransmit();
         }
         return xid;
     }
@@ -295,6 +266,7 @@ public class SwitchHandler implements ISwitch {
         msg.setXid(xid);
         if (transmitQ != null) {
             transmitQ.add(new PriorityMessage(msg, 1));
+            scheduleTransmit();
         }
         return xid;
     }
@@ -436,8 +408,7 @@ public class SwitchHandler implements ISwitch {
     }
 
     private void startSwitchTimer() {
-        this.periodicTimer = new Timer();
-        this.periodicTimer.scheduleAtFixedRate(new TimerTask() {
+        this.periodicTimer = timer.scheduleAtFixedRate(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -477,12 +448,12 @@ public class SwitchHandler implements ISwitch {
                     reportError(e);
                 }
             }
-        }, SWITCH_LIVENESS_TIMER, SWITCH_LIVENESS_TIMER);
+        }, SWITCH_LIVENESS_TIMER, SWITCH_LIVENESS_TIMER, TimeUnit.MILLISECONDS);
     }
 
     private void cancelSwitchTimer() {
         if (this.periodicTimer != null) {
-            this.periodicTimer.cancel();
+            this.periodicTimer.cancel(false);
         }
     }
 
@@ -596,29 +567,48 @@ public class SwitchHandler implements ISwitch {
 
     @Override
     public Object getStatistics(OFStatisticsRequest req) {
+        if (!running) {
+            return null;
+        }
         int xid = getNextXid();
         StatisticsCollector worker = new StatisticsCollector(this, xid, req);
         messageWaitingDone.put(xid, worker);
-        Future<Object> submit;
         Object result = null;
         try {
-            submit = executor.submit(worker);
-        } catch (RejectedExecutionException re) {
-            messageWaitingDone.remove(xid);
-            return result;
-        }
-        try {
-            result = submit.get(responseTimerValue, TimeUnit.MILLISECONDS);
+            result = worker.call(responseTimerValue, TimeUnit.MILLISECONDS);
             return result;
         } catch (Exception e) {
             logger.warn("Timeout while waiting for {} replies from {}",
                     req.getType(), (isOperational() ? HexString.toHexString(sid) : "unknown"));
+            messageWaitingDone.remove(xid);
             result = null; // to indicate timeout has occurred
-            worker.wakeup();
             return result;
         }
     }
 
+    @Override
+    public void asyncGetStatistics(final OFStatisticsRequest req, IStatisticsReplyListener listener) {
+        if (!running) {
+            listener.statisticsReceived(this, null);
+            return;
+        }
+        final int xid = getNextXid();
+        final StatisticsCollector worker = new StatisticsCollector(this, xid, req, listener);
+        messageWaitingDone.put(xid, worker);
+        ScheduledFuture<?> timeout = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                // Leave it alone if the last reply or an error took it first
+                if (messageWaitingDone.remove(xid, worker)) {
+                    logger.warn("Timeout while waiting for {} replies from {}",
+                            req.getType(), (isOperational() ? HexString.toHexString(sid) : "unknown"));
+                    worker.expire();
+                }
+            }
+        }, responseTimerValue, TimeUnit.MILLISECONDS);
+        worker.send(timeout);
+    }
+
     @Override
     public Object syncSend(OFMessage msg) {
         if (!running) {
@@ -629,17 +619,52 @@ public class SwitchHandler implements ISwitch {
         return syncSend(msg, xid);
     }
 
+    @Override
+    public List<Object> syncSend(List<OFMessage> msgs) {
+        if (!running) {
+            logger.debug("Switch is going down, ignore syncSend");
+            return new SynchronousBatch(this, msgs, 0).getResults(false);
+        }
+        int barrierXid = getNextXid();
+        SynchronousBatch worker = new SynchronousBatch(this, msgs, barrierXid);
+        // register all the xids before sending, errors may come back early
+        for (OFMessage msg : msgs) {
+            msg.setXid(getNextXid());
+            messageWaitingDone.put(msg.getXid(), worker);
+        }
+        messageWaitingDone.put(barrierXid, worker);
+        boolean completed = false;
+        try {
+            // allow the switch some time to process each message
+            worker.call(responseTimerValue + msgs.size(), TimeUnit.MILLISECONDS);
+            completed = true;
+        } catch (Exception e) {
+            logger.warn("Timeout while waiting for {} reply to a batch of {} messages", OFType.BARRIER_REQUEST,
+                    msgs.size());
+        }
+        for (OFMessage msg : msgs) {
+            messageWaitingDone.remove(msg.getXid());
+        }
+        messageWaitingDone.remove(barrierXid);
+        return worker.getResults(completed);
+    }
+
     /*
      * Either a BarrierReply or a OFError is received. If this is a reply for an
      * outstanding sync message, wake up associated task so that it can continue
      */
     private void processBarrierReply(OFBarrierReply msg) {
         Integer xid = msg.getXid();
-        SynchronousMessage worker = (SynchronousMessage) messageWaitingDone.remove(xid);
+        releaseTransmitQueue(xid);
+        Callable<?> worker = messageWaitingDone.remove(xid);
         if (worker == null) {
             return;
         }
-        worker.wakeup();
+        if (worker instanceof SynchronousBatch) {
+            ((SynchronousBatch) worker).wakeup();
+        } else {
+            ((SynchronousMessage) worker).wakeup();
+        }
     }
 
     private void processErrorReply(OFError errorMsg) {
@@ -650,6 +675,7 @@ public class SwitchHandler implements ISwitch {
         } else {
             xid = errorMsg.getXid();
         }
+        releaseTransmitQueue(xid);
         /*
          * the error can be a reply to a synchronous message or to a statistic
          * request message
@@ -660,6 +686,8 @@ public class SwitchHandler implements ISwitch {
         }
         if (worker instanceof SynchronousMessage) {
             ((SynchronousMessage) worker).wakeup(errorMsg);
+        } else if (worker instanceof SynchronousBatch) {
+            ((SynchronousBatch) worker).wakeup(xid, errorMsg);
         } else {
             ((StatisticsCollector) worker).wakeup(errorMsg);
         }
@@ -757,37 +785,98 @@ public class SwitchHandler implements ISwitch {
     }
 
     /*
-     * Transmit thread polls the message out of the priority queue and invokes
-     * messaging service to transmit it over the socket channel
+     * Schedule draining of the transmit queue by the event loop, unless it is
+     * already scheduled
      */
-    class PriorityMessageTransmit implements Runnable {
-        @Override
-        public void run() {
-            running = true;
-            while (running) {
-                try {
-                    PriorityMessage pmsg = transmitQ.take();
-                    msgReadWriteService.asyncSend(pmsg.msg);
-                    /*
-                     * If syncReply is set to true, wait for the response back.
-                     */
-                    if (pmsg.syncReply) {
-                        syncMessageInternal(pmsg.msg, pmsg.msg.getXid(), false);
-                    }
-                } catch (InterruptedException ie) {
-                    reportError(new InterruptedException("PriorityMessageTransmit thread interrupted"));
-                } catch (Exception e) {
-                    reportError(e);
+    private void scheduleTransmit() {
+        if (transmitScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(new Runnable() {
+                @Override
+                public void run() {
+                    transmitScheduled.set(false);
+                    drainTransmitQueue();
                 }
+            });
+        }
+    }
+
+    /*
+     * Runs in the event loop. Takes a batch of messages from the queue in
+     * priority order and invokes messaging service to transmit them over the
+     * socket channel in one write. After a message which waits for its
+     * response, the remaining messages are held back until the response
+     * arrives or times out. If more messages are left, draining is scheduled
+     * again so that the other switches of the loop are served in between.
+     */
+    private void drainTransmitQueue() {
+        PriorityBlockingQueue<PriorityMessage> queue = transmitQ;
+        IMessageReadWrite service = msgReadWriteService;
+        if (!running || !registered || (queue == null) || (service == null)) {
+            return;
+        }
+        List<OFMessage> batch = new ArrayList<OFMessage>();
+        while ((transmitBarrierXid == null) && (batch.size() < TRANSMIT_BATCH_SIZE)) {
+            PriorityMessage pmsg = queue.poll();
+            if (pmsg == null) {
+                break;
+            }
+            batch.add(pmsg.msg);
+            /*
+             * If syncReply is set to true, wait for the response back.
+             */
+            if (pmsg.syncReply) {
+                holdTransmitQueue(pmsg.msg.getXid());
             }
-            transmitQ = null;
         }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            service.asyncSend(batch);
+        } catch (Exception e) {
+            reportError(e);
+            return;
+        }
+        if ((transmitBarrierXid == null) && !queue.isEmpty()) {
+            scheduleTransmit();
+        }
+    }
+
+    private void holdTransmitQueue(final int xid) {
+        transmitBarrierXid = xid;
+        transmitBarrierTimeout = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                eventLoop.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if ((transmitBarrierXid != null) && (transmitBarrierXid == xid)) {
+                            logger.warn("Timeout while waiting for {} reply", OFType.BARRIER_REQUEST);
+                            transmitBarrierXid = null;
+                            drainTransmitQueue();
+                        }
+                    }
+                });
+            }
+        }, responseTimerValue, TimeUnit.MILLISECONDS);
     }
 
     /*
-     * Setup and start the transmit thread
+     * Runs in the event loop. Resume draining of the transmit queue if it
+     * waits for the response with this xid.
      */
-    private void startTransmitThread() {
+    private void releaseTransmitQueue(int xid) {
+        if ((transmitBarrierXid != null) && (transmitBarrierXid == xid)) {
+            transmitBarrierXid = null;
+            transmitBarrierTimeout.cancel(false);
+            drainTransmitQueue();
+        }
+    }
+
+    /*
+     * Setup the transmit queue, drained by the event loop
+     */
+    private void createTransmitQueue() {
         this.transmitQ = new PriorityBlockingQueue<PriorityMessage>(11, new Comparator<PriorityMessage>() {
             @Override
             public int compare(PriorityMessage p1, PriorityMessage p2) {
@@ -798,18 +887,32 @@ public class SwitchHandler implements ISwitch {
                 }
             }
         });
-        this.transmitThread = new Thread(new PriorityMessageTransmit());
-        this.transmitThread.start();
     }
 
     /*
      * Setup communication services
      */
     private void setupCommChannel() throws Exception {
-        this.selector = SelectorProvider.provider().openSelector();
         this.socket.configureBlocking(false);
         this.socket.socket().setTcpNoDelay(true);
         this.msgReadWriteService = getMessageReadWriteService();
+        // the selector may only be registered with while it is not selecting.
+        // Nothing is written before the registration exists, otherwise the
+        // rest of a partial write could never wait for the socket to become
+        // writable
+        eventLoop.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    socket.register(eventLoop.getSelector(), SelectionKey.OP_READ, SwitchHandler.this);
+                } catch (Exception e) {
+                    reportError(e);
+                    return;
+                }
+                registered = true;
+                sendFirstHello();
+            }
+        });
     }
 
     private void sendFirstHello() {
@@ -824,7 +927,8 @@ public class SwitchHandler implements ISwitch {
     private IMessageReadWrite getMessageReadWriteService() throws Exception {
         String str = System.getProperty("secureChannelEnabled");
         return ((str != null) && (str.trim().equalsIgnoreCase("true"))) ? new SecureMessageReadWriteService(socket,
-                selector) : new MessageReadWriteService(socket, selector);
+                eventLoop.getSelector(), eventLoop.getBufferPool()) : new MessageReadWriteService(socket, eventLoop.getSelector(),
+                eventLoop.getBufferPool());
     }
 
     /**
@@ -839,8 +943,9 @@ public class SwitchHandler implements ISwitch {
 
     /**
      * Send Barrier message asynchronously. The caller is not blocked. The
-     * Barrier message will be sent in a transmit thread which will be blocked
-     * until the Barrier reply is received.
+     * Barrier message will be sent by the event loop, which holds back the
+     * remaining messages of the transmit queue until the Barrier reply is
+     * received.
      */
     @Override
     public Object asyncSendBarrierMessage() {
@@ -853,6 +958,7 @@ public class SwitchHandler implements ISwitch {
 
         barrierMsg.setXid(xid);
         transmitQ.add(new PriorityMessage(barrierMsg, 0, true));
+        scheduleTransmit();
 
         return Boolean.TRUE;
     }
@@ -900,15 +1006,8 @@ public class SwitchHandler implements ISwitch {
         messageWaitingDone.put(xid, worker);
         Object result = null;
         Boolean status = false;
-        Future<Object> submit;
         try {
-           submit = executor.submit(worker);
-        } catch (RejectedExecutionException re) {
-            messageWaitingDone.remove(xid);
-            return result;
-        }
-        try {
-            result = submit.get(responseTimerValue, TimeUnit.MILLISECONDS);
+            result = worker.call(responseTimerValue, TimeUnit.MILLISECONDS);
             messageWaitingDone.remove(xid);
             if (result == null) {
                 // if result is null, then it means the switch can handle this
@@ -929,10 +1028,10 @@ public class SwitchHandler implements ISwitch {
             return result;
         } catch (Exception e) {
             logger.warn("Timeout while waiting for {} reply", msg.getType().toString());
+            messageWaitingDone.remove(xid);
             // convert the result into a Boolean with value false
             status = false;
             result = status;
-            worker.wakeup();
             return result;
         }
     }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
+import org.openflow.protocol.OFBarrierRequest;
+import org.openflow.protocol.OFError;
+import org.openflow.protocol.OFMessage;
+
+/**
+ * This class implements synchronous send of a batch of messages to a switch.
+ * The messages are sent back to back followed by a single Barrier request.
+ * The switch answers a failed message with an OFError carrying the xid of
+ * the message, and the Barrier reply tells that all the messages sent before
+ * it have been processed. The result of each message is then known once the
+ * Barrier reply arrives, without waiting for a round trip per message.
+ */
+public class SynchronousBatch implements Callable<Object> {
+    private ISwitch sw;
+    private List<OFMessage> msgs;
+    private Integer barrierXid;
+    private CountDownLatch latch;
+    private Map<Integer, OFError> errors;
+
+    /**
+     * @param sw
+     *            the switch
+     * @param msgs
+     *            the messages, each already carrying a unique xid
+     * @param barrierXid
+     *            the xid of the Barrier request closing the batch
+     */
+    public SynchronousBatch(ISwitch sw, List<OFMessage> msgs, Integer barrierXid) {
+        this.sw = sw;
+        this.msgs = msgs;
+        this.barrierXid = barrierXid;
+        latch = new CountDownLatch(1);
+        errors = new ConcurrentHashMap<Integer, OFError>();
+    }
+
+    @Override
+    public Object call() throws Exception {
+        send();
+        latch.await();
+        return getResults(true);
+    }
+
+    /**
+     * Same as {@link #call()}, but waits for the Barrier reply in the calling
+     * thread for the given time at most.
+     *
+     * @throws TimeoutException
+     *             if the reply did not arrive in time
+     */
+    public Object call(long timeout, TimeUnit unit) throws Exception {
+        send();
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResults(true);
+    }
+
+    private void send() {
+        for (OFMessage msg : msgs) {
+            sw.asyncSend(msg, msg.getXid());
+        }
+        OFBarrierRequest barrierMsg = new OFBarrierRequest();
+        sw.asyncSend(barrierMsg, barrierXid);
+    }
+
+    public Integer getBarrierXid() {
+        return this.barrierXid;
+    }
+
+    /**
+     * Returns the outcome of each message of the batch, in order: the OFError
+     * the switch answered the message with, else Boolean true if the batch
+     * completed or Boolean false if it did not.
+     *
+     * @param completed
+     *            whether the Barrier reply has been received
+     */
+    public List<Object> getResults(boolean completed) {
+        List<Object> results = new ArrayList<Object>(msgs.size());
+        for (OFMessage msg : msgs) {
+            OFError error = errors.get(msg.getXid());
+            results.add((error != null) ? error : Boolean.valueOf(completed));
+        }
+        return results;
+    }
+
+    public void wakeup() {
+        this.latch.countDown();
+    }
+
+    /**
+     * Records the error reported for a message of the batch. An error for
+     * the Barrier request itself ends the batch.
+     */
+    public void wakeup(Integer xid, OFError e) {
+        if (barrierXid.equals(xid)) {
+            wakeup();
+        } else {
+            errors.put(xid, e);
+        }
+    }
+}
@@ -10,6 +10,8 @@ package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
 import org.openflow.protocol.OFBarrierRequest;
@@ -47,6 +49,27 @@ public class SynchronousMessage implements Callable<Object> {
 
     @Override
     public Object call() throws Exception {
+        send();
+        latch.await();
+        return result;
+    }
+
+    /**
+     * Same as {@link #call()}, but waits for the reply in the calling thread
+     * for the given time at most.
+     *
+     * @throws TimeoutException
+     *             if the reply did not arrive in time
+     */
+    public Object call(long timeout, TimeUnit unit) throws Exception {
+        send();
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return result;
+    }
+
+    private void send() {
         /*
          * Send out message only if syncRequest is set to true. Otherwise, just
          * wait for the Barrier response back.
@@ -58,8 +81,6 @@ public class SynchronousMessage implements Callable<Object> {
                 sw.asyncSend(barrierMsg, xid);
             }
         }
-        latch.await();
-        return result;
     }
 
     public Integer getXid() {
@@ -339,9 +339,6 @@ public class Activator extends ComponentActivatorAbstractBase {
                     .setService(IInventoryProvider.class)
                     .setCallbacks("setInventoryProvider",
                     "unsetInventoryProvider").setRequired(true));
-            c.add(createServiceDependency().setService(IDataPacketMux.class)
-                    .setCallbacks("setIDataPacketMux", "unsetIDataPacketMux")
-                    .setRequired(true));
             c.add(createServiceDependency()
                     .setService(IDiscoveryListener.class)
                     .setCallbacks("setDiscoveryListener",
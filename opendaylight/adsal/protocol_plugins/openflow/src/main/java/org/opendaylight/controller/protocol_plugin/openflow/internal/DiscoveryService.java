@@ -12,22 +12,20 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.eclipse.osgi.framework.console.CommandInterpreter;
 import org.eclipse.osgi.framework.console.CommandProvider;
 import org.opendaylight.controller.protocol_plugin.openflow.IDataPacketListen;
-import org.opendaylight.controller.protocol_plugin.openflow.IDataPacketMux;
 import org.opendaylight.controller.protocol_plugin.openflow.IDiscoveryListener;
 import org.opendaylight.controller.protocol_plugin.openflow.IInventoryProvider;
 import org.opendaylight.controller.protocol_plugin.openflow.IInventoryShimExternalListener;
@@ -50,12 +48,17 @@ import org.opendaylight.controller.sal.packet.LLDPTLV;
 import org.opendaylight.controller.sal.packet.LinkEncap;
 import org.opendaylight.controller.sal.packet.PacketResult;
 import org.opendaylight.controller.sal.packet.RawPacket;
+import org.opendaylight.controller.sal.packet.flyweight.PacketView;
 import org.opendaylight.controller.sal.utils.EtherTypes;
 import org.opendaylight.controller.sal.utils.HexEncode;
 import org.opendaylight.controller.sal.utils.NetUtils;
 import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
 import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.openflow.protocol.OFPacketOut;
 import org.openflow.protocol.OFPhysicalPort;
+import org.openflow.protocol.OFPort;
+import org.openflow.protocol.action.OFAction;
+import org.openflow.protocol.action.OFActionOutput;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
 import org.slf4j.Logger;
@@ -67,44 +70,41 @@ import org.slf4j.LoggerFactory;
 public class DiscoveryService implements IInventoryShimExternalListener, IDataPacketListen, IContainerListener,
         CommandProvider {
     private static Logger logger = LoggerFactory.getLogger(DiscoveryService.class);
+    private static final ThreadLocal<PacketView> packetView = new ThreadLocal<PacketView>() {
+        @Override
+        protected PacketView initialValue() {
+            return new PacketView();
+        }
+    };
     private IController controller = null;
     private IDiscoveryListener discoveryListener = null;
     private IInventoryProvider inventoryProvider = null;
-    private IDataPacketMux iDataPacketMux = null;
-    // High priority list containing newly added ports which will be served first
-    private List<NodeConnector> readyListHi = null;
-    // List containing all the ports which will be served periodically
-    private List<NodeConnector> readyListLo = null;
-    // Staging area during quiet period
-    private List<NodeConnector> stagingList = null;
-    // Wait for next discovery packet. The map contains the time elapsed since
-    // the last received LLDP frame on each node connector
-    private ConcurrentMap<NodeConnector, Integer> holdTime = null;
-    // Allow one more retry for newly added ports. This map contains the time
-    // period elapsed since last discovery pkt transmission on the port.
-    private ConcurrentMap<NodeConnector, Integer> elapsedTime = null;
+    // Ports being discovered, keyed by node connector
+    private ConcurrentMap<NodeConnector, DiscoveryPort> ports = null;
+    // Next discovery packet transmission on each port being discovered
+    private TimingWheel<NodeConnector> transmitWheel = null;
+    // Wait for next discovery packet. The wheel holds the deadline for the
+    // next LLDP frame to be received on each node connector
+    private TimingWheel<NodeConnector> holdWheel = null;
     // OpenFlow edges keyed by head connector
     private ConcurrentMap<NodeConnector, Edge> edgeMap = null;
-    // The map contains aging entry keyed by head connector of Production edge
-    private ConcurrentMap<NodeConnector, Integer> agingMap = null;
+    // The wheel holds the aging deadline keyed by head connector of Production edge
+    private TimingWheel<NodeConnector> agingWheel = null;
     // Production edges keyed by head connector
     private ConcurrentMap<NodeConnector, Edge> prodMap = null;
 
     private Timer discoveryTimer;
     private DiscoveryTimerTask discoveryTimerTask;
-    private final static long discoveryTimerTick = 2L * 1000; // per tick in msec
-    private int discoveryTimerTickCount = 0; // main tick counter
-    // Max # of ports handled in one batch
+    private final static long discoveryTimerTick = getDiscoveryTimerTick(); // per tick in msec
+    // Time given to the last discovery packet to come back before timeout, in msec
+    private final static long discoveryTimeoutSlack = 6L * 1000;
+    // Max # of ports handled in one tick
     private int discoveryBatchMaxPorts;
-    // Periodically restart batching process
-    private int discoveryBatchRestartTicks;
-    private int discoveryBatchPausePeriod = 2;
-    // Pause after this point
-    private int discoveryBatchPauseTicks;
+    private int discoveryIntervalTicks;
     private int discoveryTimeoutTicks;
     private int discoveryThresholdTicks;
     private int discoveryAgeoutTicks;
-    // multiple of discoveryBatchRestartTicks
+    // multiple of discoveryIntervalTicks
     private int discoveryConsistencyCheckMultiple = 2;
     // CC tick counter
     private int discoveryConsistencyCheckTickCount;
@@ -120,42 +120,28 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     private boolean discoverySnoopingEnabled = true;
     // The list of ports that will not do LLDP snooping
     private List<NodeConnector> discoverySnoopingDisableList;
-    private BlockingQueue<NodeConnector> transmitQ;
-    private Thread transmitThread;
     private Boolean throttling = false; // if true, no more batching.
-    private volatile Boolean shuttingDown = false;
 
-    private LLDPTLV chassisIdTlv, systemNameTlv, portIdTlv, ttlTlv, customTlv;
     private IPluginOutConnectionService connectionOutService;
 
-    class DiscoveryTransmit implements Runnable {
-        private final BlockingQueue<NodeConnector> transmitQ;
-        private int count = 0;
-
-        DiscoveryTransmit(BlockingQueue<NodeConnector> transmitQ) {
-            this.transmitQ = transmitQ;
-        }
+    /*
+     * A port being discovered. Its discovery packet is built once and sent as
+     * is every time.
+     */
+    private static class DiscoveryPort {
+        private final NodeConnector nodeConnector;
+        private final byte[] frame;
+        private final List<OFAction> actions;
+        // The first discovery packet is due at the next tick
+        private volatile boolean fast = false;
+        // The first discovery packet is sent, one more is due after the threshold
+        private volatile boolean retry = false;
 
-        @Override
-        public void run() {
-            while (true) {
-                try {
-                    NodeConnector nodeConnector = transmitQ.take();
-                    RawPacket outPkt = createDiscoveryPacket(nodeConnector);
-                    sendDiscoveryPacket(nodeConnector, outPkt);
-                    nodeConnector = null;
-                    if ((++count & 0x7f) == 0) {
-                        Thread.sleep(10);
-                    }
-                } catch (InterruptedException e1) {
-                    logger.trace("DiscoveryTransmit interupted", e1.getMessage());
-                    if (shuttingDown) {
-                        return;
-                    }
-                } catch (Exception e2) {
-                    logger.error("", e2);
-                }
-            }
+        DiscoveryPort(NodeConnector nodeConnector, byte[] frame) {
+            this.nodeConnector = nodeConnector;
+            this.frame = frame;
+            this.actions = Collections.singletonList((OFAction) new OFActionOutput().setPort((Short) nodeConnector
+                    .getID()));
         }
     }
 
@@ -201,34 +187,47 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         }
 
         private int time2Tick(int time) {
-            return (int) (time / (discoveryTimerTick / 1000));
+            return (int) (time * 1000L / discoveryTimerTick);
         }
 
         private int tick2Time(int tick) {
-            return (int) (tick * (discoveryTimerTick / 1000));
+            return (int) (tick * discoveryTimerTick / 1000);
         }
     }
 
-    private RawPacket createDiscoveryPacket(NodeConnector nodeConnector) {
+    /*
+     * Builds the discovery packet of a port. It only depends on the port, so
+     * it is built once when the port is added to discovery.
+     */
+    private byte[] createDiscoveryFrame(NodeConnector nodeConnector) {
         String nodeId = HexEncode.longToHexString((Long) nodeConnector.getNode().getID());
 
         // Create LLDP ChassisID TLV
         byte[] cidValue = LLDPTLV.createChassisIDTLVValue(nodeId);
+        LLDPTLV chassisIdTlv = new LLDPTLV();
         chassisIdTlv.setType(LLDPTLV.TLVType.ChassisID.getValue()).setLength((short) cidValue.length)
                 .setValue(cidValue);
 
         // Create LLDP SystemName TLV
         byte[] snValue = LLDPTLV.createSystemNameTLVValue(nodeConnector.getNode().toString());
+        LLDPTLV systemNameTlv = new LLDPTLV();
         systemNameTlv.setType(LLDPTLV.TLVType.SystemName.getValue()).setLength((short) snValue.length)
                 .setValue(snValue);
 
         // Create LLDP PortID TLV
         String portId = nodeConnector.getNodeConnectorIDString();
         byte[] pidValue = LLDPTLV.createPortIDTLVValue(portId);
+        LLDPTLV portIdTlv = new LLDPTLV();
         portIdTlv.setType(LLDPTLV.TLVType.PortID.getValue()).setLength((short) pidValue.length).setValue(pidValue);
 
+        // Create LLDP TTL TLV
+        byte[] ttl = new byte[] { (byte) 0, (byte) 120 };
+        LLDPTLV ttlTlv = new LLDPTLV();
+        ttlTlv.setType(LLDPTLV.TLVType.TTL.getValue()).setLength((short) ttl.length).setValue(ttl);
+
         // Create LLDP Custom TLV
         byte[] customValue = LLDPTLV.createCustomTLVValue(nodeConnector.toString());
+        LLDPTLV customTlv = new LLDPTLV();
         customTlv.setType(LLDPTLV.TLVType.Custom.getValue()).setLength((short) customValue.length)
                 .setValue(customValue);
 
@@ -241,7 +240,6 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         discoveryPkt.setChassisId(chassisIdTlv).setPortId(portIdTlv).setTtl(ttlTlv).setSystemNameId(systemNameTlv)
                 .setOptionalTLVList(customList);
 
-        RawPacket rawPkt = null;
         try {
             // Create ethernet pkt
             byte[] sourceMac = getSourceMACFromNodeID(nodeId);
@@ -249,35 +247,34 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             ethPkt.setSourceMACAddress(sourceMac).setDestinationMACAddress(LLDP.LLDPMulticastMac)
                     .setEtherType(EtherTypes.LLDP.shortValue()).setPayload(discoveryPkt);
 
-            byte[] data = ethPkt.serialize();
-            rawPkt = new RawPacket(data);
-            rawPkt.setOutgoingNodeConnector(nodeConnector);
-        } catch (ConstructionException cex) {
-            logger.warn("RawPacket creation caught exception {}", cex.getMessage());
+            return ethPkt.serialize();
         } catch (Exception e) {
             logger.error("Failed to serialize the LLDP packet: " + e);
         }
 
-        return rawPkt;
+        return null;
     }
 
-    private void sendDiscoveryPacket(NodeConnector nodeConnector, RawPacket outPkt) {
-        if (nodeConnector == null) {
-            logger.debug("Can not send discovery packet out since nodeConnector is null");
-            return;
-        }
-
-        if (!connectionOutService.isLocal(nodeConnector.getNode())) {
-            logger.debug("Discoery packets will not be sent to {} in a non-master controller", nodeConnector.toString());
-            return;
-        }
+    private OFPacketOut createPacketOut(DiscoveryPort port) {
+        OFPacketOut po = new OFPacketOut().setBufferId(OFPacketOut.BUFFER_ID_NONE).setActions(port.actions)
+                .setActionsLength((short) OFActionOutput.MINIMUM_LENGTH);
+        po.setInPort(OFPort.OFPP_NONE);
+        po.setLengthU(OFPacketOut.MINIMUM_LENGTH + po.getActionsLength() + port.frame.length);
+        po.setPacketData(port.frame);
+        return po;
+    }
 
-        if (outPkt == null) {
-            logger.debug("Can not send discovery packet out since outPkt is null");
+    /*
+     * Queues the discovery packets of the ports of one switch together, so
+     * that they go out to the switch in one write
+     */
+    private void sendDiscoveryPackets(Node node, List<DiscoveryPort> batch) {
+        if (!connectionOutService.isLocal(node)) {
+            logger.debug("Discovery packets will not be sent to {} in a non-master controller", node);
             return;
         }
 
-        long sid = (Long) nodeConnector.getNode().getID();
+        long sid = (Long) node.getID();
         ISwitch sw = controller.getSwitches().get(sid);
 
         if (sw == null) {
@@ -290,13 +287,14 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             return;
         }
 
-        if (this.iDataPacketMux == null) {
-            logger.debug("Can not send discovery packet out since DataPacket service is not available");
-            return;
+        for (DiscoveryPort port : batch) {
+            if (port.frame == null) {
+                logger.debug("Can not send discovery packet out since the packet of {} is null", port.nodeConnector);
+                continue;
+            }
+            logger.trace("Sending topology discovery pkt thru {}", port.nodeConnector);
+            sw.asyncSend(createPacketOut(port));
         }
-
-        logger.trace("Sending topology discovery pkt thru {}", nodeConnector);
-        this.iDataPacketMux.transmitDataPacket(outPkt);
     }
 
     @Override
@@ -317,6 +315,11 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             return PacketResult.IGNORED;
         }
 
+        // all packets are seen here, only LLDP ones are worth decoding
+        if (packetView.get().wrap(data).getLLDP() == null) {
+            return PacketResult.IGNORED;
+        }
+
         NodeConnector nodeConnector = inPkt.getIncomingNodeConnector();
         if (((Short) nodeConnector.getID()).equals(NodeConnector.SPECIALNODECONNECTORID)) {
             logger.trace("Ignoring ethernet packet received on special port: "
@@ -502,54 +505,49 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     }
 
     private boolean isTracked(NodeConnector nodeConnector) {
-        if (readyListHi.contains(nodeConnector)) {
-            return true;
-        }
-
-        if (readyListLo.contains(nodeConnector)) {
-            return true;
-        }
-
-        if (holdTime.keySet().contains(nodeConnector)) {
-            return true;
-        }
+        return ports.containsKey(nodeConnector);
+    }
 
-        if (stagingList.contains(nodeConnector)) {
-            return true;
+    private DiscoveryPort getPort(NodeConnector nodeConnector) {
+        DiscoveryPort port = ports.get(nodeConnector);
+        if (port == null) {
+            port = new DiscoveryPort(nodeConnector, createDiscoveryFrame(nodeConnector));
+            DiscoveryPort oldPort = ports.putIfAbsent(nodeConnector, port);
+            if (oldPort != null) {
+                port = oldPort;
+            }
         }
-
-        return false;
+        return port;
     }
 
-    private Set<NodeConnector> getWorkingSet() {
-        Set<NodeConnector> workingSet = new HashSet<NodeConnector>();
-        Set<NodeConnector> removeSet = new HashSet<NodeConnector>();
-
-        for (NodeConnector nodeConnector : readyListHi) {
-            if (isOverLimit(workingSet.size())) {
-                break;
+    /*
+     * Sends a discovery packet out of the port at the next tick, and one more
+     * after the threshold unless an edge is discovered from the port in the
+     * meantime. A port waiting for its retry is left alone unless restart is
+     * set.
+     */
+    private void addFastDiscovery(NodeConnector nodeConnector, boolean restart) {
+        DiscoveryPort port = getPort(nodeConnector);
+        synchronized (port) {
+            if (port.fast || (port.retry && !restart)) {
+                return;
             }
-
-            workingSet.add(nodeConnector);
-            removeSet.add(nodeConnector);
-
-            // Put it in the map and start the timer. It may need retry.
-            elapsedTime.put(nodeConnector, 0);
+            port.fast = true;
+            port.retry = false;
+            transmitWheel.schedule(nodeConnector, 1);
         }
-        readyListHi.removeAll(removeSet);
+    }
 
-        removeSet.clear();
-        for (NodeConnector nodeConnector : readyListLo) {
-            if (isOverLimit(workingSet.size())) {
-                break;
+    /*
+     * Sends discovery packets out of the port every discovery interval
+     */
+    private void addPeriodicDiscovery(NodeConnector nodeConnector) {
+        DiscoveryPort port = getPort(nodeConnector);
+        synchronized (port) {
+            if (!transmitWheel.contains(nodeConnector)) {
+                transmitWheel.schedule(nodeConnector, discoveryIntervalTicks);
             }
-
-            workingSet.add(nodeConnector);
-            removeSet.add(nodeConnector);
         }
-        readyListLo.removeAll(removeSet);
-
-        return workingSet;
     }
 
     private Boolean isOverLimit(int size) {
@@ -578,9 +576,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         List<OFPhysicalPort> ports = sw.getEnabledPorts();
         for (OFPhysicalPort port : ports) {
             NodeConnector nodeConnector = NodeConnectorCreator.createOFNodeConnector(port.getPortNumber(), node);
-            if (!readyListHi.contains(nodeConnector)) {
-                readyListHi.add(nodeConnector);
-            }
+            addFastDiscovery(nodeConnector, true);
         }
     }
 
@@ -589,15 +585,13 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             return;
         }
 
-        readyListHi.add(nodeConnector);
+        addFastDiscovery(nodeConnector, true);
     }
 
     private void removeNodeConnector(NodeConnector nodeConnector) {
-        readyListLo.remove(nodeConnector);
-        readyListHi.remove(nodeConnector);
-        stagingList.remove(nodeConnector);
-        holdTime.remove(nodeConnector);
-        elapsedTime.remove(nodeConnector);
+        ports.remove(nodeConnector);
+        transmitWheel.cancel(nodeConnector);
+        holdWheel.cancel(nodeConnector);
     }
 
     private Set<NodeConnector> getRemoveSet(Collection<NodeConnector> c, Node node) {
@@ -639,23 +633,9 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             removeProdEdge(nodeConnector);
         }
 
-        removeSet = getRemoveSet(readyListHi, node);
-        readyListHi.removeAll(removeSet);
-
-        removeSet = getRemoveSet(readyListLo, node);
-        readyListLo.removeAll(removeSet);
-
-        removeSet = getRemoveSet(stagingList, node);
-        stagingList.removeAll(removeSet);
-
-        removeSet = getRemoveSet(holdTime.keySet(), node);
-        for (NodeConnector nodeConnector : removeSet) {
-            holdTime.remove(nodeConnector);
-        }
-
-        removeSet = getRemoveSet(elapsedTime.keySet(), node);
+        removeSet = getRemoveSet(ports.keySet(), node);
         for (NodeConnector nodeConnector : removeSet) {
-            elapsedTime.remove(nodeConnector);
+            removeNodeConnector(nodeConnector);
         }
     }
 
@@ -666,92 +646,71 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     }
 
     private void checkTimeout() {
-        Set<NodeConnector> removeSet = new HashSet<NodeConnector>();
-        int ticks;
-
-        Set<NodeConnector> monitorSet = holdTime.keySet();
-        if (monitorSet != null) {
-            for (NodeConnector nodeConnector : monitorSet) {
-                ticks = holdTime.get(nodeConnector);
-                holdTime.put(nodeConnector, ++ticks);
-                if (ticks >= discoveryTimeoutTicks) {
-                    // timeout the edge
-                    removeSet.add(nodeConnector);
-                    logger.trace("Discovery timeout {}", nodeConnector);
-                }
-            }
-        }
-
-        for (NodeConnector nodeConnector : removeSet) {
+        for (NodeConnector nodeConnector : holdWheel.advance()) {
+            // timeout the edge
+            logger.trace("Discovery timeout {}", nodeConnector);
             removeEdge(nodeConnector);
         }
-
-        Set<NodeConnector> retrySet = new HashSet<NodeConnector>();
-        Set<NodeConnector> ncSet = elapsedTime.keySet();
-        if ((ncSet != null) && (ncSet.size() > 0)) {
-            for (NodeConnector nodeConnector : ncSet) {
-                ticks = elapsedTime.get(nodeConnector);
-                elapsedTime.put(nodeConnector, ++ticks);
-                if (ticks >= discoveryThresholdTicks) {
-                    retrySet.add(nodeConnector);
-                }
-            }
-
-            for (NodeConnector nodeConnector : retrySet) {
-                // Allow one more retry
-                elapsedTime.remove(nodeConnector);
-                if (connectionOutService.isLocal(nodeConnector.getNode())) {
-                    transmitQ.add(nodeConnector);
-                }
-            }
-        }
     }
 
     private void checkAging() {
+        // The aging wheel stands still while aging is disabled
         if (!discoveryAgingEnabled) {
             return;
         }
 
-        Set<NodeConnector> removeSet = new HashSet<NodeConnector>();
-        int ticks;
-
-        Set<NodeConnector> agingSet = agingMap.keySet();
-        if (agingSet != null) {
-            for (NodeConnector nodeConnector : agingSet) {
-                ticks = agingMap.get(nodeConnector);
-                agingMap.put(nodeConnector, ++ticks);
-                if (ticks > discoveryAgeoutTicks) {
-                    // age out the edge
-                    removeSet.add(nodeConnector);
-                    logger.trace("Discovery age out {}", nodeConnector);
-                }
-            }
-        }
-
-        for (NodeConnector nodeConnector : removeSet) {
+        for (NodeConnector nodeConnector : agingWheel.advance()) {
+            // age out the edge
+            logger.trace("Discovery age out {}", nodeConnector);
             removeProdEdge(nodeConnector);
         }
     }
 
+    /*
+     * Sends the discovery packets due at this tick, grouped by switch. Only
+     * the ports due are looked at.
+     */
     private void doDiscovery() {
-        if (++discoveryTimerTickCount <= discoveryBatchPauseTicks) {
-            for (NodeConnector nodeConnector : getWorkingSet()) {
-                if (connectionOutService.isLocal(nodeConnector.getNode())) {
-                    transmitQ.add(nodeConnector);
-                    // Move to staging area after it's served
-                    if (!stagingList.contains(nodeConnector)) {
-                        stagingList.add(nodeConnector);
-                    }
-                }
+        Map<Node, List<DiscoveryPort>> batches = new HashMap<Node, List<DiscoveryPort>>();
+        int count = 0;
+        for (NodeConnector nodeConnector : transmitWheel.advance()) {
+            DiscoveryPort port = ports.get(nodeConnector);
+            if (port == null) {
+                continue;
             }
-        } else if (discoveryTimerTickCount >= discoveryBatchRestartTicks) {
-            discoveryTimerTickCount = 0;
-            for (NodeConnector nodeConnector : stagingList) {
-                if (!readyListLo.contains(nodeConnector)) {
-                    readyListLo.add(nodeConnector);
+            synchronized (port) {
+                if (transmitWheel.contains(nodeConnector)) {
+                    // rescheduled in the meantime
+                    continue;
+                }
+                if (isOverLimit(count)) {
+                    // Leave it to the next tick
+                    transmitWheel.schedule(nodeConnector, 1);
+                    continue;
+                }
+                if (port.fast) {
+                    // Allow one more retry
+                    port.fast = false;
+                    port.retry = true;
+                    transmitWheel.schedule(nodeConnector, discoveryThresholdTicks);
+                } else {
+                    port.retry = false;
+                    transmitWheel.schedule(nodeConnector, discoveryIntervalTicks);
                 }
             }
-            stagingList.removeAll(readyListLo);
+            count++;
+
+            Node node = nodeConnector.getNode();
+            List<DiscoveryPort> batch = batches.get(node);
+            if (batch == null) {
+                batch = new ArrayList<DiscoveryPort>();
+                batches.put(node, batch);
+            }
+            batch.add(port);
+        }
+
+        for (Map.Entry<Node, List<DiscoveryPort>> entry : batches.entrySet()) {
+            sendDiscoveryPackets(entry.getKey(), entry.getValue());
         }
     }
 
@@ -780,7 +739,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             }
 
             if (!isTracked(nodeConnector)) {
-                stagingList.add(nodeConnector);
+                addPeriodicDiscovery(nodeConnector);
                 discoveryConsistencyCheckCorrected++;
                 logger.debug("ConsistencyChecker: add back untracked {}", nodeConnector);
                 continue;
@@ -791,16 +750,19 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             removeEdge(nodeConnector, false);
         }
 
-        // remove stale entries
+        // remove stale entries, leaving alone the ports just added
         removeSet.clear();
-        for (NodeConnector nodeConnector : stagingList) {
-            if (!isEnabled(nodeConnector)) {
-                removeSet.add(nodeConnector);
+        for (Map.Entry<NodeConnector, DiscoveryPort> entry : ports.entrySet()) {
+            DiscoveryPort port = entry.getValue();
+            if (!port.fast && !port.retry && !isEnabled(entry.getKey())) {
+                removeSet.add(entry.getKey());
                 discoveryConsistencyCheckCorrected++;
-                logger.debug("ConsistencyChecker: remove disabled {}", nodeConnector);
+                logger.debug("ConsistencyChecker: remove disabled {}", entry.getKey());
             }
         }
-        stagingList.removeAll(removeSet);
+        for (NodeConnector nodeConnector : removeSet) {
+            removeNodeConnector(nodeConnector);
+        }
 
         // Get a snapshot of all the existing switches
         Map<Long, ISwitch> switches = this.controller.getSwitches();
@@ -809,7 +771,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
                 Node node = NodeCreator.createOFNode(sw.getId());
                 NodeConnector nodeConnector = NodeConnectorCreator.createOFNodeConnector(port.getPortNumber(), node);
                 if (!isTracked(nodeConnector)) {
-                    stagingList.add(nodeConnector);
+                    addPeriodicDiscovery(nodeConnector);
                     discoveryConsistencyCheckCorrected++;
                     logger.debug("ConsistencyChecker: add back untracked {}", nodeConnector);
                 }
@@ -825,15 +787,25 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         NodeConnector src = edge.getTailNodeConnector();
         NodeConnector dst = edge.getHeadNodeConnector();
         if (!src.getType().equals(NodeConnector.NodeConnectorIDType.PRODUCTION)) {
-            holdTime.put(dst, 0);
+            holdWheel.schedule(dst, discoveryTimeoutTicks);
         } else {
-            agingMap.put(dst, 0);
+            agingWheel.schedule(dst, discoveryAgeoutTicks);
+        }
+
+        // no retry once the edge from the port is discovered
+        DiscoveryPort port = ports.get(src);
+        if (port != null) {
+            synchronized (port) {
+                if (port.retry) {
+                    port.retry = false;
+                    transmitWheel.schedule(src, discoveryIntervalTicks);
+                }
+            }
         }
-        elapsedTime.remove(src);
 
         // fast discovery of the edge in reverse direction
-        if (!edgeMap.containsKey(dst) && !readyListHi.contains(dst) && !elapsedTime.keySet().contains(dst)) {
-            moveToReadyListHi(dst);
+        if (!edgeMap.containsKey(dst)) {
+            addFastDiscovery(dst, false);
         }
 
         //checking only OF map, since production edge discovery always overwrites any existing edge
@@ -873,7 +845,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         } else {
             /* o/w, just reset the aging timer */
             NodeConnector dst = edge.getHeadNodeConnector();
-            agingMap.put(dst, 0);
+            agingWheel.schedule(dst, discoveryAgeoutTicks);
         }
     }
 
@@ -884,7 +856,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
      *            The OF edge port
      */
     private void removeProdEdge(NodeConnector edgePort) {
-        agingMap.remove(edgePort);
+        agingWheel.cancel(edgePort);
 
         Edge edge = null;
         Set<NodeConnector> prodKeySet = prodMap.keySet();
@@ -912,7 +884,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
 
         if (stillEnabled) {
             // keep discovering
-            stagingList.add(nodeConnector);
+            addPeriodicDiscovery(nodeConnector);
         }
 
         Edge edge = null;
@@ -960,31 +932,23 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         }
     }
 
-    private void moveToReadyListHi(NodeConnector nodeConnector) {
-        if (readyListLo.contains(nodeConnector)) {
-            readyListLo.remove(nodeConnector);
-        } else if (stagingList.contains(nodeConnector)) {
-            stagingList.remove(nodeConnector);
-        }
-        readyListHi.add(nodeConnector);
-    }
-
     private void registerWithOSGIConsole() {
         BundleContext bundleContext = FrameworkUtil.getBundle(this.getClass()).getBundleContext();
         bundleContext.registerService(CommandProvider.class.getName(), this, null);
     }
 
     private int getDiscoveryConsistencyCheckInterval() {
-        return discoveryConsistencyCheckMultiple * discoveryBatchRestartTicks;
+        return discoveryConsistencyCheckMultiple * discoveryIntervalTicks;
     }
 
     @Override
     public String getHelp() {
         StringBuffer help = new StringBuffer();
         help.append("---Topology Discovery---\n");
-        help.append("\t prlh                            - Print readyListHi entries\n");
-        help.append("\t prll                            - Print readyListLo entries\n");
-        help.append("\t psl                             - Print stagingList entries\n");
+        help.append("\t pdp                             - Print discovery ports\n");
+        help.append("\t prlh                            - Print ports waiting for their first discovery packet\n");
+        help.append("\t prll                            - Print ports sending discovery packets periodically\n");
+        help.append("\t psl                             - Print ports waiting for their retry\n");
         help.append("\t pht                             - Print hold time\n");
         help.append("\t pet                             - Print elapsed time\n");
         help.append("\t ptick                           - Print tick time in msec\n");
@@ -995,7 +959,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         help.append("\t dcc                             - Disable CC\n");
         help.append("\t scc [multiple]                  - Set/show CC multiple and interval\n");
         help.append("\t sports [ports]                  - Set/show max ports per batch\n");
-        help.append("\t spause [ticks]                  - Set/show pause period\n");
+        help.append("\t spause                          - No longer applies, ports are sent at their own deadline\n");
         help.append("\t sdi [ticks]                     - Set/show discovery interval in ticks\n");
         help.append("\t addsw <swid>                    - Add a switch\n");
         help.append("\t remsw <swid>                    - Remove a switch\n");
@@ -1027,54 +991,71 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         return sortedNodeConnectors;
     }
 
-    public void _prlh(CommandInterpreter ci) {
-        ci.println("readyListHi\n");
-        for (NodeConnector nodeConnector : sortList(readyListHi)) {
-            if (nodeConnector == null) {
+    public void _pdp(CommandInterpreter ci) {
+        ci.println("          NodeConnector            Next tx LLDP (msec)");
+        for (NodeConnector nodeConnector : sortList(ports.keySet())) {
+            DiscoveryPort port = ports.get(nodeConnector);
+            long remaining = transmitWheel.getRemaining(nodeConnector);
+            if ((port == null) || (remaining < 0)) {
                 continue;
             }
-            ci.println(nodeConnector);
+            String phase = port.fast ? "\tfirst" : (port.retry ? "\tretry" : "");
+            ci.println(nodeConnector + "\t\t" + remaining * discoveryTimerTick + phase);
         }
-        ci.println("Total number of Node Connectors: " + readyListHi.size());
+        ci.println("\nSize: " + ports.size() + "\tInterval: " + discoveryIntervalTicks * discoveryTimerTick + " msec");
     }
 
-    public void _prll(CommandInterpreter ci) {
-        ci.println("readyListLo\n");
-        for (NodeConnector nodeConnector : sortList(readyListLo)) {
-            if (nodeConnector == null) {
-                continue;
+    /*
+     * Prints the ports in one phase of discovery. The lists printed by these
+     * commands used to be readyListHi, readyListLo and stagingList.
+     */
+    private void printPorts(CommandInterpreter ci, String title, boolean fast, boolean retry) {
+        ci.println(title + "\n");
+        int size = 0;
+        for (NodeConnector nodeConnector : sortList(ports.keySet())) {
+            DiscoveryPort port = ports.get(nodeConnector);
+            if ((port != null) && (port.fast == fast) && (port.retry == retry)) {
+                ci.println(nodeConnector);
+                size++;
             }
-            ci.println(nodeConnector);
         }
-        ci.println("Total number of Node Connectors: " + readyListLo.size());
+        ci.println("Total number of Node Connectors: " + size);
+    }
+
+    public void _prlh(CommandInterpreter ci) {
+        printPorts(ci, "Ports waiting for their first discovery packet", true, false);
+    }
+
+    public void _prll(CommandInterpreter ci) {
+        printPorts(ci, "Ports sending discovery packets periodically", false, false);
     }
 
     public void _psl(CommandInterpreter ci) {
-        ci.println("stagingList\n");
-        for (NodeConnector nodeConnector : sortList(stagingList)) {
-            if (nodeConnector == null) {
-                continue;
-            }
-            ci.println(nodeConnector);
-        }
-        ci.println("Total number of Node Connectors: " + stagingList.size());
+        printPorts(ci, "Ports waiting for their retry", false, true);
     }
 
     public void _pht(CommandInterpreter ci) {
-        ci.println("          NodeConnector            Last rx LLDP (sec)");
-        for (ConcurrentMap.Entry<NodeConnector, Integer> entry: holdTime.entrySet()) {
-            ci.println(entry.getKey() + "\t\t" + entry.getValue() * (discoveryTimerTick / 1000));
+        ci.println("          NodeConnector            Last rx LLDP (msec)");
+        for (NodeConnector nodeConnector : sortList(edgeMap.keySet())) {
+            long remaining = holdWheel.getRemaining(nodeConnector);
+            if (remaining >= 0) {
+                ci.println(nodeConnector + "\t\t" + (discoveryTimeoutTicks - remaining) * discoveryTimerTick);
+            }
         }
-        ci.println("\nSize: " + holdTime.size() + "\tTimeout: " + discoveryTimeoutTicks * (discoveryTimerTick / 1000)
-                + " sec");
+        ci.println("\nSize: " + holdWheel.size() + "\tTimeout: " + discoveryTimeoutTicks * discoveryTimerTick + " msec");
     }
 
     public void _pet(CommandInterpreter ci) {
-        ci.println("          NodeConnector            Elapsed Time (sec)");
-        for (ConcurrentMap.Entry<NodeConnector, Integer> entry: elapsedTime.entrySet()) {
-            ci.println(entry.getKey() + "\t\t" + entry.getValue() * (discoveryTimerTick / 1000));
+        ci.println("          NodeConnector            Elapsed Time (msec)");
+        int size = 0;
+        for (Map.Entry<NodeConnector, DiscoveryPort> entry : ports.entrySet()) {
+            long remaining = transmitWheel.getRemaining(entry.getKey());
+            if (entry.getValue().retry && (remaining >= 0)) {
+                ci.println(entry.getKey() + "\t\t" + (discoveryThresholdTicks - remaining) * discoveryTimerTick);
+                size++;
+            }
         }
-        ci.println("\nSize: " + elapsedTime.size() + "\tThreshold: " + DiscoveryPeriod.THRESHOLD.getTime() + " sec");
+        ci.println("\nSize: " + size + "\tThreshold: " + DiscoveryPeriod.THRESHOLD.getTime() + " sec");
     }
 
     public void _ptick(CommandInterpreter ci) {
@@ -1094,14 +1075,13 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     }
 
     public void _ptm(CommandInterpreter ci) {
-        ci.println("Timeout " + discoveryTimeoutTicks + " ticks, " + discoveryTimerTick / 1000 + " sec per tick.");
+        ci.println("Timeout " + discoveryTimeoutTicks + " ticks, " + discoveryTimerTick + " msec per tick.");
     }
 
     public void _psize(CommandInterpreter ci) {
-        ci.println("readyListLo size " + readyListLo.size() + "\n" + "readyListHi size " + readyListHi.size() + "\n"
-                + "stagingList size " + stagingList.size() + "\n" + "holdTime size " + holdTime.size() + "\n"
-                + "edgeMap size " + edgeMap.size() + "\n" + "prodMap size " + prodMap.size() + "\n" + "agingMap size "
-                + agingMap.size() + "\n" + "elapsedTime size " + elapsedTime.size());
+        ci.println("ports size " + ports.size() + "\n" + "transmitWheel size " + transmitWheel.size() + "\n"
+                + "holdWheel size " + holdWheel.size() + "\n" + "edgeMap size " + edgeMap.size() + "\n"
+                + "prodMap size " + prodMap.size() + "\n" + "agingWheel size " + agingWheel.size());
     }
 
     public void _page(CommandInterpreter ci) {
@@ -1118,9 +1098,9 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             return;
         }
         for (Edge edge : prodSet) {
-            Integer aging = agingMap.get(edge.getHeadNodeConnector());
-            if (aging != null) {
-                ci.println(edge + "      " + aging);
+            long remaining = agingWheel.getRemaining(edge.getHeadNodeConnector());
+            if (remaining >= 0) {
+                ci.println(edge + "      " + (discoveryAgeoutTicks - remaining));
             }
         }
         ci.println("\n");
@@ -1244,46 +1224,25 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     }
 
     public void _spause(CommandInterpreter ci) {
-        String val = ci.nextArgument();
-        String out = "Please enter pause period less than " + discoveryBatchRestartTicks + ". Current pause period is "
-                + discoveryBatchPausePeriod + " ticks, pause at " + discoveryBatchPauseTicks + " ticks, "
-                + discoveryTimerTick / 1000 + " sec per tick.";
-
-        if (val != null) {
-            try {
-                int pause = Integer.parseInt(val);
-                if (pause < discoveryBatchRestartTicks) {
-                    discoveryBatchPausePeriod = pause;
-                    discoveryBatchPauseTicks = getDiscoveryPauseInterval();
-                    return;
-                }
-            } catch (Exception e) {
-            }
-        }
-
-        ci.println(out);
+        ci.println("Discovery no longer pauses between batches. Each port is sent at its own deadline, at most "
+                + discoveryBatchMaxPorts + " ports per tick of " + discoveryTimerTick + " msec, see sports.");
     }
 
     public void _sdi(CommandInterpreter ci) {
         String val = ci.nextArgument();
-        String out = "Please enter discovery interval in ticks. Current value is " + discoveryBatchRestartTicks + " ticks, "
-                + discoveryTimerTick / 1000 + " sec per tick.";
+        String out = "Please enter discovery interval in ticks. Current value is " + discoveryIntervalTicks + " ticks, "
+                + discoveryTimerTick + " msec per tick.";
 
         if (val != null) {
             try {
-                int ticks;
-                Set<NodeConnector> monitorSet = holdTime.keySet();
-                if (monitorSet != null) {
-                    for (NodeConnector nodeConnector : monitorSet) {
-                        holdTime.put(nodeConnector, 0);
+                DiscoveryPeriod.INTERVAL.setTick(Integer.parseInt(val));
+                discoveryIntervalTicks = DiscoveryPeriod.INTERVAL.getTick();
+                discoveryTimeoutTicks = getDiscoveryTimeout();
+                for (NodeConnector nodeConnector : edgeMap.keySet()) {
+                    if (holdWheel.contains(nodeConnector)) {
+                        holdWheel.schedule(nodeConnector, discoveryTimeoutTicks);
                     }
                 }
-
-                ticks = Integer.parseInt(val);
-                DiscoveryPeriod.INTERVAL.setTick(ticks);
-                discoveryBatchRestartTicks = getDiscoveryInterval();
-                discoveryBatchPauseTicks = getDiscoveryPauseInterval();
-                discoveryTimeoutTicks = getDiscoveryTimeout();
                 return;
             } catch (Exception e) {
             }
@@ -1441,16 +1400,6 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         this.inventoryProvider = null;
     }
 
-    public void setIDataPacketMux(IDataPacketMux service) {
-        this.iDataPacketMux = service;
-    }
-
-    public void unsetIDataPacketMux(IDataPacketMux service) {
-        if (this.iDataPacketMux == service) {
-            this.iDataPacketMux = null;
-        }
-    }
-
     void setDiscoveryListener(IDiscoveryListener s) {
         this.discoveryListener = s;
     }
@@ -1471,27 +1420,6 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         }
     }
 
-    private void initDiscoveryPacket() {
-        // Create LLDP ChassisID TLV
-        chassisIdTlv = new LLDPTLV();
-        chassisIdTlv.setType(LLDPTLV.TLVType.ChassisID.getValue());
-
-        // Create LLDP SystemName TLV
-        systemNameTlv = new LLDPTLV();
-        systemNameTlv.setType(LLDPTLV.TLVType.SystemName.getValue());
-
-        // Create LLDP PortID TLV
-        portIdTlv = new LLDPTLV();
-        portIdTlv.setType(LLDPTLV.TLVType.PortID.getValue());
-
-        // Create LLDP TTL TLV
-        byte[] ttl = new byte[] { (byte) 0, (byte) 120 };
-        ttlTlv = new LLDPTLV();
-        ttlTlv.setType(LLDPTLV.TLVType.TTL.getValue()).setLength((short) ttl.length).setValue(ttl);
-
-        customTlv = new LLDPTLV();
-    }
-
     /**
      * Function called by the dependency manager when all the required
      * dependencies are satisfied
@@ -1500,34 +1428,24 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     void init() {
         logger.trace("Init called");
 
-        transmitQ = new LinkedBlockingQueue<NodeConnector>();
-
-        readyListHi = new CopyOnWriteArrayList<NodeConnector>();
-        readyListLo = new CopyOnWriteArrayList<NodeConnector>();
-        stagingList = new CopyOnWriteArrayList<NodeConnector>();
-        holdTime = new ConcurrentHashMap<NodeConnector, Integer>();
-        elapsedTime = new ConcurrentHashMap<NodeConnector, Integer>();
+        ports = new ConcurrentHashMap<NodeConnector, DiscoveryPort>();
         edgeMap = new ConcurrentHashMap<NodeConnector, Edge>();
-        agingMap = new ConcurrentHashMap<NodeConnector, Integer>();
         prodMap = new ConcurrentHashMap<NodeConnector, Edge>();
         discoverySnoopingDisableList = new CopyOnWriteArrayList<NodeConnector>();
 
-        discoveryBatchRestartTicks = getDiscoveryInterval();
-        discoveryBatchPauseTicks = getDiscoveryPauseInterval();
+        discoveryIntervalTicks = getDiscoveryInterval();
         discoveryTimeoutTicks = getDiscoveryTimeout();
         discoveryThresholdTicks = getDiscoveryThreshold();
         discoveryAgeoutTicks = getDiscoveryAgeout();
-        discoveryConsistencyCheckTickCount = discoveryBatchPauseTicks;
         discoveryBatchMaxPorts = getDiscoveryBatchMaxPorts();
 
+        // Size the wheels so that all the deadlines found in a slot are due
+        transmitWheel = new TimingWheel<NodeConnector>(Math.max(discoveryIntervalTicks, discoveryThresholdTicks));
+        holdWheel = new TimingWheel<NodeConnector>(discoveryTimeoutTicks);
+        agingWheel = new TimingWheel<NodeConnector>(discoveryAgeoutTicks);
+
         discoveryTimer = new Timer("DiscoveryService");
         discoveryTimerTask = new DiscoveryTimerTask();
-
-        transmitThread = new Thread(new DiscoveryTransmit(transmitQ));
-
-        initDiscoveryPacket();
-
-        registerWithOSGIConsole();
     }
 
     /**
@@ -1537,17 +1455,14 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
      *
      */
     void destroy() {
-        transmitQ = null;
-        readyListHi = null;
-        readyListLo = null;
-        stagingList = null;
-        holdTime = null;
+        ports = null;
+        transmitWheel = null;
+        holdWheel = null;
         edgeMap = null;
-        agingMap = null;
+        agingWheel = null;
         prodMap = null;
         discoveryTimer = null;
         discoveryTimerTask = null;
-        transmitThread = null;
     }
 
     /**
@@ -1557,7 +1472,9 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
      */
     void start() {
         discoveryTimer.schedule(discoveryTimerTask, discoveryTimerTick, discoveryTimerTick);
-        transmitThread.start();
+
+        // OSGI console
+        registerWithOSGIConsole();
     }
 
     /**
@@ -1575,9 +1492,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
      *
      */
     void stop() {
-        shuttingDown = true;
         discoveryTimer.cancel();
-        transmitThread.interrupt();
     }
 
     @Override
@@ -1593,7 +1508,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
     public void nodeConnectorUpdated(String containerName, NodeConnector p, UpdateType t) {
         switch (t) {
         case ADDED:
-            moveToReadyListHi(p);
+            addFastDiscovery(p, true);
             break;
         default:
             break;
@@ -1617,6 +1532,27 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         return sourceMac;
     }
 
+    /**
+     * This method returns the discovery timer tick. Newly added ports get
+     * their first discovery packet within a tick, so the tick bounds the time
+     * taken to discover a new link.
+     *
+     * @return The discovery timer tick in msec
+     */
+    private static long getDiscoveryTimerTick() {
+        String val = System.getProperty("of.discoveryTick");
+        long tick = 100;
+
+        if (val != null) {
+            try {
+                tick = Long.parseLong(val);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid of.discoveryTick: {} use default({})", val, tick);
+            }
+        }
+        return Math.max(tick, 10);
+    }
+
     private int getDiscoveryTicks(DiscoveryPeriod dp, String val) {
         if (dp == null) {
             return 0;
@@ -1658,7 +1594,7 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
             } catch (Exception e) {
             }
         }
-        return getDiscoveryInterval() * multiple + 3;
+        return discoveryIntervalTicks * multiple + (int) (discoveryTimeoutSlack / discoveryTimerTick);
     }
 
     /**
@@ -1680,22 +1616,9 @@ public class DiscoveryService implements IInventoryShimExternalListener, IDataPa
         return getDiscoveryTicks(DiscoveryPeriod.AGEOUT, null);
     }
 
-    /**
-     * This method returns the pause interval
-     *
-     * @return The pause interval in ticks
-     */
-    private int getDiscoveryPauseInterval() {
-        if (discoveryBatchRestartTicks > discoveryBatchPausePeriod) {
-            return discoveryBatchRestartTicks - discoveryBatchPausePeriod;
-        } else {
-            return discoveryBatchRestartTicks - 1;
-        }
-    }
-
     /**
      * This method returns the user configurable maximum number of ports handled
-     * in one discovery batch.
+     * in one discovery tick.
      *
      * @return The maximum number of ports
      */
@@ -11,6 +11,7 @@ package org.opendaylight.controller.protocol_plugin.openflow.internal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +34,7 @@ import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.core.Property;
 import org.opendaylight.controller.sal.core.UpdateType;
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
 import org.opendaylight.controller.sal.flowprogrammer.IPluginInFlowProgrammerService;
 import org.opendaylight.controller.sal.match.Match;
 import org.opendaylight.controller.sal.match.MatchType;
@@ -219,6 +221,119 @@ public class FlowProgrammerService implements IPluginInFlowProgrammerService,
         return removeFlowInternal(node, flow, rid);
     }
 
+    @Override
+    public List<Status> updateFlows(Node node, List<FlowUpdate> updates) {
+        List<Status> rv = new ArrayList<Status>(updates.size());
+        Status failure = null;
+        if (!connectionOutService.isLocal(node)) {
+            log.debug("Update flows will not be processed in a non-master controller for node " + node);
+            failure = new Status(StatusCode.NOTALLOWED, "This is not the master controller for " + node);
+        } else if (!node.getType().equals(NodeIDType.OPENFLOW)) {
+            failure = new Status(StatusCode.NOTACCEPTABLE, errorString("send", "update", "Invalid node type"));
+        } else if (controller == null) {
+            failure = new Status(StatusCode.INTERNALERROR, errorString("send", "update", "Internal plugin error"));
+        }
+        ISwitch sw = (failure == null) ? controller.getSwitch((Long) node.getID()) : null;
+        if ((failure == null) && (sw == null)) {
+            failure = new Status(StatusCode.GONE, errorString("send", "update", "Switch is not available"));
+        }
+        if (failure != null) {
+            for (int i = 0; i < updates.size(); i++) {
+                rv.add(failure);
+            }
+            return rv;
+        }
+
+        /*
+         * Convert all the updates first, updates failing validation get their
+         * status right away. A modification which changes the priority or the
+         * match takes a delete and an add message, as in modifyFlow() the add
+         * is only sent once the delete succeeded.
+         */
+        List<OFMessage> msgs = new ArrayList<OFMessage>(updates.size());
+        int[] msgIndex = new int[updates.size()];
+        OFMessage[] addMsgs = new OFMessage[updates.size()];
+        for (int i = 0; i < updates.size(); i++) {
+            FlowUpdate update = updates.get(i);
+            msgIndex[i] = -1;
+            rv.add(null);
+            Status status;
+            OFMessage msg = null;
+            switch (update.getType()) {
+            case ADDED:
+                status = validateFlow(update.getFlow());
+                if (!status.isSuccess()) {
+                    rv.set(i, status);
+                    break;
+                }
+                msg = new FlowConverter(update.getFlow()).getOFFlowMod(OFFlowMod.OFPFC_ADD, null);
+                break;
+            case CHANGED:
+                Flow oldFlow = update.getOldFlow();
+                Flow newFlow = update.getFlow();
+                status = validateFlow(newFlow);
+                if (!status.isSuccess()) {
+                    rv.set(i, status);
+                    break;
+                }
+                if (oldFlow.getPriority() != newFlow.getPriority()
+                        || !oldFlow.getMatch().equals(newFlow.getMatch())) {
+                    msg = new FlowConverter(oldFlow).getOFFlowMod(OFFlowMod.OFPFC_DELETE_STRICT, OFPort.OFPP_NONE);
+                    addMsgs[i] = new FlowConverter(newFlow).getOFFlowMod(OFFlowMod.OFPFC_ADD, null);
+                } else {
+                    msg = new FlowConverter(newFlow).getOFFlowMod(OFFlowMod.OFPFC_MODIFY_STRICT, null);
+                }
+                break;
+            case REMOVED:
+                msg = new FlowConverter(update.getFlow()).getOFFlowMod(OFFlowMod.OFPFC_DELETE_STRICT,
+                        OFPort.OFPP_NONE);
+                break;
+            default:
+                rv.set(i, new Status(StatusCode.BADREQUEST, "Unknown flow update type " + update.getType()));
+            }
+            if (msg != null) {
+                msgIndex[i] = msgs.size();
+                msgs.add(msg);
+            }
+        }
+        if (msgs.isEmpty()) {
+            return rv;
+        }
+
+        /*
+         * All the messages go out back to back followed by a single Barrier
+         */
+        List<Object> results = sw.syncSend(msgs);
+        List<OFMessage> adds = new ArrayList<OFMessage>();
+        List<Integer> addIndex = new ArrayList<Integer>();
+        for (int i = 0; i < updates.size(); i++) {
+            if (msgIndex[i] < 0) {
+                continue;
+            }
+            String action = (updates.get(i).getType() == UpdateType.ADDED) ? "add"
+                    : (updates.get(i).getType() == UpdateType.REMOVED) ? "remove"
+                    : (addMsgs[i] != null) ? "delete" : "modify";
+            Status status = getStatusInternal(results.get(msgIndex[i]), action, 0);
+            rv.set(i, status);
+            if (status.isSuccess() && addMsgs[i] != null) {
+                adds.add(addMsgs[i]);
+                addIndex.add(i);
+            }
+        }
+
+        /*
+         * Second batch with the adds of the modifications whose delete
+         * succeeded
+         */
+        if (!adds.isEmpty()) {
+            results = sw.syncSend(adds);
+            for (int a = 0; a < adds.size(); a++) {
+                rv.set(addIndex.get(a), getStatusInternal(results.get(a), "add", 0));
+            }
+        }
+        return rv;
+    }
+
     private Status addFlowInternal(Node node, Flow flow, long rid) {
         String action = "add";
         if (!node.getType().equals(NodeIDType.OPENFLOW)) {
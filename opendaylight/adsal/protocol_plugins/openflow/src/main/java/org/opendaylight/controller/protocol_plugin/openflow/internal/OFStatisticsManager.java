@@ -13,18 +13,24 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.osgi.framework.console.CommandInterpreter;
 import org.eclipse.osgi.framework.console.CommandProvider;
@@ -32,6 +38,7 @@ import org.opendaylight.controller.protocol_plugin.openflow.IInventoryShimExtern
 import org.opendaylight.controller.protocol_plugin.openflow.IOFStatisticsListener;
 import org.opendaylight.controller.protocol_plugin.openflow.IOFStatisticsManager;
 import org.opendaylight.controller.protocol_plugin.openflow.core.IController;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IStatisticsReplyListener;
 import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
 import org.opendaylight.controller.protocol_plugin.openflow.vendorextension.v6extension.V6Match;
 import org.opendaylight.controller.protocol_plugin.openflow.vendorextension.v6extension.V6StatsReply;
@@ -66,6 +73,13 @@ import org.slf4j.LoggerFactory;
  * Periodically polls the different OF statistics from the OF switches, caches
  * them, and publishes results towards SAL. It also provides an API to directly
  * query the switch for any specific statistics.
+ *
+ * Each switch has a polling deadline per statistics type on a timing wheel.
+ * The first deadlines are spread over the polling interval and the following
+ * ones are jittered, so that the switches do not get polled in bursts. Due
+ * requests are sent without waiting for the replies, up to a limit of
+ * requests in flight; the others wait for a free slot. The replies are
+ * processed in order by the collector thread.
  */
 public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShimExternalListener, CommandProvider {
     private static final Logger log = LoggerFactory.getLogger(OFStatisticsManager.class);
@@ -75,22 +89,30 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
     private static final long PORT_STATS_PERIOD = 5000;
     private static final long TABLE_STATS_PERIOD = 10000;
     private static final long TICK = 1000;
+    // Resolution of the polling deadlines in msec
+    private static final long SCHEDULER_TICK = 100;
+    private static final int MAX_IN_FLIGHT = 32;
+    private static final OFStatisticsType[] POLLED_STATS_TYPES = { OFStatisticsType.FLOW,
+            OFStatisticsType.DESC, OFStatisticsType.PORT, OFStatisticsType.TABLE };
     private static short statisticsTickNumber = (short) (FLOW_STATS_PERIOD / TICK);
     private static short descriptionTickNumber = (short) (DESC_STATS_PERIOD / TICK);
     private static short portTickNumber = (short) (PORT_STATS_PERIOD / TICK);
     private static short tableTickNumber = (short) (TABLE_STATS_PERIOD / TICK);
     private static short factoredSamples = (short) 2;
-    private static short counter = 1;
     private IController controller = null;
     private ConcurrentMap<Long, List<OFStatistics>> flowStatistics;
     private ConcurrentMap<Long, List<OFStatistics>> descStatistics;
     private ConcurrentMap<Long, List<OFStatistics>> portStatistics;
     private ConcurrentMap<Long, List<OFStatistics>> tableStatistics;
-    private ConcurrentMap<Long, StatisticsTicks> statisticsTimerTicks;
-    protected BlockingQueue<StatsRequest> pendingStatsRequests;
-    protected BlockingQueue<Long> switchPortStatsUpdated;
-    private Thread statisticsCollector;
-    private Thread txRatesUpdater;
+    private Set<Long> polledSwitches;
+    private TimingWheel<StatsRequest> statisticsWheel;
+    // Due requests waiting for a slot, at most one per switch and type
+    protected final Set<StatsRequest> pendingStatsRequests = new LinkedHashSet<StatsRequest>();
+    // Requests waiting for their replies, guarded by pendingStatsRequests
+    private final Set<StatsRequest> inFlightStatsRequests = new HashSet<StatsRequest>();
+    private int maxInFlightStatsRequests;
+    private final Random jitter = new Random();
+    private ExecutorService statisticsCollector;
     private Timer statisticsTimer;
     private TimerTask statisticsTimerTask;
     private ConcurrentMap<Long, Boolean> switchSupportsVendorExtStats;
@@ -154,19 +176,20 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
         }
     }
 
-    private short getStatsQueueSize() {
-        String statsQueueSizeStr = System.getProperty("of.statsQueueSize");
-        short statsQueueSize = INITIAL_SIZE;
-        if (statsQueueSizeStr != null) {
+    private int getStatsMaxInFlight() {
+        String maxInFlightStr = System.getProperty("of.statsMaxInFlight");
+        int maxInFlight = MAX_IN_FLIGHT;
+        if (maxInFlightStr != null) {
             try {
-                statsQueueSize = Short.parseShort(statsQueueSizeStr);
-                if (statsQueueSize <= 0) {
-                    statsQueueSize = INITIAL_SIZE;
+                maxInFlight = Integer.parseInt(maxInFlightStr);
+                if (maxInFlight <= 0) {
+                    maxInFlight = MAX_IN_FLIGHT;
                 }
-            } catch (Exception e) {
+            } catch (NumberFormatException e) {
+                log.warn("Invalid of.statsMaxInFlight: {} use default({})", maxInFlightStr, MAX_IN_FLIGHT);
             }
         }
-        return statsQueueSize;
+        return maxInFlight;
     }
 
     IPluginOutConnectionService connectionPluginOutService;
@@ -190,55 +213,36 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
         descStatistics = new ConcurrentHashMap<Long, List<OFStatistics>>();
         portStatistics = new ConcurrentHashMap<Long, List<OFStatistics>>();
         tableStatistics = new ConcurrentHashMap<Long, List<OFStatistics>>();
-        pendingStatsRequests = new LinkedBlockingQueue<StatsRequest>(getStatsQueueSize());
-        statisticsTimerTicks = new ConcurrentHashMap<Long, StatisticsTicks>(INITIAL_SIZE);
-        switchPortStatsUpdated = new LinkedBlockingQueue<Long>(INITIAL_SIZE);
+        polledSwitches = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>(INITIAL_SIZE));
         switchSupportsVendorExtStats = new ConcurrentHashMap<Long, Boolean>(INITIAL_SIZE);
         txRates = new HashMap<Long, Map<Short, TxRates>>(INITIAL_SIZE);
+        maxInFlightStatsRequests = getStatsMaxInFlight();
 
         configStatsPollIntervals();
 
+        long maxPeriod = 0;
+        for (OFStatisticsType type : POLLED_STATS_TYPES) {
+            maxPeriod = Math.max(maxPeriod, getStatsPeriodTicks(type));
+        }
+        statisticsWheel = new TimingWheel<StatsRequest>((int) maxPeriod);
+
         // Initialize managed timers
         statisticsTimer = new Timer("Statistics Timer Ticks");
         statisticsTimerTask = new TimerTask() {
             @Override
             public void run() {
-                decrementTicks();
+                dispatchStatsRequests();
             }
         };
 
-        // Initialize Statistics collector thread
-        statisticsCollector = new Thread(new Runnable() {
-            @Override
-            public void run() {
-                while (true) {
-                    try {
-                        StatsRequest req = pendingStatsRequests.take();
-                        queryStatisticsInternal(req.switchId, req.type);
-                    } catch (InterruptedException e) {
-                        log.warn("Flow Statistics Collector thread "
-                                + "interrupted", e);
-                        return;
-                    }
-                }
-            }
-        }, "Statistics Collector");
-
-        // Initialize Tx Rate Updater thread
-        txRatesUpdater = new Thread(new Runnable() {
+        // Initialize Statistics collector thread, which processes the replies
+        // and updates the TX rates
+        statisticsCollector = Executors.newSingleThreadExecutor(new ThreadFactory() {
             @Override
-            public void run() {
-                while (true) {
-                    try {
-                        long switchId = switchPortStatsUpdated.take();
-                        updatePortsTxRate(switchId);
-                    } catch (InterruptedException e) {
-                        log.warn("TX Rate Updater thread interrupted", e);
-                        return;
-                    }
-                }
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "Statistics Collector");
             }
-        }, "TX Rate Updater");
+        });
     }
 
     /**
@@ -258,13 +262,7 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
      */
     void start() {
         // Start managed timers
-        statisticsTimer.scheduleAtFixedRate(statisticsTimerTask, 0, TICK);
-
-        // Start statistics collector thread
-        statisticsCollector.start();
-
-        // Start bandwidth utilization computer thread
-        txRatesUpdater.start();
+        statisticsTimer.scheduleAtFixedRate(statisticsTimerTask, 0, SCHEDULER_TICK);
 
         // OSGI console
         registerWithOSGIConsole();
@@ -279,6 +277,8 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
     void stop() {
         // Stop managed timers
         statisticsTimer.cancel();
+        // Replies still in flight are dropped
+        statisticsCollector.shutdownNow();
     }
 
     public void setStatisticsListener(IOFStatisticsListener s) {
@@ -296,7 +296,7 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
         bundleContext.registerService(CommandProvider.class.getName(), this, null);
     }
 
-    private static class StatsRequest {
+    static class StatsRequest {
         protected Long switchId;
         protected OFStatisticsType type;
 
@@ -346,179 +346,186 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
         }
     }
 
-    private void addStatisticsTicks(Long switchId) {
+    private void addStatisticsRequests(Long switchId) {
         switchSupportsVendorExtStats.put(switchId, Boolean.TRUE); // Assume
                                                                   // switch
                                                                   // supports
                                                                   // Vendor
                                                                   // extension
                                                                   // stats
-        statisticsTimerTicks.put(switchId, new StatisticsTicks(true));
+        polledSwitches.add(switchId);
+        for (OFStatisticsType type : POLLED_STATS_TYPES) {
+            scheduleStatsRequest(new StatsRequest(switchId, type), true);
+        }
         log.debug("Added Switch {} to target pool",
                 HexString.toHexString(switchId.longValue()));
     }
 
-    protected static class StatisticsTicks {
-        private short flowStatisticsTicks;
-        private short descriptionTicks;
-        private short portStatisticsTicks;
-        private short tableStatisticsTicks;
-
-        public StatisticsTicks(boolean scattered) {
-            if (scattered) {
-                // scatter bursts by statisticsTickPeriod
-                if (++counter < 0) {
-                    counter = 0;
-                } // being paranoid here
-                flowStatisticsTicks = (short) (1 + counter
-                        % statisticsTickNumber);
-                descriptionTicks = (short) (1 + counter % descriptionTickNumber);
-                portStatisticsTicks = (short) (1 + counter % portTickNumber);
-                tableStatisticsTicks = (short) (1 + counter % tableTickNumber);
-            } else {
-                flowStatisticsTicks = statisticsTickNumber;
-                descriptionTicks = descriptionTickNumber;
-                portStatisticsTicks = portTickNumber;
-                tableStatisticsTicks = tableTickNumber;
-            }
+    private static short getStatsPollInterval(OFStatisticsType type) {
+        switch (type) {
+        case FLOW:
+            return statisticsTickNumber;
+        case DESC:
+            return descriptionTickNumber;
+        case PORT:
+            return portTickNumber;
+        default:
+            return tableTickNumber;
         }
+    }
 
-        public boolean decrementFlowTicksIsZero() {
-            // Please ensure no code is inserted between the if check and the
-            // flowStatisticsTicks reset
-            if (--flowStatisticsTicks == 0) {
-                flowStatisticsTicks = statisticsTickNumber;
-                return true;
-            }
-            return false;
-        }
+    private static long getStatsPeriodTicks(OFStatisticsType type) {
+        return getStatsPollInterval(type) * TICK / SCHEDULER_TICK;
+    }
 
-        public boolean decrementDescTicksIsZero() {
-            // Please ensure no code is inserted between the if check and the
-            // descriptionTicks reset
-            if (--descriptionTicks == 0) {
-                descriptionTicks = descriptionTickNumber;
-                return true;
+    /*
+     * Sets the next deadline of the request. The first one is anywhere within
+     * the polling interval, to scatter the bursts; the following ones are one
+     * interval later, give or take a tenth of it, so that switches added
+     * together drift apart.
+     */
+    private void scheduleStatsRequest(StatsRequest request, boolean first) {
+        long period = getStatsPeriodTicks(request.type);
+        long ticks;
+        synchronized (jitter) {
+            if (first) {
+                ticks = 1 + jitter.nextInt((int) period);
+            } else {
+                long spread = period / 10;
+                ticks = period - spread + jitter.nextInt((int) (2 * spread + 1));
             }
-            return false;
         }
+        statisticsWheel.schedule(request, ticks);
+    }
 
-        public boolean decrementPortTicksIsZero() {
-            // Please ensure no code is inserted between the if check and the
-            // descriptionTicks reset
-            if (--portStatisticsTicks == 0) {
-                portStatisticsTicks = portTickNumber;
-                return true;
-            }
-            return false;
-        }
+    private void printInfoMessage(StatsRequest request) {
+        log.trace("{} stats request not inserted for switch: {}. Pending: {}. In flight: {}.",
+                new Object[] {request.type, HexString.toHexString(request.switchId), pendingStatsRequests.size(),
+                inFlightStatsRequests.size() });
+    }
 
-        public boolean decrementTableTicksIsZero() {
-            // Please ensure no code is inserted between the if check and the
-            // descriptionTicks reset
-            if(--tableStatisticsTicks == 0) {
-                tableStatisticsTicks = tableTickNumber;
-                return true;
+    protected void dispatchStatsRequests() {
+        for (StatsRequest request : statisticsWheel.advance()) {
+            scheduleStatsRequest(request, false);
+            if (!polledSwitches.contains(request.switchId)) {
+                // The switch went away meanwhile
+                statisticsWheel.cancel(request);
+                continue;
             }
-            return false;
-        }
-
-        @Override
-        public String toString() {
-            return "{fT=" + flowStatisticsTicks + ",dT=" + descriptionTicks
-                    + ",pT=" + portStatisticsTicks + ",tT=" + tableStatisticsTicks + "}";
+            submitStatsRequest(request);
         }
     }
 
-    private void printInfoMessage(String type, StatsRequest request) {
-        log.trace("{} stats request not inserted for switch: {}. Queue size: {}. Collector state: {}.",
-                new Object[] {type, HexString.toHexString(request.switchId), pendingStatsRequests.size(),
-                statisticsCollector.getState().toString() });
-    }
-
-    protected void decrementTicks() {
-        StatsRequest request = null;
-        for (Map.Entry<Long, StatisticsTicks> entry : statisticsTimerTicks
-                .entrySet()) {
-            StatisticsTicks clock = entry.getValue();
-            Long switchId = entry.getKey();
-            if (clock.decrementFlowTicksIsZero()) {
-                request = (switchSupportsVendorExtStats.get(switchId) == Boolean.TRUE) ?
-                        new StatsRequest(switchId, OFStatisticsType.VENDOR) :
-                        new StatsRequest(switchId, OFStatisticsType.FLOW);
-                // If a request for this switch is already in the queue, skip to
-                // add this new request
-                if (!pendingStatsRequests.contains(request)
-                        && false == pendingStatsRequests.offer(request)) {
-                    printInfoMessage("Flow", request);
-                }
+    private void submitStatsRequest(StatsRequest request) {
+        synchronized (pendingStatsRequests) {
+            // If a request for this switch is still in flight or already
+            // waiting, skip this new request
+            if (inFlightStatsRequests.contains(request) || pendingStatsRequests.contains(request)) {
+                printInfoMessage(request);
+                return;
             }
+            if (inFlightStatsRequests.size() >= maxInFlightStatsRequests) {
+                pendingStatsRequests.add(request);
+                return;
+            }
+            inFlightStatsRequests.add(request);
+        }
+        sendStatsRequest(request);
+    }
 
-            if (clock.decrementDescTicksIsZero()) {
-                request = new StatsRequest(switchId, OFStatisticsType.DESC);
-                // If a request for this switch is already in the queue, skip to
-                // add this new request
-                if (!pendingStatsRequests.contains(request)
-                        && false == pendingStatsRequests.offer(request)) {
-                    printInfoMessage("Description", request);
-                }
+    /*
+     * Frees the slot of the request, and hands it over to the first waiting
+     * request if any
+     *
+     * Returns: the request to send next, or null
+     */
+    private StatsRequest releaseStatsRequest(StatsRequest request) {
+        synchronized (pendingStatsRequests) {
+            inFlightStatsRequests.remove(request);
+            Iterator<StatsRequest> i = pendingStatsRequests.iterator();
+            if (!i.hasNext() || inFlightStatsRequests.size() >= maxInFlightStatsRequests) {
+                return null;
             }
+            StatsRequest next = i.next();
+            i.remove();
+            inFlightStatsRequests.add(next);
+            return next;
+        }
+    }
 
-            if (clock.decrementPortTicksIsZero()) {
-                request = new StatsRequest(switchId, OFStatisticsType.PORT);
-                // If a request for this switch is already in the queue, skip to
-                // add this new request
-                if (!pendingStatsRequests.contains(request)
-                        && false == pendingStatsRequests.offer(request)) {
-                    printInfoMessage("Port", request);
-                }
+    /*
+     * Sends the request without waiting for the replies. Requests for switches
+     * which are gone release their slot at once.
+     */
+    private void sendStatsRequest(StatsRequest request) {
+        while (request != null) {
+            ISwitch sw = controller.getSwitch(request.switchId);
+            if (sw != null) {
+                final StatsRequest sent = request;
+                // Caller does not know whether this switch supports vendor
+                // extension
+                final OFStatisticsType type = (request.type == OFStatisticsType.FLOW
+                        && switchSupportsVendorExtStats.get(request.switchId) == Boolean.TRUE) ?
+                        OFStatisticsType.VENDOR : request.type;
+                sw.asyncGetStatistics(createStatisticsRequest(type, null), new IStatisticsReplyListener() {
+                    @Override
+                    public void statisticsReceived(ISwitch sw, Object result) {
+                        collectStatistics(sent, type, result);
+                    }
+                });
+                return;
             }
+            request = releaseStatsRequest(request);
+        }
+    }
 
-            if(clock.decrementTableTicksIsZero()) {
-                request = new StatsRequest(switchId, OFStatisticsType.TABLE);
-                // If a request for this switch is already in the queue, skip to
-                // add this new request
-                if (!pendingStatsRequests.contains(request)
-                        && false == pendingStatsRequests.offer(request)) {
-                    printInfoMessage("Table", request);
+    /*
+     * Hands the result over to the collector thread, which keeps the listeners
+     * from being called concurrently, and then frees the slot of the request
+     */
+    private void collectStatistics(final StatsRequest request, final OFStatisticsType statType,
+            final Object result) {
+        try {
+            statisticsCollector.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        updateStatistics(request.switchId, statType,
+                                getStatisticsValues(request.switchId, statType, result));
+                    } finally {
+                        sendStatsRequest(releaseStatsRequest(request));
+                    }
                 }
-            }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Statistics collector stopped, dropping {}", request);
+            releaseStatsRequest(request);
         }
     }
 
     private void removeStatsRequestTasks(Long switchId) {
         log.debug("Cleaning Statistics database for switch {}",
                 HexEncode.longToHexString(switchId));
-        // To be safe, let's attempt removal of both VENDOR and FLOW request. It
-        // does not hurt
-        pendingStatsRequests.remove(new StatsRequest(switchId,
-                OFStatisticsType.VENDOR));
-        pendingStatsRequests.remove(new StatsRequest(switchId,
-                OFStatisticsType.FLOW));
-        pendingStatsRequests.remove(new StatsRequest(switchId,
-                OFStatisticsType.DESC));
-        pendingStatsRequests.remove(new StatsRequest(switchId,
-                OFStatisticsType.PORT));
-        pendingStatsRequests.remove(new StatsRequest(switchId,
-                OFStatisticsType.TABLE));
+        polledSwitches.remove(switchId);
+        synchronized (pendingStatsRequests) {
+            for (OFStatisticsType type : POLLED_STATS_TYPES) {
+                StatsRequest request = new StatsRequest(switchId, type);
+                statisticsWheel.cancel(request);
+                pendingStatsRequests.remove(request);
+            }
+        }
         // Take care of the TX rate databases
-        switchPortStatsUpdated.remove(switchId);
         txRates.remove(switchId);
     }
 
     private void clearFlowStatsAndTicks(Long switchId) {
-        statisticsTimerTicks.remove(switchId);
         removeStatsRequestTasks(switchId);
         flowStatistics.remove(switchId);
         log.debug("Statistics removed for switch {}",
                 HexString.toHexString(switchId));
     }
 
-    private void queryStatisticsInternal(Long switchId, OFStatisticsType statType) {
-
-        // Query the switch on all matches
-        List<OFStatistics> values = this.fetchStatisticsFromSwitch(switchId, statType, null);
-
+    private void updateStatistics(Long switchId, OFStatisticsType statType, List<OFStatistics> values) {
         // If got a valid response update local cache and notify listeners
         if (!values.isEmpty()) {
             switch (statType) {
@@ -537,9 +544,8 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
                     // Overwrite cache with new port statistics for this switch
                     portStatistics.put(switchId, values);
 
-                    // Wake up the thread which maintains the TX byte counters for
-                    // each port
-                    switchPortStatsUpdated.offer(switchId);
+                    // Update the TX byte counters for each port
+                    updatePortsTxRate(switchId);
                     notifyPortUpdate(switchId, values);
                     break;
                 case TABLE:
@@ -584,127 +590,136 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
     /*
      * Generic function to get the statistics form an OF switch
      */
-    @SuppressWarnings("unchecked")
     private List<OFStatistics> fetchStatisticsFromSwitch(Long switchId,
             OFStatisticsType statsType, Object target) {
-        List<OFStatistics> values = Collections.emptyList();
-        String type = null;
         ISwitch sw = controller.getSwitch(switchId);
+        if (sw == null) {
+            return Collections.emptyList();
+        }
+        OFStatisticsRequest req = createStatisticsRequest(statsType, target);
+        if (req == null) {
+            return Collections.emptyList();
+        }
+        return getStatisticsValues(switchId, statsType, sw.getStatistics(req));
+    }
 
-        if (sw != null) {
-            OFStatisticsRequest req = new OFStatisticsRequest();
-            req.setStatisticType(statsType);
-            int requestLength = req.getLengthU();
-
-            if (statsType == OFStatisticsType.FLOW) {
-                OFMatch match = null;
-                if (target == null) {
-                    // All flows request
-                    match = new OFMatch();
-                    match.setWildcards(0xffffffff);
-                } else if (!(target instanceof OFMatch)) {
-                    // Malformed request
-                    log.warn("Invalid target type for Flow stats request: {}",
-                            target.getClass());
-                    return Collections.emptyList();
-                } else {
-                    // Specific flow request
-                    match = (OFMatch) target;
-                }
-                OFFlowStatisticsRequest specificReq = new OFFlowStatisticsRequest();
-                specificReq.setMatch(match);
-                specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
-                specificReq.setTableId((byte) 0xff);
-                req.setStatistics(Collections
-                        .singletonList((OFStatistics) specificReq));
-                requestLength += specificReq.getLength();
-                type = "FLOW";
-            } else if (statsType == OFStatisticsType.VENDOR) {
-                V6StatsRequest specificReq = new V6StatsRequest();
-                specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
-                specificReq.setTableId((byte) 0xff);
-                req.setStatistics(Collections
-                        .singletonList((OFStatistics) specificReq));
-                requestLength += specificReq.getLength();
-                type = "VENDOR";
-            } else if (statsType == OFStatisticsType.AGGREGATE) {
-                OFAggregateStatisticsRequest specificReq = new OFAggregateStatisticsRequest();
-                OFMatch match = new OFMatch();
+    /*
+     * Builds the request for the given statistics type and target
+     * Returns: the request, or null if the target is malformed
+     */
+    private OFStatisticsRequest createStatisticsRequest(OFStatisticsType statsType, Object target) {
+        OFStatisticsRequest req = new OFStatisticsRequest();
+        req.setStatisticType(statsType);
+        int requestLength = req.getLengthU();
+
+        if (statsType == OFStatisticsType.FLOW) {
+            OFMatch match = null;
+            if (target == null) {
+                // All flows request
+                match = new OFMatch();
                 match.setWildcards(0xffffffff);
-                specificReq.setMatch(match);
-                specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
-                specificReq.setTableId((byte) 0xff);
-                req.setStatistics(Collections
-                        .singletonList((OFStatistics) specificReq));
-                requestLength += specificReq.getLength();
-                type = "AGGREGATE";
-            } else if (statsType == OFStatisticsType.PORT) {
-                short targetPort;
-                if (target == null) {
-                    // All ports request
-                    targetPort = OFPort.OFPP_NONE.getValue();
-                } else if (!(target instanceof Short)) {
+            } else if (!(target instanceof OFMatch)) {
+                // Malformed request
+                log.warn("Invalid target type for Flow stats request: {}",
+                        target.getClass());
+                return null;
+            } else {
+                // Specific flow request
+                match = (OFMatch) target;
+            }
+            OFFlowStatisticsRequest specificReq = new OFFlowStatisticsRequest();
+            specificReq.setMatch(match);
+            specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
+            specificReq.setTableId((byte) 0xff);
+            req.setStatistics(Collections
+                    .singletonList((OFStatistics) specificReq));
+            requestLength += specificReq.getLength();
+        } else if (statsType == OFStatisticsType.VENDOR) {
+            V6StatsRequest specificReq = new V6StatsRequest();
+            specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
+            specificReq.setTableId((byte) 0xff);
+            req.setStatistics(Collections
+                    .singletonList((OFStatistics) specificReq));
+            requestLength += specificReq.getLength();
+        } else if (statsType == OFStatisticsType.AGGREGATE) {
+            OFAggregateStatisticsRequest specificReq = new OFAggregateStatisticsRequest();
+            OFMatch match = new OFMatch();
+            match.setWildcards(0xffffffff);
+            specificReq.setMatch(match);
+            specificReq.setOutPort(OFPort.OFPP_NONE.getValue());
+            specificReq.setTableId((byte) 0xff);
+            req.setStatistics(Collections
+                    .singletonList((OFStatistics) specificReq));
+            requestLength += specificReq.getLength();
+        } else if (statsType == OFStatisticsType.PORT) {
+            short targetPort;
+            if (target == null) {
+                // All ports request
+                targetPort = OFPort.OFPP_NONE.getValue();
+            } else if (!(target instanceof Short)) {
+                // Malformed request
+                log.warn("Invalid target type for Port stats request: {}",
+                        target.getClass());
+                return null;
+            } else {
+                // Specific port request
+                targetPort = (Short) target;
+            }
+            OFPortStatisticsRequest specificReq = new OFPortStatisticsRequest();
+            specificReq.setPortNumber(targetPort);
+            req.setStatistics(Collections
+                    .singletonList((OFStatistics) specificReq));
+            requestLength += specificReq.getLength();
+        } else if (statsType == OFStatisticsType.QUEUE) {
+            OFQueueStatisticsRequest specificReq = new OFQueueStatisticsRequest();
+            specificReq.setPortNumber(OFPort.OFPP_ALL.getValue());
+            specificReq.setQueueId(0xffffffff);
+            req.setStatistics(Collections
+                    .singletonList((OFStatistics) specificReq));
+            requestLength += specificReq.getLength();
+        } else if (statsType == OFStatisticsType.TABLE) {
+            if(target != null){
+                if (!(target instanceof Byte)) {
                     // Malformed request
-                    log.warn("Invalid target type for Port stats request: {}",
+                    log.warn("Invalid table id for table stats request: {}",
                             target.getClass());
-                    return Collections.emptyList();
-                } else {
-                    // Specific port request
-                    targetPort = (Short) target;
+                    return null;
                 }
-                OFPortStatisticsRequest specificReq = new OFPortStatisticsRequest();
-                specificReq.setPortNumber(targetPort);
-                req.setStatistics(Collections
-                        .singletonList((OFStatistics) specificReq));
-                requestLength += specificReq.getLength();
-                type = "PORT";
-            } else if (statsType == OFStatisticsType.QUEUE) {
-                OFQueueStatisticsRequest specificReq = new OFQueueStatisticsRequest();
-                specificReq.setPortNumber(OFPort.OFPP_ALL.getValue());
-                specificReq.setQueueId(0xffffffff);
+                byte targetTable = (Byte) target;
+                OFTableStatistics specificReq = new OFTableStatistics();
+                specificReq.setTableId(targetTable);
                 req.setStatistics(Collections
                         .singletonList((OFStatistics) specificReq));
                 requestLength += specificReq.getLength();
-                type = "QUEUE";
-            } else if (statsType == OFStatisticsType.DESC) {
-                type = "DESC";
-            } else if (statsType == OFStatisticsType.TABLE) {
-                if(target != null){
-                    if (!(target instanceof Byte)) {
-                        // Malformed request
-                        log.warn("Invalid table id for table stats request: {}",
-                                target.getClass());
-                        return Collections.emptyList();
-                    }
-                    byte targetTable = (Byte) target;
-                    OFTableStatistics specificReq = new OFTableStatistics();
-                    specificReq.setTableId(targetTable);
-                    req.setStatistics(Collections
-                            .singletonList((OFStatistics) specificReq));
-                    requestLength += specificReq.getLength();
-                }
-                type = "TABLE";
             }
-            req.setLengthU(requestLength);
-            Object result = sw.getStatistics(req);
+        }
+        req.setLengthU(requestLength);
+        return req;
+    }
 
-            if (result == null) {
-                log.warn("Request Timed Out for ({}) from switch {}", type,
+    /*
+     * Returns: the statistics records of the result of a request, empty if the
+     * request timed out or failed
+     */
+    @SuppressWarnings("unchecked")
+    private List<OFStatistics> getStatisticsValues(Long switchId, OFStatisticsType type, Object result) {
+        List<OFStatistics> values = Collections.emptyList();
+        if (result == null) {
+            log.warn("Request Timed Out for ({}) from switch {}", type,
+                    HexString.toHexString(switchId));
+        } else if (result instanceof OFError) {
+            log.warn("Switch {} failed to handle ({}) stats request: {}",
+                    new Object[] { HexString.toHexString(switchId), type,
+                    Utils.getOFErrorString((OFError) result) });
+            if (this.switchSupportsVendorExtStats.get(switchId) == Boolean.TRUE) {
+                log.warn(
+                        "Switching back to regular Flow stats requests for switch {}",
                         HexString.toHexString(switchId));
-            } else if (result instanceof OFError) {
-                log.warn("Switch {} failed to handle ({}) stats request: {}",
-                        new Object[] { HexString.toHexString(switchId), type,
-                        Utils.getOFErrorString((OFError) result) });
-                if (this.switchSupportsVendorExtStats.get(switchId) == Boolean.TRUE) {
-                    log.warn(
-                            "Switching back to regular Flow stats requests for switch {}",
-                            HexString.toHexString(switchId));
-                    this.switchSupportsVendorExtStats.put(switchId,
-                            Boolean.FALSE);
-                }
-            } else {
-                values = (List<OFStatistics>) result;
+                this.switchSupportsVendorExtStats.put(switchId,
+                        Boolean.FALSE);
             }
+        } else {
+            values = (List<OFStatistics>) result;
         }
         return values;
     }
@@ -924,7 +939,7 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
         Long switchId = (Long) node.getID();
         switch (type) {
         case ADDED:
-            addStatisticsTicks(switchId);
+            addStatisticsRequests(switchId);
             break;
         case REMOVED:
             clearFlowStatsAndTicks(switchId);
@@ -1033,25 +1048,35 @@ public class OFStatisticsManager implements IOFStatisticsManager, IInventoryShim
     /*
      * Internal information dump code
      */
-    private String prettyPrintSwitchMap(ConcurrentMap<Long, StatisticsTicks> map) {
+    private String prettyPrintDeadlines() {
         StringBuffer buffer = new StringBuffer();
         buffer.append("{");
-        for (Entry<Long, StatisticsTicks> entry : map.entrySet()) {
-            buffer.append(HexString.toHexString(entry.getKey()) + "="
-                    + entry.getValue().toString() + " ");
+        for (Long switchId : polledSwitches) {
+            buffer.append(HexString.toHexString(switchId) + "={fT="
+                    + getRemainingTime(new StatsRequest(switchId, OFStatisticsType.FLOW)) + ",dT="
+                    + getRemainingTime(new StatsRequest(switchId, OFStatisticsType.DESC)) + ",pT="
+                    + getRemainingTime(new StatsRequest(switchId, OFStatisticsType.PORT)) + ",tT="
+                    + getRemainingTime(new StatsRequest(switchId, OFStatisticsType.TABLE)) + "} ");
         }
         buffer.append("}");
         return buffer.toString();
     }
 
+    private long getRemainingTime(StatsRequest request) {
+        long ticks = statisticsWheel.getRemaining(request);
+        return (ticks < 0) ? ticks : ticks * SCHEDULER_TICK;
+    }
+
     public void _ofdumpstatsmgr(CommandInterpreter ci) {
-        ci.println("Global Counter: " + counter);
-        ci.println("Timer Ticks: " + prettyPrintSwitchMap(statisticsTimerTicks));
-        ci.println("PendingStatsQueue: " + pendingStatsRequests);
-        ci.println("PendingStatsQueue size: " + pendingStatsRequests.size());
-        ci.println("Stats Collector alive: " + statisticsCollector.isAlive());
-        ci.println("Stats Collector State: "
-                + statisticsCollector.getState().toString());
+        ci.println("Deadlines (ms): " + prettyPrintDeadlines());
+        synchronized (pendingStatsRequests) {
+            ci.println("PendingStatsQueue: " + pendingStatsRequests);
+            ci.println("PendingStatsQueue size: " + pendingStatsRequests.size());
+            ci.println("InFlightStats: " + inFlightStatsRequests);
+            ci.println("InFlightStats size: " + inFlightStatsRequests.size() + " (max "
+                    + maxInFlightStatsRequests + ")");
+        }
+        ci.println("Stats Collector alive: " + !statisticsCollector.isShutdown());
         ci.println("StatsTimer: " + statisticsTimer.toString());
         ci.println("Flow Stats Period: " + statisticsTickNumber + " s");
         ci.println("Desc Stats Period: " + descriptionTickNumber + " s");
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hashed timing wheel holding at most one deadline per key. Deadlines are
+ * counted in ticks of the wheel, and the owner moves the wheel forward by one
+ * tick at a time. A deadline is kept in the slot of its tick modulo the number
+ * of slots, so scheduling and cancelling cost O(1) and a tick only looks at
+ * the deadlines of one slot. When the wheel covers the longest delay in use,
+ * all of them are due.
+ *
+ * @param <K>
+ *            the type of the keys
+ */
+class TimingWheel<K> {
+    private static final int MAX_SLOTS = 1 << 16;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Timeout<K>> timeouts = new HashMap<K, Timeout<K>>();
+    private final Timeout<K>[] slots;
+    private final int mask;
+    private long tick;
+
+    private static class Timeout<K> {
+        private final K key;
+        private final long deadline;
+        private Timeout<K> prev;
+        private Timeout<K> next;
+
+        Timeout(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * @param ticks
+     *            the longest delay expected, in ticks. The number of slots is
+     *            the next power of two, up to 65536 slots.
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(int ticks) {
+        int size = 1;
+        while (size < ticks && size < MAX_SLOTS) {
+            size <<= 1;
+        }
+        slots = new Timeout[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @return the current tick
+     */
+    long getTick() {
+        lock.lock();
+        try {
+            return tick;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the deadline of a key, replacing the previous one if any.
+     *
+     * @param key
+     *            the key
+     * @param ticks
+     *            the number of ticks from now, at least one
+     */
+    void schedule(K key, long ticks) {
+        lock.lock();
+        try {
+            Timeout<K> timeout = timeouts.get(key);
+            if (timeout != null) {
+                unlink(timeout);
+            }
+            timeout = new Timeout<K>(key, tick + Math.max(ticks, 1));
+            timeouts.put(key, timeout);
+            int slot = (int) (timeout.deadline & mask);
+            timeout.next = slots[slot];
+            if (timeout.next != null) {
+                timeout.next.prev = timeout;
+            }
+            slots[slot] = timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param key
+     *            the key
+     * @return true if the key had a deadline
+     */
+    boolean cancel(K key) {
+        lock.lock();
+        try {
+            Timeout<K> timeout = timeouts.remove(key);
+            if (timeout == null) {
+                return false;
+            }
+            unlink(timeout);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean contains(K key) {
+        lock.lock();
+        try {
+            return timeouts.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param key
+     *            the key
+     * @return the number of ticks left before the deadline of the key, or -1
+     *         if the key has no deadline
+     */
+    long getRemaining(K key) {
+        lock.lock();
+        try {
+            Timeout<K> timeout = timeouts.get(key);
+            return (timeout == null) ? -1 : timeout.deadline - tick;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the wheel forward by one tick.
+     *
+     * @return the keys whose deadline is the new tick. Their deadlines are
+     *         removed.
+     */
+    List<K> advance() {
+        lock.lock();
+        try {
+            tick++;
+            int slot = (int) (tick & mask);
+            List<K> due = null;
+            for (Timeout<K> timeout = slots[slot]; timeout != null;) {
+                Timeout<K> next = timeout.next;
+                if (timeout.deadline <= tick) {
+                    unlink(timeout);
+                    timeouts.remove(timeout.key);
+                    if (due == null) {
+                        due = new ArrayList<K>();
+                    }
+                    due.add(timeout.key);
+                }
+                timeout = next;
+            }
+            if (due == null) {
+                return Collections.emptyList();
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(Timeout<K> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[(int) (timeout.deadline & mask)] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            timeouts.clear();
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of keys with a deadline
+     */
+    int size() {
+        lock.lock();
+        try {
+            return timeouts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of slots
+     */
+    int getSlots() {
+        return slots.length;
+    }
+}
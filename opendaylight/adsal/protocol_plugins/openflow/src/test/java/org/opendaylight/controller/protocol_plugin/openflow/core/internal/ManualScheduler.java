@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler whose tasks only run when the test calls {@link #runPending()},
+ * regardless of their delay. One-shot tasks run once, periodic tasks on every
+ * call until they are cancelled.
+ */
+class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+    private final List<Task> tasks = new ArrayList<Task>();
+    private volatile boolean shutdown;
+
+    private class Task implements ScheduledFuture<Object> {
+        private final Runnable command;
+        private final boolean periodic;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+
+        Task(Runnable command, boolean periodic) {
+            this.command = command;
+            this.periodic = periodic;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false;
+            }
+            cancelled = true;
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public Object get() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return 0;
+        }
+    }
+
+    private synchronized Task add(Runnable command, boolean periodic) {
+        Task task = new Task(command, periodic);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Number of tasks neither cancelled nor run to completion.
+     */
+    synchronized int pending() {
+        int n = 0;
+        for (Task task : tasks) {
+            if (!task.done) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Runs the pending tasks in the calling thread. Tasks scheduled by them
+     * wait for the next call.
+     */
+    void runPending() {
+        List<Task> due;
+        synchronized (this) {
+            due = new ArrayList<Task>();
+            for (Task task : tasks) {
+                if (!task.done) {
+                    due.add(task);
+                }
+            }
+        }
+        for (Task task : due) {
+            if (task.done) {
+                continue;
+            }
+            if (!task.periodic) {
+                task.done = true;
+            }
+            task.command.run();
+        }
+        synchronized (this) {
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                if (tasks.get(i).done) {
+                    tasks.remove(i);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return add(command, false);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return add(command, true);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return add(command, true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        add(command, false);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return shutdown;
+    }
+}
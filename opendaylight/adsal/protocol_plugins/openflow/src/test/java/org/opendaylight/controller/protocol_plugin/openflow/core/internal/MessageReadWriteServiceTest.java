@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openflow.protocol.OFEchoRequest;
+import org.openflow.protocol.OFHello;
+import org.openflow.protocol.OFMessage;
+
+public class MessageReadWriteServiceTest {
+    private Selector selector;
+    private MockSocketChannel socket;
+    private CountingBufferPool bufferPool;
+    private MessageReadWriteService service;
+
+    /*
+     * Counts the buffers handed out and not yet returned.
+     */
+    private static class CountingBufferPool extends BufferPool {
+        private int outstanding;
+
+        @Override
+        ByteBuffer acquire() {
+            outstanding++;
+            return super.acquire();
+        }
+
+        @Override
+        void release(ByteBuffer buffer) {
+            outstanding--;
+            super.release(buffer);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        selector = Selector.open();
+        socket = new MockSocketChannel();
+        bufferPool = new CountingBufferPool();
+        service = new MessageReadWriteService(socket, selector, bufferPool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        socket.close();
+        selector.close();
+    }
+
+    private static OFMessage echo(int xid, int payloadLength) {
+        OFEchoRequest msg = new OFEchoRequest();
+        byte[] payload = new byte[payloadLength];
+        for (int i = 0; i < payloadLength; i++) {
+            payload[i] = (byte) (xid + i);
+        }
+        msg.setPayload(payload);
+        msg.setLengthU(OFMessage.MINIMUM_LENGTH + payloadLength);
+        msg.setXid(xid);
+        return msg;
+    }
+
+    private static byte[] encode(List<OFMessage> msgs) {
+        int length = 0;
+        for (OFMessage msg : msgs) {
+            length += msg.getLengthU();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (OFMessage msg : msgs) {
+            msg.writeTo(buffer);
+        }
+        return buffer.array();
+    }
+
+    @Test
+    public void testPartialMessageReassembly() throws Exception {
+        OFMessage hello = new OFHello();
+        hello.setXid(1);
+        List<OFMessage> sent = Arrays.asList(hello, echo(2, 100), echo(3, 50));
+        byte[] data = encode(sent);
+
+        // Cut in the header of the second message and in the payload of the
+        // third one
+        socket.addRead(Arrays.copyOfRange(data, 0, 12));
+        socket.addRead(Arrays.copyOfRange(data, 12, 130));
+        socket.addRead(Arrays.copyOfRange(data, 130, data.length));
+
+        List<OFMessage> received = new ArrayList<OFMessage>();
+        received.addAll(service.readMessages());
+        Assert.assertEquals(1, received.size());
+        // The partial message is kept in a pooled buffer
+        Assert.assertEquals(1, bufferPool.outstanding);
+
+        received.addAll(service.readMessages());
+        Assert.assertEquals(2, received.size());
+        Assert.assertEquals(1, bufferPool.outstanding);
+
+        received.addAll(service.readMessages());
+        Assert.assertEquals(sent, received);
+        // Nothing left to parse, the buffer is back in the pool
+        Assert.assertEquals(0, bufferPool.outstanding);
+    }
+
+    @Test
+    public void testBufferReturnedToPool() throws Exception {
+        OFMessage msg = echo(1, 20);
+        byte[] data = encode(Arrays.asList(msg));
+
+        socket.addRead(data);
+        Assert.assertEquals(Arrays.asList(msg), service.readMessages());
+        Assert.assertEquals(0, bufferPool.outstanding);
+
+        // Sent completely, nothing is held
+        service.asyncSend(msg);
+        Assert.assertArrayEquals(data, socket.getWritten());
+        Assert.assertEquals(0, bufferPool.outstanding);
+
+        // A partial message and unsent data are returned on stop
+        socket.addRead(Arrays.copyOfRange(data, 0, 10));
+        Assert.assertTrue(service.readMessages().isEmpty());
+        socket.setWriteLimit(0);
+        service.asyncSend(msg);
+        Assert.assertEquals(2, bufferPool.outstanding);
+        service.stop();
+        Assert.assertEquals(0, bufferPool.outstanding);
+
+        // Stopped, nothing is acquired any more
+        service.asyncSend(msg);
+        Assert.assertNull(service.readMessages());
+        Assert.assertEquals(0, bufferPool.outstanding);
+    }
+
+    @Test
+    public void testBatchedSendEndsInShortWrite() throws Exception {
+        // Three messages do not fit in one pooled buffer
+        List<OFMessage> msgs = Arrays.asList(echo(1, 60000), echo(2, 60000), echo(3, 60000));
+
+        socket.setWriteLimit(1000);
+        service.asyncSend(msgs);
+        // All of the batch goes out in one gathering write
+        Assert.assertEquals(1, socket.getWriteCalls());
+        Assert.assertEquals(1000, socket.getWritten().length);
+        Assert.assertEquals(2, bufferPool.outstanding);
+
+        // Drains the first buffer and part of the second one
+        socket.setWriteLimit(BufferPool.BUFFER_SIZE);
+        service.resumeSend();
+        Assert.assertEquals(2, socket.getWriteCalls());
+        Assert.assertEquals(1, bufferPool.outstanding);
+
+        // A message queued behind the remaining data keeps its order
+        OFMessage last = echo(4, 10);
+        socket.setWriteLimit(0);
+        service.asyncSend(last);
+        Assert.assertEquals(1, bufferPool.outstanding);
+
+        socket.setWriteLimit(Integer.MAX_VALUE);
+        service.resumeSend();
+        Assert.assertEquals(0, bufferPool.outstanding);
+
+        List<OFMessage> all = new ArrayList<OFMessage>(msgs);
+        all.add(last);
+        Assert.assertArrayEquals(encode(all), socket.getWritten());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Socket channel that is never connected. Reads return the queued chunks one
+ * per call, writes accept at most writeLimit bytes per call and record what
+ * was written.
+ */
+class MockSocketChannel extends SocketChannel {
+    private final Queue<byte[]> reads = new ArrayDeque<byte[]>();
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private int writeLimit = Integer.MAX_VALUE;
+    private int writeCalls;
+
+    MockSocketChannel() {
+        super(SelectorProvider.provider());
+    }
+
+    void addRead(byte[] chunk) {
+        reads.add(chunk);
+    }
+
+    void setWriteLimit(int writeLimit) {
+        this.writeLimit = writeLimit;
+    }
+
+    byte[] getWritten() {
+        return written.toByteArray();
+    }
+
+    int getWriteCalls() {
+        return writeCalls;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        byte[] chunk = reads.poll();
+        if (chunk == null) {
+            return 0;
+        }
+        dst.put(chunk);
+        return chunk.length;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        return (int) write(new ByteBuffer[] { src }, 0, 1);
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        writeCalls++;
+        int n = 0;
+        for (int i = offset; (i < offset + length) && (n < writeLimit); i++) {
+            while (srcs[i].hasRemaining() && (n < writeLimit)) {
+                written.write(srcs[i].get());
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public SocketChannel bind(SocketAddress local) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> SocketChannel setOption(SocketOption<T> name, T value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getOption(SocketOption<T> name) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<SocketOption<?>> supportedOptions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public SocketChannel shutdownInput() {
+        return this;
+    }
+
+    @Override
+    public SocketChannel shutdownOutput() {
+        return this;
+    }
+
+    @Override
+    public Socket socket() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return isOpen();
+    }
+
+    @Override
+    public boolean isConnectionPending() {
+        return false;
+    }
+
+    @Override
+    public boolean connect(SocketAddress remote) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean finishConnect() {
+        return true;
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public SocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    protected void implCloseSelectableChannel() {
+    }
+
+    @Override
+    protected void implConfigureBlocking(boolean block) {
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.core.internal;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IStatisticsReplyListener;
+import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
+import org.openflow.protocol.OFEchoReply;
+import org.openflow.protocol.OFEchoRequest;
+import org.openflow.protocol.OFMessage;
+import org.openflow.protocol.OFStatisticsRequest;
+import org.openflow.protocol.OFType;
+import org.openflow.protocol.factory.BasicFactory;
+import org.openflow.protocol.statistics.OFStatisticsType;
+
+/**
+ * Switch connections served by one {@link SwitchEventLoop} over loopback
+ * sockets, with the shared timer replaced by a {@link ManualScheduler}. The
+ * test plays the part of the switches.
+ */
+public class SwitchHandlerTest {
+    private static final long WAIT = 5000;
+    private static final int QUIET = 300;
+
+    private final BasicFactory factory = new BasicFactory();
+    private ServerSocketChannel server;
+    private SwitchEventLoop eventLoop;
+    private ManualScheduler timer;
+    private TestController controller;
+    private final List<TestSwitch> switches = new ArrayList<TestSwitch>();
+
+    /*
+     * Records the switch events instead of dispatching them
+     */
+    private static class TestController extends Controller {
+        private final BlockingQueue<SwitchEvent> events = new LinkedBlockingQueue<SwitchEvent>();
+
+        @Override
+        public void takeSwitchEventAdd(ISwitch sw) {
+            events.add(new SwitchEvent(SwitchEvent.SwitchEventType.SWITCH_ADD, sw, null, 0));
+        }
+
+        @Override
+        public void takeSwitchEventDelete(ISwitch sw) {
+            events.add(new SwitchEvent(SwitchEvent.SwitchEventType.SWITCH_DELETE, sw, null, 0));
+        }
+
+        @Override
+        public void takeSwitchEventError(ISwitch sw) {
+            events.add(new SwitchEvent(SwitchEvent.SwitchEventType.SWITCH_ERROR, sw, null, 0));
+        }
+
+        @Override
+        public void takeSwitchEventMsg(ISwitch sw, OFMessage msg) {
+        }
+    }
+
+    /*
+     * The switch end of a connection and the handler serving it
+     */
+    private class TestSwitch {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final SocketChannel channel;
+        private final SwitchHandler handler;
+
+        TestSwitch(String name) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.socket().getLocalPort());
+            socket.setSoTimeout(QUIET);
+            in = new DataInputStream(socket.getInputStream());
+            channel = server.accept();
+            handler = new SwitchHandler(controller, channel, name, eventLoop, timer);
+            handler.start();
+        }
+
+        void send(OFMessage msg) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(msg.getLengthU());
+            msg.writeTo(buffer);
+            socket.getOutputStream().write(buffer.array());
+        }
+
+        /*
+         * Returns the next message from the controller, or null if none
+         * comes within QUIET ms
+         */
+        OFMessage poll() throws IOException {
+            byte[] data = new byte[OFMessage.MINIMUM_LENGTH];
+            try {
+                in.readFully(data, 0, 1);
+            } catch (SocketTimeoutException e) {
+                return null;
+            }
+            in.readFully(data, 1, data.length - 1);
+            int length = ((data[2] & 0xff) << 8) | (data[3] & 0xff);
+            byte[] msg = new byte[length];
+            System.arraycopy(data, 0, msg, 0, data.length);
+            in.readFully(msg, data.length, length - data.length);
+            return factory.parseMessages(ByteBuffer.wrap(msg)).get(0);
+        }
+
+        /*
+         * Returns the next message from the controller, which must be of
+         * this type
+         */
+        OFMessage receive(OFType type) throws IOException {
+            long deadline = System.currentTimeMillis() + WAIT;
+            OFMessage msg;
+            while ((msg = poll()) == null) {
+                Assert.assertTrue("No " + type + " received", System.currentTimeMillis() < deadline);
+            }
+            Assert.assertEquals(type, msg.getType());
+            return msg;
+        }
+
+        /*
+         * Exchanges an echo with the controller, so that all the messages
+         * sent before have been handled by the event loop
+         */
+        void sync() throws IOException {
+            OFEchoRequest echo = (OFEchoRequest) factory.getMessage(OFType.ECHO_REQUEST);
+            echo.setXid(-1);
+            send(echo);
+            Assert.assertEquals(-1, receive(OFType.ECHO_REPLY).getXid());
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        System.setProperty("of.switchLivenessTimeout", "0");
+        server = ServerSocketChannel.open();
+        server.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        eventLoop = new SwitchEventLoop("SwitchEventLoop-test", new BufferPool());
+        eventLoop.start();
+        timer = new ManualScheduler();
+        controller = new TestController();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (TestSwitch sw : switches) {
+            sw.handler.stop();
+            sw.socket.close();
+        }
+        eventLoop.shutDown();
+        server.close();
+        System.clearProperty("of.switchLivenessTimeout");
+    }
+
+    private TestSwitch connect() throws IOException {
+        TestSwitch sw = new TestSwitch("SwitchHandler-" + switches.size());
+        switches.add(sw);
+        sw.receive(OFType.HELLO);
+        return sw;
+    }
+
+    private static void waitUntilDeregistered(TestSwitch sw, SwitchEventLoop eventLoop) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT;
+        while (sw.channel.keyFor(eventLoop.getSelector()) != null) {
+            Assert.assertTrue("Channel still registered", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testSwitchesShareEventLoop() throws Exception {
+        TestSwitch sw1 = connect();
+        TestSwitch sw2 = connect();
+        TestSwitch sw3 = connect();
+        Assert.assertNotNull(sw1.channel.keyFor(eventLoop.getSelector()));
+        Assert.assertNotNull(sw2.channel.keyFor(eventLoop.getSelector()));
+        Assert.assertNotNull(sw3.channel.keyFor(eventLoop.getSelector()));
+
+        // Each switch is answered on its own connection
+        for (TestSwitch sw : switches) {
+            sw.send(factory.getMessage(OFType.HELLO));
+        }
+        for (TestSwitch sw : switches) {
+            sw.receive(OFType.FEATURES_REQUEST);
+        }
+        OFEchoRequest echo = (OFEchoRequest) factory.getMessage(OFType.ECHO_REQUEST);
+        echo.setPayload(new byte[] { 1, 2, 3 });
+        echo.setLengthU(OFMessage.MINIMUM_LENGTH + 3);
+        echo.setXid(42);
+        sw2.send(echo);
+        OFEchoReply reply = (OFEchoReply) sw2.receive(OFType.ECHO_REPLY);
+        Assert.assertEquals(42, reply.getXid());
+        Assert.assertEquals(3, reply.getPayload().length);
+        Assert.assertNull(sw1.poll());
+        Assert.assertNull(sw3.poll());
+
+        // The switch timers all run on the shared scheduler
+        Assert.assertEquals(3, timer.pending());
+    }
+
+    @Test
+    public void testTransmitHeldBackUntilBarrierReply() throws Exception {
+        TestSwitch sw = connect();
+        Assert.assertEquals(Boolean.TRUE, sw.handler.asyncSendBarrierMessage());
+        sw.handler.asyncSend(factory.getMessage(OFType.ECHO_REQUEST));
+
+        OFMessage barrier = sw.receive(OFType.BARRIER_REQUEST);
+        Assert.assertNull(sw.poll());
+        Assert.assertEquals(1, timer.pending());
+
+        OFMessage barrierReply = factory.getMessage(OFType.BARRIER_REPLY);
+        barrierReply.setXid(barrier.getXid());
+        sw.send(barrierReply);
+        sw.receive(OFType.ECHO_REQUEST);
+        // The reply cancelled the timeout
+        Assert.assertEquals(0, timer.pending());
+    }
+
+    @Test
+    public void testTransmitHeldBackUntilBarrierTimeout() throws Exception {
+        TestSwitch sw = connect();
+        sw.handler.asyncSendBarrierMessage();
+        sw.handler.asyncSend(factory.getMessage(OFType.ECHO_REQUEST));
+        sw.handler.asyncSendBarrierMessage();
+        sw.handler.asyncSend(factory.getMessage(OFType.ECHO_REQUEST));
+
+        sw.receive(OFType.BARRIER_REQUEST);
+        Assert.assertNull(sw.poll());
+
+        // No reply, the timeout lets one more message through and holds
+        // the queue at the next barrier
+        timer.runPending();
+        sw.receive(OFType.ECHO_REQUEST);
+        sw.receive(OFType.BARRIER_REQUEST);
+        Assert.assertNull(sw.poll());
+
+        timer.runPending();
+        sw.receive(OFType.ECHO_REQUEST);
+        Assert.assertNull(sw.poll());
+    }
+
+    @Test
+    public void testLivenessTimeout() throws Exception {
+        TestSwitch alive = connect();
+        TestSwitch idle = connect();
+        alive.send(factory.getMessage(OFType.HELLO));
+        idle.send(factory.getMessage(OFType.HELLO));
+        alive.receive(OFType.FEATURES_REQUEST);
+        idle.receive(OFType.FEATURES_REQUEST);
+        Assert.assertEquals(2, timer.pending());
+
+        // Both are idle for longer than the timeout and get probed
+        Thread.sleep(10);
+        timer.runPending();
+        OFMessage probe = alive.receive(OFType.ECHO_REQUEST);
+        idle.receive(OFType.ECHO_REQUEST);
+        OFMessage echoReply = factory.getMessage(OFType.ECHO_REPLY);
+        echoReply.setXid(probe.getXid());
+        alive.send(echoReply);
+        alive.sync();
+        Assert.assertTrue(controller.events.isEmpty());
+
+        // Only the switch which did not answer the probe is reported
+        Thread.sleep(10);
+        timer.runPending();
+        SwitchEvent event = controller.events.poll(WAIT, TimeUnit.MILLISECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertEquals(SwitchEvent.SwitchEventType.SWITCH_DELETE, event.getEventType());
+        Assert.assertSame(idle.handler, event.getSwitch());
+        Assert.assertTrue(controller.events.isEmpty());
+        alive.receive(OFType.ECHO_REQUEST);
+    }
+
+    @Test
+    public void testStatisticsResponseTimeout() throws Exception {
+        TestSwitch sw = connect();
+        final BlockingQueue<Object> results = new LinkedBlockingQueue<Object>();
+        OFStatisticsRequest req = new OFStatisticsRequest();
+        req.setStatisticType(OFStatisticsType.DESC);
+        sw.handler.asyncGetStatistics(req, new IStatisticsReplyListener() {
+            @Override
+            public void statisticsReceived(ISwitch sw, Object result) {
+                results.add((result == null) ? "timeout" : result);
+            }
+        });
+        sw.receive(OFType.STATS_REQUEST);
+        Assert.assertEquals(1, timer.pending());
+        Assert.assertTrue(results.isEmpty());
+
+        timer.runPending();
+        Assert.assertEquals("timeout", results.poll());
+        Assert.assertEquals(0, timer.pending());
+    }
+
+    @Test
+    public void testDisconnect() throws Exception {
+        TestSwitch stopped = connect();
+        TestSwitch closed = connect();
+        TestSwitch other = connect();
+        stopped.send(factory.getMessage(OFType.HELLO));
+        stopped.receive(OFType.FEATURES_REQUEST);
+        Assert.assertEquals(1, timer.pending());
+
+        // Stopped by the controller: connection closed, deregistered from
+        // the loop and the switch timer cancelled
+        stopped.handler.stop();
+        waitUntilDeregistered(stopped, eventLoop);
+        Assert.assertEquals(-1, stopped.socket.getInputStream().read());
+        Assert.assertEquals(0, timer.pending());
+
+        // Closed by the switch: reported as an error and deregistered
+        closed.socket.close();
+        SwitchEvent event = controller.events.poll(WAIT, TimeUnit.MILLISECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertEquals(SwitchEvent.SwitchEventType.SWITCH_ERROR, event.getEventType());
+        Assert.assertSame(closed.handler, event.getSwitch());
+        waitUntilDeregistered(closed, eventLoop);
+
+        // The other switch of the loop is still served
+        Assert.assertNotNull(other.channel.keyFor(eventLoop.getSelector()));
+        other.sync();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.protocol_plugin.openflow.IDiscoveryListener;
+import org.opendaylight.controller.protocol_plugin.openflow.IInventoryProvider;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IController;
+import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
+import org.opendaylight.controller.sal.connection.IPluginOutConnectionService;
+import org.opendaylight.controller.sal.core.Config;
+import org.opendaylight.controller.sal.core.Edge;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.core.Property;
+import org.opendaylight.controller.sal.core.State;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.LLDP;
+import org.opendaylight.controller.sal.packet.LLDPTLV;
+import org.opendaylight.controller.sal.packet.RawPacket;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.openflow.protocol.OFPacketOut;
+import org.openflow.protocol.action.OFActionOutput;
+
+public class DiscoveryServiceTest {
+    // Periods in ticks, for the configured periods and the default tick
+    private static final int THRESHOLD = 10;
+    private static final int INTERVAL = 20;
+    private static final int TIMEOUT = 2 * INTERVAL + 60;
+    private static final int AGEOUT = 1200;
+
+    private final Map<Long, ISwitch> switches = new ConcurrentHashMap<Long, ISwitch>();
+    private final ConcurrentMap<NodeConnector, Map<String, Property>> portProps =
+            new ConcurrentHashMap<NodeConnector, Map<String, Property>>();
+    // Discovery packets sent, by egress port
+    private final Map<NodeConnector, byte[]> sent = new HashMap<NodeConnector, byte[]>();
+    // Ports sent to since the last tick() call
+    private final List<NodeConnector> sentPorts = new ArrayList<NodeConnector>();
+    // Edge notifications, as "type edge"
+    private final List<String> notified = new ArrayList<String>();
+    private final NodeConnector a = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(1L));
+    private final NodeConnector b = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(2L));
+    private DiscoveryService ds;
+
+    @Before
+    public void setUp() {
+        System.setProperty("of.discoveryThreshold", String.valueOf(THRESHOLD / 10));
+        System.setProperty("of.discoveryInterval", String.valueOf(INTERVAL / 10));
+        addSwitch(1L);
+        addSwitch(2L);
+
+        ds = new DiscoveryService();
+        ds.setController(proxy(IController.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getSwitches")) {
+                    return switches;
+                }
+                return null;
+            }
+        }));
+        ds.setInventoryProvider(proxy(IInventoryProvider.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getNodeConnectorProps")) {
+                    return portProps;
+                }
+                return null;
+            }
+        }));
+        ds.setIPluginOutConnectionService(proxy(IPluginOutConnectionService.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("isLocal")) {
+                    return true;
+                }
+                return null;
+            }
+        }));
+        ds.setDiscoveryListener(proxy(IDiscoveryListener.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("notifyEdge")) {
+                    notified.add(args[1] + " " + args[0]);
+                }
+                return null;
+            }
+        }));
+        ds.init();
+    }
+
+    @After
+    public void tearDown() {
+        ds.stop();
+        ds.destroy();
+        System.clearProperty("of.discoveryThreshold");
+        System.clearProperty("of.discoveryInterval");
+    }
+
+    @Test
+    public void testFastRetryAndPeriodicTransmission() throws Exception {
+        addPort(a);
+
+        // first packet at the next tick, the retry after the threshold
+        Assert.assertEquals(Collections.singleton(a), tick(1));
+        Assert.assertEquals(Collections.emptySet(), tick(THRESHOLD - 1));
+        Assert.assertEquals(Collections.singleton(a), tick(1));
+
+        // then once per interval
+        Assert.assertEquals(Collections.emptySet(), tick(INTERVAL - 1));
+        Assert.assertEquals(Collections.singleton(a), tick(1));
+        Assert.assertEquals(Collections.emptySet(), tick(INTERVAL - 1));
+        Assert.assertEquals(Collections.singleton(a), tick(1));
+    }
+
+    @Test
+    public void testBatchMaxPorts() throws Exception {
+        System.setProperty("of.discoveryBatchMaxPorts", "1");
+        try {
+            ds.stop();
+            ds.destroy();
+            ds.init();
+        } finally {
+            System.clearProperty("of.discoveryBatchMaxPorts");
+        }
+        addPort(a);
+        addPort(b);
+
+        // the port over the limit moves to the next tick
+        Set<NodeConnector> first = tick(1);
+        Set<NodeConnector> second = tick(1);
+        Assert.assertEquals(1, first.size());
+        Assert.assertEquals(1, second.size());
+        second.addAll(first);
+        Assert.assertEquals(new HashSet<NodeConnector>(Arrays.asList(a, b)), second);
+    }
+
+    @Test
+    public void testEdgeDiscoveredAndTimedOut() throws Exception {
+        addPort(a);
+        addPort(b);
+        Assert.assertEquals(new HashSet<NodeConnector>(Arrays.asList(a, b)), tick(1));
+
+        // the packet sent from a comes back on b
+        receive(b, sent.get(a));
+        Edge edge = new Edge(a, b);
+        Assert.assertEquals(Collections.singletonList("ADDED " + edge), notified);
+
+        // no retry from a once its edge is discovered, b still retries
+        Assert.assertEquals(Collections.emptySet(), tick(THRESHOLD - 1));
+        Assert.assertEquals(Collections.singleton(b), tick(1));
+
+        // the edge is held until the timeout without a new packet
+        tick(TIMEOUT - THRESHOLD - 1);
+        Assert.assertEquals(1, notified.size());
+        tick(1);
+        Assert.assertEquals(Arrays.asList("ADDED " + edge, "REMOVED " + edge), notified);
+    }
+
+    @Test
+    public void testEdgeHeldByNewPackets() throws Exception {
+        addPort(a);
+        addPort(b);
+        tick(1);
+        byte[] frame = sent.get(a);
+        receive(b, frame);
+
+        tick(TIMEOUT - 1);
+        receive(b, frame);
+        tick(TIMEOUT - 1);
+        Assert.assertEquals(Arrays.asList("ADDED " + new Edge(a, b), "CHANGED " + new Edge(a, b)), notified);
+    }
+
+    @Test
+    public void testProductionEdgeAging() throws Exception {
+        addPort(a);
+        tick(1);
+        byte[] frame = createProductionFrame();
+        receive(a, frame);
+        Assert.assertEquals(1, notified.size());
+        Assert.assertTrue(notified.get(0).startsWith("ADDED "));
+
+        // a new packet restarts the aging
+        tick(AGEOUT / 2);
+        receive(a, frame);
+        tick(AGEOUT - 1);
+        Assert.assertEquals(1, notified.size());
+        tick(1);
+        Assert.assertEquals(2, notified.size());
+        Assert.assertTrue(notified.get(1).startsWith("REMOVED "));
+    }
+
+    private void addSwitch(final long sid) {
+        switches.put(sid, proxy(ISwitch.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("isOperational")) {
+                    return true;
+                }
+                if (method.getName().equals("getId")) {
+                    return sid;
+                }
+                if (method.getName().equals("getEnabledPorts")) {
+                    return Collections.emptyList();
+                }
+                if (method.getName().equals("asyncSend") && (args[0] instanceof OFPacketOut)) {
+                    OFPacketOut po = (OFPacketOut) args[0];
+                    short port = ((OFActionOutput) po.getActions().get(0)).getPort();
+                    NodeConnector nodeConnector = NodeConnectorCreator.createOFNodeConnector(port,
+                            NodeCreator.createOFNode(sid));
+                    sentPorts.add(nodeConnector);
+                    sent.put(nodeConnector, po.getPacketData());
+                }
+                return null;
+            }
+        }));
+    }
+
+    private Set<NodeConnector> tick(int ticks) {
+        sentPorts.clear();
+        for (int i = 0; i < ticks; i++) {
+            ds.new DiscoveryTimerTask().run();
+        }
+        return new HashSet<NodeConnector>(sentPorts);
+    }
+
+    private void addPort(NodeConnector nodeConnector) {
+        Map<String, Property> props = new HashMap<String, Property>();
+        props.put(Config.ConfigPropName, new Config(Config.ADMIN_UP));
+        props.put(State.StatePropName, new State(State.EDGE_UP));
+        portProps.put(nodeConnector, props);
+        ds.updateNodeConnector(nodeConnector, UpdateType.ADDED, new HashSet<Property>(props.values()));
+    }
+
+    private void receive(NodeConnector nodeConnector, byte[] frame) throws Exception {
+        RawPacket pkt = new RawPacket(frame);
+        pkt.setIncomingNodeConnector(nodeConnector);
+        ds.receiveDataPacket(pkt);
+    }
+
+    /*
+     * LLDP frame of a switch not controlled by us, without the custom TLV
+     * naming the port it was sent from
+     */
+    private static byte[] createProductionFrame() throws Exception {
+        byte[] cidValue = LLDPTLV.createChassisIDTLVValue("00:00:00:00:00:00:00:99");
+        LLDPTLV chassisIdTlv = new LLDPTLV();
+        chassisIdTlv.setType(LLDPTLV.TLVType.ChassisID.getValue()).setLength((short) cidValue.length)
+                .setValue(cidValue);
+        byte[] pidValue = LLDPTLV.createPortIDTLVValue("7");
+        LLDPTLV portIdTlv = new LLDPTLV();
+        portIdTlv.setType(LLDPTLV.TLVType.PortID.getValue()).setLength((short) pidValue.length).setValue(pidValue);
+        byte[] ttl = new byte[] { (byte) 0, (byte) 120 };
+        LLDPTLV ttlTlv = new LLDPTLV();
+        ttlTlv.setType(LLDPTLV.TLVType.TTL.getValue()).setLength((short) ttl.length).setValue(ttl);
+        byte[] snValue = LLDPTLV.createSystemNameTLVValue("production");
+        LLDPTLV systemNameTlv = new LLDPTLV();
+        systemNameTlv.setType(LLDPTLV.TLVType.SystemName.getValue()).setLength((short) snValue.length)
+                .setValue(snValue);
+
+        LLDP lldp = new LLDP();
+        lldp.setChassisId(chassisIdTlv).setPortId(portIdTlv).setTtl(ttlTlv).setSystemNameId(systemNameTlv);
+        Ethernet eth = new Ethernet();
+        eth.setSourceMACAddress(new byte[] { 0, 0, 0, 0, 0, (byte) 0x99 })
+                .setDestinationMACAddress(LLDP.LLDPMulticastMac).setEtherType(EtherTypes.LLDP.shortValue())
+                .setPayload(lldp);
+        return eth.serialize();
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
@@ -9,14 +9,21 @@
 
 package org.opendaylight.controller.protocol_plugin.openflow.internal;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IController;
+import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
 import org.opendaylight.controller.protocol_plugin.openflow.vendorextension.v6extension.V6Match;
 import org.opendaylight.controller.sal.action.Action;
 import org.opendaylight.controller.sal.action.Flood;
@@ -34,16 +41,23 @@ import org.opendaylight.controller.sal.action.SetTpDst;
 import org.opendaylight.controller.sal.action.SetTpSrc;
 import org.opendaylight.controller.sal.action.SetVlanId;
 import org.opendaylight.controller.sal.action.SwPath;
+import org.opendaylight.controller.sal.connection.IPluginOutConnectionService;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
 import org.opendaylight.controller.sal.match.Match;
 import org.opendaylight.controller.sal.match.MatchType;
 import org.opendaylight.controller.sal.utils.EtherTypes;
 import org.opendaylight.controller.sal.utils.IPProtocols;
 import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
 import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+import org.openflow.protocol.OFError;
+import org.openflow.protocol.OFFlowMod;
 import org.openflow.protocol.OFMatch;
+import org.openflow.protocol.OFMessage;
 import org.openflow.protocol.action.OFAction;
 import org.openflow.util.U32;
 
@@ -414,4 +428,162 @@ public class FlowProgrammerServiceTest {
         Assert.assertTrue(aMatch.isIPv6());
 
     }
+
+    @Test
+    public void testUpdateFlowsStatus() {
+        Node node = NodeCreator.createOFNode(1L);
+        BatchSwitch sw = new BatchSwitch();
+        FlowProgrammerService service = createService(node, sw, true);
+
+        Flow added = createFlow(node, (short) 1, 100);
+        Flow removed = createFlow(node, (short) 2, 100);
+        Flow oldFlow = createFlow(node, (short) 3, 100);
+        Flow newFlow = createFlow(node, (short) 3, 100);
+        newFlow.setIdleTimeout((short) 30);
+        Match badMatch = new Match();
+        badMatch.setField(MatchType.NW_PROTO, IPProtocols.TCP.byteValue());
+        Flow invalid = new Flow(badMatch, new ArrayList<Action>());
+
+        sw.results.add(Arrays.<Object>asList(Boolean.TRUE, new OFError(), Boolean.TRUE));
+        List<Status> statuses = service.updateFlows(node, Arrays.asList(FlowUpdate.add(added),
+                FlowUpdate.remove(removed), FlowUpdate.modify(oldFlow, newFlow), FlowUpdate.add(invalid)));
+
+        // Valid updates share a single batch, in order
+        Assert.assertEquals(1, sw.batches.size());
+        Assert.assertEquals(Arrays.asList(OFFlowMod.OFPFC_ADD, OFFlowMod.OFPFC_DELETE_STRICT,
+                OFFlowMod.OFPFC_MODIFY_STRICT), commands(sw.batches.get(0)));
+        Assert.assertEquals(4, statuses.size());
+        Assert.assertTrue(statuses.get(0).isSuccess());
+        Assert.assertEquals(StatusCode.INTERNALERROR, statuses.get(1).getCode());
+        Assert.assertTrue(statuses.get(2).isSuccess());
+        Assert.assertEquals(StatusCode.NOTACCEPTABLE, statuses.get(3).getCode());
+
+        // Switch timing out the batch
+        sw.results.add(Arrays.<Object>asList(Boolean.FALSE));
+        statuses = service.updateFlows(node, Arrays.asList(FlowUpdate.add(added)));
+        Assert.assertEquals(StatusCode.TIMEOUT, statuses.get(0).getCode());
+    }
+
+    @Test
+    public void testUpdateFlowsModifyAddsAfterDelete() {
+        Node node = NodeCreator.createOFNode(1L);
+        BatchSwitch sw = new BatchSwitch();
+        FlowProgrammerService service = createService(node, sw, true);
+
+        Flow old1 = createFlow(node, (short) 1, 100);
+        Flow new1 = createFlow(node, (short) 1, 200);
+        Flow old2 = createFlow(node, (short) 2, 100);
+        Flow new2 = createFlow(node, (short) 4, 100);
+
+        // Delete of the first modification succeeds, the second one fails
+        sw.results.add(Arrays.<Object>asList(Boolean.TRUE, new OFError()));
+        sw.results.add(Arrays.<Object>asList(Boolean.TRUE));
+        List<Status> statuses = service.updateFlows(node, Arrays.asList(FlowUpdate.modify(old1, new1),
+                FlowUpdate.modify(old2, new2)));
+
+        Assert.assertEquals(2, sw.batches.size());
+        Assert.assertEquals(Arrays.asList(OFFlowMod.OFPFC_DELETE_STRICT, OFFlowMod.OFPFC_DELETE_STRICT),
+                commands(sw.batches.get(0)));
+        // Only the add of the first modification goes out
+        Assert.assertEquals(Arrays.asList(OFFlowMod.OFPFC_ADD), commands(sw.batches.get(1)));
+        Assert.assertTrue(statuses.get(0).isSuccess());
+        Assert.assertEquals(StatusCode.INTERNALERROR, statuses.get(1).getCode());
+
+        // Add failing after a successful delete
+        sw.batches.clear();
+        sw.results.add(Arrays.<Object>asList(Boolean.TRUE));
+        sw.results.add(Arrays.<Object>asList(new OFError()));
+        statuses = service.updateFlows(node, Arrays.asList(FlowUpdate.modify(old1, new1)));
+        Assert.assertEquals(2, sw.batches.size());
+        Assert.assertEquals(StatusCode.INTERNALERROR, statuses.get(0).getCode());
+    }
+
+    @Test
+    public void testUpdateFlowsNotSent() {
+        Node node = NodeCreator.createOFNode(1L);
+        BatchSwitch sw = new BatchSwitch();
+        Flow flow = createFlow(node, (short) 1, 100);
+        List<FlowUpdate> updates = Arrays.asList(FlowUpdate.add(flow), FlowUpdate.remove(flow));
+
+        List<Status> statuses = createService(node, sw, false).updateFlows(node, updates);
+        Assert.assertEquals(2, statuses.size());
+        for (Status status : statuses) {
+            Assert.assertEquals(StatusCode.NOTALLOWED, status.getCode());
+        }
+
+        statuses = createService(node, null, true).updateFlows(node, updates);
+        Assert.assertEquals(2, statuses.size());
+        for (Status status : statuses) {
+            Assert.assertEquals(StatusCode.GONE, status.getCode());
+        }
+        Assert.assertTrue(sw.batches.isEmpty());
+    }
+
+    private static Flow createFlow(Node node, short inPort, int priority) {
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, NodeConnectorCreator.createNodeConnector(inPort, node));
+        List<Action> actions = new ArrayList<Action>();
+        actions.add(new Output(NodeConnectorCreator.createNodeConnector((short) 10, node)));
+        Flow flow = new Flow(match, actions);
+        flow.setPriority((short) priority);
+        return flow;
+    }
+
+    private static List<Short> commands(List<OFMessage> msgs) {
+        List<Short> commands = new ArrayList<Short>();
+        for (OFMessage msg : msgs) {
+            commands.add(((OFFlowMod) msg).getCommand());
+        }
+        return commands;
+    }
+
+    private static FlowProgrammerService createService(final Node node, final BatchSwitch sw, final boolean local) {
+        FlowProgrammerService service = new FlowProgrammerService();
+        service.setController((IController) Proxy.newProxyInstance(IController.class.getClassLoader(),
+                new Class<?>[] { IController.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("getSwitch") && (sw != null) && node.getID().equals(args[0])) {
+                            return sw.sw;
+                        }
+                        return null;
+                    }
+                }));
+        service.setIPluginOutConnectionService((IPluginOutConnectionService) Proxy.newProxyInstance(
+                IPluginOutConnectionService.class.getClassLoader(),
+                new Class<?>[] { IPluginOutConnectionService.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("isLocal")) {
+                            return local;
+                        }
+                        return null;
+                    }
+                }));
+        return service;
+    }
+
+    /**
+     * Switch recording the batches sent to it and answering them with the
+     * queued results
+     */
+    private static class BatchSwitch implements InvocationHandler {
+        private final List<List<OFMessage>> batches = new ArrayList<List<OFMessage>>();
+        private final Queue<List<Object>> results = new LinkedList<List<Object>>();
+        private final ISwitch sw = (ISwitch) Proxy.newProxyInstance(ISwitch.class.getClassLoader(),
+                new Class<?>[] { ISwitch.class }, this);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("syncSend") && (args[0] instanceof List)) {
+                List<OFMessage> msgs = (List<OFMessage>) args[0];
+                batches.add(new ArrayList<OFMessage>(msgs));
+                List<Object> result = results.poll();
+                Assert.assertEquals(msgs.size(), result.size());
+                return result;
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.protocol_plugin.openflow.IOFStatisticsListener;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IController;
+import org.opendaylight.controller.protocol_plugin.openflow.core.IStatisticsReplyListener;
+import org.opendaylight.controller.protocol_plugin.openflow.core.ISwitch;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.openflow.protocol.OFError;
+import org.openflow.protocol.OFStatisticsRequest;
+import org.openflow.protocol.statistics.OFFlowStatisticsReply;
+import org.openflow.protocol.statistics.OFStatistics;
+import org.openflow.protocol.statistics.OFStatisticsType;
+
+public class OFStatisticsManagerTest {
+    // Polling interval of every statistics type, in scheduler ticks
+    private static final int PERIOD = 10;
+    private final Map<Long, ISwitch> switches = new ConcurrentHashMap<Long, ISwitch>();
+    // Requests sent to the switches, waiting for the test to reply
+    private final BlockingQueue<SentRequest> sent = new LinkedBlockingQueue<SentRequest>();
+    // Notifications received by the listener, as "switchId:type"
+    private final BlockingQueue<String> published = new LinkedBlockingQueue<String>();
+    // Switches removed from the inventory when a request is sent to them
+    private final Set<Long> removeOnSend = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+    private OFStatisticsManager sm;
+
+    @Before
+    public void setUp() {
+        for (String property : new String[] { "of.flowStatsPollInterval", "of.portStatsPollInterval",
+                "of.descStatsPollInterval", "of.tableStatsPollInterval" }) {
+            System.setProperty(property, "1");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (sm != null) {
+            sm.stop();
+        }
+        System.clearProperty("of.statsMaxInFlight");
+    }
+
+    @Test
+    public void testInFlightLimit() throws Exception {
+        start(4);
+        addSwitches(1, 3);
+        dispatch(PERIOD);
+
+        // 3 switches, 4 statistics types each
+        Assert.assertEquals(4, sent.size());
+        Assert.assertEquals(8, sm.pendingStatsRequests.size());
+
+        // Due again, but still in flight or waiting
+        dispatch(2 * PERIOD);
+        Assert.assertEquals(4, sent.size());
+        Assert.assertEquals(8, sm.pendingStatsRequests.size());
+    }
+
+    @Test
+    public void testFreedSlotToPendingRequest() throws Exception {
+        start(4);
+        addSwitches(1, 3);
+        dispatch(PERIOD);
+
+        Set<String> polled = new HashSet<String>();
+        List<SentRequest> inFlight = new ArrayList<SentRequest>(sent);
+        sent.clear();
+        for (SentRequest request : inFlight) {
+            polled.add(request.toString());
+        }
+        while (!inFlight.isEmpty()) {
+            OFStatisticsManager.StatsRequest next = firstPending();
+            reply(inFlight.remove(0), Collections.<OFStatistics>emptyList());
+            if (next == null) {
+                continue;
+            }
+            // The slot goes to the oldest waiting request, and to that one only
+            SentRequest request = nextSent();
+            Assert.assertEquals(next.switchId, request.switchId);
+            Assert.assertEquals(next.type, request.getPolledType());
+            assertNoneSent();
+            Assert.assertTrue(polled.add(request.toString()));
+            inFlight.add(request);
+        }
+        Assert.assertEquals(12, polled.size());
+        Assert.assertTrue(sm.pendingStatsRequests.isEmpty());
+    }
+
+    @Test
+    public void testReleaseOnFailure() throws Exception {
+        start(1);
+        addSwitches(1, 1);
+        dispatch(PERIOD);
+        Assert.assertEquals(3, sm.pendingStatsRequests.size());
+
+        // Timed out
+        reply(nextSent(), null);
+        SentRequest request = nextSent();
+        Assert.assertEquals(2, sm.pendingStatsRequests.size());
+
+        // Rejected by the switch
+        reply(request, new OFError());
+        request = nextSent();
+        Assert.assertEquals(1, sm.pendingStatsRequests.size());
+
+        reply(request, Collections.<OFStatistics>emptyList());
+        reply(nextSent(), null);
+        assertNoneSent();
+        Assert.assertTrue(sm.pendingStatsRequests.isEmpty());
+        // Failed polls are not notified
+        Assert.assertTrue(published.isEmpty());
+
+        // The slot is free again
+        dispatchUntilSent(1);
+    }
+
+    @Test
+    public void testReleaseOnSwitchRemoval() throws Exception {
+        start(2);
+        addSwitches(1, 3);
+        dispatch(PERIOD);
+        List<SentRequest> inFlight = new ArrayList<SentRequest>(sent);
+        sent.clear();
+        Assert.assertEquals(10, sm.pendingStatsRequests.size());
+
+        // Switch 1 leaves the inventory, switch 2 disconnects before
+        updateNode(1, UpdateType.REMOVED);
+        switches.remove(2L);
+        for (OFStatisticsManager.StatsRequest request : sm.pendingStatsRequests) {
+            Assert.assertFalse(request.switchId.equals(1L));
+        }
+
+        int waiting = 0;
+        for (OFStatisticsManager.StatsRequest request : sm.pendingStatsRequests) {
+            if (request.switchId.equals(3L)) {
+                waiting++;
+            }
+        }
+
+        // The requests of switch 2 free their slot at once, every freed slot
+        // goes to switch 3
+        for (int i = 0; i < waiting; i++) {
+            reply(inFlight.remove(0), null);
+            SentRequest request = nextSent();
+            Assert.assertEquals(Long.valueOf(3L), request.switchId);
+            inFlight.add(request);
+        }
+        for (SentRequest request : inFlight) {
+            reply(request, null);
+        }
+        assertNoneSent();
+
+        // No slot was lost
+        updateNode(2, UpdateType.REMOVED);
+        updateNode(3, UpdateType.REMOVED);
+        addSwitches(4, 4);
+        dispatchUntilSent(2);
+        dispatch(2 * PERIOD);
+        Assert.assertEquals(2, sent.size());
+        for (SentRequest request : sent) {
+            Assert.assertEquals(Long.valueOf(4L), request.switchId);
+        }
+        Assert.assertEquals(2, sm.pendingStatsRequests.size());
+    }
+
+    @Test
+    public void testRemovalWhileDispatching() throws Exception {
+        start(1000);
+        // Each switch is removed by the first request sent to it, while the
+        // other requests of the same tick are being dispatched
+        for (long i = 1; i <= 20; i++) {
+            removeOnSend.add(i);
+        }
+        addSwitches(1, 20);
+        dispatch(4 * PERIOD);
+
+        Set<Long> polled = new HashSet<Long>();
+        for (SentRequest request : sent) {
+            Assert.assertTrue(polled.add(request.switchId));
+        }
+        Assert.assertEquals(20, polled.size());
+        Assert.assertTrue(sm.pendingStatsRequests.isEmpty());
+    }
+
+    @Test
+    public void testVendorStatisticsFallback() throws Exception {
+        start(10);
+        addSwitches(1, 1);
+        dispatch(PERIOD);
+
+        SentRequest request = takeSent(OFStatisticsType.VENDOR);
+        Assert.assertNotNull(request);
+        Assert.assertNull(takeSent(OFStatisticsType.FLOW));
+        reply(request, new OFError());
+
+        // The next flow poll uses the regular flow statistics request
+        request = dispatchUntilSent(OFStatisticsType.FLOW);
+        Assert.assertNull(takeSent(OFStatisticsType.VENDOR));
+        List<OFStatistics> flows = Arrays.<OFStatistics>asList(new OFFlowStatisticsReply());
+        reply(request, flows);
+        Assert.assertEquals("1:FLOW", published.poll(5, TimeUnit.SECONDS));
+        Assert.assertEquals(flows, sm.getOFFlowStatistics(1L));
+    }
+
+    @Test
+    public void testFlowStatisticsPublishedEveryPoll() throws Exception {
+        start(10);
+        addSwitches(1, 1);
+        List<OFStatistics> flows = Arrays.<OFStatistics>asList(new OFFlowStatisticsReply());
+
+        // Same flows and counters every time
+        for (int i = 0; i < 3; i++) {
+            reply(dispatchUntilSent(OFStatisticsType.VENDOR), flows);
+            Assert.assertEquals("1:FLOW", published.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private void start(int maxInFlight) {
+        System.setProperty("of.statsMaxInFlight", String.valueOf(maxInFlight));
+        sm = new OFStatisticsManager();
+        sm.setController((IController) Proxy.newProxyInstance(IController.class.getClassLoader(),
+                new Class<?>[] { IController.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("getSwitch")) {
+                            return switches.get(args[0]);
+                        }
+                        return null;
+                    }
+                }));
+        sm.setStatisticsListener(new IOFStatisticsListener() {
+            @Override
+            public void descriptionStatisticsRefreshed(Long switchId, List<OFStatistics> description) {
+                published.add(switchId + ":DESC");
+            }
+
+            @Override
+            public void flowStatisticsRefreshed(Long switchId, List<OFStatistics> flows) {
+                published.add(switchId + ":FLOW");
+            }
+
+            @Override
+            public void portStatisticsRefreshed(Long switchId, List<OFStatistics> ports) {
+                published.add(switchId + ":PORT");
+            }
+
+            @Override
+            public void tableStatisticsRefreshed(Long switchId, List<OFStatistics> tables) {
+                published.add(switchId + ":TABLE");
+            }
+        });
+        // The scheduler is ticked by the test, the timer is not started
+        sm.init();
+    }
+
+    private void addSwitches(long from, long to) {
+        for (long i = from; i <= to; i++) {
+            switches.put(i, createSwitch(i));
+            updateNode(i, UpdateType.ADDED);
+        }
+    }
+
+    private void updateNode(long switchId, UpdateType type) {
+        sm.updateNode(NodeCreator.createOFNode(switchId), type, null);
+    }
+
+    private void dispatch(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            sm.dispatchStatsRequests();
+        }
+    }
+
+    /*
+     * Ticks the scheduler until the given number of requests were sent. The
+     * slots are freed by the collector thread after the replies are processed.
+     */
+    private void dispatchUntilSent(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && sent.size() < count; i++) {
+            dispatch(PERIOD);
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(sent.size() >= count);
+    }
+
+    private SentRequest dispatchUntilSent(OFStatisticsType type) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            dispatch(PERIOD);
+            SentRequest request = takeSent(type);
+            if (request != null) {
+                return request;
+            }
+            Thread.sleep(10);
+        }
+        Assert.fail("No " + type + " statistics request sent");
+        return null;
+    }
+
+    private OFStatisticsManager.StatsRequest firstPending() {
+        synchronized (sm.pendingStatsRequests) {
+            return sm.pendingStatsRequests.isEmpty() ? null : sm.pendingStatsRequests.iterator().next();
+        }
+    }
+
+    private SentRequest nextSent() throws InterruptedException {
+        SentRequest request = sent.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(request);
+        return request;
+    }
+
+    private SentRequest takeSent(OFStatisticsType type) {
+        for (SentRequest request : sent) {
+            if (request.type == type) {
+                sent.remove(request);
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private void assertNoneSent() throws InterruptedException {
+        Assert.assertNull(sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static void reply(SentRequest request, Object result) {
+        request.listener.statisticsReceived(request.sw, result);
+    }
+
+    private ISwitch createSwitch(final long switchId) {
+        return (ISwitch) Proxy.newProxyInstance(ISwitch.class.getClassLoader(), new Class<?>[] { ISwitch.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("asyncGetStatistics")) {
+                            OFStatisticsType type = ((OFStatisticsRequest) args[0]).getStatisticType();
+                            sent.add(new SentRequest((ISwitch) proxy, switchId, type,
+                                    (IStatisticsReplyListener) args[1]));
+                            if (removeOnSend.remove(switchId)) {
+                                updateNode(switchId, UpdateType.REMOVED);
+                            }
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    /**
+     * Statistics request sent to a switch, and the listener of its result
+     */
+    private static class SentRequest {
+        private final ISwitch sw;
+        private final Long switchId;
+        private final OFStatisticsType type;
+        private final IStatisticsReplyListener listener;
+
+        SentRequest(ISwitch sw, Long switchId, OFStatisticsType type, IStatisticsReplyListener listener) {
+            this.sw = sw;
+            this.switchId = switchId;
+            this.type = type;
+            this.listener = listener;
+        }
+
+        OFStatisticsType getPolledType() {
+            return (type == OFStatisticsType.VENDOR) ? OFStatisticsType.FLOW : type;
+        }
+
+        @Override
+        public String toString() {
+            return switchId + ":" + getPolledType();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.protocol_plugin.openflow.internal;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testSchedule() {
+        TimingWheel<String> wheel = new TimingWheel<String>(6);
+        Assert.assertEquals(8, wheel.getSlots());
+
+        wheel.schedule("a", 1);
+        wheel.schedule("b", 3);
+        wheel.schedule("c", 3);
+        // Longer than the wheel, comes around once more
+        wheel.schedule("d", 11);
+        Assert.assertEquals(4, wheel.size());
+        Assert.assertEquals(11, wheel.getRemaining("d"));
+        Assert.assertEquals(-1, wheel.getRemaining("e"));
+
+        Assert.assertEquals(Arrays.asList("a"), wheel.advance());
+        Assert.assertTrue(wheel.advance().isEmpty());
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("b", "c")), new HashSet<String>(wheel.advance()));
+        for (int i = 4; i < 11; i++) {
+            Assert.assertTrue(wheel.advance().isEmpty());
+        }
+        Assert.assertEquals(Arrays.asList("d"), wheel.advance());
+        Assert.assertEquals(11, wheel.getTick());
+        Assert.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRescheduleAndCancel() {
+        TimingWheel<Integer> wheel = new TimingWheel<Integer>(16);
+        for (int i = 0; i < 10; i++) {
+            wheel.schedule(i, 2);
+        }
+        // Moves the deadline, the key is due once
+        wheel.schedule(3, 5);
+        Assert.assertTrue(wheel.cancel(4));
+        Assert.assertFalse(wheel.cancel(4));
+        Assert.assertFalse(wheel.contains(4));
+        // At least one tick
+        wheel.schedule(10, 0);
+
+        Assert.assertEquals(Arrays.asList(10), wheel.advance());
+        List<Integer> due = wheel.advance();
+        Assert.assertEquals(8, due.size());
+        Assert.assertFalse(due.contains(3));
+        Assert.assertFalse(due.contains(4));
+        Assert.assertTrue(wheel.advance().isEmpty());
+        Assert.assertTrue(wheel.advance().isEmpty());
+        Assert.assertEquals(Arrays.asList(3), wheel.advance());
+
+        wheel.schedule(1, 1);
+        wheel.clear();
+        Assert.assertEquals(0, wheel.size());
+        Assert.assertTrue(wheel.advance().isEmpty());
+    }
+}
@@ -8,7 +8,11 @@
 
 package org.opendaylight.controller.protocol_plugins.stub.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
 import org.opendaylight.controller.sal.flowprogrammer.IPluginInFlowProgrammerService;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.utils.Status;
@@ -114,6 +118,20 @@ public class FlowProgrammerService implements IPluginInFlowProgrammerService
         return new Status(StatusCode.SUCCESS);
     }
 
+    /**
+     * Synchronously apply a batch of flow updates to the network node
+     *
+     * @param node
+     * @param updates
+     */
+    public List<Status> updateFlows(Node node, List<FlowUpdate> updates){
+        List<Status> rv = new ArrayList<Status>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            rv.add(new Status(StatusCode.SUCCESS));
+        }
+        return rv;
+    }
+
     /**
      * Remove all flows present on the network node
      *
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.routing.dijkstra_implementation.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.routing.dijkstra_implementation.internal.DijkstraImplementation;
+import org.opendaylight.controller.sal.core.ConstructionException;
+import org.opendaylight.controller.sal.core.Edge;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.Path;
+import org.opendaylight.controller.sal.core.Property;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.topology.TopoEdgeUpdate;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Route query throughput of {@link DijkstraImplementation} on a grid of switches, with links between neighbours in
+ * both directions. In the churn group three threads query routes between random switches while a fourth one keeps
+ * flapping random links, each flap being one topology update; the quiet group runs the same queries on a stable
+ * topology for reference. Compare the query scores of both groups to see the cost of the churn on the readers.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class RouteQueryBenchmark {
+
+    /**
+     * Side of the grid, the topology has side * side switches.
+     */
+    @Param({"10", "32"})
+    public int side;
+
+    private DijkstraImplementation routing;
+    private Node[] nodes;
+    private List<Edge> links;
+    private final Random flapRandom = new Random(0);
+
+    @State(Scope.Thread)
+    public static class Query {
+        private final Random random = new Random();
+    }
+
+    @Setup
+    public void setUp() throws ConstructionException {
+        routing = new DijkstraImplementation();
+        routing.init();
+        nodes = new Node[side * side];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = NodeCreator.createOFNode((long) (i + 1));
+        }
+        links = new ArrayList<Edge>();
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int i = row * side + col;
+                if (col + 1 < side) {
+                    addLink(i, i + 1, (short) 1, (short) 2);
+                }
+                if (row + 1 < side) {
+                    addLink(i, i + side, (short) 3, (short) 4);
+                }
+            }
+        }
+        List<TopoEdgeUpdate> updates = new ArrayList<TopoEdgeUpdate>();
+        for (Edge edge : links) {
+            updates.add(new TopoEdgeUpdate(edge, new HashSet<Property>(), UpdateType.ADDED));
+        }
+        routing.edgeUpdate(updates);
+    }
+
+    private void addLink(int i, int j, short portI, short portJ) throws ConstructionException {
+        links.add(new Edge(NodeConnectorCreator.createOFNodeConnector(portI, nodes[i]),
+                NodeConnectorCreator.createOFNodeConnector(portJ, nodes[j])));
+        links.add(new Edge(NodeConnectorCreator.createOFNodeConnector(portJ, nodes[j]),
+                NodeConnectorCreator.createOFNodeConnector(portI, nodes[i])));
+    }
+
+    private Path route(Query query) {
+        return routing.getRoute(nodes[query.random.nextInt(nodes.length)], nodes[query.random.nextInt(nodes.length)]);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public Path churnQuery(Query query) {
+        return route(query);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void churnFlap() {
+        Edge edge = links.get(flapRandom.nextInt(links.size()));
+        routing.edgeUpdate(Collections.singletonList(new TopoEdgeUpdate(edge, new HashSet<Property>(),
+                UpdateType.REMOVED)));
+        routing.edgeUpdate(Collections.singletonList(new TopoEdgeUpdate(edge, new HashSet<Property>(),
+                UpdateType.ADDED)));
+    }
+
+    @Benchmark
+    @Group("quiet")
+    @GroupThreads(3)
+    public Path quietQuery(Query query) {
+        return route(query);
+    }
+}
@@ -13,6 +13,10 @@
  * @brief  Implementation of a routing engine using
  * dijkstra. Implementation of dijkstra come from Jung2 library
  *
+ * The shortest paths are served by IncrementalShortestPaths, which
+ * publishes them in immutable epochs, so getRoute doesn't lock and a
+ * topology update only recomputes the paths it affects. The Jung2 graph
+ * is kept for the max throughput path.
  */
 package org.opendaylight.controller.routing.dijkstra_implementation.internal;
 
@@ -54,12 +58,13 @@ import org.apache.commons.collections15.Transformer;
 public class DijkstraImplementation implements IRouting, ITopologyManagerClusterWideAware {
     private static Logger log = LoggerFactory.getLogger(DijkstraImplementation.class);
     private ConcurrentMap<Short, Graph<Node, Edge>> topologyBWAware;
-    private ConcurrentMap<Short, DijkstraShortestPath<Node, Edge>> sptBWAware;
+    private ConcurrentMap<Short, IncrementalShortestPaths> sptBWAware;
     DijkstraShortestPath<Node, Edge> mtp; // Max Throughput Path
     private Set<IListenRoutingUpdates> routingAware;
     private ISwitchManager switchManager;
     private ITopologyManager topologyManager;
     private static final long DEFAULT_LINK_SPEED = Bandwidth.BW1Gbps;
+    private static final int PRECOMPUTE_MAX_NODES = getPrecomputeMaxNodes();
     private IClusterContainerServices clusterContainerService;
 
     public void setListenRoutingUpdates(final IListenRoutingUpdates i) {
@@ -195,31 +200,17 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
     }
 
     @Override
-    public synchronized Path getRoute(final Node src, final Node dst, final Short Bw) {
-        DijkstraShortestPath<Node, Edge> spt = this.sptBWAware.get(Bw);
+    public Path getRoute(final Node src, final Node dst, final Short Bw) {
+        IncrementalShortestPaths spt = this.sptBWAware.get(Bw);
         if (spt == null) {
             return null;
         }
-        List<Edge> path;
-        try {
-            path = spt.getPath(src, dst);
-        } catch (IllegalArgumentException ie) {
-            log.debug("A vertex is yet not known between {} {}", src, dst);
-            return null;
-        }
-        Path res;
-        try {
-            res = new Path(path);
-        } catch (ConstructionException e) {
-            log.debug("A vertex is yet not known between {} {}", src, dst);
-            return null;
-        }
-        return res;
+        return spt.getPath(src, dst);
     }
 
     @Override
     public synchronized void clear() {
-        DijkstraShortestPath<Node, Edge> spt;
+        IncrementalShortestPaths spt;
         for (Short bw : this.sptBWAware.keySet()) {
             spt = this.sptBWAware.get(bw);
             if (spt != null) {
@@ -239,7 +230,7 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
     @SuppressWarnings({ "unchecked" })
     private synchronized boolean updateTopo(Edge edge, Short bw, UpdateType type) {
         Graph<Node, Edge> topo = this.topologyBWAware.get(bw);
-        DijkstraShortestPath<Node, Edge> spt = this.sptBWAware.get(bw);
+        IncrementalShortestPaths spt = this.sptBWAware.get(bw);
         boolean edgePresentInGraph = false;
         Short baseBW = Short.valueOf((short) 0);
 
@@ -248,7 +239,7 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
             Graph<Node, Edge> g = new SparseMultigraph();
             this.topologyBWAware.put(bw, g);
             topo = this.topologyBWAware.get(bw);
-            this.sptBWAware.put(bw, new DijkstraShortestPath(g));
+            this.sptBWAware.put(bw, new IncrementalShortestPaths(PRECOMPUTE_MAX_NODES));
             spt = this.sptBWAware.get(bw);
         }
 
@@ -256,7 +247,7 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
             NodeConnector src = edge.getTailNodeConnector();
             NodeConnector dst = edge.getHeadNodeConnector();
             if (spt == null) {
-                spt = new DijkstraShortestPath(topo);
+                spt = new IncrementalShortestPaths(PRECOMPUTE_MAX_NODES);
                 this.sptBWAware.put(bw, spt);
             }
 
@@ -269,7 +260,9 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
                 edgePresentInGraph = topo.containsEdge(edge);
                 if (edgePresentInGraph == false) {
                     try {
-                        topo.addEdge(new Edge(src, dst), src.getNode(), dst.getNode(), EdgeType.DIRECTED);
+                        Edge newEdge = new Edge(src, dst);
+                        topo.addEdge(newEdge, src.getNode(), dst.getNode(), EdgeType.DIRECTED);
+                        spt.addEdge(newEdge);
                     } catch (final ConstructionException e) {
                         log.error("", e);
                         return edgePresentInGraph;
@@ -282,7 +275,9 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
             case REMOVED:
                 // Remove the edge
                 try {
-                    topo.removeEdge(new Edge(src, dst));
+                    Edge oldEdge = new Edge(src, dst);
+                    topo.removeEdge(oldEdge);
+                    spt.removeEdge(oldEdge);
                 } catch (final ConstructionException e) {
                     log.error("", e);
                     return edgePresentInGraph;
@@ -303,7 +298,7 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
                 }
                 break;
             }
-            spt.reset();
+            // The shortest paths are published once the whole update is done
             if (bw.equals(baseBW)) {
                 clearMaxThroughput();
             }
@@ -358,19 +353,7 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
     @Override
     public void edgeUpdate(List<TopoEdgeUpdate> topoedgeupdateList) {
         log.trace("Start of a Bulk EdgeUpdate with " + topoedgeupdateList.size() + " elements");
-        boolean callListeners = false;
-        for (int i = 0; i < topoedgeupdateList.size(); i++) {
-            Edge e = topoedgeupdateList.get(i).getEdge();
-            Set<Property> p = topoedgeupdateList.get(i)
-                    .getProperty();
-            UpdateType type = topoedgeupdateList.get(i)
-                    .getUpdateType();
-            boolean isLocal = topoedgeupdateList.get(i)
-                    .isLocal();
-            if ((edgeUpdate(e, type, p, isLocal)) && (!callListeners)) {
-                callListeners = true;
-            }
-        }
+        boolean callListeners = updateTopo(topoedgeupdateList);
 
         // The routing listeners should only be called on the coordinator, to
         // avoid multiple controller cluster nodes to actually do the
@@ -392,6 +375,32 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
         log.trace("End of a Bulk EdgeUpdate");
     }
 
+    /**
+     * Applies the updates to the topologies, then publishes the new shortest
+     * paths once for the whole list
+     *
+     * @return true if the routing listeners have to be called
+     */
+    private synchronized boolean updateTopo(List<TopoEdgeUpdate> topoedgeupdateList) {
+        boolean callListeners = false;
+        for (int i = 0; i < topoedgeupdateList.size(); i++) {
+            Edge e = topoedgeupdateList.get(i).getEdge();
+            Set<Property> p = topoedgeupdateList.get(i)
+                    .getProperty();
+            UpdateType type = topoedgeupdateList.get(i)
+                    .getUpdateType();
+            boolean isLocal = topoedgeupdateList.get(i)
+                    .isLocal();
+            if ((edgeUpdate(e, type, p, isLocal)) && (!callListeners)) {
+                callListeners = true;
+            }
+        }
+        for (IncrementalShortestPaths spt : this.sptBWAware.values()) {
+            spt.commit();
+        }
+        return callListeners;
+    }
+
     /**
      * Function called by the dependency manager when all the required
      * dependencies are satisfied
@@ -401,13 +410,13 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
     public void init() {
         log.debug("Routing init() is called");
         this.topologyBWAware = new ConcurrentHashMap<Short, Graph<Node, Edge>>();
-        this.sptBWAware = new ConcurrentHashMap<Short, DijkstraShortestPath<Node, Edge>>();
+        this.sptBWAware = new ConcurrentHashMap<Short, IncrementalShortestPaths>();
         // Now create the default topology, which doesn't consider the
         // BW, also create the corresponding Dijkstra calculation
         Graph<Node, Edge> g = new SparseMultigraph();
         Short sZero = Short.valueOf((short) 0);
         this.topologyBWAware.put(sZero, g);
-        this.sptBWAware.put(sZero, new DijkstraShortestPath(g));
+        this.sptBWAware.put(sZero, new IncrementalShortestPaths(PRECOMPUTE_MAX_NODES));
         // Topologies for other BW will be added on a needed base
     }
 
@@ -457,6 +466,25 @@ public class DijkstraImplementation implements IRouting, ITopologyManagerCluster
         log.debug("Routing stop() is called");
     }
 
+    /**
+     * Number of nodes up to which the shortest paths from all the nodes are
+     * computed on each topology update, routing.precomputeMaxNodes or 2000 by
+     * default. Above it they are computed on the first route query from a
+     * node.
+     */
+    private static int getPrecomputeMaxNodes() {
+        int rv = 2000;
+        String maxNodes = System.getProperty("routing.precomputeMaxNodes");
+        if (maxNodes != null) {
+            try {
+                rv = Integer.parseInt(maxNodes);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid routing.precomputeMaxNodes: {} use default({})", maxNodes, rv);
+            }
+        }
+        return Math.max(rv, 0);
+    }
+
     public void setSwitchManager(ISwitchManager switchManager) {
         this.switchManager = switchManager;
     }
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.routing.dijkstra_implementation.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opendaylight.controller.sal.core.ConstructionException;
+import org.opendaylight.controller.sal.core.Edge;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shortest paths, in number of hops, between the nodes of a directed
+ * multigraph which is updated incrementally.
+ *
+ * The graph and the shortest path tree of each source node are published as
+ * an immutable epoch: readers never lock, they pick the current epoch and walk
+ * the tree of the source back from the destination. The tree of a source is
+ * its next-hop table, it holds the last edge of the shortest path to each
+ * destination. When the graph has at most a given number of nodes the trees
+ * of all the sources are computed when the epoch is published, else they are
+ * computed on the first query from the source.
+ *
+ * Updates are done by a single writer at a time, which adds and removes edges
+ * then publishes the new epoch with {@link #commit()}. The trees which are
+ * not affected by the changes are carried over to the new epoch: a tree is
+ * recomputed only if one of its edges has been removed, and it is repaired
+ * from the added edges if these shorten some of its paths.
+ */
+final class IncrementalShortestPaths {
+    private static final Logger log = LoggerFactory.getLogger(IncrementalShortestPaths.class);
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int precomputeMaxNodes;
+
+    // Writer side graph, guarded by the caller
+    private final Map<Node, Set<Edge>> outEdges = new HashMap<Node, Set<Edge>>();
+    private final Map<Node, Set<Edge>> inEdges = new HashMap<Node, Set<Edge>>();
+    private final Map<Node, Integer> index = new HashMap<Node, Integer>();
+    private final List<Node> nodes = new ArrayList<Node>();
+    private final LinkedList<Integer> freeIndexes = new LinkedList<Integer>();
+    // Changes not yet published
+    private final List<Edge> added = new ArrayList<Edge>();
+    private final List<Edge> removed = new ArrayList<Edge>();
+    private final Set<Node> isolated = new HashSet<Node>();
+
+    private volatile Epoch epoch = new Epoch(0, new HashMap<Node, Integer>(), new Node[0], new Edge[0][],
+            new int[0][]);
+
+    /**
+     * @param precomputeMaxNodes
+     *            the size of the graph up to which the trees of all the
+     *            sources are computed on each update
+     */
+    IncrementalShortestPaths(int precomputeMaxNodes) {
+        this.precomputeMaxNodes = precomputeMaxNodes;
+    }
+
+    /**
+     * Adds the edge to the graph, the change is visible once committed
+     *
+     * @return false if the edge was already in the graph
+     */
+    boolean addEdge(Edge edge) {
+        Node tail = edge.getTailNodeConnector().getNode();
+        Node head = edge.getHeadNodeConnector().getNode();
+        if (!getEdges(outEdges, tail).add(edge)) {
+            return false;
+        }
+        getEdges(inEdges, head).add(edge);
+        addNode(tail);
+        addNode(head);
+        added.add(edge);
+        return true;
+    }
+
+    /**
+     * Removes the edge from the graph, together with its end nodes if they
+     * are left without edges. The change is visible once committed.
+     *
+     * @return false if the edge was not in the graph
+     */
+    boolean removeEdge(Edge edge) {
+        Node tail = edge.getTailNodeConnector().getNode();
+        Node head = edge.getHeadNodeConnector().getNode();
+        Set<Edge> out = outEdges.get(tail);
+        if (out == null || !out.remove(edge)) {
+            return false;
+        }
+        inEdges.get(head).remove(edge);
+        removed.add(edge);
+        checkIsolated(tail);
+        checkIsolated(head);
+        return true;
+    }
+
+    private static Set<Edge> getEdges(Map<Node, Set<Edge>> edges, Node node) {
+        Set<Edge> set = edges.get(node);
+        if (set == null) {
+            set = new LinkedHashSet<Edge>();
+            edges.put(node, set);
+        }
+        return set;
+    }
+
+    private void addNode(Node node) {
+        isolated.remove(node);
+        if (!index.containsKey(node)) {
+            Integer i = freeIndexes.poll();
+            if (i == null) {
+                i = nodes.size();
+                nodes.add(node);
+            } else {
+                nodes.set(i, node);
+            }
+            index.put(node, i);
+        }
+    }
+
+    private void checkIsolated(Node node) {
+        Set<Edge> out = outEdges.get(node);
+        Set<Edge> in = inEdges.get(node);
+        if ((out == null || out.isEmpty()) && (in == null || in.isEmpty())) {
+            isolated.add(node);
+        }
+    }
+
+    /**
+     * Drops all the computed trees, they are computed again as if the graph
+     * had just been built
+     */
+    void reset() {
+        commit(true);
+    }
+
+    /**
+     * Publishes the changes done since the last commit
+     */
+    void commit() {
+        commit(false);
+    }
+
+    private void commit(boolean reset) {
+        if (!reset && added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        Epoch old = this.epoch;
+        // Edges added then removed by the same update are not in the graph
+        for (Iterator<Edge> i = added.iterator(); i.hasNext();) {
+            Edge edge = i.next();
+            Set<Edge> out = outEdges.get(edge.getTailNodeConnector().getNode());
+            if (out == null || !out.contains(edge)) {
+                i.remove();
+            }
+        }
+        /*
+         * Indexes of the removed nodes are released only now, so that old
+         * trees and removed edges keep referring to the same nodes while the
+         * trees are carried over
+         */
+        List<Integer> released = new ArrayList<Integer>();
+        for (Node node : isolated) {
+            outEdges.remove(node);
+            inEdges.remove(node);
+            Integer i = index.remove(node);
+            nodes.set(i, null);
+            released.add(i);
+        }
+        isolated.clear();
+
+        int capacity = nodes.size();
+        Node[] epochNodes = nodes.toArray(new Node[capacity]);
+        Edge[][] out = new Edge[capacity][];
+        int[][] heads = new int[capacity][];
+        for (int i = 0; i < capacity; i++) {
+            Set<Edge> edges = (epochNodes[i] == null) ? null : outEdges.get(epochNodes[i]);
+            if (edges == null) {
+                out[i] = new Edge[0];
+                heads[i] = new int[0];
+                continue;
+            }
+            out[i] = edges.toArray(new Edge[edges.size()]);
+            heads[i] = new int[out[i].length];
+            for (int j = 0; j < out[i].length; j++) {
+                heads[i][j] = index.get(out[i][j].getHeadNodeConnector().getNode());
+            }
+        }
+        Epoch next = new Epoch(old.id + 1, new HashMap<Node, Integer>(index), epochNodes, out, heads);
+
+        int carried = 0, repaired = 0, computed = 0;
+        if (!reset) {
+            for (int s = 0; s < old.trees.length(); s++) {
+                Tree tree = old.trees.get(s);
+                if (tree == null || s >= capacity || !tree.source.equals(epochNodes[s])) {
+                    continue;
+                }
+                if (usesAny(tree, old, removed)) {
+                    continue;
+                }
+                Tree result = next.repair(tree, old, added);
+                next.trees.set(s, result);
+                if (result == tree) {
+                    carried++;
+                } else {
+                    repaired++;
+                }
+            }
+        }
+        if (index.size() <= precomputeMaxNodes) {
+            for (int s = 0; s < capacity; s++) {
+                if (epochNodes[s] != null && next.trees.get(s) == null) {
+                    next.trees.set(s, next.compute(s));
+                    computed++;
+                }
+            }
+        }
+        added.clear();
+        removed.clear();
+        freeIndexes.addAll(released);
+        this.epoch = next;
+        log.debug("Published shortest paths epoch {}: {} nodes, {} trees carried over, {} repaired, {} computed",
+                new Object[] { next.id, index.size(), carried, repaired, computed });
+    }
+
+    /*
+     * Whether one of the edges is the last hop of a path of the tree
+     */
+    private static boolean usesAny(Tree tree, Epoch epoch, List<Edge> edges) {
+        for (Edge edge : edges) {
+            Integer head = epoch.index.get(edge.getHeadNodeConnector().getNode());
+            if (head != null && edge.equals(tree.parent(head))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the shortest path from src to dst in the last published epoch,
+     *         null if there is none or if src and dst are the same node
+     */
+    Path getPath(Node src, Node dst) {
+        return epoch.getPath(src, dst);
+    }
+
+    /**
+     * @return the number of the last published epoch
+     */
+    long getEpoch() {
+        return epoch.id;
+    }
+
+    /**
+     * Shortest path tree of a source node, indexed by the epoch index of the
+     * nodes. Immutable once published.
+     */
+    private static final class Tree {
+        private final Node source;
+        private final int[] distance;
+        private final Edge[] parent;
+
+        private Tree(Node source, int[] distance, Edge[] parent) {
+            this.source = source;
+            this.distance = distance;
+            this.parent = parent;
+        }
+
+        private int distance(int node) {
+            return (node < distance.length) ? distance[node] : UNREACHABLE;
+        }
+
+        private Edge parent(int node) {
+            return (node < parent.length) ? parent[node] : null;
+        }
+    }
+
+    /**
+     * Immutable view of the graph and of its shortest path trees. Missing
+     * trees may be filled by concurrent readers.
+     */
+    private static final class Epoch {
+        private final long id;
+        private final Map<Node, Integer> index;
+        private final Node[] nodes;
+        private final Edge[][] out;
+        private final int[][] heads;
+        private final AtomicReferenceArray<Tree> trees;
+
+        private Epoch(long id, Map<Node, Integer> index, Node[] nodes, Edge[][] out, int[][] heads) {
+            this.id = id;
+            this.index = index;
+            this.nodes = nodes;
+            this.out = out;
+            this.heads = heads;
+            this.trees = new AtomicReferenceArray<Tree>(nodes.length);
+        }
+
+        private Path getPath(Node src, Node dst) {
+            Integer s = index.get(src);
+            Integer d = index.get(dst);
+            if (s == null || d == null) {
+                log.debug("A vertex is yet not known between {} {}", src, dst);
+                return null;
+            }
+            if (s.equals(d)) {
+                return null;
+            }
+            Tree tree = getTree(s);
+            int hops = tree.distance(d);
+            if (hops == UNREACHABLE) {
+                return null;
+            }
+            Edge[] edges = new Edge[hops];
+            int node = d;
+            for (int i = hops - 1; i >= 0; i--) {
+                edges[i] = tree.parent[node];
+                node = index.get(edges[i].getTailNodeConnector().getNode());
+            }
+            try {
+                return new Path(Arrays.asList(edges));
+            } catch (ConstructionException e) {
+                log.debug("Invalid path between {} {}", src, dst);
+                return null;
+            }
+        }
+
+        private Tree getTree(int s) {
+            Tree tree = trees.get(s);
+            if (tree == null) {
+                tree = compute(s);
+                if (!trees.compareAndSet(s, null, tree)) {
+                    tree = trees.get(s);
+                }
+            }
+            return tree;
+        }
+
+        /*
+         * Breadth first search from the source
+         */
+        private Tree compute(int s) {
+            int[] distance = new int[nodes.length];
+            Edge[] parent = new Edge[nodes.length];
+            Arrays.fill(distance, UNREACHABLE);
+            int[] queue = new int[nodes.length];
+            int first = 0, last = 0;
+            distance[s] = 0;
+            queue[last++] = s;
+            while (first < last) {
+                int u = queue[first++];
+                for (int j = 0; j < heads[u].length; j++) {
+                    int v = heads[u][j];
+                    if (distance[v] == UNREACHABLE) {
+                        distance[v] = distance[u] + 1;
+                        parent[v] = out[u][j];
+                        queue[last++] = v;
+                    }
+                }
+            }
+            return new Tree(nodes[s], distance, parent);
+        }
+
+        /*
+         * Lowers the distances of the tree built on the previous epoch through
+         * the added edges. The tree is returned as is when none of the edges
+         * shortens one of its paths. Only additions are handled here: a tree
+         * losing one of its edges must be computed again.
+         */
+        private Tree repair(Tree tree, Epoch previous, List<Edge> added) {
+            int[] distance = null;
+            Edge[] parent = null;
+            LinkedList<Integer> queue = new LinkedList<Integer>();
+            for (Edge edge : added) {
+                int u = index.get(edge.getTailNodeConnector().getNode());
+                int v = index.get(edge.getHeadNodeConnector().getNode());
+                int du = (distance == null) ? tree.distance(u) : distance[u];
+                int dv = (distance == null) ? tree.distance(v) : distance[v];
+                if (du == UNREACHABLE || du + 1 >= dv) {
+                    continue;
+                }
+                if (distance == null) {
+                    distance = new int[nodes.length];
+                    parent = new Edge[nodes.length];
+                    Arrays.fill(distance, UNREACHABLE);
+                    System.arraycopy(tree.distance, 0, distance, 0, Math.min(tree.distance.length, nodes.length));
+                    System.arraycopy(tree.parent, 0, parent, 0, Math.min(tree.parent.length, nodes.length));
+                }
+                distance[v] = du + 1;
+                parent[v] = edge;
+                queue.add(v);
+            }
+            if (distance == null) {
+                return tree;
+            }
+            while (!queue.isEmpty()) {
+                int u = queue.poll();
+                for (int j = 0; j < heads[u].length; j++) {
+                    int v = heads[u][j];
+                    if (distance[u] + 1 < distance[v]) {
+                        distance[v] = distance[u] + 1;
+                        parent[v] = out[u][j];
+                        queue.add(v);
+                    }
+                }
+            }
+            return new Tree(tree.source, distance, parent);
+        }
+    }
+}
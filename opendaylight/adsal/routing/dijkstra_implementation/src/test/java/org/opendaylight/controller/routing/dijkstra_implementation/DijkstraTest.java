@@ -21,9 +21,12 @@ import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
 import org.opendaylight.controller.sal.utils.NodeCreator;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.Assert;
@@ -242,4 +245,90 @@ public class DijkstraTest {
         }
         Assert.assertTrue(res.equals(expectedRes));
     }
+
+    @Test
+    public void testShortestPathRouteNoBwDuringLinkChurn() throws ConstructionException {
+        DijkstraImplementation imp = new DijkstraImplementation();
+        imp.init();
+        // Ring of 8 nodes with a chord between opposite nodes, links are
+        // made of one edge per direction
+        int size = 8;
+        Node[] nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = NodeCreator.createOFNode((long) (i + 1));
+        }
+        List<Edge> links = new ArrayList<Edge>();
+        for (int i = 0; i < size; i++) {
+            int j = (i + 1) % size;
+            links.add(new Edge(NodeConnectorCreator.createOFNodeConnector((short) 1, nodes[i]),
+                    NodeConnectorCreator.createOFNodeConnector((short) 2, nodes[j])));
+            links.add(new Edge(NodeConnectorCreator.createOFNodeConnector((short) 2, nodes[j]),
+                    NodeConnectorCreator.createOFNodeConnector((short) 1, nodes[i])));
+        }
+        for (int i = 0; i < size / 2; i++) {
+            int j = i + size / 2;
+            links.add(new Edge(NodeConnectorCreator.createOFNodeConnector((short) 3, nodes[i]),
+                    NodeConnectorCreator.createOFNodeConnector((short) 3, nodes[j])));
+            links.add(new Edge(NodeConnectorCreator.createOFNodeConnector((short) 3, nodes[j]),
+                    NodeConnectorCreator.createOFNodeConnector((short) 3, nodes[i])));
+        }
+        Set<Edge> up = new HashSet<Edge>();
+        List<TopoEdgeUpdate> topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        for (Edge e : links) {
+            topoedgeupdateList.add(new TopoEdgeUpdate(e, new HashSet<Property>(), UpdateType.ADDED));
+            up.add(e);
+        }
+        imp.edgeUpdate(topoedgeupdateList);
+        checkRoutes(imp, nodes, up);
+
+        // Flap links, a few at a time, and check all the routes after each
+        // update against a breadth first search on the links which are up
+        Random random = new Random(0);
+        for (int round = 0; round < 200; round++) {
+            topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+            for (int k = random.nextInt(3); k >= 0; k--) {
+                Edge e = links.get(random.nextInt(links.size()));
+                if (up.remove(e)) {
+                    topoedgeupdateList.add(new TopoEdgeUpdate(e, new HashSet<Property>(), UpdateType.REMOVED));
+                } else {
+                    up.add(e);
+                    topoedgeupdateList.add(new TopoEdgeUpdate(e, new HashSet<Property>(), UpdateType.ADDED));
+                }
+            }
+            imp.edgeUpdate(topoedgeupdateList);
+            checkRoutes(imp, nodes, up);
+        }
+    }
+
+    private static void checkRoutes(DijkstraImplementation imp, Node[] nodes, Set<Edge> up) {
+        for (Node src : nodes) {
+            Map<Node, Integer> hops = new HashMap<Node, Integer>();
+            LinkedList<Node> queue = new LinkedList<Node>();
+            hops.put(src, 0);
+            queue.add(src);
+            while (!queue.isEmpty()) {
+                Node u = queue.poll();
+                for (Edge e : up) {
+                    Node v = e.getHeadNodeConnector().getNode();
+                    if (e.getTailNodeConnector().getNode().equals(u) && !hops.containsKey(v)) {
+                        hops.put(v, hops.get(u) + 1);
+                        queue.add(v);
+                    }
+                }
+            }
+            for (Node dst : nodes) {
+                Path res = imp.getRoute(src, dst);
+                if (src.equals(dst) || !hops.containsKey(dst)) {
+                    Assert.assertNull(res);
+                    continue;
+                }
+                Assert.assertNotNull(res);
+                List<Edge> edges = res.getEdges();
+                Assert.assertEquals(hops.get(dst).intValue(), edges.size());
+                Assert.assertEquals(src, edges.get(0).getTailNodeConnector().getNode());
+                Assert.assertEquals(dst, edges.get(edges.size() - 1).getHeadNodeConnector().getNode());
+                Assert.assertTrue(up.containsAll(edges));
+            }
+        }
+    }
 }
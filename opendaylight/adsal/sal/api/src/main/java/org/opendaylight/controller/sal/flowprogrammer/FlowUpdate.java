@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.flowprogrammer;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * One flow programming operation of a batch: addition or removal of a flow, or
+ * replacement of a flow with a new one.
+ */
+@Deprecated
+public class FlowUpdate {
+    private final UpdateType type;
+    private final Flow oldFlow;
+    private final Flow flow;
+
+    private FlowUpdate(UpdateType type, Flow oldFlow, Flow flow) {
+        this.type = type;
+        this.oldFlow = oldFlow;
+        this.flow = flow;
+    }
+
+    public static FlowUpdate add(Flow flow) {
+        return new FlowUpdate(UpdateType.ADDED, null, flow);
+    }
+
+    public static FlowUpdate modify(Flow oldFlow, Flow newFlow) {
+        return new FlowUpdate(UpdateType.CHANGED, oldFlow, newFlow);
+    }
+
+    public static FlowUpdate remove(Flow flow) {
+        return new FlowUpdate(UpdateType.REMOVED, null, flow);
+    }
+
+    public UpdateType getType() {
+        return type;
+    }
+
+    /**
+     * @return the flow to add or to remove, or the new flow of a modification
+     */
+    public Flow getFlow() {
+        return flow;
+    }
+
+    /**
+     * @return the flow being replaced by a modification, null otherwise
+     */
+    public Flow getOldFlow() {
+        return oldFlow;
+    }
+
+    @Override
+    public String toString() {
+        return "FlowUpdate[type=" + type + ", oldFlow=" + oldFlow + ", flow=" + flow + "]";
+    }
+}
@@ -8,6 +8,9 @@
 
 package org.opendaylight.controller.sal.flowprogrammer;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.utils.Status;
 
@@ -87,6 +90,20 @@ public interface IFlowProgrammerService {
      */
     Status removeFlowAsync(Node node, Flow flow);
 
+    /**
+     * Asynchronously apply a batch of flow additions, modifications and
+     * removals to the network node. The flows are programmed in order and the
+     * batch is synchronized with the network node once, at its end. The
+     * statuses all become available when the whole batch is done.
+     *
+     * @param node
+     *            The target network node
+     * @param updates
+     *            The flow updates, in the order they are to be applied
+     * @return The future status of each update, in the order of the updates
+     */
+    List<Future<Status>> updateFlows(Node node, List<FlowUpdate> updates);
+
     /**
      * Remove all flows present on the network node
      *
@@ -8,6 +8,8 @@
 
 package org.opendaylight.controller.sal.flowprogrammer;
 
+import java.util.List;
+
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.utils.Status;
 
@@ -121,6 +123,24 @@ public interface IPluginInFlowProgrammerService {
      */
     Status removeFlowAsync(Node node, Flow flow, long rid);
 
+    /**
+     * Synchronously apply a batch of flow updates to the network node. The
+     * flow messages are sent back to back followed by a single Barrier
+     * message, the caller is blocked until the Barrier reply arrives.
+     *
+     * @param node
+     *            the network node
+     *            {@link org.opendaylight.controller.sal.core.Node} on which the
+     *            flows get updated
+     * @param updates
+     *            the flow updates
+     *            {@link org.opendaylight.controller.sal.flowprogrammer.FlowUpdate}
+     *            in the order they are to be applied
+     * @return the operation status of each update, in the order of the
+     *         updates {@link org.opendaylight.controller.sal.utils.Status}
+     */
+    List<Status> updateFlows(Node node, List<FlowUpdate> updates);
+
     /**
      * Remove all flows present on the network node
      *
@@ -50,6 +50,17 @@ package org.opendaylight.controller.sal.packet;
  * processing either parallel or serial will ONLY continue if the
  * incoming DataPacket match the filter. If no filter is provided, the
  * handler is called for EVERY packet i.e. match All is implied!
+ *
+ * Threading: by default the Data Packet Service calls the listeners on the
+ * thread of the plugin which received the packet. Setting the
+ * sal.dataPacket.rxThreads system property to more than 0 hands the packets
+ * over to receive workers shared by all the containers, partitioned by
+ * ingress switch: the packets of a switch are seen in the order they were
+ * received, those of different switches are seen concurrently, so only do so
+ * if all the listeners deployed are thread-safe. When the queue of a worker
+ * is full, the plugin delivering the packet waits for room, unless the
+ * sal.dataPacket.rxDropWhenFull system property is set, in which case the
+ * packet is dropped and counted.
  */
 @Deprecated
 public interface IListenDataPacket {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of an ARP packet for Ethernet and IPv4 addresses. Hardware
+ * addresses are returned as the lower 48 bits of a long, protocol addresses as
+ * an int in network byte order.
+ */
+public class ARPView extends HeaderView {
+    public static final int HEADER_LENGTH = 28;
+
+    @Override
+    public ARPView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public short getHardwareType() {
+        return (short) getUnsignedShort(0);
+    }
+
+    public short getProtocolType() {
+        return (short) getUnsignedShort(2);
+    }
+
+    public byte getHardwareAddressLength() {
+        return (byte) getUnsignedByte(4);
+    }
+
+    public byte getProtocolAddressLength() {
+        return (byte) getUnsignedByte(5);
+    }
+
+    public short getOpCode() {
+        return (short) getUnsignedShort(6);
+    }
+
+    public long getSenderHardwareAddress() {
+        return getMacAddress(8);
+    }
+
+    public int getSenderProtocolAddress() {
+        return getInt(14);
+    }
+
+    public long getTargetHardwareAddress() {
+        return getMacAddress(18);
+    }
+
+    public int getTargetProtocolAddress() {
+        return getInt(24);
+    }
+
+    /**
+     * Besides fitting in the packet, the addresses must be Ethernet and IPv4
+     * ones for the accessors to be meaningful.
+     */
+    @Override
+    public boolean isValid() {
+        return super.isValid() && (getHardwareAddressLength() == 6)
+                && (getProtocolAddressLength() == 4);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return HEADER_LENGTH;
+    }
+}
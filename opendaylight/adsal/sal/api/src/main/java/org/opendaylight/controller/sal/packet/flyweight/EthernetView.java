@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of an Ethernet II header. MAC addresses are returned as the
+ * lower 48 bits of a long.
+ */
+public class EthernetView extends HeaderView {
+    public static final int HEADER_LENGTH = 14;
+
+    @Override
+    public EthernetView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public long getDestinationMACAddress() {
+        return getMacAddress(0);
+    }
+
+    public long getSourceMACAddress() {
+        return getMacAddress(6);
+    }
+
+    /**
+     * @return the EtherType of the Ethernet header, which is a VLAN tag type
+     *         for tagged frames
+     */
+    public short getEtherType() {
+        return (short) getUnsignedShort(12);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return HEADER_LENGTH;
+    }
+}
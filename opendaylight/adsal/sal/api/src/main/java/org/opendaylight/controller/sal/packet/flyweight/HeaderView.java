@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Base class of the flyweight header views. A view does not copy anything out
+ * of the packet: it only remembers the byte array and the position of its
+ * header in it, and every accessor reads the field directly from the array.
+ * A view can be re-pointed to another packet with
+ * {@link #wrap(byte[], int, int)}, so that one instance serves any number of
+ * packets.
+ *
+ * Views are not thread safe and are only valid as long as the underlying byte
+ * array is not modified.
+ */
+public abstract class HeaderView {
+    protected byte[] data;
+    protected int offset;
+    protected int length;
+
+    /**
+     * Points this view to a header.
+     *
+     * @param data
+     *            the packet bytes
+     * @param offset
+     *            byte offset of the header in data
+     * @param length
+     *            number of bytes from offset to the end of the packet
+     * @return this view
+     */
+    public HeaderView wrap(byte[] data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return byte offset of the header in the packet
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return number of bytes of the header and its payload
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return header length in bytes
+     */
+    public abstract int getHeaderLength();
+
+    /**
+     * @return minimum number of bytes for the header to be complete
+     */
+    protected abstract int getMinimumHeaderLength();
+
+    /**
+     * @return true if the header fits in the packet
+     */
+    public boolean isValid() {
+        return (data != null) && (length >= getMinimumHeaderLength())
+                && (length >= getHeaderLength());
+    }
+
+    /**
+     * @return byte offset of the payload in the packet
+     */
+    public int getPayloadOffset() {
+        return offset + getHeaderLength();
+    }
+
+    /**
+     * @return number of bytes of the payload
+     */
+    public int getPayloadLength() {
+        return length - getHeaderLength();
+    }
+
+    protected int getUnsignedByte(int position) {
+        return data[offset + position] & 0xff;
+    }
+
+    protected int getUnsignedShort(int position) {
+        int i = offset + position;
+        return ((data[i] & 0xff) << 8) | (data[i + 1] & 0xff);
+    }
+
+    protected int getInt(int position) {
+        int i = offset + position;
+        return ((data[i] & 0xff) << 24) | ((data[i + 1] & 0xff) << 16)
+                | ((data[i + 2] & 0xff) << 8) | (data[i + 3] & 0xff);
+    }
+
+    /**
+     * Reads a 48 bit MAC address as the lower bits of a long.
+     */
+    protected long getMacAddress(int position) {
+        int i = offset + position;
+        long mac = 0;
+        for (int j = 0; j < 6; j++) {
+            mac = (mac << 8) | (data[i + j] & 0xff);
+        }
+        return mac;
+    }
+
+    /**
+     * Computes the internet checksum over count bytes starting at position,
+     * treating the 16 bit word at checksumPosition as zero.
+     */
+    protected int computeChecksum(int position, int count, int checksumPosition) {
+        int sum = 0;
+        int end = position + count;
+        for (int i = position; i < end; i += 2) {
+            if (i == checksumPosition) {
+                continue;
+            }
+            int high = data[offset + i] & 0xff;
+            int low = (i + 1 < end) ? (data[offset + i + 1] & 0xff) : 0;
+            sum += (high << 8) | low;
+        }
+        while ((sum >> 16) != 0) {
+            sum = (sum & 0xffff) + (sum >> 16);
+        }
+        return ~sum & 0xffff;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of an ICMP header. Identifier and sequence number are only
+ * meaningful for the echo and timestamp messages.
+ */
+public class ICMPView extends HeaderView {
+    public static final int HEADER_LENGTH = 8;
+    private static final int CHECKSUM_POSITION = 2;
+
+    @Override
+    public ICMPView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public byte getType() {
+        return (byte) getUnsignedByte(0);
+    }
+
+    public byte getCode() {
+        return (byte) getUnsignedByte(1);
+    }
+
+    public short getChecksum() {
+        return (short) getUnsignedShort(CHECKSUM_POSITION);
+    }
+
+    public short getIdentifier() {
+        return (short) getUnsignedShort(4);
+    }
+
+    public short getSequenceNumber() {
+        return (short) getUnsignedShort(6);
+    }
+
+    /**
+     * @return true if the checksum matches the ICMP header and payload
+     */
+    public boolean isChecksumValid() {
+        return computeChecksum(0, length, CHECKSUM_POSITION) == getUnsignedShort(CHECKSUM_POSITION);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return HEADER_LENGTH;
+    }
+}
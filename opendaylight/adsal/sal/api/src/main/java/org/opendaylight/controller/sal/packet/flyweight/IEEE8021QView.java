@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of an 802.1Q tag, i.e. the four bytes following a VLAN
+ * EtherType.
+ */
+public class IEEE8021QView extends HeaderView {
+    public static final int HEADER_LENGTH = 4;
+
+    @Override
+    public IEEE8021QView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public byte getPcp() {
+        return (byte) (getUnsignedByte(0) >> 5);
+    }
+
+    public byte getCfi() {
+        return (byte) ((getUnsignedByte(0) >> 4) & 0x1);
+    }
+
+    public short getVid() {
+        return (short) (getUnsignedShort(0) & 0xfff);
+    }
+
+    /**
+     * @return the EtherType of the payload, which is a VLAN tag type for
+     *         stacked tags
+     */
+    public short getEtherType() {
+        return (short) getUnsignedShort(2);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return HEADER_LENGTH;
+    }
+}
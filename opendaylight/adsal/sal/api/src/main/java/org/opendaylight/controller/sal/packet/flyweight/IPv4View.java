@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of an IPv4 header. Addresses are returned as an int in
+ * network byte order. The payload length is taken from the total length
+ * field, so that Ethernet padding is not considered part of the payload.
+ */
+public class IPv4View extends HeaderView {
+    public static final int MIN_HEADER_LENGTH = 20;
+    private static final int CHECKSUM_POSITION = 10;
+
+    @Override
+    public IPv4View wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public byte getVersion() {
+        return (byte) (getUnsignedByte(0) >> 4);
+    }
+
+    /**
+     * @return the header length in bytes
+     */
+    public int getHeaderLen() {
+        return 4 * (getUnsignedByte(0) & 0xf);
+    }
+
+    public byte getDiffServ() {
+        return (byte) (getUnsignedByte(1) >> 2);
+    }
+
+    public byte getECN() {
+        return (byte) (getUnsignedByte(1) & 0x3);
+    }
+
+    public short getTotalLength() {
+        return (short) getUnsignedShort(2);
+    }
+
+    public short getIdentification() {
+        return (short) getUnsignedShort(4);
+    }
+
+    public byte getFlags() {
+        return (byte) (getUnsignedByte(6) >> 5);
+    }
+
+    public short getFragmentOffset() {
+        return (short) (getUnsignedShort(6) & 0x1fff);
+    }
+
+    public byte getTtl() {
+        return (byte) getUnsignedByte(8);
+    }
+
+    public byte getProtocol() {
+        return (byte) getUnsignedByte(9);
+    }
+
+    public short getChecksum() {
+        return (short) getUnsignedShort(CHECKSUM_POSITION);
+    }
+
+    public int getSourceAddress() {
+        return getInt(12);
+    }
+
+    public int getDestinationAddress() {
+        return getInt(16);
+    }
+
+    /**
+     * @return true if the header checksum matches the header
+     */
+    public boolean isChecksumValid() {
+        return computeChecksum(0, getHeaderLength(), CHECKSUM_POSITION) == getUnsignedShort(CHECKSUM_POSITION);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return getHeaderLen();
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return MIN_HEADER_LENGTH;
+    }
+
+    @Override
+    public boolean isValid() {
+        return super.isValid() && (getVersion() == 4)
+                && (getHeaderLength() >= MIN_HEADER_LENGTH);
+    }
+
+    @Override
+    public int getPayloadLength() {
+        int totalLength = getUnsignedShort(2);
+        return ((totalLength >= getHeaderLength()) && (totalLength <= length)) ? totalLength - getHeaderLength()
+                : length - getHeaderLength();
+    }
+}
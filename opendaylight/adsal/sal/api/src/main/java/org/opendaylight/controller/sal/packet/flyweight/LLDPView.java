@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+import org.opendaylight.controller.sal.packet.LLDPTLV;
+
+/**
+ * Flyweight view of an LLDP data unit. The TLVs are walked by their position
+ * relative to the start of the data unit:
+ *
+ * <pre>
+ * for (int tlv = lldp.firstTLV(); lldp.hasTLV(tlv); tlv = lldp.nextTLV(tlv)) {
+ *     lldp.getTLVType(tlv) ...
+ * }
+ * </pre>
+ *
+ * The walk stops at the End Of LLDPDU TLV or at a TLV which does not fit in
+ * the packet.
+ */
+public class LLDPView extends HeaderView {
+    private static final int TLV_HEADER_LENGTH = 2;
+
+    @Override
+    public LLDPView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public int firstTLV() {
+        return 0;
+    }
+
+    /**
+     * @return true if a complete TLV other than End Of LLDPDU starts at the
+     *         position
+     */
+    public boolean hasTLV(int position) {
+        if ((position < 0) || (position + TLV_HEADER_LENGTH > length)) {
+            return false;
+        }
+        int header = getUnsignedShort(position);
+        if (header == 0) {
+            return false;
+        }
+        return position + TLV_HEADER_LENGTH + (header & 0x1ff) <= length;
+    }
+
+    public int nextTLV(int position) {
+        return position + TLV_HEADER_LENGTH + getTLVLength(position);
+    }
+
+    public byte getTLVType(int position) {
+        return (byte) (getUnsignedShort(position) >> 9);
+    }
+
+    /**
+     * @return length of the TLV value in bytes
+     */
+    public int getTLVLength(int position) {
+        return getUnsignedShort(position) & 0x1ff;
+    }
+
+    /**
+     * @return byte offset of the TLV value in the packet
+     */
+    public int getTLVValueOffset(int position) {
+        return offset + position + TLV_HEADER_LENGTH;
+    }
+
+    /**
+     * @return position of the first TLV of the given type, -1 if there is
+     *         none
+     */
+    public int findTLV(byte type) {
+        for (int tlv = firstTLV(); hasTLV(tlv); tlv = nextTLV(tlv)) {
+            if (getTLVType(tlv) == type) {
+                return tlv;
+            }
+        }
+        return -1;
+    }
+
+    public int findChassisId() {
+        return findTLV(LLDPTLV.TLVType.ChassisID.getValue());
+    }
+
+    public int findPortId() {
+        return findTLV(LLDPTLV.TLVType.PortID.getValue());
+    }
+
+    public int findTtl() {
+        return findTLV(LLDPTLV.TLVType.TTL.getValue());
+    }
+
+    /**
+     * The data unit spans the whole payload of the frame.
+     */
+    @Override
+    public int getHeaderLength() {
+        return length;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return TLV_HEADER_LENGTH;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+import org.opendaylight.controller.sal.packet.LinkEncap;
+import org.opendaylight.controller.sal.packet.RawPacket;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.IPProtocols;
+
+/**
+ * Allocation free decoder of Ethernet frames, the flyweight counterpart of
+ * decoding a {@link RawPacket} into {@link org.opendaylight.controller.sal.packet.Ethernet}
+ * and its payload packets. A PacketView owns one view of each supported
+ * header and is meant to be reused for many frames, e.g. one instance per
+ * thread:
+ *
+ * <pre>
+ * PacketView view = ...;
+ * view.wrap(rawPacket);
+ * if (view.getEtherType() == EtherTypes.ARP.shortValue()) {
+ *     ARPView arp = view.getARP();
+ *     ...
+ * }
+ * </pre>
+ *
+ * The layers are located lazily, a header is only looked at when it, or a
+ * header it carries, is asked for. Accessors of a layer return null if the
+ * frame does not carry it or if the header is truncated.
+ *
+ * The {@link org.opendaylight.controller.sal.packet.Packet} classes remain the
+ * way to build packets and to get a full copy of a received one.
+ */
+public class PacketView {
+    private static final int ETHERNET_PARSED = 0x1;
+    private static final int NETWORK_PARSED = 0x2;
+    private static final int TRANSPORT_PARSED = 0x4;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final EthernetView ethernet = new EthernetView();
+    private final IEEE8021QView vlanTag = new IEEE8021QView();
+    // scratch view for the inner tags of stacked VLAN tags
+    private final IEEE8021QView innerVlanTag = new IEEE8021QView();
+    private final ARPView arp = new ARPView();
+    private final IPv4View ipv4 = new IPv4View();
+    private final LLDPView lldp = new LLDPView();
+    private final TCPView tcp = new TCPView();
+    private final UDPView udp = new UDPView();
+    private final ICMPView icmp = new ICMPView();
+
+    private byte[] data;
+    private int parsed;
+    private boolean ethernetValid;
+    private boolean tagged;
+    private short etherType;
+    private int networkOffset;
+    private HeaderView network;
+    private HeaderView transport;
+
+    /**
+     * Points this decoder to a new frame.
+     *
+     * @param data
+     *            the Ethernet frame
+     * @return this decoder
+     */
+    public PacketView wrap(byte[] data) {
+        this.data = data;
+        this.parsed = 0;
+        this.network = null;
+        this.transport = null;
+        return this;
+    }
+
+    /**
+     * Points this decoder to the data of the packet, which is considered
+     * empty if its encapsulation is not Ethernet.
+     *
+     * @param pkt
+     *            received packet
+     * @return this decoder
+     */
+    public PacketView wrap(RawPacket pkt) {
+        byte[] packetData = pkt.getPacketData();
+        return wrap(LinkEncap.ETHERNET.equals(pkt.getEncap()) && (packetData != null) ? packetData : EMPTY);
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return the Ethernet header, null if the frame is too short
+     */
+    public EthernetView getEthernet() {
+        parseEthernet();
+        return ethernetValid ? ethernet : null;
+    }
+
+    /**
+     * @return the outermost VLAN tag, null if the frame is not tagged
+     */
+    public IEEE8021QView getVlanTag() {
+        parseEthernet();
+        return tagged ? vlanTag : null;
+    }
+
+    /**
+     * @return the EtherType of the network layer, following any VLAN tags, 0
+     *         if the frame is too short
+     */
+    public short getEtherType() {
+        parseEthernet();
+        return etherType;
+    }
+
+    /**
+     * @return byte offset of the network layer in the frame
+     */
+    public int getNetworkOffset() {
+        parseEthernet();
+        return networkOffset;
+    }
+
+    public ARPView getARP() {
+        parseNetwork();
+        return (network == arp) ? arp : null;
+    }
+
+    public IPv4View getIPv4() {
+        parseNetwork();
+        return (network == ipv4) ? ipv4 : null;
+    }
+
+    public LLDPView getLLDP() {
+        parseNetwork();
+        return (network == lldp) ? lldp : null;
+    }
+
+    /**
+     * @return the TCP header, null if this is not the first fragment of an
+     *         IPv4 TCP packet
+     */
+    public TCPView getTCP() {
+        parseTransport();
+        return (transport == tcp) ? tcp : null;
+    }
+
+    /**
+     * @return the UDP header, null if this is not the first fragment of an
+     *         IPv4 UDP packet
+     */
+    public UDPView getUDP() {
+        parseTransport();
+        return (transport == udp) ? udp : null;
+    }
+
+    /**
+     * @return the ICMP header, null if this is not the first fragment of an
+     *         IPv4 ICMP packet
+     */
+    public ICMPView getICMP() {
+        parseTransport();
+        return (transport == icmp) ? icmp : null;
+    }
+
+    private void parseEthernet() {
+        if ((parsed & ETHERNET_PARSED) != 0) {
+            return;
+        }
+        parsed |= ETHERNET_PARSED;
+        tagged = false;
+        etherType = 0;
+        networkOffset = EthernetView.HEADER_LENGTH;
+        ethernetValid = ethernet.wrap(data, 0, data.length).isValid();
+        if (!ethernetValid) {
+            return;
+        }
+        etherType = ethernet.getEtherType();
+        // skip stacked tags, the outermost one is exposed
+        while (isVlanEtherType(etherType)) {
+            IEEE8021QView tag = tagged ? innerVlanTag : vlanTag;
+            if (!tag.wrap(data, networkOffset, data.length - networkOffset).isValid()) {
+                etherType = 0;
+                return;
+            }
+            tagged = true;
+            etherType = tag.getEtherType();
+            networkOffset += IEEE8021QView.HEADER_LENGTH;
+        }
+    }
+
+    private void parseNetwork() {
+        if ((parsed & NETWORK_PARSED) != 0) {
+            return;
+        }
+        parseEthernet();
+        parsed |= NETWORK_PARSED;
+        HeaderView view = null;
+        if (etherType == EtherTypes.ARP.shortValue()) {
+            view = arp;
+        } else if (etherType == EtherTypes.IPv4.shortValue()) {
+            view = ipv4;
+        } else if (etherType == EtherTypes.LLDP.shortValue()) {
+            view = lldp;
+        }
+        if ((view != null) && view.wrap(data, networkOffset, data.length - networkOffset).isValid()) {
+            network = view;
+        }
+    }
+
+    private void parseTransport() {
+        if ((parsed & TRANSPORT_PARSED) != 0) {
+            return;
+        }
+        parseNetwork();
+        parsed |= TRANSPORT_PARSED;
+        if ((network != ipv4) || (ipv4.getFragmentOffset() != 0)) {
+            return;
+        }
+        byte protocol = ipv4.getProtocol();
+        HeaderView view = null;
+        if (protocol == IPProtocols.TCP.byteValue()) {
+            view = tcp;
+        } else if (protocol == IPProtocols.UDP.byteValue()) {
+            view = udp;
+        } else if (protocol == IPProtocols.ICMP.byteValue()) {
+            view = icmp;
+        }
+        if ((view != null) && view.wrap(data, ipv4.getPayloadOffset(), ipv4.getPayloadLength()).isValid()) {
+            transport = view;
+        }
+    }
+
+    private static boolean isVlanEtherType(short type) {
+        return (type == EtherTypes.VLANTAGGED.shortValue()) || (type == EtherTypes.QINQ.shortValue())
+                || (type == EtherTypes.OLDQINQ.shortValue()) || (type == EtherTypes.CISCOQINQ.shortValue());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of a TCP header.
+ */
+public class TCPView extends HeaderView {
+    public static final int MIN_HEADER_LENGTH = 20;
+
+    @Override
+    public TCPView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public short getSourcePort() {
+        return (short) getUnsignedShort(0);
+    }
+
+    public short getDestinationPort() {
+        return (short) getUnsignedShort(2);
+    }
+
+    public int getSequenceNumber() {
+        return getInt(4);
+    }
+
+    public int getAcknowledgementNumber() {
+        return getInt(8);
+    }
+
+    /**
+     * @return the data offset field, in 32 bit words
+     */
+    public byte getDataOffset() {
+        return (byte) (getUnsignedByte(12) >> 4);
+    }
+
+    /**
+     * @return the nine flag bits, NS being the most significant one
+     */
+    public short getHeaderLenFlags() {
+        return (short) (getUnsignedShort(12) & 0x1ff);
+    }
+
+    public short getWindowSize() {
+        return (short) getUnsignedShort(14);
+    }
+
+    public short getChecksum() {
+        return (short) getUnsignedShort(16);
+    }
+
+    public short getUrgentPointer() {
+        return (short) getUnsignedShort(18);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return 4 * getDataOffset();
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return MIN_HEADER_LENGTH;
+    }
+
+    @Override
+    public boolean isValid() {
+        return super.isValid() && (getHeaderLength() >= MIN_HEADER_LENGTH);
+    }
+}
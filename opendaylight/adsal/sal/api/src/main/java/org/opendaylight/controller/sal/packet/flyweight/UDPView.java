@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+/**
+ * Flyweight view of a UDP header.
+ */
+public class UDPView extends HeaderView {
+    public static final int HEADER_LENGTH = 8;
+
+    @Override
+    public UDPView wrap(byte[] data, int offset, int length) {
+        super.wrap(data, offset, length);
+        return this;
+    }
+
+    public short getSourcePort() {
+        return (short) getUnsignedShort(0);
+    }
+
+    public short getDestinationPort() {
+        return (short) getUnsignedShort(2);
+    }
+
+    /**
+     * @return the length field, covering the header and the payload
+     */
+    public short getUdpLength() {
+        return (short) getUnsignedShort(4);
+    }
+
+    public short getChecksum() {
+        return (short) getUnsignedShort(6);
+    }
+
+    @Override
+    public int getHeaderLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    protected int getMinimumHeaderLength() {
+        return HEADER_LENGTH;
+    }
+}
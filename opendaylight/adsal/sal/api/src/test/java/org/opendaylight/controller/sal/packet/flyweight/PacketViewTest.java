@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.packet.flyweight;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.sal.packet.ARP;
+import org.opendaylight.controller.sal.packet.BitBufferHelper;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.ICMP;
+import org.opendaylight.controller.sal.packet.IEEE8021Q;
+import org.opendaylight.controller.sal.packet.IPv4;
+import org.opendaylight.controller.sal.packet.LLDP;
+import org.opendaylight.controller.sal.packet.LLDPTLV;
+import org.opendaylight.controller.sal.packet.Packet;
+import org.opendaylight.controller.sal.packet.TCP;
+import org.opendaylight.controller.sal.packet.UDP;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.IPProtocols;
+import org.opendaylight.controller.sal.utils.NetUtils;
+
+public class PacketViewTest {
+    private static final byte[] dMac = { (byte) 0xA, (byte) 0xC, (byte) 0xE, (byte) 0x14, (byte) 0x37, (byte) 0x45 };
+    private static final byte[] sMac = { (byte) 0xA6, (byte) 0xEC, (byte) 0x9C, (byte) 0xAE, (byte) 0xB2, (byte) 0x9F };
+
+    private static Ethernet ethernet(short etherType, Packet payload) {
+        Ethernet eth = new Ethernet();
+        eth.setDestinationMACAddress(dMac);
+        eth.setSourceMACAddress(sMac);
+        eth.setEtherType(etherType);
+        eth.setPayload(payload);
+        return eth;
+    }
+
+    private static IPv4 ipv4(byte protocol, Packet payload) throws Exception {
+        IPv4 ip = new IPv4();
+        ip.setTtl((byte) 64);
+        ip.setProtocol(protocol);
+        ip.setSourceAddress(InetAddress.getByName("10.0.0.1"));
+        ip.setDestinationAddress(InetAddress.getByName("10.0.0.2"));
+        ip.setPayload(payload);
+        return ip;
+    }
+
+    private static Ethernet decode(byte[] data) throws Exception {
+        Ethernet eth = new Ethernet();
+        eth.deserialize(data, 0, data.length * NetUtils.NumBitsInAByte);
+        return eth;
+    }
+
+    @Test
+    public void testTaggedTcp() throws Exception {
+        TCP tcp = new TCP();
+        tcp.setSourcePort((short) 49152).setDestinationPort((short) 80).setSequenceNumber(0x12345678)
+                .setAckNumber(0x9abcdef0).setDataOffset((byte) 5).setHeaderLenFlags((short) 0x12)
+                .setWindowSize((short) 0xffff).setChecksum((short) 0x1234).setUrgentPointer((short) 0);
+        IEEE8021Q vlan = new IEEE8021Q();
+        vlan.setPcp((byte) 5).setCfi((byte) 0).setVid((short) 4094).setEtherType(EtherTypes.IPv4.shortValue());
+        vlan.setPayload(ipv4(IPProtocols.TCP.byteValue(), tcp));
+        byte[] data = ethernet(EtherTypes.VLANTAGGED.shortValue(), vlan).serialize();
+
+        Ethernet eth = decode(data);
+        IEEE8021Q dot1q = (IEEE8021Q) eth.getPayload();
+        IPv4 ip = (IPv4) dot1q.getPayload();
+        TCP decodedTcp = (TCP) ip.getPayload();
+
+        PacketView view = new PacketView().wrap(data);
+        EthernetView ethView = view.getEthernet();
+        Assert.assertEquals(BitBufferHelper.toNumber(dMac), ethView.getDestinationMACAddress());
+        Assert.assertEquals(BitBufferHelper.toNumber(sMac), ethView.getSourceMACAddress());
+        Assert.assertEquals(EtherTypes.VLANTAGGED.shortValue(), ethView.getEtherType());
+
+        IEEE8021QView vlanView = view.getVlanTag();
+        Assert.assertEquals(dot1q.getPcp(), vlanView.getPcp());
+        Assert.assertEquals(dot1q.getCfi(), vlanView.getCfi());
+        Assert.assertEquals(dot1q.getVid(), vlanView.getVid());
+        Assert.assertEquals(EtherTypes.IPv4.shortValue(), view.getEtherType());
+        Assert.assertEquals(18, view.getNetworkOffset());
+
+        IPv4View ipView = view.getIPv4();
+        Assert.assertNull(view.getARP());
+        Assert.assertEquals(ip.getVersion(), ipView.getVersion());
+        Assert.assertEquals(ip.getHeaderLen(), ipView.getHeaderLen());
+        Assert.assertEquals(ip.getTotalLength(), ipView.getTotalLength());
+        Assert.assertEquals(ip.getIdentification(), ipView.getIdentification());
+        Assert.assertEquals(ip.getFlags(), ipView.getFlags());
+        Assert.assertEquals(ip.getTtl(), ipView.getTtl());
+        Assert.assertEquals(ip.getProtocol(), ipView.getProtocol());
+        Assert.assertEquals(ip.getChecksum(), ipView.getChecksum());
+        Assert.assertEquals(ip.getSourceAddress(), ipView.getSourceAddress());
+        Assert.assertEquals(ip.getDestinationAddress(), ipView.getDestinationAddress());
+        Assert.assertFalse(ip.isCorrupted());
+        Assert.assertTrue(ipView.isChecksumValid());
+
+        TCPView tcpView = view.getTCP();
+        Assert.assertNull(view.getUDP());
+        Assert.assertNull(view.getICMP());
+        Assert.assertEquals(decodedTcp.getSourcePort(), tcpView.getSourcePort());
+        Assert.assertEquals(decodedTcp.getDestinationPort(), tcpView.getDestinationPort());
+        Assert.assertEquals(decodedTcp.getChecksum(), tcpView.getChecksum());
+        Assert.assertEquals(0x12345678, tcpView.getSequenceNumber());
+        Assert.assertEquals(0x9abcdef0, tcpView.getAcknowledgementNumber());
+        Assert.assertEquals(5, tcpView.getDataOffset());
+        Assert.assertEquals(0x12, tcpView.getHeaderLenFlags());
+        Assert.assertEquals((short) 0xffff, tcpView.getWindowSize());
+        Assert.assertEquals(0, tcpView.getPayloadLength());
+
+        // corrupt the IPv4 header
+        data[18 + 8]++;
+        Assert.assertFalse(view.wrap(data).getIPv4().isChecksumValid());
+    }
+
+    @Test
+    public void testUdpAndIcmp() throws Exception {
+        UDP udp = new UDP();
+        udp.setSourcePort((short) 68).setDestinationPort((short) 67).setLength((short) 8).setChecksum((short) 0);
+        byte[] data = ethernet(EtherTypes.IPv4.shortValue(), ipv4(IPProtocols.UDP.byteValue(), udp)).serialize();
+        // Ethernet padding is not part of the IPv4 payload
+        data = Arrays.copyOf(data, 60);
+
+        PacketView view = new PacketView().wrap(data);
+        Assert.assertNull(view.getVlanTag());
+        UDPView udpView = view.getUDP();
+        Assert.assertNull(view.getTCP());
+        Assert.assertEquals(68, udpView.getSourcePort());
+        Assert.assertEquals(67, udpView.getDestinationPort());
+        Assert.assertEquals(8, udpView.getUdpLength());
+        Assert.assertEquals(8, view.getIPv4().getPayloadLength());
+
+        ICMP icmp = new ICMP();
+        icmp.setType((byte) 8).setCode((byte) 0).setIdentifier((short) 0x4321).setSequenceNumber((short) 7);
+        icmp.setRawPayload(new byte[] { 1, 2, 3, 4, 5 });
+        data = ethernet(EtherTypes.IPv4.shortValue(), ipv4(IPProtocols.ICMP.byteValue(), icmp)).serialize();
+        ICMP decodedIcmp = (ICMP) ((IPv4) decode(data).getPayload()).getPayload();
+
+        ICMPView icmpView = view.wrap(data).getICMP();
+        Assert.assertNull(view.getUDP());
+        Assert.assertEquals(8, icmpView.getType());
+        Assert.assertEquals(0, icmpView.getCode());
+        Assert.assertEquals(0x4321, icmpView.getIdentifier());
+        Assert.assertEquals(7, icmpView.getSequenceNumber());
+        Assert.assertEquals(decodedIcmp.getChecksum(), icmpView.getChecksum());
+        Assert.assertEquals(decodedIcmp.isCorrupted(), !icmpView.isChecksumValid());
+        Assert.assertEquals(5, icmpView.getPayloadLength());
+    }
+
+    @Test
+    public void testArp() throws Exception {
+        ARP arp = new ARP();
+        arp.setHardwareType(ARP.HW_TYPE_ETHERNET);
+        arp.setProtocolType(EtherTypes.IPv4.shortValue());
+        arp.setHardwareAddressLength((byte) 6);
+        arp.setProtocolAddressLength((byte) 4);
+        arp.setOpCode(ARP.REQUEST);
+        arp.setSenderHardwareAddress(sMac);
+        arp.setSenderProtocolAddress(new byte[] { 9, 9, 9, 1 });
+        arp.setTargetHardwareAddress(new byte[6]);
+        arp.setTargetProtocolAddress(new byte[] { 9, 9, 9, (byte) 0xfe });
+        byte[] data = ethernet(EtherTypes.ARP.shortValue(), arp).serialize();
+
+        PacketView view = new PacketView().wrap(data);
+        Assert.assertEquals(EtherTypes.ARP.shortValue(), view.getEtherType());
+        ARPView arpView = view.getARP();
+        Assert.assertNull(view.getIPv4());
+        Assert.assertNull(view.getTCP());
+        Assert.assertEquals(ARP.HW_TYPE_ETHERNET, arpView.getHardwareType());
+        Assert.assertEquals(EtherTypes.IPv4.shortValue(), arpView.getProtocolType());
+        Assert.assertEquals(ARP.REQUEST, arpView.getOpCode());
+        Assert.assertEquals(BitBufferHelper.toNumber(sMac), arpView.getSenderHardwareAddress());
+        Assert.assertEquals(0x09090901, arpView.getSenderProtocolAddress());
+        Assert.assertEquals(0, arpView.getTargetHardwareAddress());
+        Assert.assertEquals(0x090909fe, arpView.getTargetProtocolAddress());
+
+        // truncated ARP
+        Assert.assertNull(view.wrap(Arrays.copyOf(data, 30)).getARP());
+        Assert.assertEquals(EtherTypes.ARP.shortValue(), view.getEtherType());
+    }
+
+    @Test
+    public void testLldp() throws Exception {
+        LLDP lldp = new LLDP();
+        lldp.setChassisId(new LLDPTLV().setType(LLDPTLV.TLVType.ChassisID.getValue()).setLength((short) 7)
+                .setValue(new byte[] { 4, 0, 0, 0, 0, 0, 1 }));
+        lldp.setPortId(new LLDPTLV().setType(LLDPTLV.TLVType.PortID.getValue()).setLength((short) 3)
+                .setValue(new byte[] { 7, 0, 2 }));
+        lldp.setTtl(new LLDPTLV().setType(LLDPTLV.TLVType.TTL.getValue()).setLength((short) 2)
+                .setValue(new byte[] { 0, 120 }));
+        byte[] data = ethernet(EtherTypes.LLDP.shortValue(), lldp).serialize();
+
+        PacketView view = new PacketView().wrap(data);
+        LLDPView lldpView = view.getLLDP();
+        int count = 0;
+        for (int tlv = lldpView.firstTLV(); lldpView.hasTLV(tlv); tlv = lldpView.nextTLV(tlv)) {
+            count++;
+        }
+        Assert.assertEquals(3, count);
+
+        int portId = lldpView.findPortId();
+        Assert.assertEquals(LLDPTLV.TLVType.PortID.getValue(), lldpView.getTLVType(portId));
+        Assert.assertEquals(3, lldpView.getTLVLength(portId));
+        Assert.assertEquals(2, data[lldpView.getTLVValueOffset(portId) + 2]);
+        int ttl = lldpView.findTtl();
+        Assert.assertEquals(120, data[lldpView.getTLVValueOffset(ttl) + 1]);
+        Assert.assertEquals(-1, lldpView.findTLV(LLDPTLV.TLVType.SystemName.getValue()));
+        Assert.assertEquals(0, lldpView.findChassisId());
+    }
+
+    @Test
+    public void testTruncated() throws Exception {
+        PacketView view = new PacketView().wrap(new byte[10]);
+        Assert.assertNull(view.getEthernet());
+        Assert.assertEquals(0, view.getEtherType());
+        Assert.assertNull(view.getIPv4());
+        Assert.assertNull(view.getTCP());
+
+        // tagged frame cut in the tag
+        byte[] data = new byte[16];
+        data[12] = (byte) 0x81;
+        Assert.assertNotNull(view.wrap(data).getEthernet());
+        Assert.assertEquals(0, view.getEtherType());
+        Assert.assertNull(view.getVlanTag());
+    }
+}
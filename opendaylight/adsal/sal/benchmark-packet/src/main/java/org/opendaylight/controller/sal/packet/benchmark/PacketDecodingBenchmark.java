@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.packet.benchmark;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.sal.packet.ARP;
+import org.opendaylight.controller.sal.packet.BitBufferHelper;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.IEEE8021Q;
+import org.opendaylight.controller.sal.packet.IPv4;
+import org.opendaylight.controller.sal.packet.LLDP;
+import org.opendaylight.controller.sal.packet.LLDPTLV;
+import org.opendaylight.controller.sal.packet.Packet;
+import org.opendaylight.controller.sal.packet.PacketException;
+import org.opendaylight.controller.sal.packet.TCP;
+import org.opendaylight.controller.sal.packet.flyweight.ARPView;
+import org.opendaylight.controller.sal.packet.flyweight.IPv4View;
+import org.opendaylight.controller.sal.packet.flyweight.LLDPView;
+import org.opendaylight.controller.sal.packet.flyweight.PacketView;
+import org.opendaylight.controller.sal.packet.flyweight.TCPView;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.IPProtocols;
+import org.opendaylight.controller.sal.utils.NetUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding of received frames into {@link Packet} objects with the flyweight {@link PacketView}.
+ * Both variants read the fields a PACKET_IN handler typically looks at: addresses of ARP packets, addresses and
+ * ports of IPv4 TCP packets, chassis and port id of LLDP frames. Run with -prof gc to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class PacketDecodingBenchmark {
+
+    private static final byte[] SRC_MAC = { (byte) 0xa6, (byte) 0xec, (byte) 0x9c, (byte) 0xae, (byte) 0xb2, (byte) 0x9f };
+    private static final byte[] DST_MAC = { 0x0a, 0x0c, 0x0e, 0x14, 0x37, 0x45 };
+
+    @Param({"arp", "tcp", "lldp"})
+    public String frame;
+
+    private byte[] data;
+    private final PacketView view = new PacketView();
+
+    @Setup
+    public void setUp() throws Exception {
+        switch (frame) {
+        case "arp":
+            data = createArpFrame();
+            break;
+        case "tcp":
+            data = createTcpFrame();
+            break;
+        case "lldp":
+            data = createLldpFrame();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown frame " + frame);
+        }
+    }
+
+    @Benchmark
+    public long decodePacket() throws PacketException {
+        Ethernet ethernet = new Ethernet();
+        ethernet.deserialize(data, 0, data.length * NetUtils.NumBitsInAByte);
+        Packet payload = ethernet.getPayload();
+        if (payload instanceof IEEE8021Q) {
+            payload = payload.getPayload();
+        }
+        if (payload instanceof ARP) {
+            ARP arp = (ARP) payload;
+            return BitBufferHelper.toNumber(arp.getSenderHardwareAddress())
+                    ^ BitBufferHelper.toNumber(arp.getSenderProtocolAddress())
+                    ^ BitBufferHelper.toNumber(arp.getTargetProtocolAddress());
+        }
+        if (payload instanceof IPv4) {
+            IPv4 ip = (IPv4) payload;
+            long result = ip.getSourceAddress() ^ ip.getDestinationAddress();
+            if (ip.getPayload() instanceof TCP) {
+                TCP tcp = (TCP) ip.getPayload();
+                result ^= (tcp.getSourcePort() << 16) | tcp.getDestinationPort();
+            }
+            return result;
+        }
+        if (payload instanceof LLDP) {
+            LLDP lldp = (LLDP) payload;
+            return lldp.getChassisId().getValue()[1] ^ lldp.getPortId().getValue()[1];
+        }
+        return 0;
+    }
+
+    @Benchmark
+    public long decodePacketView() {
+        view.wrap(data);
+        ARPView arp = view.getARP();
+        if (arp != null) {
+            return arp.getSenderHardwareAddress() ^ arp.getSenderProtocolAddress() ^ arp.getTargetProtocolAddress();
+        }
+        IPv4View ip = view.getIPv4();
+        if (ip != null) {
+            long result = ip.getSourceAddress() ^ ip.getDestinationAddress();
+            TCPView tcp = view.getTCP();
+            if (tcp != null) {
+                result ^= (tcp.getSourcePort() << 16) | tcp.getDestinationPort();
+            }
+            return result;
+        }
+        LLDPView lldp = view.getLLDP();
+        if (lldp != null) {
+            return data[lldp.getTLVValueOffset(lldp.findChassisId()) + 1]
+                    ^ data[lldp.getTLVValueOffset(lldp.findPortId()) + 1];
+        }
+        return 0;
+    }
+
+    private static Ethernet createEthernet(final short etherType, final Packet payload) {
+        Ethernet ethernet = new Ethernet();
+        ethernet.setSourceMACAddress(SRC_MAC);
+        ethernet.setDestinationMACAddress(DST_MAC);
+        ethernet.setEtherType(etherType);
+        ethernet.setPayload(payload);
+        return ethernet;
+    }
+
+    private static byte[] createArpFrame() throws PacketException {
+        ARP arp = new ARP();
+        arp.setHardwareType(ARP.HW_TYPE_ETHERNET);
+        arp.setProtocolType(EtherTypes.IPv4.shortValue());
+        arp.setHardwareAddressLength((byte) 6);
+        arp.setProtocolAddressLength((byte) 4);
+        arp.setOpCode(ARP.REQUEST);
+        arp.setSenderHardwareAddress(SRC_MAC);
+        arp.setSenderProtocolAddress(new byte[] { 10, 0, 0, 1 });
+        arp.setTargetHardwareAddress(new byte[6]);
+        arp.setTargetProtocolAddress(new byte[] { 10, 0, 0, 2 });
+        return createEthernet(EtherTypes.ARP.shortValue(), arp).serialize();
+    }
+
+    private static byte[] createTcpFrame() throws Exception {
+        TCP tcp = new TCP();
+        tcp.setSourcePort((short) 49152).setDestinationPort((short) 80).setDataOffset((byte) 5)
+                .setWindowSize((short) 1024);
+        tcp.setRawPayload(new byte[1000]);
+        IPv4 ip = new IPv4();
+        ip.setTtl((byte) 64);
+        ip.setProtocol(IPProtocols.TCP.byteValue());
+        ip.setSourceAddress(InetAddress.getByName("10.0.0.1"));
+        ip.setDestinationAddress(InetAddress.getByName("10.0.0.2"));
+        ip.setPayload(tcp);
+        IEEE8021Q vlan = new IEEE8021Q();
+        vlan.setPcp((byte) 0).setCfi((byte) 0).setVid((short) 100).setEtherType(EtherTypes.IPv4.shortValue());
+        vlan.setPayload(ip);
+        return createEthernet(EtherTypes.VLANTAGGED.shortValue(), vlan).serialize();
+    }
+
+    private static byte[] createLldpFrame() throws PacketException {
+        LLDP lldp = new LLDP();
+        lldp.setChassisId(new LLDPTLV().setType(LLDPTLV.TLVType.ChassisID.getValue()).setLength((short) 7)
+                .setValue(new byte[] { 4, 0, 0, 0, 0, 0, 1 }));
+        lldp.setPortId(new LLDPTLV().setType(LLDPTLV.TLVType.PortID.getValue()).setLength((short) 3)
+                .setValue(new byte[] { 7, 0, 2 }));
+        lldp.setTtl(new LLDPTLV().setType(LLDPTLV.TLVType.TTL.getValue()).setLength((short) 2)
+                .setValue(new byte[] { 0, 120 }));
+        return createEthernet(EtherTypes.LLDP.shortValue(), lldp).serialize();
+    }
+}
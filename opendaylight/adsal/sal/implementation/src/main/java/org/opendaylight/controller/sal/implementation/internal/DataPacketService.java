@@ -17,6 +17,7 @@
 package org.opendaylight.controller.sal.implementation.internal;
 
 import java.util.Collections;
+import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,8 +27,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.felix.dm.Component;
+import org.eclipse.osgi.framework.console.CommandInterpreter;
+import org.eclipse.osgi.framework.console.CommandProvider;
 import org.opendaylight.controller.sal.core.ConstructionException;
+import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.match.Match;
 import org.opendaylight.controller.sal.packet.Ethernet;
@@ -40,12 +46,16 @@ import org.opendaylight.controller.sal.packet.Packet;
 import org.opendaylight.controller.sal.packet.PacketResult;
 import org.opendaylight.controller.sal.packet.RawPacket;
 import org.opendaylight.controller.sal.utils.NetUtils;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class DataPacketService implements IPluginOutDataPacketService,
-        IDataPacketService {
-    private int TXMAXQUEUESIZE = 1000;
+        IDataPacketService, CommandProvider {
+    private static final int TXMAXQUEUESIZE = 1000;
+    private static final int RXMAXQUEUESIZE = 1000;
     protected static final Logger logger = LoggerFactory
             .getLogger(DataPacketService.class);
     /**
@@ -63,15 +73,36 @@ public class DataPacketService implements IPluginOutDataPacketService,
     private Map<String, AtomicInteger> statistics = new HashMap<String, AtomicInteger>();
 
     /**
-     * Queue for packets that need to be transmitted to Data Path
+     * Workers dispatching received packets to the listeners, shared by the
+     * services of all the containers. None by default, the listeners are
+     * called on the plugin thread delivering the packet. When configured, a
+     * packet is handled by the worker of its ingress switch so packets of a
+     * switch are seen by the listeners in the order they were received, and
+     * the plugin waits for room when the queue of the worker is full unless
+     * dropping is configured as well
      */
-    private LinkedBlockingQueue<RawPacket> txQueue = new LinkedBlockingQueue<RawPacket>(
-            TXMAXQUEUESIZE);
+    private static final PacketStage RX_STAGE = new PacketStage("RX", "sal.dataPacket.rxThreads", 0, 0,
+            RXMAXQUEUESIZE, "sal.dataPacket.rxDropWhenFull") {
+        @Override
+        void process(DataPacketService service, RawPacket pkt) {
+            service.dispatchPacket(pkt);
+        }
+    };
     /**
-     * Transmission thread
+     * Workers handing the packets to be transmitted to Data Path over to the
+     * plugins, partitioned by egress switch. Packets are dropped when the
+     * queue is full, as they always were
      */
-    private Thread txThread = new Thread(new TxLoop(),
-            "DataPacketService TX thread");
+    private static final PacketStage TX_STAGE = new PacketStage("TX", "sal.dataPacket.txThreads",
+            Runtime.getRuntime().availableProcessors(), 1, TXMAXQUEUESIZE, null) {
+        @Override
+        void process(DataPacketService service, RawPacket pkt) {
+            service.sendPacket(pkt);
+        }
+    };
+    private volatile boolean active;
+    private String containerName;
+    private ServiceRegistration consoleRegistration;
 
     /**
      * Representation of a Data Packet Listener including of its
@@ -139,7 +170,7 @@ public class DataPacketService implements IPluginOutDataPacketService,
             .synchronizedSet(new HashSet<DataPacketListener>());
 
     /**
-     * Loop for processing Received packets
+     * Hand a received packet to the listeners
      */
     private void dispatchPacket(RawPacket pkt) {
 
@@ -169,39 +200,239 @@ public class DataPacketService implements IPluginOutDataPacketService,
     }
 
     /**
-     * Loop for processing packets to be transmitted
-     *
+     * Hand a packet over to the plugin of its outgoing node connector
+     */
+    private void sendPacket(RawPacket pkt) {
+        // Retrieve outgoing node connector so to send out
+        // the packet to corresponding node
+        NodeConnector p = pkt.getOutgoingNodeConnector();
+        String t = p.getNode().getType();
+        // Now locate the TX dispatcher
+        ProtocolService<IPluginInDataPacketService> service =
+            pluginInDataService.get(t);
+        if (service != null) {
+            try {
+                service.getService().transmitDataPacket(pkt);
+                increaseStat("TXPacketSuccess");
+            } catch (Exception e) {
+                increaseStat("TXPacketFailedForException");
+            }
+        } else {
+            increaseStat("TXpluginNotFound");
+        }
+    }
+
+    /**
+     * Packet queued to a worker, along with the service of the container it
+     * was received or sent in
      */
-    private class TxLoop implements Runnable {
+    private static final class PacketTask {
+        private final DataPacketService service;
+        private final RawPacket pkt;
+
+        PacketTask(DataPacketService service, RawPacket pkt) {
+            this.service = service;
+            this.pkt = pkt;
+        }
+    }
+
+    /**
+     * Thread serving one partition of the receive or the transmit stage, the
+     * packets of a partition are handled in the order they were queued
+     */
+    private static final class PacketWorker implements Runnable {
+        private final PacketStage stage;
+        private final String name;
+        private final LinkedBlockingQueue<PacketTask> queue;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        // Drops since the queue last had room, to log once per episode
+        private final AtomicLong dropping = new AtomicLong();
+        private Thread thread;
+
+        PacketWorker(PacketStage stage, String name, int queueSize) {
+            this.stage = stage;
+            this.name = name;
+            this.queue = new LinkedBlockingQueue<PacketTask>(queueSize);
+        }
+
+        boolean enqueue(PacketTask task) {
+            boolean queued;
+            // A worker never waits for its own queue, it is the one to drain it
+            if (stage.blockWhenFull && Thread.currentThread() != thread) {
+                try {
+                    queue.put(task);
+                    queued = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queued = false;
+                }
+            } else {
+                queued = queue.offer(task);
+            }
+
+            if (queued) {
+                long lost = dropping.getAndSet(0);
+                if (lost != 0) {
+                    logger.info("{} queue has room again, {} packets were dropped", name, lost);
+                }
+                return true;
+            }
+            dropped.incrementAndGet();
+            if (dropping.getAndIncrement() == 0) {
+                logger.warn("{} queue is full, dropping packets", name);
+            }
+            return false;
+        }
+
+        void start() {
+            thread = new Thread(this, name);
+            thread.start();
+        }
+
+        void stop() {
+            queue.clear();
+            if (thread == null) {
+                return;
+            }
+            thread.interrupt();
+            // Wait for it to be done
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                // Not a big deal
+            }
+            thread = null;
+        }
+
+        @Override
         public void run() {
-            RawPacket pkt;
             try {
-                for (pkt = txQueue.take(); pkt != null; pkt = txQueue.take()) {
-                    // Retrieve outgoing node connector so to send out
-                    // the packet to corresponding node
-                    NodeConnector p = pkt.getOutgoingNodeConnector();
-                    if (p != null) {
-                        String t = p.getNode()
-                                .getType();
-                        // Now locate the TX dispatcher
-                        ProtocolService<IPluginInDataPacketService> service =
-                            pluginInDataService.get(t);
-                        if (service != null) {
-                            try {
-                                service.getService().transmitDataPacket(pkt);
-                                increaseStat("TXPacketSuccess");
-                            } catch (Exception e) {
-                                increaseStat("TXPacketFailedForException");
-                            }
-                        } else {
-                            increaseStat("TXpluginNotFound");
+                while (true) {
+                    PacketTask task = queue.take();
+                    // Packets of a destroyed container are not handled
+                    if (task.service.active) {
+                        try {
+                            stage.process(task.service, task.pkt);
+                        } catch (RuntimeException e) {
+                            logger.warn("{} failed to handle packet", name, e);
                         }
                     }
+                    processed.incrementAndGet();
                 }
             } catch (InterruptedException e) {
                 // Not a big deal
             }
         }
+
+        @Override
+        public String toString() {
+            return name + ": queued " + queue.size() + " processed " + processed.get() + " dropped "
+                    + dropped.get();
+        }
+    }
+
+    /**
+     * The workers of the receive or the transmit stage. The workers are shared
+     * by the services of all the containers, they are started with the first
+     * service and stopped with the last one.
+     */
+    private abstract static class PacketStage {
+        private final String name;
+        private final String property;
+        private final int defaultWorkers;
+        private final int minWorkers;
+        private final int queueSize;
+        // System property making the callers drop the packet when the queue
+        // is full instead of waiting for room, null if they always drop
+        private final String dropProperty;
+        private volatile boolean blockWhenFull;
+        private volatile PacketWorker[] workers = new PacketWorker[0];
+        private int users;
+
+        PacketStage(String name, String property, int defaultWorkers, int minWorkers, int queueSize,
+                String dropProperty) {
+            this.name = name;
+            this.property = property;
+            this.defaultWorkers = defaultWorkers;
+            this.minWorkers = minWorkers;
+            this.queueSize = queueSize;
+            this.dropProperty = dropProperty;
+        }
+
+        abstract void process(DataPacketService service, RawPacket pkt);
+
+        synchronized void acquire() {
+            if (users++ != 0) {
+                return;
+            }
+            blockWhenFull = (dropProperty != null) && !Boolean.getBoolean(dropProperty);
+            PacketWorker[] started = new PacketWorker[workerCount(property, defaultWorkers, minWorkers)];
+            for (int i = 0; i < started.length; i++) {
+                started[i] = new PacketWorker(this, "DataPacketService " + name + " thread " + i, queueSize);
+                started[i].start();
+            }
+            workers = started;
+        }
+
+        synchronized void release() {
+            if (--users != 0) {
+                return;
+            }
+            PacketWorker[] stopped = workers;
+            workers = new PacketWorker[0];
+            for (PacketWorker worker : stopped) {
+                worker.stop();
+            }
+        }
+
+        int size() {
+            return workers.length;
+        }
+
+        /**
+         * Pick the partition of a packet based on the switch it is received
+         * from or sent to. Null if the stage has no workers, the caller
+         * handles the packet then.
+         */
+        PacketWorker partition(Node node) {
+            PacketWorker[] w = workers;
+            if (w.length == 0) {
+                return null;
+            }
+            int h = node.hashCode();
+            h ^= (h >>> 16);
+            return w[(h & Integer.MAX_VALUE) % w.length];
+        }
+
+        PacketWorker[] getWorkers() {
+            return workers;
+        }
+    }
+
+    /**
+     * Number of workers of a stage, taken from the given system property or
+     * the default of the stage.
+     */
+    private static int workerCount(String property, int defaultWorkers, int min) {
+        int rv = defaultWorkers;
+        String workers = System.getProperty(property);
+        if (workers != null) {
+            try {
+                rv = Integer.parseInt(workers);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid {}: {} use default({})", new Object[] { property, workers, rv });
+            }
+        }
+        return Math.max(rv, min);
+    }
+
+    /**
+     * Number of workers dispatching received packets, zero if the listeners
+     * are called on the thread delivering the packet
+     */
+    static int getRxWorkers() {
+        return RX_STAGE.size();
     }
 
     void setPluginInDataService(Map<?, ?> props, IPluginInDataPacketService s) {
@@ -352,8 +583,40 @@ public class DataPacketService implements IPluginOutDataPacketService,
      * dependencies are satisfied
      *
      */
+    @SuppressWarnings("unchecked")
+    void init(Component c) {
+        Dictionary<Object, Object> props = c.getServiceProperties();
+        this.containerName = (props != null) ? (String) props.get("containerName") : null;
+        init();
+    }
+
     void init() {
-        this.txThread.start();
+        RX_STAGE.acquire();
+        TX_STAGE.acquire();
+        this.active = true;
+    }
+
+    /**
+     * Function called by dependency manager after "init ()" is called and
+     * after the services provided by the class are registered in the service
+     * registry
+     *
+     */
+    void start() {
+        registerWithOSGIConsole();
+    }
+
+    /**
+     * Function called by the dependency manager before the services exported
+     * by the component are unregistered, this will be followed by a
+     * "destroy ()" calls
+     *
+     */
+    void stop() {
+        if (this.consoleRegistration != null) {
+            this.consoleRegistration.unregister();
+            this.consoleRegistration = null;
+        }
     }
 
     /**
@@ -363,20 +626,20 @@ public class DataPacketService implements IPluginOutDataPacketService,
      *
      */
     void destroy() {
+        // Stop handling the packets of this container first so none is
+        // handled while the data structures are being cleaned up. The
+        // workers are stopped with the last container.
+        if (this.active) {
+            this.active = false;
+            RX_STAGE.release();
+            TX_STAGE.release();
+        }
         // Make sure to cleanup the data structure we use to track
         // services
         this.listenDataPacket.clear();
         this.indexDataPacket.clear();
         this.pluginInDataService.clear();
         this.statistics.clear();
-        this.txQueue.clear();
-        this.txThread.interrupt();
-        // Wait for them to be done
-        try {
-            this.txThread.join();
-        } catch (InterruptedException ex) {
-            // Not a big deal
-        }
     }
 
     private void increaseStat(String name) {
@@ -403,11 +666,21 @@ public class DataPacketService implements IPluginOutDataPacketService,
             return PacketResult.IGNORED;
         }
 
-        // send the packet off to be processed by listeners
-        this.dispatchPacket(inPkt);
+        if (!this.active) {
+            increaseStat("RXNotStarted");
+            return PacketResult.IGNORED;
+        }
+
+        // send the packet off to be processed by listeners, on the worker
+        // of its switch if there are workers
+        PacketWorker worker = RX_STAGE.partition(inPkt.getIncomingNodeConnector().getNode());
+        if (worker == null) {
+            // No RX workers configured, listeners are called right away
+            dispatchPacket(inPkt);
+        } else if (!worker.enqueue(new PacketTask(this, inPkt))) {
+            increaseStat("fullRXQueue");
+        }
 
-        // Walk the chain of listener going first throw all the
-        // parallel ones and for each parallel in serial
         return PacketResult.IGNORED;
     }
 
@@ -418,7 +691,12 @@ public class DataPacketService implements IPluginOutDataPacketService,
             return;
         }
 
-        if (!this.txQueue.offer(outPkt)) {
+        PacketWorker worker = this.active ? TX_STAGE.partition(outPkt.getOutgoingNodeConnector().getNode()) : null;
+        if (worker == null) {
+            increaseStat("TXNotStarted");
+            return;
+        }
+        if (!worker.enqueue(new PacketTask(this, outPkt))) {
             increaseStat("fullTXQueue");
             return;
         }
@@ -470,4 +748,31 @@ public class DataPacketService implements IPluginOutDataPacketService,
         // If something goes wrong then we have to return null
         return null;
     }
+
+    private void registerWithOSGIConsole() {
+        Bundle bundle = FrameworkUtil.getBundle(this.getClass());
+        if (bundle == null || bundle.getBundleContext() == null) {
+            return;
+        }
+        this.consoleRegistration = bundle.getBundleContext().registerService(
+                CommandProvider.class.getName(), this, null);
+    }
+
+    @Override
+    public String getHelp() {
+        StringBuffer help = new StringBuffer();
+        help.append("---SAL Data Packet Service---\n");
+        help.append("\t showDataPacketQueues - Show depth and drops of the receive and transmit queues\n");
+        return help.toString();
+    }
+
+    public void _showDataPacketQueues(CommandInterpreter ci) {
+        ci.println("Container: " + this.containerName + " (workers are shared by all containers)");
+        for (PacketWorker worker : RX_STAGE.getWorkers()) {
+            ci.println(worker);
+        }
+        for (PacketWorker worker : TX_STAGE.getWorkers()) {
+            ci.println(worker);
+        }
+    }
 }
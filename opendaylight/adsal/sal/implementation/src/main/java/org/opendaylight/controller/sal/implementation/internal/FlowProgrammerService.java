@@ -9,7 +9,17 @@
 package org.opendaylight.controller.sal.implementation.internal;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -31,6 +41,7 @@ import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.Node.NodeIDType;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
 import org.opendaylight.controller.sal.flowprogrammer.IFlowProgrammerListener;
 import org.opendaylight.controller.sal.flowprogrammer.IFlowProgrammerService;
 import org.opendaylight.controller.sal.flowprogrammer.IPluginInFlowProgrammerService;
@@ -60,6 +71,12 @@ public class FlowProgrammerService implements IFlowProgrammerService,
     private ConcurrentHashMap<String, ProtocolService<IPluginInFlowProgrammerService>> pluginFlowProgrammer;
     private Set<IFlowProgrammerListener> listener;
     private AtomicLong seq;
+    private ExecutorService batchExecutor;
+    /*
+     * Batches waiting for a thread, once the queue is full the caller
+     * programs its batch itself
+     */
+    private static final int BATCHMAXQUEUESIZE = 1000;
 
     public FlowProgrammerService() {
         pluginFlowProgrammer = new ConcurrentHashMap<String, ProtocolService<IPluginInFlowProgrammerService>>();
@@ -79,6 +96,32 @@ public class FlowProgrammerService implements IFlowProgrammerService,
      */
     void init() {
         logger.debug("INIT called!");
+        int threads = batchThreads();
+        batchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(BATCHMAXQUEUESIZE), new RejectedExecutionHandler() {
+                    @Override
+                    public void rejectedExecution(Runnable batch, ThreadPoolExecutor executor) {
+                        // Queue full or executor shut down, program the batch on the caller
+                        batch.run();
+                    }
+                });
+    }
+
+    /**
+     * Number of threads programming batches, sal.flowProgrammer.batchThreads
+     * if set, the number of processors otherwise
+     */
+    private static int batchThreads() {
+        int rv = Runtime.getRuntime().availableProcessors();
+        String threads = System.getProperty("sal.flowProgrammer.batchThreads");
+        if (threads != null) {
+            try {
+                rv = Integer.parseInt(threads);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid sal.flowProgrammer.batchThreads: {} use default({})", threads, rv);
+            }
+        }
+        return Math.max(rv, 1);
     }
 
     /**
@@ -90,6 +133,9 @@ public class FlowProgrammerService implements IFlowProgrammerService,
     void destroy() {
         // Clear previous registration to avoid they are left hanging
         this.pluginFlowProgrammer.clear();
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+        }
         logger.debug("DESTROY called!");
     }
 
@@ -215,6 +261,77 @@ public class FlowProgrammerService implements IFlowProgrammerService,
         return new Status(StatusCode.NOSERVICE, "Plugin unuvailable");
     }
 
+    @Override
+    public List<Future<Status>> updateFlows(final Node node, final List<FlowUpdate> updates) {
+        final ProtocolService<IPluginInFlowProgrammerService> service =
+            (pluginFlowProgrammer != null) ? this.pluginFlowProgrammer.get(node.getType()) : null;
+        FutureTask<List<Status>> batch = new FutureTask<List<Status>>(new Callable<List<Status>>() {
+            @Override
+            public List<Status> call() {
+                if (service != null) {
+                    return service.getService().updateFlows(node, updates);
+                }
+                List<Status> result = new ArrayList<Status>(updates.size());
+                for (int i = 0; i < updates.size(); i++) {
+                    result.add(new Status(StatusCode.NOSERVICE, "Plugin unuvailable"));
+                }
+                return result;
+            }
+        });
+        if (service != null && batchExecutor != null) {
+            batchExecutor.execute(batch);
+        } else {
+            batch.run();
+        }
+
+        List<Future<Status>> futures = new ArrayList<Future<Status>>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            futures.add(new UpdateStatusFuture(batch, i));
+        }
+        return futures;
+    }
+
+    /**
+     * The outcome of one update of a batch. The batch is programmed and
+     * acknowledged as a whole, so canceling any of its updates cancels the
+     * batch.
+     */
+    private static class UpdateStatusFuture implements Future<Status> {
+        private final Future<List<Status>> batch;
+        private final int index;
+
+        UpdateStatusFuture(Future<List<Status>> batch, int index) {
+            this.batch = batch;
+            this.index = index;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return batch.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return batch.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return batch.isDone();
+        }
+
+        @Override
+        public Status get() throws InterruptedException, ExecutionException {
+            return batch.get().get(index);
+        }
+
+        @Override
+        public Status get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+                TimeoutException {
+            return batch.get(timeout, unit).get(index);
+        }
+    }
+
     @Override
     public void flowRemoved(Node node, Flow flow) {
         for (IFlowProgrammerListener l : listener) {
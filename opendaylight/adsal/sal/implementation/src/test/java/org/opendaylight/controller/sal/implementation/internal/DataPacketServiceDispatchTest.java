@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.implementation.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.packet.IListenDataPacket;
+import org.opendaylight.controller.sal.packet.PacketResult;
+import org.opendaylight.controller.sal.packet.RawPacket;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+public class DataPacketServiceDispatchTest {
+    private static final int PACKETS = 100;
+
+    private DataPacketService dService;
+
+    @Before
+    public void setUp() {
+        System.setProperty("sal.dataPacket.rxThreads", "4");
+        dService = new DataPacketService();
+        dService.init();
+    }
+
+    @After
+    public void tearDown() {
+        dService.destroy();
+        System.clearProperty("sal.dataPacket.rxThreads");
+    }
+
+    private static Map<String, Object> listenerProps(String name, String dependency) {
+        Map<String, Object> props = new HashMap<String, Object>();
+        props.put("salListenerName", name);
+        if (dependency != null) {
+            props.put("salListenerDependency", dependency);
+        }
+        return props;
+    }
+
+    private static RawPacket createPacket(NodeConnector in, int seq) throws Exception {
+        RawPacket pkt = new RawPacket(new byte[] { (byte) seq });
+        pkt.setIncomingNodeConnector(in);
+        return pkt;
+    }
+
+    @Test
+    public void testOrderPerSwitch() throws Exception {
+        final Map<Node, List<Integer>> received = new HashMap<Node, List<Integer>>();
+        final CountDownLatch done = new CountDownLatch(2 * PACKETS);
+        dService.setListenDataPacket(listenerProps("recorder", null), new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                Node node = inPkt.getIncomingNodeConnector().getNode();
+                synchronized (received) {
+                    List<Integer> seqs = received.get(node);
+                    if (seqs == null) {
+                        seqs = new ArrayList<Integer>();
+                        received.put(node, seqs);
+                    }
+                    seqs.add(inPkt.getPacketData()[0] & 0xff);
+                }
+                done.countDown();
+                return PacketResult.KEEP_PROCESSING;
+            }
+        });
+
+        Node n1 = NodeCreator.createOFNode(1L);
+        Node n2 = NodeCreator.createOFNode(2L);
+        NodeConnector p1 = NodeConnectorCreator.createOFNodeConnector((short) 1, n1);
+        NodeConnector p2 = NodeConnectorCreator.createOFNodeConnector((short) 1, n2);
+        for (int i = 0; i < PACKETS; i++) {
+            dService.receiveDataPacket(createPacket(p1, i));
+            dService.receiveDataPacket(createPacket(p2, i));
+        }
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < PACKETS; i++) {
+            expected.add(i);
+        }
+        synchronized (received) {
+            Assert.assertEquals(expected, received.get(n1));
+            Assert.assertEquals(expected, received.get(n2));
+        }
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockReceiver() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch consumed = new CountDownLatch(1);
+        final List<RawPacket> seenByNext = Collections.synchronizedList(new ArrayList<RawPacket>());
+        dService.setListenDataPacket(listenerProps("slow", null), new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                consumed.countDown();
+                return PacketResult.CONSUME;
+            }
+        });
+        dService.setListenDataPacket(listenerProps("next", "slow"), new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                seenByNext.add(inPkt);
+                return PacketResult.KEEP_PROCESSING;
+            }
+        });
+
+        NodeConnector p = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(1L));
+        // the listener holds its worker, the caller is not held
+        Assert.assertEquals(PacketResult.IGNORED, dService.receiveDataPacket(createPacket(p, 0)));
+        release.countDown();
+        Assert.assertTrue(consumed.await(10, TimeUnit.SECONDS));
+        // a consumed packet is not passed on to the dependent listener
+        Thread.sleep(100);
+        Assert.assertTrue(seenByNext.isEmpty());
+    }
+
+    @Test
+    public void testWorkersSharedByContainers() throws Exception {
+        DataPacketService other = new DataPacketService();
+        other.init();
+        try {
+            // a second container does not start workers of its own
+            Assert.assertEquals(4, DataPacketService.getRxWorkers());
+
+            final CountDownLatch done = new CountDownLatch(2);
+            IListenDataPacket listener = new IListenDataPacket() {
+                @Override
+                public PacketResult receiveDataPacket(RawPacket inPkt) {
+                    done.countDown();
+                    return PacketResult.KEEP_PROCESSING;
+                }
+            };
+            dService.setListenDataPacket(listenerProps("first", null), listener);
+            other.setListenDataPacket(listenerProps("second", null), listener);
+
+            NodeConnector p = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(1L));
+            dService.receiveDataPacket(createPacket(p, 0));
+            other.receiveDataPacket(createPacket(p, 1));
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            other.destroy();
+        }
+        // the workers are stopped with the last container only
+        Assert.assertEquals(4, DataPacketService.getRxWorkers());
+        dService.destroy();
+        Assert.assertEquals(0, DataPacketService.getRxWorkers());
+    }
+
+    @Test
+    public void testNoWorkersByDefault() throws Exception {
+        dService.destroy();
+        System.clearProperty("sal.dataPacket.rxThreads");
+        dService = new DataPacketService();
+        dService.init();
+        // listeners are called on the plugin thread, see testDispatchOnCallerWithoutWorkers
+        Assert.assertEquals(0, DataPacketService.getRxWorkers());
+    }
+
+    @Test
+    public void testSingleWorker() throws Exception {
+        dService.destroy();
+        System.setProperty("sal.dataPacket.rxThreads", "1");
+        dService = new DataPacketService();
+        dService.init();
+        Assert.assertEquals(1, DataPacketService.getRxWorkers());
+
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        final CountDownLatch done = new CountDownLatch(PACKETS);
+        dService.setListenDataPacket(listenerProps("recorder", null), new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                threads.add(Thread.currentThread());
+                done.countDown();
+                return PacketResult.KEEP_PROCESSING;
+            }
+        });
+
+        // packets of different switches are still handled by one thread
+        for (int i = 0; i < PACKETS; i++) {
+            NodeConnector p = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode((long) i));
+            dService.receiveDataPacket(createPacket(p, i));
+        }
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, threads.size());
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testDispatchOnCallerWithoutWorkers() throws Exception {
+        dService.destroy();
+        System.setProperty("sal.dataPacket.rxThreads", "0");
+        dService = new DataPacketService();
+        dService.init();
+        Assert.assertEquals(0, DataPacketService.getRxWorkers());
+
+        final List<Thread> threads = new ArrayList<Thread>();
+        dService.setListenDataPacket(listenerProps("recorder", null), new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                threads.add(Thread.currentThread());
+                return PacketResult.KEEP_PROCESSING;
+            }
+        });
+
+        NodeConnector p = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(1L));
+        dService.receiveDataPacket(createPacket(p, 0));
+        Assert.assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testFullQueueDropsPackets() throws Exception {
+        dService.destroy();
+        System.setProperty("sal.dataPacket.rxThreads", "1");
+        System.setProperty("sal.dataPacket.rxDropWhenFull", "true");
+        try {
+            dService = new DataPacketService();
+            dService.init();
+        } finally {
+            System.clearProperty("sal.dataPacket.rxDropWhenFull");
+        }
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        dService.setListenDataPacket(listenerProps("slow", null), slowListener(release, received));
+
+        // one packet held by the listener, a full queue and one more
+        final int packets = 1002;
+        final CountDownLatch sent = new CountDownLatch(1);
+        Thread receiver = startReceiver(packets, sent);
+
+        // the last packet is dropped, the receiver is not held
+        Assert.assertTrue(sent.await(10, TimeUnit.SECONDS));
+        receiver.join();
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 10000;
+        // the worker may not have taken the first packet before the queue was full
+        while (received.get() < packets - 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        Assert.assertTrue(received.get() >= packets - 2);
+        Assert.assertTrue(received.get() < packets);
+    }
+
+    @Test
+    public void testFullQueueHoldsReceiverByDefault() throws Exception {
+        dService.destroy();
+        System.setProperty("sal.dataPacket.rxThreads", "1");
+        dService = new DataPacketService();
+        dService.init();
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        dService.setListenDataPacket(listenerProps("slow", null), slowListener(release, received));
+
+        // one packet held by the listener, a full queue and one more
+        final int packets = 1002;
+        final CountDownLatch sent = new CountDownLatch(1);
+        Thread receiver = startReceiver(packets, sent);
+
+        // the last packet waits for room instead of being dropped
+        Assert.assertFalse(sent.await(500, TimeUnit.MILLISECONDS));
+        release.countDown();
+        Assert.assertTrue(sent.await(10, TimeUnit.SECONDS));
+        receiver.join();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (received.get() < packets && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(packets, received.get());
+    }
+
+    private static IListenDataPacket slowListener(final CountDownLatch release, final AtomicInteger received) {
+        return new IListenDataPacket() {
+            @Override
+            public PacketResult receiveDataPacket(RawPacket inPkt) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.incrementAndGet();
+                return PacketResult.KEEP_PROCESSING;
+            }
+        };
+    }
+
+    private Thread startReceiver(final int packets, final CountDownLatch sent) {
+        final NodeConnector p = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(1L));
+        Thread receiver = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < packets; i++) {
+                        dService.receiveDataPacket(createPacket(p, i));
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                sent.countDown();
+            }
+        });
+        receiver.start();
+        return receiver;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.sal.implementation.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.flowprogrammer.FlowUpdate;
+import org.opendaylight.controller.sal.flowprogrammer.IPluginInFlowProgrammerService;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.utils.GlobalConstants;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+
+public class FlowProgrammerServiceBatchTest {
+    private FlowProgrammerService service;
+    private List<List<FlowUpdate>> received;
+
+    @Before
+    public void setUp() {
+        service = new FlowProgrammerService();
+        service.init();
+        received = new ArrayList<List<FlowUpdate>>();
+    }
+
+    @After
+    public void tearDown() {
+        service.destroy();
+    }
+
+    /*
+     * A plugin accepting the additions and rejecting anything else
+     */
+    private IPluginInFlowProgrammerService createPlugin() {
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (!method.getName().equals("updateFlows")) {
+                    return null;
+                }
+                @SuppressWarnings("unchecked")
+                List<FlowUpdate> updates = (List<FlowUpdate>) args[1];
+                received.add(updates);
+                List<Status> result = new ArrayList<Status>();
+                for (FlowUpdate update : updates) {
+                    result.add(update.getOldFlow() == null && update.getFlow().getPriority() > 0 ? new Status(
+                            StatusCode.SUCCESS) : new Status(StatusCode.CONFLICT));
+                }
+                return result;
+            }
+        };
+        return (IPluginInFlowProgrammerService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IPluginInFlowProgrammerService.class }, handler);
+    }
+
+    private static Flow createFlow(short priority) {
+        Flow flow = new Flow(new Match(), new ArrayList<Action>());
+        flow.setPriority(priority);
+        return flow;
+    }
+
+    @Test
+    public void testStatusPerUpdate() throws Exception {
+        Map<String, Object> props = new HashMap<String, Object>();
+        props.put(GlobalConstants.PROTOCOLPLUGINTYPE.toString(), Node.NodeIDType.OPENFLOW);
+        service.setService(props, createPlugin());
+
+        Node node = NodeCreator.createOFNode(1L);
+        List<FlowUpdate> updates = new ArrayList<FlowUpdate>();
+        updates.add(FlowUpdate.add(createFlow((short) 1)));
+        updates.add(FlowUpdate.modify(createFlow((short) 1), createFlow((short) 2)));
+        updates.add(FlowUpdate.add(createFlow((short) 3)));
+
+        List<Future<Status>> futures = service.updateFlows(node, updates);
+        Assert.assertEquals(3, futures.size());
+        Assert.assertEquals(StatusCode.SUCCESS, futures.get(0).get(10, TimeUnit.SECONDS).getCode());
+        Assert.assertEquals(StatusCode.CONFLICT, futures.get(1).get(10, TimeUnit.SECONDS).getCode());
+        Assert.assertEquals(StatusCode.SUCCESS, futures.get(2).get(10, TimeUnit.SECONDS).getCode());
+        // the whole batch is handed to the plugin at once
+        Assert.assertEquals(1, received.size());
+        Assert.assertEquals(updates, received.get(0));
+    }
+
+    @Test
+    public void testNoPlugin() throws Exception {
+        List<FlowUpdate> updates = new ArrayList<FlowUpdate>();
+        updates.add(FlowUpdate.add(createFlow((short) 1)));
+        updates.add(FlowUpdate.remove(createFlow((short) 1)));
+
+        List<Future<Status>> futures = service.updateFlows(NodeCreator.createOFNode(1L), updates);
+        Assert.assertEquals(2, futures.size());
+        for (Future<Status> future : futures) {
+            Assert.assertTrue(future.isDone());
+            Assert.assertEquals(StatusCode.NOSERVICE, future.get().getCode());
+        }
+    }
+
+    @Test
+    public void testBatchThreadsBounded() throws Exception {
+        service.destroy();
+        System.setProperty("sal.flowProgrammer.batchThreads", "2");
+        try {
+            service = new FlowProgrammerService();
+            service.init();
+        } finally {
+            System.clearProperty("sal.flowProgrammer.batchThreads");
+        }
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws InterruptedException {
+                if (!method.getName().equals("updateFlows")) {
+                    return null;
+                }
+                threads.add(Thread.currentThread());
+                Thread.sleep(5);
+                return Collections.singletonList(new Status(StatusCode.SUCCESS));
+            }
+        };
+        Map<String, Object> props = new HashMap<String, Object>();
+        props.put(GlobalConstants.PROTOCOLPLUGINTYPE.toString(), Node.NodeIDType.OPENFLOW);
+        service.setService(props, (IPluginInFlowProgrammerService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IPluginInFlowProgrammerService.class }, handler));
+
+        Node node = NodeCreator.createOFNode(1L);
+        List<Future<Status>> futures = new ArrayList<Future<Status>>();
+        for (int i = 0; i < 20; i++) {
+            futures.addAll(service.updateFlows(node, Collections.singletonList(FlowUpdate.add(createFlow((short) 1)))));
+        }
+        for (Future<Status> future : futures) {
+            Assert.assertEquals(StatusCode.SUCCESS, future.get(10, TimeUnit.SECONDS).getCode());
+        }
+        // the batches share the configured threads instead of getting one each
+        threads.remove(Thread.currentThread());
+        Assert.assertTrue(threads.size() <= 2);
+    }
+}
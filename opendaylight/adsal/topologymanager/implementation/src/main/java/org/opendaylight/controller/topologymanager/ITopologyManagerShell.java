@@ -14,4 +14,5 @@ public interface ITopologyManagerShell {
     public List<String> addUserLink(String name, String ncStr1, String ncStr2);
     public List<String> deleteUserLinkShell(String name);
     public List<String> printNodeEdges();
+    public List<String> printTopologyQueues();
 }
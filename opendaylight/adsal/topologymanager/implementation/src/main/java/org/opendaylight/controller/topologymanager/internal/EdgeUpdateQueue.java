@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.topologymanager.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.opendaylight.controller.sal.core.Edge;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.topology.TopoEdgeUpdate;
+
+/**
+ * Queue of edge updates which keeps only the latest update of each edge. The
+ * consumer takes the updates in batches: a batch is handed out once the
+ * oldest update has waited for the batch delay, or as soon as the queue holds
+ * a full batch. Updates of an edge keep the position of the first update of
+ * that edge still in the queue.
+ *
+ * An update replaces the previous one of the same edge, except that:
+ * - a change of an edge whose addition is still queued is an addition with the
+ * new properties;
+ * - a removal of an edge whose addition is still queued cancels the addition,
+ * the edge was never handed out so neither is its removal;
+ * - an addition or a change of an edge whose removal is still queued is kept
+ * along with the removal, as an addition, so that the edge flap and its new
+ * properties are not lost. A later removal replaces both.
+ */
+class EdgeUpdateQueue {
+    private final String name;
+    private final int maxBatch;
+    private final long delayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    private final Map<Edge, EdgeUpdates> updates = new LinkedHashMap<Edge, EdgeUpdates>();
+    // Number of updates in the queue
+    private int depth;
+    // Arrival time of the oldest update in the queue
+    private long oldest;
+    private boolean busy;
+    // Metrics
+    private int maxDepth;
+    private long received;
+    private long coalesced;
+    private long batches;
+
+    /**
+     * @param name
+     *            name of the queue, for the metrics
+     * @param maxBatch
+     *            maximum number of updates handed out at once
+     * @param delay
+     *            maximum time an update waits for other updates to join
+     *            its batch, in milliseconds
+     */
+    EdgeUpdateQueue(String name, int maxBatch, long delay) {
+        this.name = name;
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0));
+    }
+
+    void add(TopoEdgeUpdate update) {
+        lock.lock();
+        try {
+            put(update);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void addAll(List<TopoEdgeUpdate> list) {
+        lock.lock();
+        try {
+            for (TopoEdgeUpdate update : list) {
+                put(update);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(TopoEdgeUpdate update) {
+        received++;
+        if (updates.isEmpty()) {
+            oldest = System.nanoTime();
+        }
+        EdgeUpdates queued = updates.get(update.getEdge());
+        if (queued == null) {
+            updates.put(update.getEdge(), new EdgeUpdates(update));
+            depth++;
+        } else if (queued.last.getUpdateType() == UpdateType.REMOVED && update.getUpdateType() != UpdateType.REMOVED) {
+            queued.removal = queued.last;
+            queued.last = (update.getUpdateType() == UpdateType.CHANGED) ? toAddition(update) : update;
+            depth++;
+        } else if (update.getUpdateType() == UpdateType.REMOVED && queued.last.getUpdateType() == UpdateType.ADDED
+                && queued.removal == null) {
+            updates.remove(update.getEdge());
+            coalesced += 2;
+            depth--;
+        } else {
+            coalesced++;
+            if (update.getUpdateType() == UpdateType.REMOVED && queued.removal != null) {
+                queued.removal = null;
+                coalesced++;
+                depth--;
+            }
+            queued.last = coalesce(queued.last, update);
+        }
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+        if (depth == 1 || depth == maxBatch) {
+            ready.signal();
+        }
+    }
+
+    /**
+     * Merges two updates of the same edge.
+     *
+     * @param previous
+     *            the update in the queue
+     * @param update
+     *            the new update
+     * @return the update to keep in the queue
+     */
+    protected TopoEdgeUpdate coalesce(TopoEdgeUpdate previous, TopoEdgeUpdate update) {
+        if (previous.getUpdateType() == UpdateType.ADDED && update.getUpdateType() == UpdateType.CHANGED) {
+            return toAddition(update);
+        }
+        return update;
+    }
+
+    private static TopoEdgeUpdate toAddition(TopoEdgeUpdate update) {
+        TopoEdgeUpdate added = new TopoEdgeUpdate(update.getEdge(), update.getProperty(), UpdateType.ADDED);
+        added.setLocal(update.isLocal());
+        return added;
+    }
+
+    /**
+     * Waits for the next batch of updates. The batch counts as being
+     * processed until the next call.
+     *
+     * @return the updates, in order
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    List<TopoEdgeUpdate> take() throws InterruptedException {
+        lock.lock();
+        try {
+            busy = false;
+            while (updates.isEmpty()) {
+                ready.await();
+            }
+            long remaining;
+            while (depth < maxBatch && (remaining = oldest + delayNanos - System.nanoTime()) > 0) {
+                ready.awaitNanos(remaining);
+            }
+            List<TopoEdgeUpdate> batch = new ArrayList<TopoEdgeUpdate>(Math.min(depth, maxBatch));
+            for (Iterator<EdgeUpdates> i = updates.values().iterator(); i.hasNext() && batch.size() < maxBatch;) {
+                EdgeUpdates queued = i.next();
+                if (queued.removal != null) {
+                    batch.add(queued.removal);
+                    queued.removal = null;
+                    depth--;
+                    if (batch.size() == maxBatch) {
+                        // The addition stays first in the queue
+                        break;
+                    }
+                }
+                batch.add(queued.last);
+                i.remove();
+                depth--;
+            }
+            if (!updates.isEmpty()) {
+                // Updates left over by a full batch are handed out next
+                oldest = System.nanoTime() - delayNanos;
+            }
+            busy = true;
+            batches++;
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            updates.clear();
+            depth = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of updates in the queue
+     */
+    int size() {
+        lock.lock();
+        try {
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the queue is empty and the last batch taken has been
+     *         processed
+     */
+    boolean isIdle() {
+        lock.lock();
+        try {
+            return updates.isEmpty() && !busy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the last batch taken as processed
+     */
+    void done() {
+        lock.lock();
+        try {
+            busy = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return name + " queue: depth " + depth + ", max depth " + maxDepth + ", received " + received
+                    + ", coalesced " + coalesced + ", batches " + batches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * The queued updates of an edge: the latest one, preceded by the removal
+     * of the edge if the latest one adds it back
+     */
+    private static final class EdgeUpdates {
+        private TopoEdgeUpdate removal;
+        private TopoEdgeUpdate last;
+
+        EdgeUpdates(TopoEdgeUpdate update) {
+            this.last = update;
+        }
+    }
+}
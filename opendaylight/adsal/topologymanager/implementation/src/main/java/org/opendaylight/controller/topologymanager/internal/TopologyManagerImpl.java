@@ -61,11 +61,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * The class describes TopologyManager which is the central repository of the
@@ -88,6 +86,8 @@ public class TopologyManagerImpl implements
     private static final String USER_LINKS_FILE_NAME = "userTopology.conf";
     private static final Logger log = LoggerFactory.getLogger(TopologyManagerImpl.class);
     private static final long PENDING_UPDATE_TIMEOUT = 5000L;
+    private static final long BATCH_DELAY = getConfig("topologymanager.batchDelay", 100);
+    private static final int MAX_BATCH_SIZE = (int) getConfig("topologymanager.maxBatchSize", 1000);
 
     private ITopologyService topoService;
     private IClusterContainerServices clusterContainerService;
@@ -107,13 +107,22 @@ public class TopologyManagerImpl implements
     private Set<ITopologyManagerClusterWideAware> topologyManagerClusterWideAware =
             new CopyOnWriteArraySet<ITopologyManagerClusterWideAware>();
     private ConcurrentMap<String, TopologyUserLinkConfig> userLinksDB;
-    private BlockingQueue<TopoEdgeUpdate> notifyQ = new LinkedBlockingQueue<TopoEdgeUpdate>();
+    private final EdgeUpdateQueue notifyQ = new EdgeUpdateQueue("Notify", MAX_BATCH_SIZE, BATCH_DELAY);
     private volatile Boolean shuttingDown = false;
     private Thread notifyThread;
     private final Map<NodeConnector, List<PendingUpdateTask>> pendingUpdates =
         new HashMap<NodeConnector, List<PendingUpdateTask>>();
-    private final BlockingQueue<TopoEdgeUpdate> updateQ =
-        new LinkedBlockingQueue<TopoEdgeUpdate>();
+    private final EdgeUpdateQueue updateQ = new EdgeUpdateQueue("Update", MAX_BATCH_SIZE, BATCH_DELAY) {
+        @Override
+        protected TopoEdgeUpdate coalesce(TopoEdgeUpdate previous, TopoEdgeUpdate update) {
+            TopoEdgeUpdate merged = super.coalesce(previous, update);
+            if (merged != update && previous instanceof PendingEdgeUpdate) {
+                // Still the flushed addition, its head has been checked
+                return new PendingEdgeUpdate(merged.getEdge(), merged.getProperty(), merged.getUpdateType());
+            }
+            return merged;
+        }
+    };
     private Timer pendingTimer;
     private Thread updateThread;
 
@@ -130,15 +139,12 @@ public class TopologyManagerImpl implements
 
             while (!shuttingDown) {
                 try {
-                    List<TopoEdgeUpdate> list = new ArrayList<TopoEdgeUpdate>();
-                    TopoEdgeUpdate teu = updateQ.take();
-                    for (; teu != null; teu = updateQ.poll()) {
-                        list.add(teu);
-                    }
-
-                    if (!list.isEmpty()) {
+                    List<TopoEdgeUpdate> list = updateQ.take();
+                    try {
                         log.trace("Update edges: {}", list);
                         doEdgeUpdate(list);
+                    } finally {
+                        updateQ.done();
                     }
                 } catch (InterruptedException e) {
                     if (shuttingDown) {
@@ -287,7 +293,7 @@ public class TopologyManagerImpl implements
 
         // Restore the shuttingDown status on init of the component
         shuttingDown = false;
-        notifyThread = new Thread(new TopologyNotify(notifyQ));
+        notifyThread = new Thread(new TopologyNotify(notifyQ), "Topology Notify");
         pendingTimer = new Timer("Topology Pending Update Timer");
         updateThread = new Thread(new UpdateTopology(), "Topology Update");
     }
@@ -732,8 +738,7 @@ public class TopologyManagerImpl implements
             return null;
         }
 
-        switch (type) {
-        case ADDED:
+        if (type.equals(UpdateType.ADDED)) {
             if (this.edgesDB.containsKey(e)) {
                 // Avoid redundant updates (e.g. cluster switch-over) as notifications trigger expensive tasks
                 log.trace("Skipping redundant edge addition: {}", e);
@@ -751,7 +756,18 @@ public class TopologyManagerImpl implements
                     return null;
                 }
             }
+        }
 
+        return writeEdgeUpdate(e, type, props);
+    }
+
+    /*
+     * Writes an edge update which went through the checks of edgeUpdate() to
+     * the databases. The pending updates are left alone.
+     */
+    private TopoEdgeUpdate writeEdgeUpdate(Edge e, UpdateType type, Set<Property> props) {
+        switch (type) {
+        case ADDED:
             // Make sure the props are non-null or create a copy
             if (props == null) {
                 props = new HashSet<Property>();
@@ -866,16 +882,28 @@ public class TopologyManagerImpl implements
     }
 
     private void doEdgeUpdate(List<TopoEdgeUpdate> topoedgeupdateList) {
-        List<TopoEdgeUpdate> teuList = new ArrayList<TopoEdgeUpdate>();
-        for (TopoEdgeUpdate teu : topoedgeupdateList) {
-            boolean isPending = (teu instanceof PendingEdgeUpdate);
-            Edge e = teu.getEdge();
-            Set<Property> p = teu.getProperty();
-            UpdateType type = teu.getUpdateType();
-            TopoEdgeUpdate update = edgeUpdate(e, type, p, isPending);
-            if (update != null) {
-                teuList.add(update);
+        // The cache writes of the batch are done in one cluster transaction
+        boolean inTransaction = beginTransaction();
+        List<TopoEdgeUpdate> teuList;
+        try {
+            teuList = applyEdgeUpdates(topoedgeupdateList);
+        } catch (RuntimeException e) {
+            if (inTransaction) {
+                rollbackTransaction();
+            }
+            throw e;
+        }
+        if (inTransaction && !commitTransaction()) {
+            /*
+             * Only the cache writes were rolled back: the updates handed to or
+             * flushed from the pending updates are not replayed
+             */
+            log.warn("Topology update of {} edges rolled back, writing them one by one", teuList.size());
+            List<TopoEdgeUpdate> written = new ArrayList<TopoEdgeUpdate>(teuList.size());
+            for (TopoEdgeUpdate teu : teuList) {
+                written.add(writeEdgeUpdate(teu.getEdge(), teu.getUpdateType(), teu.getProperty()));
             }
+            teuList = written;
         }
 
         if (!teuList.isEmpty()) {
@@ -890,6 +918,53 @@ public class TopologyManagerImpl implements
         }
     }
 
+    private List<TopoEdgeUpdate> applyEdgeUpdates(List<TopoEdgeUpdate> topoedgeupdateList) {
+        List<TopoEdgeUpdate> teuList = new ArrayList<TopoEdgeUpdate>();
+        for (TopoEdgeUpdate teu : topoedgeupdateList) {
+            boolean isPending = (teu instanceof PendingEdgeUpdate);
+            Edge e = teu.getEdge();
+            Set<Property> p = teu.getProperty();
+            UpdateType type = teu.getUpdateType();
+            TopoEdgeUpdate update = edgeUpdate(e, type, p, isPending);
+            if (update != null) {
+                teuList.add(update);
+            }
+        }
+        return teuList;
+    }
+
+    private boolean beginTransaction() {
+        if (this.clusterContainerService == null) {
+            return false;
+        }
+        try {
+            this.clusterContainerService.tbegin();
+            return true;
+        } catch (Exception e) {
+            log.warn("Cannot start topology update transaction", e);
+            return false;
+        }
+    }
+
+    private boolean commitTransaction() {
+        try {
+            this.clusterContainerService.tcommit();
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to commit topology update transaction", e);
+            rollbackTransaction();
+            return false;
+        }
+    }
+
+    private void rollbackTransaction() {
+        try {
+            this.clusterContainerService.trollback();
+        } catch (Exception e) {
+            log.debug("Rollback of topology update transaction failed", e);
+        }
+    }
+
     @Override
     public void edgeUpdate(List<TopoEdgeUpdate> topoedgeupdateList) {
         updateQ.addAll(topoedgeupdateList);
@@ -999,6 +1074,7 @@ public class TopologyManagerImpl implements
         help.append("\t deleteUserLink <name>\n");
         help.append("\t printUserLink\n");
         help.append("\t printNodeEdges\n");
+        help.append("\t printTopologyQueues - Show depth and batching of the edge update queues\n");
         return help.toString();
     }
 
@@ -1075,6 +1151,12 @@ public class TopologyManagerImpl implements
         }
     }
 
+    public void _printTopologyQueues(CommandInterpreter ci) {
+        for (String line : printTopologyQueues()) {
+            ci.println(line);
+        }
+    }
+
     @Override
     public Object readObject(ObjectInputStream ois)
             throws FileNotFoundException, IOException, ClassNotFoundException {
@@ -1145,12 +1227,9 @@ public class TopologyManagerImpl implements
     }
 
     class TopologyNotify implements Runnable {
-        private final BlockingQueue<TopoEdgeUpdate> notifyQ;
-        private TopoEdgeUpdate entry;
-        private List<TopoEdgeUpdate> teuList = new ArrayList<TopoEdgeUpdate>();
-        private boolean notifyListeners;
+        private final EdgeUpdateQueue notifyQ;
 
-        TopologyNotify(BlockingQueue<TopoEdgeUpdate> notifyQ) {
+        TopologyNotify(EdgeUpdateQueue notifyQ) {
             this.notifyQ = notifyQ;
         }
 
@@ -1159,19 +1238,11 @@ public class TopologyManagerImpl implements
             while (true) {
                 try {
                     log.trace("New run of TopologyNotify");
-                    notifyListeners = false;
-                    // First we block waiting for an element to get in
-                    entry = notifyQ.take();
-                    // Then we drain the whole queue if elements are
-                    // in it without getting into any blocking condition
-                    for (; entry != null; entry = notifyQ.poll()) {
-                        teuList.add(entry);
-                        notifyListeners = true;
-                    }
-
-                    // Notify listeners only if there were updates drained else
-                    // give up
-                    if (notifyListeners) {
+                    // Block until a batch is ready, the queue lets the
+                    // updates aggregate for the batch delay and keeps only
+                    // the latest update of each edge
+                    List<TopoEdgeUpdate> teuList = notifyQ.take();
+                    try {
                         log.trace("Notifier thread, notified a listener");
                         // Now update the listeners
                         for (ITopologyManagerClusterWideAware s : topologyManagerClusterWideAware) {
@@ -1181,11 +1252,9 @@ public class TopologyManagerImpl implements
                                 log.error("Exception on edge update:", exc);
                             }
                         }
+                    } finally {
+                        notifyQ.done();
                     }
-                    teuList.clear();
-
-                    // Lets sleep for sometime to allow aggregation of event
-                    Thread.sleep(100);
                 } catch (InterruptedException e1) {
                     if (shuttingDown) {
                         return;
@@ -1252,6 +1321,13 @@ public class TopologyManagerImpl implements
         return result;
     }
 
+    public List<String> printTopologyQueues() {
+        List<String> result = new ArrayList<String>();
+        result.add(updateQ.toString());
+        result.add(notifyQ.toString());
+        return result;
+    }
+
     public List<String> printNodeEdges() {
         List<String> result = new ArrayList<String>();
         Map<Node, Set<Edge>> nodeEdges = getNodeEdges();
@@ -1275,6 +1351,23 @@ public class TopologyManagerImpl implements
         return result;
     }
 
+    /**
+     * Topology update batching setting, from the given system property or
+     * the default.
+     */
+    private static long getConfig(String property, long defaultValue) {
+        long rv = defaultValue;
+        String value = System.getProperty(property);
+        if (value != null) {
+            try {
+                rv = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid {}: {} use default({})", new Object[] { property, value, rv });
+            }
+        }
+        return rv;
+    }
+
     // Only for unit test.
     void startTest() {
         pendingTimer = new Timer("Topology Pending Update Timer");
@@ -1288,11 +1381,24 @@ public class TopologyManagerImpl implements
         pendingTimer.cancel();
     }
 
+    /**
+     * @return the number of edge updates waiting for their head node connector
+     */
+    int getPendingUpdateCount() {
+        int count = 0;
+        synchronized (pendingUpdates) {
+            for (List<PendingUpdateTask> list : pendingUpdates.values()) {
+                count += list.size();
+            }
+        }
+        return count;
+    }
+
     boolean flushUpdateQueue(long timeout) {
         long limit = System.currentTimeMillis() + timeout;
         long cur;
         do {
-            if (updateQ.peek() == null) {
+            if (updateQ.isIdle()) {
                 return true;
             }
 
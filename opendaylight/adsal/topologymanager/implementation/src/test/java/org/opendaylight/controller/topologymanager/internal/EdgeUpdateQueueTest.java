@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.topologymanager.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.sal.core.Bandwidth;
+import org.opendaylight.controller.sal.core.ConstructionException;
+import org.opendaylight.controller.sal.core.Edge;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.core.Property;
+import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.topology.TopoEdgeUpdate;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+public class EdgeUpdateQueueTest {
+
+    private static Edge createEdge(long id) throws ConstructionException {
+        NodeConnector tail = NodeConnectorCreator.createOFNodeConnector((short) 1, NodeCreator.createOFNode(id));
+        NodeConnector head = NodeConnectorCreator.createOFNodeConnector((short) 2, NodeCreator.createOFNode(id + 1));
+        return new Edge(tail, head);
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        EdgeUpdateQueue queue = new EdgeUpdateQueue("Test", 100, 0);
+        Edge edge1 = createEdge(1L);
+        Edge edge2 = createEdge(3L);
+        Edge edge3 = createEdge(5L);
+        Set<Property> props = new HashSet<Property>();
+        props.add(new Bandwidth(Bandwidth.BW1Gbps));
+
+        List<TopoEdgeUpdate> list = new ArrayList<TopoEdgeUpdate>();
+        list.add(new TopoEdgeUpdate(edge1, null, UpdateType.CHANGED));
+        list.add(new TopoEdgeUpdate(edge2, null, UpdateType.ADDED));
+        list.add(new TopoEdgeUpdate(edge3, null, UpdateType.REMOVED));
+        list.add(new TopoEdgeUpdate(edge1, null, UpdateType.REMOVED));
+        list.add(new TopoEdgeUpdate(edge2, props, UpdateType.CHANGED));
+        list.add(new TopoEdgeUpdate(edge3, null, UpdateType.ADDED));
+        queue.addAll(list);
+        Assert.assertEquals(4, queue.size());
+        Assert.assertFalse(queue.isIdle());
+
+        List<TopoEdgeUpdate> batch = queue.take();
+        Assert.assertEquals(4, batch.size());
+        // First position of each edge is kept
+        Assert.assertEquals(edge1, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+        // A change of an edge being added is an addition
+        Assert.assertEquals(edge2, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(1).getUpdateType());
+        Assert.assertEquals(props, batch.get(1).getProperty());
+        // An edge added back after its removal keeps both updates
+        Assert.assertEquals(edge3, batch.get(2).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(2).getUpdateType());
+        Assert.assertEquals(edge3, batch.get(3).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(3).getUpdateType());
+
+        Assert.assertFalse(queue.isIdle());
+        queue.done();
+        Assert.assertTrue(queue.isIdle());
+        Assert.assertEquals("Test queue: depth 0, max depth 4, received 6, coalesced 2, batches 1", queue.toString());
+    }
+
+    @Test
+    public void testAddedThenRemovedCancelled() throws Exception {
+        EdgeUpdateQueue queue = new EdgeUpdateQueue("Test", 100, 0);
+        Edge edge1 = createEdge(1L);
+        Edge edge2 = createEdge(3L);
+        Set<Property> props = new HashSet<Property>();
+        props.add(new Bandwidth(Bandwidth.BW1Gbps));
+
+        // The edge was never handed out, nor is its removal
+        queue.add(new TopoEdgeUpdate(edge1, null, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(edge2, null, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(edge1, props, UpdateType.CHANGED));
+        queue.add(new TopoEdgeUpdate(edge1, null, UpdateType.REMOVED));
+        Assert.assertEquals(1, queue.size());
+
+        List<TopoEdgeUpdate> batch = queue.take();
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(edge2, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(0).getUpdateType());
+        Assert.assertEquals("Test queue: depth 0, max depth 2, received 4, coalesced 3, batches 1", queue.toString());
+
+        // Once the addition is handed out, the removal is queued
+        queue.add(new TopoEdgeUpdate(edge2, null, UpdateType.REMOVED));
+        batch = queue.take();
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+    }
+
+    @Test
+    public void testRemovedThenChanged() throws Exception {
+        EdgeUpdateQueue queue = new EdgeUpdateQueue("Test", 100, 0);
+        Edge edge = createEdge(1L);
+        Set<Property> props = new HashSet<Property>();
+        props.add(new Bandwidth(Bandwidth.BW1Gbps));
+
+        // The removal is not lost, the edge comes back with its properties
+        queue.add(new TopoEdgeUpdate(edge, null, UpdateType.REMOVED));
+        queue.add(new TopoEdgeUpdate(edge, props, UpdateType.CHANGED));
+        Assert.assertEquals(2, queue.size());
+
+        List<TopoEdgeUpdate> batch = queue.take();
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(edge, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+        Assert.assertEquals(edge, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(1).getUpdateType());
+        Assert.assertEquals(props, batch.get(1).getProperty());
+    }
+
+    @Test
+    public void testFlap() throws Exception {
+        EdgeUpdateQueue queue = new EdgeUpdateQueue("Test", 2, 0);
+        Edge edge1 = createEdge(1L);
+        Edge edge2 = createEdge(3L);
+        Set<Property> props = new HashSet<Property>();
+        props.add(new Bandwidth(Bandwidth.BW1Gbps));
+        Set<Property> changedProps = new HashSet<Property>();
+        changedProps.add(new Bandwidth(Bandwidth.BW10Gbps));
+
+        // Repeated flaps and a change are one removal and one addition with
+        // the latest properties
+        for (int i = 0; i < 5; i++) {
+            queue.add(new TopoEdgeUpdate(edge1, null, UpdateType.REMOVED));
+            queue.add(new TopoEdgeUpdate(edge1, props, UpdateType.ADDED));
+        }
+        queue.add(new TopoEdgeUpdate(edge1, changedProps, UpdateType.CHANGED));
+        // A removal replaces the flap
+        queue.add(new TopoEdgeUpdate(edge2, null, UpdateType.REMOVED));
+        queue.add(new TopoEdgeUpdate(edge2, props, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(edge2, null, UpdateType.REMOVED));
+        Assert.assertEquals(3, queue.size());
+
+        List<TopoEdgeUpdate> batch = queue.take();
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(edge1, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+        Assert.assertEquals(edge1, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(1).getUpdateType());
+        Assert.assertEquals(changedProps, batch.get(1).getProperty());
+        batch = queue.take();
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(edge2, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+
+        // A full batch may end with the removal, the addition comes next
+        queue.add(new TopoEdgeUpdate(edge1, null, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(edge2, null, UpdateType.REMOVED));
+        queue.add(new TopoEdgeUpdate(edge2, props, UpdateType.ADDED));
+        batch = queue.take();
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(0).getUpdateType());
+        Assert.assertEquals(edge2, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(1).getUpdateType());
+        Assert.assertEquals(1, queue.size());
+        batch = queue.take();
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(edge2, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(0).getUpdateType());
+        Assert.assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        EdgeUpdateQueue queue = new EdgeUpdateQueue("Test", 2, 200);
+        queue.add(new TopoEdgeUpdate(createEdge(1L), null, UpdateType.ADDED));
+
+        // The batch waits for the delay when not full
+        long start = System.nanoTime();
+        List<TopoEdgeUpdate> batch = queue.take();
+        long elapsed = (System.nanoTime() - start) / 1000000L;
+        Assert.assertEquals(1, batch.size());
+        Assert.assertTrue(elapsed >= 150);
+
+        // A full batch is handed out at once, the rest is already late
+        queue.add(new TopoEdgeUpdate(createEdge(3L), null, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(createEdge(5L), null, UpdateType.ADDED));
+        queue.add(new TopoEdgeUpdate(createEdge(7L), null, UpdateType.ADDED));
+        start = System.nanoTime();
+        Assert.assertEquals(2, queue.take().size());
+        Assert.assertEquals(1, queue.take().size());
+        elapsed = (System.nanoTime() - start) / 1000000L;
+        Assert.assertTrue(elapsed < 150);
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.Assert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.controller.clustering.services.IClusterContainerServices;
 import org.opendaylight.controller.sal.core.Bandwidth;
 import org.opendaylight.controller.sal.core.ConstructionException;
 import org.opendaylight.controller.sal.core.Description;
@@ -38,8 +39,12 @@ import org.opendaylight.controller.switchmanager.Subnet;
 import org.opendaylight.controller.switchmanager.SubnetConfig;
 import org.opendaylight.controller.switchmanager.Switch;
 import org.opendaylight.controller.switchmanager.SwitchConfig;
+import org.opendaylight.controller.topologymanager.ITopologyManagerAware;
 import org.opendaylight.controller.topologymanager.TopologyUserLinkConfig;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -880,4 +885,167 @@ public class TopologyManagerImplTest {
         Thread.sleep(1000);
         Assert.assertEquals(0, topoManagerImpl.getEdges().size());
     }
+
+    @Test
+    public void testCoalescedEdgeUpdates() throws ConstructionException {
+        TestSwitchManager swMgr = new TestSwitchManager();
+        topoManagerImpl.setSwitchManager(swMgr);
+        topoManagerImpl.nonClusterObjectCreate();
+        final List<List<TopoEdgeUpdate>> notified = new ArrayList<List<TopoEdgeUpdate>>();
+        topoManagerImpl.setTopologyManagerAware(new ITopologyManagerAware() {
+            @Override
+            public void edgeUpdate(List<TopoEdgeUpdate> topoedgeupdateList) {
+                notified.add(topoedgeupdateList);
+            }
+
+            @Override
+            public void edgeOverUtilized(Edge edge) {
+            }
+
+            @Override
+            public void edgeUtilBackToNormal(Edge edge) {
+            }
+        });
+
+        NodeConnector nc1 = NodeConnectorCreator.createOFNodeConnector(
+                (short) 1, NodeCreator.createOFNode(1000L));
+        NodeConnector nc2 = NodeConnectorCreator.createOFNodeConnector(
+                (short) 2, NodeCreator.createOFNode(2000L));
+        swMgr.addNodeConnectors(nc1, nc2);
+        Edge edge1 = new Edge(nc1, nc2);
+        Edge edge2 = new Edge(nc2, nc1);
+        Set<Property> props = new HashSet<Property>();
+        Set<Property> changedProps = new HashSet<Property>();
+        changedProps.add(new Bandwidth(Bandwidth.BW10Gbps));
+
+        // A flapping edge and an edge changed right after being added,
+        // spread over several calls as they would come from the plugins
+        List<TopoEdgeUpdate> topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge1, props, UpdateType.ADDED));
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge2, props, UpdateType.ADDED));
+        topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        for (int i = 0; i < 10; i++) {
+            topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+            topoedgeupdateList.add(new TopoEdgeUpdate(edge1, props, UpdateType.REMOVED));
+            topoedgeupdateList.add(new TopoEdgeUpdate(edge1, props, UpdateType.ADDED));
+            topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        }
+        topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge2, changedProps, UpdateType.CHANGED));
+        topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        Assert.assertTrue(topoManagerImpl.flushUpdateQueue(5000));
+
+        // Only the latest state of each edge is applied, in one batch. The
+        // flapping edge was never handed out, so its removals cancel the
+        // queued additions and only the last addition is left.
+        Assert.assertEquals(1, notified.size());
+        List<TopoEdgeUpdate> batch = notified.get(0);
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(edge2, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(0).getUpdateType());
+        Assert.assertTrue(batch.get(0).getProperty().contains(new Bandwidth(Bandwidth.BW10Gbps)));
+        Assert.assertEquals(edge1, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(1).getUpdateType());
+
+        Map<Edge, Set<Property>> edges = topoManagerImpl.getEdges();
+        Assert.assertEquals(2, edges.size());
+        Assert.assertTrue(edges.get(edge2).contains(new Bandwidth(Bandwidth.BW10Gbps)));
+        Assert.assertTrue(topoManagerImpl.isInternal(nc1));
+        Assert.assertTrue(topoManagerImpl.isInternal(nc2));
+
+        // A flap of an edge in the database is seen by the listeners and
+        // brings the new properties in
+        Set<Property> flapProps = new HashSet<Property>();
+        flapProps.add(new Bandwidth(Bandwidth.BW1Gbps));
+        topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge1, props, UpdateType.REMOVED));
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge2, props, UpdateType.REMOVED));
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge2, flapProps, UpdateType.ADDED));
+        topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        Assert.assertTrue(topoManagerImpl.flushUpdateQueue(5000));
+        Assert.assertEquals(2, notified.size());
+        batch = notified.get(1);
+        Assert.assertEquals(3, batch.size());
+        Assert.assertEquals(edge1, batch.get(0).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(0).getUpdateType());
+        Assert.assertEquals(edge2, batch.get(1).getEdge());
+        Assert.assertEquals(UpdateType.REMOVED, batch.get(1).getUpdateType());
+        Assert.assertEquals(edge2, batch.get(2).getEdge());
+        Assert.assertEquals(UpdateType.ADDED, batch.get(2).getUpdateType());
+        edges = topoManagerImpl.getEdges();
+        Assert.assertEquals(1, edges.size());
+        Assert.assertTrue(edges.get(edge2).contains(new Bandwidth(Bandwidth.BW1Gbps)));
+        Assert.assertFalse(edges.get(edge2).contains(new Bandwidth(Bandwidth.BW10Gbps)));
+    }
+
+    @Test
+    public void testEdgeUpdatesCommitFailure() throws ConstructionException {
+        TestSwitchManager swMgr = new TestSwitchManager();
+        topoManagerImpl.setSwitchManager(swMgr);
+        topoManagerImpl.nonClusterObjectCreate();
+        final List<List<TopoEdgeUpdate>> notified = new ArrayList<List<TopoEdgeUpdate>>();
+        topoManagerImpl.setTopologyManagerAware(new ITopologyManagerAware() {
+            @Override
+            public void edgeUpdate(List<TopoEdgeUpdate> topoedgeupdateList) {
+                notified.add(topoedgeupdateList);
+            }
+
+            @Override
+            public void edgeOverUtilized(Edge edge) {
+            }
+
+            @Override
+            public void edgeUtilBackToNormal(Edge edge) {
+            }
+        });
+        // Cluster service failing to commit the first transaction
+        final int[] commits = new int[1];
+        topoManagerImpl.setClusterContainerService((IClusterContainerServices) Proxy.newProxyInstance(
+                IClusterContainerServices.class.getClassLoader(), new Class<?>[] { IClusterContainerServices.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("tcommit") && commits[0]++ == 0) {
+                            throw new IllegalStateException("Commit failure");
+                        }
+                        return null;
+                    }
+                }));
+
+        NodeConnector nc1 = NodeConnectorCreator.createOFNodeConnector(
+                (short) 1, NodeCreator.createOFNode(1000L));
+        NodeConnector nc2 = NodeConnectorCreator.createOFNodeConnector(
+                (short) 2, NodeCreator.createOFNode(2000L));
+        NodeConnector nc3 = NodeConnectorCreator.createOFNodeConnector(
+                (short) 3, NodeCreator.createOFNode(3000L));
+        swMgr.addNodeConnectors(nc1, nc2);
+        Edge edge1 = new Edge(nc1, nc2);
+        // Head not in the inventory yet
+        Edge edge2 = new Edge(nc1, nc3);
+
+        List<TopoEdgeUpdate> topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge1, null, UpdateType.ADDED));
+        topoedgeupdateList.add(new TopoEdgeUpdate(edge2, null, UpdateType.ADDED));
+        topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        Assert.assertTrue(topoManagerImpl.flushUpdateQueue(5000));
+
+        // The batch is written again, the pending addition is not queued twice
+        Assert.assertEquals(1, commits[0]);
+        Assert.assertEquals(1, notified.size());
+        Assert.assertEquals(1, notified.get(0).size());
+        Assert.assertEquals(edge1, notified.get(0).get(0).getEdge());
+        Assert.assertEquals(1, topoManagerImpl.getEdges().size());
+        Assert.assertEquals(1, topoManagerImpl.getPendingUpdateCount());
+
+        // The head shows up: the pending addition is flushed once
+        swMgr.addNodeConnectors(nc3);
+        topoedgeupdateList = new ArrayList<TopoEdgeUpdate>();
+        topoedgeupdateList.add(new TopoEdgeUpdate(new Edge(nc2, nc3), null, UpdateType.ADDED));
+        topoManagerImpl.edgeUpdate(topoedgeupdateList);
+        Assert.assertTrue(topoManagerImpl.flushUpdateQueue(5000));
+        Assert.assertTrue(topoManagerImpl.flushUpdateQueue(5000));
+        Assert.assertEquals(0, topoManagerImpl.getPendingUpdateCount());
+        Assert.assertEquals(3, topoManagerImpl.getEdges().size());
+        Assert.assertEquals(3, commits[0]);
+    }
 }
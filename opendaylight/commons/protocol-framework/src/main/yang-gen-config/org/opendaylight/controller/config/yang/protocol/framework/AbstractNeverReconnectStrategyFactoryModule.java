@@ -0,0 +1,121 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: protocol-framework yang module local name: never-reconnect-strategy-factory
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:31:27 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.protocol.framework;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:protocol:framework", name = "protocol-framework", revision = "2014-03-13")
+
+public abstract class AbstractNeverReconnectStrategyFactoryModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractNeverReconnectStrategyFactoryModule> implements org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModuleMXBean,org.opendaylight.controller.config.yang.protocol.framework.ReconnectStrategyFactoryServiceInterface {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.protocol.framework.AbstractNeverReconnectStrategyFactoryModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute executorJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("Executor");
+    private javax.management.ObjectName executor; // mandatory
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute timeoutJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("Timeout");
+    private java.lang.Integer timeout;
+
+    //attributes end
+
+    public AbstractNeverReconnectStrategyFactoryModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractNeverReconnectStrategyFactoryModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractNeverReconnectStrategyFactoryModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+        dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.netty.EventExecutorServiceInterface.class, executor, executorJmxAttribute);
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private io.netty.util.concurrent.EventExecutor executorDependency;
+    protected final io.netty.util.concurrent.EventExecutor getExecutorDependency(){
+        return executorDependency;
+    }
+
+    protected final void resolveDependencies() {
+        executorDependency = dependencyResolver.resolveInstance(io.netty.util.concurrent.EventExecutor.class, executor, executorJmxAttribute);
+    }
+
+    public boolean canReuseInstance(AbstractNeverReconnectStrategyFactoryModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractNeverReconnectStrategyFactoryModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(executor, other.executor) == false) {
+            return false;
+        }
+        if(executor!= null) {
+            if (!dependencyResolver.canReuseDependency(executor, executorJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+        if (java.util.Objects.deepEquals(timeout, other.timeout) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractNeverReconnectStrategyFactoryModule that = (AbstractNeverReconnectStrategyFactoryModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public javax.management.ObjectName getExecutor() {
+        return executor;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.netty.EventExecutorServiceInterface.class)
+    public void setExecutor(javax.management.ObjectName executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public java.lang.Integer getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void setTimeout(java.lang.Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
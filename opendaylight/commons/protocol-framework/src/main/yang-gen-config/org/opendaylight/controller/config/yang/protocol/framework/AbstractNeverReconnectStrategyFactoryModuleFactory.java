@@ -0,0 +1,81 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: protocol-framework yang module local name: never-reconnect-strategy-factory
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:31:27 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.protocol.framework;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:protocol:framework", name = "protocol-framework", revision = "2014-03-13")
+
+public abstract class AbstractNeverReconnectStrategyFactoryModuleFactory implements org.opendaylight.controller.config.spi.ModuleFactory {
+    public static final java.lang.String NAME = "never-reconnect-strategy-factory";
+
+    private static final java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> serviceIfcs;
+
+    @Override
+    public final String getImplementationName() {
+        return NAME;
+    }
+
+    static {
+        java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> serviceIfcs2 = new java.util.HashSet<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>>();
+        serviceIfcs2.add(org.opendaylight.controller.config.yang.protocol.framework.ReconnectStrategyFactoryServiceInterface.class);
+        serviceIfcs = java.util.Collections.unmodifiableSet(serviceIfcs2);
+    }
+
+    @Override
+    public final boolean isModuleImplementingServiceInterface(Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface> serviceInterface) {
+        for (Class<?> ifc: serviceIfcs) {
+            if (serviceInterface.isAssignableFrom(ifc)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> getImplementedServiceIntefaces() {
+        return serviceIfcs;
+    }
+
+    @Override
+    public org.opendaylight.controller.config.spi.Module createModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.osgi.framework.BundleContext bundleContext) {
+        return instantiateModule(instanceName, dependencyResolver, bundleContext);
+    }
+
+    @Override
+    public org.opendaylight.controller.config.spi.Module createModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.opendaylight.controller.config.api.DynamicMBeanWithInstance old, org.osgi.framework.BundleContext bundleContext) throws Exception {
+        org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule oldModule = null;
+        try {
+            oldModule = (org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule) old.getModule();
+        } catch(Exception e) {
+            return handleChangedClass(old);
+        }
+        org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule module = instantiateModule(instanceName, dependencyResolver, oldModule, old.getInstance(), bundleContext);
+        module.setExecutor(oldModule.getExecutor());
+        module.setTimeout(oldModule.getTimeout());
+
+        return module;
+    }
+
+    public org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule instantiateModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule oldModule, java.lang.AutoCloseable oldInstance, org.osgi.framework.BundleContext bundleContext) {
+        return new org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule(new org.opendaylight.controller.config.api.ModuleIdentifier(NAME, instanceName), dependencyResolver, oldModule, oldInstance);
+    }
+
+    public org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule instantiateModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.osgi.framework.BundleContext bundleContext) {
+        return new org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule(new org.opendaylight.controller.config.api.ModuleIdentifier(NAME, instanceName), dependencyResolver);
+    }
+
+    public org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule handleChangedClass(org.opendaylight.controller.config.api.DynamicMBeanWithInstance old) throws Exception {
+        throw new UnsupportedOperationException("Class reloading is not supported");
+    }
+
+    @Override
+    public java.util.Set<org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule> getDefaultModules(org.opendaylight.controller.config.api.DependencyResolverFactory dependencyResolverFactory, org.osgi.framework.BundleContext bundleContext) {
+        return new java.util.HashSet<org.opendaylight.controller.config.yang.protocol.framework.NeverReconnectStrategyFactoryModule>();
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: protocol-framework yang module local name: reconnect-immediately-strategy-factory
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:31:27 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.protocol.framework;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:protocol:framework", name = "protocol-framework", revision = "2014-03-13")
+
+public abstract class AbstractReconnectImmediatelyStrategyFactoryModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractReconnectImmediatelyStrategyFactoryModule> implements org.opendaylight.controller.config.yang.protocol.framework.ReconnectImmediatelyStrategyFactoryModuleMXBean,org.opendaylight.controller.config.yang.protocol.framework.ReconnectStrategyFactoryServiceInterface {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.protocol.framework.AbstractReconnectImmediatelyStrategyFactoryModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute reconnectTimeoutJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ReconnectTimeout");
+    private java.lang.Integer reconnectTimeout;
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute reconnectExecutorJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ReconnectExecutor");
+    private javax.management.ObjectName reconnectExecutor; // mandatory
+
+    //attributes end
+
+    public AbstractReconnectImmediatelyStrategyFactoryModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractReconnectImmediatelyStrategyFactoryModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractReconnectImmediatelyStrategyFactoryModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+        dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.netty.EventExecutorServiceInterface.class, reconnectExecutor, reconnectExecutorJmxAttribute);
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private io.netty.util.concurrent.EventExecutor reconnectExecutorDependency;
+    protected final io.netty.util.concurrent.EventExecutor getReconnectExecutorDependency(){
+        return reconnectExecutorDependency;
+    }
+
+    protected final void resolveDependencies() {
+        reconnectExecutorDependency = dependencyResolver.resolveInstance(io.netty.util.concurrent.EventExecutor.class, reconnectExecutor, reconnectExecutorJmxAttribute);
+    }
+
+    public boolean canReuseInstance(AbstractReconnectImmediatelyStrategyFactoryModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractReconnectImmediatelyStrategyFactoryModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(reconnectTimeout, other.reconnectTimeout) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(reconnectExecutor, other.reconnectExecutor) == false) {
+            return false;
+        }
+        if(reconnectExecutor!= null) {
+            if (!dependencyResolver.canReuseDependency(reconnectExecutor, reconnectExecutorJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractReconnectImmediatelyStrategyFactoryModule that = (AbstractReconnectImmediatelyStrategyFactoryModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.lang.Integer getReconnectTimeout() {
+        return reconnectTimeout;
+    }
+
+    @Override
+    public void setReconnectTimeout(java.lang.Integer reconnectTimeout) {
+        this.reconnectTimeout = reconnectTimeout;
+    }
+
+    @Override
+    public javax.management.ObjectName getReconnectExecutor() {
+        return reconnectExecutor;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.netty.EventExecutorServiceInterface.class)
+    public void setReconnectExecutor(javax.management.ObjectName reconnectExecutor) {
+        this.reconnectExecutor = reconnectExecutor;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
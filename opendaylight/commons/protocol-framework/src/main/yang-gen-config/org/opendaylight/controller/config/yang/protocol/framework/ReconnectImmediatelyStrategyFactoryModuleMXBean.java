@@ -0,0 +1,20 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: protocol-framework yang module local name: reconnect-immediately-strategy-factory
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:31:27 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.protocol.framework;
+public interface ReconnectImmediatelyStrategyFactoryModuleMXBean {
+    public java.lang.Integer getReconnectTimeout();
+
+    public void setReconnectTimeout(java.lang.Integer reconnectTimeout);
+
+    public javax.management.ObjectName getReconnectExecutor();
+
+    public void setReconnectExecutor(javax.management.ObjectName reconnectExecutor);
+
+}
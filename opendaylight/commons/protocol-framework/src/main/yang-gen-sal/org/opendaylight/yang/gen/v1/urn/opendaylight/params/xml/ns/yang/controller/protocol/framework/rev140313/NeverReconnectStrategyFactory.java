@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.protocol.framework.rev140313;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ModuleType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;protocol-framework&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/odl-protocol-framework-cfg.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity never-reconnect-strategy-factory {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)module-type]";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;protocol-framework/never-reconnect-strategy-factory&lt;/i&gt;
+ *
+ */
+public abstract class NeverReconnectStrategyFactory extends ModuleType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:protocol:framework","2014-03-13","never-reconnect-strategy-factory"));
+
+
+    public NeverReconnectStrategyFactory() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
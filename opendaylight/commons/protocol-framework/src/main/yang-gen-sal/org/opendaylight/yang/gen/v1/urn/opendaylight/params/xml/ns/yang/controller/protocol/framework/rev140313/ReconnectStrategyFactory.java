@@ -0,0 +1,43 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.protocol.framework.rev140313;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ServiceType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Service representing a reconnect strategy factory.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;protocol-framework&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/odl-protocol-framework-cfg.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity reconnect-strategy-factory {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)service-type]";
+ *     description
+ *         "Service representing a reconnect strategy factory.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;protocol-framework/reconnect-strategy-factory&lt;/i&gt;
+ *
+ */
+public abstract class ReconnectStrategyFactory extends ServiceType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:protocol:framework","2014-03-13","reconnect-strategy-factory"));
+
+
+    public ReconnectStrategyFactory() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
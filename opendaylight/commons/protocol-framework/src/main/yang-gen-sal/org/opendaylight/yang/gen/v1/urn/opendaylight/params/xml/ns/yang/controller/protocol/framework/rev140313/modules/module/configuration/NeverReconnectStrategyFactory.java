@@ -0,0 +1,54 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.protocol.framework.rev140313.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.protocol.framework.rev140313.modules.module.configuration.never.reconnect.strategy.factory.Executor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.modules.module.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;protocol-framework&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/odl-protocol-framework-cfg.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case never-reconnect-strategy-factory {
+ *     leaf timeout {
+ *         type int32;
+ *     }
+ *     container executor {
+ *         leaf type {
+ *             type leafref;
+ *         }
+ *         leaf name {
+ *             type leafref;
+ *         }
+ *         uses service-ref {
+ *             refine (urn:opendaylight:params:xml:ns:yang:controller:protocol:framework?revision=2014-03-13)type {
+ *                 leaf type {
+ *                     type leafref;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;protocol-framework/modules/module/configuration/(urn:opendaylight:params:xml:ns:yang:controller:protocol:framework?revision=2014-03-13)never-reconnect-strategy-factory&lt;/i&gt;
+ *
+ */
+public interface NeverReconnectStrategyFactory
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.protocol.framework.rev140313.modules.module.configuration.NeverReconnectStrategyFactory>,
+    Configuration
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:protocol:framework","2014-03-13","never-reconnect-strategy-factory"));
+
+    java.lang.Integer getTimeout();
+    
+    Executor getExecutor();
+
+}
+
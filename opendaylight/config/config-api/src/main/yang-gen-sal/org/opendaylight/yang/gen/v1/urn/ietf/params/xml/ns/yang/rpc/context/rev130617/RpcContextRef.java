@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+
+/**
+ * A reference to RPC context.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;rpc-context&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/rpc-context.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping rpc-context-ref {
+ *     leaf context-instance {
+ *         type instance-identifier;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;rpc-context/rpc-context-ref&lt;/i&gt;
+ *
+ */
+public interface RpcContextRef
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:rpc-context","2013-06-17","rpc-context-ref"));
+
+    /**
+     * Pointer to the context.
+     *
+     */
+    InstanceIdentifier<?> getContextInstance();
+
+}
+
@@ -0,0 +1,48 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.BaseIdentity;
+
+
+/**
+ * Module identity base type. All module identities must be derived from this type.
+ * A module type uniquely defines a single atomic component, such as an 
+ * application. Each such component is assumed to have its unique, stable and 
+ * versioned configuration structure.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;config&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/config.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity module-type {
+ *     description
+ *         "Module identity base type. All module identities must be derived
+ *                     from this type. A module type uniquely defines a single atomic
+ *                     component, such as an application. Each such component is assumed
+ *                     to have its unique, stable and versioned configuration structure.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;config/module-type&lt;/i&gt;
+ *
+ */
+public abstract class ModuleType extends BaseIdentity
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:config","2013-04-05","module-type"));
+
+
+    public ModuleType() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
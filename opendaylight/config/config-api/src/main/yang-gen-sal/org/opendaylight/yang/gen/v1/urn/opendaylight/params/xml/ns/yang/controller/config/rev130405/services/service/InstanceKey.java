@@ -0,0 +1,82 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.services.service;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+
+
+public class InstanceKey
+ implements Identifier<Instance> {
+    private static final long serialVersionUID = 2732546454570693021L;
+    private final java.lang.String _name;
+
+
+    public InstanceKey(java.lang.String _name) {
+    
+    
+        this._name = _name;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public InstanceKey(InstanceKey source) {
+        this._name = source._name;
+    }
+
+
+    public java.lang.String getName() {
+        return _name;
+    }
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_name == null) ? 0 : _name.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        InstanceKey other = (InstanceKey) obj;
+        if (_name == null) {
+            if (other._name != null) {
+                return false;
+            }
+        } else if(!_name.equals(other._name)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.services.service.InstanceKey.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_name != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_name=");
+            builder.append(_name);
+         }
+        return builder.append(']').toString();
+    }
+
+
+
+}
+
@@ -18,6 +18,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
@@ -61,6 +64,12 @@ import org.slf4j.LoggerFactory;
 public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBean {
     private static final Logger LOG = LoggerFactory.getLogger(ConfigRegistryImpl.class);
 
+    /**
+     * System property with number of threads used to instantiate new modules during commit,
+     * modules are instantiated serially if not set or lower than 2.
+     */
+    public static final String COMMIT_PARALLELISM_PROPERTY = "org.opendaylight.controller.config.commit.parallelism";
+
     private final ModuleFactoriesResolver resolver;
     private final MBeanServer configMBeanServer;
     private final BindingContextProvider bindingContextProvider;
@@ -109,6 +118,13 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
     @GuardedBy("this") // switched in every 2ndPC
     private CloseableServiceReferenceReadableRegistry readableSRRegistry = ServiceReferenceRegistryImpl.createInitialSRLookupRegistry();
 
+    // null if modules are instantiated serially
+    @Nullable
+    private final ForkJoinPool instantiationPool;
+
+    // switched in every 2ndPC
+    private volatile Map<String, Long> lastCommitInstantiationMicros = Collections.emptyMap();
+
     // constructor
     public ConfigRegistryImpl(ModuleFactoriesResolver resolver,
                               MBeanServer configMBeanServer, BindingContextProvider bindingContextProvider) {
@@ -120,7 +136,19 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
     public ConfigRegistryImpl(ModuleFactoriesResolver resolver,
                               MBeanServer configMBeanServer,
                               BaseJMXRegistrator baseJMXRegistrator, BindingContextProvider bindingContextProvider) {
+        this(resolver, configMBeanServer, baseJMXRegistrator, bindingContextProvider, 0);
+    }
+
+    /**
+     * @param commitParallelism number of threads instantiating new modules that do not depend on each other
+     *                          during commit, lower than 2 means serial commit
+     */
+    public ConfigRegistryImpl(ModuleFactoriesResolver resolver,
+                              MBeanServer configMBeanServer,
+                              BaseJMXRegistrator baseJMXRegistrator, BindingContextProvider bindingContextProvider,
+                              int commitParallelism) {
         this.resolver = resolver;
+        this.instantiationPool = commitParallelism > 1 ? new ForkJoinPool(commitParallelism) : null;
         this.beanToOsgiServiceManager = new BeanToOsgiServiceManager();
         this.configMBeanServer = configMBeanServer;
         this.baseJMXRegistrator = baseJMXRegistrator;
@@ -277,7 +305,10 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
         }
 
         // can register runtime beans
-        List<ModuleIdentifier> orderedModuleIdentifiers = configTransactionController.secondPhaseCommit();
+        long commitStart = System.nanoTime();
+        List<ModuleIdentifier> orderedModuleIdentifiers = configTransactionController.secondPhaseCommit(instantiationPool);
+        long commitNanos = System.nanoTime() - commitStart;
+        recordInstantiationTimes(configTransactionController.getInstantiationNanos(), commitNanos);
         txLookupRegistry.close();
         configTransactionController.close();
 
@@ -391,6 +422,18 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
                 recreatedInstances);
     }
 
+    private void recordInstantiationTimes(Map<ModuleIdentifier, Long> instantiationNanos, long commitNanos) {
+        Map<String, Long> micros = new HashMap<>(instantiationNanos.size());
+        for (Entry<ModuleIdentifier, Long> entry : instantiationNanos.entrySet()) {
+            long moduleMicros = TimeUnit.NANOSECONDS.toMicros(entry.getValue());
+            LOG.debug("Instantiation of {} took {} us", entry.getKey(), moduleMicros);
+            micros.put(entry.getKey().toString(), moduleMicros);
+        }
+        lastCommitInstantiationMicros = Collections.unmodifiableMap(micros);
+        LOG.debug("Instantiated {} modules in {} ms, {}", instantiationNanos.size(),
+                TimeUnit.NANOSECONDS.toMillis(commitNanos), instantiationPool == null ? "serially" : "in parallel");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -442,6 +485,10 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
         MBeanServerFactory.releaseMBeanServer(registryMBeanServer);
         MBeanServerFactory.releaseMBeanServer(transactionsMBeanServer);
 
+        if (instantiationPool != null) {
+            instantiationPool.shutdown();
+        }
+
     }
 
     /**
@@ -452,6 +499,14 @@ public class ConfigRegistryImpl implements AutoCloseable, ConfigRegistryImplMXBe
         return version;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getLastCommitInstantiationMicros() {
+        return lastCommitInstantiationMicros;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.config.manager.impl;
 
+import java.util.Map;
 import org.opendaylight.controller.config.api.ConfigRegistry;
 
 /**
@@ -21,4 +22,11 @@ public interface ConfigRegistryImplMXBean extends ConfigRegistry {
      */
     long getVersion();
 
+    /**
+     * @return time spent in getInstance() of each module instantiated by last
+     *         commit in microseconds, keyed by module identifier. In serial
+     *         commit the time includes dependencies instantiated by the module.
+     */
+    Map<String, Long> getLastCommitInstantiationMicros();
+
 }
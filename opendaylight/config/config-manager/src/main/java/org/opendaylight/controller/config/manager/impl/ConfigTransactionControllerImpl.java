@@ -13,11 +13,14 @@ import static java.lang.String.format;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
@@ -79,6 +82,9 @@ class ConfigTransactionControllerImpl implements
 
     private final boolean blankTransaction;
 
+    // written by second phase commit, only read after it returns
+    private final Map<ModuleIdentifier, Long> instantiationNanos = new HashMap<>();
+
     @GuardedBy("this")
     private final SearchableServiceReferenceWritableRegistry writableSRRegistry;
 
@@ -373,7 +379,7 @@ class ConfigTransactionControllerImpl implements
      * {@inheritDoc}
      */
     @Override
-    public synchronized List<ModuleIdentifier> secondPhaseCommit() {
+    public synchronized List<ModuleIdentifier> secondPhaseCommit(@Nullable ForkJoinPool instantiationPool) {
         transactionStatus.checkNotAborted();
         transactionStatus.checkCommitStarted();
         if (configBeanModificationDisabled.get() == false) {
@@ -390,13 +396,24 @@ class ConfigTransactionControllerImpl implements
         // The source of a dependency closes itself and calls getInstance recursively on the dependencies (in case of reconfiguration)
         // This makes close() calls from top to bottom while createInstance() calls are performed bottom to top
         List<ModuleIdentifier> sortedModuleIdentifiers = Lists.reverse(dependencyResolverManager.getSortedModuleIdentifiers());
+        Map<ModuleIdentifier, Module> newModules = new HashMap<>();
         for (ModuleIdentifier moduleIdentifier : sortedModuleIdentifiers) {
             Module module = allModules.get(moduleIdentifier);
+            // In parallel mode only modules with old instance are instantiated here, to keep the close order.
+            // New modules have nothing to close, so they can be instantiated bottom to top afterwards.
+            if (instantiationPool != null && dependencyResolverManager.findModuleInternalTransactionalInfo(moduleIdentifier)
+                    .hasOldModule() == false) {
+                newModules.put(moduleIdentifier, module);
+                continue;
+            }
 
             try {
                 LOG.debug("About to commit {} in transaction {}",
                         moduleIdentifier, getTransactionIdentifier());
+                long start = System.nanoTime();
                 AutoCloseable instance = module.getInstance();
+                // includes dependencies instantiated recursively
+                instantiationNanos.put(moduleIdentifier, System.nanoTime() - start);
                 checkNotNull(instance, "Instance is null:{} in transaction {}", moduleIdentifier, getTransactionIdentifier());
             } catch (Exception e) {
                 LOG.error("Commit failed on {} in transaction {}", moduleIdentifier,
@@ -408,12 +425,35 @@ class ConfigTransactionControllerImpl implements
             }
         }
 
+        if (newModules.isEmpty() == false) {
+            LOG.debug("About to commit {} new modules in parallel in transaction {}", newModules.size(),
+                    getTransactionIdentifier());
+            try {
+                instantiationNanos.putAll(new ParallelModuleInstantiator(newModules,
+                        dependencyResolverManager.getDependencies()).instantiate(instantiationPool));
+            } catch (RuntimeException e) {
+                LOG.error("Commit failed in transaction {}", getTransactionIdentifier(), e);
+                internalAbort();
+                throw new IllegalStateException(
+                        format("Error - parallel commit failed in transaction %s", getTransactionIdentifier()), e);
+            }
+        }
+
         LOG.trace("Committed configuration {}", getTransactionIdentifier());
         transactionStatus.setCommitted();
 
         return sortedModuleIdentifiers;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Map<ModuleIdentifier, Long> getInstantiationNanos() {
+        transactionStatus.checkCommitted();
+        return Collections.unmodifiableMap(instantiationNanos);
+    }
+
     @Override
     public synchronized void abortConfig() {
         transactionStatus.checkNotCommitStarted();
@@ -9,6 +9,9 @@ package org.opendaylight.controller.config.manager.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 import javax.management.ObjectName;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.config.api.ValidationException;
@@ -49,12 +52,20 @@ interface ConfigTransactionControllerInternal extends
      * Call {@link org.opendaylight.controller.config.spi.Module#getInstance()}
      * on all beans in transaction. This method can be only called once.
      *
+     * @param instantiationPool if not null, new modules that do not depend on
+     *        each other are instantiated in parallel using this pool
      * @throws {@link RuntimeException} commit fails, indicates bug in config
      *         bean
      * @return ordered list of module identifiers that respects dependency
      *         order.
      */
-    List<ModuleIdentifier> secondPhaseCommit();
+    List<ModuleIdentifier> secondPhaseCommit(@Nullable ForkJoinPool instantiationPool);
+
+    /**
+     * @return time spent in {@link org.opendaylight.controller.config.spi.Module#getInstance()}
+     *         of each module in nanoseconds, available after second phase commit
+     */
+    Map<ModuleIdentifier, Long> getInstantiationNanos();
 
     /**
      * @return ObjectName of this transaction controller
@@ -1,7 +1,9 @@
 package org.opendaylight.controller.config.manager.impl;
 
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
@@ -16,10 +18,9 @@ public class DeadlockMonitor implements AutoCloseable {
 
     private final TransactionIdentifier transactionIdentifier;
     private final DeadlockMonitorRunnable thread;
+    // modules can be instantiated by more threads during parallel commit, each thread has its own stack
     @GuardedBy("this")
-    private final Deque<ModuleIdentifierWithNanos> moduleIdentifierWithNanosStack = new LinkedList<>();
-    @GuardedBy("this")
-    private ModuleIdentifierWithNanos top = ModuleIdentifierWithNanos.EMPTY;
+    private final Map<Thread, Deque<ModuleIdentifierWithNanos>> moduleIdentifierWithNanosStacks = new HashMap<>();
 
     public DeadlockMonitor(TransactionIdentifier transactionIdentifier) {
         this.transactionIdentifier = transactionIdentifier;
@@ -29,20 +30,38 @@ public class DeadlockMonitor implements AutoCloseable {
 
     public synchronized void setCurrentlyInstantiatedModule(ModuleIdentifier currentlyInstantiatedModule) {
 
+        Thread thread = Thread.currentThread();
+        Deque<ModuleIdentifierWithNanos> moduleIdentifierWithNanosStack = moduleIdentifierWithNanosStacks.get(thread);
+        if (moduleIdentifierWithNanosStack == null) {
+            moduleIdentifierWithNanosStack = new LinkedList<>();
+            moduleIdentifierWithNanosStacks.put(thread, moduleIdentifierWithNanosStack);
+        }
+
         boolean popping = currentlyInstantiatedModule == null;
         if (popping) {
             moduleIdentifierWithNanosStack.pop();
             if (moduleIdentifierWithNanosStack.isEmpty()) {
-                top = ModuleIdentifierWithNanos.EMPTY;
-            } else {
-                top = moduleIdentifierWithNanosStack.peekLast();
+                moduleIdentifierWithNanosStacks.remove(thread);
             }
         } else {
-            ModuleIdentifierWithNanos current = new ModuleIdentifierWithNanos(currentlyInstantiatedModule);
-            moduleIdentifierWithNanosStack.push(current);
-            top = current;
+            moduleIdentifierWithNanosStack.push(new ModuleIdentifierWithNanos(currentlyInstantiatedModule));
         }
-        LOG.trace("setCurrentlyInstantiatedModule {}, top {}", currentlyInstantiatedModule, top);
+        LOG.trace("setCurrentlyInstantiatedModule {}, stack {}", currentlyInstantiatedModule, moduleIdentifierWithNanosStack);
+    }
+
+    /**
+     * @return the module instantiated for the longest time, considering only the innermost module of each thread,
+     *         as that is the one the thread waits for. Empty if no module is being instantiated.
+     */
+    private synchronized ModuleIdentifierWithNanos getLongestInstantiatedModule() {
+        ModuleIdentifierWithNanos oldest = ModuleIdentifierWithNanos.EMPTY;
+        for (Deque<ModuleIdentifierWithNanos> stack : moduleIdentifierWithNanosStacks.values()) {
+            ModuleIdentifierWithNanos current = stack.peek();
+            if (oldest.moduleIdentifier == null || current.nanoTime - oldest.nanoTime < 0) {
+                oldest = current;
+            }
+        }
+        return oldest;
     }
 
     public boolean isAlive() {
@@ -67,17 +86,13 @@ public class DeadlockMonitor implements AutoCloseable {
 
         @Override
         public void run() {
-            ModuleIdentifierWithNanos old = new ModuleIdentifierWithNanos(); // null moduleId
             while (this.isInterrupted() == false) {
-                ModuleIdentifierWithNanos copy = new ModuleIdentifierWithNanos(DeadlockMonitor.this.top);
-                if (old.moduleIdentifier == null || old.equals(copy) == false) {
-                    // started
-                    old = copy;
-                } else {
+                ModuleIdentifierWithNanos oldest = getLongestInstantiatedModule();
+                if (oldest.moduleIdentifier != null) {
                     // is the getInstance() running longer than WARN_AFTER_MILLIS ?
-                    long runningTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - copy.nanoTime);
+                    long runningTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.nanoTime);
                     if (runningTime > WARN_AFTER_MILLIS) {
-                        LOG.warn("{} did not finish after {} ms", copy.moduleIdentifier, runningTime);
+                        LOG.warn("{} did not finish after {} ms", oldest.moduleIdentifier, runningTime);
                     }
                 }
                 try {
@@ -114,11 +129,6 @@ public class DeadlockMonitor implements AutoCloseable {
             nanoTime = System.nanoTime();
         }
 
-        private ModuleIdentifierWithNanos(ModuleIdentifierWithNanos copy) {
-            moduleIdentifier = copy.moduleIdentifier;
-            nanoTime = copy.nanoTime;
-        }
-
         @Override
         public boolean equals(Object o) {
             if (this == o) {
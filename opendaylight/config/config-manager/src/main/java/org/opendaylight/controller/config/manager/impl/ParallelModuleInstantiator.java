@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.manager.impl;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.opendaylight.controller.config.api.ModuleIdentifier;
+import org.opendaylight.controller.config.spi.Module;
+
+/**
+ * Calls {@link Module#getInstance()} on modules of a transaction using fork join pool. Each module
+ * is instantiated after all its dependencies were instantiated, modules that do not depend on each
+ * other are instantiated in parallel.
+ * <p/>
+ * Only new modules should be instantiated this way. Reconfigured modules close their old instances
+ * in {@link Module#getInstance()} and this has to be done from top to bottom of the dependency tree,
+ * which is the order of serial commit.
+ */
+final class ParallelModuleInstantiator {
+
+    private final Map<ModuleIdentifier, InstantiationTask> tasks = new HashMap<>();
+    private final Map<ModuleIdentifier, Long> instantiationNanos = new ConcurrentHashMap<>();
+    // first failure, modules not yet started are skipped after it
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * @param modules modules to be instantiated
+     * @param dependencies direct dependencies of modules, dependencies that are not among modules are ignored
+     */
+    ParallelModuleInstantiator(final Map<ModuleIdentifier, Module> modules,
+                               final Map<ModuleIdentifier, Set<ModuleIdentifier>> dependencies) {
+        for (Map.Entry<ModuleIdentifier, Module> entry : modules.entrySet()) {
+            tasks.put(entry.getKey(), new InstantiationTask(entry.getKey(), entry.getValue()));
+        }
+        for (InstantiationTask task : tasks.values()) {
+            Set<ModuleIdentifier> moduleDependencies = dependencies.get(task.moduleIdentifier);
+            if (moduleDependencies == null) {
+                continue;
+            }
+            for (ModuleIdentifier dependency : moduleDependencies) {
+                InstantiationTask dependencyTask = tasks.get(dependency);
+                if (dependencyTask != null) {
+                    task.dependencies.add(dependencyTask);
+                }
+            }
+        }
+    }
+
+    /**
+     * Instantiate all modules and wait until done. If a module fails, modules not yet started are skipped and
+     * modules already being instantiated are waited for, so that nothing runs once this method returns.
+     *
+     * @throws RuntimeException first failure of {@link Module#getInstance()}, remaining modules might not be
+     *         instantiated
+     * @return time spent in {@link Module#getInstance()} of each module in nanoseconds
+     */
+    Map<ModuleIdentifier, Long> instantiate(final ForkJoinPool pool) {
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                forkAndJoin(tasks.values());
+            }
+        });
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+        return Collections.unmodifiableMap(instantiationNanos);
+    }
+
+    /**
+     * Fork tasks not yet forked by other tasks, then wait for all of them. Tasks do not complete exceptionally,
+     * failures are recorded instead, so that every task is joined.
+     */
+    private static void forkAndJoin(final Iterable<InstantiationTask> toBeJoined) {
+        for (InstantiationTask task : toBeJoined) {
+            if (task.forked.compareAndSet(false, true)) {
+                task.fork();
+            }
+        }
+        for (InstantiationTask task : toBeJoined) {
+            task.join();
+        }
+    }
+
+    private final class InstantiationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ModuleIdentifier moduleIdentifier;
+        private final Module module;
+        private final List<InstantiationTask> dependencies = new ArrayList<>();
+        // a task can be forked only once, no matter how many dependents it has
+        private final AtomicBoolean forked = new AtomicBoolean();
+
+        InstantiationTask(final ModuleIdentifier moduleIdentifier, final Module module) {
+            this.moduleIdentifier = moduleIdentifier;
+            this.module = module;
+        }
+
+        @Override
+        protected void compute() {
+            forkAndJoin(dependencies);
+            if (failure.get() != null) {
+                // a dependency or another module failed, the transaction is going to be aborted
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                AutoCloseable instance = module.getInstance();
+                instantiationNanos.put(moduleIdentifier, System.nanoTime() - start);
+                checkNotNull(instance, "Instance is null:%s", moduleIdentifier);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, new IllegalStateException(
+                        format("Error - getInstance() failed for %s", moduleIdentifier), e));
+            }
+        }
+    }
+}
@@ -297,6 +297,14 @@ final class DependencyResolverImpl implements DependencyResolver,
         return name;
     }
 
+    /**
+     * @return copy of direct dependencies collected so far, during validation
+     *         and resolving of instances
+     */
+    synchronized Set<ModuleIdentifier> getDependencies() {
+        return new HashSet<>(dependencies);
+    }
+
     @Override
     public Object getAttribute(ObjectName name, String attribute)
             throws MBeanException, AttributeNotFoundException, InstanceNotFoundException, ReflectionException {
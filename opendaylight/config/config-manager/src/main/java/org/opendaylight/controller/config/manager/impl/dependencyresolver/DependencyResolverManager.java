@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.concurrent.GuardedBy;
 import javax.management.InstanceAlreadyExistsException;
 import javax.management.MBeanServer;
@@ -109,6 +110,21 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
         return result;
     }
 
+    /**
+     * Get direct dependencies of each module, dependencies of destroyed modules
+     * are not included. Can be used to instantiate modules that do not depend
+     * on each other in parallel.
+     */
+    public synchronized Map<ModuleIdentifier, Set<ModuleIdentifier>> getDependencies() {
+        transactionStatus.checkCommitStarted();
+        Map<ModuleIdentifier, Set<ModuleIdentifier>> result = new HashMap<>(
+                moduleIdentifiersToDependencyResolverMap.size());
+        for (Map.Entry<ModuleIdentifier, DependencyResolverImpl> entry : moduleIdentifiersToDependencyResolverMap.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getDependencies());
+        }
+        return result;
+    }
+
     public ModuleInternalTransactionalInfo destroyModule(
             final ModuleIdentifier moduleIdentifier) {
         transactionStatus.checkNotCommitted();
@@ -127,6 +143,7 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
 
         // optimization: subsequent calls to getInstance MUST return the same value during transaction,
         // so it is safe to cache the response
+        @GuardedBy("this")
         private Object cachedInstance;
 
         ModuleInvocationHandler(final DeadlockMonitor deadlockMonitor, final ModuleIdentifier moduleIdentifier, final Module module) {
@@ -137,27 +154,36 @@ public class DependencyResolverManager implements DependencyResolverFactory, Aut
 
         @Override
         protected Object handleInvocation(final Object proxy, final Method method, final Object[] args) throws Throwable {
-            boolean isGetInstance = "getInstance".equals(method.getName());
-            if (isGetInstance) {
-                if (cachedInstance != null) {
-                    return cachedInstance;
-                }
-
-                checkState(deadlockMonitor.isAlive(), "Deadlock monitor is not alive");
-                deadlockMonitor.setCurrentlyInstantiatedModule(moduleIdentifier);
+            if ("getInstance".equals(method.getName())) {
+                return getInstance(method, args);
+            }
+            return invoke(method, args);
+        }
+
+        /**
+         * Modules may be instantiated in parallel, in which case a dependency can be
+         * requested by more dependents at once. It has to be instantiated only once.
+         */
+        private synchronized Object getInstance(final Method method, final Object[] args) throws Throwable {
+            if (cachedInstance != null) {
+                return cachedInstance;
             }
+
+            checkState(deadlockMonitor.isAlive(), "Deadlock monitor is not alive");
+            deadlockMonitor.setCurrentlyInstantiatedModule(moduleIdentifier);
             try {
-                Object response = method.invoke(module, args);
-                if (isGetInstance) {
-                    cachedInstance = response;
-                }
-                return response;
+                cachedInstance = invoke(method, args);
+                return cachedInstance;
+            } finally {
+                deadlockMonitor.setCurrentlyInstantiatedModule(null);
+            }
+        }
+
+        private Object invoke(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(module, args);
             } catch(InvocationTargetException e) {
                 throw e.getCause();
-            } finally {
-                if (isGetInstance) {
-                    deadlockMonitor.setCurrentlyInstantiatedModule(null);
-                }
             }
         }
     }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.manager.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.config.api.ModuleIdentifier;
+import org.opendaylight.controller.config.spi.Module;
+
+public class ParallelModuleInstantiatorTest {
+
+    private final ModuleIdentifier apspName = new ModuleIdentifier("apsp", "apsp");
+    private final ModuleIdentifier threadPoolName = new ModuleIdentifier("threadpool", "threadpool");
+    private final ModuleIdentifier threadFactoryName = new ModuleIdentifier("threadfactory", "threadfactory");
+    private final ModuleIdentifier otherThreadFactoryName = new ModuleIdentifier("threadfactory", "other");
+
+    private final List<ModuleIdentifier> instantiated = Collections.synchronizedList(new ArrayList<ModuleIdentifier>());
+    private final Map<ModuleIdentifier, Module> modules = new HashMap<>();
+    private final Map<ModuleIdentifier, Set<ModuleIdentifier>> dependencies = new HashMap<>();
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        for (ModuleIdentifier name : new ModuleIdentifier[]{apspName, threadPoolName, threadFactoryName, otherThreadFactoryName}) {
+            modules.put(name, mockModule(name));
+        }
+        // apsp depends on threadpool, which depends on both thread factories
+        dependencies.put(apspName, ImmutableSet.of(threadPoolName));
+        dependencies.put(threadPoolName, ImmutableSet.of(threadFactoryName, otherThreadFactoryName));
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testDependenciesInstantiatedFirst() {
+        Map<ModuleIdentifier, Long> nanos = new ParallelModuleInstantiator(modules, dependencies).instantiate(pool);
+
+        assertEquals(modules.keySet(), nanos.keySet());
+        assertEquals(4, instantiated.size());
+        assertTrue(instantiated.indexOf(threadFactoryName) < instantiated.indexOf(threadPoolName));
+        assertTrue(instantiated.indexOf(otherThreadFactoryName) < instantiated.indexOf(threadPoolName));
+        assertTrue(instantiated.indexOf(threadPoolName) < instantiated.indexOf(apspName));
+    }
+
+    @Test
+    public void testMissingDependencyIgnored() {
+        modules.remove(threadFactoryName);
+
+        new ParallelModuleInstantiator(modules, dependencies).instantiate(pool);
+
+        assertEquals(3, instantiated.size());
+        assertTrue(instantiated.indexOf(threadPoolName) < instantiated.indexOf(apspName));
+    }
+
+    @Test
+    public void testFailureStopsDependents() {
+        Module failing = mock(Module.class);
+        doThrow(new IllegalArgumentException("expected")).when(failing).getInstance();
+        modules.put(threadPoolName, failing);
+
+        try {
+            new ParallelModuleInstantiator(modules, dependencies).instantiate(pool);
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(instantiated.contains(apspName) == false);
+        }
+    }
+
+    @Test
+    public void testFailureWaitsForRunningSiblings() {
+        final CountDownLatch siblingStarted = new CountDownLatch(1);
+        Module slowSibling = mock(Module.class);
+        doAnswer(new Answer<AutoCloseable>() {
+            @Override
+            public AutoCloseable answer(final InvocationOnMock invocation) throws InterruptedException {
+                siblingStarted.countDown();
+                Thread.sleep(500);
+                instantiated.add(otherThreadFactoryName);
+                return mock(AutoCloseable.class);
+            }
+        }).when(slowSibling).getInstance();
+        modules.put(otherThreadFactoryName, slowSibling);
+
+        Module failing = mock(Module.class);
+        doAnswer(new Answer<AutoCloseable>() {
+            @Override
+            public AutoCloseable answer(final InvocationOnMock invocation) throws InterruptedException {
+                // fail while the sibling is being instantiated
+                siblingStarted.await(5, TimeUnit.SECONDS);
+                throw new IllegalArgumentException("expected");
+            }
+        }).when(failing).getInstance();
+        modules.put(threadFactoryName, failing);
+
+        try {
+            new ParallelModuleInstantiator(modules, dependencies).instantiate(pool);
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            // the transaction is aborted after this, the sibling must not be running anymore
+            assertTrue(instantiated.contains(otherThreadFactoryName));
+            assertTrue(instantiated.contains(threadPoolName) == false);
+            assertTrue(instantiated.contains(apspName) == false);
+        }
+    }
+
+    private Module mockModule(final ModuleIdentifier name) {
+        Module module = mock(Module.class);
+        doAnswer(new Answer<AutoCloseable>() {
+            @Override
+            public AutoCloseable answer(final InvocationOnMock invocation) {
+                instantiated.add(name);
+                return mock(AutoCloseable.class);
+            }
+        }).when(module).getInstance();
+        return module;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.manager.testingservices.parallelapsp.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import javax.management.ObjectName;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.config.api.jmx.CommitStatus;
+import org.opendaylight.controller.config.api.jmx.ObjectNameUtil;
+import org.opendaylight.controller.config.manager.impl.factoriesresolver.HardcodedModuleFactoriesResolver;
+import org.opendaylight.controller.config.manager.testingservices.parallelapsp.TestingParallelAPSPConfigMXBean;
+import org.opendaylight.controller.config.manager.testingservices.parallelapsp.TestingParallelAPSPModuleFactory;
+import org.opendaylight.controller.config.manager.testingservices.seviceinterface.TestingThreadPoolServiceInterface;
+import org.opendaylight.controller.config.manager.testingservices.threadpool.TestingFixedThreadPoolConfigMXBean;
+import org.opendaylight.controller.config.manager.testingservices.threadpool.TestingFixedThreadPoolModuleFactory;
+import org.opendaylight.controller.config.util.BinaryConfigSnapshot;
+import org.opendaylight.controller.config.util.ConfigTransactionJMXClient;
+
+public class BinaryConfigSnapshotTest extends AbstractParallelAPSPTest {
+    private static final String REF_NAME = "ref";
+
+    @Before
+    public void setUp() {
+        super.initConfigTransactionManagerImpl(new HardcodedModuleFactoriesResolver(mockedContext,
+                new TestingFixedThreadPoolModuleFactory(),
+                new TestingParallelAPSPModuleFactory()));
+    }
+
+    @Override
+    protected String getThreadPoolImplementationName() {
+        return TestingFixedThreadPoolModuleFactory.NAME;
+    }
+
+    @Test
+    public void testCaptureAndApply() throws Exception {
+        ConfigTransactionJMXClient transaction = configRegistryClient.createTransaction();
+        ObjectName threadPoolON = createFixed1(transaction, 10);
+        ObjectName serviceReferenceON = transaction.saveServiceReference(TestingThreadPoolServiceInterface.QNAME,
+                REF_NAME, threadPoolON);
+        createParallelAPSP(transaction, serviceReferenceON);
+        transaction.commit();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryConfigSnapshot.capture(configRegistryClient).writeTo(bytes);
+        destroyAllConfigBeans();
+        assertTrue(configRegistryClient.lookupConfigBeans().isEmpty());
+
+        BinaryConfigSnapshot snapshot = BinaryConfigSnapshot.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(2, snapshot.getModuleIdentifiers().size());
+        CommitStatus status = snapshot.apply(configRegistryClient);
+        assertStatus(status, 2, 0, 0);
+
+        TestingFixedThreadPoolConfigMXBean threadPool = configRegistryClient.newMXBeanProxy(
+                configRegistryClient.lookupConfigBean(getThreadPoolImplementationName(), fixed1),
+                TestingFixedThreadPoolConfigMXBean.class);
+        assertEquals(10, threadPool.getThreadCount());
+        TestingParallelAPSPConfigMXBean apsp = configRegistryClient.newMXBeanProxy(
+                configRegistryClient.lookupConfigBean(TestingParallelAPSPModuleFactory.NAME, apsp1),
+                TestingParallelAPSPConfigMXBean.class);
+        assertEquals("ahoj", apsp.getSomeParam());
+        assertEquals(ObjectNameUtil.withoutTransactionName(serviceReferenceON), apsp.getThreadPool());
+        assertEquals(ObjectNameUtil.withoutTransactionName(threadPoolON), configRegistryClient
+                .getServiceMapping().get(TestingThreadPoolServiceInterface.QNAME).get(REF_NAME));
+
+        // applying the same snapshot again does not create new instances
+        assertTrue(snapshot.apply(configRegistryClient).getNewInstances().isEmpty());
+    }
+
+    @Test
+    public void testUnsupportedVersion() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryConfigSnapshot.MAGIC);
+        out.writeInt(BinaryConfigSnapshot.FORMAT_VERSION + 1);
+        try {
+            BinaryConfigSnapshot.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("Unsupported binary config snapshot version"));
+        }
+    }
+}
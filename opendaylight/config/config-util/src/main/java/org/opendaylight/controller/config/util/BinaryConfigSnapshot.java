@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import javax.management.Attribute;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+import org.opendaylight.controller.config.api.ConflictingVersionException;
+import org.opendaylight.controller.config.api.ModuleIdentifier;
+import org.opendaylight.controller.config.api.ValidationException;
+import org.opendaylight.controller.config.api.jmx.CommitStatus;
+import org.opendaylight.controller.config.api.jmx.ObjectNameUtil;
+
+/**
+ * Resolved configuration of all modules, i.e. attribute values including dependencies, and service references
+ * read from config registry. Unlike the XML snapshots of config persister, it can be applied directly to config
+ * registry without translation through yang schemas and config-netconf-connector.
+ * <p/>
+ * Attribute values are stored as open type values exposed by config beans, dependencies as object names
+ * of modules or service references without transaction name. Serialized form starts with {@link #MAGIC} and
+ * {@link #FORMAT_VERSION}, the rest is deflated.
+ */
+public final class BinaryConfigSnapshot {
+
+    public static final int MAGIC = 0x4f444c43; // "ODLC"
+    public static final int FORMAT_VERSION = 1;
+
+    private final Map<ModuleIdentifier, Map<String, Object>> modules;
+    private final Map<String, Map<String, ModuleIdentifier>> serviceMapping;
+
+    private BinaryConfigSnapshot(Map<ModuleIdentifier, Map<String, Object>> modules,
+            Map<String, Map<String, ModuleIdentifier>> serviceMapping) {
+        this.modules = modules;
+        this.serviceMapping = serviceMapping;
+    }
+
+    /**
+     * Read current configuration of all modules. Reading is repeated if a transaction is committed in the meantime.
+     */
+    public static BinaryConfigSnapshot capture(ConfigRegistryClient configRegistryClient) {
+        while (true) {
+            long version = configRegistryClient.getVersion();
+            BinaryConfigSnapshot snapshot = captureVersion(configRegistryClient);
+            if (version == configRegistryClient.getVersion()) {
+                return snapshot;
+            }
+        }
+    }
+
+    private static BinaryConfigSnapshot captureVersion(ConfigRegistryClient configRegistryClient) {
+        Map<ModuleIdentifier, Map<String, Object>> modules = new LinkedHashMap<>();
+        for (ObjectName moduleON : configRegistryClient.lookupConfigBeans()) {
+            MBeanInfo mBeanInfo = (MBeanInfo) configRegistryClient.getAttributeCurrentValue(moduleON, "MBeanInfo");
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            for (MBeanAttributeInfo attributeInfo : mBeanInfo.getAttributes()) {
+                Object value = configRegistryClient.getAttributeCurrentValue(moduleON, attributeInfo.getName());
+                if (value != null) {
+                    attributes.put(attributeInfo.getName(), value);
+                }
+            }
+            modules.put(toModuleIdentifier(moduleON), attributes);
+        }
+
+        Map<String, Map<String, ModuleIdentifier>> serviceMapping = new HashMap<>();
+        for (Entry<String, Map<String, ObjectName>> service : configRegistryClient.getServiceMapping().entrySet()) {
+            Map<String, ModuleIdentifier> refNames = new HashMap<>();
+            for (Entry<String, ObjectName> refName : service.getValue().entrySet()) {
+                refNames.put(refName.getKey(), toModuleIdentifier(refName.getValue()));
+            }
+            serviceMapping.put(service.getKey(), refNames);
+        }
+        return new BinaryConfigSnapshot(modules, serviceMapping);
+    }
+
+    private static ModuleIdentifier toModuleIdentifier(ObjectName moduleON) {
+        return new ModuleIdentifier(ObjectNameUtil.getFactoryName(moduleON), ObjectNameUtil.getInstanceName(moduleON));
+    }
+
+    /**
+     * @return names of module factories that have to be available before this snapshot can be applied
+     */
+    public Set<String> getRequiredModuleNames() {
+        Set<String> result = new HashSet<>();
+        for (ModuleIdentifier moduleIdentifier : modules.keySet()) {
+            result.add(moduleIdentifier.getFactoryName());
+        }
+        return result;
+    }
+
+    public Set<ModuleIdentifier> getModuleIdentifiers() {
+        return Collections.unmodifiableSet(modules.keySet());
+    }
+
+    public Map<String, Object> getAttributes(ModuleIdentifier moduleIdentifier) {
+        return Collections.unmodifiableMap(modules.get(moduleIdentifier));
+    }
+
+    /**
+     * Create or reconfigure all modules and save all service references of this snapshot in a single transaction.
+     * Modules and service references not present in this snapshot are left untouched.
+     */
+    public CommitStatus apply(ConfigRegistryClient configRegistryClient)
+            throws ConflictingVersionException, ValidationException {
+        ConfigTransactionClient transaction = configRegistryClient.createTransaction();
+        try {
+            Map<ModuleIdentifier, ObjectName> transactionONs = new HashMap<>();
+            for (ModuleIdentifier moduleIdentifier : modules.keySet()) {
+                transactionONs.put(moduleIdentifier, getOrCreateModule(transaction, moduleIdentifier));
+            }
+            for (Entry<ModuleIdentifier, Map<String, Object>> module : modules.entrySet()) {
+                ObjectName transactionON = transactionONs.get(module.getKey());
+                for (Entry<String, Object> attribute : module.getValue().entrySet()) {
+                    transaction.setAttribute(transactionON, attribute.getKey(),
+                            new Attribute(attribute.getKey(), attribute.getValue()));
+                }
+            }
+            for (Entry<String, Map<String, ModuleIdentifier>> service : serviceMapping.entrySet()) {
+                for (Entry<String, ModuleIdentifier> refName : service.getValue().entrySet()) {
+                    ObjectName transactionON = transactionONs.get(refName.getValue());
+                    if (transactionON == null) {
+                        throw new IllegalStateException("Service reference " + refName.getKey() + " of "
+                                + service.getKey() + " points to unknown module " + refName.getValue());
+                    }
+                    transaction.saveServiceReference(service.getKey(), refName.getKey(), transactionON);
+                }
+            }
+        } catch (InstanceNotFoundException e) {
+            transaction.abortConfig();
+            throw new IllegalStateException("Unable to apply " + this, e);
+        } catch (RuntimeException e) {
+            transaction.abortConfig();
+            throw e;
+        }
+        try {
+            return transaction.commit();
+        } catch (ConflictingVersionException | ValidationException e) {
+            // failed commit leaves the transaction open
+            transaction.abortConfig();
+            throw e;
+        }
+    }
+
+    private static ObjectName getOrCreateModule(ConfigTransactionClient transaction,
+            ModuleIdentifier moduleIdentifier) throws InstanceNotFoundException {
+        try {
+            return transaction.createModule(moduleIdentifier.getFactoryName(), moduleIdentifier.getInstanceName());
+        } catch (InstanceAlreadyExistsException e) {
+            return transaction.lookupConfigBean(moduleIdentifier.getFactoryName(), moduleIdentifier.getInstanceName());
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.flush();
+
+        DeflaterOutputStream deflater = new DeflaterOutputStream(outputStream, new Deflater(Deflater.BEST_SPEED));
+        ObjectOutputStream out = new ObjectOutputStream(deflater);
+        out.writeInt(modules.size());
+        for (Entry<ModuleIdentifier, Map<String, Object>> module : modules.entrySet()) {
+            writeModuleIdentifier(out, module.getKey());
+            out.writeInt(module.getValue().size());
+            for (Entry<String, Object> attribute : module.getValue().entrySet()) {
+                out.writeUTF(attribute.getKey());
+                out.writeObject(attribute.getValue());
+            }
+        }
+        out.writeInt(serviceMapping.size());
+        for (Entry<String, Map<String, ModuleIdentifier>> service : serviceMapping.entrySet()) {
+            out.writeUTF(service.getKey());
+            out.writeInt(service.getValue().size());
+            for (Entry<String, ModuleIdentifier> refName : service.getValue().entrySet()) {
+                out.writeUTF(refName.getKey());
+                writeModuleIdentifier(out, refName.getValue());
+            }
+        }
+        out.flush();
+        deflater.finish();
+    }
+
+    /**
+     * @throws IOException if the stream does not contain snapshot in {@link #FORMAT_VERSION}
+     */
+    public static BinaryConfigSnapshot readFrom(InputStream inputStream) throws IOException {
+        DataInputStream header = new DataInputStream(inputStream);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a binary config snapshot");
+        }
+        int version = header.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary config snapshot version " + version + ", expected " + FORMAT_VERSION);
+        }
+
+        ObjectInputStream in = new OpenTypeObjectInputStream(new InflaterInputStream(inputStream));
+        try {
+            Map<ModuleIdentifier, Map<String, Object>> modules = new LinkedHashMap<>();
+            for (int moduleCount = in.readInt(); moduleCount > 0; moduleCount--) {
+                ModuleIdentifier moduleIdentifier = readModuleIdentifier(in);
+                Map<String, Object> attributes = new LinkedHashMap<>();
+                for (int attributeCount = in.readInt(); attributeCount > 0; attributeCount--) {
+                    attributes.put(in.readUTF(), in.readObject());
+                }
+                modules.put(moduleIdentifier, attributes);
+            }
+            Map<String, Map<String, ModuleIdentifier>> serviceMapping = new HashMap<>();
+            for (int serviceCount = in.readInt(); serviceCount > 0; serviceCount--) {
+                String serviceInterfaceName = in.readUTF();
+                Map<String, ModuleIdentifier> refNames = new HashMap<>();
+                for (int refNameCount = in.readInt(); refNameCount > 0; refNameCount--) {
+                    refNames.put(in.readUTF(), readModuleIdentifier(in));
+                }
+                serviceMapping.put(serviceInterfaceName, refNames);
+            }
+            return new BinaryConfigSnapshot(modules, serviceMapping);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unexpected attribute value in binary config snapshot", e);
+        }
+    }
+
+    private static void writeModuleIdentifier(ObjectOutputStream out, ModuleIdentifier moduleIdentifier)
+            throws IOException {
+        out.writeUTF(moduleIdentifier.getFactoryName());
+        out.writeUTF(moduleIdentifier.getInstanceName());
+    }
+
+    private static ModuleIdentifier readModuleIdentifier(ObjectInputStream in) throws IOException {
+        return new ModuleIdentifier(in.readUTF(), in.readUTF());
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryConfigSnapshot{" +
+                "modules=" + modules.keySet() +
+                ", serviceMapping=" + serviceMapping +
+                '}';
+    }
+
+    /**
+     * Config beans expose only open types and object names, nothing else is expected in the snapshot.
+     */
+    private static final class OpenTypeObjectInputStream extends ObjectInputStream {
+        private static final List<String> ALLOWED_PACKAGE_PREFIXES = new ArrayList<>();
+
+        static {
+            ALLOWED_PACKAGE_PREFIXES.add("java.lang.");
+            ALLOWED_PACKAGE_PREFIXES.add("java.math.");
+            ALLOWED_PACKAGE_PREFIXES.add("java.util.");
+            ALLOWED_PACKAGE_PREFIXES.add("javax.management.");
+        }
+
+        OpenTypeObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            // arrays of allowed types, primitive arrays
+            String componentName = name.replaceFirst("^\\[+L?", "").replace(";", "");
+            if (componentName.length() > 1) {
+                boolean allowed = false;
+                for (String prefix : ALLOWED_PACKAGE_PREFIXES) {
+                    allowed |= componentName.startsWith(prefix);
+                }
+                if (allowed == false) {
+                    throw new InvalidClassException(name, "Not allowed in binary config snapshot");
+                }
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in binary config snapshot");
+        }
+    }
+}
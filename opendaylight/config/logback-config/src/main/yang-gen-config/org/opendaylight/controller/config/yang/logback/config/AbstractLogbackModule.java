@@ -0,0 +1,175 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: config-logging yang module local name: logback
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:15 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.logback.config;
+/**
+* Actual state of logback configuration.
+*/
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:logback:config", name = "config-logging", revision = "2013-07-16")
+
+@org.opendaylight.controller.config.api.annotations.Description(value="Actual state of logback configuration.")
+public abstract class AbstractLogbackModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractLogbackModule> implements org.opendaylight.controller.config.yang.logback.config.LogbackModuleMXBean,org.opendaylight.controller.config.api.RuntimeBeanRegistratorAwareModule {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.logback.config.AbstractLogbackModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute rollingAppendersJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("RollingFileAppenderTO");
+    private java.util.List<org.opendaylight.controller.config.yang.logback.config.RollingFileAppenderTO> rollingAppenders = new java.util.ArrayList<org.opendaylight.controller.config.yang.logback.config.RollingFileAppenderTO>();
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute loggersJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("LoggerTO");
+    private java.util.List<org.opendaylight.controller.config.yang.logback.config.LoggerTO> loggers = new java.util.ArrayList<org.opendaylight.controller.config.yang.logback.config.LoggerTO>();
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute consoleAppendersJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ConsoleAppenderTO");
+    private java.util.List<org.opendaylight.controller.config.yang.logback.config.ConsoleAppenderTO> consoleAppenders = new java.util.ArrayList<org.opendaylight.controller.config.yang.logback.config.ConsoleAppenderTO>();
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute fileAppendersJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("FileAppenderTO");
+    private java.util.List<org.opendaylight.controller.config.yang.logback.config.FileAppenderTO> fileAppenders = new java.util.ArrayList<org.opendaylight.controller.config.yang.logback.config.FileAppenderTO>();
+
+    //attributes end
+
+    public AbstractLogbackModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractLogbackModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractLogbackModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    private org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeRegistrator rootRuntimeBeanRegistratorWrapper;
+
+    public org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeRegistrator getRootRuntimeBeanRegistratorWrapper(){
+        return rootRuntimeBeanRegistratorWrapper;
+    }
+
+    @Override
+    public void setRuntimeBeanRegistrator(org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeRegistrator){
+        this.rootRuntimeBeanRegistratorWrapper = new org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeRegistrator(rootRuntimeRegistrator);
+    }
+
+    @Override
+    public void validate() {
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    protected final void resolveDependencies() {
+        if (rollingAppenders!=null){
+            for(org.opendaylight.controller.config.yang.logback.config.RollingFileAppenderTO candidate : rollingAppenders) {
+                candidate.injectDependencyResolver(dependencyResolver);
+            }
+        }
+        if (loggers!=null){
+            for(org.opendaylight.controller.config.yang.logback.config.LoggerTO candidate : loggers) {
+                candidate.injectDependencyResolver(dependencyResolver);
+            }
+        }
+        if (consoleAppenders!=null){
+            for(org.opendaylight.controller.config.yang.logback.config.ConsoleAppenderTO candidate : consoleAppenders) {
+                candidate.injectDependencyResolver(dependencyResolver);
+            }
+        }
+        if (fileAppenders!=null){
+            for(org.opendaylight.controller.config.yang.logback.config.FileAppenderTO candidate : fileAppenders) {
+                candidate.injectDependencyResolver(dependencyResolver);
+            }
+        }
+    }
+
+    public boolean canReuseInstance(AbstractLogbackModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractLogbackModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(rollingAppenders, other.rollingAppenders) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(loggers, other.loggers) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(consoleAppenders, other.consoleAppenders) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(fileAppenders, other.fileAppenders) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractLogbackModule that = (AbstractLogbackModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.util.List<org.opendaylight.controller.config.yang.logback.config.RollingFileAppenderTO> getRollingFileAppenderTO() {
+        return rollingAppenders;
+    }
+
+    @Override
+    public void setRollingFileAppenderTO(java.util.List<org.opendaylight.controller.config.yang.logback.config.RollingFileAppenderTO> rollingAppenders) {
+        this.rollingAppenders = rollingAppenders;
+    }
+
+    @Override
+    public java.util.List<org.opendaylight.controller.config.yang.logback.config.LoggerTO> getLoggerTO() {
+        return loggers;
+    }
+
+    @Override
+    public void setLoggerTO(java.util.List<org.opendaylight.controller.config.yang.logback.config.LoggerTO> loggers) {
+        this.loggers = loggers;
+    }
+
+    @Override
+    public java.util.List<org.opendaylight.controller.config.yang.logback.config.ConsoleAppenderTO> getConsoleAppenderTO() {
+        return consoleAppenders;
+    }
+
+    @Override
+    public void setConsoleAppenderTO(java.util.List<org.opendaylight.controller.config.yang.logback.config.ConsoleAppenderTO> consoleAppenders) {
+        this.consoleAppenders = consoleAppenders;
+    }
+
+    @Override
+    public java.util.List<org.opendaylight.controller.config.yang.logback.config.FileAppenderTO> getFileAppenderTO() {
+        return fileAppenders;
+    }
+
+    @Override
+    public void setFileAppenderTO(java.util.List<org.opendaylight.controller.config.yang.logback.config.FileAppenderTO> fileAppenders) {
+        this.fileAppenders = fileAppenders;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: config-logging yang module local name: logback
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:14 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.logback.config;
+/**
+* Actual state of logback configuration.
+*/
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:logback:config", name = "config-logging", revision = "2013-07-16")
+
+@org.opendaylight.controller.config.api.annotations.Description(value="Actual state of logback configuration.")
+public abstract class AbstractLogbackModuleFactory implements org.opendaylight.controller.config.spi.ModuleFactory {
+    public static final java.lang.String NAME = "logback";
+
+    private static final java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> serviceIfcs;
+
+    @Override
+    public final String getImplementationName() {
+        return NAME;
+    }
+
+    static {
+        java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> serviceIfcs2 = new java.util.HashSet<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>>();
+        serviceIfcs = java.util.Collections.unmodifiableSet(serviceIfcs2);
+    }
+
+    @Override
+    public final boolean isModuleImplementingServiceInterface(Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface> serviceInterface) {
+        for (Class<?> ifc: serviceIfcs) {
+            if (serviceInterface.isAssignableFrom(ifc)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public java.util.Set<Class<? extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface>> getImplementedServiceIntefaces() {
+        return serviceIfcs;
+    }
+
+    @Override
+    public org.opendaylight.controller.config.spi.Module createModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.osgi.framework.BundleContext bundleContext) {
+        return instantiateModule(instanceName, dependencyResolver, bundleContext);
+    }
+
+    @Override
+    public org.opendaylight.controller.config.spi.Module createModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.opendaylight.controller.config.api.DynamicMBeanWithInstance old, org.osgi.framework.BundleContext bundleContext) throws Exception {
+        org.opendaylight.controller.config.yang.logback.config.LogbackModule oldModule = null;
+        try {
+            oldModule = (org.opendaylight.controller.config.yang.logback.config.LogbackModule) old.getModule();
+        } catch(Exception e) {
+            return handleChangedClass(old);
+        }
+        org.opendaylight.controller.config.yang.logback.config.LogbackModule module = instantiateModule(instanceName, dependencyResolver, oldModule, old.getInstance(), bundleContext);
+        module.setRollingFileAppenderTO(oldModule.getRollingFileAppenderTO());
+        module.setLoggerTO(oldModule.getLoggerTO());
+        module.setConsoleAppenderTO(oldModule.getConsoleAppenderTO());
+        module.setFileAppenderTO(oldModule.getFileAppenderTO());
+
+        return module;
+    }
+
+    public org.opendaylight.controller.config.yang.logback.config.LogbackModule instantiateModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.opendaylight.controller.config.yang.logback.config.LogbackModule oldModule, java.lang.AutoCloseable oldInstance, org.osgi.framework.BundleContext bundleContext) {
+        return new org.opendaylight.controller.config.yang.logback.config.LogbackModule(new org.opendaylight.controller.config.api.ModuleIdentifier(NAME, instanceName), dependencyResolver, oldModule, oldInstance);
+    }
+
+    public org.opendaylight.controller.config.yang.logback.config.LogbackModule instantiateModule(String instanceName, org.opendaylight.controller.config.api.DependencyResolver dependencyResolver, org.osgi.framework.BundleContext bundleContext) {
+        return new org.opendaylight.controller.config.yang.logback.config.LogbackModule(new org.opendaylight.controller.config.api.ModuleIdentifier(NAME, instanceName), dependencyResolver);
+    }
+
+    public org.opendaylight.controller.config.yang.logback.config.LogbackModule handleChangedClass(org.opendaylight.controller.config.api.DynamicMBeanWithInstance old) throws Exception {
+        throw new UnsupportedOperationException("Class reloading is not supported");
+    }
+
+    @Override
+    public java.util.Set<org.opendaylight.controller.config.yang.logback.config.LogbackModule> getDefaultModules(org.opendaylight.controller.config.api.DependencyResolverFactory dependencyResolverFactory, org.osgi.framework.BundleContext bundleContext) {
+        return new java.util.HashSet<org.opendaylight.controller.config.yang.logback.config.LogbackModule>();
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.opendaylight.controller.config.yang.logback.config;
+public class LogbackRuntimeRegistrator implements java.io.Closeable {
+    private final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator;
+
+    public  LogbackRuntimeRegistrator(final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator) {
+        this.rootRuntimeBeanRegistrator=rootRuntimeBeanRegistrator;
+
+    }
+
+    public org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeRegistration register(org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeMXBean rb) {
+        org.opendaylight.controller.config.api.runtime.HierarchicalRuntimeBeanRegistration registration = this.rootRuntimeBeanRegistrator.registerRoot(rb);
+        return new org.opendaylight.controller.config.yang.logback.config.LogbackRuntimeRegistration(registration);
+
+    }
+
+    @Override
+    public void close() {
+        rootRuntimeBeanRegistrator.close();
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: config-logging yang module local name: logback
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:14 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.logback.config;
+public class LoggerTO {
+    private org.opendaylight.controller.config.api.DependencyResolver dependencyResolver;
+
+    private java.lang.String loggerName;
+
+    private java.util.List<java.lang.String> appenders;
+
+    private java.lang.String level;
+
+    public LoggerTO () {
+        super();
+    }
+
+    public void injectDependencyResolver(org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        this.dependencyResolver = dependencyResolver;
+    }
+
+    public java.lang.String getLoggerName() {
+        return loggerName;
+    }
+
+    public void setLoggerName(java.lang.String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public java.util.List<java.lang.String> getAppenders() {
+        return appenders;
+    }
+
+    public void setAppenders(java.util.List<java.lang.String> appenders) {
+        this.appenders = appenders;
+    }
+
+    public java.lang.String getLevel() {
+        return level;
+    }
+
+    public void setLevel(java.lang.String level) {
+        this.level = level;
+    }
+
+}
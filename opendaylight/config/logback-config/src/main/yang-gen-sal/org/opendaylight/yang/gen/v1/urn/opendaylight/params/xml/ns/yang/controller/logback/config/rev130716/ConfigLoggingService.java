@@ -0,0 +1,34 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.logback.config.rev130716;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;config-logging&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/config-logging.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc reset {
+ *     input {
+ *         leaf context-instance {
+ *             type instance-identifier;
+ *         }
+ *     }
+ *     
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface ConfigLoggingService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<java.lang.Void>> reset(ResetInput input);
+
+}
+
@@ -0,0 +1,38 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.logback.config.rev130716;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.BaseIdentity;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;config-logging&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/config-logging.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity logback-rpc {
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;config-logging/logback-rpc&lt;/i&gt;
+ *
+ */
+public abstract class LogbackRpc extends BaseIdentity
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:logback:config","2013-07-16","logback-rpc"));
+
+
+    public LogbackRpc() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
@@ -0,0 +1,43 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.rev131119;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ServiceType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Configuration wrapper around netty's timer
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;netty&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/netty.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity netty-timer {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)service-type]";
+ *     description
+ *         "Configuration wrapper around netty's timer";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;netty/netty-timer&lt;/i&gt;
+ *
+ */
+public abstract class NettyTimer extends ServiceType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:netty","2013-11-19","netty-timer"));
+
+
+    public NettyTimer() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
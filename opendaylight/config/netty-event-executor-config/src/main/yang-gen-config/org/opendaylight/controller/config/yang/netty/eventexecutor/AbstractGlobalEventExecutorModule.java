@@ -0,0 +1,77 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: netty-event-executor yang module local name: netty-global-event-executor
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:31 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netty.eventexecutor;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:netty:eventexecutor", name = "netty-event-executor", revision = "2013-11-12")
+
+public abstract class AbstractGlobalEventExecutorModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractGlobalEventExecutorModule> implements org.opendaylight.controller.config.yang.netty.eventexecutor.GlobalEventExecutorModuleMXBean,org.opendaylight.controller.config.yang.netty.EventExecutorServiceInterface {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.netty.eventexecutor.AbstractGlobalEventExecutorModule.class);
+
+    //attributes start
+
+    //attributes end
+
+    public AbstractGlobalEventExecutorModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractGlobalEventExecutorModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractGlobalEventExecutorModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    protected final void resolveDependencies() {
+    }
+
+    public boolean canReuseInstance(AbstractGlobalEventExecutorModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractGlobalEventExecutorModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractGlobalEventExecutorModule that = (AbstractGlobalEventExecutorModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadgroup yang module local name: netty-threadgroup-fixed
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:30 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:netty:threadgroup", name = "threadgroup", revision = "2013-11-07")
+
+public abstract class AbstractNettyThreadgroupModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractNettyThreadgroupModule> implements org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupModuleMXBean,org.opendaylight.controller.config.yang.netty.EventLoopGroupServiceInterface,org.opendaylight.controller.config.api.RuntimeBeanRegistratorAwareModule {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.netty.threadgroup.AbstractNettyThreadgroupModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute threadCountJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ThreadCount");
+    private java.lang.Integer threadCount;
+
+    //attributes end
+
+    public AbstractNettyThreadgroupModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractNettyThreadgroupModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractNettyThreadgroupModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    private org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeRegistrator rootRuntimeBeanRegistratorWrapper;
+
+    public org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeRegistrator getRootRuntimeBeanRegistratorWrapper(){
+        return rootRuntimeBeanRegistratorWrapper;
+    }
+
+    @Override
+    public void setRuntimeBeanRegistrator(org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeRegistrator){
+        this.rootRuntimeBeanRegistratorWrapper = new org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeRegistrator(rootRuntimeRegistrator);
+    }
+
+    @Override
+    public void validate() {
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    protected final void resolveDependencies() {
+    }
+
+    public boolean canReuseInstance(AbstractNettyThreadgroupModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractNettyThreadgroupModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(threadCount, other.threadCount) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractNettyThreadgroupModule that = (AbstractNettyThreadgroupModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.lang.Integer getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+    * Number of threads to be used by NioEventLoopGroup. This attribute is optional and default value will be 2* Number of CPUs
+    */
+    @Override
+    @org.opendaylight.controller.config.api.annotations.Description(value = "Number of threads to be used by NioEventLoopGroup. This attribute is optional and default value will be 2* Number of CPUs")
+    public void setThreadCount(java.lang.Integer threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,19 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadgroup yang module local name: netty-threadgroup-fixed
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:30 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+public interface NettyThreadgroupModuleMXBean {
+    public java.lang.Integer getThreadCount();
+
+    /**
+    * Number of threads to be used by NioEventLoopGroup. This attribute is optional and default value will be 2* Number of CPUs
+    */
+    public void setThreadCount(java.lang.Integer threadCount);
+
+}
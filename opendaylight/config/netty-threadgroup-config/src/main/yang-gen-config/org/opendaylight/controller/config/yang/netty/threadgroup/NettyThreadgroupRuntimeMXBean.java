@@ -0,0 +1,4 @@
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+public interface NettyThreadgroupRuntimeMXBean extends org.opendaylight.controller.config.api.runtime.RuntimeBean {
+
+}
@@ -0,0 +1,21 @@
+package org.opendaylight.controller.config.yang.netty.threadgroup;
+public class NettyThreadgroupRuntimeRegistrator implements java.io.Closeable {
+    private final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator;
+
+    public  NettyThreadgroupRuntimeRegistrator(final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator) {
+        this.rootRuntimeBeanRegistrator=rootRuntimeBeanRegistrator;
+
+    }
+
+    public org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeRegistration register(org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeMXBean rb) {
+        org.opendaylight.controller.config.api.runtime.HierarchicalRuntimeBeanRegistration registration = this.rootRuntimeBeanRegistrator.registerRoot(rb);
+        return new org.opendaylight.controller.config.yang.netty.threadgroup.NettyThreadgroupRuntimeRegistration(registration);
+
+    }
+
+    @Override
+    public void close() {
+        rootRuntimeBeanRegistrator.close();
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.threadgroup.rev131107.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.modules.module.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;threadgroup&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/netty-threadgroup.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case netty-threadgroup-fixed {
+ *     leaf thread-count {
+ *         type uint16;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;threadgroup/modules/module/configuration/(urn:opendaylight:params:xml:ns:yang:controller:netty:threadgroup?revision=2013-11-07)netty-threadgroup-fixed&lt;/i&gt;
+ *
+ */
+public interface NettyThreadgroupFixed
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.threadgroup.rev131107.modules.module.configuration.NettyThreadgroupFixed>,
+    Configuration
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:netty:threadgroup","2013-11-07","netty-threadgroup-fixed"));
+
+    /**
+     * Number of threads to be used by NioEventLoopGroup. This attribute is optional 
+     * and default value will be 2* Number of CPUs
+     *
+     */
+    java.lang.Integer getThreadCount();
+
+}
+
@@ -0,0 +1,141 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: netty-timer yang module local name: netty-hashed-wheel-timer
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:33 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netty.timer;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:netty:timer", name = "netty-timer", revision = "2013-11-19")
+
+public abstract class AbstractHashedWheelTimerModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractHashedWheelTimerModule> implements org.opendaylight.controller.config.yang.netty.timer.HashedWheelTimerModuleMXBean,org.opendaylight.controller.config.yang.netty.TimerServiceInterface {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.netty.timer.AbstractHashedWheelTimerModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute threadFactoryJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ThreadFactory");
+    private javax.management.ObjectName threadFactory; // optional
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute tickDurationJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("TickDuration");
+    private java.lang.Long tickDuration;
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute ticksPerWheelJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("TicksPerWheel");
+    private java.lang.Integer ticksPerWheel;
+
+    //attributes end
+
+    public AbstractHashedWheelTimerModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractHashedWheelTimerModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractHashedWheelTimerModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+        if(threadFactory != null) {
+            dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.threadpool.ThreadFactoryServiceInterface.class, threadFactory, threadFactoryJmxAttribute);
+        }
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private java.util.concurrent.ThreadFactory threadFactoryDependency;
+    protected final java.util.concurrent.ThreadFactory getThreadFactoryDependency(){
+        return threadFactoryDependency;
+    }
+
+    protected final void resolveDependencies() {
+        if (threadFactory!=null) {
+            threadFactoryDependency = dependencyResolver.resolveInstance(java.util.concurrent.ThreadFactory.class, threadFactory, threadFactoryJmxAttribute);
+        }
+    }
+
+    public boolean canReuseInstance(AbstractHashedWheelTimerModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractHashedWheelTimerModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(threadFactory, other.threadFactory) == false) {
+            return false;
+        }
+        if(threadFactory!= null) {
+            if (!dependencyResolver.canReuseDependency(threadFactory, threadFactoryJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+        if (java.util.Objects.deepEquals(tickDuration, other.tickDuration) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(ticksPerWheel, other.ticksPerWheel) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractHashedWheelTimerModule that = (AbstractHashedWheelTimerModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public javax.management.ObjectName getThreadFactory() {
+        return threadFactory;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.threadpool.ThreadFactoryServiceInterface.class)
+    public void setThreadFactory(javax.management.ObjectName threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public java.lang.Long getTickDuration() {
+        return tickDuration;
+    }
+
+    @Override
+    public void setTickDuration(java.lang.Long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    @Override
+    public java.lang.Integer getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    @Override
+    public void setTicksPerWheel(java.lang.Integer ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,24 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: netty-timer yang module local name: netty-hashed-wheel-timer
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:33 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netty.timer;
+public interface HashedWheelTimerModuleMXBean {
+    public javax.management.ObjectName getThreadFactory();
+
+    public void setThreadFactory(javax.management.ObjectName threadFactory);
+
+    public java.lang.Long getTickDuration();
+
+    public void setTickDuration(java.lang.Long tickDuration);
+
+    public java.lang.Integer getTicksPerWheel();
+
+    public void setTicksPerWheel(java.lang.Integer ticksPerWheel);
+
+}
@@ -0,0 +1,59 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.timer.rev131119.modules.module.configuration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.timer.rev131119.modules.module.configuration.netty.hashed.wheel.timer.ThreadFactory;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.modules.module.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;netty-timer&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/netty-timer.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case netty-hashed-wheel-timer {
+ *     leaf tick-duration {
+ *         type uint32;
+ *     }
+ *     leaf ticks-per-wheel {
+ *         type uint16;
+ *     }
+ *     container thread-factory {
+ *         leaf type {
+ *             type leafref;
+ *         }
+ *         leaf name {
+ *             type leafref;
+ *         }
+ *         uses service-ref {
+ *             refine (urn:opendaylight:params:xml:ns:yang:controller:netty:timer?revision=2013-11-19)type {
+ *                 leaf type {
+ *                     type leafref;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;netty-timer/modules/module/configuration/(urn:opendaylight:params:xml:ns:yang:controller:netty:timer?revision=2013-11-19)netty-hashed-wheel-timer&lt;/i&gt;
+ *
+ */
+public interface NettyHashedWheelTimer
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netty.timer.rev131119.modules.module.configuration.NettyHashedWheelTimer>,
+    Configuration
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:netty:timer","2013-11-19","netty-hashed-wheel-timer"));
+
+    java.lang.Long getTickDuration();
+    
+    java.lang.Integer getTicksPerWheel();
+    
+    ThreadFactory getThreadFactory();
+
+}
+
@@ -0,0 +1,103 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: shutdown-impl yang module local name: shutdown
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:34 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.shutdown.impl;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:shutdown:impl", name = "shutdown-impl", revision = "2013-12-18")
+
+public abstract class AbstractShutdownModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractShutdownModule> implements org.opendaylight.controller.config.yang.shutdown.impl.ShutdownModuleMXBean,org.opendaylight.controller.config.yang.shutdown.ShutdownServiceServiceInterface,org.opendaylight.controller.config.api.RuntimeBeanRegistratorAwareModule {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.shutdown.impl.AbstractShutdownModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute secretJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("Secret");
+    private java.lang.String secret = "";
+
+    //attributes end
+
+    public AbstractShutdownModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractShutdownModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractShutdownModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    private org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeRegistrator rootRuntimeBeanRegistratorWrapper;
+
+    public org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeRegistrator getRootRuntimeBeanRegistratorWrapper(){
+        return rootRuntimeBeanRegistratorWrapper;
+    }
+
+    @Override
+    public void setRuntimeBeanRegistrator(org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeRegistrator){
+        this.rootRuntimeBeanRegistratorWrapper = new org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeRegistrator(rootRuntimeRegistrator);
+    }
+
+    @Override
+    public void validate() {
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    protected final void resolveDependencies() {
+    }
+
+    public boolean canReuseInstance(AbstractShutdownModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractShutdownModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(secret, other.secret) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractShutdownModule that = (AbstractShutdownModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.lang.String getSecret() {
+        return secret;
+    }
+
+    @Override
+    public void setSecret(java.lang.String secret) {
+        this.secret = secret;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,16 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: shutdown-impl yang module local name: shutdown
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:34 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.shutdown.impl;
+public interface ShutdownModuleMXBean {
+    public java.lang.String getSecret();
+
+    public void setSecret(java.lang.String secret);
+
+}
@@ -0,0 +1,5 @@
+package org.opendaylight.controller.config.yang.shutdown.impl;
+public interface ShutdownRuntimeMXBean extends org.opendaylight.controller.config.api.runtime.RuntimeBean {
+    public void shutdown(java.lang.String inputSecret, java.lang.Long maxWaitTime, java.lang.String reason);
+
+}
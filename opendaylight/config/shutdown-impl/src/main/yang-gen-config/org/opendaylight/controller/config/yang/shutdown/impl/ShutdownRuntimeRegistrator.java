@@ -0,0 +1,21 @@
+package org.opendaylight.controller.config.yang.shutdown.impl;
+public class ShutdownRuntimeRegistrator implements java.io.Closeable {
+    private final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator;
+
+    public  ShutdownRuntimeRegistrator(final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator) {
+        this.rootRuntimeBeanRegistrator=rootRuntimeBeanRegistrator;
+
+    }
+
+    public org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeRegistration register(org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeMXBean rb) {
+        org.opendaylight.controller.config.api.runtime.HierarchicalRuntimeBeanRegistration registration = this.rootRuntimeBeanRegistrator.registerRoot(rb);
+        return new org.opendaylight.controller.config.yang.shutdown.impl.ShutdownRuntimeRegistration(registration);
+
+    }
+
+    @Override
+    public void close() {
+        rootRuntimeBeanRegistrator.close();
+    }
+
+}
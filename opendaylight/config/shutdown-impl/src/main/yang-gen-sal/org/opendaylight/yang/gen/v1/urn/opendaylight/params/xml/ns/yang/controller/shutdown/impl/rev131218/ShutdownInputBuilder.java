@@ -0,0 +1,364 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Collections;
+import com.google.common.collect.Range;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput
+ *
+ */
+public class ShutdownInputBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput> {
+
+    private InstanceIdentifier<?> _contextInstance;
+    private java.lang.String _inputSecret;
+    private java.lang.Long _maxWaitTime;
+    private java.lang.String _reason;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> augmentation = Collections.emptyMap();
+
+    public ShutdownInputBuilder() {
+    }
+    public ShutdownInputBuilder(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617.RpcContextRef arg) {
+        this._contextInstance = arg.getContextInstance();
+    }
+
+    public ShutdownInputBuilder(ShutdownInput base) {
+        this._contextInstance = base.getContextInstance();
+        this._inputSecret = base.getInputSecret();
+        this._maxWaitTime = base.getMaxWaitTime();
+        this._reason = base.getReason();
+        if (base instanceof ShutdownInputImpl) {
+            ShutdownInputImpl impl = (ShutdownInputImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+    /**
+     *Set fields from given grouping argument. Valid argument is instance of one of following types:
+     * <ul>
+     * <li>org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617.RpcContextRef</li>
+     * </ul>
+     *
+     * @param arg grouping object
+     * @throws IllegalArgumentException if given argument is none of valid types
+    */
+    public void fieldsFrom(DataObject arg) {
+        boolean isValidArg = false;
+        if (arg instanceof org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617.RpcContextRef) {
+            this._contextInstance = ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617.RpcContextRef)arg).getContextInstance();
+            isValidArg = true;
+        }
+        if (!isValidArg) {
+            throw new IllegalArgumentException(
+              "expected one of: [org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.rpc.context.rev130617.RpcContextRef] \n" +
+              "but was: " + arg
+            );
+        }
+    }
+
+    public InstanceIdentifier<?> getContextInstance() {
+        return _contextInstance;
+    }
+    
+    public java.lang.String getInputSecret() {
+        return _inputSecret;
+    }
+    
+    public java.lang.Long getMaxWaitTime() {
+        return _maxWaitTime;
+    }
+    
+    public java.lang.String getReason() {
+        return _reason;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    public ShutdownInputBuilder setContextInstance(InstanceIdentifier<?> value) {
+        this._contextInstance = value;
+        return this;
+    }
+    
+    public ShutdownInputBuilder setInputSecret(java.lang.String value) {
+        this._inputSecret = value;
+        return this;
+    }
+    
+    private static void checkMaxWaitTimeRange(final long value) {
+        if (value >= 0L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?4294967295]].", value));
+    }
+    
+    public ShutdownInputBuilder setMaxWaitTime(java.lang.Long value) {
+        if (value != null) {
+            checkMaxWaitTimeRange(value);
+        }
+        this._maxWaitTime = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _maxWaitTime_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+    
+    public ShutdownInputBuilder setReason(java.lang.String value) {
+        this._reason = value;
+        return this;
+    }
+    
+    public ShutdownInputBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public ShutdownInputBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public ShutdownInput build() {
+        return new ShutdownInputImpl(this);
+    }
+
+    private static final class ShutdownInputImpl implements ShutdownInput {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput.class;
+        }
+
+        private final InstanceIdentifier<?> _contextInstance;
+        private final java.lang.String _inputSecret;
+        private final java.lang.Long _maxWaitTime;
+        private final java.lang.String _reason;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> augmentation = Collections.emptyMap();
+
+        private ShutdownInputImpl(ShutdownInputBuilder base) {
+            this._contextInstance = base.getContextInstance();
+            this._inputSecret = base.getInputSecret();
+            this._maxWaitTime = base.getMaxWaitTime();
+            this._reason = base.getReason();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public InstanceIdentifier<?> getContextInstance() {
+            return _contextInstance;
+        }
+        
+        @Override
+        public java.lang.String getInputSecret() {
+            return _inputSecret;
+        }
+        
+        @Override
+        public java.lang.Long getMaxWaitTime() {
+            return _maxWaitTime;
+        }
+        
+        @Override
+        public java.lang.String getReason() {
+            return _reason;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_contextInstance == null) ? 0 : _contextInstance.hashCode());
+            result = prime * result + ((_inputSecret == null) ? 0 : _inputSecret.hashCode());
+            result = prime * result + ((_maxWaitTime == null) ? 0 : _maxWaitTime.hashCode());
+            result = prime * result + ((_reason == null) ? 0 : _reason.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput)obj;
+            if (_contextInstance == null) {
+                if (other.getContextInstance() != null) {
+                    return false;
+                }
+            } else if(!_contextInstance.equals(other.getContextInstance())) {
+                return false;
+            }
+            if (_inputSecret == null) {
+                if (other.getInputSecret() != null) {
+                    return false;
+                }
+            } else if(!_inputSecret.equals(other.getInputSecret())) {
+                return false;
+            }
+            if (_maxWaitTime == null) {
+                if (other.getMaxWaitTime() != null) {
+                    return false;
+                }
+            } else if(!_maxWaitTime.equals(other.getMaxWaitTime())) {
+                return false;
+            }
+            if (_reason == null) {
+                if (other.getReason() != null) {
+                    return false;
+                }
+            } else if(!_reason.equals(other.getReason())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                ShutdownInputImpl otherImpl = (ShutdownInputImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218.ShutdownInput>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("ShutdownInput [");
+            boolean first = true;
+        
+            if (_contextInstance != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_contextInstance=");
+                builder.append(_contextInstance);
+             }
+            if (_inputSecret != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_inputSecret=");
+                builder.append(_inputSecret);
+             }
+            if (_maxWaitTime != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_maxWaitTime=");
+                builder.append(_maxWaitTime);
+             }
+            if (_reason != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_reason=");
+                builder.append(_reason);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
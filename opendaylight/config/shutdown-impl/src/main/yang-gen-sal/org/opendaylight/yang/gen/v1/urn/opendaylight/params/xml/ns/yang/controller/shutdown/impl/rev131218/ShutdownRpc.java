@@ -0,0 +1,38 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.shutdown.impl.rev131218;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.BaseIdentity;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;shutdown-impl&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/shutdown-impl.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity shutdown-rpc {
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;shutdown-impl/shutdown-rpc&lt;/i&gt;
+ *
+ */
+public abstract class ShutdownRpc extends BaseIdentity
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:shutdown:impl","2013-12-18","shutdown-rpc"));
+
+
+    public ShutdownRpc() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.rev130409;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * An extension of the simple pool of threads able to schedule work to be executed 
+ * at some point in time.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;threadpool&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/threadpool.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity scheduled-threadpool {
+ *     base "()IdentitySchemaNodeImpl[base=IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)service-type], qname=(urn:opendaylight:params:xml:ns:yang:controller:threadpool?revision=2013-04-09)threadpool]";
+ *     description
+ *         "An extension of the simple pool of threads able to schedule
+ *                      work to be executed at some point in time.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;threadpool/scheduled-threadpool&lt;/i&gt;
+ *
+ */
+public abstract class ScheduledThreadpool extends Threadpool
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:threadpool","2013-04-09","scheduled-threadpool"));
+
+
+    public ScheduledThreadpool() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
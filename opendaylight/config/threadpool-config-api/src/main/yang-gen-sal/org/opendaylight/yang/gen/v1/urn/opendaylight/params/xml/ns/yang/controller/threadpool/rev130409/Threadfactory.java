@@ -0,0 +1,48 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.rev130409;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ServiceType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Service representing a ThreadFactory instance. It is directly useful in Java 
+ * world, where various library pieces need to create threads and you may want to 
+ * inject a customized thread implementation.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;threadpool&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/threadpool.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity threadfactory {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)service-type]";
+ *     description
+ *         "Service representing a ThreadFactory instance. It is directly
+ *                      useful in Java world, where various library pieces need to create
+ *                      threads and you may want to inject a customized thread
+ *                      implementation.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;threadpool/threadfactory&lt;/i&gt;
+ *
+ */
+public abstract class Threadfactory extends ServiceType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:threadpool","2013-04-09","threadfactory"));
+
+
+    public Threadfactory() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
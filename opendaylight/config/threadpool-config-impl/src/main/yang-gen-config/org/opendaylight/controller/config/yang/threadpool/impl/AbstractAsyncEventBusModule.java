@@ -0,0 +1,116 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl yang module local name: async-eventbus
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl", name = "threadpool-impl", revision = "2013-04-05")
+
+public abstract class AbstractAsyncEventBusModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractAsyncEventBusModule> implements org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusModuleMXBean,org.opendaylight.controller.config.yang.threadpool.EventBusServiceInterface,org.opendaylight.controller.config.api.RuntimeBeanRegistratorAwareModule {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.threadpool.impl.AbstractAsyncEventBusModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute threadpoolJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("Threadpool");
+    private javax.management.ObjectName threadpool; // mandatory
+
+    //attributes end
+
+    public AbstractAsyncEventBusModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractAsyncEventBusModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractAsyncEventBusModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    private org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeRegistrator rootRuntimeBeanRegistratorWrapper;
+
+    public org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeRegistrator getRootRuntimeBeanRegistratorWrapper(){
+        return rootRuntimeBeanRegistratorWrapper;
+    }
+
+    @Override
+    public void setRuntimeBeanRegistrator(org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeRegistrator){
+        this.rootRuntimeBeanRegistratorWrapper = new org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeRegistrator(rootRuntimeRegistrator);
+    }
+
+    @Override
+    public void validate() {
+        dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.threadpool.ThreadPoolServiceInterface.class, threadpool, threadpoolJmxAttribute);
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private org.opendaylight.controller.config.threadpool.ThreadPool threadpoolDependency;
+    protected final org.opendaylight.controller.config.threadpool.ThreadPool getThreadpoolDependency(){
+        return threadpoolDependency;
+    }
+
+    protected final void resolveDependencies() {
+        threadpoolDependency = dependencyResolver.resolveInstance(org.opendaylight.controller.config.threadpool.ThreadPool.class, threadpool, threadpoolJmxAttribute);
+    }
+
+    public boolean canReuseInstance(AbstractAsyncEventBusModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractAsyncEventBusModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(threadpool, other.threadpool) == false) {
+            return false;
+        }
+        if(threadpool!= null) {
+            if (!dependencyResolver.canReuseDependency(threadpool, threadpoolJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractAsyncEventBusModule that = (AbstractAsyncEventBusModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public javax.management.ObjectName getThreadpool() {
+        return threadpool;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.threadpool.ThreadPoolServiceInterface.class)
+    public void setThreadpool(javax.management.ObjectName threadpool) {
+        this.threadpool = threadpool;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
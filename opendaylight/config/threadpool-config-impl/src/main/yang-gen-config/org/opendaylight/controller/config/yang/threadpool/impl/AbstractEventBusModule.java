@@ -0,0 +1,88 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl yang module local name: eventbus
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl", name = "threadpool-impl", revision = "2013-04-05")
+
+public abstract class AbstractEventBusModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractEventBusModule> implements org.opendaylight.controller.config.yang.threadpool.impl.EventBusModuleMXBean,org.opendaylight.controller.config.yang.threadpool.EventBusServiceInterface,org.opendaylight.controller.config.api.RuntimeBeanRegistratorAwareModule {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.threadpool.impl.AbstractEventBusModule.class);
+
+    //attributes start
+
+    //attributes end
+
+    public AbstractEventBusModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractEventBusModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractEventBusModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    private org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeRegistrator rootRuntimeBeanRegistratorWrapper;
+
+    public org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeRegistrator getRootRuntimeBeanRegistratorWrapper(){
+        return rootRuntimeBeanRegistratorWrapper;
+    }
+
+    @Override
+    public void setRuntimeBeanRegistrator(org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeRegistrator){
+        this.rootRuntimeBeanRegistratorWrapper = new org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeRegistrator(rootRuntimeRegistrator);
+    }
+
+    @Override
+    public void validate() {
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    protected final void resolveDependencies() {
+    }
+
+    public boolean canReuseInstance(AbstractEventBusModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractEventBusModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractEventBusModule that = (AbstractEventBusModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
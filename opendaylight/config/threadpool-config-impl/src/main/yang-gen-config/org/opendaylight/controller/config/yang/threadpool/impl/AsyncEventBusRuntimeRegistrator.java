@@ -0,0 +1,21 @@
+package org.opendaylight.controller.config.yang.threadpool.impl;
+public class AsyncEventBusRuntimeRegistrator implements java.io.Closeable {
+    private final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator;
+
+    public  AsyncEventBusRuntimeRegistrator(final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator) {
+        this.rootRuntimeBeanRegistrator=rootRuntimeBeanRegistrator;
+
+    }
+
+    public org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeRegistration register(org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeMXBean rb) {
+        org.opendaylight.controller.config.api.runtime.HierarchicalRuntimeBeanRegistration registration = this.rootRuntimeBeanRegistrator.registerRoot(rb);
+        return new org.opendaylight.controller.config.yang.threadpool.impl.AsyncEventBusRuntimeRegistration(registration);
+
+    }
+
+    @Override
+    public void close() {
+        rootRuntimeBeanRegistrator.close();
+    }
+
+}
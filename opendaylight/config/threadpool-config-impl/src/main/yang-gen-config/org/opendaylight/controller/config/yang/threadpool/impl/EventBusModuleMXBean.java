@@ -0,0 +1,13 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl yang module local name: eventbus
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl;
+public interface EventBusModuleMXBean {
+
+}
@@ -0,0 +1,5 @@
+package org.opendaylight.controller.config.yang.threadpool.impl;
+public interface EventBusRuntimeMXBean extends org.opendaylight.controller.config.api.runtime.RuntimeBean {
+    public java.lang.Long countDeadEvents();
+
+}
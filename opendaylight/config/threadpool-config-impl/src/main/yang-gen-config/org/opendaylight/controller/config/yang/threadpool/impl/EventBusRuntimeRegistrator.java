@@ -0,0 +1,21 @@
+package org.opendaylight.controller.config.yang.threadpool.impl;
+public class EventBusRuntimeRegistrator implements java.io.Closeable {
+    private final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator;
+
+    public  EventBusRuntimeRegistrator(final org.opendaylight.controller.config.api.runtime.RootRuntimeBeanRegistrator rootRuntimeBeanRegistrator) {
+        this.rootRuntimeBeanRegistrator=rootRuntimeBeanRegistrator;
+
+    }
+
+    public org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeRegistration register(org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeMXBean rb) {
+        org.opendaylight.controller.config.api.runtime.HierarchicalRuntimeBeanRegistration registration = this.rootRuntimeBeanRegistrator.registerRoot(rb);
+        return new org.opendaylight.controller.config.yang.threadpool.impl.EventBusRuntimeRegistration(registration);
+
+    }
+
+    @Override
+    public void close() {
+        rootRuntimeBeanRegistrator.close();
+    }
+
+}
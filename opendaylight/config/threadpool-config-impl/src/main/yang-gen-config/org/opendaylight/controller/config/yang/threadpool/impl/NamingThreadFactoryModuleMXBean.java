@@ -0,0 +1,16 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl yang module local name: threadfactory-naming
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl;
+public interface NamingThreadFactoryModuleMXBean {
+    public java.lang.String getNamePrefix();
+
+    public void setNamePrefix(java.lang.String namePrefix);
+
+}
@@ -0,0 +1,20 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl-fixed yang module local name: threadpool-fixed
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl.fixed;
+public interface FixedThreadPoolModuleMXBean {
+    public javax.management.ObjectName getThreadFactory();
+
+    public void setThreadFactory(javax.management.ObjectName threadFactory);
+
+    public java.lang.Integer getMaxThreadCount();
+
+    public void setMaxThreadCount(java.lang.Integer maxThreadCount);
+
+}
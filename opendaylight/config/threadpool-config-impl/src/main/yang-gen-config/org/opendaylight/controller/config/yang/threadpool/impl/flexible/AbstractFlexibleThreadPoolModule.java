@@ -0,0 +1,173 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl-flexible yang module local name: threadpool-flexible
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl.flexible;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl:flexible", name = "threadpool-impl-flexible", revision = "2013-12-01")
+
+public abstract class AbstractFlexibleThreadPoolModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractFlexibleThreadPoolModule> implements org.opendaylight.controller.config.yang.threadpool.impl.flexible.FlexibleThreadPoolModuleMXBean,org.opendaylight.controller.config.yang.threadpool.ThreadPoolServiceInterface {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.threadpool.impl.flexible.AbstractFlexibleThreadPoolModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute keepAliveMillisJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("KeepAliveMillis");
+    private java.lang.Long keepAliveMillis;
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute threadFactoryJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ThreadFactory");
+    private javax.management.ObjectName threadFactory; // mandatory
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute minThreadCountJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("MinThreadCount");
+    private java.lang.Integer minThreadCount;
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute queueCapacityJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("QueueCapacity");
+    private java.lang.Integer queueCapacity;
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute maxThreadCountJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("MaxThreadCount");
+    private java.lang.Integer maxThreadCount;
+
+    //attributes end
+
+    public AbstractFlexibleThreadPoolModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractFlexibleThreadPoolModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractFlexibleThreadPoolModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+        dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.threadpool.ThreadFactoryServiceInterface.class, threadFactory, threadFactoryJmxAttribute);
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private java.util.concurrent.ThreadFactory threadFactoryDependency;
+    protected final java.util.concurrent.ThreadFactory getThreadFactoryDependency(){
+        return threadFactoryDependency;
+    }
+
+    protected final void resolveDependencies() {
+        threadFactoryDependency = dependencyResolver.resolveInstance(java.util.concurrent.ThreadFactory.class, threadFactory, threadFactoryJmxAttribute);
+    }
+
+    public boolean canReuseInstance(AbstractFlexibleThreadPoolModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractFlexibleThreadPoolModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(keepAliveMillis, other.keepAliveMillis) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(threadFactory, other.threadFactory) == false) {
+            return false;
+        }
+        if(threadFactory!= null) {
+            if (!dependencyResolver.canReuseDependency(threadFactory, threadFactoryJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+        if (java.util.Objects.deepEquals(minThreadCount, other.minThreadCount) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(queueCapacity, other.queueCapacity) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(maxThreadCount, other.maxThreadCount) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractFlexibleThreadPoolModule that = (AbstractFlexibleThreadPoolModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.lang.Long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    @Override
+    public void setKeepAliveMillis(java.lang.Long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    @Override
+    public javax.management.ObjectName getThreadFactory() {
+        return threadFactory;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.threadpool.ThreadFactoryServiceInterface.class)
+    public void setThreadFactory(javax.management.ObjectName threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public java.lang.Integer getMinThreadCount() {
+        return minThreadCount;
+    }
+
+    @Override
+    public void setMinThreadCount(java.lang.Integer minThreadCount) {
+        this.minThreadCount = minThreadCount;
+    }
+
+    @Override
+    public java.lang.Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+    * Capacity of queue that holds waiting tasks
+    */
+    @Override
+    @org.opendaylight.controller.config.api.annotations.Description(value = "Capacity of queue that holds waiting tasks")
+    public void setQueueCapacity(java.lang.Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public java.lang.Integer getMaxThreadCount() {
+        return maxThreadCount;
+    }
+
+    @Override
+    public void setMaxThreadCount(java.lang.Integer maxThreadCount) {
+        this.maxThreadCount = maxThreadCount;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: threadpool-impl-flexible yang module local name: threadpool-flexible
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:30:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.threadpool.impl.flexible;
+public interface FlexibleThreadPoolModuleMXBean {
+    public java.lang.Long getKeepAliveMillis();
+
+    public void setKeepAliveMillis(java.lang.Long keepAliveMillis);
+
+    public javax.management.ObjectName getThreadFactory();
+
+    public void setThreadFactory(javax.management.ObjectName threadFactory);
+
+    public java.lang.Integer getMinThreadCount();
+
+    public void setMinThreadCount(java.lang.Integer minThreadCount);
+
+    public java.lang.Integer getQueueCapacity();
+
+    /**
+    * Capacity of queue that holds waiting tasks
+    */
+    public void setQueueCapacity(java.lang.Integer queueCapacity);
+
+    public java.lang.Integer getMaxThreadCount();
+
+    public void setMaxThreadCount(java.lang.Integer maxThreadCount);
+
+}
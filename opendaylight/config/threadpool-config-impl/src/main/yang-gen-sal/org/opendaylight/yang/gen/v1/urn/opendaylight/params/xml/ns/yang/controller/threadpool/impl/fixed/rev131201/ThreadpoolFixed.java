@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ModuleType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;threadpool-impl-fixed&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/threadpool-impl-fixed.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity threadpool-fixed {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)module-type]";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;threadpool-impl-fixed/threadpool-fixed&lt;/i&gt;
+ *
+ */
+public abstract class ThreadpoolFixed extends ModuleType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl:fixed","2013-12-01","threadpool-fixed"));
+
+
+    public ThreadpoolFixed() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
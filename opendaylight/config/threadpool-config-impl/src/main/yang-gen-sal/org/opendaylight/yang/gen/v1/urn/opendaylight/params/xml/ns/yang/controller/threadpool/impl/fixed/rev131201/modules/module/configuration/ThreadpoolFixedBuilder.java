@@ -0,0 +1,269 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.threadpool.fixed.ThreadFactory;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Collections;
+import com.google.common.collect.Range;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed
+ *
+ */
+public class ThreadpoolFixedBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed> {
+
+    private java.lang.Integer _maxThreadCount;
+    private ThreadFactory _threadFactory;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> augmentation = Collections.emptyMap();
+
+    public ThreadpoolFixedBuilder() {
+    }
+
+    public ThreadpoolFixedBuilder(ThreadpoolFixed base) {
+        this._maxThreadCount = base.getMaxThreadCount();
+        this._threadFactory = base.getThreadFactory();
+        if (base instanceof ThreadpoolFixedImpl) {
+            ThreadpoolFixedImpl impl = (ThreadpoolFixedImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+
+    public java.lang.Integer getMaxThreadCount() {
+        return _maxThreadCount;
+    }
+    
+    public ThreadFactory getThreadFactory() {
+        return _threadFactory;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    private static void checkMaxThreadCountRange(final int value) {
+        if (value >= 0 && value <= 65535) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?65535]].", value));
+    }
+    
+    public ThreadpoolFixedBuilder setMaxThreadCount(java.lang.Integer value) {
+        if (value != null) {
+            checkMaxThreadCountRange(value);
+        }
+        this._maxThreadCount = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _maxThreadCount_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(65535L)));
+        return ret;
+    }
+    
+    public ThreadpoolFixedBuilder setThreadFactory(ThreadFactory value) {
+        this._threadFactory = value;
+        return this;
+    }
+    
+    public ThreadpoolFixedBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public ThreadpoolFixedBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public ThreadpoolFixed build() {
+        return new ThreadpoolFixedImpl(this);
+    }
+
+    private static final class ThreadpoolFixedImpl implements ThreadpoolFixed {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed.class;
+        }
+
+        private final java.lang.Integer _maxThreadCount;
+        private final ThreadFactory _threadFactory;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> augmentation = Collections.emptyMap();
+
+        private ThreadpoolFixedImpl(ThreadpoolFixedBuilder base) {
+            this._maxThreadCount = base.getMaxThreadCount();
+            this._threadFactory = base.getThreadFactory();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public java.lang.Integer getMaxThreadCount() {
+            return _maxThreadCount;
+        }
+        
+        @Override
+        public ThreadFactory getThreadFactory() {
+            return _threadFactory;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_maxThreadCount == null) ? 0 : _maxThreadCount.hashCode());
+            result = prime * result + ((_threadFactory == null) ? 0 : _threadFactory.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed)obj;
+            if (_maxThreadCount == null) {
+                if (other.getMaxThreadCount() != null) {
+                    return false;
+                }
+            } else if(!_maxThreadCount.equals(other.getMaxThreadCount())) {
+                return false;
+            }
+            if (_threadFactory == null) {
+                if (other.getThreadFactory() != null) {
+                    return false;
+                }
+            } else if(!_threadFactory.equals(other.getThreadFactory())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                ThreadpoolFixedImpl otherImpl = (ThreadpoolFixedImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.fixed.rev131201.modules.module.configuration.ThreadpoolFixed>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("ThreadpoolFixed [");
+            boolean first = true;
+        
+            if (_maxThreadCount != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_maxThreadCount=");
+                builder.append(_maxThreadCount);
+             }
+            if (_threadFactory != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_threadFactory=");
+                builder.append(_threadFactory);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
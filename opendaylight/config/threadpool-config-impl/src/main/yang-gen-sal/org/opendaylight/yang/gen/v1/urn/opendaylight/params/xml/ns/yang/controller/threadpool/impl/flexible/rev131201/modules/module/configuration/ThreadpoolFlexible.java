@@ -0,0 +1,73 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.threadpool.flexible.ThreadFactory;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.modules.module.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;threadpool-impl-flexible&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/threadpool-impl-flexible.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case threadpool-flexible {
+ *     leaf max-thread-count {
+ *         type uint16;
+ *     }
+ *     leaf minThreadCount {
+ *         type uint16;
+ *     }
+ *     leaf keepAliveMillis {
+ *         type uint32;
+ *     }
+ *     leaf queueCapacity {
+ *         type uint16;
+ *     }
+ *     container threadFactory {
+ *         leaf type {
+ *             type leafref;
+ *         }
+ *         leaf name {
+ *             type leafref;
+ *         }
+ *         uses service-ref {
+ *             refine (urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl:flexible?revision=2013-12-01)type {
+ *                 leaf type {
+ *                     type leafref;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;threadpool-impl-flexible/modules/module/configuration/(urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl:flexible?revision=2013-12-01)threadpool-flexible&lt;/i&gt;
+ *
+ */
+public interface ThreadpoolFlexible
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>,
+    Configuration
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:threadpool:impl:flexible","2013-12-01","threadpool-flexible"));
+
+    java.lang.Integer getMaxThreadCount();
+    
+    java.lang.Integer getMinThreadCount();
+    
+    java.lang.Long getKeepAliveMillis();
+    
+    /**
+     * Capacity of queue that holds waiting tasks
+     *
+     */
+    java.lang.Integer getQueueCapacity();
+    
+    ThreadFactory getThreadFactory();
+
+}
+
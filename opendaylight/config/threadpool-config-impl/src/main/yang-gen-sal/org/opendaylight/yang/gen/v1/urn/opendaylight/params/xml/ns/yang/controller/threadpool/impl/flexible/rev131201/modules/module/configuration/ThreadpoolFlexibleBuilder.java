@@ -0,0 +1,431 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.threadpool.flexible.ThreadFactory;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Collections;
+import com.google.common.collect.Range;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible
+ *
+ */
+public class ThreadpoolFlexibleBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible> {
+
+    private java.lang.Long _keepAliveMillis;
+    private java.lang.Integer _maxThreadCount;
+    private java.lang.Integer _minThreadCount;
+    private java.lang.Integer _queueCapacity;
+    private ThreadFactory _threadFactory;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> augmentation = Collections.emptyMap();
+
+    public ThreadpoolFlexibleBuilder() {
+    }
+
+    public ThreadpoolFlexibleBuilder(ThreadpoolFlexible base) {
+        this._keepAliveMillis = base.getKeepAliveMillis();
+        this._maxThreadCount = base.getMaxThreadCount();
+        this._minThreadCount = base.getMinThreadCount();
+        this._queueCapacity = base.getQueueCapacity();
+        this._threadFactory = base.getThreadFactory();
+        if (base instanceof ThreadpoolFlexibleImpl) {
+            ThreadpoolFlexibleImpl impl = (ThreadpoolFlexibleImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+
+    public java.lang.Long getKeepAliveMillis() {
+        return _keepAliveMillis;
+    }
+    
+    public java.lang.Integer getMaxThreadCount() {
+        return _maxThreadCount;
+    }
+    
+    public java.lang.Integer getMinThreadCount() {
+        return _minThreadCount;
+    }
+    
+    public java.lang.Integer getQueueCapacity() {
+        return _queueCapacity;
+    }
+    
+    public ThreadFactory getThreadFactory() {
+        return _threadFactory;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    private static void checkKeepAliveMillisRange(final long value) {
+        if (value >= 0L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?4294967295]].", value));
+    }
+    
+    public ThreadpoolFlexibleBuilder setKeepAliveMillis(java.lang.Long value) {
+        if (value != null) {
+            checkKeepAliveMillisRange(value);
+        }
+        this._keepAliveMillis = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _keepAliveMillis_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+    
+    private static void checkMaxThreadCountRange(final int value) {
+        if (value >= 0 && value <= 65535) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?65535]].", value));
+    }
+    
+    public ThreadpoolFlexibleBuilder setMaxThreadCount(java.lang.Integer value) {
+        if (value != null) {
+            checkMaxThreadCountRange(value);
+        }
+        this._maxThreadCount = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _maxThreadCount_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(65535L)));
+        return ret;
+    }
+    
+    private static void checkMinThreadCountRange(final int value) {
+        if (value >= 0 && value <= 65535) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?65535]].", value));
+    }
+    
+    public ThreadpoolFlexibleBuilder setMinThreadCount(java.lang.Integer value) {
+        if (value != null) {
+            checkMinThreadCountRange(value);
+        }
+        this._minThreadCount = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _minThreadCount_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(65535L)));
+        return ret;
+    }
+    
+    private static void checkQueueCapacityRange(final int value) {
+        if (value >= 0 && value <= 65535) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?65535]].", value));
+    }
+    
+    public ThreadpoolFlexibleBuilder setQueueCapacity(java.lang.Integer value) {
+        if (value != null) {
+            checkQueueCapacityRange(value);
+        }
+        this._queueCapacity = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _queueCapacity_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(65535L)));
+        return ret;
+    }
+    
+    public ThreadpoolFlexibleBuilder setThreadFactory(ThreadFactory value) {
+        this._threadFactory = value;
+        return this;
+    }
+    
+    public ThreadpoolFlexibleBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public ThreadpoolFlexibleBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public ThreadpoolFlexible build() {
+        return new ThreadpoolFlexibleImpl(this);
+    }
+
+    private static final class ThreadpoolFlexibleImpl implements ThreadpoolFlexible {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible.class;
+        }
+
+        private final java.lang.Long _keepAliveMillis;
+        private final java.lang.Integer _maxThreadCount;
+        private final java.lang.Integer _minThreadCount;
+        private final java.lang.Integer _queueCapacity;
+        private final ThreadFactory _threadFactory;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> augmentation = Collections.emptyMap();
+
+        private ThreadpoolFlexibleImpl(ThreadpoolFlexibleBuilder base) {
+            this._keepAliveMillis = base.getKeepAliveMillis();
+            this._maxThreadCount = base.getMaxThreadCount();
+            this._minThreadCount = base.getMinThreadCount();
+            this._queueCapacity = base.getQueueCapacity();
+            this._threadFactory = base.getThreadFactory();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public java.lang.Long getKeepAliveMillis() {
+            return _keepAliveMillis;
+        }
+        
+        @Override
+        public java.lang.Integer getMaxThreadCount() {
+            return _maxThreadCount;
+        }
+        
+        @Override
+        public java.lang.Integer getMinThreadCount() {
+            return _minThreadCount;
+        }
+        
+        @Override
+        public java.lang.Integer getQueueCapacity() {
+            return _queueCapacity;
+        }
+        
+        @Override
+        public ThreadFactory getThreadFactory() {
+            return _threadFactory;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_keepAliveMillis == null) ? 0 : _keepAliveMillis.hashCode());
+            result = prime * result + ((_maxThreadCount == null) ? 0 : _maxThreadCount.hashCode());
+            result = prime * result + ((_minThreadCount == null) ? 0 : _minThreadCount.hashCode());
+            result = prime * result + ((_queueCapacity == null) ? 0 : _queueCapacity.hashCode());
+            result = prime * result + ((_threadFactory == null) ? 0 : _threadFactory.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible)obj;
+            if (_keepAliveMillis == null) {
+                if (other.getKeepAliveMillis() != null) {
+                    return false;
+                }
+            } else if(!_keepAliveMillis.equals(other.getKeepAliveMillis())) {
+                return false;
+            }
+            if (_maxThreadCount == null) {
+                if (other.getMaxThreadCount() != null) {
+                    return false;
+                }
+            } else if(!_maxThreadCount.equals(other.getMaxThreadCount())) {
+                return false;
+            }
+            if (_minThreadCount == null) {
+                if (other.getMinThreadCount() != null) {
+                    return false;
+                }
+            } else if(!_minThreadCount.equals(other.getMinThreadCount())) {
+                return false;
+            }
+            if (_queueCapacity == null) {
+                if (other.getQueueCapacity() != null) {
+                    return false;
+                }
+            } else if(!_queueCapacity.equals(other.getQueueCapacity())) {
+                return false;
+            }
+            if (_threadFactory == null) {
+                if (other.getThreadFactory() != null) {
+                    return false;
+                }
+            } else if(!_threadFactory.equals(other.getThreadFactory())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                ThreadpoolFlexibleImpl otherImpl = (ThreadpoolFlexibleImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.flexible.rev131201.modules.module.configuration.ThreadpoolFlexible>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("ThreadpoolFlexible [");
+            boolean first = true;
+        
+            if (_keepAliveMillis != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_keepAliveMillis=");
+                builder.append(_keepAliveMillis);
+             }
+            if (_maxThreadCount != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_maxThreadCount=");
+                builder.append(_maxThreadCount);
+             }
+            if (_minThreadCount != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_minThreadCount=");
+                builder.append(_minThreadCount);
+             }
+            if (_queueCapacity != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_queueCapacity=");
+                builder.append(_queueCapacity);
+             }
+            if (_threadFactory != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_threadFactory=");
+                builder.append(_threadFactory);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
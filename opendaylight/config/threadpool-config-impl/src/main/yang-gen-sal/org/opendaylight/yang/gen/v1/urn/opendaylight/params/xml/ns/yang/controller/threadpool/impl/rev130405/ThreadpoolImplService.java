@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.threadpool.impl.rev130405;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;threadpool-impl&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/threadpool-impl.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc get-dead-events-count {
+ *     input {
+ *         leaf context-instance {
+ *             type instance-identifier;
+ *         }
+ *     }
+ *     
+ *     output {
+ *         leaf result {
+ *             type uint32;
+ *         }
+ *     }
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface ThreadpoolImplService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<GetDeadEventsCountOutput>> getDeadEventsCount(GetDeadEventsCountInput input);
+
+}
+
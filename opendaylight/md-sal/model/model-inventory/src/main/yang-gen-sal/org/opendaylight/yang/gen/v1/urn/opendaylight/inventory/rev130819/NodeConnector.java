@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Describes a generic node connector which consists of an ID. Acts as an 
+ * augmentation point where other yang files can add additional information.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-inventory&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-inventory.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping node-connector {
+ *     leaf id {
+ *         type node-connector-id;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-inventory/node-connector&lt;/i&gt;
+ *
+ */
+public interface NodeConnector
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:inventory","2013-08-19","node-connector"));
+
+    /**
+     * The unique identifier for the node-connector.
+     *
+     */
+    NodeConnectorId getId();
+
+}
+
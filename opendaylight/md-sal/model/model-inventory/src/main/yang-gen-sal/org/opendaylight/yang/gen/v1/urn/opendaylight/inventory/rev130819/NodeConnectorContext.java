@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.BaseIdentity;
+
+
+/**
+ * A node-connector-context is a classifier for node-connector elements which 
+ * allows an RPC to provide a service on behalf of a particular element in the data
+ * tree.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-inventory&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-inventory.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity node-connector-context {
+ *     description
+ *         "A node-connector-context is a classifier for node-connector elements which allows an RPC to provide a service on behalf of a particular element in the data tree.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-inventory/node-connector-context&lt;/i&gt;
+ *
+ */
+public abstract class NodeConnectorContext extends BaseIdentity
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:inventory","2013-08-19","node-connector-context"));
+
+
+    public NodeConnectorContext() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
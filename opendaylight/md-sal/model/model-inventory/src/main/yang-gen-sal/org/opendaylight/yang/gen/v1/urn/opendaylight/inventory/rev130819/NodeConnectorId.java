@@ -0,0 +1,63 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819;
+import java.io.Serializable;
+import java.beans.ConstructorProperties;
+import com.google.common.base.Preconditions;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.Uri;
+
+
+/**
+ * Identifier for a particular node-connector. For example:
+ *
+ *                         myprotocol:&lt;unique_node_connector_id&gt;
+ *                         myprotocol:3
+ *
+ *                     It is a good practice to always lead with a scoping identifier.
+ *                     In the example above the scoping was 'myprotocol'. In your app you
+ *                     could use 'myapp' etc.
+ *
+ */
+public class NodeConnectorId extends Uri
+ implements Serializable {
+    private static final long serialVersionUID = -2402840909130256576L;
+
+
+    @ConstructorProperties("value")
+    public NodeConnectorId(java.lang.String _value) {
+        super(_value);
+    
+    
+        Preconditions.checkNotNull(_value, "Supplied value may not be null");
+    
+    
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public NodeConnectorId(NodeConnectorId source) {
+        super(source);
+    }
+    /**
+     * Creates a new instance from Uri
+     *
+     * @param source Source object
+     */
+    public NodeConnectorId(Uri source) {
+            super(source);
+    }
+
+    public static NodeConnectorId getDefaultInstance(String defaultValue) {
+        return new NodeConnectorId(defaultValue);
+    }
+
+
+
+
+
+
+
+
+}
+
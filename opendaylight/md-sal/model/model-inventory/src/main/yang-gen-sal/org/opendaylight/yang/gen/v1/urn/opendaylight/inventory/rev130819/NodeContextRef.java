@@ -0,0 +1,45 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819;
+import org.opendaylight.yangtools.yang.binding.annotations.RoutingContext;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * A helper grouping which contains a reference to a node classified with a 
+ * node-context. This allows RPCs in other yang files to refine their input to a 
+ * particular node instance.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-inventory&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-inventory.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping node-context-ref {
+ *     leaf node {
+ *         type node-ref;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-inventory/node-context-ref&lt;/i&gt;
+ *
+ */
+public interface NodeContextRef
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:inventory","2013-08-19","node-context-ref"));
+
+    /**
+     * A reference to a particular node.
+     *
+     */
+    @RoutingContext
+    (
+    value=org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeContext.class
+    )
+    NodeRef getNode();
+
+}
+
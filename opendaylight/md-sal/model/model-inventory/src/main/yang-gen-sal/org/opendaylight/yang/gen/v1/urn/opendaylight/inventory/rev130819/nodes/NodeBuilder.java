@@ -0,0 +1,327 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node
+ *
+ */
+public class NodeBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node> {
+
+    private NodeId _id;
+    private NodeKey _key;
+    private List<NodeConnector> _nodeConnector;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> augmentation = Collections.emptyMap();
+
+    public NodeBuilder() {
+    }
+    public NodeBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node arg) {
+        this._id = arg.getId();
+        this._nodeConnector = arg.getNodeConnector();
+    }
+
+    public NodeBuilder(Node base) {
+        if (base.getKey() == null) {
+            this._key = new NodeKey(
+                base.getId()
+            );
+            this._id = base.getId();
+        } else {
+            this._key = base.getKey();
+            this._id = _key.getId();
+        }
+        this._nodeConnector = base.getNodeConnector();
+        if (base instanceof NodeImpl) {
+            NodeImpl impl = (NodeImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+    /**
+     *Set fields from given grouping argument. Valid argument is instance of one of following types:
+     * <ul>
+     * <li>org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node</li>
+     * </ul>
+     *
+     * @param arg grouping object
+     * @throws IllegalArgumentException if given argument is none of valid types
+    */
+    public void fieldsFrom(DataObject arg) {
+        boolean isValidArg = false;
+        if (arg instanceof org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node) {
+            this._id = ((org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node)arg).getId();
+            this._nodeConnector = ((org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node)arg).getNodeConnector();
+            isValidArg = true;
+        }
+        if (!isValidArg) {
+            throw new IllegalArgumentException(
+              "expected one of: [org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Node] \n" +
+              "but was: " + arg
+            );
+        }
+    }
+
+    public NodeId getId() {
+        return _id;
+    }
+    
+    public NodeKey getKey() {
+        return _key;
+    }
+    
+    public List<NodeConnector> getNodeConnector() {
+        return _nodeConnector;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    public NodeBuilder setId(NodeId value) {
+        if (value != null) {
+        }
+        this._id = value;
+        return this;
+    }
+    
+    public NodeBuilder setKey(NodeKey value) {
+        this._key = value;
+        return this;
+    }
+    
+    public NodeBuilder setNodeConnector(List<NodeConnector> value) {
+        this._nodeConnector = value;
+        return this;
+    }
+    
+    public NodeBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public NodeBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public Node build() {
+        return new NodeImpl(this);
+    }
+
+    private static final class NodeImpl implements Node {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node.class;
+        }
+
+        private final NodeId _id;
+        private final NodeKey _key;
+        private final List<NodeConnector> _nodeConnector;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> augmentation = Collections.emptyMap();
+
+        private NodeImpl(NodeBuilder base) {
+            if (base.getKey() == null) {
+                this._key = new NodeKey(
+                    base.getId()
+                );
+                this._id = base.getId();
+            } else {
+                this._key = base.getKey();
+                this._id = _key.getId();
+            }
+            this._nodeConnector = base.getNodeConnector();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public NodeId getId() {
+            return _id;
+        }
+        
+        @Override
+        public NodeKey getKey() {
+            return _key;
+        }
+        
+        @Override
+        public List<NodeConnector> getNodeConnector() {
+            return _nodeConnector;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_id == null) ? 0 : _id.hashCode());
+            result = prime * result + ((_key == null) ? 0 : _key.hashCode());
+            result = prime * result + ((_nodeConnector == null) ? 0 : _nodeConnector.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node other = (org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node)obj;
+            if (_id == null) {
+                if (other.getId() != null) {
+                    return false;
+                }
+            } else if(!_id.equals(other.getId())) {
+                return false;
+            }
+            if (_key == null) {
+                if (other.getKey() != null) {
+                    return false;
+                }
+            } else if(!_key.equals(other.getKey())) {
+                return false;
+            }
+            if (_nodeConnector == null) {
+                if (other.getNodeConnector() != null) {
+                    return false;
+                }
+            } else if(!_nodeConnector.equals(other.getNodeConnector())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                NodeImpl otherImpl = (NodeImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("Node [");
+            boolean first = true;
+        
+            if (_id != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_id=");
+                builder.append(_id);
+             }
+            if (_key != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_key=");
+                builder.append(_key);
+             }
+            if (_nodeConnector != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_nodeConnector=");
+                builder.append(_nodeConnector);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
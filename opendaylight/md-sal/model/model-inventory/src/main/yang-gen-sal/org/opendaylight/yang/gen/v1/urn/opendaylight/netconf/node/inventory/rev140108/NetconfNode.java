@@ -0,0 +1,19 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.inventory.rev140108;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+
+
+public interface NetconfNode
+    extends
+    DataObject,
+    Augmentation<Node>,
+    NetconfNodeFields
+{
+
+
+
+
+
+}
+
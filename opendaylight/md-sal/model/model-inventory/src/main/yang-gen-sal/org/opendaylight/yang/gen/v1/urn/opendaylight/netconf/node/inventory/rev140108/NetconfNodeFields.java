@@ -0,0 +1,53 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.inventory.rev140108;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.inventory.rev140108.netconf.node.fields.PassThrough;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;netconf-node-inventory&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/netconf-node-inventory.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping netconf-node-fields {
+ *     leaf connected {
+ *         type boolean;
+ *     }
+ *     leaf-list initial-capability {
+ *         type string;
+ *     }
+ *     leaf-list current-capability {
+ *         type string;
+ *     }
+ *     container pass-through {
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;netconf-node-inventory/netconf-node-fields&lt;/i&gt;
+ *
+ */
+public interface NetconfNodeFields
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:netconf-node-inventory","2014-01-08","netconf-node-fields"));
+
+    java.lang.Boolean isConnected();
+    
+    List<java.lang.String> getInitialCapability();
+    
+    List<java.lang.String> getCurrentCapability();
+    
+    /**
+     * When the underlying node is connected, its NETCONF context is available verbatim
+     * under this container through the mount extension.
+     *
+     */
+    PassThrough getPassThrough();
+
+}
+
@@ -9,7 +9,12 @@ package org.opendaylight.controller.md.sal.binding.impl;
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -40,11 +45,60 @@ import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 public class BindingToNormalizedNodeCodec implements BindingCodecTreeFactory, SchemaContextListener, AutoCloseable {
 
+    /**
+     * Maximum number of entries in each of the path conversion caches.
+     */
+    private static final int PATH_CACHE_SIZE = 4096;
+
     private final BindingNormalizedNodeCodecRegistry codecRegistry;
     private DataNormalizer legacyToNormalized;
     private final GeneratedClassLoadingStrategy classLoadingStrategy;
     private BindingRuntimeContext runtimeContext;
 
+    /*
+     * Caches of hot path conversions for the current schema context, so applications do not pay for
+     * walking the codec tree on every access. Keys are compared by equals(). A new generation of caches
+     * replaces the previous one when the schema context changes, so a conversion which was still running
+     * against the previous context can only store its result in the discarded generation.
+     */
+    private volatile PathCaches pathCaches = new PathCaches();
+
+    private final class PathCaches {
+        final LoadingCache<InstanceIdentifier<?>, YangInstanceIdentifier> toNormalized =
+                CacheBuilder.newBuilder().maximumSize(PATH_CACHE_SIZE).build(
+                        new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
+                            @Override
+                            public YangInstanceIdentifier load(final InstanceIdentifier<?> key) {
+                                return codecRegistry.toYangInstanceIdentifier(key);
+                            }
+                        });
+
+        final LoadingCache<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>> toBinding =
+                CacheBuilder.newBuilder().maximumSize(PATH_CACHE_SIZE).build(
+                        new CacheLoader<YangInstanceIdentifier, Optional<InstanceIdentifier<? extends DataObject>>>() {
+                            @Override
+                            public Optional<InstanceIdentifier<? extends DataObject>> load(final YangInstanceIdentifier key) {
+                                try {
+                                    return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(
+                                            codecRegistry.fromYangInstanceIdentifier(key));
+                                } catch (final IllegalArgumentException e) {
+                                    return Optional.absent();
+                                }
+                            }
+                        });
+
+        @SuppressWarnings("rawtypes")
+        final LoadingCache<InstanceIdentifier<?>, Function> deserializeFunction =
+                CacheBuilder.newBuilder().maximumSize(PATH_CACHE_SIZE).build(
+                        new CacheLoader<InstanceIdentifier<?>, Function>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Function load(final InstanceIdentifier<?> key) {
+                                return codecRegistry.deserializeFunction((InstanceIdentifier) key);
+                            }
+                        });
+    }
+
     public BindingToNormalizedNodeCodec(final GeneratedClassLoadingStrategy classLoadingStrategy,
             final BindingNormalizedNodeCodecRegistry codecRegistry) {
         this.classLoadingStrategy = classLoadingStrategy;
@@ -53,7 +107,19 @@ public class BindingToNormalizedNodeCodec implements BindingCodecTreeFactory, Sc
     }
 
     public YangInstanceIdentifier toNormalized(final InstanceIdentifier<? extends DataObject> binding) {
-        return codecRegistry.toYangInstanceIdentifier(binding);
+        return getCached(pathCaches.toNormalized, binding);
+    }
+
+    /**
+     * Looks up a cache entry, rethrowing any runtime exception thrown by the conversion itself,
+     * so callers observe the same exceptions as without caching.
+     */
+    private static <K, V> V getCached(final LoadingCache<K, V> cache, final K key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (final UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -79,11 +145,7 @@ public class BindingToNormalizedNodeCodec implements BindingCodecTreeFactory, Sc
      */
     public Optional<InstanceIdentifier<? extends DataObject>> toBinding(final YangInstanceIdentifier normalized)
                     throws DeserializationException {
-        try {
-            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(codecRegistry.fromYangInstanceIdentifier(normalized));
-        } catch (final IllegalArgumentException e) {
-            return Optional.absent();
-        }
+        return getCached(pathCaches.toBinding, normalized);
     }
 
     public DataNormalizer getDataNormalizer() {
@@ -120,10 +182,17 @@ public class BindingToNormalizedNodeCodec implements BindingCodecTreeFactory, Sc
         legacyToNormalized = new DataNormalizer (arg0);
         runtimeContext = BindingRuntimeContext.create(classLoadingStrategy, arg0);
         codecRegistry.onBindingRuntimeContextUpdated(runtimeContext);
+
+        pathCaches = new PathCaches();
     }
 
+    /**
+     * Returns a function converting read results at the supplied path. The resulting data objects
+     * are lazy, leaves and children are decoded only when they are accessed.
+     */
+    @SuppressWarnings("unchecked")
     public <T extends DataObject> Function<Optional<NormalizedNode<?, ?>>, Optional<T>>  deserializeFunction(final InstanceIdentifier<T> path) {
-        return codecRegistry.deserializeFunction(path);
+        return getCached(pathCaches.deserializeFunction, path);
     }
 
     /**
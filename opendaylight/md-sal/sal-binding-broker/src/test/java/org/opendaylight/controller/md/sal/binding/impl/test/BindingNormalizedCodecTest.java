@@ -1,5 +1,7 @@
 package org.opendaylight.controller.md.sal.binding.impl.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import javassist.ClassPool;
@@ -18,6 +20,7 @@ import org.opendaylight.yangtools.sal.binding.generator.impl.GeneratedClassLoadi
 import org.opendaylight.yangtools.sal.binding.generator.util.JavassistUtils;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -33,6 +36,7 @@ public class BindingNormalizedCodecTest extends AbstractSchemaAwareTest {
 
 
    private BindingToNormalizedNodeCodec codec;
+   private SchemaContext context;
 
     @Override
     protected void setupWithSchema(final SchemaContext context) {
@@ -40,6 +44,7 @@ public class BindingNormalizedCodecTest extends AbstractSchemaAwareTest {
         BindingNormalizedNodeCodecRegistry registry = new BindingNormalizedNodeCodecRegistry(streamWriter);
         codec = new BindingToNormalizedNodeCodec(GeneratedClassLoadingStrategy.getTCCLClassLoadingStrategy(), registry);
         codec.onGlobalContextUpdated(context);
+        this.context = context;
     };
 
     @Test
@@ -58,4 +63,22 @@ public class BindingNormalizedCodecTest extends AbstractSchemaAwareTest {
         assertTrue(((AugmentationIdentifier) leafOnlyLastArg).getPossibleChildNames().contains(SIMPLE_VALUE_QNAME));
     }
 
+    @Test
+    public void testCachedPathConversion() throws Exception {
+
+        YangInstanceIdentifier first = codec.toNormalized(BA_TOP_LEVEL_LIST);
+        assertSame(first, codec.toNormalized(BA_TOP_LEVEL_LIST));
+        assertEquals(BA_TOP_LEVEL_LIST, codec.toBinding(first).get());
+
+        // Equal, but not identical paths hit the same entry
+        InstanceIdentifier<TopLevelList> copy = InstanceIdentifier
+                .builder(Top.class).child(TopLevelList.class, TOP_FOO_KEY).toInstance();
+        assertSame(first, codec.toNormalized(copy));
+
+        // Schema context update starts with empty caches
+        codec.onGlobalContextUpdated(context);
+        assertEquals(first, codec.toNormalized(copy));
+        assertEquals(BA_TOP_LEVEL_LIST, codec.toBinding(first).get());
+    }
+
 }
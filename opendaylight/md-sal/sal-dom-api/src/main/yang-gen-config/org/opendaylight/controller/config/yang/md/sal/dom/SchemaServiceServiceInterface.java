@@ -0,0 +1,17 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: opendaylight-md-sal-dom yang module local name: schema-service
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:32:52 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.md.sal.dom;
+@org.opendaylight.controller.config.api.annotations.ServiceInterfaceAnnotation(value = "(urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom?revision=2013-10-28)schema-service", osgiRegistrationType = org.opendaylight.controller.sal.core.api.model.SchemaService.class, namespace = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom", revision = "2013-10-28", localName = "schema-service")
+
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom", revision = "2013-10-28", name = "opendaylight-md-sal-dom")
+
+public interface SchemaServiceServiceInterface extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface {
+
+}
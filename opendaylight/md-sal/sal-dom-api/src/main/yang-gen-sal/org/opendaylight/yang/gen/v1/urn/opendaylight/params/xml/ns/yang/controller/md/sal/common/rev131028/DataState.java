@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028.data.state.Transactions;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-md-sal-common&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-md-sal-common.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping data-state {
+ *     container transactions {
+ *         leaf created {
+ *             type uint32;
+ *         }
+ *         leaf submitted {
+ *             type uint32;
+ *         }
+ *         leaf successful {
+ *             type uint32;
+ *         }
+ *         leaf failed {
+ *             type uint32;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-md-sal-common/data-state&lt;/i&gt;
+ *
+ */
+public interface DataState
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:common","2013-10-28","data-state"));
+
+    Transactions getTransactions();
+
+}
+
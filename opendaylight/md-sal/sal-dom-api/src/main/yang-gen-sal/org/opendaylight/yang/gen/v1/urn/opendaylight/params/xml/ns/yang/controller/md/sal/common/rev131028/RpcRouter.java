@@ -0,0 +1,51 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028.rpc.router.RoutingTables;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-md-sal-common&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-md-sal-common.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping rpc-router {
+ *     leaf module {
+ *         type string;
+ *     }
+ *     container routing-tables {
+ *         list routing-table {
+ *             key     leaf routing-context {
+ *                 type string;
+ *             }
+ *             list routes {
+ *                 key     leaf path {
+ *                     type string;
+ *                 }
+ *                 leaf destination {
+ *                     type string;
+ *                 }
+ *             }
+ *             uses rpc-routing-table;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-md-sal-common/rpc-router&lt;/i&gt;
+ *
+ */
+public interface RpcRouter
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:common","2013-10-28","rpc-router"));
+
+    java.lang.String getModule();
+    
+    RoutingTables getRoutingTables();
+
+}
+
@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.common.rev131028.rpc.routing.table.Routes;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-md-sal-common&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-md-sal-common.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping rpc-routing-table {
+ *     leaf routing-context {
+ *         type string;
+ *     }
+ *     list routes {
+ *         key     leaf path {
+ *             type string;
+ *         }
+ *         leaf destination {
+ *             type string;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-md-sal-common/rpc-routing-table&lt;/i&gt;
+ *
+ */
+public interface RpcRoutingTable
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:common","2013-10-28","rpc-routing-table"));
+
+    java.lang.String getRoutingContext();
+    
+    List<Routes> getRoutes();
+
+}
+
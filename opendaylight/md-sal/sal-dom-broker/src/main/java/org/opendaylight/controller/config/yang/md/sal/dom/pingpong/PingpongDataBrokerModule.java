@@ -7,6 +7,9 @@
  */
 package org.opendaylight.controller.config.yang.md.sal.dom.pingpong;
 
+import static org.opendaylight.controller.config.api.JmxAttributeValidationException.checkCondition;
+import static org.opendaylight.controller.config.api.JmxAttributeValidationException.checkNotNull;
+
 import org.opendaylight.controller.config.api.DependencyResolver;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
 import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongDataBroker;
@@ -20,8 +23,15 @@ public class PingpongDataBrokerModule extends AbstractPingpongDataBrokerModule {
         super(identifier, dependencyResolver, oldModule, oldInstance);
     }
 
+    @Override
+    protected void customValidation() {
+        checkNotNull(getPipelineDepth(), pipelineDepthJmxAttribute);
+        checkCondition(getPipelineDepth() >= 2, "must be >= 2", pipelineDepthJmxAttribute);
+        checkNotNull(getSnapshotReads(), snapshotReadsJmxAttribute);
+    }
+
     @Override
     public java.lang.AutoCloseable createInstance() {
-        return new PingPongDataBroker(getDataBrokerDependency());
+        return new PingPongDataBroker(getDataBrokerDependency(), getPipelineDepth(), getSnapshotReads());
     }
 }
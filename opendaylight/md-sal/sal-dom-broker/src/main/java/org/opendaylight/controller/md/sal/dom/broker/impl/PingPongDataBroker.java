@@ -25,7 +25,14 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
  * and its transaction chains.
  */
 public final class PingPongDataBroker extends ForwardingDOMDataBroker implements AutoCloseable, DOMDataTreeChangeService {
+    /**
+     * Default number of outstanding transactions in a chain: one committing and one scratch.
+     */
+    public static final int DEFAULT_PIPELINE_DEPTH = 2;
+
     private final DOMDataBroker delegate;
+    private final int pipelineDepth;
+    private final boolean snapshotReads;
 
     /**
      * Instantiate a new broker, backed by the the specified delegate
@@ -34,7 +41,26 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
      * @param delegate Backend broker, may not be null.
      */
     public PingPongDataBroker(final @Nonnull DOMDataBroker delegate) {
+        this(delegate, DEFAULT_PIPELINE_DEPTH, false);
+    }
+
+    /**
+     * Instantiate a new broker, backed by the the specified delegate
+     * {@link DOMDataBroker}, whose transaction chains use specified tuning.
+     * See {@link PingPongTransactionChain} for details.
+     *
+     * @param delegate Backend broker, may not be null.
+     * @param pipelineDepth Maximum number of outstanding transactions in a chain, at least 2.
+     * @param snapshotReads Whether read-only transactions of a chain are served from committed
+     *                      data, without taking a pipeline slot. They then do not observe writes
+     *                      submitted to the chain which have not been committed yet.
+     */
+    public PingPongDataBroker(final @Nonnull DOMDataBroker delegate, final int pipelineDepth,
+            final boolean snapshotReads) {
+        Preconditions.checkArgument(pipelineDepth >= 2, "Pipeline depth %s is less than 2", pipelineDepth);
         this.delegate = Preconditions.checkNotNull(delegate);
+        this.pipelineDepth = pipelineDepth;
+        this.snapshotReads = snapshotReads;
     }
 
     @Override
@@ -44,7 +70,7 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
 
     @Override
     public PingPongTransactionChain createTransactionChain(final TransactionChainListener listener) {
-        return new PingPongTransactionChain(delegate, listener);
+        return new PingPongTransactionChain(delegate, listener, pipelineDepth, snapshotReads);
     }
 
     @Override
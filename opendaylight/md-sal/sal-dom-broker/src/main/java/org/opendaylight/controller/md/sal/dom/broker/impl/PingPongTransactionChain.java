@@ -13,6 +13,8 @@ import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.GuardedBy;
@@ -50,10 +52,31 @@ import org.slf4j.LoggerFactory;
  * It furthermore means that the transactions returned by {@link #newReadOnlyTransaction()}
  * counts as an outstanding transaction and the user may not allocate multiple
  * read-only transactions at the same time.
+ *
+ * Two aspects of this behavior can be tuned:
+ * <ul>
+ *   <li>The pipeline depth, which is the maximum number of outstanding transactions including
+ *       the scratch pad. With a depth greater than two, a ready scratch transaction is submitted
+ *       as soon as fewer than depth - 1 transactions are being committed, rather than waiting
+ *       for the single in-flight transaction to complete.</li>
+ *   <li>Snapshot reads. When enabled, {@link #newReadOnlyTransaction()} allocates a read-only
+ *       transaction directly from the backend broker. It does not take a slot, so any number of
+ *       them may be open concurrently with the write pipeline, but it observes only data which has
+ *       been committed, not the state of the scratch or in-flight transactions.</li>
+ * </ul>
+ *
+ * Snapshot reads weaken the chain contract: a read-only transaction no longer observes the
+ * transactions previously submitted to the chain, only those whose submit future has completed.
+ * Users which need to read their own writes must either wait for that future, or leave snapshot
+ * reads disabled. Reading through the scratch transaction instead is not an option, as it may be
+ * sealed and submitted by another thread while the read is in progress.
  */
 public final class PingPongTransactionChain implements DOMTransactionChain {
     private static final Logger LOG = LoggerFactory.getLogger(PingPongTransactionChain.class);
     private final DOMTransactionChain delegate;
+    private final DOMDataBroker broker;
+    private final boolean snapshotReads;
+    private final int maxInflight;
 
     @GuardedBy("this")
     private boolean failed;
@@ -77,21 +100,31 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     private volatile PingPongTransaction lockedTx;
 
     /**
-     * This updater is used to manipulate the "inflight" transaction. There can be at most
-     * one of these at any given time. We perform only compare-and-swap on these.
+     * Transactions which have been submitted to the delegate chain, in submission order. There
+     * can be at most {@link #maxInflight} of these at any given time. The count is published
+     * separately, so that the fast path can check for available capacity without locking.
      */
-    private static final AtomicReferenceFieldUpdater<PingPongTransactionChain, PingPongTransaction> INFLIGHT_UPDATER =
-            AtomicReferenceFieldUpdater.newUpdater(PingPongTransactionChain.class, PingPongTransaction.class, "inflightTx");
-    private volatile PingPongTransaction inflightTx;
+    @GuardedBy("this")
+    private final Deque<PingPongTransaction> inflightTxs = new ArrayDeque<>();
+    private volatile int inflightCount;
 
     PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener) {
+        this(broker, listener, PingPongDataBroker.DEFAULT_PIPELINE_DEPTH, false);
+    }
+
+    PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener,
+            final int pipelineDepth, final boolean snapshotReads) {
+        Preconditions.checkArgument(pipelineDepth >= 2, "Pipeline depth %s is less than 2", pipelineDepth);
+        this.broker = broker;
+        this.snapshotReads = snapshotReads;
+        this.maxInflight = pipelineDepth - 1;
         this.delegate = broker.createTransactionChain(new TransactionChainListener() {
             @Override
             public void onTransactionChainFailed(final TransactionChain<?, ?> chain, final AsyncTransaction<?, ?> transaction, final Throwable cause) {
                 LOG.debug("Delegate chain {} reported failure in {}", chain, transaction, cause);
 
                 final DOMDataReadWriteTransaction frontend;
-                final PingPongTransaction tx = inflightTx;
+                final PingPongTransaction tx = oldestInflight();
                 if (tx == null) {
                     LOG.warn("Transaction chain {} failed with no pending transactions", chain);
                     frontend = null;
@@ -110,6 +143,10 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         });
     }
 
+    private synchronized PingPongTransaction oldestInflight() {
+        return inflightTxs.peekFirst();
+    }
+
     private synchronized void delegateFailed() {
         failed = true;
 
@@ -158,12 +195,12 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
 
     /*
      * This forces allocateTransaction() on a slow path, which has to happen after
-     * this method has completed executing. Also inflightTx may be updated outside
-     * the lock, hence we need to re-check.
+     * this method has completed executing. Also the fast path checks inflightCount
+     * outside the lock, hence we need to re-check.
      */
     @GuardedBy("this")
     private void processIfReady() {
-        if (inflightTx == null) {
+        if (inflightTxs.size() < maxInflight) {
             final PingPongTransaction tx = READY_UPDATER.getAndSet(this, null);
             if (tx != null) {
                 processTransaction(tx);
@@ -186,9 +223,11 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         }
 
         LOG.debug("Submitting transaction {}", tx);
-        if (!INFLIGHT_UPDATER.compareAndSet(this, null, tx)) {
-            LOG.warn("Submitting transaction {} while {} is still running", tx, inflightTx);
+        if (inflightTxs.size() >= maxInflight) {
+            LOG.warn("Submitting transaction {} while {} are still running", tx, inflightTxs);
         }
+        inflightTxs.addLast(tx);
+        inflightCount = inflightTxs.size();
 
         Futures.addCallback(tx.getTransaction().submit(), new FutureCallback<Void>() {
             @Override
@@ -203,13 +242,21 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         });
     }
 
+    @GuardedBy("this")
+    private void removeInflight(final PingPongTransaction tx) {
+        final boolean success = inflightTxs.remove(tx);
+        Preconditions.checkState(success, "Completed transaction %s while %s were submitted", tx, inflightTxs);
+        inflightCount = inflightTxs.size();
+
+        // Wake up close(), which may be waiting for capacity
+        notifyAll();
+    }
+
     private void transactionSuccessful(final PingPongTransaction tx, final Void result) {
         LOG.debug("Transaction {} completed successfully", tx);
 
-        final boolean success = INFLIGHT_UPDATER.compareAndSet(this, tx, null);
-        Preconditions.checkState(success, "Successful transaction %s while %s was submitted", tx, inflightTx);
-
         synchronized (this) {
+            removeInflight(tx);
             processIfReady();
         }
 
@@ -220,8 +267,9 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     private void transactionFailed(final PingPongTransaction tx, final Throwable t) {
         LOG.debug("Transaction {} failed", tx, t);
 
-        final boolean success = INFLIGHT_UPDATER.compareAndSet(this, tx, null);
-        Preconditions.checkState(success, "Failed transaction %s while %s was submitted", tx, inflightTx);
+        synchronized (this) {
+            removeInflight(tx);
+        }
 
         tx.onFailure(t);
     }
@@ -241,12 +289,12 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         LOG.debug("Transaction {} readied", tx);
 
         /*
-         * We do not see a transaction being in-flight, so we need to take care of dispatching
+         * We see capacity in the pipeline, so we need to take care of dispatching
          * the transaction to the backend. We are in the ready case, we cannot short-cut
          * the checking of readyTx, as an in-flight transaction may have completed between us
          * setting the field above and us checking.
          */
-        if (inflightTx == null) {
+        if (inflightCount < maxInflight) {
             synchronized (this) {
                 processIfReady();
             }
@@ -261,24 +309,41 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         // Force allocations on slow path. We will complete the rest
         final PingPongTransaction tx = READY_UPDATER.getAndSet(this, null);
 
-        // Make sure no transaction is outstanding. Otherwise sleep a bit and retry
-        while (inflightTx != null) {
-            LOG.debug("Busy-waiting for in-flight transaction {} to complete", inflightTx);
-            Thread.yield();
-            continue;
-        }
-
-        // If we have an outstanding transaction, send it down
+        // If we have an outstanding transaction, send it down once there is capacity for it
         if (tx != null) {
+            boolean interrupted = false;
+            while (inflightTxs.size() >= maxInflight) {
+                LOG.debug("Waiting for in-flight transactions {} to complete", inflightTxs);
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
             processTransaction(tx);
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
 
         // All done, close the delegate. All new allocations should fail.
         delegate.close();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * With snapshot reads enabled, the returned transaction reads committed data only and does not
+     * observe writes of this chain which are still pending, see {@link PingPongTransactionChain}.
+     */
     @Override
     public DOMDataReadOnlyTransaction newReadOnlyTransaction() {
+        if (snapshotReads) {
+            return broker.newReadOnlyTransaction();
+        }
+
         final PingPongTransaction tx = allocateTransaction();
 
         return new DOMDataReadOnlyTransaction() {
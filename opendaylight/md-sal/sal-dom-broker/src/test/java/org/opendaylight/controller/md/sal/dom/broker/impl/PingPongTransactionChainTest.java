@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType.CONFIGURATION;
+import static org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType.OPERATIONAL;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class PingPongTransactionChainTest {
+
+    private AbstractDOMDataBroker domBroker;
+
+    @Before
+    public void setupStore() {
+        InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER", MoreExecutors.newDirectExecutorService());
+        InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG", MoreExecutors.newDirectExecutorService());
+        SchemaContext schemaContext = TestModel.createTestContext();
+
+        operStore.onGlobalContextUpdated(schemaContext);
+        configStore.onGlobalContextUpdated(schemaContext);
+
+        ImmutableMap<LogicalDatastoreType, DOMStore> stores = ImmutableMap.<LogicalDatastoreType, DOMStore> builder() //
+                .put(CONFIGURATION, configStore) //
+                .put(OPERATIONAL, operStore) //
+                .build();
+
+        ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        domBroker = new SerializedDOMDataBroker(stores, executor);
+    }
+
+    @Test
+    public void testSnapshotReadsDoNotTakeSlot() throws Exception {
+        PingPongDataBroker broker = new PingPongDataBroker(domBroker, PingPongDataBroker.DEFAULT_PIPELINE_DEPTH, true);
+        DOMTransactionChain txChain = broker.createTransactionChain(new BlockingTransactionChainListener());
+
+        DOMDataWriteTransaction writeTx = txChain.newWriteOnlyTransaction();
+        writeTx.put(OPERATIONAL, TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+
+        // Both readers are allocated while the write transaction is still open
+        DOMDataReadOnlyTransaction firstReadTx = txChain.newReadOnlyTransaction();
+        DOMDataReadOnlyTransaction secondReadTx = txChain.newReadOnlyTransaction();
+
+        // Readers observe committed data only
+        Optional<NormalizedNode<?, ?>> before = firstReadTx.read(OPERATIONAL, TestModel.TEST_PATH).get(5, TimeUnit.SECONDS);
+        assertFalse(before.isPresent());
+
+        // Writes submitted to the chain are observed once committed
+        writeTx.submit().get(5, TimeUnit.SECONDS);
+
+        DOMDataReadOnlyTransaction thirdReadTx = txChain.newReadOnlyTransaction();
+        Optional<NormalizedNode<?, ?>> after = thirdReadTx.read(OPERATIONAL, TestModel.TEST_PATH).get(5, TimeUnit.SECONDS);
+        assertTrue(after.isPresent());
+
+        firstReadTx.close();
+        secondReadTx.close();
+        thirdReadTx.close();
+        txChain.close();
+    }
+
+    @Test
+    public void testPipelineDepth() throws Exception {
+        PingPongDataBroker broker = new PingPongDataBroker(domBroker, 3, false);
+        DOMTransactionChain txChain = broker.createTransactionChain(new BlockingTransactionChainListener());
+
+        DOMDataWriteTransaction firstTx = txChain.newWriteOnlyTransaction();
+        firstTx.put(OPERATIONAL, TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        ListenableFuture<Void> firstFuture = firstTx.submit();
+
+        DOMDataWriteTransaction secondTx = txChain.newWriteOnlyTransaction();
+        secondTx.delete(OPERATIONAL, TestModel.TEST_PATH);
+        ListenableFuture<Void> secondFuture = secondTx.submit();
+
+        firstFuture.get(5, TimeUnit.SECONDS);
+        secondFuture.get(5, TimeUnit.SECONDS);
+
+        DOMDataReadOnlyTransaction readTx = txChain.newReadOnlyTransaction();
+        assertFalse(readTx.read(OPERATIONAL, TestModel.TEST_PATH).get(5, TimeUnit.SECONDS).isPresent());
+        readTx.close();
+        txChain.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPipelineDepth() {
+        new PingPongDataBroker(domBroker, 1, false);
+    }
+}
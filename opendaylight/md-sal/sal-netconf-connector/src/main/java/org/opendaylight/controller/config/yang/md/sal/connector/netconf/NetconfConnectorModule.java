@@ -29,6 +29,7 @@ import org.opendaylight.controller.sal.connect.netconf.NetconfStateSchemas;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.controller.sal.connect.netconf.sal.NetconfDeviceSalFacade;
+import org.opendaylight.controller.sal.connect.netconf.schema.NetconfDeviceSchemaCache;
 import org.opendaylight.controller.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.controller.sal.core.api.Broker;
 import org.opendaylight.protocol.framework.ReconnectStrategy;
@@ -53,6 +54,8 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
     private Optional<NetconfSessionPreferences> userCapabilities;
     private SchemaSourceRegistry schemaRegistry;
     private SchemaContextFactory schemaContextFactory;
+    private NetconfDeviceSchemaCache schemaCache;
+    private SharedConnectorResources sharedResources;
 
     public NetconfConnectorModule(final org.opendaylight.controller.config.api.ModuleIdentifier identifier, final org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
         super(identifier, dependencyResolver);
@@ -76,6 +79,9 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
         checkNotNull(getBetweenAttemptsTimeoutMillis(), betweenAttemptsTimeoutMillisJmxAttribute);
         checkCondition(getBetweenAttemptsTimeoutMillis() > 0, "must be > 0", betweenAttemptsTimeoutMillisJmxAttribute);
 
+        checkNotNull(getConcurrentRpcLimit(), concurrentRpcLimitJmxAttribute);
+        checkNotNull(getDefaultRequestTimeoutMillis(), defaultRequestTimeoutMillisJmxAttribute);
+
         checkNotNull(getClientDispatcher(), clientDispatcherJmxAttribute);
         checkNotNull(getBindingRegistry(), bindingRegistryJmxAttribute);
         checkNotNull(getProcessingExecutor(), processingExecutorJmxAttribute);
@@ -96,6 +102,16 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
 
     @Override
     public java.lang.AutoCloseable createInstance() {
+        sharedResources.acquire();
+        try {
+            return createConnector();
+        } catch (final RuntimeException e) {
+            sharedResources.release();
+            throw e;
+        }
+    }
+
+    private AutoCloseable createConnector() {
         final RemoteDeviceId id = new RemoteDeviceId(getIdentifier(), getSocketAddress());
 
         final ExecutorService globalProcessingExecutor = getProcessingExecutorDependency().getExecutor();
@@ -107,20 +123,21 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
                 = new NetconfDeviceSalFacade(id, domBroker, bindingBroker, bundleContext);
 
         final NetconfDevice.SchemaResourcesDTO schemaResourcesDTO =
-                new NetconfDevice.SchemaResourcesDTO(schemaRegistry, schemaContextFactory, new NetconfStateSchemas.NetconfStateSchemasResolverImpl());
+                new NetconfDevice.SchemaResourcesDTO(schemaRegistry, schemaContextFactory, new NetconfStateSchemas.NetconfStateSchemasResolverImpl(), schemaCache);
 
         final NetconfDevice device =
-                new NetconfDevice(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, getReconnectOnChangedSchema());
+                new NetconfDevice(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, getReconnectOnChangedSchema(),
+                        sharedResources.getDecodingExecutor());
 
-        final NetconfDeviceCommunicator listener = userCapabilities.isPresent() ?
-                new NetconfDeviceCommunicator(id, device, userCapabilities.get()) : new NetconfDeviceCommunicator(id, device);
+        final NetconfDeviceCommunicator listener = new NetconfDeviceCommunicator(id, device, userCapabilities,
+                getConcurrentRpcLimit(), getDefaultRequestTimeoutMillis(), getEventExecutorDependency());
 
         final NetconfReconnectingClientConfiguration clientConfig = getClientConfig(listener);
         final NetconfClientDispatcher dispatcher = getClientDispatcherDependency();
 
         listener.initializeRemoteConnection(dispatcher, clientConfig);
 
-        return new SalConnectorCloseable(listener, salFacade);
+        return new SalConnectorCloseable(listener, salFacade, sharedResources);
     }
 
     private Optional<NetconfSessionPreferences> getUserCapabilities() {
@@ -171,17 +188,24 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
     private static final class SalConnectorCloseable implements AutoCloseable {
         private final RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
         private final NetconfDeviceCommunicator listener;
+        private final SharedConnectorResources sharedResources;
 
         public SalConnectorCloseable(final NetconfDeviceCommunicator listener,
-                                     final RemoteDeviceHandler<NetconfSessionPreferences> salFacade) {
+                                     final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                                     final SharedConnectorResources sharedResources) {
             this.listener = listener;
             this.salFacade = salFacade;
+            this.sharedResources = sharedResources;
         }
 
         @Override
         public void close() {
-            listener.close();
-            salFacade.close();
+            try {
+                listener.close();
+                salFacade.close();
+            } finally {
+                sharedResources.release();
+            }
         }
     }
 
@@ -231,4 +255,12 @@ public final class NetconfConnectorModule extends org.opendaylight.controller.co
     public void setSchemaContextFactory(final SchemaContextFactory schemaContextFactory) {
         this.schemaContextFactory = schemaContextFactory;
     }
+
+    public void setSchemaCache(final NetconfDeviceSchemaCache schemaCache) {
+        this.schemaCache = schemaCache;
+    }
+
+    void setSharedResources(final SharedConnectorResources sharedResources) {
+        this.sharedResources = sharedResources;
+    }
 }
@@ -7,11 +7,13 @@
  */
 package org.opendaylight.controller.config.yang.md.sal.connector.netconf;
 
+import com.codahale.metrics.MetricRegistry;
 import java.io.File;
 
 import org.opendaylight.controller.config.api.DependencyResolver;
 import org.opendaylight.controller.config.api.DynamicMBeanWithInstance;
 import org.opendaylight.controller.config.spi.Module;
+import org.opendaylight.controller.sal.connect.netconf.schema.NetconfDeviceSchemaCache;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceFilter;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
@@ -31,6 +33,11 @@ public class NetconfConnectorModuleFactory extends
     private final SharedSchemaRepository repository = new SharedSchemaRepository(NAME);
     private final SchemaContextFactory schemaContextFactory
             = repository.createSchemaContextFactory(SchemaSourceFilter.ALWAYS_ACCEPT);
+    // Schema contexts shared by all connector instances with the same sources
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final NetconfDeviceSchemaCache schemaCache = new NetconfDeviceSchemaCache(schemaContextFactory, metricRegistry);
+    // Reports the cache metrics and decodes messages while there are connector instances
+    private final SharedConnectorResources sharedResources = new SharedConnectorResources(metricRegistry);
 
     public NetconfConnectorModuleFactory() {
         // Start cache and Text to AST transformer
@@ -48,6 +55,8 @@ public class NetconfConnectorModuleFactory extends
         module.setBundleContext(bundleContext);
         module.setSchemaRegistry(repository);
         module.setSchemaContextFactory(schemaContextFactory);
+        module.setSchemaCache(schemaCache);
+        module.setSharedResources(sharedResources);
         return module;
     }
 
@@ -58,6 +67,8 @@ public class NetconfConnectorModuleFactory extends
         module.setBundleContext(bundleContext);
         module.setSchemaRegistry(repository);
         module.setSchemaContextFactory(schemaContextFactory);
+        module.setSchemaCache(schemaCache);
+        module.setSharedResources(sharedResources);
         return module;
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.md.sal.connector.netconf;
+
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resources shared by the netconf-connector instances of one module factory. They are started with
+ * the first instance and stopped once the last instance is closed, so nothing is left running after
+ * the instances are gone, e.g. when the bundle is stopped or restarted.
+ */
+final class SharedConnectorResources {
+    private static final String METRICS_DOMAIN = "org.opendaylight.controller.netconf.connector.metric";
+    private static final int DECODING_QUEUE_SIZE = 1024;
+
+    private final MetricRegistry metricRegistry;
+
+    private int references;
+    private JmxReporter reporter;
+    private ThreadPoolExecutor decodingExecutor;
+
+    SharedConnectorResources(final MetricRegistry metricRegistry) {
+        this.metricRegistry = Preconditions.checkNotNull(metricRegistry);
+    }
+
+    /**
+     * Called by every connector instance when it is created, has to be paired with {@link #release()}.
+     */
+    synchronized void acquire() {
+        if (references++ == 0) {
+            reporter = JmxReporter.forRegistry(metricRegistry).inDomain(METRICS_DOMAIN).build();
+            reporter.start();
+            decodingExecutor = createDecodingExecutor();
+        }
+    }
+
+    /**
+     * Notifications and rpc replies of all connector instances are decoded here instead of netty threads.
+     * Full queue makes netty thread decode the message itself, which stops reading from that device.
+     * Same happens after the pool was shut down, so results of messages racing with the close still complete.
+     * Available only between {@link #acquire()} and {@link #release()}.
+     */
+    synchronized ExecutorService getDecodingExecutor() {
+        Preconditions.checkState(references > 0, "Shared connector resources are not in use");
+        return decodingExecutor;
+    }
+
+    synchronized void release() {
+        Preconditions.checkState(references > 0, "Shared connector resources are not in use");
+        if (--references == 0) {
+            reporter.stop();
+            reporter = null;
+            decodingExecutor.shutdown();
+            decodingExecutor = null;
+        }
+    }
+
+    private static ThreadPoolExecutor createDecodingExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(DECODING_QUEUE_SIZE),
+                new ThreadFactoryBuilder().setNameFormat("netconf-decoder-%d").setDaemon(true).build(),
+                new RejectedExecutionHandler() {
+                    @Override
+                    public void rejectedExecution(final Runnable r, final ThreadPoolExecutor executor) {
+                        r.run();
+                    }
+                });
+    }
+}
@@ -39,6 +39,7 @@ import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCap
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.controller.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.controller.sal.connect.netconf.sal.NetconfDeviceRpc;
+import org.opendaylight.controller.sal.connect.netconf.schema.NetconfDeviceSchemaCache;
 import org.opendaylight.controller.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider;
 import org.opendaylight.controller.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
 import org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil;
@@ -99,9 +100,10 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
     private final RemoteDeviceId id;
     private final boolean reconnectOnSchemasChange;
 
-    private final SchemaContextFactory schemaContextFactory;
+    private final NetconfDeviceSchemaCache schemaCache;
     private final RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
     private final ListeningExecutorService processingExecutor;
+    private final ListeningExecutorService decodingExecutor;
     private final SchemaSourceRegistry schemaRegistry;
     private final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver;
     private final NotificationHandler notificationHandler;
@@ -109,6 +111,10 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
 
     // Message transformer is constructed once the schemas are available
     private MessageTransformer<NetconfMessage> messageTransformer;
+    // Schema context and transformer shared with other devices, released once the session goes down
+    private NetconfDeviceSchemaCache.SchemaLease schemaLease;
+    // Changes whenever the session goes up or down, so a schema setup can tell whether its session is still up
+    private long sessionGeneration;
 
     public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                          final ExecutorService globalProcessingExecutor) {
@@ -119,21 +125,32 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
      * Create rpc implementation capable of handling RPC for monitoring and notifications even before the schemas of remote device are downloaded
      */
     static NetconfDeviceRpc getRpcForInitialization(final NetconfDeviceCommunicator listener) {
-        return new NetconfDeviceRpc(INIT_SCHEMA_CTX, listener, new NetconfMessageTransformer(INIT_SCHEMA_CTX));
+        return new NetconfDeviceRpc(INIT_SCHEMA_CTX, listener, NetconfMessageTransformer.forDevice(INIT_SCHEMA_CTX));
     }
 
 
-    // FIXME reduce parameters
     public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                          final ExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange) {
+        this(schemaResourcesDTO, id, salFacade, globalProcessingExecutor, reconnectOnSchemasChange, MoreExecutors.sameThreadExecutor());
+    }
+
+    /**
+     * @param decodingExecutor executor decoding notifications and rpc replies, so that netty threads only read
+     *                         messages from the wire
+     */
+    // FIXME reduce parameters
+    public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                         final ExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange,
+                         final ExecutorService decodingExecutor) {
         this.id = id;
         this.reconnectOnSchemasChange = reconnectOnSchemasChange;
         this.schemaRegistry = schemaResourcesDTO.getSchemaRegistry();
-        this.schemaContextFactory = schemaResourcesDTO.getSchemaContextFactory();
+        this.schemaCache = schemaResourcesDTO.getSchemaCache();
         this.salFacade = salFacade;
         this.stateSchemasResolver = schemaResourcesDTO.getStateSchemasResolver();
         this.processingExecutor = MoreExecutors.listeningDecorator(globalProcessingExecutor);
-        this.notificationHandler = new NotificationHandler(salFacade, id);
+        this.decodingExecutor = MoreExecutors.listeningDecorator(decodingExecutor);
+        this.notificationHandler = new NotificationHandler(salFacade, id, this.decodingExecutor);
     }
 
     @Override
@@ -145,6 +162,7 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         // deadlock if we used the netty thread
         // http://netty.io/wiki/thread-model.html
         logger.debug("{}: Session to remote device established with {}", id, remoteSessionCapabilities);
+        final long session = startSession();
 
         final NetconfDeviceRpc initRpc = getRpcForInitialization(listener);
         final DeviceSourcesResolver task = new DeviceSourcesResolver(remoteSessionCapabilities, id, stateSchemasResolver, initRpc);
@@ -162,7 +180,7 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
             }
 
             private void setUpSchema(final DeviceSources result) {
-                processingExecutor.submit(new RecursiveSchemaSetup(result, remoteSessionCapabilities, listener));
+                processingExecutor.submit(new RecursiveSchemaSetup(result, remoteSessionCapabilities, listener, session));
             }
 
             @Override
@@ -217,9 +235,12 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
 
     @VisibleForTesting
     void handleSalInitializationSuccess(final SchemaContext result, final NetconfSessionPreferences remoteSessionCapabilities, final DOMRpcService deviceRpc) {
-        messageTransformer = new NetconfMessageTransformer(result);
+        handleSalInitializationSuccess(result, NetconfMessageTransformer.forDevice(result), remoteSessionCapabilities, deviceRpc);
+    }
 
-        updateTransformer(messageTransformer);
+    private void handleSalInitializationSuccess(final SchemaContext result, final NetconfMessageTransformer transformer,
+                                                final NetconfSessionPreferences remoteSessionCapabilities, final DOMRpcService deviceRpc) {
+        updateTransformer(transformer);
         // salFacade.onDeviceConnected has to be called before the notification handler is initialized
         salFacade.onDeviceConnected(result, remoteSessionCapabilities, deviceRpc);
         notificationHandler.onRemoteSchemaUp(messageTransformer);
@@ -262,6 +283,37 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
             sourceRegistration.close();
         }
         resetMessageTransformer();
+        releaseSchema();
+    }
+
+    private synchronized long startSession() {
+        return ++sessionGeneration;
+    }
+
+    /**
+     * Keep the lease for the session it was acquired for.
+     *
+     * @return false if that session is no longer up, the lease is closed then
+     */
+    private synchronized boolean updateSchemaLease(final NetconfDeviceSchemaCache.SchemaLease lease, final long session) {
+        if (session != sessionGeneration) {
+            lease.close();
+            return false;
+        }
+        if (schemaLease != null) {
+            schemaLease.close();
+        }
+        schemaLease = lease;
+        return true;
+    }
+
+    private synchronized void releaseSchema() {
+        // Schema setups still running for the session which went down do not keep their leases
+        sessionGeneration++;
+        if (schemaLease != null) {
+            schemaLease.close();
+            schemaLease = null;
+        }
     }
 
     @Override
@@ -281,11 +333,21 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         private final SchemaSourceRegistry schemaRegistry;
         private final SchemaContextFactory schemaContextFactory;
         private final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver;
+        private final NetconfDeviceSchemaCache schemaCache;
 
         public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry, final SchemaContextFactory schemaContextFactory, final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver) {
+            this(schemaRegistry, schemaContextFactory, stateSchemasResolver, new NetconfDeviceSchemaCache(schemaContextFactory));
+        }
+
+        /**
+         * @param schemaCache cache shared with other devices, has to be backed by the same schemaContextFactory
+         */
+        public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry, final SchemaContextFactory schemaContextFactory,
+                                  final NetconfStateSchemas.NetconfStateSchemasResolver stateSchemasResolver, final NetconfDeviceSchemaCache schemaCache) {
             this.schemaRegistry = Preconditions.checkNotNull(schemaRegistry);
             this.schemaContextFactory = Preconditions.checkNotNull(schemaContextFactory);
             this.stateSchemasResolver = Preconditions.checkNotNull(stateSchemasResolver);
+            this.schemaCache = Preconditions.checkNotNull(schemaCache);
         }
 
         public SchemaSourceRegistry getSchemaRegistry() {
@@ -299,6 +361,10 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         public NetconfStateSchemas.NetconfStateSchemasResolver getStateSchemasResolver() {
             return stateSchemasResolver;
         }
+
+        public NetconfDeviceSchemaCache getSchemaCache() {
+            return schemaCache;
+        }
     }
 
     /**
@@ -392,8 +458,11 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
         private final NetconfSessionPreferences remoteSessionCapabilities;
         private final RemoteDeviceCommunicator<NetconfMessage> listener;
         private final NetconfDeviceCapabilities capabilities;
+        private final long session;
 
-        public RecursiveSchemaSetup(final DeviceSources deviceSources, final NetconfSessionPreferences remoteSessionCapabilities, final RemoteDeviceCommunicator<NetconfMessage> listener) {
+        public RecursiveSchemaSetup(final DeviceSources deviceSources, final NetconfSessionPreferences remoteSessionCapabilities,
+                                    final RemoteDeviceCommunicator<NetconfMessage> listener, final long session) {
+            this.session = session;
             this.deviceSources = deviceSources;
             this.remoteSessionCapabilities = remoteSessionCapabilities;
             this.listener = listener;
@@ -418,17 +487,24 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
                 return;
             }
 
-            final CheckedFuture<SchemaContext, SchemaResolutionException> schemaBuilderFuture = schemaContextFactory.createSchemaContext(requiredSources);
+            // Devices with the same sources share schema context and message transformer
+            final ListenableFuture<NetconfDeviceSchemaCache.SchemaLease> schemaBuilderFuture = schemaCache.acquire(requiredSources);
 
-            final FutureCallback<SchemaContext> RecursiveSchemaBuilderCallback = new FutureCallback<SchemaContext>() {
+            final FutureCallback<NetconfDeviceSchemaCache.SchemaLease> RecursiveSchemaBuilderCallback = new FutureCallback<NetconfDeviceSchemaCache.SchemaLease>() {
 
                 @Override
-                public void onSuccess(final SchemaContext result) {
+                public void onSuccess(final NetconfDeviceSchemaCache.SchemaLease lease) {
                     logger.debug("{}: Schema context built successfully from {}", id, requiredSources);
+                    if (!updateSchemaLease(lease, session)) {
+                        logger.debug("{}: Session went down while building schema context, dropping it", id);
+                        return;
+                    }
+                    final SchemaContext result = lease.getSchemaContext();
                     final Collection<QName> filteredQNames = Sets.difference(remoteSessionCapabilities.getModuleBasedCaps(), capabilities.getUnresolvedCapabilites().keySet());
                     capabilities.addCapabilities(filteredQNames);
                     capabilities.addNonModuleBasedCapabilities(remoteSessionCapabilities.getNonModuleCaps());
-                    handleSalInitializationSuccess(result, remoteSessionCapabilities, getDeviceSpecificRpc(result));
+                    handleSalInitializationSuccess(result, lease.getMessageTransformer(), remoteSessionCapabilities,
+                            getDeviceSpecificRpc(result, lease.getMessageTransformer()));
                 }
 
                 @Override
@@ -458,8 +534,8 @@ public final class NetconfDevice implements RemoteDevice<NetconfSessionPreferenc
             Futures.addCallback(schemaBuilderFuture, RecursiveSchemaBuilderCallback);
         }
 
-        private NetconfDeviceRpc getDeviceSpecificRpc(final SchemaContext result) {
-            return new NetconfDeviceRpc(result, listener, new NetconfMessageTransformer(result));
+        private NetconfDeviceRpc getDeviceSpecificRpc(final SchemaContext result, final NetconfMessageTransformer transformer) {
+            return new NetconfDeviceRpc(result, listener, transformer, decodingExecutor);
         }
 
         private Collection<SourceIdentifier> stripMissingSource(final Collection<SourceIdentifier> requiredSources, final SourceIdentifier sIdToRemove) {
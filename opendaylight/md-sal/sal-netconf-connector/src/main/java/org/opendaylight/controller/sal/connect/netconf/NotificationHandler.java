@@ -9,8 +9,15 @@ package org.opendaylight.controller.sal.connect.netconf;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.controller.sal.connect.api.MessageTransformer;
@@ -23,6 +30,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Handles incoming notifications. Either caches them(until onRemoteSchemaUp is called) or passes to sal Facade.
+ * <p/>
+ * Notifications are decoded in parallel by the decoding executor, but passed to sal facade in the order
+ * they were received.
  */
 final class NotificationHandler {
 
@@ -31,19 +41,27 @@ final class NotificationHandler {
     private final RemoteDeviceHandler<?> salFacade;
     private final List<NetconfMessage> queue = new LinkedList<>();
     private final RemoteDeviceId id;
+    private final ListeningExecutorService decodingExecutor;
+    // Notifications being decoded, in order of arrival
+    private final Queue<ListenableFuture<ContainerNode>> decoding = new ArrayDeque<>();
     private boolean passNotifications = false;
 
     private NotificationFilter filter;
     private MessageTransformer<NetconfMessage> messageTransformer;
 
     NotificationHandler(final RemoteDeviceHandler<?> salFacade, final RemoteDeviceId id) {
+        this(salFacade, id, MoreExecutors.sameThreadExecutor());
+    }
+
+    NotificationHandler(final RemoteDeviceHandler<?> salFacade, final RemoteDeviceId id, final ListeningExecutorService decodingExecutor) {
         this.salFacade = Preconditions.checkNotNull(salFacade);
         this.id = Preconditions.checkNotNull(id);
+        this.decodingExecutor = Preconditions.checkNotNull(decodingExecutor);
     }
 
     synchronized void handleNotification(final NetconfMessage notification) {
         if(passNotifications) {
-            passNotification(transformNotification(notification));
+            decodeNotification(notification);
         } else {
             queueNotification(notification);
         }
@@ -59,14 +77,54 @@ final class NotificationHandler {
         passNotifications = true;
 
         for (final NetconfMessage cachedNotification : queue) {
-            passNotification(transformNotification(cachedNotification));
+            decodeNotification(cachedNotification);
         }
 
         queue.clear();
     }
 
-    private ContainerNode transformNotification(final NetconfMessage cachedNotification) {
-        final ContainerNode parsedNotification = messageTransformer.toNotification(cachedNotification);
+    private void decodeNotification(final NetconfMessage notification) {
+        final MessageTransformer<NetconfMessage> transformer = messageTransformer;
+        final ListenableFuture<ContainerNode> future = decodingExecutor.submit(new Callable<ContainerNode>() {
+            @Override
+            public ContainerNode call() {
+                return transformNotification(transformer, notification);
+            }
+        });
+        decoding.add(future);
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                passDecodedNotifications();
+            }
+        }, MoreExecutors.sameThreadExecutor());
+    }
+
+    /**
+     * Pass notifications decoded so far, stops at the first one still being decoded to preserve the order.
+     */
+    private synchronized void passDecodedNotifications() {
+        ListenableFuture<ContainerNode> head;
+        while ((head = decoding.peek()) != null && head.isDone()) {
+            decoding.poll();
+            final ContainerNode notification;
+            try {
+                notification = head.get();
+            } catch (InterruptedException | ExecutionException e) {
+                logger.warn("{}: Unable to decode notification, dropping it", id, e);
+                continue;
+            }
+            try {
+                passNotification(notification);
+            } catch (final RuntimeException e) {
+                // Nobody else would pass the notifications decoded after this one
+                logger.warn("{}: Failed to forward notification {}", id, notification, e);
+            }
+        }
+    }
+
+    private ContainerNode transformNotification(final MessageTransformer<NetconfMessage> transformer, final NetconfMessage cachedNotification) {
+        final ContainerNode parsedNotification = transformer.toNotification(cachedNotification);
         Preconditions.checkNotNull(parsedNotification, "%s: Unable to parse received notification: %s", id, cachedNotification);
         return parsedNotification;
     }
@@ -96,6 +154,8 @@ final class NotificationHandler {
 
     synchronized void onRemoteSchemaDown() {
         queue.clear();
+        // Notifications still being decoded are dropped
+        decoding.clear();
         passNotifications = false;
         messageTransformer = null;
     }
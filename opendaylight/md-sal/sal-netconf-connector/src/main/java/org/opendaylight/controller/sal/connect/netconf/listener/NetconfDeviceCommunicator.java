@@ -8,17 +8,26 @@
 package org.opendaylight.controller.sal.connect.netconf.listener;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
-import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
@@ -30,6 +39,7 @@ import org.opendaylight.controller.netconf.client.NetconfClientSession;
 import org.opendaylight.controller.netconf.client.NetconfClientSessionListener;
 import org.opendaylight.controller.netconf.client.conf.NetconfClientConfiguration;
 import org.opendaylight.controller.netconf.client.conf.NetconfReconnectingClientConfiguration;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlElement;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.controller.sal.connect.api.RemoteDevice;
@@ -47,14 +57,41 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     private static final Logger logger = LoggerFactory.getLogger(NetconfDeviceCommunicator.class);
 
+    /**
+     * Bounds for remembering message-ids of timed out requests. A late reply arriving after that is
+     * reported as unsolicited, which is harmless.
+     */
+    private static final int TIMED_OUT_MESSAGE_IDS_LIMIT = 1024;
+    private static final long TIMED_OUT_MESSAGE_IDS_RETENTION_MINUTES = 10;
+
     private final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice;
     private final Optional<NetconfSessionPreferences> overrideNetconfCapabilities;
     private final RemoteDeviceId id;
+    /**
+     * Guards session transitions only, requests are sent and correlated without holding it.
+     */
     private final Lock sessionLock = new ReentrantLock();
 
-    // TODO implement concurrent message limit
-    private final Queue<Request> requests = new ArrayDeque<>();
-    private NetconfClientSession session;
+    /**
+     * Outstanding requests keyed by message-id, replies are matched regardless of their order.
+     */
+    private final ConcurrentMap<String, Request> requests = new ConcurrentHashMap<>();
+    /**
+     * Requests waiting for a free slot, used only if concurrent rpc limit is set.
+     */
+    private final Queue<Request> pendingRequests = new ConcurrentLinkedQueue<>();
+    /**
+     * Message-ids of requests that timed out, so that their late replies are not mistaken for unsolicited ones.
+     */
+    private final Cache<String, Boolean> timedOutMessageIds = CacheBuilder.newBuilder()
+            .maximumSize(TIMED_OUT_MESSAGE_IDS_LIMIT)
+            .expireAfterWrite(TIMED_OUT_MESSAGE_IDS_RETENTION_MINUTES, TimeUnit.MINUTES).build();
+
+    private final Semaphore semaphore;
+    private final long requestTimeoutMillis;
+    private final ScheduledExecutorService timeoutExecutor;
+
+    private volatile NetconfClientSession session;
     private Future<?> initFuture;
 
     public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
@@ -69,9 +106,26 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     private NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
             final Optional<NetconfSessionPreferences> overrideNetconfCapabilities) {
+        this(id, remoteDevice, overrideNetconfCapabilities, 0, 0, null);
+    }
+
+    /**
+     * @param concurrentRpcLimit maximum number of requests sent to the device without a reply, further requests
+     *                           wait until a reply arrives. Non positive value means no limit.
+     * @param requestTimeoutMillis time after which a request without reply fails. Non positive value means no timeout.
+     * @param timeoutExecutor executor scheduling request timeouts, required only if timeout is set
+     */
+    public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
+            final Optional<NetconfSessionPreferences> overrideNetconfCapabilities, final int concurrentRpcLimit,
+            final long requestTimeoutMillis, final ScheduledExecutorService timeoutExecutor) {
+        Preconditions.checkArgument(requestTimeoutMillis <= 0 || timeoutExecutor != null,
+                "Timeout executor is required when request timeout is set");
         this.id = id;
         this.remoteDevice = remoteDevice;
         this.overrideNetconfCapabilities = overrideNetconfCapabilities;
+        this.semaphore = concurrentRpcLimit > 0 ? new Semaphore(concurrentRpcLimit) : null;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        this.timeoutExecutor = timeoutExecutor;
     }
 
     @Override
@@ -126,27 +180,27 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     private void tearDown( String reason ) {
-        List<UncancellableFuture<RpcResult<NetconfMessage>>> futuresToCancel = Lists.newArrayList();
+        final List<Request> sentToCancel = Lists.newArrayList();
+        final List<Request> pendingToCancel = Lists.newArrayList();
         sessionLock.lock();
         try {
             if( session != null ) {
                 session = null;
 
                 /*
-                 * Walk all requests, check if they have been executing
-                 * or cancelled and remove them from the queue.
+                 * Remove all outstanding requests, senders racing with us notice
+                 * the session is gone and fail their requests themselves.
                  */
-                final Iterator<Request> it = requests.iterator();
-                while (it.hasNext()) {
-                    final Request r = it.next();
-                    if (r.future.isUncancellable()) {
-                        futuresToCancel.add( r.future );
-                        it.remove();
-                    } else if (r.future.isCancelled()) {
-                        // This just does some house-cleaning
-                        it.remove();
+                for (final Request r : requests.values()) {
+                    if (requests.remove(r.messageId, r)) {
+                        sentToCancel.add(r);
                     }
                 }
+                Request pending;
+                while ((pending = pendingRequests.poll()) != null) {
+                    pendingToCancel.add(pending);
+                }
+                timedOutMessageIds.invalidateAll();
 
                 remoteDevice.onRemoteSessionDown();
             }
@@ -157,12 +211,14 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
         // Notify pending request futures outside of the sessionLock to avoid unnecessarily
         // blocking the caller.
-        for( UncancellableFuture<RpcResult<NetconfMessage>> future: futuresToCancel ) {
-            if( Strings.isNullOrEmpty( reason ) ) {
-                future.set( createSessionDownRpcResult() );
-            } else {
-                future.set( createErrorRpcResult( RpcError.ErrorType.TRANSPORT, reason ) );
-            }
+        final RpcResult<NetconfMessage> result = Strings.isNullOrEmpty( reason ) ?
+                createSessionDownRpcResult() : createErrorRpcResult( RpcError.ErrorType.TRANSPORT, reason );
+        for( final Request r : pendingToCancel ) {
+            r.cancelTimeout();
+            r.future.set( result );
+        }
+        for( final Request r : sentToCancel ) {
+            releaseRequest( r, result );
         }
     }
 
@@ -215,58 +271,73 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     private void processMessage(final NetconfMessage message) {
-        Request request = null;
-        sessionLock.lock();
+        final String messageId = NetconfMessageTransformUtil.getMessageId(message);
+        final Request request = takeRequest(messageId);
 
-        try {
-            request = requests.peek();
-            if (request != null && request.future.isUncancellable()) {
-                requests.poll();
+        if (request == null) {
+            if (timedOutMessageIds.asMap().remove(messageId) != null) {
+                logger.debug("{}: Ignoring reply to timed out request {}", id, messageId);
             } else {
-                request = null;
-                logger.warn("{}: Ignoring unsolicited message {}", id, msgToS(message));
+                // Outstanding requests are left alone, they complete with their own reply or time out
+                logger.warn("{}: Ignoring unsolicited message with message-id {}: {}", id, messageId, msgToS(message));
             }
+            return;
         }
-        finally {
-            sessionLock.unlock();
-        }
-
-        if( request != null ) {
-
-            logger.debug("{}: Message received {}", id, message);
-
-            if(logger.isTraceEnabled()) {
-                logger.trace( "{}: Matched request: {} to response: {}", id, msgToS( request.request ), msgToS( message ) );
-            }
 
-            try {
-                NetconfMessageTransformUtil.checkValidReply( request.request, message );
-            } catch (final NetconfDocumentedException e) {
-                logger.warn( "{}: Invalid request-reply match, reply message contains different message-id, request: {}, response: {}",
-                             id, msgToS( request.request ), msgToS( message ), e );
+        logger.debug("{}: Message received {}", id, message);
 
-                request.future.set( RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
+        if(logger.isTraceEnabled()) {
+            logger.trace( "{}: Matched request: {} to response: {}", id, msgToS( request.request ), msgToS( message ) );
+        }
 
-                //recursively processing message to eventually find matching request
-                processMessage(message);
+        try {
+            NetconfMessageTransformUtil.checkSuccessReply(message);
+            // Only an rpc-error may lack the message-id
+            NetconfMessageTransformUtil.checkValidReply(request.request, message);
+        } catch(final NetconfDocumentedException e) {
+            logger.warn( "{}: Error reply from remote device, request: {}, response: {}", id,
+                         msgToS( request.request ), msgToS( message ), e );
+
+            releaseRequest( request, RpcResultBuilder.<NetconfMessage>failed()
+                    .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
+            return;
+        }
 
-                return;
-            }
+        releaseRequest( request, RpcResultBuilder.success( message ).build() );
+    }
 
-            try {
-                NetconfMessageTransformUtil.checkSuccessReply(message);
-            } catch(final NetconfDocumentedException e) {
-                logger.warn( "{}: Error reply from remote device, request: {}, response: {}", id,
-                             msgToS( request.request ), msgToS( message ), e );
+    /**
+     * Remove the outstanding request the reply belongs to. RFC 6241 allows an rpc-error without message-id,
+     * e.g. when the device could not parse the request. Such a reply is taken by the only outstanding request.
+     *
+     * @return request matching the reply, null if there is none or it cannot be told
+     */
+    private Request takeRequest(final String messageId) {
+        if (!messageId.isEmpty()) {
+            return requests.remove(messageId);
+        }
 
-                request.future.set( RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError( NetconfMessageTransformUtil.toRpcError( e ) ).build() );
-                return;
-            }
+        final Iterator<Request> it = requests.values().iterator();
+        if (!it.hasNext()) {
+            return null;
+        }
+        final Request request = it.next();
+        if (it.hasNext()) {
+            return null;
+        }
+        return requests.remove(request.messageId, request) ? request : null;
+    }
 
-            request.future.set( RpcResultBuilder.success( message ).build() );
+    /**
+     * Complete request which was sent, or at least dispatched to be sent, and is no longer outstanding.
+     */
+    private void releaseRequest(final Request request, final RpcResult<NetconfMessage> result) {
+        request.cancelTimeout();
+        if (semaphore != null) {
+            semaphore.release();
+            sendPendingRequests();
         }
+        request.future.set( result );
     }
 
     private static String msgToS(final NetconfMessage msg) {
@@ -275,30 +346,73 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     @Override
     public ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc) {
-        sessionLock.lock();
-        try {
-            return sendRequestWithLock( message, rpc );
-        } finally {
-            sessionLock.unlock();
-        }
-    }
-
-    private ListenableFuture<RpcResult<NetconfMessage>> sendRequestWithLock(
-                                               final NetconfMessage message, final QName rpc) {
         if(logger.isTraceEnabled()) {
             logger.trace("{}: Sending message {}", id, msgToS(message));
         }
 
-        if (session == null) {
+        final NetconfClientSession currentSession = session;
+        if (currentSession == null) {
             logger.warn("{}: Session is disconnected, failing RPC request {}", id, message);
             return Futures.immediateFuture( createSessionDownRpcResult() );
         }
 
         final Request req = new Request( new UncancellableFuture<RpcResult<NetconfMessage>>(true),
-                                         message );
-        requests.add(req);
+                                         message, NetconfMessageTransformUtil.getMessageId(message) );
+        scheduleTimeout(req);
+
+        if (semaphore == null) {
+            dispatchRequest(currentSession, req);
+        } else {
+            pendingRequests.add(req);
+            sendPendingRequests();
+        }
+        return req.future;
+    }
+
+    /**
+     * Send requests waiting in the queue while there are free slots. Invoked after a request is queued
+     * and after a slot is released, so that no request is left in the queue while a slot is free.
+     */
+    private void sendPendingRequests() {
+        while (!pendingRequests.isEmpty() && semaphore.tryAcquire()) {
+            final Request req = pendingRequests.poll();
+            if (req == null) {
+                semaphore.release();
+                continue;
+            }
+            if (req.future.isDone()) {
+                // Timed out while waiting
+                semaphore.release();
+                continue;
+            }
+
+            final NetconfClientSession currentSession = session;
+            if (currentSession == null) {
+                logger.warn("{}: Session is disconnected, failing RPC request {}", id, req.request);
+                releaseRequest(req, createSessionDownRpcResult());
+                continue;
+            }
+            dispatchRequest(currentSession, req);
+        }
+    }
+
+    private void dispatchRequest(final NetconfClientSession currentSession, final Request req) {
+        if (requests.putIfAbsent(req.messageId, req) != null) {
+            logger.warn("{}: Request with message-id {} is already outstanding, failing RPC request {}", id, req.messageId, req.request);
+            releaseRequest(req, createErrorRpcResult(RpcError.ErrorType.PROTOCOL,
+                    String.format("Request with message-id %s is already outstanding", req.messageId)));
+            return;
+        }
 
-        session.sendMessage(req.request).addListener(new FutureListener<Void>() {
+        if (session != currentSession) {
+            // Session went down while we were registering the request, tearDown might have missed it
+            if (requests.remove(req.messageId, req)) {
+                releaseRequest(req, createSessionDownRpcResult());
+            }
+            return;
+        }
+
+        currentSession.sendMessage(req.request).addListener(new FutureListener<Void>() {
             @Override
             public void operationComplete(final Future<Void> future) throws Exception {
                 if( !future.isSuccess() ) {
@@ -306,21 +420,46 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
                     logger.debug( "{}: Failed to send request {}", id,
                                   XmlUtil.toString(req.request.getDocument()), future.cause() );
 
+                    if (!requests.remove(req.messageId, req)) {
+                        // Already completed by tearDown or timeout
+                        return;
+                    }
+
                     if( future.cause() != null ) {
-                        req.future.set( createErrorRpcResult( RpcError.ErrorType.TRANSPORT,
-                                                              future.cause().getLocalizedMessage() ) );
+                        releaseRequest( req, createErrorRpcResult( RpcError.ErrorType.TRANSPORT,
+                                                                   future.cause().getLocalizedMessage() ) );
                     } else {
-                        req.future.set( createSessionDownRpcResult() ); // assume session is down
+                        releaseRequest( req, createSessionDownRpcResult() ); // assume session is down
                     }
-                    req.future.setException( future.cause() );
                 }
                 else {
                     logger.trace( "Finished sending request {}", req.request );
                 }
             }
         });
+    }
 
-        return req.future;
+    private void scheduleTimeout(final Request req) {
+        if (requestTimeoutMillis <= 0) {
+            return;
+        }
+
+        req.timeoutFuture = timeoutExecutor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                final RpcResult<NetconfMessage> result = createErrorRpcResult(RpcError.ErrorType.TRANSPORT,
+                        String.format("Request %s to %s timed out after %d ms", req.messageId, id.getName(), requestTimeoutMillis));
+                if (requests.remove(req.messageId, req)) {
+                    logger.warn("{}: Request {} timed out after {} ms", id, req.messageId, requestTimeoutMillis);
+                    timedOutMessageIds.put(req.messageId, Boolean.TRUE);
+                    releaseRequest(req, result);
+                } else if (!req.future.isDone()) {
+                    // Still waiting for a free slot, it is dropped once dequeued
+                    logger.warn("{}: Request {} timed out after {} ms before it was sent", id, req.messageId, requestTimeoutMillis);
+                    req.future.set(result);
+                }
+            }
+        }, requestTimeoutMillis, TimeUnit.MILLISECONDS);
     }
 
     private void processNotification(final NetconfMessage notification) {
@@ -334,6 +473,9 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     }
 
     private static boolean isNotification(final NetconfMessage message) {
+        if (message instanceof LazyNetconfMessage) {
+            return XmlNetconfConstants.NOTIFICATION_ELEMENT_NAME.equals(((LazyNetconfMessage) message).getRootElementName());
+        }
         final XmlElement xmle = XmlElement.fromDomDocument(message.getDocument());
         return XmlNetconfConstants.NOTIFICATION_ELEMENT_NAME.equals(xmle.getName()) ;
     }
@@ -341,11 +483,21 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     private static final class Request {
         final UncancellableFuture<RpcResult<NetconfMessage>> future;
         final NetconfMessage request;
+        final String messageId;
+        volatile ScheduledFuture<?> timeoutFuture;
 
         private Request(final UncancellableFuture<RpcResult<NetconfMessage>> future,
-                        final NetconfMessage request) {
+                        final NetconfMessage request, final String messageId) {
             this.future = future;
             this.request = request;
+            this.messageId = messageId;
+        }
+
+        void cancelTimeout() {
+            final ScheduledFuture<?> f = timeoutFuture;
+            if (f != null) {
+                f.cancel(false);
+            }
         }
     }
 }
@@ -12,7 +12,9 @@ import com.google.common.collect.Collections2;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcAvailabilityListener;
@@ -48,10 +50,20 @@ public final class NetconfDeviceRpc implements DOMRpcService {
     private final RemoteDeviceCommunicator<NetconfMessage> listener;
     private final MessageTransformer<NetconfMessage> transformer;
     private final Collection<DOMRpcIdentifier> availableRpcs;
+    private final Executor decodingExecutor;
 
     public NetconfDeviceRpc(final SchemaContext schemaContext, final RemoteDeviceCommunicator<NetconfMessage> listener, final MessageTransformer<NetconfMessage> transformer) {
+        this(schemaContext, listener, transformer, MoreExecutors.sameThreadExecutor());
+    }
+
+    /**
+     * @param decodingExecutor executor transforming replies, replies are transformed in the thread receiving them if not set
+     */
+    public NetconfDeviceRpc(final SchemaContext schemaContext, final RemoteDeviceCommunicator<NetconfMessage> listener,
+                            final MessageTransformer<NetconfMessage> transformer, final Executor decodingExecutor) {
         this.listener = listener;
         this.transformer = transformer;
+        this.decodingExecutor = decodingExecutor;
 
         availableRpcs = Collections2.transform(schemaContext.getOperations(), RPC_TO_RPC_IDENTIFIER);
     }
@@ -72,7 +84,7 @@ public final class NetconfDeviceRpc implements DOMRpcService {
                     return new DefaultDOMRpcResult(input.getErrors());
                 }
             }
-        });
+        }, decodingExecutor);
 
         return Futures.makeChecked(transformed, new Function<Exception, DOMRpcException>() {
             @Nullable
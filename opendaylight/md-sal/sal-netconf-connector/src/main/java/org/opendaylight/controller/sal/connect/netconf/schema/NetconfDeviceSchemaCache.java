@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of schema contexts and message transformers shared by netconf devices. Devices with identical
+ * sets of sources get the same instances, so that e.g. a thousand devices of the same type build
+ * a single schema context.
+ * <p/>
+ * Entries are reference counted, an entry is evicted once the last device holding it releases its
+ * {@link SchemaLease}. Concurrent requests for the same sources share a single schema context build.
+ * Builds run outside of the cache lock, so that a slow build does not hold up devices with other sources.
+ * Failed builds are not cached.
+ */
+public final class NetconfDeviceSchemaCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfDeviceSchemaCache.class);
+
+    private final SchemaContextFactory schemaContextFactory;
+
+    @GuardedBy("this")
+    private final Map<Set<SourceIdentifier>, Entry> entries = new HashMap<>();
+
+    private final Counter hits = new Counter();
+    private final Counter misses = new Counter();
+
+    public NetconfDeviceSchemaCache(final SchemaContextFactory schemaContextFactory) {
+        this.schemaContextFactory = Preconditions.checkNotNull(schemaContextFactory);
+    }
+
+    /**
+     * Create cache and register its hit and miss counters and hit ratio gauge in metric registry.
+     */
+    public NetconfDeviceSchemaCache(final SchemaContextFactory schemaContextFactory, final MetricRegistry metricRegistry) {
+        this(schemaContextFactory);
+        metricRegistry.register(MetricRegistry.name(NetconfDeviceSchemaCache.class, "hits"), hits);
+        metricRegistry.register(MetricRegistry.name(NetconfDeviceSchemaCache.class, "misses"), misses);
+        metricRegistry.register(MetricRegistry.name(NetconfDeviceSchemaCache.class, "hit-ratio"), new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                final long hitCount = hits.getCount();
+                return Ratio.of(hitCount, hitCount + misses.getCount());
+            }
+        });
+    }
+
+    /**
+     * Get schema context built from sources, together with its message transformer. The failure is the same as
+     * the one reported by {@link SchemaContextFactory#createSchemaContext(Collection)}.
+     *
+     * @return future lease, which has to be closed once the device no longer uses the schema
+     */
+    public ListenableFuture<SchemaLease> acquire(final Collection<SourceIdentifier> requiredSources) {
+        final Set<SourceIdentifier> key = ImmutableSet.copyOf(requiredSources);
+        final Entry entry;
+        final boolean created;
+        synchronized (this) {
+            final Entry existing = entries.get(key);
+            if (existing != null) {
+                hits.inc();
+                entry = existing;
+                created = false;
+            } else {
+                misses.inc();
+                entry = new Entry(key);
+                entries.put(key, entry);
+                created = true;
+            }
+            entry.refCount++;
+        }
+
+        // Other acquirers of the same sources wait on the future of the entry
+        if (created) {
+            entry.build();
+        }
+
+        return Futures.transform(entry.future, new Function<CachedSchema, SchemaLease>() {
+            @Override
+            public SchemaLease apply(final CachedSchema input) {
+                return new SchemaLease(entry, input);
+            }
+        });
+    }
+
+    /**
+     * @return number of distinct schema contexts currently held in the cache
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void release(final Entry entry) {
+        entry.refCount--;
+        if (entry.refCount == 0 && entries.get(entry.key) == entry) {
+            LOG.debug("Evicting schema context for sources {}", entry.key);
+            entries.remove(entry.key);
+        }
+    }
+
+    private synchronized void evict(final Entry entry) {
+        if (entries.get(entry.key) == entry) {
+            entries.remove(entry.key);
+        }
+    }
+
+    private final class Entry {
+        private final Set<SourceIdentifier> key;
+        @GuardedBy("NetconfDeviceSchemaCache.this")
+        private int refCount;
+        private final SettableFuture<CachedSchema> future = SettableFuture.create();
+
+        Entry(final Set<SourceIdentifier> key) {
+            this.key = key;
+        }
+
+        void build() {
+            final ListenableFuture<CachedSchema> built;
+            try {
+                built = Futures.transform(schemaContextFactory.createSchemaContext(key), new Function<SchemaContext, CachedSchema>() {
+                    @Override
+                    public CachedSchema apply(final SchemaContext input) {
+                        return new CachedSchema(input, NetconfMessageTransformer.forDevice(input));
+                    }
+                });
+            } catch (final RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            Futures.addCallback(built, new FutureCallback<CachedSchema>() {
+                @Override
+                public void onSuccess(final CachedSchema result) {
+                    LOG.debug("Schema context built for sources {}", key);
+                    future.set(result);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    fail(t);
+                }
+            });
+        }
+
+        private void fail(final Throwable t) {
+            // Let next device attempt the build again
+            evict(this);
+            future.setException(t);
+        }
+    }
+
+    private static final class CachedSchema {
+        private final SchemaContext schemaContext;
+        private final NetconfMessageTransformer messageTransformer;
+
+        CachedSchema(final SchemaContext schemaContext, final NetconfMessageTransformer messageTransformer) {
+            this.schemaContext = schemaContext;
+            this.messageTransformer = messageTransformer;
+        }
+    }
+
+    /**
+     * Schema context and message transformer used by a single device.
+     */
+    public final class SchemaLease implements AutoCloseable {
+        private final Entry entry;
+        private final CachedSchema schema;
+        @GuardedBy("this")
+        private boolean closed;
+
+        private SchemaLease(final Entry entry, final CachedSchema schema) {
+            this.entry = entry;
+            this.schema = schema;
+        }
+
+        public SchemaContext getSchemaContext() {
+            return schema.schemaContext;
+        }
+
+        public NetconfMessageTransformer getMessageTransformer() {
+            return schema.messageTransformer;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(entry);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessag
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_URI;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
@@ -26,12 +27,13 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.dom.DOMResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.util.exception.MissingNameSpaceException;
+import org.opendaylight.controller.netconf.util.messages.StreamableNetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlElement;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.controller.sal.connect.api.MessageTransformer;
@@ -41,11 +43,7 @@ import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedCon
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
-import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
-import org.opendaylight.yangtools.yang.data.impl.codec.xml.XMLStreamNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.codec.xml.XmlUtils;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.transform.dom.parser.DomToNormalizedNodeParserFactory;
@@ -60,12 +58,21 @@ import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+/**
+ * Transformer is safe for concurrent use, it is shared by all threads decoding messages of a device
+ * and by devices with the same schema context.
+ */
 public class NetconfMessageTransformer implements MessageTransformer<NetconfMessage> {
 
     public static final String MESSAGE_ID_PREFIX = "m";
 
     private static final Logger LOG= LoggerFactory.getLogger(NetconfMessageTransformer.class);
 
+    /**
+     * Shared by all transformers created by {@link #forDevice(SchemaContext)}.
+     */
+    private static final MessageCounter DEVICE_COUNTER = new MessageCounter();
+
 
     private static final Function<SchemaNode, QName> QNAME_FUNCTION = new Function<SchemaNode, QName>() {
         @Override
@@ -99,19 +106,42 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     private final MessageCounter counter;
     private final Map<QName, RpcDefinition> mappedRpcs;
     private final Multimap<QName, NotificationDefinition> mappedNotifications;
-    private final DomToNormalizedNodeParserFactory parserFactory;
+    // DOM parsers are not guaranteed to be thread-safe, each decoding thread gets its own
+    private final ThreadLocal<DomToNormalizedNodeParserFactory> parserFactory;
+    private final XmlStreamToNormalizedNodeParser streamParser;
+    private final ContainerSchemaNode schemaForDataRead;
 
     public NetconfMessageTransformer(final SchemaContext schemaContext) {
-        this.counter = new MessageCounter();
+        this(schemaContext, new MessageCounter());
+    }
+
+    private NetconfMessageTransformer(final SchemaContext schemaContext, final MessageCounter counter) {
+        this.counter = counter;
         this.schemaContext = schemaContext;
-        parserFactory = DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, schemaContext);
+        parserFactory = new ThreadLocal<DomToNormalizedNodeParserFactory>() {
+            @Override
+            protected DomToNormalizedNodeParserFactory initialValue() {
+                return DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, schemaContext);
+            }
+        };
+        streamParser = new XmlStreamToNormalizedNodeParser(schemaContext);
+        schemaForDataRead = NetconfMessageTransformUtil.createSchemaForDataRead(schemaContext);
 
         mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), QNAME_FUNCTION);
         mappedNotifications = Multimaps.index(schemaContext.getNotifications(), QNAME_NOREV_FUNCTION);
     }
 
+    /**
+     * Create transformer for device sessions. A session sends requests through the transformer of initial schema
+     * context as well as through the one of its full schema context, which is shared with other devices. All of them
+     * take message-ids from one counter, so that message-ids stay unique within each session.
+     */
+    public static NetconfMessageTransformer forDevice(final SchemaContext schemaContext) {
+        return new NetconfMessageTransformer(schemaContext, DEVICE_COUNTER);
+    }
+
     @Override
-    public synchronized ContainerNode toNotification(final NetconfMessage message) {
+    public ContainerNode toNotification(final NetconfMessage message) {
         final XmlElement stripped = stripNotification(message);
         final QName notificationNoRev;
         try {
@@ -131,7 +161,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
 
         // We wrap the notification as a container node in order to reuse the parsers and builders for container node
         final ContainerSchemaNode notificationAsContainerSchemaNode = NetconfMessageTransformUtil.createSchemaForNotification(next);
-        return parserFactory.getContainerNodeParser().parse(Collections.singleton(stripped.getDomElement()), notificationAsContainerSchemaNode);
+        return parserFactory.get().getContainerNodeParser().parse(Collections.singleton(stripped.getDomElement()), notificationAsContainerSchemaNode);
     }
 
     // FIXME move somewhere to util
@@ -175,19 +205,12 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
 
         // Set the path to the input of rpc for the node stream writer
         rpc = rpc.createChild(QName.cachedReference(QName.create(rpcQName, "input")));
-        final DOMResult result = prepareDomResultForRpcRequest(rpcQName);
 
-        try {
-            // If the schema context for netconf device does not contain model for base netconf operations, use default pre build context with just the base model
-            // This way operations like lock/unlock are supported even if the source for base model was not provided
-            writeNormalizedRpc(((ContainerNode) payload), result, rpc, needToUseBaseCtx ? BASE_NETCONF_CTX : schemaContext);
-        } catch (final XMLStreamException | IOException | IllegalStateException e) {
-            throw new IllegalStateException("Unable to serialize " + rpc, e);
-        }
-
-        final Document node = result.getNode().getOwnerDocument();
-
-        return new NetconfMessage(node);
+        // If the schema context for netconf device does not contain model for base netconf operations, use default pre build context with just the base model
+        // This way operations like lock/unlock are supported even if the source for base model was not provided
+        // The payload is written straight to the channel when the message is sent, DOM is built only if needed
+        return new NormalizedNodeRpcMessage(rpcQName, counter.getNewMessageId(MESSAGE_ID_PREFIX), (ContainerNode) payload,
+                rpc, needToUseBaseCtx ? BASE_NETCONF_CTX : schemaContext);
     }
 
     private static boolean isBaseRpc(final QName rpc) {
@@ -205,41 +228,12 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         return new DOMResult(elementNS);
     }
 
-    private void writeNormalizedRpc(final ContainerNode normalized, final DOMResult result, final SchemaPath schemaPath, final SchemaContext baseNetconfCtx) throws IOException, XMLStreamException {
-        final NormalizedNodeWriter normalizedNodeWriter;
-        NormalizedNodeStreamWriter normalizedNodeStreamWriter = null;
-        XMLStreamWriter writer = null;
-        try {
-            writer = NetconfMessageTransformUtil.XML_FACTORY.createXMLStreamWriter(result);
-            normalizedNodeStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(writer, baseNetconfCtx, schemaPath);
-            normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(normalizedNodeStreamWriter);
-
-            for (final DataContainerChild<? extends YangInstanceIdentifier.PathArgument, ?> editElement : normalized.getValue()) {
-                normalizedNodeWriter.write(editElement);
-            }
-            normalizedNodeWriter.flush();
-        } finally {
-            try {
-                if(normalizedNodeStreamWriter != null) {
-                    normalizedNodeStreamWriter.close();
-                }
-                if(writer != null) {
-                    writer.close();
-                }
-            } catch (final Exception e) {
-                LOG.warn("Unable to close resource properly", e);
-            }
-        }
-    }
-
     @Override
-    public synchronized DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
+    public DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
         final NormalizedNode<?, ?> normalizedNode;
         final QName rpcQName = rpc.getLastComponent();
         if (NetconfMessageTransformUtil.isDataRetrievalOperation(rpcQName)) {
-            final Element xmlData = NetconfMessageTransformUtil.getDataSubtree(message.getDocument());
-            final ContainerSchemaNode schemaForDataRead = NetconfMessageTransformUtil.createSchemaForDataRead(schemaContext);
-            final ContainerNode dataNode = parserFactory.getContainerNodeParser().parse(Collections.singleton(xmlData), schemaForDataRead);
+            final ContainerNode dataNode = parseData(message);
 
             normalizedNode = Builders.containerBuilder().withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(NetconfMessageTransformUtil.NETCONF_RPC_REPLY_QNAME))
                     .withChild(dataNode).build();
@@ -264,10 +258,35 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
                         "Unexpected content in response of rpc: %s, %s", rpcDefinition.getQName(), message);
                 normalizedNode = null;
             } else {
-                normalizedNode = parserFactory.getContainerNodeParser().parse(documentElement, rpcDefinition.getOutput());
+                normalizedNode = parserFactory.get().getContainerNodeParser().parse(documentElement, rpcDefinition.getOutput());
             }
         }
         return new DefaultDOMRpcResult(normalizedNode);
     }
 
+    private ContainerNode parseData(final NetconfMessage message) {
+        if (message instanceof StreamableNetconfMessage && !((StreamableNetconfMessage) message).isDocumentBuilt()) {
+            // Stream the reply straight into normalized nodes, skipping DOM. This is the only pass over
+            // the message, so it reports malformed xml as well.
+            try {
+                final XMLStreamReader reader = ((StreamableNetconfMessage) message).createStreamReader();
+                try {
+                    final Optional<ContainerNode> data = streamParser.parseDataReply(reader, schemaForDataRead);
+                    if (data.isPresent()) {
+                        return data.get();
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (final XMLStreamException e) {
+                throw new IllegalStateException("Unable to parse malformed reply", e);
+            } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+                LOG.debug("Unable to stream data from reply, falling back to DOM", e);
+            }
+        }
+
+        final Element xmlData = NetconfMessageTransformUtil.getDataSubtree(message.getDocument());
+        return parserFactory.get().getContainerNodeParser().parse(Collections.singleton(xmlData), schemaForDataRead);
+    }
+
 }
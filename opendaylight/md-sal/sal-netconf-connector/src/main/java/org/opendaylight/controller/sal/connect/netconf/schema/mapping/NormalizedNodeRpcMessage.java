@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema.mapping;
+
+import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_RPC_QNAME;
+
+import com.google.common.base.Charsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.dom.DOMResult;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.ContentHandlerStreamWriter;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.ContentHandler;
+
+/**
+ * Rpc request serialized from its normalized input straight to the channel, as text or as SAX events for
+ * the EXI encoder. DOM is built only if requested, e.g. for logging.
+ */
+final class NormalizedNodeRpcMessage extends LazyNetconfMessage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NormalizedNodeRpcMessage.class);
+
+    private final QName rpcQName;
+    private final String messageId;
+    private final ContainerNode payload;
+    private final SchemaPath inputPath;
+    private final SchemaContext schemaContext;
+
+    NormalizedNodeRpcMessage(final QName rpcQName, final String messageId, final ContainerNode payload,
+            final SchemaPath inputPath, final SchemaContext schemaContext) {
+        this.rpcQName = rpcQName;
+        this.messageId = messageId;
+        this.payload = payload;
+        this.inputPath = inputPath;
+        this.schemaContext = schemaContext;
+    }
+
+    @Override
+    public String getRootElementName() {
+        return NETCONF_RPC_QNAME.getLocalName();
+    }
+
+    @Override
+    public String getRootAttribute(final String localName) {
+        return NetconfMessageTransformUtil.MESSAGE_ID_ATTR.equals(localName) ? messageId : "";
+    }
+
+    @Override
+    public String getFirstChildElementName() {
+        return rpcQName.getLocalName();
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        XMLStreamWriter writer = null;
+        try {
+            writer = NetconfMessageTransformUtil.XML_FACTORY.createXMLStreamWriter(out, Charsets.UTF_8.name());
+            writeMessage(writer);
+            writer.flush();
+        } catch (final XMLStreamException | IllegalStateException e) {
+            throw new IOException("Unable to serialize " + inputPath, e);
+        } finally {
+            closeQuietly(writer);
+        }
+    }
+
+    @Override
+    public void writeTo(final ContentHandler handler) throws IOException {
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(handler);
+        try {
+            writer.writeStartDocument();
+            writeMessage(writer);
+            writer.writeEndDocument();
+        } catch (final XMLStreamException | IllegalStateException e) {
+            throw new IOException("Unable to serialize " + inputPath, e);
+        }
+    }
+
+    @Override
+    protected Document buildDocument() {
+        final Document document = XmlUtil.newDocument();
+        final Element rpcNS = document.createElementNS(NETCONF_RPC_QNAME.getNamespace().toString(), NETCONF_RPC_QNAME.getLocalName());
+        rpcNS.setAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR, messageId);
+        final Element elementNS = document.createElementNS(rpcQName.getNamespace().toString(), rpcQName.getLocalName());
+        rpcNS.appendChild(elementNS);
+        document.appendChild(rpcNS);
+
+        XMLStreamWriter writer = null;
+        try {
+            writer = NetconfMessageTransformUtil.XML_FACTORY.createXMLStreamWriter(new DOMResult(elementNS));
+            writePayload(writer);
+        } catch (final XMLStreamException | IOException | IllegalStateException e) {
+            throw new IllegalStateException("Unable to serialize " + inputPath, e);
+        } finally {
+            closeQuietly(writer);
+        }
+        return document;
+    }
+
+    private void writeMessage(final XMLStreamWriter writer) throws XMLStreamException, IOException {
+        writeStartElement(writer, NETCONF_RPC_QNAME);
+        writer.writeAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR, messageId);
+        writeStartElement(writer, rpcQName);
+        writePayload(writer);
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private static void writeStartElement(final XMLStreamWriter writer, final QName qname) throws XMLStreamException {
+        final String ns = qname.getNamespace().toString();
+        writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, qname.getLocalName(), ns);
+        writer.writeDefaultNamespace(ns);
+    }
+
+    private void writePayload(final XMLStreamWriter writer) throws IOException {
+        final NormalizedNodeWriter normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(
+                XMLStreamNormalizedNodeStreamWriter.create(writer, schemaContext, inputPath));
+        for (final DataContainerChild<? extends YangInstanceIdentifier.PathArgument, ?> editElement : payload.getValue()) {
+            normalizedNodeWriter.write(editElement);
+        }
+        normalizedNodeWriter.flush();
+    }
+
+    private static void closeQuietly(final XMLStreamWriter writer) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (final XMLStreamException e) {
+                LOG.warn("Unable to close resource properly", e);
+            }
+        }
+    }
+}
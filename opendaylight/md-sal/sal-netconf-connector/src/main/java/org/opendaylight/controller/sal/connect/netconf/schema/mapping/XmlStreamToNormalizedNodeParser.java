@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema.mapping;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
+import org.opendaylight.yangtools.yang.data.impl.codec.xml.XmlCodecProvider;
+import org.opendaylight.yangtools.yang.data.impl.codec.xml.XmlUtils;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchema;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.InstanceIdentifierTypeDefinition;
+
+/**
+ * Parses xml data from {@link XMLStreamReader} directly into a {@link NormalizedNodeStreamWriter}, without
+ * building an intermediate DOM.
+ * <p/>
+ * Only xml which can be parsed in a single pass is supported: keys have to precede other children of a list
+ * entry (as mandated by RFC6020 section 7.8.5) and children belonging to the same list, leaf-list, choice
+ * or augmentation have to be adjacent. Anyxml and instance-identifier values are not supported either.
+ * Such input is reported with {@link IllegalArgumentException} and callers are expected to fall back
+ * to the DOM based parser.
+ */
+final class XmlStreamToNormalizedNodeParser {
+
+    private static final String NETCONF_URI = NetconfMessageTransformUtil.NETCONF_URI.toString();
+    private static final String DATA = NetconfMessageTransformUtil.NETCONF_DATA_QNAME.getLocalName();
+
+    private final SchemaContext schemaContext;
+    private final XmlCodecProvider codecProvider;
+    private final ConcurrentMap<String, Module> modules = new ConcurrentHashMap<>();
+
+    XmlStreamToNormalizedNodeParser(final SchemaContext schemaContext) {
+        this.schemaContext = schemaContext;
+        this.codecProvider = XmlUtils.DEFAULT_XML_CODEC_PROVIDER;
+    }
+
+    /**
+     * Parse data element of a rpc-reply.
+     *
+     * @param reader reader positioned at the start of rpc-reply document
+     * @param dataSchema schema for the data element
+     * @return parsed data or absent if the reply does not contain data element
+     */
+    Optional<ContainerNode> parseDataReply(final XMLStreamReader reader, final ContainerSchemaNode dataSchema)
+            throws XMLStreamException, IOException {
+        // Root rpc-reply element
+        reader.nextTag();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (NETCONF_URI.equals(reader.getNamespaceURI()) && DATA.equals(reader.getLocalName())) {
+                final NormalizedNodeResult result = new NormalizedNodeResult();
+                final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(result);
+                parseContainer(reader, dataSchema, writer);
+                writer.flush();
+                return Optional.of((ContainerNode) result.getResult());
+            }
+            skipElement(reader);
+        }
+        return Optional.absent();
+    }
+
+    /**
+     * Parse element at current position as a container. Reader has to be positioned at its start element
+     * and is left at its end element.
+     */
+    void parseContainer(final XMLStreamReader reader, final ContainerSchemaNode schema,
+            final NormalizedNodeStreamWriter writer) throws XMLStreamException, IOException {
+        writer.startContainerNode(new NodeIdentifier(schema.getQName()), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        parseChildren(reader, schema, writer);
+        writer.endNode();
+    }
+
+    private void parseChildren(final XMLStreamReader reader, final DataNodeContainer parent,
+            final NormalizedNodeStreamWriter writer) throws XMLStreamException, IOException {
+        final OpenMixins mixins = new OpenMixins(writer);
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final QName qname = qnameOf(reader);
+            final List<Mixin> path = new ArrayList<>();
+            final DataSchemaNode child = resolveChild(parent, qname, path);
+            checkArgument(child != null, "Unknown element %s in %s", qname, parent);
+
+            if (child instanceof ListSchemaNode) {
+                path.add(Mixin.forList((ListSchemaNode) child));
+            } else if (child instanceof LeafListSchemaNode) {
+                path.add(new Mixin(Mixin.Kind.LEAF_SET, new NodeIdentifier(child.getQName())));
+            }
+            mixins.enter(path);
+            parseChild(reader, child, writer);
+        }
+        mixins.exitAll();
+    }
+
+    private void parseChild(final XMLStreamReader reader, final DataSchemaNode schema,
+            final NormalizedNodeStreamWriter writer) throws XMLStreamException, IOException {
+        if (schema instanceof LeafSchemaNode) {
+            writer.leafNode(new NodeIdentifier(schema.getQName()), parseValue(reader, ((LeafSchemaNode) schema).getType()));
+        } else if (schema instanceof LeafListSchemaNode) {
+            writer.leafSetEntryNode(parseValue(reader, ((LeafListSchemaNode) schema).getType()));
+        } else if (schema instanceof ContainerSchemaNode) {
+            parseContainer(reader, (ContainerSchemaNode) schema, writer);
+        } else if (schema instanceof ListSchemaNode) {
+            parseListEntry(reader, (ListSchemaNode) schema, writer);
+        } else {
+            throw new IllegalArgumentException("Unsupported node " + schema);
+        }
+    }
+
+    private void parseListEntry(final XMLStreamReader reader, final ListSchemaNode schema,
+            final NormalizedNodeStreamWriter writer) throws XMLStreamException, IOException {
+        final List<QName> keyDefinition = schema.getKeyDefinition();
+        if (keyDefinition.isEmpty()) {
+            writer.startUnkeyedListItem(new NodeIdentifier(schema.getQName()), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            parseChildren(reader, schema, writer);
+            writer.endNode();
+            return;
+        }
+
+        // Keys are encoded first, so the entry identifier is known before the rest of its content
+        final Map<QName, Object> keys = new LinkedHashMap<>();
+        while (keys.size() < keyDefinition.size()) {
+            checkArgument(reader.nextTag() == XMLStreamConstants.START_ELEMENT,
+                    "Missing keys %s in entry of list %s", keyDefinition, schema.getQName());
+            final QName qname = qnameOf(reader);
+            checkArgument(keyDefinition.contains(qname) && !keys.containsKey(qname),
+                    "Keys of list %s are not encoded first, found %s", schema.getQName(), qname);
+            keys.put(qname, parseValue(reader, ((LeafSchemaNode) schema.getDataChildByName(qname)).getType()));
+        }
+
+        writer.startMapEntryNode(new NodeIdentifierWithPredicates(schema.getQName(), keys), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        for (final Entry<QName, Object> key : keys.entrySet()) {
+            writer.leafNode(new NodeIdentifier(key.getKey()), key.getValue());
+        }
+        parseChildren(reader, schema, writer);
+        writer.endNode();
+    }
+
+    private Object parseValue(final XMLStreamReader reader, final TypeDefinition<?> type) throws XMLStreamException {
+        final TypeDefinition<?> baseType = XmlUtils.resolveBaseTypeFrom(type);
+        checkArgument(!(baseType instanceof InstanceIdentifierTypeDefinition), "Instance identifier %s is not supported", type);
+
+        final String text = reader.getElementText().trim();
+        if (baseType instanceof IdentityrefTypeDefinition) {
+            // Namespace declarations of the element are still in scope at its end element
+            final int colon = text.indexOf(':');
+            final String prefix = colon == -1 ? XMLConstants.DEFAULT_NS_PREFIX : text.substring(0, colon);
+            final String namespace = reader.getNamespaceURI(prefix);
+            checkArgument(namespace != null, "Unable to resolve prefix of identity %s", text);
+            return qnameOf(namespace, text.substring(colon + 1));
+        }
+
+        final TypeDefinitionAwareCodec<Object, ?> codec = codecProvider.codecFor(baseType);
+        return codec == null ? text : codec.deserialize(text);
+    }
+
+    private QName qnameOf(final XMLStreamReader reader) {
+        return qnameOf(reader.getNamespaceURI(), reader.getLocalName());
+    }
+
+    private QName qnameOf(final String namespace, final String localName) {
+        checkArgument(namespace != null, "Element %s has no namespace", localName);
+        Module module = modules.get(namespace);
+        if (module == null) {
+            module = schemaContext.findModuleByNamespaceAndRevision(URI.create(namespace), null);
+            checkArgument(module != null, "Unknown namespace %s", namespace);
+            modules.put(namespace, module);
+        }
+        return QName.create(module.getNamespace(), module.getRevision(), localName);
+    }
+
+    /**
+     * Find schema of child element, recording choices and augmentations on the way from parent to the child.
+     */
+    private static DataSchemaNode resolveChild(final DataNodeContainer parent, final QName qname, final List<Mixin> path) {
+        final DataSchemaNode direct = parent.getDataChildByName(qname);
+        if (direct != null) {
+            addAugmentation(parent, direct, path);
+            return direct;
+        }
+
+        for (final DataSchemaNode candidate : parent.getChildNodes()) {
+            if (candidate instanceof ChoiceSchemaNode) {
+                for (final ChoiceCaseNode caze : ((ChoiceSchemaNode) candidate).getCases()) {
+                    final int mark = path.size();
+                    addAugmentation(parent, candidate, path);
+                    path.add(new Mixin(Mixin.Kind.CHOICE, new NodeIdentifier(candidate.getQName())));
+                    final DataSchemaNode found = resolveChild(caze, qname, path);
+                    if (found != null) {
+                        return found;
+                    }
+                    path.subList(mark, path.size()).clear();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void addAugmentation(final DataNodeContainer parent, final DataSchemaNode child, final List<Mixin> path) {
+        if (child.isAugmenting() && parent instanceof AugmentationTarget) {
+            for (final AugmentationSchema augmentation : ((AugmentationTarget) parent).getAvailableAugmentations()) {
+                if (augmentation.getDataChildByName(child.getQName()) != null) {
+                    final ImmutableSet.Builder<QName> children = ImmutableSet.builder();
+                    for (final DataSchemaNode augmented : augmentation.getChildNodes()) {
+                        children.add(augmented.getQName());
+                    }
+                    path.add(new Mixin(Mixin.Kind.AUGMENTATION, new AugmentationIdentifier(children.build())));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Node without xml representation (list, leaf-list, choice, augmentation), which groups xml elements.
+     */
+    private static final class Mixin {
+        enum Kind { AUGMENTATION, CHOICE, MAP, ORDERED_MAP, UNKEYED_LIST, LEAF_SET }
+
+        private final Kind kind;
+        private final PathArgument identifier;
+
+        Mixin(final Kind kind, final PathArgument identifier) {
+            this.kind = kind;
+            this.identifier = identifier;
+        }
+
+        static Mixin forList(final ListSchemaNode schema) {
+            final NodeIdentifier id = new NodeIdentifier(schema.getQName());
+            if (schema.getKeyDefinition().isEmpty()) {
+                return new Mixin(Kind.UNKEYED_LIST, id);
+            }
+            return new Mixin(schema.isUserOrdered() ? Kind.ORDERED_MAP : Kind.MAP, id);
+        }
+
+        void start(final NormalizedNodeStreamWriter writer) throws IOException {
+            switch (kind) {
+            case AUGMENTATION:
+                writer.startAugmentationNode((AugmentationIdentifier) identifier);
+                break;
+            case CHOICE:
+                writer.startChoiceNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case MAP:
+                writer.startMapNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case ORDERED_MAP:
+                writer.startOrderedMapNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case UNKEYED_LIST:
+                writer.startUnkeyedList((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            case LEAF_SET:
+                writer.startLeafSet((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled mixin " + kind);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + identifier.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Mixin)) {
+                return false;
+            }
+            final Mixin other = (Mixin) obj;
+            return kind == other.kind && identifier.equals(other.identifier);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + identifier;
+        }
+    }
+
+    /**
+     * Mixins currently open under a single parent. Mixins are closed as soon as an element which does
+     * not belong to them is encountered. Reopening a closed one would replace its content, so it is rejected.
+     */
+    private static final class OpenMixins {
+        private final NormalizedNodeStreamWriter writer;
+        private final Set<List<Mixin>> closed = new HashSet<>();
+        private List<Mixin> open = Collections.emptyList();
+
+        OpenMixins(final NormalizedNodeStreamWriter writer) {
+            this.writer = writer;
+        }
+
+        void enter(final List<Mixin> path) throws IOException {
+            int common = 0;
+            while (common < open.size() && common < path.size() && open.get(common).equals(path.get(common))) {
+                common++;
+            }
+
+            close(common);
+            for (int i = common; i < path.size(); i++) {
+                checkArgument(!closed.contains(path.subList(0, i + 1)), "Elements of %s are not adjacent", path.get(i));
+                path.get(i).start(writer);
+            }
+            open = path;
+        }
+
+        void exitAll() throws IOException {
+            close(0);
+        }
+
+        private void close(final int keep) throws IOException {
+            for (int i = open.size(); i > keep; i--) {
+                writer.endNode();
+                closed.add(ImmutableList.copyOf(open.subList(0, i)));
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
 import org.opendaylight.controller.netconf.util.messages.NetconfMessageUtil;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
@@ -162,8 +163,8 @@ public class NetconfMessageTransformUtil {
 
     public static void checkValidReply(final NetconfMessage input, final NetconfMessage output)
             throws NetconfDocumentedException {
-        final String inputMsgId = input.getDocument().getDocumentElement().getAttribute(MESSAGE_ID_ATTR);
-        final String outputMsgId = output.getDocument().getDocumentElement().getAttribute(MESSAGE_ID_ATTR);
+        final String inputMsgId = getMessageId(input);
+        final String outputMsgId = getMessageId(output);
 
         if(inputMsgId.equals(outputMsgId) == false) {
             final Map<String,String> errorInfo = ImmutableMap.<String,String>builder()
@@ -178,6 +179,18 @@ public class NetconfMessageTransformUtil {
         }
     }
 
+    /**
+     * @return message-id attribute of the message, empty string if not present
+     */
+    public static String getMessageId(final NetconfMessage message) {
+        if (message instanceof LazyNetconfMessage) {
+            // Available without building the DOM
+            return ((LazyNetconfMessage) message).getRootAttribute(MESSAGE_ID_ATTR);
+        }
+        final Element root = message.getDocument().getDocumentElement();
+        return root == null ? "" : root.getAttribute(MESSAGE_ID_ATTR);
+    }
+
     public static void checkSuccessReply(final NetconfMessage output) throws NetconfDocumentedException {
         if(NetconfMessageUtil.isErrorMessage(output)) {
             throw NetconfDocumentedException.fromXMLDocument(output.getDocument());
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.config.yang.md.sal.connector.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.codahale.metrics.MetricRegistry;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.Test;
+
+public class SharedConnectorResourcesTest {
+
+    private static final String METRIC = "shared-connector-resources-test";
+
+    @Test
+    public void testReporterFollowsInstances() throws Exception {
+        final MetricRegistry registry = new MetricRegistry();
+        registry.counter(METRIC);
+        final SharedConnectorResources resources = new SharedConnectorResources(registry);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("org.opendaylight.controller.netconf.connector.metric", "name", METRIC);
+
+        assertFalse(server.isRegistered(name));
+
+        resources.acquire();
+        resources.acquire();
+        assertTrue(server.isRegistered(name));
+
+        resources.release();
+        assertTrue("Reporter stopped while an instance is still open", server.isRegistered(name));
+
+        resources.release();
+        assertFalse("Reporter still running after the last instance was closed", server.isRegistered(name));
+    }
+
+    @Test
+    public void testDecodingExecutorFollowsInstances() throws Exception {
+        final SharedConnectorResources resources = new SharedConnectorResources(new MetricRegistry());
+
+        resources.acquire();
+        final ExecutorService executor = resources.getDecodingExecutor();
+        resources.acquire();
+        assertSame(executor, resources.getDecodingExecutor());
+
+        resources.release();
+        assertFalse(executor.isShutdown());
+        resources.release();
+        assertTrue("Decoding threads still running after the last instance was closed", executor.isShutdown());
+
+        // Late messages are decoded by the submitting thread
+        assertEquals(Thread.currentThread(), executor.submit(new Callable<Thread>() {
+            @Override
+            public Thread call() {
+                return Thread.currentThread();
+            }
+        }).get());
+
+        // Next instance gets new threads
+        resources.acquire();
+        assertFalse(resources.getDecodingExecutor().isShutdown());
+        resources.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDecodingExecutorWithoutAcquire() {
+        new SharedConnectorResources(new MetricRegistry()).getDecodingExecutor();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleaseWithoutAcquire() {
+        new SharedConnectorResources(new MetricRegistry()).release();
+    }
+}
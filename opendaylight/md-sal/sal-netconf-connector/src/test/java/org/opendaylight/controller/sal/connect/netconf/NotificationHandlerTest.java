@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.opendaylight.controller.sal.connect.api.MessageTransformer;
+import org.opendaylight.controller.sal.connect.api.RemoteDeviceHandler;
+import org.opendaylight.controller.sal.connect.netconf.listener.NetconfSessionPreferences;
+import org.opendaylight.controller.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+
+public class NotificationHandlerTest {
+
+    private ListeningExecutorService decodingExecutor;
+    private RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
+    private MessageTransformer<NetconfMessage> transformer;
+    private NotificationHandler handler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        decodingExecutor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(2));
+        salFacade = mock(RemoteDeviceHandler.class);
+        doNothing().when(salFacade).onNotification(any(ContainerNode.class));
+        transformer = mock(MessageTransformer.class);
+        handler = new NotificationHandler(salFacade, new RemoteDeviceId("test", new InetSocketAddress(99)), decodingExecutor);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        decodingExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testNotificationOrderPreserved() throws Exception {
+        final NetconfMessage slow = new NetconfMessage(XmlUtil.readXmlToDocument("<slow/>"));
+        final NetconfMessage fast = new NetconfMessage(XmlUtil.readXmlToDocument("<fast/>"));
+        final ContainerNode slowNode = notificationNode("slow");
+        final ContainerNode fastNode = notificationNode("fast");
+
+        final CountDownLatch fastDecoded = new CountDownLatch(1);
+        doAnswer(new Answer<ContainerNode>() {
+            @Override
+            public ContainerNode answer(final InvocationOnMock invocation) throws Throwable {
+                // Finish decoding of first notification only after the second one is decoded
+                fastDecoded.await(5, TimeUnit.SECONDS);
+                return slowNode;
+            }
+        }).when(transformer).toNotification(slow);
+        doAnswer(new Answer<ContainerNode>() {
+            @Override
+            public ContainerNode answer(final InvocationOnMock invocation) throws Throwable {
+                fastDecoded.countDown();
+                return fastNode;
+            }
+        }).when(transformer).toNotification(fast);
+
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(slow);
+        handler.handleNotification(fast);
+
+        // Waits for both, verifying a particular argument with timeout fails as soon as another one is seen
+        verify(salFacade, timeout(5000).times(2)).onNotification(any(ContainerNode.class));
+        final InOrder inOrder = inOrder(salFacade);
+        inOrder.verify(salFacade).onNotification(slowNode);
+        inOrder.verify(salFacade).onNotification(fastNode);
+    }
+
+    @Test
+    public void testCachedNotificationsDecodedOnSchemaUp() throws Exception {
+        final NetconfMessage notification = new NetconfMessage(XmlUtil.readXmlToDocument("<notification/>"));
+        final ContainerNode node = notificationNode("notification");
+        doReturn(node).when(transformer).toNotification(notification);
+
+        handler.handleNotification(notification);
+        handler.onRemoteSchemaUp(transformer);
+
+        verify(salFacade, timeout(5000)).onNotification(node);
+    }
+
+    @Test
+    public void testNotificationsPassedAfterFailure() throws Exception {
+        final NetconfMessage failing = new NetconfMessage(XmlUtil.readXmlToDocument("<failing/>"));
+        final NetconfMessage next = new NetconfMessage(XmlUtil.readXmlToDocument("<next/>"));
+        final ContainerNode failingNode = notificationNode("failing");
+        final ContainerNode nextNode = notificationNode("next");
+        final CountDownLatch nextDecoded = new CountDownLatch(1);
+        doAnswer(new Answer<ContainerNode>() {
+            @Override
+            public ContainerNode answer(final InvocationOnMock invocation) throws Throwable {
+                // Failing notification is decoded last, its listener is the one to pass both
+                nextDecoded.await(5, TimeUnit.SECONDS);
+                return failingNode;
+            }
+        }).when(transformer).toNotification(failing);
+        doAnswer(new Answer<ContainerNode>() {
+            @Override
+            public ContainerNode answer(final InvocationOnMock invocation) throws Throwable {
+                nextDecoded.countDown();
+                return nextNode;
+            }
+        }).when(transformer).toNotification(next);
+        doThrow(new IllegalStateException("Facade failure")).when(salFacade).onNotification(failingNode);
+
+        handler.onRemoteSchemaUp(transformer);
+        handler.handleNotification(failing);
+        handler.handleNotification(next);
+
+        verify(salFacade, timeout(5000).times(2)).onNotification(any(ContainerNode.class));
+        verify(salFacade).onNotification(nextNode);
+    }
+
+    // Notifications are logged, so they cannot be mocks without toString()
+    private static ContainerNode notificationNode(final String name) {
+        return Builders.containerBuilder()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(QName.create("test:notification", "2015-01-01", name)))
+                .build();
+    }
+}
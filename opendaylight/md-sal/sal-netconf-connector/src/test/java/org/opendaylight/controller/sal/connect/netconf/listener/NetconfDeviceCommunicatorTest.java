@@ -9,6 +9,7 @@
 package org.opendaylight.controller.sal.connect.netconf.listener;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -20,11 +21,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants.RPC_REPLY_KEY;
 import static org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -41,6 +44,8 @@ import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -284,6 +289,74 @@ public class NetconfDeviceCommunicatorTest {
                     rpcError.getMessage().contains( "mock error" ) );
     }
 
+    @Test
+    public void testOnOutOfOrderResponseMessages() throws Exception {
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+
+        String messageID2 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( messageID2 );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        assertFalse( "First request completed by reply to the second one", resultFuture1.isDone() );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+    }
+
+    @Test
+    public void testConcurrentRpcLimit() throws Exception {
+        communicator = new NetconfDeviceCommunicator( new RemoteDeviceId( "test" ), mockDevice,
+                Optional.<NetconfSessionPreferences>absent(), 1, 0, null );
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+
+        String messageID2 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( messageID2 );
+
+        // Second request waits for the reply to the first one
+        verify( mockSession, times( 1 ) ).sendMessage( any( NetconfMessage.class ) );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+        verify( mockSession, times( 2 ) ).sendMessage( any( NetconfMessage.class ) );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+    }
+
+    @Test(timeout=5000)
+    public void testRequestTimeout() throws Exception {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            communicator = new NetconfDeviceCommunicator( new RemoteDeviceId( "test" ), mockDevice,
+                    Optional.<NetconfSessionPreferences>absent(), 0, 500, executor );
+            setupSession();
+
+            String messageID1 = UUID.randomUUID().toString();
+            ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+
+            verifyErrorRpcResult( resultFuture1.get(), RpcError.ErrorType.TRANSPORT, "operation-failed" );
+
+            String messageID2 = UUID.randomUUID().toString();
+            ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( messageID2 );
+
+            // Late reply to the timed out request must not be matched to the next one
+            communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+            assertFalse( "Second request completed by late reply to the first one", resultFuture2.isDone() );
+
+            communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+            verifyResponseMessage( resultFuture2.get(), messageID2 );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private NetconfMessage createSuccessResponseMessage( String messageID ) throws ParserConfigurationException {
         Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
         Element rpcReply = doc.createElementNS( URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0, RPC_REPLY_KEY );
@@ -408,6 +481,40 @@ public class NetconfDeviceCommunicatorTest {
         }
     }
 
+    @Test
+    public void testOnErrorResponseMessageWithoutMessageID() throws Exception {
+        setupSession();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture = sendRequest();
+
+        // rpc-error without message-id belongs to the only outstanding request
+        communicator.onMessage( mockSession, createErrorResponseMessage( null ) );
+
+        RpcError rpcError = verifyErrorRpcResult( resultFuture.get(), RpcError.ErrorType.RPC,
+                                                  "missing-attribute" );
+        assertEquals( "RpcError message", "Missing attribute", rpcError.getMessage() );
+    }
+
+    @Test
+    public void testOnErrorResponseMessageWithoutMessageIDAndSeveralRequests() throws Exception {
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( messageID1 );
+        String messageID2 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( messageID2 );
+
+        // Cannot tell which request failed, both wait for their own reply
+        communicator.onMessage( mockSession, createErrorResponseMessage( null ) );
+        assertFalse( "First request completed by reply without message-id", resultFuture1.isDone() );
+        assertFalse( "Second request completed by reply without message-id", resultFuture2.isDone() );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+    }
+
     @Test
     public void testOnResponseMessageWithWrongMessageID() throws Exception {
         setupSession();
@@ -415,25 +522,18 @@ public class NetconfDeviceCommunicatorTest {
         String messageID = UUID.randomUUID().toString();
         ListenableFuture<RpcResult<NetconfMessage>> resultFuture = sendRequest( messageID );
 
+        // Reply to no outstanding request is ignored, it does not fail other requests
         communicator.onMessage( mockSession, createSuccessResponseMessage( UUID.randomUUID().toString() ) );
+        assertFalse( "Request completed by reply with unknown message-id", resultFuture.isDone() );
 
-        RpcError rpcError = verifyErrorRpcResult( resultFuture.get(), RpcError.ErrorType.PROTOCOL,
-                                                  "bad-attribute" );
-        assertEquals( "RpcError message non-empty", true,
-                      !Strings.isNullOrEmpty( rpcError.getMessage() ) );
-
-        String errorInfo = rpcError.getInfo();
-        assertNotNull( "RpcError info is null", errorInfo );
-        assertEquals( "Error info contains \"actual-message-id\"", true,
-                      errorInfo.contains( "actual-message-id" ) );
-        assertEquals( "Error info contains \"expected-message-id\"", true,
-                      errorInfo.contains( "expected-message-id" ) );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID ) );
+        verifyResponseMessage( resultFuture.get(), messageID );
     }
 
     private NetconfMessage createErrorResponseMessage( String messageID ) throws Exception {
         String xmlStr =
             "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"" +
-            "           message-id=\"" + messageID + "\">" +
+            ( messageID == null ? "" : "           message-id=\"" + messageID + "\"" ) + ">" +
             "  <rpc-error>" +
             "    <error-type>rpc</error-type>" +
             "    <error-tag>missing-attribute</error-tag>" +
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.connect.netconf.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Optional;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.sal.connect.netconf.NetconfDeviceTest;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaResolutionException;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+
+public class NetconfDeviceSchemaCacheTest {
+
+    private static final List<SourceIdentifier> SOURCES = Lists.newArrayList(
+            new SourceIdentifier("test-module", Optional.of("2013-07-22")));
+
+    private SchemaContextFactory schemaFactory;
+    private MetricRegistry metricRegistry;
+    private NetconfDeviceSchemaCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        schemaFactory = mock(SchemaContextFactory.class);
+        doReturn(Futures.immediateCheckedFuture(NetconfDeviceTest.getSchema()))
+                .when(schemaFactory).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+        metricRegistry = new MetricRegistry();
+        cache = new NetconfDeviceSchemaCache(schemaFactory, metricRegistry);
+    }
+
+    @Test
+    public void testSharedByDevicesWithSameSources() throws Exception {
+        final NetconfDeviceSchemaCache.SchemaLease lease1 = cache.acquire(SOURCES).get();
+        final NetconfDeviceSchemaCache.SchemaLease lease2 = cache.acquire(Lists.reverse(SOURCES)).get();
+
+        assertSame(lease1.getSchemaContext(), lease2.getSchemaContext());
+        assertSame(lease1.getMessageTransformer(), lease2.getMessageTransformer());
+        verify(schemaFactory, times(1)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+        assertEquals(0.5, (Double) getGauge("hit-ratio").getValue(), 0.001);
+
+        // Evicted once the last device releases the schema
+        lease1.close();
+        lease1.close();
+        assertEquals(1, cache.size());
+        lease2.close();
+        assertEquals(0, cache.size());
+
+        cache.acquire(SOURCES).get();
+        verify(schemaFactory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    @Test
+    public void testFailureNotCached() throws Exception {
+        final SchemaResolutionException failure = new SchemaResolutionException("fail",
+                Collections.<SourceIdentifier>emptyList(), HashMultimap.<SourceIdentifier, ModuleImport>create());
+        doReturn(Futures.<SchemaContext, SchemaResolutionException>immediateFailedCheckedFuture(failure))
+                .when(schemaFactory).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+
+        try {
+            cache.acquire(SOURCES).get();
+            fail("Schema context build should have failed");
+        } catch (final ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(0, cache.size());
+
+        cache.acquire(SOURCES);
+        verify(schemaFactory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    @Test(timeout = 10000)
+    public void testBuildDoesNotBlockOtherSources() throws Exception {
+        final List<SourceIdentifier> otherSources = Lists.newArrayList(
+                new SourceIdentifier("other-module", Optional.of("2013-07-22")));
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch built = new CountDownLatch(1);
+        doAnswer(new Answer<CheckedFuture<SchemaContext, SchemaResolutionException>>() {
+            @Override
+            public CheckedFuture<SchemaContext, SchemaResolutionException> answer(final InvocationOnMock invocation)
+                    throws Exception {
+                // Synchronous build of SOURCES, held until the test lets it complete
+                if (((Collection<?>) invocation.getArguments()[0]).containsAll(SOURCES)) {
+                    building.countDown();
+                    built.await();
+                }
+                return Futures.immediateCheckedFuture(NetconfDeviceTest.getSchema());
+            }
+        }).when(schemaFactory).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+
+        final Thread builder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                cache.acquire(SOURCES);
+            }
+        });
+        builder.start();
+        building.await();
+
+        // Other sources are built meanwhile, same sources wait for the build in progress
+        cache.acquire(otherSources).get();
+        final ListenableFuture<NetconfDeviceSchemaCache.SchemaLease> waiting = cache.acquire(SOURCES);
+        assertFalse(waiting.isDone());
+
+        built.countDown();
+        waiting.get();
+        builder.join();
+        verify(schemaFactory, times(2)).createSchemaContext(anyCollectionOf(SourceIdentifier.class));
+    }
+
+    private Gauge<?> getGauge(final String name) {
+        return metricRegistry.getGauges().get(MetricRegistry.name(NetconfDeviceSchemaCache.class, name));
+    }
+}
@@ -9,10 +9,12 @@
 package org.opendaylight.controller.sal.connect.netconf.schema.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.GET_SCHEMA_QNAME;
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_CANDIDATE_QNAME;
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COMMIT_QNAME;
@@ -28,15 +30,21 @@ import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessag
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.toId;
 import static org.opendaylight.controller.sal.connect.netconf.util.NetconfMessageTransformUtil.toPath;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Optional;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import org.custommonkey.xmlunit.Diff;
 import org.custommonkey.xmlunit.ElementNameAndAttributeQualifier;
 import org.custommonkey.xmlunit.XMLUnit;
@@ -45,6 +53,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.SerializedNetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.XmlEventNetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlEventBuffer;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.controller.sal.connect.netconf.NetconfDevice;
 import org.opendaylight.controller.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider;
@@ -67,6 +79,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
@@ -97,6 +110,18 @@ public class NetconfMessageTransformerTest {
         assertThat(XmlUtil.toString(netconfMessage.getDocument()), CoreMatchers.containsString("<rpc"));
     }
 
+    @Test
+    public void testDeviceTransformersShareMessageIds() throws Exception {
+        final NetconfMessageTransformer initTransformer = NetconfMessageTransformer.forDevice(NetconfDevice.INIT_SCHEMA_CTX);
+        final NetconfMessageTransformer deviceTransformer = NetconfMessageTransformer.forDevice(getSchema(false));
+
+        final NetconfMessage first = initTransformer.toRpcRequest(toPath(NETCONF_LOCK_QNAME),
+                NetconfBaseOps.getLockContent(NETCONF_CANDIDATE_QNAME));
+        final NetconfMessage second = deviceTransformer.toRpcRequest(toPath(NETCONF_LOCK_QNAME),
+                NetconfBaseOps.getLockContent(NETCONF_CANDIDATE_QNAME));
+        assertFalse(NetconfMessageTransformUtil.getMessageId(first).equals(NetconfMessageTransformUtil.getMessageId(second)));
+    }
+
     @Test
     public void tesLockSchemaRequest() throws Exception {
         final SchemaContext partialSchema = getSchema(false);
@@ -190,6 +215,103 @@ public class NetconfMessageTransformerTest {
         assertEquals(schemaNode, schemaParent.getValue().iterator().next());
     }
 
+    @Test
+    public void testGetConfigResponseStreamed() throws Exception {
+        final String reply = "<rpc-reply message-id=\"101\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n" +
+                "<data>\n" +
+                "<netconf-state xmlns=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">\n" +
+                "<schemas>\n" +
+                "<schema>\n" +
+                "<identifier>module</identifier>\n" +
+                "<version>2012-12-12</version>\n" +
+                "<format xmlns:x=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">x:yang</format>\n" +
+                "</schema>\n" +
+                "<schema>\n" +
+                "<identifier>module2</identifier>\n" +
+                "<version>2013-12-12</version>\n" +
+                "<format xmlns:x=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">x:yang</format>\n" +
+                "<namespace>urn:module2</namespace>\n" +
+                "</schema>\n" +
+                "</schemas>\n" +
+                "</netconf-state>\n" +
+                "</data>\n" +
+                "</rpc-reply>";
+
+        final SerializedNetconfMessage streamed = new SerializedNetconfMessage(reply.getBytes(Charsets.UTF_8));
+        final DOMRpcResult streamedResult = netconfMessageTransformer.toRpcResult(streamed, toPath(NETCONF_GET_CONFIG_QNAME));
+        assertFalse(streamed.isDocumentBuilt());
+
+        final DOMRpcResult domResult = netconfMessageTransformer.toRpcResult(
+                new NetconfMessage(XmlUtil.readXmlToDocument(reply)), toPath(NETCONF_GET_CONFIG_QNAME));
+        assertEquals(domResult.getResult(), streamedResult.getResult());
+
+        // Same reply as recorded events, e.g. decoded from EXI
+        final XmlEventBuffer.Recorder recorder = XmlEventBuffer.recorder();
+        streamed.writeTo(recorder);
+        final XmlEventNetconfMessage events = new XmlEventNetconfMessage(recorder.build());
+        final DOMRpcResult eventsResult = netconfMessageTransformer.toRpcResult(events, toPath(NETCONF_GET_CONFIG_QNAME));
+        assertFalse(events.isDocumentBuilt());
+        assertEquals(domResult.getResult(), eventsResult.getResult());
+    }
+
+    @Test
+    public void testGetConfigResponseMalformed() throws Exception {
+        // Truncated in the middle of the data, after the header
+        final String reply = "<rpc-reply message-id=\"101\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n" +
+                "<data>\n" +
+                "<netconf-state xmlns=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">\n" +
+                "<schemas>\n";
+
+        final SerializedNetconfMessage streamed = new SerializedNetconfMessage(reply.getBytes(Charsets.UTF_8));
+        assertEquals("101", streamed.getRootAttribute("message-id"));
+        try {
+            netconfMessageTransformer.toRpcResult(streamed, toPath(NETCONF_GET_CONFIG_QNAME));
+            fail("Malformed reply should be rejected");
+        } catch (final IllegalStateException e) {
+            assertTrue(e.getCause() instanceof XMLStreamException);
+        }
+        // Reported by the streaming pass, not by a fall back to DOM
+        assertFalse(streamed.isDocumentBuilt());
+    }
+
+    @Test
+    public void testGetConfigRequestWrittenDirectly() throws Exception {
+        final DataContainerChild<?, ?> filter = toFilterStructure(
+                YangInstanceIdentifier.create(toId(NetconfState.QNAME), toId(Schemas.QNAME)), schema);
+        final NetconfMessage netconfMessage = netconfMessageTransformer.toRpcRequest(toPath(NETCONF_GET_CONFIG_QNAME),
+                NetconfMessageTransformUtil.wrap(NETCONF_GET_CONFIG_QNAME, NetconfBaseOps.getSourceNode(NETCONF_RUNNING_QNAME), filter));
+
+        final LazyNetconfMessage lazy = (LazyNetconfMessage) netconfMessage;
+        assertEquals("m-0", lazy.getRootAttribute("message-id"));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        lazy.writeTo(out);
+        assertFalse(lazy.isDocumentBuilt());
+
+        final Diff diff = XMLUnit.compareXML(netconfMessage.getDocument(), XmlUtil.readXmlToDocument(out.toString(Charsets.UTF_8.name())));
+        diff.overrideElementQualifier(new ElementNameAndAttributeQualifier());
+        assertTrue(diff.toString(), diff.similar());
+    }
+
+    @Test
+    public void testGetConfigRequestWrittenAsEvents() throws Exception {
+        final DataContainerChild<?, ?> filter = toFilterStructure(
+                YangInstanceIdentifier.create(toId(NetconfState.QNAME), toId(Schemas.QNAME)), schema);
+        final NetconfMessage netconfMessage = netconfMessageTransformer.toRpcRequest(toPath(NETCONF_GET_CONFIG_QNAME),
+                NetconfMessageTransformUtil.wrap(NETCONF_GET_CONFIG_QNAME, NetconfBaseOps.getSourceNode(NETCONF_RUNNING_QNAME), filter));
+
+        final LazyNetconfMessage lazy = (LazyNetconfMessage) netconfMessage;
+        final TransformerHandler handler = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
+        final DOMResult result = new DOMResult();
+        handler.setResult(result);
+        lazy.writeTo(handler);
+        assertFalse(lazy.isDocumentBuilt());
+
+        final Diff diff = XMLUnit.compareXML(netconfMessage.getDocument(), (Document) result.getNode());
+        diff.overrideElementQualifier(new ElementNameAndAttributeQualifier());
+        assertTrue(diff.toString(), diff.similar());
+    }
+
     @Test
     public void testGetConfigRequest() throws Exception {
         final DataContainerChild<?, ?> filter = toFilterStructure(
@@ -20,6 +20,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.controller.remote.rpc.messages.InvokeRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
+import org.opendaylight.controller.remote.rpc.messages.StreamedRpcResponse;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -66,9 +67,13 @@ public class RemoteRpcImplementation implements DOMRpcImplementation {
                     return;
                 }
 
-                final RpcResponse rpcReply = (RpcResponse)reply;
-                final NormalizedNode<?, ?> result =
-                        NormalizedNodeSerializer.deSerialize(rpcReply.getResultNormalizedNode());
+                // Routers which predate the streamed messages reply in the protobuf format
+                final NormalizedNode<?, ?> result;
+                if(reply instanceof StreamedRpcResponse) {
+                    result = ((StreamedRpcResponse) reply).getResultNormalizedNode();
+                } else {
+                    result = NormalizedNodeSerializer.deSerialize(((RpcResponse) reply).getResultNormalizedNode());
+                }
                 settableFuture.set(new DefaultDOMRpcResult(result));
             }
         };
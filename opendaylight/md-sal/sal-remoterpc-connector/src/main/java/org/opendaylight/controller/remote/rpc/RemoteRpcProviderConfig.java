@@ -26,6 +26,8 @@ public class RemoteRpcProviderConfig extends CommonConfig {
     protected static final String TAG_RPC_MGR_PATH = "rpc-manager-path";
     protected static final String TAG_ASK_DURATION = "ask-duration";
     private static final String TAG_GOSSIP_TICK_INTERVAL = "gossip-tick-interval";
+    private static final String TAG_GOSSIP_MAX_DELTAS = "gossip-max-deltas";
+    private static final int DEFAULT_GOSSIP_MAX_DELTAS = 32;
 
     //locally cached values
     private Timeout cachedAskDuration;
@@ -83,6 +85,17 @@ public class RemoteRpcProviderConfig extends CommonConfig {
         return cachedGossipTickInterval;
     }
 
+    /**
+     * @return number of bucket deltas retained per member for delta gossip. 0 disables delta gossip.
+     */
+    public int getGossipMaxDeltas(){
+        if (get().hasPath(TAG_GOSSIP_MAX_DELTAS)) {
+            return get().getInt(TAG_GOSSIP_MAX_DELTAS);
+        }
+
+        return DEFAULT_GOSSIP_MAX_DELTAS;
+    }
+
     public static class Builder extends CommonConfig.Builder<Builder>{
 
         public Builder(String actorSystemName){
@@ -102,6 +115,9 @@ public class RemoteRpcProviderConfig extends CommonConfig {
             configHolder.put(TAG_ASK_DURATION, "15s");
             configHolder.put(TAG_GOSSIP_TICK_INTERVAL, "500ms");
 
+            //gossip
+            configHolder.put(TAG_GOSSIP_MAX_DELTAS, DEFAULT_GOSSIP_MAX_DELTAS);
+
         }
 
         public RemoteRpcProviderConfig build(){
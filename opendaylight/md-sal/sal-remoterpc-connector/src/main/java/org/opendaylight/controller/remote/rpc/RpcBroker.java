@@ -14,6 +14,8 @@ import akka.actor.Props;
 import akka.dispatch.OnComplete;
 import akka.japi.Creator;
 import akka.japi.Pair;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
@@ -25,17 +27,20 @@ import java.util.Collection;
 import java.util.List;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
 import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
-import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages.Node;
 import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
 import org.opendaylight.controller.remote.rpc.messages.InvokeRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
+import org.opendaylight.controller.remote.rpc.messages.StreamedExecuteRpc;
+import org.opendaylight.controller.remote.rpc.messages.StreamedRpcResponse;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.remote.rpc.utils.LatestEntryRoutingLogic;
 import org.opendaylight.controller.remote.rpc.utils.RoutingLogic;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcError.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -46,15 +51,30 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Actor to initiate execution of remote RPC on other nodes of the cluster.
+ * <p/>
+ * The broker subscribes to route updates from the {@link RpcRegistry} and resolves routers from its
+ * local copy of the routes. The registry is only asked with {@link RpcRegistry.Messages.FindRouters}
+ * until the first update arrives.
+ * <p/>
+ * Rpcs are sent as {@link StreamedExecuteRpc} to routers whose routing table advertises it, and as
+ * {@link ExecuteRpc} to the others, which predate it. Executed rpcs are answered in the format of the request.
  */
 
 public class RpcBroker extends AbstractUntypedActor {
 
     private static final Logger LOG = LoggerFactory.getLogger(RpcBroker.class);
+    private static final String RPC_LATENCY = "rpc-latency";
+
+    private final MetricRegistry metricRegistry = MetricsReporter.getInstance().getMetricsRegistry();
     private final ActorRef rpcRegistry;
     private final RemoteRpcProviderConfig config;
     private final DOMRpcService rpcService;
 
+    /**
+     * Latest routes received from the registry, null until the first update arrives
+     */
+    private RpcRegistry.Messages.RoutesUpdated routes;
+
     private RpcBroker(final DOMRpcService rpcService, final ActorRef rpcRegistry) {
         this.rpcService = rpcService;
         this.rpcRegistry = rpcRegistry;
@@ -67,12 +87,31 @@ public class RpcBroker extends AbstractUntypedActor {
         return Props.create(new RpcBrokerCreator(rpcService, rpcRegistry));
     }
 
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        rpcRegistry.tell(new RpcRegistry.Messages.SubscribeRoutes(), self());
+    }
+
     @Override
     protected void handleReceive(final Object message) throws Exception {
         if(message instanceof InvokeRpc) {
             invokeRemoteRpc((InvokeRpc) message);
+        } else if(message instanceof StreamedExecuteRpc) {
+            final StreamedExecuteRpc execute = (StreamedExecuteRpc) message;
+            executeRpc(execute.getRpc(), execute.getInputNormalizedNode(), true);
         } else if(message instanceof ExecuteRpc) {
-            executeRpc((ExecuteRpc) message);
+            final ExecuteRpc execute = (ExecuteRpc) message;
+            executeRpc(execute.getRpc(), NormalizedNodeSerializer.deSerialize(execute.getInputNormalizedNode()),
+                    false);
+        } else if(message instanceof RpcRegistry.Messages.RoutesUpdated) {
+            updateRoutes((RpcRegistry.Messages.RoutesUpdated) message);
+        }
+    }
+
+    private void updateRoutes(final RpcRegistry.Messages.RoutesUpdated update) {
+        if(routes == null || update.getVersion() > routes.getVersion()) {
+            routes = update;
         }
     }
 
@@ -82,6 +121,17 @@ public class RpcBroker extends AbstractUntypedActor {
         }
         final RpcRouter.RouteIdentifier<?,?,?> routeId = new RouteIdentifierImpl(
                 null, msg.getRpc(), msg.getIdentifier());
+
+        if(routes != null) {
+            final List<Pair<ActorRef, Long>> actorRefList = routes.findRouters(routeId);
+            if(actorRefList.isEmpty()) {
+                replyNoImplementation(msg, getSender(), self());
+            } else {
+                finishInvokeRpc(actorRefList, routes, msg, getSender(), self());
+            }
+            return;
+        }
+
         final RpcRegistry.Messages.FindRouters findMsg = new RpcRegistry.Messages.FindRouters(routeId);
 
         final scala.concurrent.Future<Object> future = ask(rpcRegistry, findMsg, config.getAskDuration());
@@ -104,34 +154,47 @@ public class RpcBroker extends AbstractUntypedActor {
                 final List<Pair<ActorRef, Long>> actorRefList = findReply.getRouterWithUpdateTime();
 
                 if(actorRefList == null || actorRefList.isEmpty()) {
-                    final String message = String.format(
-                            "No remote implementation found for rpc %s",  msg.getRpc());
-                    sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(
-                            message, Arrays.asList(RpcResultBuilder.newError(ErrorType.RPC,
-                                    "operation-not-supported", message)))), self);
+                    replyNoImplementation(msg, sender, self);
                     return;
                 }
 
-                finishInvokeRpc(actorRefList, msg, sender, self);
+                // The routes are not known yet, nor are the message formats the routers accept
+                finishInvokeRpc(actorRefList, null, msg, sender, self);
             }
         };
 
         future.onComplete(onComplete, getContext().dispatcher());
     }
 
+    private static void replyNoImplementation(final InvokeRpc msg, final ActorRef sender, final ActorRef self) {
+        final String message = String.format(
+                "No remote implementation found for rpc %s",  msg.getRpc());
+        sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(
+                message, Arrays.asList(RpcResultBuilder.newError(ErrorType.RPC,
+                        "operation-not-supported", message)))), self);
+    }
+
     protected void finishInvokeRpc(final List<Pair<ActorRef, Long>> actorRefList,
-            final InvokeRpc msg, final ActorRef sender, final ActorRef self) {
+            final RpcRegistry.Messages.RoutesUpdated knownRoutes, final InvokeRpc msg, final ActorRef sender,
+            final ActorRef self) {
 
         final RoutingLogic logic = new LatestEntryRoutingLogic(actorRefList);
+        final ActorRef router = logic.select();
 
-        final Node serializedNode = NormalizedNodeSerializer.serialize(msg.getInput());
-        final ExecuteRpc executeMsg = new ExecuteRpc(serializedNode, msg.getRpc());
+        final Object executeMsg;
+        if(knownRoutes != null && knownRoutes.acceptsStreamedRpcMessages(router)) {
+            executeMsg = new StreamedExecuteRpc(msg.getInput(), msg.getRpc());
+        } else {
+            executeMsg = new ExecuteRpc(NormalizedNodeSerializer.serialize(msg.getInput()), msg.getRpc());
+        }
 
-        final scala.concurrent.Future<Object> future = ask(logic.select(), executeMsg, config.getAskDuration());
+        final Timer.Context latency = rpcLatencyTimer(msg.getRpc()).time();
+        final scala.concurrent.Future<Object> future = ask(router, executeMsg, config.getAskDuration());
 
         final OnComplete<Object> onComplete = new OnComplete<Object>() {
             @Override
             public void onComplete(final Throwable failure, final Object reply) throws Throwable {
+                latency.stop();
                 if(failure != null) {
                     LOG.error("ExecuteRpc failed", failure);
                     sender.tell(new akka.actor.Status.Failure(failure), self);
@@ -145,12 +208,20 @@ public class RpcBroker extends AbstractUntypedActor {
         future.onComplete(onComplete, getContext().dispatcher());
     }
 
-    private void executeRpc(final ExecuteRpc msg) {
+    /**
+     * Timer measuring round-trip time of remote executions of the given rpc. Exposed through
+     * {@link MetricsReporter} as JMX bean.
+     */
+    private Timer rpcLatencyTimer(final QName rpc) {
+        return metricRegistry.timer(MetricRegistry.name(self().path().toStringWithoutAddress(),
+                RPC_LATENCY, rpc.toString()));
+    }
+
+    private void executeRpc(final QName rpc, final NormalizedNode<?, ?> input, final boolean streamed) {
         if(LOG.isDebugEnabled()) {
-            LOG.debug("Executing rpc {}", msg.getRpc());
+            LOG.debug("Executing rpc {}", rpc);
         }
-        final NormalizedNode<?, ?> input = NormalizedNodeSerializer.deSerialize(msg.getInputNormalizedNode());
-        final SchemaPath schemaPath = SchemaPath.create(true, msg.getRpc());
+        final SchemaPath schemaPath = SchemaPath.create(true, rpc);
 
         final CheckedFuture<DOMRpcResult, DOMRpcException> future = rpcService.invokeRpc(schemaPath, input);
 
@@ -164,7 +235,7 @@ public class RpcBroker extends AbstractUntypedActor {
             @Override
             public void onSuccess(final DOMRpcResult result) {
                 if (result.getErrors() != null && ( ! result.getErrors().isEmpty())) {
-                    final String message = String.format("Execution of RPC %s failed",  msg.getRpc());
+                    final String message = String.format("Execution of RPC %s failed",  rpc);
                     Collection<RpcError> errors = result.getErrors();
                     if(errors == null || errors.size() == 0) {
                         errors = Arrays.asList(RpcResultBuilder.newError(ErrorType.RPC,
@@ -173,15 +244,16 @@ public class RpcBroker extends AbstractUntypedActor {
 
                     sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(
                             message, errors)), self);
+                } else if(streamed) {
+                    sender.tell(new StreamedRpcResponse(result.getResult()), self);
                 } else {
-                    final Node serializedResultNode = NormalizedNodeSerializer.serialize(result.getResult());
-                    sender.tell(new RpcResponse(serializedResultNode), self);
+                    sender.tell(new RpcResponse(NormalizedNodeSerializer.serialize(result.getResult())), self);
                 }
             }
 
             @Override
             public void onFailure(final Throwable t) {
-                LOG.error("executeRpc for {} failed: {}", msg.getRpc(), t);
+                LOG.error("executeRpc for {} failed: {}", rpc, t);
                 sender.tell(new akka.actor.Status.Failure(t), self);
             }
         });
@@ -13,6 +13,10 @@ import java.io.Serializable;
 import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages;
 import org.opendaylight.yangtools.yang.common.QName;
 
+/**
+ * Request to execute an rpc on a remote node, with the input in the protobuf format. Only sent to
+ * members which do not accept {@link StreamedExecuteRpc}, its serialized form must not change.
+ */
 public class ExecuteRpc implements Serializable {
     private static final long serialVersionUID = 1128904894827335676L;
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Writes and reads the NormalizedNode payload of the streamed remote rpc messages. Every payload is prefixed
+ * with the format version, so that the encoding can evolve without breaking readers. The only version,
+ * {@link #STREAM_VERSION}, is the {@link NormalizedNodeOutputStreamWriter} binary stream, written directly
+ * to the message output without building an intermediate object graph. Members without the stream codec
+ * exchange the protobuf based {@link ExecuteRpc} and {@link RpcResponse} instead.
+ */
+final class NormalizedNodeExternalizer {
+    static final short STREAM_VERSION = 1;
+
+    private NormalizedNodeExternalizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static void writeNormalizedNode(final ObjectOutput out, final NormalizedNode<?, ?> node) throws IOException {
+        out.writeShort(STREAM_VERSION);
+        out.writeBoolean(node != null);
+        if(node != null) {
+            new NormalizedNodeOutputStreamWriter(out).writeNormalizedNode(node);
+        }
+    }
+
+    static NormalizedNode<?, ?> readNormalizedNode(final ObjectInput in) throws IOException {
+        final short version = in.readShort();
+        if(version != STREAM_VERSION) {
+            throw new IOException("Unsupported NormalizedNode payload version " + version);
+        }
+        if(!in.readBoolean()) {
+            return null;
+        }
+        return new NormalizedNodeInputStreamReader(in).readNormalizedNode();
+    }
+}
@@ -10,6 +10,10 @@ package org.opendaylight.controller.remote.rpc.messages;
 import java.io.Serializable;
 import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages;
 
+/**
+ * Result of a remote rpc execution requested with {@link ExecuteRpc}, in the protobuf format. Its
+ * serialized form must not change.
+ */
 public class RpcResponse implements Serializable {
     private static final long serialVersionUID = -4211279498688989245L;
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+
+import com.google.common.base.Preconditions;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Request to execute an rpc on a remote node. The input is serialized with the versioned binary NormalizedNode
+ * stream format, see {@link NormalizedNodeExternalizer}. Only sent to members whose routing table advertises
+ * it, the others get an {@link ExecuteRpc}.
+ */
+public class StreamedExecuteRpc implements Externalizable {
+    private static final long serialVersionUID = -3093742185374582510L;
+
+    private NormalizedNode<?, ?> inputNormalizedNode;
+    private QName rpc;
+
+    public StreamedExecuteRpc() {
+    }
+
+    public StreamedExecuteRpc(final NormalizedNode<?, ?> inputNormalizedNode, final QName rpc) {
+        Preconditions.checkNotNull(inputNormalizedNode, "Normalized Node input string should be present");
+        Preconditions.checkNotNull(rpc, "rpc Qname should not be null");
+
+        this.inputNormalizedNode = inputNormalizedNode;
+        this.rpc = rpc;
+    }
+
+    public NormalizedNode<?, ?> getInputNormalizedNode() {
+        return inputNormalizedNode;
+    }
+
+    public QName getRpc() {
+        return rpc;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeObject(rpc);
+        NormalizedNodeExternalizer.writeNormalizedNode(out, inputNormalizedNode);
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        rpc = (QName) in.readObject();
+        inputNormalizedNode = NormalizedNodeExternalizer.readNormalizedNode(in);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Result of a remote rpc execution requested with {@link StreamedExecuteRpc}. The result is serialized with
+ * the versioned binary NormalizedNode stream format, see {@link NormalizedNodeExternalizer}.
+ */
+public class StreamedRpcResponse implements Externalizable {
+    private static final long serialVersionUID = 6515326743279014736L;
+
+    private NormalizedNode<?, ?> resultNormalizedNode;
+
+    public StreamedRpcResponse() {
+    }
+
+    public StreamedRpcResponse(final NormalizedNode<?, ?> resultNormalizedNode) {
+        this.resultNormalizedNode = resultNormalizedNode;
+    }
+
+    public NormalizedNode<?, ?> getResultNormalizedNode() {
+        return resultNormalizedNode;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        NormalizedNodeExternalizer.writeNormalizedNode(out, resultNormalizedNode);
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        resultNormalizedNode = NormalizedNodeExternalizer.readNormalizedNode(in);
+    }
+}
@@ -11,26 +11,65 @@ import akka.actor.ActorRef;
 import akka.japi.Option;
 import akka.japi.Pair;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import org.opendaylight.controller.remote.rpc.registry.gossip.Copier;
+import java.util.Set;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Delta;
+import org.opendaylight.controller.remote.rpc.registry.gossip.DeltaCopier;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 
-public class RoutingTable implements Copier<RoutingTable>, Serializable {
+public class RoutingTable implements DeltaCopier<RoutingTable>, Serializable {
     private static final long serialVersionUID = 5592610415175278760L;
 
     private final Map<RpcRouter.RouteIdentifier<?, ?, ?>, Long> table = new HashMap<>();
     private ActorRef router;
 
+    /**
+     * Whether the router accepts {@link org.opendaylight.controller.remote.rpc.messages.StreamedExecuteRpc}.
+     * Tables gossiped by members which predate it do not have this field, so it reads as false for them.
+     */
+    private boolean streamedRpcMessages = true;
+
     @Override
     public RoutingTable copy() {
         RoutingTable copy = new RoutingTable();
         copy.table.putAll(table);
         copy.setRouter(this.getRouter());
+        copy.streamedRpcMessages = streamedRpcMessages;
 
         return copy;
     }
 
+    /**
+     * Routes are gossiped as added and removed route ids, unless the router changed.
+     */
+    @Override
+    public Delta<RoutingTable> diff(RoutingTable older) {
+        if (router == null ? older.router != null : !router.equals(older.router)) {
+            return null;
+        }
+        if (streamedRpcMessages != older.streamedRpcMessages) {
+            return null;
+        }
+
+        RoutingTableDelta delta = new RoutingTableDelta();
+        for (Map.Entry<RpcRouter.RouteIdentifier<?, ?, ?>, Long> entry : table.entrySet()) {
+            if (!entry.getValue().equals(older.table.get(entry.getKey()))) {
+                delta.added.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : older.table.keySet()) {
+            if (!table.containsKey(routeId)) {
+                delta.removed.add(routeId);
+            }
+        }
+
+        return delta;
+    }
+
     public Option<Pair<ActorRef, Long>> getRouterFor(RpcRouter.RouteIdentifier<?, ?, ?> routeId){
         Long updatedTime = table.get(routeId);
 
@@ -49,6 +88,38 @@ public class RoutingTable implements Copier<RoutingTable>, Serializable {
         table.remove(routeId);
     }
 
+    /**
+     * Adds the routes.
+     *
+     * @return the change made, for gossip
+     */
+    public Delta<RoutingTable> addRoutes(Collection<RpcRouter.RouteIdentifier<?, ?, ?>> routeIds) {
+        RoutingTableDelta delta = new RoutingTableDelta();
+        long now = System.currentTimeMillis();
+        for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : routeIds) {
+            table.put(routeId, now);
+            delta.added.put(routeId, now);
+        }
+
+        return delta;
+    }
+
+    /**
+     * Removes the routes.
+     *
+     * @return the change made, for gossip
+     */
+    public Delta<RoutingTable> removeRoutes(Collection<RpcRouter.RouteIdentifier<?, ?, ?>> routeIds) {
+        RoutingTableDelta delta = new RoutingTableDelta();
+        for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : routeIds) {
+            if (table.remove(routeId) != null) {
+                delta.removed.add(routeId);
+            }
+        }
+
+        return delta;
+    }
+
     public boolean contains(RpcRouter.RouteIdentifier<?, ?, ?> routeId){
         return table.containsKey(routeId);
     }
@@ -69,11 +140,41 @@ public class RoutingTable implements Copier<RoutingTable>, Serializable {
         this.router = router;
     }
 
+    public boolean acceptsStreamedRpcMessages() {
+        return streamedRpcMessages;
+    }
+
+    void setStreamedRpcMessages(boolean streamedRpcMessages) {
+        this.streamedRpcMessages = streamedRpcMessages;
+    }
+
     @Override
     public String toString() {
         return "RoutingTable{" +
                 "table=" + table +
                 ", router=" + router +
+                ", streamedRpcMessages=" + streamedRpcMessages +
                 '}';
     }
+
+    private static final class RoutingTableDelta implements Delta<RoutingTable> {
+        private static final long serialVersionUID = 1L;
+
+        private final Map<RpcRouter.RouteIdentifier<?, ?, ?>, Long> added = new HashMap<>();
+        private final Set<RpcRouter.RouteIdentifier<?, ?, ?>> removed = new HashSet<>();
+
+        @Override
+        public void applyTo(RoutingTable data) {
+            data.table.keySet().removeAll(removed);
+            data.table.putAll(added);
+        }
+
+        @Override
+        public String toString() {
+            return "RoutingTableDelta{" +
+                    "added=" + added +
+                    ", removed=" + removed +
+                    '}';
+        }
+    }
 }
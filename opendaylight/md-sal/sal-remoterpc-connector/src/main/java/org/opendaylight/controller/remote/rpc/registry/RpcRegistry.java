@@ -8,15 +8,21 @@
 package org.opendaylight.controller.remote.rpc.registry;
 
 import akka.actor.ActorRef;
+import akka.actor.Terminated;
 import akka.japi.Option;
 import akka.japi.Pair;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.AddOrUpdateRoutes;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RemoveRoutes;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RoutesUpdated;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SetLocalRouter;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SubscribeRoutes;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
 import org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
@@ -30,6 +36,16 @@ import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
  */
 public class RpcRegistry extends BucketStore<RoutingTable> {
 
+    /**
+     * Actors that maintain a local copy of the routes, see {@link SubscribeRoutes}
+     */
+    private final Set<ActorRef> routeSubscribers = new HashSet<>();
+
+    /**
+     * Monotonically increasing version of the routes published to subscribers
+     */
+    private long routesVersion = 0;
+
     public RpcRegistry() {
         getLocalBucket().setData(new RoutingTable());
     }
@@ -46,6 +62,10 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
             receiveRemoveRoutes((RemoveRoutes) message);
         } else if (message instanceof Messages.FindRouters) {
             receiveGetRouter((FindRouters) message);
+        } else if (message instanceof SubscribeRoutes) {
+            receiveSubscribeRoutes();
+        } else if (message instanceof Terminated) {
+            receiveTerminated((Terminated) message);
         } else {
             super.handleReceive(message);
         }
@@ -57,7 +77,10 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
      * @param message contains {@link akka.actor.ActorRef} for rpc broker
      */
     private void receiveSetLocalRouter(SetLocalRouter message) {
-        getLocalBucket().getData().setRouter(message.getRouter());
+        RoutingTable table = getLocalBucket().getData().copy();
+        table.setRouter(message.getRouter());
+
+        updateLocalBucket(table);
     }
 
     /**
@@ -68,11 +91,7 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
         log.debug("AddOrUpdateRoutes: {}", msg.getRouteIdentifiers());
 
         RoutingTable table = getLocalBucket().getData().copy();
-        for(RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
-            table.addRoute(routeId);
-        }
-
-        updateLocalBucket(table);
+        updateLocalBucket(table, table.addRoutes(msg.getRouteIdentifiers()));
     }
 
     /**
@@ -81,11 +100,7 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
     private void receiveRemoveRoutes(RemoveRoutes msg) {
 
         RoutingTable table = getLocalBucket().getData().copy();
-        for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
-            table.removeRoute(routeId);
-        }
-
-        updateLocalBucket(table);
+        updateLocalBucket(table, table.removeRoutes(msg.getRouteIdentifiers()));
     }
 
     /**
@@ -106,6 +121,58 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
         getSender().tell(new Messages.FindRoutersReply(routers), getSelf());
     }
 
+    /**
+     * Registers the sender for route updates and sends it the current routes.
+     */
+    private void receiveSubscribeRoutes() {
+        if (routeSubscribers.add(getSender())) {
+            getContext().watch(getSender());
+        }
+        getSender().tell(currentRoutes(), getSelf());
+    }
+
+    /**
+     * Drops a subscriber which is gone.
+     */
+    private void receiveTerminated(Terminated message) {
+        if (routeSubscribers.remove(message.getActor())) {
+            log.debug("Route subscriber {} terminated", message.getActor());
+        }
+    }
+
+    Set<ActorRef> getRouteSubscribers() {
+        return routeSubscribers;
+    }
+
+    @Override
+    protected void onBucketsUpdated() {
+        if (routeSubscribers.isEmpty()) {
+            return;
+        }
+
+        RoutesUpdated update = currentRoutes();
+        for (ActorRef subscriber : routeSubscribers) {
+            subscriber.tell(update, getSelf());
+        }
+    }
+
+    /**
+     * Routing tables held by buckets are never modified once published, they are replaced with
+     * an updated copy instead. That makes it safe to hand them out to other actors as they are.
+     */
+    private RoutesUpdated currentRoutes() {
+        List<RoutingTable> tables = new ArrayList<>(getRemoteBuckets().size() + 1);
+        tables.add(getLocalBucket().getData());
+
+        for(Bucket<RoutingTable> bucket : getRemoteBuckets().values()) {
+            if (bucket.getData() != null) {
+                tables.add(bucket.getData());
+            }
+        }
+
+        return new RoutesUpdated(++routesVersion, tables);
+    }
+
     private void findRoutes(RoutingTable table, RpcRouter.RouteIdentifier<?, ?, ?> routeId,
             List<Pair<ActorRef, Long>> routers) {
         if (table == null) {
@@ -200,6 +267,72 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
             }
         }
 
+        /**
+         * Subscribes the sender for {@link RoutesUpdated} notifications, so it can resolve routers
+         * locally instead of asking the registry with {@link FindRouters} for every rpc.
+         */
+        public static class SubscribeRoutes {
+            @Override
+            public String toString() {
+                return "SubscribeRoutes{}";
+            }
+        }
+
+        public static class RoutesUpdated {
+            private final long version;
+            private final List<RoutingTable> routingTables;
+
+            public RoutesUpdated(long version, List<RoutingTable> routingTables) {
+                Preconditions.checkArgument(routingTables != null, "Routing tables must not be null");
+                this.version = version;
+                this.routingTables = Collections.unmodifiableList(routingTables);
+            }
+
+            public long getVersion() {
+                return version;
+            }
+
+            public List<RoutingTable> getRoutingTables() {
+                return routingTables;
+            }
+
+            /**
+             * Finds routers for the given rpc, same as {@link FindRouters} would.
+             */
+            public List<Pair<ActorRef, Long>> findRouters(RpcRouter.RouteIdentifier<?, ?, ?> routeId) {
+                List<Pair<ActorRef, Long>> routers = new ArrayList<>();
+                for (RoutingTable table : routingTables) {
+                    Option<Pair<ActorRef, Long>> routerWithUpdateTime = table.getRouterFor(routeId);
+                    if(!routerWithUpdateTime.isEmpty()) {
+                        routers.add(routerWithUpdateTime.get());
+                    }
+                }
+                return routers;
+            }
+
+            /**
+             * Whether the given router accepts
+             * {@link org.opendaylight.controller.remote.rpc.messages.StreamedExecuteRpc}. Unknown routers are
+             * assumed not to.
+             */
+            public boolean acceptsStreamedRpcMessages(ActorRef router) {
+                for (RoutingTable table : routingTables) {
+                    if (router.equals(table.getRouter())) {
+                        return table.acceptsStreamedRpcMessages();
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return "RoutesUpdated{" +
+                        "version=" + version +
+                        ", routingTables=" + routingTables.size() +
+                        '}';
+            }
+        }
+
         public static class FindRoutersReply {
             final List<Pair<ActorRef, Long>> routerWithUpdateTime;
 
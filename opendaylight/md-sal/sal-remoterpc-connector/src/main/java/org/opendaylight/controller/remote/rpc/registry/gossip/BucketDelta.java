@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+
+/**
+ * Change of a {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket} from one version to the next.
+ */
+public class BucketDelta<T extends Copier<T>> implements Serializable {
+    private static final long serialVersionUID = -2153437364286424571L;
+
+    private final Long fromVersion;
+    private final Long toVersion;
+    private final Delta<T> delta;
+
+    public BucketDelta(Long fromVersion, Long toVersion, Delta<T> delta) {
+        Preconditions.checkArgument(fromVersion != null, "fromVersion can not be null");
+        Preconditions.checkArgument(toVersion != null, "toVersion can not be null");
+        Preconditions.checkArgument(delta != null, "delta can not be null");
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.delta = delta;
+    }
+
+    public Long getFromVersion() {
+        return fromVersion;
+    }
+
+    public Long getToVersion() {
+        return toVersion;
+    }
+
+    public Delta<T> getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "BucketDelta{" +
+                "fromVersion=" + fromVersion +
+                ", toVersion=" + toVersion +
+                ", delta=" + delta +
+                '}';
+    }
+}
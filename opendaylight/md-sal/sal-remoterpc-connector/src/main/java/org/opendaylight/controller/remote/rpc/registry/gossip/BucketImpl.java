@@ -23,6 +23,11 @@ public class BucketImpl<T extends Copier<T>> implements Bucket<T>, Serializable
         this.data = data;
     }
 
+    public BucketImpl(Long version, T data) {
+        this.version = version;
+        this.data = data;
+    }
+
     public BucketImpl(Bucket<T> other) {
         this.version = other.getVersion();
         this.data = other.getData();
@@ -30,7 +35,11 @@ public class BucketImpl<T extends Copier<T>> implements Bucket<T>, Serializable
 
     public void setData(T data) {
         this.data = data;
-        this.version = System.currentTimeMillis()+1;
+
+        // Versions must strictly increase even if data is updated more than once per millisecond,
+        // otherwise the update would never be gossiped.
+        final long now = System.currentTimeMillis() + 1;
+        this.version = now > version ? now : version + 1;
     }
 
     @Override
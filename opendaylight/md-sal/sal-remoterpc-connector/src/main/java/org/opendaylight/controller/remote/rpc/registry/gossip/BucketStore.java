@@ -13,11 +13,21 @@ import akka.actor.ActorRefProvider;
 import akka.actor.Address;
 import akka.actor.Props;
 import akka.cluster.ClusterActorRefProvider;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBuckets;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBucketsReply;
@@ -37,11 +47,17 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Buckets are sync'ed across nodes using Gossip protocol (http://en.wikipedia.org/wiki/Gossip_protocol)<p>
  * This store uses a {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}.
+ * <p>
+ * If bucket data is a {@link org.opendaylight.controller.remote.rpc.registry.gossip.DeltaCopier}, the store
+ * retains the last few {@link org.opendaylight.controller.remote.rpc.registry.gossip.BucketDelta}s of every
+ * bucket. Members that already hold an older version of a bucket are then sent the chain of deltas since
+ * that version instead of the whole bucket. Whenever the chain is not available, the whole bucket is sent.
  *
  */
 public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMetering {
 
     private static final Long NO_VERSION = -1L;
+    private static final String GOSSIP_CONVERGENCE_TIME = "gossip-convergence-ms";
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
@@ -60,17 +76,37 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     private final Map<Address, Long> versions = new HashMap<>();
 
+    /**
+     * Most recent consecutive deltas for every known bucket, oldest first
+     */
+    private final Map<Address, Deque<BucketDelta<T>>> deltas = new HashMap<>();
+
     /**
      * Cluster address for this node
      */
     private Address selfAddress;
 
+    /**
+     * Local time ({@link System#nanoTime()}) at which a remote gossiper first advertised a bucket version
+     * newer than the local copy, for every remote bucket waiting for an update
+     */
+    private final Map<Address, Long> newerVersionSeen = new HashMap<>();
+
+    /**
+     * Time between a remote gossiper advertising a newer version of a remote bucket and this node
+     * applying it
+     */
+    private Histogram convergenceTime;
+
     private ConditionalProbe probe;
 
     private final RemoteRpcProviderConfig config;
 
+    private final int maxDeltas;
+
     public BucketStore(){
         config = new RemoteRpcProviderConfig(getContext().system().settings().config());
+        maxDeltas = config.getGossipMaxDeltas();
     }
 
     @Override
@@ -78,6 +114,9 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         ActorRefProvider provider = getContext().provider();
         selfAddress = provider.getDefaultAddress();
 
+        convergenceTime = MetricsReporter.getInstance().getMetricsRegistry().histogram(
+                MetricRegistry.name(getSelf().path().toStringWithoutAddress(), GOSSIP_CONVERGENCE_TIME));
+
         if ( provider instanceof ClusterActorRefProvider) {
             getContext().actorOf(Props.create(Gossiper.class).withMailbox(config.getMailBoxName()), "gossiper");
         }
@@ -98,11 +137,13 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         } else if (message instanceof GetAllBuckets) {
             receiveGetAllBuckets();
         } else if (message instanceof GetBucketsByMembers) {
-            receiveGetBucketsByMembers(((GetBucketsByMembers) message).getMembers());
+            receiveGetBucketsByMembers(((GetBucketsByMembers) message).getMembers(),
+                    ((GetBucketsByMembers) message).getKnownVersions());
         } else if (message instanceof GetBucketVersions) {
-            receiveGetBucketVersions();
+            receiveGetBucketVersions(((GetBucketVersions) message).getRemoteVersions());
         } else if (message instanceof UpdateRemoteBuckets) {
-            receiveUpdateRemoteBuckets(((UpdateRemoteBuckets) message).getBuckets());
+            receiveUpdateRemoteBuckets(((UpdateRemoteBuckets) message).getBuckets(),
+                    ((UpdateRemoteBuckets) message).getDeltas());
         } else {
             if(log.isDebugEnabled()) {
                 log.debug("Unhandled message [{}]", message);
@@ -142,11 +183,65 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      *
      * @param members requested members
      */
-    @SuppressWarnings("rawtypes")
     void receiveGetBucketsByMembers(Set<Address> members){
+        receiveGetBucketsByMembers(members, Collections.<Address, Long>emptyMap());
+    }
+
+    /**
+     * Returns buckets for requested members that this node knows about. Buckets whose version is known to
+     * the recipient are returned as deltas since that version, where available.
+     *
+     * @param members requested members
+     * @param knownVersions bucket versions the recipient already has
+     */
+    @SuppressWarnings("rawtypes")
+    void receiveGetBucketsByMembers(Set<Address> members, Map<Address, Long> knownVersions){
         final ActorRef sender = getSender();
-        Map<Address, Bucket> buckets = getBucketsByMembers(members);
-        sender.tell(new GetBucketsByMembersReply(buckets), getSelf());
+        Map<Address, List<BucketDelta>> deltaChains = new HashMap<>();
+
+        for (Map.Entry<Address, Long> entry : knownVersions.entrySet()) {
+            if (members.contains(entry.getKey())) {
+                List<BucketDelta> chain = getDeltasSince(entry.getKey(), entry.getValue());
+                if (chain != null) {
+                    deltaChains.put(entry.getKey(), chain);
+                }
+            }
+        }
+
+        Set<Address> fullBuckets = new HashSet<>(members);
+        fullBuckets.removeAll(deltaChains.keySet());
+
+        Map<Address, Bucket> buckets = getBucketsByMembers(fullBuckets);
+        sender.tell(new GetBucketsByMembersReply(buckets, deltaChains), getSelf());
+    }
+
+    /**
+     * Helper to collect the deltas that turn the given version of a bucket into the current one
+     *
+     * @param address owner of the bucket
+     * @param version version of the bucket the deltas should start from
+     * @return consecutive deltas, or null if they are not retained
+     */
+    @SuppressWarnings("rawtypes")
+    List<BucketDelta> getDeltasSince(Address address, Long version) {
+        Deque<BucketDelta<T>> chain = deltas.get(address);
+        Long currentVersion = versions.get(address);
+        if (chain == null || chain.isEmpty() || currentVersion == null
+                || !chain.getLast().getToVersion().equals(currentVersion)) {
+            return null;
+        }
+
+        List<BucketDelta> result = null;
+        for (BucketDelta<T> delta : chain) {
+            if (result == null && delta.getFromVersion().equals(version)) {
+                result = new ArrayList<>();
+            }
+            if (result != null) {
+                result.add(delta);
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -178,6 +273,26 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      * Returns versions for all buckets known
      */
     void receiveGetBucketVersions(){
+        receiveGetBucketVersions(Collections.<Address, Long>emptyMap());
+    }
+
+    /**
+     * Returns versions for all buckets known, noting the remote buckets for which a newer version
+     * is advertised
+     *
+     * @param remoteVersions bucket versions advertised by a remote gossiper
+     */
+    void receiveGetBucketVersions(Map<Address, Long> remoteVersions){
+        final long now = System.nanoTime();
+        for (Map.Entry<Address, Long> entry : remoteVersions.entrySet()) {
+            Long localVersion = versions.get(entry.getKey());
+            if (!selfAddress.equals(entry.getKey()) && entry.getValue() != null
+                    && (localVersion == null || localVersion < entry.getValue())
+                    && !newerVersionSeen.containsKey(entry.getKey())) {
+                newerVersionSeen.put(entry.getKey(), now);
+            }
+        }
+
         final ActorRef sender = getSender();
         GetBucketVersionsReply reply = new GetBucketVersionsReply(versions);
         sender.tell(reply, getSelf());
@@ -191,15 +306,36 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     void receiveUpdateRemoteBuckets(Map<Address, Bucket> receivedBuckets){
-        log.debug("{}: receiveUpdateRemoteBuckets: {}", selfAddress, receivedBuckets);
-        if (receivedBuckets == null || receivedBuckets.isEmpty())
+        receiveUpdateRemoteBuckets(receivedBuckets, Collections.<Address, List<BucketDelta>>emptyMap());
+    }
+
+    /**
+     * Update local copy of remote buckets where local copy's version is older, either by replacing them
+     * with the received buckets or by applying the received deltas
+     *
+     * @param receivedBuckets buckets sent by remote
+     *                        {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}
+     * @param receivedDeltas  chains of bucket deltas sent by remote
+     *                        {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void receiveUpdateRemoteBuckets(Map<Address, Bucket> receivedBuckets,
+            Map<Address, List<BucketDelta>> receivedDeltas){
+        log.debug("{}: receiveUpdateRemoteBuckets: {} deltas: {}", selfAddress, receivedBuckets, receivedDeltas);
+        if ((receivedBuckets == null || receivedBuckets.isEmpty())
+                && (receivedDeltas == null || receivedDeltas.isEmpty()))
          {
             return; //nothing to do
         }
 
         //Remote cant update self's bucket
-        receivedBuckets.remove(selfAddress);
+        if (receivedBuckets != null) {
+            receivedBuckets.remove(selfAddress);
+        } else {
+            receivedBuckets = Collections.emptyMap();
+        }
 
+        boolean updated = false;
         for (Map.Entry<Address, Bucket> entry : receivedBuckets.entrySet()){
 
             Long localVersion = versions.get(entry.getKey());
@@ -220,11 +356,26 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
 
             //update only if remote version is newer
             if ( remoteVersion.longValue() > localVersion.longValue() ) {
-                remoteBuckets.put(entry.getKey(), receivedBucket);
+                Bucket<T> previous = remoteBuckets.put(entry.getKey(), receivedBucket);
                 versions.put(entry.getKey(), remoteVersion);
+                recordDelta(entry.getKey(), previous, receivedBucket);
+                updateConvergenceTime(entry.getKey());
+                updated = true;
+            }
+        }
+
+        if (receivedDeltas != null) {
+            for (Map.Entry<Address, List<BucketDelta>> entry : receivedDeltas.entrySet()){
+                if (!selfAddress.equals(entry.getKey()) && applyDeltas(entry.getKey(), entry.getValue())) {
+                    updated = true;
+                }
             }
         }
 
+        if (updated) {
+            onBucketsUpdated();
+        }
+
         if(log.isDebugEnabled()) {
             log.debug("State after update - Local Bucket [{}], Remote Buckets [{}]", localBucket, remoteBuckets);
         }
@@ -234,9 +385,127 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         return localBucket;
     }
 
+    /**
+     * Applies the chain of deltas to the local copy of a remote bucket. Deltas older than the local copy are
+     * skipped. The chain is ignored if it does not connect to the local copy's version.
+     *
+     * @return true if the local copy got updated
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean applyDeltas(Address address, List<BucketDelta> chain) {
+        Bucket<T> bucket = remoteBuckets.get(address);
+        if (bucket == null || bucket.getData() == null || chain == null) {
+            return false;
+        }
+
+        Long version = bucket.getVersion();
+        T data = null;
+        for (BucketDelta delta : chain) {
+            if (delta == null || !delta.getFromVersion().equals(version)) {
+                continue;
+            }
+
+            if (data == null) {
+                // The current data may be held by subscribers, the whole chain goes into one copy
+                data = bucket.getData().copy();
+            }
+            ((BucketDelta<T>) delta).getDelta().applyTo(data);
+            version = delta.getToVersion();
+            appendDelta(address, (BucketDelta<T>) delta);
+        }
+
+        boolean applied = data != null;
+        if (applied) {
+            remoteBuckets.put(address, new BucketImpl<>(version, data));
+            versions.put(address, version);
+            updateConvergenceTime(address);
+        } else {
+            log.debug("{}: deltas for {} do not apply to version {}", selfAddress, address, bucket.getVersion());
+        }
+
+        return applied;
+    }
+
+    /**
+     * Retains the delta between the previous and the current version of a bucket, if the data supports it
+     */
+    @SuppressWarnings("unchecked")
+    private void recordDelta(Address address, Bucket<T> previous, Bucket<T> current) {
+        if (maxDeltas <= 0 || previous == null || previous.getData() == null
+                || !(current.getData() instanceof DeltaCopier)) {
+            deltas.remove(address);
+            return;
+        }
+
+        Delta<T> delta = ((DeltaCopier<T>) current.getData()).diff(previous.getData());
+        if (delta == null) {
+            deltas.remove(address);
+            return;
+        }
+
+        appendDelta(address, new BucketDelta<>(previous.getVersion(), current.getVersion(), delta));
+    }
+
+    private void appendDelta(Address address, BucketDelta<T> delta) {
+        if (maxDeltas <= 0) {
+            return;
+        }
+
+        Deque<BucketDelta<T>> chain = deltas.get(address);
+        if (chain == null) {
+            chain = new ArrayDeque<>();
+            deltas.put(address, chain);
+        } else if (!chain.isEmpty() && !chain.getLast().getToVersion().equals(delta.getFromVersion())) {
+            // Chain must consist of consecutive versions only
+            chain.clear();
+        }
+
+        chain.addLast(delta);
+        while (chain.size() > maxDeltas) {
+            chain.removeFirst();
+        }
+    }
+
+    private void updateConvergenceTime(Address address) {
+        Long seen = newerVersionSeen.remove(address);
+        if (seen != null && convergenceTime != null) {
+            convergenceTime.update(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seen));
+        }
+    }
+
     protected void updateLocalBucket(T data) {
+        Bucket<T> previous = new BucketImpl<>(localBucket);
         localBucket.setData(data);
         versions.put(selfAddress, localBucket.getVersion());
+        recordDelta(selfAddress, previous, new BucketImpl<>(localBucket));
+        onBucketsUpdated();
+    }
+
+    /**
+     * Same as {@link #updateLocalBucket(Object)} for callers that know what they changed, which saves
+     * comparing the new data with the previous version.
+     *
+     * @param data  new data of the local bucket
+     * @param delta change from the current data to the new one, or null if it can not be expressed as a delta
+     */
+    protected void updateLocalBucket(T data, Delta<T> delta) {
+        Long previousVersion = localBucket.getVersion();
+        boolean hadData = localBucket.getData() != null;
+        localBucket.setData(data);
+        versions.put(selfAddress, localBucket.getVersion());
+        if (delta == null || !hadData) {
+            deltas.remove(selfAddress);
+        } else {
+            appendDelta(selfAddress, new BucketDelta<>(previousVersion, localBucket.getVersion(), delta));
+        }
+        onBucketsUpdated();
+    }
+
+    /**
+     * Invoked after the local bucket or any of the remote buckets has been replaced with a newer version.
+     * Subclasses can override this to publish derived state. Default implementation does nothing.
+     */
+    protected void onBucketsUpdated() {
     }
 
     protected Map<Address, Bucket<T>> getRemoteBuckets() {
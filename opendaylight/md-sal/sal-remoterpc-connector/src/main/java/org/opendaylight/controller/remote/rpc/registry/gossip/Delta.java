@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import java.io.Serializable;
+
+/**
+ * Incremental change of data that goes in {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket}.
+ * Deltas are gossiped instead of the whole data when the receiver is known to hold the version the delta
+ * was computed against.
+ */
+public interface Delta<T> extends Serializable {
+
+    /**
+     * Applies this change in place. Bucket data may be shared with other actors once published, so the
+     * caller passes a private copy, which can take a whole chain of deltas.
+     *
+     * @param data copy of the data the delta was computed against
+     */
+    public void applyTo(T data);
+}
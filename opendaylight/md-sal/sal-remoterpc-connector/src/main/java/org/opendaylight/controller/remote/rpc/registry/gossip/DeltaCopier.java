@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+/**
+ * Type of data that goes in {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket} and is able
+ * to describe how it differs from an older instance. Buckets holding such data are gossiped as
+ * {@link org.opendaylight.controller.remote.rpc.registry.gossip.Delta}s where possible.
+ */
+public interface DeltaCopier<T> extends Copier<T> {
+
+    /**
+     * @param older previous version of this data
+     * @return delta that turns older into this instance, or null if it can not be expressed as a delta
+     */
+    public Delta<T> diff(T older);
+}
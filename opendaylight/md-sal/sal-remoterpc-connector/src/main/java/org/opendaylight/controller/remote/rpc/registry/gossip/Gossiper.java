@@ -18,7 +18,12 @@ import akka.cluster.ClusterEvent;
 import akka.cluster.Member;
 import akka.dispatch.Mapper;
 import akka.pattern.Patterns;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +31,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersions;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketVersionsReply;
@@ -33,6 +39,7 @@ import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketSto
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetBucketsByMembersReply;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.UpdateRemoteBuckets;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipEnvelope;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.SerializedGossipEnvelope;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipStatus;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipTick;
 import org.slf4j.Logger;
@@ -54,11 +61,18 @@ import scala.concurrent.duration.FiniteDuration;
  * <p/>
  * When a bucket is received from a remote gossiper, its sent to the bucket store
  * for update.
+ * <p/>
+ * Gossip status advertises that this gossiper accepts bucket deltas. Newer buckets are then
+ * requested from the bucket store together with the remote versions, so that only the changes
+ * since those versions are sent, in a pre-serialized envelope. Remote gossipers that do not
+ * advertise it predate both, and get whole buckets in a plain envelope.
  *
  */
 
 public class Gossiper extends AbstractUntypedActorWithMetering {
 
+    private static final String GOSSIP_BYTES = "gossip-bytes";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private Cluster cluster;
@@ -79,6 +93,13 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
 
     private RemoteRpcProviderConfig config;
 
+    private Serialization serialization;
+
+    /**
+     * Serialized size of gossip envelopes sent by this node
+     */
+    private Histogram gossipBytes;
+
     public Gossiper(){
         config = new RemoteRpcProviderConfig(getContext().system().settings().config());
     }
@@ -97,7 +118,11 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         ActorRefProvider provider = getContext().provider();
         selfAddress = provider.getDefaultAddress();
 
+        gossipBytes = MetricsReporter.getInstance().getMetricsRegistry().histogram(
+                MetricRegistry.name(getSelf().path().toStringWithoutAddress(), GOSSIP_BYTES));
+
         if ( provider instanceof ClusterActorRefProvider ) {
+            serialization = SerializationExtension.get(getContext().system());
             cluster = Cluster.get(getContext().system());
             cluster.subscribe(getSelf(),
                     ClusterEvent.initialStateAsEvents(),
@@ -141,6 +166,8 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
             // message. The contained buckets are newer as determined by the remote gossiper by
             // comparing the GossipStatus message with its local versions.
             receiveGossip((GossipEnvelope) message);
+        } else if (message instanceof SerializedGossipEnvelope) {
+            receiveGossip(deserialize((SerializedGossipEnvelope) message));
         } else if (message instanceof ClusterEvent.MemberUp) {
             receiveMemberUp(((ClusterEvent.MemberUp) message).member());
 
@@ -236,8 +263,8 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         }
 
         final ActorRef sender = getSender();
-        Future<Object> futureReply =
-                Patterns.ask(getContext().parent(), new GetBucketVersions(), config.getAskDuration());
+        Future<Object> futureReply = Patterns.ask(getContext().parent(), new GetBucketVersions(status.getVersions()),
+                config.getAskDuration());
 
         futureReply.map(getMapperToProcessRemoteStatus(sender, status), getContext().dispatcher());
 
@@ -257,7 +284,7 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
             return;
         }
 
-        updateRemoteBuckets(envelope.getBuckets());
+        updateRemoteBuckets(envelope.getBuckets(), envelope.getDeltas());
 
     }
 
@@ -267,8 +294,18 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      * @param buckets
      */
     void updateRemoteBuckets(Map<Address, Bucket> buckets) {
+        updateRemoteBuckets(buckets, Collections.<Address, List<BucketDelta>>emptyMap());
+    }
+
+    /**
+     * Helper to send received buckets and bucket deltas to bucket store
+     *
+     * @param buckets
+     * @param deltas
+     */
+    void updateRemoteBuckets(Map<Address, Bucket> buckets, Map<Address, List<BucketDelta>> deltas) {
 
-        UpdateRemoteBuckets updateRemoteBuckets = new UpdateRemoteBuckets(buckets);
+        UpdateRemoteBuckets updateRemoteBuckets = new UpdateRemoteBuckets(buckets, deltas);
         getContext().parent().tell(updateRemoteBuckets, getSelf());
     }
 
@@ -279,10 +316,51 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      * @param addresses  node addresses whose buckets needs to be sent
      */
     void sendGossipTo(final ActorRef remote, final Set<Address> addresses){
+        sendGossipTo(remote, addresses, Collections.<Address, Long>emptyMap(), false);
+    }
 
-        Future<Object> futureReply =
-                Patterns.ask(getContext().parent(), new GetBucketsByMembers(addresses), config.getAskDuration());
-        futureReply.map(getMapperToSendGossip(remote), getContext().dispatcher());
+    /**
+     * Gets the buckets from bucket store for the given node addresses and sends them to a remote gossiper
+     * which accepts deltas. Buckets whose version is known to the remote gossiper are sent as deltas where
+     * possible.
+     *
+     * @param remote         remote node to send Buckets to
+     * @param addresses      node addresses whose buckets needs to be sent
+     * @param remoteVersions bucket versions the remote node has
+     */
+    void sendGossipTo(final ActorRef remote, final Set<Address> addresses, final Map<Address, Long> remoteVersions){
+        sendGossipTo(remote, addresses, remoteVersions, true);
+    }
+
+    private void sendGossipTo(final ActorRef remote, final Set<Address> addresses,
+            final Map<Address, Long> remoteVersions, final boolean acceptsDeltas){
+
+        Future<Object> futureReply = Patterns.ask(getContext().parent(),
+                new GetBucketsByMembers(addresses, remoteVersions), config.getAskDuration());
+        futureReply.map(getMapperToSendGossip(remote, acceptsDeltas), getContext().dispatcher());
+    }
+
+    /**
+     * Sends the buckets and deltas to a remote gossiper. The envelope is serialized here once, which
+     * records its size, and the bytes are sent as they are. Gossipers which do not accept deltas predate
+     * {@link SerializedGossipEnvelope} as well, so they get a plain {@link GossipEnvelope}, serialized
+     * again by remoting. This only happens while the cluster is being upgraded.
+     *
+     * @param remote        remote gossiper to send to
+     * @param buckets       buckets to send
+     * @param deltas        bucket deltas to send, empty for gossipers which do not accept them
+     * @param acceptsDeltas whether the remote gossiper advertised that it accepts deltas
+     */
+    void sendGossip(ActorRef remote, Map<Address, Bucket> buckets, Map<Address, List<BucketDelta>> deltas,
+            boolean acceptsDeltas){
+
+        GossipEnvelope envelope = new GossipEnvelope(selfAddress, remote.path().address(), buckets, deltas);
+        byte[] bytes = serialize(envelope);
+        if (acceptsDeltas && bytes != null) {
+            remote.tell(new SerializedGossipEnvelope(bytes), getSelf());
+        } else {
+            remote.tell(envelope, getSelf());
+        }
     }
 
     /**
@@ -315,13 +393,13 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      */
     void sendGossipStatusTo(ActorRef remote, Map<Address, Long> localVersions){
 
-        GossipStatus status = new GossipStatus(selfAddress, localVersions);
+        GossipStatus status = new GossipStatus(selfAddress, localVersions, true);
         remote.tell(status, getSelf());
     }
 
     void sendGossipStatusTo(ActorSelection remote, Map<Address, Long> localVersions){
 
-        GossipStatus status = new GossipStatus(selfAddress, localVersions);
+        GossipStatus status = new GossipStatus(selfAddress, localVersions, true);
         remote.tell(status, getSelf());
     }
 
@@ -403,7 +481,12 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
                     }
 
                     if (!localIsNewer.isEmpty()) {
-                        sendGossipTo(sender, localIsNewer);//send newer buckets to remote
+                        //send newer buckets to remote
+                        if (status.acceptsDeltas()) {
+                            sendGossipTo(sender, localIsNewer, remoteVersions);
+                        } else {
+                            sendGossipTo(sender, localIsNewer);
+                        }
                     }
 
                 }
@@ -421,27 +504,48 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      * @param sender the remote member that sent
      *               {@link org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipStatus}
      *               in reply to which bucket is being sent back
+     * @param acceptsDeltas whether the remote member advertised that it accepts deltas
      * @return a {@link akka.dispatch.Mapper} that gets evaluated in future
      *
      */
-    private Mapper<Object, Void> getMapperToSendGossip(final ActorRef sender) {
+    private Mapper<Object, Void> getMapperToSendGossip(final ActorRef sender, final boolean acceptsDeltas) {
 
         return new Mapper<Object, Void>() {
             @Override
             public Void apply(Object msg) {
                 if (msg instanceof GetBucketsByMembersReply) {
                     Map<Address, Bucket> buckets = ((GetBucketsByMembersReply) msg).getBuckets();
+                    Map<Address, List<BucketDelta>> deltas = ((GetBucketsByMembersReply) msg).getDeltas();
                     if(log.isDebugEnabled()) {
-                        log.debug("Buckets to send from {}: {}", selfAddress, buckets);
+                        log.debug("Buckets to send from {}: {}, deltas: {}", selfAddress, buckets, deltas);
                     }
-                    GossipEnvelope envelope = new GossipEnvelope(selfAddress, sender.path().address(), buckets);
-                    sender.tell(envelope, getSelf());
+                    sendGossip(sender, buckets, deltas, acceptsDeltas);
                 }
                 return null;
             }
         };
     }
 
+    /**
+     * Serializes an envelope to a remote gossiper and records its size.
+     *
+     * @return the serialized envelope, or null without a cluster
+     */
+    private byte[] serialize(GossipEnvelope envelope) {
+        if (serialization == null) {
+            return null;
+        }
+
+        byte[] bytes = serialization.findSerializerFor(envelope).toBinary(envelope);
+        gossipBytes.update(bytes.length);
+        return bytes;
+    }
+
+    private GossipEnvelope deserialize(SerializedGossipEnvelope message) {
+        return SerializationExtension.get(getContext().system()).deserialize(message.getBytes(),
+                GossipEnvelope.class).get();
+    }
+
     ///
     ///Getter Setters
     ///
@@ -453,6 +557,10 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         this.clusterMembers = clusterMembers;
     }
 
+    void setSerialization(Serialization serialization) {
+        this.serialization = serialization;
+    }
+
     Address getSelfAddress() {
         return selfAddress;
     }
@@ -13,6 +13,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.ContainsBucketVersions;
@@ -34,25 +35,48 @@ public class Messages {
         public static class GetBucketsByMembers implements Serializable{
             private static final long serialVersionUID = 1L;
             private final Set<Address> members;
+            private final Map<Address, Long> knownVersions;
 
             public GetBucketsByMembers(Set<Address> members){
+                this(members, Collections.<Address, Long>emptyMap());
+            }
+
+            /**
+             * @param members requested members
+             * @param knownVersions bucket versions the recipient of the buckets already has. Buckets for
+             *                      these members may be returned as deltas against the known version.
+             */
+            public GetBucketsByMembers(Set<Address> members, Map<Address, Long> knownVersions){
                 Preconditions.checkArgument(members != null, "members can not be null");
+                Preconditions.checkArgument(knownVersions != null, "knownVersions can not be null");
                 this.members = members;
+                this.knownVersions = knownVersions;
             }
 
             public Set<Address> getMembers() {
                 return new HashSet<>(members);
             }
+
+            public Map<Address, Long> getKnownVersions() {
+                return Collections.unmodifiableMap(knownVersions);
+            }
         }
 
         public static class ContainsBuckets implements Serializable{
             private static final long serialVersionUID = -4940160367495308286L;
 
             private final Map<Address, Bucket> buckets;
+            private final Map<Address, List<BucketDelta>> deltas;
 
             public ContainsBuckets(Map<Address, Bucket> buckets){
+                this(buckets, Collections.<Address, List<BucketDelta>>emptyMap());
+            }
+
+            public ContainsBuckets(Map<Address, Bucket> buckets, Map<Address, List<BucketDelta>> deltas){
                 Preconditions.checkArgument(buckets != null, "buckets can not be null");
+                Preconditions.checkArgument(deltas != null, "deltas can not be null");
                 this.buckets = buckets;
+                this.deltas = deltas;
             }
 
             public Map<Address, Bucket> getBuckets() {
@@ -67,6 +91,27 @@ public class Messages {
                 }
                 return copy;
             }
+
+            /**
+             * @return chains of consecutive bucket deltas by member. Empty for messages sent by members
+             *         that do not gossip deltas.
+             */
+            public Map<Address, List<BucketDelta>> getDeltas() {
+                if (deltas == null) {
+                    return Collections.emptyMap();
+                }
+
+                Map<Address, List<BucketDelta>> copy = new HashMap<>(deltas.size());
+
+                for (Map.Entry<Address, List<BucketDelta>> entry : deltas.entrySet()){
+                    //ignore null entries
+                    if ( (entry.getKey() == null) || (entry.getValue() == null) ) {
+                        continue;
+                    }
+                    copy.put(entry.getKey(), entry.getValue());
+                }
+                return copy;
+            }
         }
 
         public static class GetAllBucketsReply extends ContainsBuckets implements Serializable{
@@ -81,10 +126,32 @@ public class Messages {
             public GetBucketsByMembersReply(Map<Address, Bucket> buckets) {
                 super(buckets);
             }
+
+            public GetBucketsByMembersReply(Map<Address, Bucket> buckets, Map<Address, List<BucketDelta>> deltas) {
+                super(buckets, deltas);
+            }
         }
 
         public static class GetBucketVersions implements Serializable {
             private static final long serialVersionUID = 1L;
+            private final Map<Address, Long> remoteVersions;
+
+            public GetBucketVersions(){
+                this(Collections.<Address, Long>emptyMap());
+            }
+
+            /**
+             * @param remoteVersions bucket versions a remote member advertised, the recipient notes when it
+             *                       first learns about a bucket version newer than its own
+             */
+            public GetBucketVersions(Map<Address, Long> remoteVersions){
+                Preconditions.checkArgument(remoteVersions != null, "remoteVersions can not be null");
+                this.remoteVersions = remoteVersions;
+            }
+
+            public Map<Address, Long> getRemoteVersions() {
+                return Collections.unmodifiableMap(remoteVersions);
+            }
         }
 
         public static class ContainsBucketVersions implements Serializable{
@@ -116,6 +183,10 @@ public class Messages {
             public UpdateRemoteBuckets(Map<Address, Bucket> buckets) {
                 super(buckets);
             }
+
+            public UpdateRemoteBuckets(Map<Address, Bucket> buckets, Map<Address, List<BucketDelta>> deltas) {
+                super(buckets, deltas);
+            }
         }
     }
 
@@ -133,14 +204,29 @@ public class Messages {
 
             private final Address from;
 
+            /**
+             * Whether the sender accepts bucket deltas. Defaults to false when received from members that
+             * predate delta gossip, so they keep getting full buckets.
+             */
+            private final boolean acceptsDeltas;
+
             public GossipStatus(Address from, Map<Address, Long> versions) {
+                this(from, versions, false);
+            }
+
+            public GossipStatus(Address from, Map<Address, Long> versions, boolean acceptsDeltas) {
                 super(versions);
                 this.from = from;
+                this.acceptsDeltas = acceptsDeltas;
             }
 
             public Address from() {
                 return from;
             }
+
+            public boolean acceptsDeltas() {
+                return acceptsDeltas;
+            }
         }
 
         public static final class GossipEnvelope extends ContainsBuckets implements Serializable {
@@ -150,7 +236,12 @@ public class Messages {
             private final Address to;
 
             public GossipEnvelope(Address from, Address to, Map<Address, Bucket> buckets) {
-                super(buckets);
+                this(from, to, buckets, Collections.<Address, List<BucketDelta>>emptyMap());
+            }
+
+            public GossipEnvelope(Address from, Address to, Map<Address, Bucket> buckets,
+                    Map<Address, List<BucketDelta>> deltas) {
+                super(buckets, deltas);
                 Preconditions.checkArgument(to != null, "Recipient of message must not be null");
                 this.to = to;
                 this.from = from;
@@ -164,5 +255,24 @@ public class Messages {
                 return to;
             }
         }
+
+        /**
+         * {@link GossipEnvelope} serialized by the sender, so that its size is known without serializing it
+         * a second time. The receiver deserializes it with the same bindings.
+         */
+        public static final class SerializedGossipEnvelope implements Serializable {
+            private static final long serialVersionUID = -1829351385843785126L;
+
+            private final byte[] bytes;
+
+            public SerializedGossipEnvelope(byte[] bytes) {
+                Preconditions.checkArgument(bytes != null, "Serialized envelope must not be null");
+                this.bytes = bytes;
+            }
+
+            public byte[] getBytes() {
+                return bytes;
+            }
+        }
     }
 }
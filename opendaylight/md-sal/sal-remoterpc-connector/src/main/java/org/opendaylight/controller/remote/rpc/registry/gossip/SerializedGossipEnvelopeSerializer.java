@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import akka.serialization.JSerializer;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.SerializedGossipEnvelope;
+
+/**
+ * Akka serializer for {@link SerializedGossipEnvelope}. The envelope already holds the serialized
+ * {@link org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipEnvelope},
+ * so its bytes are sent as they are instead of being serialized once more by remoting.
+ */
+public class SerializedGossipEnvelopeSerializer extends JSerializer {
+    /**
+     * Unique among the serializers of the actor system, values up to 40 are reserved by akka.
+     */
+    private static final int IDENTIFIER = 1797356425;
+
+    @Override
+    public int identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public boolean includeManifest() {
+        return false;
+    }
+
+    @Override
+    public byte[] toBinary(Object o) {
+        return ((SerializedGossipEnvelope) o).getBytes();
+    }
+
+    @Override
+    public Object fromBinaryJava(byte[] bytes, Class<?> manifest) {
+        return new SerializedGossipEnvelope(bytes);
+    }
+}
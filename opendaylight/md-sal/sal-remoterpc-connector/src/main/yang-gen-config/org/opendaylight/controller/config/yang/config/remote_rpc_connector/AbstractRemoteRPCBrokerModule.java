@@ -0,0 +1,165 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: remote-rpc-connector yang module local name: remote-rpc-connector
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:36:26 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.config.remote_rpc_connector;
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:config:remote-rpc-connector", name = "remote-rpc-connector", revision = "2014-07-07")
+
+public abstract class AbstractRemoteRPCBrokerModule extends org.opendaylight.controller.config.spi.AbstractModule<AbstractRemoteRPCBrokerModule> implements org.opendaylight.controller.config.yang.config.remote_rpc_connector.RemoteRPCBrokerModuleMXBean {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(org.opendaylight.controller.config.yang.config.remote_rpc_connector.AbstractRemoteRPCBrokerModule.class);
+
+    //attributes start
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute enableMetricCaptureJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("EnableMetricCapture");
+    private java.lang.Boolean enableMetricCapture = new java.lang.Boolean("false");
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute actorSystemNameJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("ActorSystemName");
+    private java.lang.String actorSystemName = "odl-cluster-rpc";
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute domBrokerJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("DomBroker");
+    private javax.management.ObjectName domBroker; // mandatory
+
+    public static final org.opendaylight.controller.config.api.JmxAttribute boundedMailboxCapacityJmxAttribute = new org.opendaylight.controller.config.api.JmxAttribute("BoundedMailboxCapacity");
+    private java.lang.Integer boundedMailboxCapacity = new java.lang.Integer("1000");
+
+    //attributes end
+
+    public AbstractRemoteRPCBrokerModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
+        super(identifier, dependencyResolver);
+    }
+
+    public AbstractRemoteRPCBrokerModule(org.opendaylight.controller.config.api.ModuleIdentifier identifier,org.opendaylight.controller.config.api.DependencyResolver dependencyResolver,AbstractRemoteRPCBrokerModule oldModule,java.lang.AutoCloseable oldInstance) {
+        super(identifier, dependencyResolver, oldModule, oldInstance);
+    }
+
+    @Override
+    public void validate() {
+        dependencyResolver.validateDependency(org.opendaylight.controller.config.yang.md.sal.dom.BrokerServiceInterface.class, domBroker, domBrokerJmxAttribute);
+
+        customValidation();
+    }
+
+    protected void customValidation() {
+    }
+
+    private org.opendaylight.controller.sal.core.api.Broker domBrokerDependency;
+    protected final org.opendaylight.controller.sal.core.api.Broker getDomBrokerDependency(){
+        return domBrokerDependency;
+    }
+
+    protected final void resolveDependencies() {
+        domBrokerDependency = dependencyResolver.resolveInstance(org.opendaylight.controller.sal.core.api.Broker.class, domBroker, domBrokerJmxAttribute);
+    }
+
+    public boolean canReuseInstance(AbstractRemoteRPCBrokerModule oldModule){
+        // allow reusing of old instance if no parameters was changed
+        return isSame(oldModule);
+    }
+
+    public java.lang.AutoCloseable reuseInstance(java.lang.AutoCloseable oldInstance){
+        // implement if instance reuse should be supported. Override canReuseInstance to change the criteria.
+        return oldInstance;
+    }
+
+    public boolean isSame(AbstractRemoteRPCBrokerModule other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Parameter 'other' is null");
+        }
+        if (java.util.Objects.deepEquals(enableMetricCapture, other.enableMetricCapture) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(actorSystemName, other.actorSystemName) == false) {
+            return false;
+        }
+        if (java.util.Objects.deepEquals(domBroker, other.domBroker) == false) {
+            return false;
+        }
+        if(domBroker!= null) {
+            if (!dependencyResolver.canReuseDependency(domBroker, domBrokerJmxAttribute)) { // reference to dependency must be reusable as well
+                return false;
+            }
+        }
+        if (java.util.Objects.deepEquals(boundedMailboxCapacity, other.boundedMailboxCapacity) == false) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractRemoteRPCBrokerModule that = (AbstractRemoteRPCBrokerModule) o;
+        return identifier.equals(that.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return identifier.hashCode();
+    }
+
+    // getters and setters
+    @Override
+    public java.lang.Boolean getEnableMetricCapture() {
+        return enableMetricCapture;
+    }
+
+    /**
+    * Enable or disable metric capture.
+    */
+    @Override
+    @org.opendaylight.controller.config.api.annotations.Description(value = "Enable or disable metric capture.")
+    public void setEnableMetricCapture(java.lang.Boolean enableMetricCapture) {
+        this.enableMetricCapture = enableMetricCapture;
+    }
+
+    @Override
+    public java.lang.String getActorSystemName() {
+        return actorSystemName;
+    }
+
+    /**
+    * Name by which actor system is identified. Its also used to find relevant configuration
+    */
+    @Override
+    @org.opendaylight.controller.config.api.annotations.Description(value = "Name by which actor system is identified. Its also used to find relevant configuration")
+    public void setActorSystemName(java.lang.String actorSystemName) {
+        this.actorSystemName = actorSystemName;
+    }
+
+    @Override
+    public javax.management.ObjectName getDomBroker() {
+        return domBroker;
+    }
+
+    @Override
+    @org.opendaylight.controller.config.api.annotations.RequireInterface(value = org.opendaylight.controller.config.yang.md.sal.dom.BrokerServiceInterface.class)
+    public void setDomBroker(javax.management.ObjectName domBroker) {
+        this.domBroker = domBroker;
+    }
+
+    @Override
+    public java.lang.Integer getBoundedMailboxCapacity() {
+        return boundedMailboxCapacity;
+    }
+
+    /**
+    * Max queue size that an actor's mailbox can reach
+    */
+    @Override
+    @org.opendaylight.controller.config.api.annotations.Description(value = "Max queue size that an actor's mailbox can reach")
+    public void setBoundedMailboxCapacity(java.lang.Integer boundedMailboxCapacity) {
+        this.boundedMailboxCapacity = boundedMailboxCapacity;
+    }
+
+    public org.slf4j.Logger getLogger() {
+        return LOGGER;
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.modules.module.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.remote.rpc.connector.DomBroker;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;remote-rpc-connector&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/remote-rpc-connector.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case remote-rpc-connector {
+ *     container dom-broker {
+ *         leaf type {
+ *             type leafref;
+ *         }
+ *         leaf name {
+ *             type leafref;
+ *         }
+ *         uses service-ref {
+ *             refine (urn:opendaylight:params:xml:ns:yang:controller:config:remote-rpc-connector?revision=2014-07-07)type {
+ *                 leaf type {
+ *                     type leafref;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf enable-metric-capture {
+ *         type boolean;
+ *     }
+ *     leaf actor-system-name {
+ *         type string;
+ *     }
+ *     leaf bounded-mailbox-capacity {
+ *         type uint16;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;remote-rpc-connector/modules/module/configuration/(urn:opendaylight:params:xml:ns:yang:controller:config:remote-rpc-connector?revision=2014-07-07)remote-rpc-connector&lt;/i&gt;
+ *
+ */
+public interface RemoteRpcConnector
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>,
+    Configuration
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:config:remote-rpc-connector","2014-07-07","remote-rpc-connector"));
+
+    DomBroker getDomBroker();
+    
+    /**
+     * Enable or disable metric capture.
+     *
+     */
+    java.lang.Boolean isEnableMetricCapture();
+    
+    /**
+     * Name by which actor system is identified. Its also used to find relevant 
+     * configuration
+     *
+     */
+    java.lang.String getActorSystemName();
+    
+    /**
+     * Max queue size that an actor's mailbox can reach
+     *
+     */
+    java.lang.Integer getBoundedMailboxCapacity();
+
+}
+
@@ -0,0 +1,339 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.math.BigInteger;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.remote.rpc.connector.DomBroker;
+import java.util.List;
+import java.util.Collections;
+import com.google.common.collect.Range;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector
+ *
+ */
+public class RemoteRpcConnectorBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector> {
+
+    private java.lang.String _actorSystemName;
+    private java.lang.Integer _boundedMailboxCapacity;
+    private DomBroker _domBroker;
+    private java.lang.Boolean _enableMetricCapture;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> augmentation = Collections.emptyMap();
+
+    public RemoteRpcConnectorBuilder() {
+    }
+
+    public RemoteRpcConnectorBuilder(RemoteRpcConnector base) {
+        this._actorSystemName = base.getActorSystemName();
+        this._boundedMailboxCapacity = base.getBoundedMailboxCapacity();
+        this._domBroker = base.getDomBroker();
+        this._enableMetricCapture = base.isEnableMetricCapture();
+        if (base instanceof RemoteRpcConnectorImpl) {
+            RemoteRpcConnectorImpl impl = (RemoteRpcConnectorImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+
+    public java.lang.String getActorSystemName() {
+        return _actorSystemName;
+    }
+    
+    public java.lang.Integer getBoundedMailboxCapacity() {
+        return _boundedMailboxCapacity;
+    }
+    
+    public DomBroker getDomBroker() {
+        return _domBroker;
+    }
+    
+    public java.lang.Boolean isEnableMetricCapture() {
+        return _enableMetricCapture;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    public RemoteRpcConnectorBuilder setActorSystemName(java.lang.String value) {
+        this._actorSystemName = value;
+        return this;
+    }
+    
+    private static void checkBoundedMailboxCapacityRange(final int value) {
+        if (value >= 0 && value <= 65535) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?65535]].", value));
+    }
+    
+    public RemoteRpcConnectorBuilder setBoundedMailboxCapacity(java.lang.Integer value) {
+        if (value != null) {
+            checkBoundedMailboxCapacityRange(value);
+        }
+        this._boundedMailboxCapacity = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _boundedMailboxCapacity_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(65535L)));
+        return ret;
+    }
+    
+    public RemoteRpcConnectorBuilder setDomBroker(DomBroker value) {
+        this._domBroker = value;
+        return this;
+    }
+    
+    public RemoteRpcConnectorBuilder setEnableMetricCapture(java.lang.Boolean value) {
+        this._enableMetricCapture = value;
+        return this;
+    }
+    
+    public RemoteRpcConnectorBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public RemoteRpcConnectorBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public RemoteRpcConnector build() {
+        return new RemoteRpcConnectorImpl(this);
+    }
+
+    private static final class RemoteRpcConnectorImpl implements RemoteRpcConnector {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector.class;
+        }
+
+        private final java.lang.String _actorSystemName;
+        private final java.lang.Integer _boundedMailboxCapacity;
+        private final DomBroker _domBroker;
+        private final java.lang.Boolean _enableMetricCapture;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> augmentation = Collections.emptyMap();
+
+        private RemoteRpcConnectorImpl(RemoteRpcConnectorBuilder base) {
+            this._actorSystemName = base.getActorSystemName();
+            this._boundedMailboxCapacity = base.getBoundedMailboxCapacity();
+            this._domBroker = base.getDomBroker();
+            this._enableMetricCapture = base.isEnableMetricCapture();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public java.lang.String getActorSystemName() {
+            return _actorSystemName;
+        }
+        
+        @Override
+        public java.lang.Integer getBoundedMailboxCapacity() {
+            return _boundedMailboxCapacity;
+        }
+        
+        @Override
+        public DomBroker getDomBroker() {
+            return _domBroker;
+        }
+        
+        @Override
+        public java.lang.Boolean isEnableMetricCapture() {
+            return _enableMetricCapture;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_actorSystemName == null) ? 0 : _actorSystemName.hashCode());
+            result = prime * result + ((_boundedMailboxCapacity == null) ? 0 : _boundedMailboxCapacity.hashCode());
+            result = prime * result + ((_domBroker == null) ? 0 : _domBroker.hashCode());
+            result = prime * result + ((_enableMetricCapture == null) ? 0 : _enableMetricCapture.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector)obj;
+            if (_actorSystemName == null) {
+                if (other.getActorSystemName() != null) {
+                    return false;
+                }
+            } else if(!_actorSystemName.equals(other.getActorSystemName())) {
+                return false;
+            }
+            if (_boundedMailboxCapacity == null) {
+                if (other.getBoundedMailboxCapacity() != null) {
+                    return false;
+                }
+            } else if(!_boundedMailboxCapacity.equals(other.getBoundedMailboxCapacity())) {
+                return false;
+            }
+            if (_domBroker == null) {
+                if (other.getDomBroker() != null) {
+                    return false;
+                }
+            } else if(!_domBroker.equals(other.getDomBroker())) {
+                return false;
+            }
+            if (_enableMetricCapture == null) {
+                if (other.isEnableMetricCapture() != null) {
+                    return false;
+                }
+            } else if(!_enableMetricCapture.equals(other.isEnableMetricCapture())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                RemoteRpcConnectorImpl otherImpl = (RemoteRpcConnectorImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>>, Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.remote.rpc.connector.rev140707.modules.module.configuration.RemoteRpcConnector>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("RemoteRpcConnector [");
+            boolean first = true;
+        
+            if (_actorSystemName != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_actorSystemName=");
+                builder.append(_actorSystemName);
+             }
+            if (_boundedMailboxCapacity != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_boundedMailboxCapacity=");
+                builder.append(_boundedMailboxCapacity);
+             }
+            if (_domBroker != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_domBroker=");
+                builder.append(_domBroker);
+             }
+            if (_enableMetricCapture != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_enableMetricCapture=");
+                builder.append(_enableMetricCapture);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
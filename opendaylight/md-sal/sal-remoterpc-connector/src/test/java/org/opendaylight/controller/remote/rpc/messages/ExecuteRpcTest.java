@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2014 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ExecuteRpcTest {
+
+    private static final QName RPC = QName.create(URI.create("urn:test"), null, "test-rpc");
+    private static final QName INPUT = QName.create(RPC, "input");
+    private static final QName LEAF = QName.create(RPC, "leaf");
+
+    @Test
+    public void testStreamedExecuteRpcSerialization() throws Exception {
+        NormalizedNode<?, ?> input = createInput();
+
+        StreamedExecuteRpc cloned = roundTrip(new StreamedExecuteRpc(input, RPC));
+
+        Assert.assertEquals("getRpc", RPC, cloned.getRpc());
+        Assert.assertEquals("getInputNormalizedNode", input, cloned.getInputNormalizedNode());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testStreamedExecuteRpcWithoutInput() {
+        new StreamedExecuteRpc(null, RPC);
+    }
+
+    @Test
+    public void testStreamedRpcResponseSerializationWithoutResult() throws Exception {
+        StreamedRpcResponse cloned = roundTrip(new StreamedRpcResponse(null));
+
+        Assert.assertNull("getResultNormalizedNode", cloned.getResultNormalizedNode());
+    }
+
+    @Test
+    public void testExecuteRpcSerialization() throws Exception {
+        NormalizedNode<?, ?> input = createInput();
+
+        ExecuteRpc cloned = roundTrip(new ExecuteRpc(NormalizedNodeSerializer.serialize(input), RPC));
+
+        Assert.assertEquals("getRpc", RPC, cloned.getRpc());
+        Assert.assertEquals("getInputNormalizedNode", input,
+                NormalizedNodeSerializer.deSerialize(cloned.getInputNormalizedNode()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsupportedPayloadVersion() throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeShort(NormalizedNodeExternalizer.STREAM_VERSION + 1);
+            out.writeBoolean(false);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            NormalizedNodeExternalizer.readNormalizedNode(in);
+        }
+    }
+
+    private static NormalizedNode<?, ?> createInput() {
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(INPUT))
+                .withChild(ImmutableNodes.leafNode(LEAF, "value")).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T message) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(message);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestProbe;
+import java.util.Arrays;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class RoutingTableTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setup() {
+        system = ActorSystem.create("test");
+    }
+
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+        system = null;
+    }
+
+    @Test
+    public void testStreamedRpcMessages() {
+        ActorRef router = new TestProbe(system).ref();
+        ActorRef oldRouter = new TestProbe(system).ref();
+
+        RoutingTable table = new RoutingTable();
+        table.setRouter(router);
+        Assert.assertTrue(table.acceptsStreamedRpcMessages());
+
+        // As gossiped by a member which predates the streamed messages
+        RoutingTable oldTable = new RoutingTable();
+        oldTable.setRouter(oldRouter);
+        oldTable.setStreamedRpcMessages(false);
+        Assert.assertFalse(oldTable.copy().acceptsStreamedRpcMessages());
+
+        RpcRegistry.Messages.RoutesUpdated routes = new RpcRegistry.Messages.RoutesUpdated(1,
+                Arrays.asList(table, oldTable));
+        Assert.assertTrue(routes.acceptsStreamedRpcMessages(router));
+        Assert.assertFalse(routes.acceptsStreamedRpcMessages(oldRouter));
+        Assert.assertFalse(routes.acceptsStreamedRpcMessages(new TestProbe(system).ref()));
+    }
+
+    @Test
+    public void testDiffWhenStreamedRpcMessagesChanged() {
+        RoutingTable older = new RoutingTable();
+        older.setStreamedRpcMessages(false);
+        RoutingTable table = older.copy();
+        Assert.assertNotNull(table.diff(older));
+
+        // The flag is not carried by deltas
+        table.setStreamedRpcMessages(true);
+        Assert.assertNull(table.diff(older));
+    }
+}
@@ -6,6 +6,7 @@ import akka.actor.Address;
 import akka.actor.Props;
 import akka.japi.Pair;
 import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -27,7 +28,9 @@ import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.AddO
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRoutersReply;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RemoveRoutes;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RoutesUpdated;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SetLocalRouter;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SubscribeRoutes;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBuckets;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.GetAllBucketsReply;
@@ -242,6 +245,70 @@ public class RpcRegistryTest {
         mockBroker1.expectMsgEquals(Duration.create(3, TimeUnit.SECONDS), "hello");
     }
 
+    /**
+     * One node cluster. Subscriber gets the current routes on subscription and an update with a
+     * newer version for every change.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSubscribeRoutes() throws Exception {
+        final JavaTestKit mockBroker = new JavaTestKit(node1);
+        final JavaTestKit subscriber = new JavaTestKit(node1);
+        final FiniteDuration duration = Duration.create(3, TimeUnit.SECONDS);
+
+        registry1.tell(new SetLocalRouter(mockBroker.getRef()), mockBroker.getRef());
+        registry1.tell(new SubscribeRoutes(), subscriber.getRef());
+
+        RoutesUpdated initial = subscriber.expectMsgClass(duration, RoutesUpdated.class);
+
+        List<RpcRouter.RouteIdentifier<?, ?, ?>> addedRouteIds = createRouteIds();
+        Assert.assertTrue("No routers expected", initial.findRouters(addedRouteIds.get(0)).isEmpty());
+
+        registry1.tell(new AddOrUpdateRoutes(addedRouteIds), mockBroker.getRef());
+
+        RoutesUpdated added = subscriber.expectMsgClass(duration, RoutesUpdated.class);
+        Assert.assertTrue("Version increased", added.getVersion() > initial.getVersion());
+
+        List<Pair<ActorRef, Long>> routers = added.findRouters(addedRouteIds.get(0));
+        Assert.assertEquals("Routers found", 1, routers.size());
+        Assert.assertEquals("Router", mockBroker.getRef(), routers.get(0).first());
+
+        registry1.tell(new RemoveRoutes(addedRouteIds), mockBroker.getRef());
+
+        RoutesUpdated removed = subscriber.expectMsgClass(duration, RoutesUpdated.class);
+        Assert.assertTrue("Version increased", removed.getVersion() > added.getVersion());
+        Assert.assertTrue("No routers expected", removed.findRouters(addedRouteIds.get(0)).isEmpty());
+    }
+
+    /**
+     * Subscribers are dropped once they terminate.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRouteSubscriberTerminated() throws Exception {
+        final TestActorRef<RpcRegistry> registry = TestActorRef.create(node1, Props.create(RpcRegistry.class));
+        final JavaTestKit subscriber = new JavaTestKit(node1);
+        final JavaTestKit watcher = new JavaTestKit(node1);
+        final FiniteDuration duration = Duration.create(3, TimeUnit.SECONDS);
+
+        registry.tell(new SubscribeRoutes(), subscriber.getRef());
+        subscriber.expectMsgClass(duration, RoutesUpdated.class);
+        Assert.assertEquals("Subscribers", 1, registry.underlyingActor().getRouteSubscribers().size());
+
+        watcher.watch(subscriber.getRef());
+        node1.stop(subscriber.getRef());
+        watcher.expectTerminated(duration, subscriber.getRef());
+
+        for (int i = 0; i < 30 && !registry.underlyingActor().getRouteSubscribers().isEmpty(); i++) {
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue("Subscribers", registry.underlyingActor().getRouteSubscribers().isEmpty());
+
+        node1.stop(registry);
+    }
+
     private Map<Address, Long> retrieveVersions(ActorRef bucketStore, JavaTestKit testKit) {
         bucketStore.tell(new GetBucketVersions(), testKit.getRef());
         GetBucketVersionsReply reply = testKit.expectMsgClass(Duration.create(3, TimeUnit.SECONDS),
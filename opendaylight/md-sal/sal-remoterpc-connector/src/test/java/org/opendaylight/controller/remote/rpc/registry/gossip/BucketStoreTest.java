@@ -11,14 +11,24 @@ import akka.actor.ActorSystem;
 import akka.actor.Address;
 import akka.actor.Props;
 import akka.testkit.TestActorRef;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.typesafe.config.ConfigFactory;
+import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+import org.opendaylight.controller.remote.rpc.RouteIdentifierImpl;
 import org.opendaylight.controller.remote.rpc.TerminationMonitor;
+import org.opendaylight.controller.remote.rpc.registry.RoutingTable;
+import org.opendaylight.controller.sal.connector.api.RpcRouter;
+import org.opendaylight.yangtools.yang.common.QName;
 
 public class BucketStoreTest {
 
@@ -125,14 +135,122 @@ public class BucketStoreTest {
 
     }
 
+    /**
+     * Given a newer version of a known remote bucket
+     * Should retain the delta and another store should be able to catch up by applying it
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testReceiveUpdateRemoteBucketsWithDeltas() throws Exception {
+
+        BucketStore<RoutingTable> store = createStore("testDeltaStore");
+        BucketStore<RoutingTable> otherStore = createStore("testOtherDeltaStore");
+
+        Address a1 = new Address("tcp", "system1");
+        RouteIdentifierImpl routeId = new RouteIdentifierImpl(null, new QName(new URI("/mockrpc"), "type"), null);
+
+        BucketImpl<RoutingTable> b1 = new BucketImpl<>(new RoutingTable());
+        Map<Address, Bucket> remoteBuckets = new HashMap<>();
+        remoteBuckets.put(a1, b1);
+        store.receiveUpdateRemoteBuckets(remoteBuckets);
+        otherStore.receiveUpdateRemoteBuckets(remoteBuckets);
+
+        RoutingTable table = b1.getData().copy();
+        table.addRoute(routeId);
+        BucketImpl<RoutingTable> b2 = new BucketImpl<>(b1.getVersion() + 1, table);
+        remoteBuckets.put(a1, b2);
+        store.receiveUpdateRemoteBuckets(remoteBuckets);
+
+        //Should have the delta since the version known to the other store only
+        List<BucketDelta> deltas = store.getDeltasSince(a1, b1.getVersion());
+        Assert.assertNotNull("Missing deltas", deltas);
+        Assert.assertEquals(1, deltas.size());
+        Assert.assertNull(store.getDeltasSince(a1, b1.getVersion() - 1));
+
+        Map<Address, List<BucketDelta>> receivedDeltas = new HashMap<>();
+        receivedDeltas.put(a1, deltas);
+        otherStore.receiveUpdateRemoteBuckets(new HashMap<Address, Bucket>(), receivedDeltas);
+
+        //Should have caught up with the store that received the whole bucket
+        Bucket<RoutingTable> inStore = otherStore.getRemoteBuckets().get(a1);
+        Assert.assertEquals(b2.getVersion(), inStore.getVersion());
+        Assert.assertEquals(b2.getVersion(), otherStore.getVersions().get(a1));
+        Assert.assertTrue("Missing route", inStore.getData().contains(routeId));
+        Assert.assertFalse("Base table modified", b1.getData().contains(routeId));
+    }
+
+    /**
+     * Given a local update with the change made
+     * Should retain that change as delta without comparing the tables
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testUpdateLocalBucketWithDelta() throws Exception {
+
+        BucketStore<RoutingTable> store = createStore("testLocalDeltaStore");
+        Address localAddress = system.provider().getDefaultAddress();
+        RouteIdentifierImpl routeId = new RouteIdentifierImpl(null, new QName(new URI("/mockrpc"), "type"), null);
+
+        store.updateLocalBucket(new RoutingTable());
+        Long version = store.getLocalBucket().getVersion();
+
+        RoutingTable table = store.getLocalBucket().getData().copy();
+        store.updateLocalBucket(table,
+                table.addRoutes(Collections.<RpcRouter.RouteIdentifier<?, ?, ?>>singletonList(routeId)));
+
+        List<BucketDelta> deltas = store.getDeltasSince(localAddress, version);
+        Assert.assertNotNull("Missing deltas", deltas);
+        Assert.assertEquals(1, deltas.size());
+
+        //Applying the delta to the previous table should give the current one
+        RoutingTable replayed = new RoutingTable();
+        ((BucketDelta<RoutingTable>) deltas.get(0)).getDelta().applyTo(replayed);
+        Assert.assertTrue("Missing route", replayed.contains(routeId));
+        Assert.assertEquals(store.getLocalBucket().getVersion(), deltas.get(0).getToVersion());
+    }
+
     /**
      * Create BucketStore actor and returns the underlying instance of BucketStore class.
      *
      * @return instance of BucketStore class
      */
+    /**
+     * Given a remote bucket advertised by a remote gossiper
+     * Should measure the convergence time of that bucket only, from the advertisement to the update
+     */
+    @Test
+    public void testConvergenceTime(){
+
+        BucketStore store = createStore("convergenceStore");
+        Histogram convergenceTime = MetricsReporter.getInstance().getMetricsRegistry().histogram(
+                MetricRegistry.name("/user/convergenceStore", "gossip-convergence-ms"));
+        long measured = convergenceTime.getCount();
+
+        Address a1 = new Address("tcp", "system1");
+        Address a2 = new Address("tcp", "system2");
+
+        store.receiveGetBucketVersions(Collections.singletonMap(a1, 1L));
+
+        Map<Address, Bucket> remoteBuckets = new HashMap<>(2);
+        remoteBuckets.put(a1, new BucketImpl());
+        remoteBuckets.put(a2, new BucketImpl());
+        store.receiveUpdateRemoteBuckets(remoteBuckets);
+
+        // a2 was never advertised, so only a1 is measured
+        Assert.assertEquals(measured + 1, convergenceTime.getCount());
+
+        // a1 is not waiting for an update anymore
+        store.receiveUpdateRemoteBuckets(Collections.<Address, Bucket>singletonMap(a1, new BucketImpl()));
+        Assert.assertEquals(measured + 1, convergenceTime.getCount());
+    }
+
     private static BucketStore createStore(){
+        return createStore("testStore");
+    }
+
+    private static BucketStore createStore(String name){
         final Props props = Props.create(BucketStore.class);
-        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props, "testStore");
+        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props, name);
         return testRef.underlyingActor();
     }
 }
\ No newline at end of file
@@ -10,13 +10,18 @@ package org.opendaylight.controller.remote.rpc.registry.gossip;
 import akka.actor.ActorSystem;
 import akka.actor.Address;
 import akka.actor.Props;
+import akka.serialization.SerializationExtension;
+import akka.testkit.JavaTestKit;
 import akka.testkit.TestActorRef;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.typesafe.config.ConfigFactory;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.controller.remote.rpc.TerminationMonitor;
 
 import java.util.ArrayList;
@@ -24,6 +29,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Mockito.doNothing;
@@ -34,6 +42,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipEnvelope;
 import static org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.GossipStatus;
+import static org.opendaylight.controller.remote.rpc.registry.gossip.Messages.GossiperMessages.SerializedGossipEnvelope;
 
 
 public class GossiperTest {
@@ -114,6 +123,45 @@ public class GossiperTest {
         verify(mockGossiper, times(0)).updateRemoteBuckets(anyMap());
     }
 
+    @Test
+    public void testSendGossip_WhenRemoteDoesNotAcceptDeltasShouldSendPlainEnvelope(){
+        final JavaTestKit remote = new JavaTestKit(system);
+        final Bucket bucket = new BucketImpl();
+        final Map<Address, Bucket> buckets = Collections.singletonMap(new Address("tcp", "member"), bucket);
+
+        final Histogram gossipBytes = MetricsReporter.getInstance().getMetricsRegistry().histogram(
+                MetricRegistry.name("/user/testGossiper", "gossip-bytes"));
+        final long sent = gossipBytes.getCount();
+
+        // Even when envelopes can be serialized, a member predating delta gossip gets the plain envelope
+        gossiper.setSerialization(SerializationExtension.get(system));
+        try {
+            gossiper.sendGossip(remote.getRef(), buckets, Collections.<Address, List<BucketDelta>>emptyMap(),
+                    false);
+            GossipEnvelope envelope = remote.expectMsgClass(GossipEnvelope.class);
+            assertEquals(buckets, envelope.getBuckets());
+            assertTrue(envelope.getDeltas().isEmpty());
+
+            gossiper.sendGossip(remote.getRef(), buckets, Collections.<Address, List<BucketDelta>>emptyMap(),
+                    true);
+            remote.expectMsgClass(SerializedGossipEnvelope.class);
+
+            // Both envelopes are measured
+            assertEquals(sent + 2, gossipBytes.getCount());
+        } finally {
+            gossiper.setSerialization(null);
+        }
+    }
+
+    @Test
+    public void testSerializedGossipEnvelopeSerializerSendsBytesAsIs(){
+        final byte[] bytes = new byte[] { 1, 2, 3 };
+        final SerializedGossipEnvelopeSerializer serializer = new SerializedGossipEnvelopeSerializer();
+
+        assertArrayEquals(bytes, serializer.toBinary(new SerializedGossipEnvelope(bytes)));
+        assertArrayEquals(bytes, ((SerializedGossipEnvelope) serializer.fromBinary(bytes)).getBytes());
+    }
+
     /**
      * Create Gossiper actor and return the underlying instance of Gossiper class.
      *
@@ -0,0 +1,101 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.List1;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.Cont2;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.Cont1;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-of-migration-test-model&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-of-migration-test-model.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping aug-grouping {
+ *     container cont1 {
+ *         leaf attr-str {
+ *             type string;
+ *         }
+ *     }
+ *     container cont2 {
+ *         list contlist1 {
+ *             key "attr-str"
+ *             leaf attr-str {
+ *                 type string;
+ *             }
+ *             leaf attr-enum {
+ *                 type custom-enum;
+ *             }
+ *             uses enum-grouping;
+ *         }
+ *     }
+ *     leaf attr-str1 {
+ *         type string;
+ *     }
+ *     leaf attr-str2 {
+ *         type string;
+ *     }
+ *     leaf attr-str3 {
+ *         type string;
+ *     }
+ *     leaf attr-str4 {
+ *         type string;
+ *     }
+ *     list list1 {
+ *         key "attr-str"
+ *         leaf attr-str {
+ *             type string;
+ *         }
+ *         list list1-1 {
+ *             key "attr-int"
+ *             leaf attr-int {
+ *                 type int32;
+ *             }
+ *             leaf attr-str {
+ *                 type string;
+ *             }
+ *             leaf flags {
+ *                 type bit-flags;
+ *             }
+ *         }
+ *         list list1-2 {
+ *             key "attr-int"
+ *             leaf attr-int {
+ *                 type int32;
+ *             }
+ *             leaf attr-str {
+ *                 type string;
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-of-migration-test-model/aug-grouping&lt;/i&gt;
+ *
+ */
+public interface AugGrouping
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model","2015-02-10","aug-grouping"));
+
+    Cont1 getCont1();
+    
+    Cont2 getCont2();
+    
+    java.lang.String getAttrStr1();
+    
+    java.lang.String getAttrStr2();
+    
+    java.lang.String getAttrStr3();
+    
+    java.lang.String getAttrStr4();
+    
+    List<List1> getList1();
+
+}
+
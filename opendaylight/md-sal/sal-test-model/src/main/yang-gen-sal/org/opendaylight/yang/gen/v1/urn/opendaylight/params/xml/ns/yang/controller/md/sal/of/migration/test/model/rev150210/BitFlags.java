@@ -0,0 +1,213 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import java.io.Serializable;
+import com.google.common.collect.Lists;
+import java.util.List;
+
+
+/**
+ * The bits built-in type represents a bit set. That is, a bits value is a set of flags identified by small integer position numbers starting at 0.  Each bit number has an assigned name.
+ *
+ */
+public class BitFlags
+ implements Serializable {
+    private static final long serialVersionUID = 2383640740832412247L;
+    private final java.lang.Boolean _fLAGONE;
+    private final java.lang.Boolean _fLAGTWO;
+    private final java.lang.Boolean _fLAGTHREE;
+    private final java.lang.Boolean _fLAGFOUR;
+    private final java.lang.Boolean _fLAGFIVE;
+
+
+    public BitFlags(java.lang.Boolean _fLAGFIVE, java.lang.Boolean _fLAGFOUR, java.lang.Boolean _fLAGONE, java.lang.Boolean _fLAGTHREE, java.lang.Boolean _fLAGTWO) {
+    
+    
+        this._fLAGONE = _fLAGONE;
+        this._fLAGTWO = _fLAGTWO;
+        this._fLAGTHREE = _fLAGTHREE;
+        this._fLAGFOUR = _fLAGFOUR;
+        this._fLAGFIVE = _fLAGFIVE;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public BitFlags(BitFlags source) {
+        this._fLAGONE = source._fLAGONE;
+        this._fLAGTWO = source._fLAGTWO;
+        this._fLAGTHREE = source._fLAGTHREE;
+        this._fLAGFOUR = source._fLAGFOUR;
+        this._fLAGFIVE = source._fLAGFIVE;
+    }
+
+    public static BitFlags getDefaultInstance(String defaultValue) {
+        List<java.lang.String> properties = Lists.newArrayList("fLAGFIVE",
+        "fLAGFOUR",
+        "fLAGONE",
+        "fLAGTHREE",
+        "fLAGTWO"
+        );
+        if (!properties.contains(defaultValue)) {
+            throw new java.lang.IllegalArgumentException("invalid default parameter");
+        }
+        int i = 0;
+        return new BitFlags(
+        properties.get(i++).equals(defaultValue) ? java.lang.Boolean.TRUE : null,
+        properties.get(i++).equals(defaultValue) ? java.lang.Boolean.TRUE : null,
+        properties.get(i++).equals(defaultValue) ? java.lang.Boolean.TRUE : null,
+        properties.get(i++).equals(defaultValue) ? java.lang.Boolean.TRUE : null,
+        properties.get(i++).equals(defaultValue) ? java.lang.Boolean.TRUE : null
+        );
+    }
+
+    public java.lang.Boolean isFLAGONE() {
+        return _fLAGONE;
+    }
+    
+    public java.lang.Boolean isFLAGTWO() {
+        return _fLAGTWO;
+    }
+    
+    public java.lang.Boolean isFLAGTHREE() {
+        return _fLAGTHREE;
+    }
+    
+    public java.lang.Boolean isFLAGFOUR() {
+        return _fLAGFOUR;
+    }
+    
+    public java.lang.Boolean isFLAGFIVE() {
+        return _fLAGFIVE;
+    }
+
+    
+    public boolean[] getValue() {
+        return new boolean[]{
+        _fLAGONE,
+        _fLAGTWO,
+        _fLAGTHREE,
+        _fLAGFOUR,
+        _fLAGFIVE
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_fLAGONE == null) ? 0 : _fLAGONE.hashCode());
+        result = prime * result + ((_fLAGTWO == null) ? 0 : _fLAGTWO.hashCode());
+        result = prime * result + ((_fLAGTHREE == null) ? 0 : _fLAGTHREE.hashCode());
+        result = prime * result + ((_fLAGFOUR == null) ? 0 : _fLAGFOUR.hashCode());
+        result = prime * result + ((_fLAGFIVE == null) ? 0 : _fLAGFIVE.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        BitFlags other = (BitFlags) obj;
+        if (_fLAGONE == null) {
+            if (other._fLAGONE != null) {
+                return false;
+            }
+        } else if(!_fLAGONE.equals(other._fLAGONE)) {
+            return false;
+        }
+        if (_fLAGTWO == null) {
+            if (other._fLAGTWO != null) {
+                return false;
+            }
+        } else if(!_fLAGTWO.equals(other._fLAGTWO)) {
+            return false;
+        }
+        if (_fLAGTHREE == null) {
+            if (other._fLAGTHREE != null) {
+                return false;
+            }
+        } else if(!_fLAGTHREE.equals(other._fLAGTHREE)) {
+            return false;
+        }
+        if (_fLAGFOUR == null) {
+            if (other._fLAGFOUR != null) {
+                return false;
+            }
+        } else if(!_fLAGFOUR.equals(other._fLAGFOUR)) {
+            return false;
+        }
+        if (_fLAGFIVE == null) {
+            if (other._fLAGFIVE != null) {
+                return false;
+            }
+        } else if(!_fLAGFIVE.equals(other._fLAGFIVE)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.BitFlags.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_fLAGONE != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_fLAGONE=");
+            builder.append(_fLAGONE);
+         }
+        if (_fLAGTWO != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_fLAGTWO=");
+            builder.append(_fLAGTWO);
+         }
+        if (_fLAGTHREE != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_fLAGTHREE=");
+            builder.append(_fLAGTHREE);
+         }
+        if (_fLAGFOUR != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_fLAGFOUR=");
+            builder.append(_fLAGFOUR);
+         }
+        if (_fLAGFIVE != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_fLAGFIVE=");
+            builder.append(_fLAGFIVE);
+         }
+        return builder.append(']').toString();
+    }
+
+
+
+}
+
@@ -0,0 +1,48 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+
+
+/**
+ * The enumeration built-in type represents values from a set of assigned names.
+ *
+ */
+public enum CustomEnum {
+    Type1(0),
+    
+    Type2(1),
+    
+    Type3(2)
+    ;
+
+
+    int value;
+    private static final java.util.Map<java.lang.Integer, CustomEnum> VALUE_MAP;
+
+    static {
+        final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, CustomEnum> b = com.google.common.collect.ImmutableMap.builder();
+        for (CustomEnum enumItem : CustomEnum.values())
+        {
+            b.put(enumItem.value, enumItem);
+        }
+
+        VALUE_MAP = b.build();
+    }
+
+    private CustomEnum(int value) {
+        this.value = value;
+    }
+
+    /**
+     * @return integer value
+     */
+    public int getIntValue() {
+        return value;
+    }
+
+    /**
+     * @param valueArg
+     * @return corresponding CustomEnum item
+     */
+    public static CustomEnum forValue(int valueArg) {
+        return VALUE_MAP.get(valueArg);
+    }
+}
@@ -0,0 +1,32 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-of-migration-test-model&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-of-migration-test-model.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping enum-grouping {
+ *     leaf attr-enum {
+ *         type custom-enum;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-of-migration-test-model/enum-grouping&lt;/i&gt;
+ *
+ */
+public interface EnumGrouping
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model","2015-02-10","enum-grouping"));
+
+    CustomEnum getAttrEnum();
+
+}
+
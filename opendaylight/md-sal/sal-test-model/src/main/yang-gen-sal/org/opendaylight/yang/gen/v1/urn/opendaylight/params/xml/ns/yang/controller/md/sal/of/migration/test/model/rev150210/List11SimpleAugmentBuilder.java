@@ -0,0 +1,150 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.top.top.level.list.list1.list1._1.Cont;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.concepts.Builder;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment
+ *
+ */
+public class List11SimpleAugmentBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment> {
+
+    private java.lang.String _attrStr2;
+    private Cont _cont;
+
+
+    public List11SimpleAugmentBuilder() {
+    }
+
+    public List11SimpleAugmentBuilder(List11SimpleAugment base) {
+        this._attrStr2 = base.getAttrStr2();
+        this._cont = base.getCont();
+    }
+
+
+    public java.lang.String getAttrStr2() {
+        return _attrStr2;
+    }
+    
+    public Cont getCont() {
+        return _cont;
+    }
+
+    public List11SimpleAugmentBuilder setAttrStr2(java.lang.String value) {
+        this._attrStr2 = value;
+        return this;
+    }
+    
+    public List11SimpleAugmentBuilder setCont(Cont value) {
+        this._cont = value;
+        return this;
+    }
+
+    public List11SimpleAugment build() {
+        return new List11SimpleAugmentImpl(this);
+    }
+
+    private static final class List11SimpleAugmentImpl implements List11SimpleAugment {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment.class;
+        }
+
+        private final java.lang.String _attrStr2;
+        private final Cont _cont;
+
+
+        private List11SimpleAugmentImpl(List11SimpleAugmentBuilder base) {
+            this._attrStr2 = base.getAttrStr2();
+            this._cont = base.getCont();
+        }
+
+        @Override
+        public java.lang.String getAttrStr2() {
+            return _attrStr2;
+        }
+        
+        @Override
+        public Cont getCont() {
+            return _cont;
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_attrStr2 == null) ? 0 : _attrStr2.hashCode());
+            result = prime * result + ((_cont == null) ? 0 : _cont.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.List11SimpleAugment)obj;
+            if (_attrStr2 == null) {
+                if (other.getAttrStr2() != null) {
+                    return false;
+                }
+            } else if(!_attrStr2.equals(other.getAttrStr2())) {
+                return false;
+            }
+            if (_cont == null) {
+                if (other.getCont() != null) {
+                    return false;
+                }
+            } else if(!_cont.equals(other.getCont())) {
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("List11SimpleAugment [");
+            boolean first = true;
+        
+            if (_attrStr2 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_attrStr2=");
+                builder.append(_attrStr2);
+             }
+            if (_cont != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_cont=");
+                builder.append(_cont);
+             }
+            return builder.append(']').toString();
+        }
+    }
+
+}
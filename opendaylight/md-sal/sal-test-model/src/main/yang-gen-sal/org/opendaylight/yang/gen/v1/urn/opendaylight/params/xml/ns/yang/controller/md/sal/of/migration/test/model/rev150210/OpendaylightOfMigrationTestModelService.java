@@ -0,0 +1,42 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;opendaylight-of-migration-test-model&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-of-migration-test-model.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc knock-knock {
+ *     input {
+ *         leaf knocker-id {
+ *             type instance-identifier;
+ *         }
+ *         leaf question {
+ *             type string;
+ *         }
+ *     }
+ *     
+ *     output {
+ *         leaf answer {
+ *             type string;
+ *         }
+ *     }
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightOfMigrationTestModelService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<KnockKnockOutput>> knockKnock(KnockKnockInput input);
+
+}
+
@@ -0,0 +1,365 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.List1;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.Cont2;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.Cont1;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment
+ *
+ */
+public class TllComplexAugmentBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment> {
+
+    private java.lang.String _attrStr1;
+    private java.lang.String _attrStr2;
+    private java.lang.String _attrStr3;
+    private java.lang.String _attrStr4;
+    private Cont1 _cont1;
+    private Cont2 _cont2;
+    private List<List1> _list1;
+
+
+    public TllComplexAugmentBuilder() {
+    }
+    public TllComplexAugmentBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping arg) {
+        this._cont1 = arg.getCont1();
+        this._cont2 = arg.getCont2();
+        this._attrStr1 = arg.getAttrStr1();
+        this._attrStr2 = arg.getAttrStr2();
+        this._attrStr3 = arg.getAttrStr3();
+        this._attrStr4 = arg.getAttrStr4();
+        this._list1 = arg.getList1();
+    }
+
+    public TllComplexAugmentBuilder(TllComplexAugment base) {
+        this._attrStr1 = base.getAttrStr1();
+        this._attrStr2 = base.getAttrStr2();
+        this._attrStr3 = base.getAttrStr3();
+        this._attrStr4 = base.getAttrStr4();
+        this._cont1 = base.getCont1();
+        this._cont2 = base.getCont2();
+        this._list1 = base.getList1();
+    }
+
+    /**
+     *Set fields from given grouping argument. Valid argument is instance of one of following types:
+     * <ul>
+     * <li>org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping</li>
+     * </ul>
+     *
+     * @param arg grouping object
+     * @throws IllegalArgumentException if given argument is none of valid types
+    */
+    public void fieldsFrom(DataObject arg) {
+        boolean isValidArg = false;
+        if (arg instanceof org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping) {
+            this._cont1 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getCont1();
+            this._cont2 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getCont2();
+            this._attrStr1 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getAttrStr1();
+            this._attrStr2 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getAttrStr2();
+            this._attrStr3 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getAttrStr3();
+            this._attrStr4 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getAttrStr4();
+            this._list1 = ((org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping)arg).getList1();
+            isValidArg = true;
+        }
+        if (!isValidArg) {
+            throw new IllegalArgumentException(
+              "expected one of: [org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.AugGrouping] \n" +
+              "but was: " + arg
+            );
+        }
+    }
+
+    public java.lang.String getAttrStr1() {
+        return _attrStr1;
+    }
+    
+    public java.lang.String getAttrStr2() {
+        return _attrStr2;
+    }
+    
+    public java.lang.String getAttrStr3() {
+        return _attrStr3;
+    }
+    
+    public java.lang.String getAttrStr4() {
+        return _attrStr4;
+    }
+    
+    public Cont1 getCont1() {
+        return _cont1;
+    }
+    
+    public Cont2 getCont2() {
+        return _cont2;
+    }
+    
+    public List<List1> getList1() {
+        return _list1;
+    }
+
+    public TllComplexAugmentBuilder setAttrStr1(java.lang.String value) {
+        this._attrStr1 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setAttrStr2(java.lang.String value) {
+        this._attrStr2 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setAttrStr3(java.lang.String value) {
+        this._attrStr3 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setAttrStr4(java.lang.String value) {
+        this._attrStr4 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setCont1(Cont1 value) {
+        this._cont1 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setCont2(Cont2 value) {
+        this._cont2 = value;
+        return this;
+    }
+    
+    public TllComplexAugmentBuilder setList1(List<List1> value) {
+        this._list1 = value;
+        return this;
+    }
+
+    public TllComplexAugment build() {
+        return new TllComplexAugmentImpl(this);
+    }
+
+    private static final class TllComplexAugmentImpl implements TllComplexAugment {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment.class;
+        }
+
+        private final java.lang.String _attrStr1;
+        private final java.lang.String _attrStr2;
+        private final java.lang.String _attrStr3;
+        private final java.lang.String _attrStr4;
+        private final Cont1 _cont1;
+        private final Cont2 _cont2;
+        private final List<List1> _list1;
+
+
+        private TllComplexAugmentImpl(TllComplexAugmentBuilder base) {
+            this._attrStr1 = base.getAttrStr1();
+            this._attrStr2 = base.getAttrStr2();
+            this._attrStr3 = base.getAttrStr3();
+            this._attrStr4 = base.getAttrStr4();
+            this._cont1 = base.getCont1();
+            this._cont2 = base.getCont2();
+            this._list1 = base.getList1();
+        }
+
+        @Override
+        public java.lang.String getAttrStr1() {
+            return _attrStr1;
+        }
+        
+        @Override
+        public java.lang.String getAttrStr2() {
+            return _attrStr2;
+        }
+        
+        @Override
+        public java.lang.String getAttrStr3() {
+            return _attrStr3;
+        }
+        
+        @Override
+        public java.lang.String getAttrStr4() {
+            return _attrStr4;
+        }
+        
+        @Override
+        public Cont1 getCont1() {
+            return _cont1;
+        }
+        
+        @Override
+        public Cont2 getCont2() {
+            return _cont2;
+        }
+        
+        @Override
+        public List<List1> getList1() {
+            return _list1;
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_attrStr1 == null) ? 0 : _attrStr1.hashCode());
+            result = prime * result + ((_attrStr2 == null) ? 0 : _attrStr2.hashCode());
+            result = prime * result + ((_attrStr3 == null) ? 0 : _attrStr3.hashCode());
+            result = prime * result + ((_attrStr4 == null) ? 0 : _attrStr4.hashCode());
+            result = prime * result + ((_cont1 == null) ? 0 : _cont1.hashCode());
+            result = prime * result + ((_cont2 == null) ? 0 : _cont2.hashCode());
+            result = prime * result + ((_list1 == null) ? 0 : _list1.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment other = (org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.TllComplexAugment)obj;
+            if (_attrStr1 == null) {
+                if (other.getAttrStr1() != null) {
+                    return false;
+                }
+            } else if(!_attrStr1.equals(other.getAttrStr1())) {
+                return false;
+            }
+            if (_attrStr2 == null) {
+                if (other.getAttrStr2() != null) {
+                    return false;
+                }
+            } else if(!_attrStr2.equals(other.getAttrStr2())) {
+                return false;
+            }
+            if (_attrStr3 == null) {
+                if (other.getAttrStr3() != null) {
+                    return false;
+                }
+            } else if(!_attrStr3.equals(other.getAttrStr3())) {
+                return false;
+            }
+            if (_attrStr4 == null) {
+                if (other.getAttrStr4() != null) {
+                    return false;
+                }
+            } else if(!_attrStr4.equals(other.getAttrStr4())) {
+                return false;
+            }
+            if (_cont1 == null) {
+                if (other.getCont1() != null) {
+                    return false;
+                }
+            } else if(!_cont1.equals(other.getCont1())) {
+                return false;
+            }
+            if (_cont2 == null) {
+                if (other.getCont2() != null) {
+                    return false;
+                }
+            } else if(!_cont2.equals(other.getCont2())) {
+                return false;
+            }
+            if (_list1 == null) {
+                if (other.getList1() != null) {
+                    return false;
+                }
+            } else if(!_list1.equals(other.getList1())) {
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("TllComplexAugment [");
+            boolean first = true;
+        
+            if (_attrStr1 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_attrStr1=");
+                builder.append(_attrStr1);
+             }
+            if (_attrStr2 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_attrStr2=");
+                builder.append(_attrStr2);
+             }
+            if (_attrStr3 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_attrStr3=");
+                builder.append(_attrStr3);
+             }
+            if (_attrStr4 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_attrStr4=");
+                builder.append(_attrStr4);
+             }
+            if (_cont1 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_cont1=");
+                builder.append(_cont1);
+             }
+            if (_cont2 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_cont2=");
+                builder.append(_cont2);
+             }
+            if (_list1 != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_list1=");
+                builder.append(_list1);
+             }
+            return builder.append(']').toString();
+        }
+    }
+
+}
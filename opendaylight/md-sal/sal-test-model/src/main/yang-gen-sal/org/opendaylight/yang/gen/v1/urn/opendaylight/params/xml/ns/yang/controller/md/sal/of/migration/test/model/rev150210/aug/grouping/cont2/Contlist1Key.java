@@ -0,0 +1,82 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.cont2;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+
+
+public class Contlist1Key
+ implements Identifier<Contlist1> {
+    private static final long serialVersionUID = -2967080787556035094L;
+    private final java.lang.String _attrStr;
+
+
+    public Contlist1Key(java.lang.String _attrStr) {
+    
+    
+        this._attrStr = _attrStr;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public Contlist1Key(Contlist1Key source) {
+        this._attrStr = source._attrStr;
+    }
+
+
+    public java.lang.String getAttrStr() {
+        return _attrStr;
+    }
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_attrStr == null) ? 0 : _attrStr.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        Contlist1Key other = (Contlist1Key) obj;
+        if (_attrStr == null) {
+            if (other._attrStr != null) {
+                return false;
+            }
+        } else if(!_attrStr.equals(other._attrStr)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.cont2.Contlist1Key.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_attrStr != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_attrStr=");
+            builder.append(_attrStr);
+         }
+        return builder.append(']').toString();
+    }
+
+
+
+}
+
@@ -0,0 +1,82 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.list1;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+
+
+public class List12Key
+ implements Identifier<List12> {
+    private static final long serialVersionUID = 4712004729913052166L;
+    private final java.lang.Integer _attrInt;
+
+
+    public List12Key(java.lang.Integer _attrInt) {
+    
+    
+        this._attrInt = _attrInt;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public List12Key(List12Key source) {
+        this._attrInt = source._attrInt;
+    }
+
+
+    public java.lang.Integer getAttrInt() {
+        return _attrInt;
+    }
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_attrInt == null) ? 0 : _attrInt.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        List12Key other = (List12Key) obj;
+        if (_attrInt == null) {
+            if (other._attrInt != null) {
+                return false;
+            }
+        } else if(!_attrInt.equals(other._attrInt)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.of.migration.test.model.rev150210.aug.grouping.list1.List12Key.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_attrInt != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_attrInt=");
+            builder.append(_attrInt);
+         }
+        return builder.append(']').toString();
+    }
+
+
+
+}
+
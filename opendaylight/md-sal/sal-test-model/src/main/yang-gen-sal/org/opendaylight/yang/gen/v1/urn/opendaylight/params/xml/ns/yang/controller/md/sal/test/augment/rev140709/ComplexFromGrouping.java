@@ -0,0 +1,46 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.augment.rev140709;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.augment.rev140709.complex.from.grouping.ListViaUses;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.augment.rev140709.complex.from.grouping.ContainerWithUses;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-mdsal-augment-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-augment-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping complex-from-grouping {
+ *     container container-with-uses {
+ *         leaf leaf-from-grouping {
+ *             type string;
+ *         }
+ *         uses leaf-from-grouping;
+ *     }
+ *     list list-via-uses {
+ *         key "name"
+ *         leaf name {
+ *             type string;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-mdsal-augment-test/complex-from-grouping&lt;/i&gt;
+ *
+ */
+public interface ComplexFromGrouping
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:augment","2014-07-09","complex-from-grouping"));
+
+    ContainerWithUses getContainerWithUses();
+    
+    List<ListViaUses> getListViaUses();
+
+}
+
@@ -0,0 +1,19 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.augment.rev140709;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+
+
+public interface RpcLeafOnlyAugment
+    extends
+    DataObject,
+    Augmentation<TopLevelList>
+{
+
+
+
+
+    java.lang.String getSimpleValue();
+
+}
+
@@ -0,0 +1,38 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.notification.rev150205;
+import org.opendaylight.yangtools.yang.binding.NotificationListener;
+
+
+/**
+ * Interface for receiving the following YANG notifications defined in module &lt;b&gt;opendaylight-test-notification&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-test-notification.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification out-of-pixie-dust-notification {
+ *     description
+ *         "Just a testing notification that we can not fly for now.";
+ *     leaf reason {
+ *         type string;
+ *     }
+ *     leaf days-till-new-dust {
+ *         type uint16;
+ *     }
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightTestNotificationListener
+    extends
+    NotificationListener
+{
+
+
+
+
+    /**
+     * Just a testing notification that we can not fly for now.
+     *
+     */
+    void onOutOfPixieDustNotification(OutOfPixieDustNotification notification);
+
+}
+
@@ -0,0 +1,34 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;opendaylight-test-rpc-service&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-test-rpc-service.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc rock-the-house {
+ *     input {
+ *         leaf zip-code {
+ *             type string;
+ *         }
+ *     }
+ *     
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightTestRpcServiceService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<java.lang.Void>> rockTheHouse(RockTheHouseInput input);
+
+}
+
@@ -0,0 +1,370 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.DataRoot;
+
+
+/**
+ * This module contains a collection of YANG definitions used for some test cases.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * module opendaylight-mdsal-list-test {
+ *     yang-version 1;
+ *     namespace "urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list";
+ *     prefix "list-test";
+ *
+ *     revision 2014-07-01 {
+ *         description "This module contains a collection of YANG definitions used for some test cases.
+ *         ";
+ *     }
+ *
+ *     container top {
+ *         list top-level-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             list nested-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)nested-list {
+ *                     status CURRENT;
+ *                     leaf type {
+ *                         type string;
+ *                     }
+ *                 }
+ *             }
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             container container-with-uses {
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             list list-via-uses {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *             }
+ *             leaf simple-value {
+ *                 type string;
+ *             }
+ *             leaf second-simple-value {
+ *                 type string;
+ *             }
+ *             container cont1 {
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *             }
+ *             container cont2 {
+ *                 list contlist1 {
+ *                     key "attr-str"
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                     leaf attr-enum {
+ *                         type custom-enum;
+ *                     }
+ *                     uses enum-grouping;
+ *                 }
+ *             }
+ *             leaf attr-str1 {
+ *                 type string;
+ *             }
+ *             leaf attr-str2 {
+ *                 type string;
+ *             }
+ *             leaf attr-str3 {
+ *                 type string;
+ *             }
+ *             leaf attr-str4 {
+ *                 type string;
+ *             }
+ *             list list1 {
+ *                 key "attr-str"
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *                 list list1-1 {
+ *                     key "attr-int"
+ *                     leaf attr-int {
+ *                         type int32;
+ *                     }
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                     leaf flags {
+ *                         type bit-flags;
+ *                     }
+ *                     leaf attr-str2 {
+ *                         type string;
+ *                     }
+ *                     container cont {
+ *                         leaf attr-int {
+ *                             type int32;
+ *                         }
+ *                     }
+ *                     augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model)list1\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model)list1-1 {
+ *                         status CURRENT;
+ *                         leaf attr-str2 {
+ *                             type string;
+ *                         }
+ *                         container cont {
+ *                             leaf attr-int {
+ *                                 type int32;
+ *                             }
+ *                         }
+ *                     }
+ *                 }
+ *                 list list1-2 {
+ *                     key "attr-int"
+ *                     leaf attr-int {
+ *                         type int32;
+ *                     }
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                 }
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 container container-with-uses {
+ *                     leaf leaf-from-grouping {
+ *                         type string;
+ *                     }
+ *                     uses leaf-from-grouping;
+ *                 }
+ *                 list list-via-uses {
+ *                     key "name"
+ *                     leaf name {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 uses complex-from-grouping;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf simple-value {
+ *                     type string;
+ *                 }
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf second-simple-value {
+ *                     type string;
+ *                 }
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 container cont1 {
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 container cont2 {
+ *                     list contlist1 {
+ *                         key "attr-str"
+ *                         leaf attr-str {
+ *                             type string;
+ *                         }
+ *                         leaf attr-enum {
+ *                             type custom-enum;
+ *                         }
+ *                         uses enum-grouping;
+ *                     }
+ *                 }
+ *                 leaf attr-str1 {
+ *                     type string;
+ *                 }
+ *                 leaf attr-str2 {
+ *                     type string;
+ *                 }
+ *                 leaf attr-str3 {
+ *                     type string;
+ *                 }
+ *                 leaf attr-str4 {
+ *                     type string;
+ *                 }
+ *                 list list1 {
+ *                     key "attr-str"
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                     list list1-1 {
+ *                         key "attr-int"
+ *                         leaf attr-int {
+ *                             type int32;
+ *                         }
+ *                         leaf attr-str {
+ *                             type string;
+ *                         }
+ *                         leaf flags {
+ *                             type bit-flags;
+ *                         }
+ *                     }
+ *                     list list1-2 {
+ *                         key "attr-int"
+ *                         leaf attr-int {
+ *                             type int32;
+ *                         }
+ *                         leaf attr-str {
+ *                             type string;
+ *                         }
+ *                     }
+ *                 }
+ *                 uses aug-grouping;
+ *             }
+ *         }
+ *         uses two-level-list;
+ *     }
+ *
+ *     grouping two-level-list {
+ *         list top-level-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             list nested-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *
+ *     notification two-level-list-changed {
+ *         list top-level-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             list nested-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *             }
+ *         }
+ *         uses two-level-list;
+ *         status CURRENT;
+ *     }
+ *
+ *     rpc put-top {
+ *         input {
+ *             list top-level-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 list nested-list {
+ *                     key "name"
+ *                     leaf name {
+ *                         type string;
+ *                     }
+ *                     leaf type {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 container container-with-uses {
+ *                     leaf leaf-from-grouping {
+ *                         type string;
+ *                     }
+ *                     uses leaf-from-grouping;
+ *                 }
+ *                 list list-via-uses {
+ *                     key "name"
+ *                     leaf name {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 leaf simple-value {
+ *                     type string;
+ *                 }
+ *                 leaf second-simple-value {
+ *                     type string;
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                     status CURRENT;
+ *                     leaf leaf-from-grouping {
+ *                         type string;
+ *                     }
+ *                     uses leaf-from-grouping;
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                     status CURRENT;
+ *                     container container-with-uses {
+ *                         leaf leaf-from-grouping {
+ *                             type string;
+ *                         }
+ *                         uses leaf-from-grouping;
+ *                     }
+ *                     list list-via-uses {
+ *                         key "name"
+ *                         leaf name {
+ *                             type string;
+ *                         }
+ *                     }
+ *                     uses complex-from-grouping;
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                     status CURRENT;
+ *                     leaf simple-value {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                     status CURRENT;
+ *                     leaf second-simple-value {
+ *                         type string;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *         
+ *         status CURRENT;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightMdsalListTestData
+    extends
+    DataRoot
+{
+
+
+
+
+    Top getTop();
+
+}
+
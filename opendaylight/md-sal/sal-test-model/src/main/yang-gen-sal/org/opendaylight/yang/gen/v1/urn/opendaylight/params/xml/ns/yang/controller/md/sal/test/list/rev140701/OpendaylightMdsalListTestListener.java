@@ -0,0 +1,42 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.NotificationListener;
+
+
+/**
+ * Interface for receiving the following YANG notifications defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification two-level-list-changed {
+ *     list top-level-list {
+ *         key "name"
+ *         leaf name {
+ *             type string;
+ *         }
+ *         list nested-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf type {
+ *                 type string;
+ *             }
+ *         }
+ *     }
+ *     uses two-level-list;
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightMdsalListTestListener
+    extends
+    NotificationListener
+{
+
+
+
+
+    void onTwoLevelListChanged(TwoLevelListChanged notification);
+
+}
+
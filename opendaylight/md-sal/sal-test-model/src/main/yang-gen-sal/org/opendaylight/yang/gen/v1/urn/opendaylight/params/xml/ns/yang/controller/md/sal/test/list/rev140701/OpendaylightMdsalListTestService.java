@@ -0,0 +1,102 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc put-top {
+ *     input {
+ *         list top-level-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             list nested-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *             }
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             container container-with-uses {
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             list list-via-uses {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *             }
+ *             leaf simple-value {
+ *                 type string;
+ *             }
+ *             leaf second-simple-value {
+ *                 type string;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 container container-with-uses {
+ *                     leaf leaf-from-grouping {
+ *                         type string;
+ *                     }
+ *                     uses leaf-from-grouping;
+ *                 }
+ *                 list list-via-uses {
+ *                     key "name"
+ *                     leaf name {
+ *                         type string;
+ *                     }
+ *                 }
+ *                 uses complex-from-grouping;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf simple-value {
+ *                     type string;
+ *                 }
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *                 status CURRENT;
+ *                 leaf second-simple-value {
+ *                     type string;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightMdsalListTestService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<java.lang.Void>> putTop(PutTopInput input);
+
+}
+
@@ -0,0 +1,106 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     list top-level-list {
+ *         key "name"
+ *         leaf name {
+ *             type string;
+ *         }
+ *         list nested-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf type {
+ *                 type string;
+ *             }
+ *         }
+ *         leaf leaf-from-grouping {
+ *             type string;
+ *         }
+ *         container container-with-uses {
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             uses leaf-from-grouping;
+ *         }
+ *         list list-via-uses {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *         }
+ *         leaf simple-value {
+ *             type string;
+ *         }
+ *         leaf second-simple-value {
+ *             type string;
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             uses leaf-from-grouping;
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             container container-with-uses {
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             list list-via-uses {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *             }
+ *             uses complex-from-grouping;
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf simple-value {
+ *                 type string;
+ *             }
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)put-top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)input\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf second-simple-value {
+ *                 type string;
+ *             }
+ *         }
+ *     }
+ *     uses two-level-list;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-mdsal-list-test/put-top/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.PutTopInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.PutTopInputBuilder
+ *
+ */
+public interface PutTopInput
+    extends
+    TwoLevelList,
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.PutTopInput>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list","2014-07-01","input"));
+
+
+}
+
@@ -0,0 +1,250 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container top {
+ *     list top-level-list {
+ *         key "name"
+ *         leaf name {
+ *             type string;
+ *         }
+ *         list nested-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf type {
+ *                 type string;
+ *             }
+ *             leaf type {
+ *                 type string;
+ *             }
+ *             augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)nested-list {
+ *                 status CURRENT;
+ *                 leaf type {
+ *                     type string;
+ *                 }
+ *             }
+ *         }
+ *         leaf leaf-from-grouping {
+ *             type string;
+ *         }
+ *         container container-with-uses {
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             uses leaf-from-grouping;
+ *         }
+ *         list list-via-uses {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *         }
+ *         leaf simple-value {
+ *             type string;
+ *         }
+ *         leaf second-simple-value {
+ *             type string;
+ *         }
+ *         container cont1 {
+ *             leaf attr-str {
+ *                 type string;
+ *             }
+ *         }
+ *         container cont2 {
+ *             list contlist1 {
+ *                 key "attr-str"
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *                 leaf attr-enum {
+ *                     type custom-enum;
+ *                 }
+ *                 uses enum-grouping;
+ *             }
+ *         }
+ *         leaf attr-str1 {
+ *             type string;
+ *         }
+ *         leaf attr-str2 {
+ *             type string;
+ *         }
+ *         leaf attr-str3 {
+ *             type string;
+ *         }
+ *         leaf attr-str4 {
+ *             type string;
+ *         }
+ *         list list1 {
+ *             key "attr-str"
+ *             leaf attr-str {
+ *                 type string;
+ *             }
+ *             list list1-1 {
+ *                 key "attr-int"
+ *                 leaf attr-int {
+ *                     type int32;
+ *                 }
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *                 leaf flags {
+ *                     type bit-flags;
+ *                 }
+ *                 leaf attr-str2 {
+ *                     type string;
+ *                 }
+ *                 container cont {
+ *                     leaf attr-int {
+ *                         type int32;
+ *                     }
+ *                 }
+ *                 augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model)list1\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:of-migration-test-model)list1-1 {
+ *                     status CURRENT;
+ *                     leaf attr-str2 {
+ *                         type string;
+ *                     }
+ *                     container cont {
+ *                         leaf attr-int {
+ *                             type int32;
+ *                         }
+ *                     }
+ *                 }
+ *             }
+ *             list list1-2 {
+ *                 key "attr-int"
+ *                 leaf attr-int {
+ *                     type int32;
+ *                 }
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *             }
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf leaf-from-grouping {
+ *                 type string;
+ *             }
+ *             uses leaf-from-grouping;
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             container container-with-uses {
+ *                 leaf leaf-from-grouping {
+ *                     type string;
+ *                 }
+ *                 uses leaf-from-grouping;
+ *             }
+ *             list list-via-uses {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *             }
+ *             uses complex-from-grouping;
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf simple-value {
+ *                 type string;
+ *             }
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             leaf second-simple-value {
+ *                 type string;
+ *             }
+ *         }
+ *         augment \(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top\(urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list)top-level-list {
+ *             status CURRENT;
+ *             container cont1 {
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *             }
+ *             container cont2 {
+ *                 list contlist1 {
+ *                     key "attr-str"
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                     leaf attr-enum {
+ *                         type custom-enum;
+ *                     }
+ *                     uses enum-grouping;
+ *                 }
+ *             }
+ *             leaf attr-str1 {
+ *                 type string;
+ *             }
+ *             leaf attr-str2 {
+ *                 type string;
+ *             }
+ *             leaf attr-str3 {
+ *                 type string;
+ *             }
+ *             leaf attr-str4 {
+ *                 type string;
+ *             }
+ *             list list1 {
+ *                 key "attr-str"
+ *                 leaf attr-str {
+ *                     type string;
+ *                 }
+ *                 list list1-1 {
+ *                     key "attr-int"
+ *                     leaf attr-int {
+ *                         type int32;
+ *                     }
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                     leaf flags {
+ *                         type bit-flags;
+ *                     }
+ *                 }
+ *                 list list1-2 {
+ *                     key "attr-int"
+ *                     leaf attr-int {
+ *                         type int32;
+ *                     }
+ *                     leaf attr-str {
+ *                         type string;
+ *                     }
+ *                 }
+ *             }
+ *             uses aug-grouping;
+ *         }
+ *     }
+ *     uses two-level-list;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-mdsal-list-test/top&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TopBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TopBuilder
+ *
+ */
+public interface Top
+    extends
+    ChildOf<OpendaylightMdsalListTestData>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top>,
+    TwoLevelList
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list","2014-07-01","top"));
+
+
+}
+
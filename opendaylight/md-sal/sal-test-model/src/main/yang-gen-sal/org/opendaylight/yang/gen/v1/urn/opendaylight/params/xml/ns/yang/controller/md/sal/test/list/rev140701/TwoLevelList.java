@@ -0,0 +1,50 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import java.util.List;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-mdsal-list-test&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-mdsal-list-test.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping two-level-list {
+ *     list top-level-list {
+ *         key "name"
+ *         leaf name {
+ *             type string;
+ *         }
+ *         list nested-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf type {
+ *                 type string;
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-mdsal-list-test/two-level-list&lt;/i&gt;
+ *
+ */
+public interface TwoLevelList
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list","2014-07-01","two-level-list"));
+
+    /**
+     * Top Level List
+     *
+     */
+    List<TopLevelList> getTopLevelList();
+
+}
+
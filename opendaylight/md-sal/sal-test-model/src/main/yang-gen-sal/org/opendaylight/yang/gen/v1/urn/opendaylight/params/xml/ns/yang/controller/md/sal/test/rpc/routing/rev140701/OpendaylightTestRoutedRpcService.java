@@ -0,0 +1,34 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.rpc.routing.rev140701;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;opendaylight-test-routed-rpc&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-test-routed-rpc.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc routed-simple-route {
+ *     input {
+ *         leaf route {
+ *             type instance-identifier;
+ *         }
+ *     }
+ *     
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightTestRoutedRpcService
+    extends
+    RpcService
+{
+
+
+
+
+    Future<RpcResult<java.lang.Void>> routedSimpleRoute(RoutedSimpleRouteInput input);
+
+}
+
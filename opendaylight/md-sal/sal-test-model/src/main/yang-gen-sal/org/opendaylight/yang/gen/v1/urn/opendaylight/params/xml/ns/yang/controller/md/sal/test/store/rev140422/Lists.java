@@ -0,0 +1,76 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.OrderedContainer;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.UnkeyedContainer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.lists.UnorderedContainer;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-sal-test-store&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/opendaylight-sal-test-store.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container lists {
+ *     container unordered-container {
+ *         list unordered-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf value {
+ *                 type string;
+ *             }
+ *             uses name-value;
+ *         }
+ *     }
+ *     container ordered-container {
+ *         list ordered-list {
+ *             key "name"
+ *             leaf name {
+ *                 type string;
+ *             }
+ *             leaf value {
+ *                 type string;
+ *             }
+ *             uses name-value;
+ *         }
+ *     }
+ *     container unkeyed-container {
+ *         list unkeyed-list {
+ *             key     leaf name {
+ *                 type string;
+ *             }
+ *             leaf value {
+ *                 type string;
+ *             }
+ *             uses name-value;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;opendaylight-sal-test-store/lists&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.ListsBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.ListsBuilder
+ *
+ */
+public interface Lists
+    extends
+    ChildOf<OpendaylightSalTestStoreData>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422.Lists>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:store","2014-04-22","lists"));
+
+    UnorderedContainer getUnorderedContainer();
+    
+    OrderedContainer getOrderedContainer();
+    
+    UnkeyedContainer getUnkeyedContainer();
+
+}
+
@@ -0,0 +1,82 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.store.rev140422;
+import org.opendaylight.yangtools.yang.binding.DataRoot;
+
+
+/**
+ * Regression Test model for data store
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;opendaylight-sal-test-store&lt;/b&gt;
+ * &lt;br&gt;Source path: &lt;i&gt;META-INF/yang/opendaylight-sal-test-store.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * module opendaylight-sal-test-store {
+ *     yang-version 1;
+ *     namespace "urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:store";
+ *     prefix "binding-impl";
+ *
+ *     revision 2014-04-22 {
+ *         description "Regression Test model for data store
+ *         ";
+ *     }
+ *
+ *     container lists {
+ *         container unordered-container {
+ *             list unordered-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf value {
+ *                     type string;
+ *                 }
+ *                 uses name-value;
+ *             }
+ *         }
+ *         container ordered-container {
+ *             list ordered-list {
+ *                 key "name"
+ *                 leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf value {
+ *                     type string;
+ *                 }
+ *                 uses name-value;
+ *             }
+ *         }
+ *         container unkeyed-container {
+ *             list unkeyed-list {
+ *                 key     leaf name {
+ *                     type string;
+ *                 }
+ *                 leaf value {
+ *                     type string;
+ *                 }
+ *                 uses name-value;
+ *             }
+ *         }
+ *     }
+ *
+ *     grouping name-value {
+ *         leaf name {
+ *             type string;
+ *         }
+ *         leaf value {
+ *             type string;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface OpendaylightSalTestStoreData
+    extends
+    DataRoot
+{
+
+
+
+
+    Lists getLists();
+
+}
+
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.benchmark;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfEXICodec;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfEXIToMessageDecoder;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfMessageToEXIEncoder;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfXMLToMessageDecoder;
+import org.opendaylight.controller.netconf.util.messages.StreamableNetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.openexi.proc.common.AlignmentType;
+import org.openexi.proc.common.EXIOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Compares XML and EXI encoding of large get replies. Encoding starts from DOM document, as rpc replies
+ * of the server are. Decoding either builds DOM document, as the server does, or only produces serialized
+ * message which is then streamed through, as the client does when transforming replies into normalized nodes.
+ * <p/>
+ * Encoded sizes of the reply are logged during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class NetconfEncodingBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfEncodingBenchmark.class);
+
+    private static final String NETCONF_NAMESPACE = "urn:ietf:params:xml:ns:netconf:base:1.0";
+    private static final String INTERFACES_NAMESPACE = "urn:ietf:params:xml:ns:yang:ietf-interfaces";
+
+    @Param({"1000", "10000"})
+    public int entries;
+
+    @Param({"bitPacked", "compress"})
+    public String alignment;
+
+    private NetconfMessage reply;
+    private byte[] xml;
+    private byte[] exi;
+
+    private EmbeddedChannel xmlEncoder;
+    private EmbeddedChannel exiEncoder;
+    private EmbeddedChannel xmlDecoder;
+    private EmbeddedChannel lazyXmlDecoder;
+    private EmbeddedChannel exiDecoder;
+    private EmbeddedChannel lazyExiDecoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final EXIOptions options = new EXIOptions();
+        options.setAlignmentType(AlignmentType.valueOf(alignment));
+        final NetconfEXICodec codec = new NetconfEXICodec(options);
+
+        xmlEncoder = new EmbeddedChannel(new NetconfMessageToXMLEncoder());
+        exiEncoder = new EmbeddedChannel(NetconfMessageToEXIEncoder.create(codec));
+        xmlDecoder = new EmbeddedChannel(new NetconfXMLToMessageDecoder());
+        lazyXmlDecoder = new EmbeddedChannel(new NetconfXMLToMessageDecoder(true));
+        exiDecoder = new EmbeddedChannel(NetconfEXIToMessageDecoder.create(codec));
+        lazyExiDecoder = new EmbeddedChannel(NetconfEXIToMessageDecoder.create(codec, true));
+
+        reply = new NetconfMessage(createGetReply(entries));
+        xml = toBytes(encode(xmlEncoder, reply));
+        exi = toBytes(encode(exiEncoder, reply));
+        LOG.info("Get reply with {} entries has {} bytes as XML and {} bytes as {} EXI", entries, xml.length, exi.length, alignment);
+    }
+
+    @TearDown
+    public void tearDown() {
+        xmlEncoder.finish();
+        exiEncoder.finish();
+        xmlDecoder.finish();
+        lazyXmlDecoder.finish();
+        exiDecoder.finish();
+        lazyExiDecoder.finish();
+    }
+
+    @Benchmark
+    public int encodeXml() {
+        return release(encode(xmlEncoder, reply));
+    }
+
+    @Benchmark
+    public int encodeExi() {
+        return release(encode(exiEncoder, reply));
+    }
+
+    @Benchmark
+    public Document decodeXmlToDocument() {
+        return decode(xmlDecoder, xml).getDocument();
+    }
+
+    @Benchmark
+    public int decodeXmlStreaming() throws XMLStreamException {
+        return stream((StreamableNetconfMessage) decode(lazyXmlDecoder, xml));
+    }
+
+    @Benchmark
+    public Document decodeExiToDocument() {
+        return decode(exiDecoder, exi).getDocument();
+    }
+
+    @Benchmark
+    public int decodeExiStreaming() throws XMLStreamException {
+        return stream((StreamableNetconfMessage) decode(lazyExiDecoder, exi));
+    }
+
+    private static ByteBuf encode(final EmbeddedChannel encoder, final NetconfMessage message) {
+        encoder.writeOutbound(message);
+        return (ByteBuf) encoder.readOutbound();
+    }
+
+    private static NetconfMessage decode(final EmbeddedChannel decoder, final byte[] bytes) {
+        decoder.writeInbound(Unpooled.wrappedBuffer(bytes));
+        return (NetconfMessage) decoder.readInbound();
+    }
+
+    /**
+     * Read all events of the message, the same way streaming parser of the client does.
+     */
+    private static int stream(final StreamableNetconfMessage message) throws XMLStreamException {
+        final XMLStreamReader reader = message.createStreamReader();
+        try {
+            int events = 0;
+            while (reader.hasNext()) {
+                reader.next();
+                events++;
+            }
+            return events;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static int release(final ByteBuf buf) {
+        final int size = buf.readableBytes();
+        buf.release();
+        return size;
+    }
+
+    private static byte[] toBytes(final ByteBuf buf) {
+        final byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        buf.release();
+        return bytes;
+    }
+
+    /**
+     * Reply in the shape of a typical device: a list of interfaces with a few leaves each.
+     */
+    private static Document createGetReply(final int entries) {
+        final Document document = XmlUtil.newDocument();
+        final Element rpcReply = document.createElementNS(NETCONF_NAMESPACE, "rpc-reply");
+        rpcReply.setAttribute("message-id", "m-1");
+        document.appendChild(rpcReply);
+
+        final Element data = document.createElementNS(NETCONF_NAMESPACE, "data");
+        rpcReply.appendChild(data);
+        final Element interfaces = document.createElementNS(INTERFACES_NAMESPACE, "interfaces");
+        data.appendChild(interfaces);
+
+        for (int i = 0; i < entries; i++) {
+            final Element entry = document.createElementNS(INTERFACES_NAMESPACE, "interface");
+            appendLeaf(document, entry, "name", "GigabitEthernet0/0/" + i);
+            appendLeaf(document, entry, "description", "Uplink to access switch " + i);
+            appendLeaf(document, entry, "type", "ianaift:ethernetCsmacd");
+            appendLeaf(document, entry, "enabled", String.valueOf(i % 2 == 0));
+            interfaces.appendChild(entry);
+        }
+        return document;
+    }
+
+    private static void appendLeaf(final Document document, final Element parent, final String name, final String value) {
+        final Element leaf = document.createElementNS(INTERFACES_NAMESPACE, name);
+        leaf.setTextContent(value);
+        parent.appendChild(leaf);
+    }
+}
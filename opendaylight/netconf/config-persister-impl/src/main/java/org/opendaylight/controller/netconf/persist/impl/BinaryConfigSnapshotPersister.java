@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Sets;
+import com.google.common.io.BaseEncoding;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.controller.config.api.ConflictingVersionException;
+import org.opendaylight.controller.config.api.ValidationException;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.Persister;
+import org.opendaylight.controller.config.util.BinaryConfigSnapshot;
+import org.opendaylight.controller.config.util.ConfigRegistryClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps {@link BinaryConfigSnapshot} of the whole configuration next to the XML snapshots, which stay the
+ * export format. After each persisted commit, current configuration is read from config registry and written
+ * to the binary file. On startup the binary file can be applied directly to config registry instead of pushing
+ * XML snapshots through netconf.
+ * <p/>
+ * The binary file remembers digest of XML snapshots loaded by the delegate persister at the time it was written.
+ * It is applied only if the XML snapshots loaded on startup have the same digest, so that manual edits of XML
+ * files are never overridden by stale binary snapshot.
+ */
+@ThreadSafe
+public final class BinaryConfigSnapshotPersister implements Persister {
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryConfigSnapshotPersister.class);
+
+    private static final long MODULE_FACTORIES_RECHECK_MILLIS = 500;
+
+    private final Persister delegate;
+    private final File file;
+    private final ConfigRegistryClient configRegistryClient;
+
+    public BinaryConfigSnapshotPersister(final Persister delegate, final File file, final ConfigRegistryClient configRegistryClient) {
+        this.delegate = delegate;
+        this.file = file;
+        this.configRegistryClient = configRegistryClient;
+    }
+
+    /**
+     * Persist XML snapshot by delegate, then replace binary snapshot by current configuration. Failure to write
+     * binary snapshot is only logged, it will not be used on next start.
+     */
+    @Override
+    public synchronized void persistConfig(final ConfigSnapshotHolder configSnapshotHolder) throws IOException {
+        delegate.persistConfig(configSnapshotHolder);
+        saveSnapshot();
+    }
+
+    @Override
+    public List<ConfigSnapshotHolder> loadLastConfigs() throws IOException {
+        return delegate.loadLastConfigs();
+    }
+
+    /**
+     * Delegate is owned by the caller, nothing to close.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Write current configuration together with digest of XML snapshots the delegate would load now.
+     */
+    public synchronized void saveSnapshot() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            String digest = digest(delegate.loadLastConfigs());
+            BinaryConfigSnapshot snapshot = BinaryConfigSnapshot.capture(configRegistryClient);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeUTF(digest);
+                snapshot.writeTo(out);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Binary config snapshot of {} modules written to {} in {} ms", snapshot.getModuleIdentifiers().size(),
+                    file, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to write binary config snapshot to {}, XML snapshots will be pushed on next start", file, e);
+            if (file.delete() == false && file.exists()) {
+                LOG.warn("Unable to delete stale binary config snapshot {}", file);
+            }
+        }
+    }
+
+    /**
+     * Apply binary snapshot if it was written for the same XML snapshots. Waits until all module factories required
+     * by the snapshot are available.
+     *
+     * @return true if the binary snapshot was applied and XML snapshots do not need to be pushed
+     */
+    public boolean tryApplySnapshot(final List<ConfigSnapshotHolder> configs, final long maxWaitForModuleFactoriesMillis)
+            throws InterruptedException {
+        if (file.exists() == false) {
+            LOG.debug("Binary config snapshot {} not found", file);
+            return false;
+        }
+
+        final BinaryConfigSnapshot snapshot;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (digest(configs).equals(in.readUTF()) == false) {
+                LOG.info("Binary config snapshot {} was not written for current XML snapshots, ignoring it", file);
+                return false;
+            }
+            snapshot = BinaryConfigSnapshot.readFrom(in);
+        } catch (IOException e) {
+            LOG.warn("Unable to read binary config snapshot {}, ignoring it", file, e);
+            return false;
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        if (awaitModuleFactories(snapshot.getRequiredModuleNames(), maxWaitForModuleFactoriesMillis) == false) {
+            return false;
+        }
+        try {
+            snapshot.apply(configRegistryClient);
+        } catch (ConflictingVersionException | ValidationException | RuntimeException e) {
+            LOG.warn("Unable to apply binary config snapshot {}, XML snapshots will be pushed", file, e);
+            return false;
+        }
+        LOG.info("Binary config snapshot {} with {} modules applied in {} ms", file, snapshot.getModuleIdentifiers().size(),
+                stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return true;
+    }
+
+    private boolean awaitModuleFactories(final Set<String> required, final long maxWaitMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        Set<String> missing = Sets.difference(required, configRegistryClient.getAvailableModuleNames());
+        while (missing.isEmpty() == false) {
+            if (System.currentTimeMillis() > deadline) {
+                LOG.warn("Module factories {} required by binary config snapshot {} not available after {} ms, "
+                        + "XML snapshots will be pushed", missing, file, maxWaitMillis);
+                return false;
+            }
+            Thread.sleep(MODULE_FACTORIES_RECHECK_MILLIS);
+            missing = Sets.difference(required, configRegistryClient.getAvailableModuleNames());
+        }
+        return true;
+    }
+
+    private static String digest(final List<ConfigSnapshotHolder> configs) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+        for (ConfigSnapshotHolder config : configs) {
+            digest.update(config.getConfigSnapshot().getBytes(Charsets.UTF_8));
+            if (config.getCapabilities() != null) {
+                for (String capability : config.getCapabilities()) {
+                    digest.update(capability.getBytes(Charsets.UTF_8));
+                }
+            }
+        }
+        return BaseEncoding.base16().encode(digest.digest());
+    }
+}
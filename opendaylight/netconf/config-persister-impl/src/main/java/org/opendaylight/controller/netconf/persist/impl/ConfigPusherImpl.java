@@ -11,14 +11,19 @@ package org.opendaylight.controller.netconf.persist.impl;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedSet;
@@ -27,15 +32,18 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
 import javax.management.MBeanServerConnection;
 import org.opendaylight.controller.config.api.ConflictingVersionException;
 import org.opendaylight.controller.config.persist.api.ConfigPusher;
 import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolderImpl;
 import org.opendaylight.controller.config.persist.api.Persister;
 import org.opendaylight.controller.netconf.api.Capability;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.api.monitoring.CapabilityListener;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.mapping.api.HandlingPriority;
 import org.opendaylight.controller.netconf.mapping.api.NetconfOperation;
@@ -51,15 +59,26 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
-@Immutable
-public class ConfigPusherImpl implements ConfigPusher {
+@ThreadSafe
+public class ConfigPusherImpl implements ConfigPusher, ConfigPusherImplMXBean {
     private static final Logger LOG = LoggerFactory.getLogger(ConfigPusherImpl.class);
 
+    public static final String OBJECT_NAME = "org.opendaylight.controller:type=ConfigPusher";
+
+    /**
+     * Capabilities are re-checked at least this often even without capability change notifications, as services of
+     * config-netconf-connector might be temporarily unavailable without any capability change.
+     */
+    private static final long CAPABILITIES_RECHECK_MILLIS = 1000;
+
     private final long maxWaitForCapabilitiesMillis;
     private final long conflictingVersionTimeoutMillis;
     private final NetconfOperationServiceFactory configNetconfConnector;
     private static final int QUEUE_SIZE = 100;
     private BlockingQueue<List<? extends ConfigSnapshotHolder>> queue = new LinkedBlockingQueue<List<? extends ConfigSnapshotHolder>>(QUEUE_SIZE);
+    private final CapabilityChangeMonitor capabilityChangeMonitor = new CapabilityChangeMonitor();
+    private final Map<String, Long> snapshotPushMillis = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+    private final Map<String, Long> snapshotCapabilitiesWaitMillis = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
 
     public ConfigPusherImpl(NetconfOperationServiceFactory configNetconfConnector, long maxWaitForCapabilitiesMillis,
                         long conflictingVersionTimeoutMillis) {
@@ -69,14 +88,42 @@ public class ConfigPusherImpl implements ConfigPusher {
     }
 
     public void process(List<AutoCloseable> autoCloseables, MBeanServerConnection platformMBeanServer, Persister persisterAggregator) throws InterruptedException {
+        process(autoCloseables, platformMBeanServer, persisterAggregator, false);
+    }
+
+    /**
+     * Push queued configs and persist each subsequent commit. If persister is {@link BinaryConfigSnapshotPersister},
+     * binary snapshot is written after every successful push, so that it contains the pushed configuration.
+     *
+     * @param configsApplied true if initial configuration was already applied without this pusher, e.g. from binary
+     *                       snapshot. Commits are persisted immediately, without waiting for any push.
+     */
+    public void process(List<AutoCloseable> autoCloseables, MBeanServerConnection platformMBeanServer, Persister persisterAggregator,
+                        boolean configsApplied) throws InterruptedException {
+        AutoCloseable capabilityListenerRegistration = configNetconfConnector.registerCapabilityListener(capabilityChangeMonitor);
+        if (capabilityListenerRegistration != null) {
+            synchronized (autoCloseables) {
+                autoCloseables.add(capabilityListenerRegistration);
+            }
+        }
+
+        boolean notificationHandlerRegistered = false;
+        if (configsApplied) {
+            registerNotificationHandler(autoCloseables, platformMBeanServer, persisterAggregator);
+            notificationHandlerRegistered = true;
+        }
+
         List<? extends ConfigSnapshotHolder> configs;
         while(true) {
             configs = queue.take();
             try {
                 internalPushConfigs(configs);
-                ConfigPersisterNotificationHandler jmxNotificationHandler = new ConfigPersisterNotificationHandler(platformMBeanServer, persisterAggregator);
-                synchronized (autoCloseables) {
-                    autoCloseables.add(jmxNotificationHandler);
+                if (persisterAggregator instanceof BinaryConfigSnapshotPersister) {
+                    ((BinaryConfigSnapshotPersister) persisterAggregator).saveSnapshot();
+                }
+                if (notificationHandlerRegistered == false) {
+                    registerNotificationHandler(autoCloseables, platformMBeanServer, persisterAggregator);
+                    notificationHandlerRegistered = true;
                 }
 
                 LOG.debug("ConfigPusher has pushed configs {}", configs);
@@ -87,26 +134,107 @@ public class ConfigPusherImpl implements ConfigPusher {
         }
     }
 
+    private static void registerNotificationHandler(List<AutoCloseable> autoCloseables, MBeanServerConnection platformMBeanServer,
+                                                    Persister persisterAggregator) {
+        ConfigPersisterNotificationHandler jmxNotificationHandler = new ConfigPersisterNotificationHandler(platformMBeanServer, persisterAggregator);
+        synchronized (autoCloseables) {
+            autoCloseables.add(jmxNotificationHandler);
+        }
+    }
+
     public void pushConfigs(List<? extends ConfigSnapshotHolder> configs) throws InterruptedException {
         LOG.debug("Requested to push configs {}", configs);
         this.queue.put(configs);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getSnapshotPushMillis() {
+        synchronized (snapshotPushMillis) {
+            return new LinkedHashMap<>(snapshotPushMillis);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getSnapshotCapabilitiesWaitMillis() {
+        synchronized (snapshotCapabilitiesWaitMillis) {
+            return new LinkedHashMap<>(snapshotCapabilitiesWaitMillis);
+        }
+    }
+
     private LinkedHashMap<? extends ConfigSnapshotHolder, EditAndCommitResponse> internalPushConfigs(List<? extends ConfigSnapshotHolder> configs) throws NetconfDocumentedException {
         LOG.debug("Last config snapshots to be pushed to netconf: {}", configs);
         LinkedHashMap<ConfigSnapshotHolder, EditAndCommitResponse> result = new LinkedHashMap<>();
-        // start pushing snapshots:
+        LinkedList<ConfigSnapshotHolder> toBePushed = new LinkedList<>();
         for (ConfigSnapshotHolder configSnapshotHolder : configs) {
             if(configSnapshotHolder != null) {
-                EditAndCommitResponse editAndCommitResponseWithRetries = pushConfigWithConflictingVersionRetries(configSnapshotHolder);
-                LOG.debug("Config snapshot pushed successfully: {}, result: {}", configSnapshotHolder, result);
-                result.put(configSnapshotHolder, editAndCommitResponseWithRetries);
+                toBePushed.add(configSnapshotHolder);
+            }
+        }
+        // snapshots at the beginning of the list which failed to be pushed together, they are never merged again
+        int toBePushedOneByOne = 0;
+        // start pushing snapshots:
+        while (toBePushed.isEmpty() == false) {
+            Optional<MergedConfigSnapshotHolder> merged = toBePushedOneByOne > 0
+                    ? Optional.<MergedConfigSnapshotHolder>absent() : mergeAvailableSnapshots(toBePushed);
+            if (merged.isPresent()) {
+                try {
+                    EditAndCommitResponse editAndCommitResponseWithRetries = pushConfigWithConflictingVersionRetries(merged.get());
+                    LOG.debug("Config snapshots pushed successfully together: {}, result: {}", merged.get(), editAndCommitResponseWithRetries);
+                    for (ConfigSnapshotHolder configSnapshotHolder : merged.get().getSnapshots()) {
+                        result.put(configSnapshotHolder, editAndCommitResponseWithRetries);
+                    }
+                    continue;
+                } catch (RuntimeException e) {
+                    LOG.warn("Unable to push config snapshots {} together, pushing them one by one", merged.get(), e);
+                    toBePushed.addAll(0, merged.get().getSnapshots());
+                    toBePushedOneByOne = merged.get().getSnapshots().size();
+                }
+            }
+
+            ConfigSnapshotHolder configSnapshotHolder = toBePushed.removeFirst();
+            if (toBePushedOneByOne > 0) {
+                toBePushedOneByOne--;
             }
+            EditAndCommitResponse editAndCommitResponseWithRetries = pushConfigWithConflictingVersionRetries(configSnapshotHolder);
+            LOG.debug("Config snapshot pushed successfully: {}, result: {}", configSnapshotHolder, result);
+            result.put(configSnapshotHolder, editAndCommitResponseWithRetries);
         }
         LOG.debug("All configuration snapshots have been pushed successfully.");
         return result;
     }
 
+    /**
+     * Merge snapshots from the beginning of the list while all their capabilities are available and they do not
+     * configure the same instances. Merged snapshots are removed from the list.
+     *
+     * @return merged snapshot if at least two snapshots were merged
+     */
+    private Optional<MergedConfigSnapshotHolder> mergeAvailableSnapshots(LinkedList<ConfigSnapshotHolder> toBePushed) {
+        MergedConfigSnapshotHolder merged = new MergedConfigSnapshotHolder();
+        for (ConfigSnapshotHolder configSnapshotHolder : toBePushed) {
+            if (configSnapshotHolder.getCapabilities() == null
+                    || computeNotFoundCapabilities(configSnapshotHolder.getCapabilities(), configNetconfConnector).isEmpty() == false
+                    || merged.tryAdd(configSnapshotHolder) == false) {
+                break;
+            }
+        }
+
+        int mergedCount = merged.getSnapshots().size();
+        if (mergedCount < 2) {
+            return Optional.absent();
+        }
+        for (int i = 0; i < mergedCount; i++) {
+            toBePushed.removeFirst();
+        }
+        return Optional.of(merged);
+    }
+
     /**
      * First calls {@link #getOperationServiceWithRetries(java.util.Set, String)} in order to wait until
      * expected capabilities are present, then tries to push configuration. If {@link ConflictingVersionException}
@@ -116,16 +244,22 @@ public class ConfigPusherImpl implements ConfigPusher {
     private synchronized EditAndCommitResponse pushConfigWithConflictingVersionRetries(ConfigSnapshotHolder configSnapshotHolder) throws NetconfDocumentedException {
         ConflictingVersionException lastException;
         Stopwatch stopwatch = Stopwatch.createUnstarted();
+        Stopwatch totalStopwatch = Stopwatch.createStarted();
+        long capabilitiesWaitMillis = 0;
         do {
             String idForReporting = configSnapshotHolder.toString();
             SortedSet<String> expectedCapabilities = checkNotNull(configSnapshotHolder.getCapabilities(),
                     "Expected capabilities must not be null - %s, check %s", idForReporting,
                     configSnapshotHolder.getClass().getName());
+            Stopwatch capabilitiesStopwatch = Stopwatch.createStarted();
             try (NetconfOperationService operationService = getOperationServiceWithRetries(expectedCapabilities, idForReporting)) {
+                capabilitiesWaitMillis += capabilitiesStopwatch.elapsed(TimeUnit.MILLISECONDS);
                 if(!stopwatch.isRunning()) {
                     stopwatch.start();
                 }
-                return pushConfig(configSnapshotHolder, operationService);
+                EditAndCommitResponse response = pushConfig(configSnapshotHolder, operationService);
+                recordPushTime(configSnapshotHolder, totalStopwatch.elapsed(TimeUnit.MILLISECONDS), capabilitiesWaitMillis);
+                return response;
             } catch (ConflictingVersionException e) {
                 lastException = e;
                 LOG.info("Conflicting version detected, will retry after timeout");
@@ -136,21 +270,87 @@ public class ConfigPusherImpl implements ConfigPusher {
                 lastException);
     }
 
+    private void recordPushTime(ConfigSnapshotHolder configSnapshotHolder, long pushMillis, long capabilitiesWaitMillis) {
+        List<? extends ConfigSnapshotHolder> pushed = configSnapshotHolder instanceof MergedConfigSnapshotHolder
+                ? ((MergedConfigSnapshotHolder) configSnapshotHolder).getSnapshots()
+                : Collections.singletonList(configSnapshotHolder);
+        LOG.info("Config snapshots {} pushed in {} ms, {} ms of that waiting for capabilities",
+                Lists.transform(pushed, SNAPSHOT_TO_NAME), pushMillis, capabilitiesWaitMillis);
+        for (ConfigSnapshotHolder snapshot : pushed) {
+            String name = SNAPSHOT_TO_NAME.apply(snapshot);
+            snapshotPushMillis.put(name, pushMillis);
+            snapshotCapabilitiesWaitMillis.put(name, capabilitiesWaitMillis);
+        }
+    }
+
+    private static final Function<ConfigSnapshotHolder, String> SNAPSHOT_TO_NAME = new Function<ConfigSnapshotHolder, String>() {
+        @Override
+        public String apply(@Nonnull final ConfigSnapshotHolder input) {
+            // toString of snapshots read from files contains whole snapshot
+            return input instanceof ConfigSnapshotHolderImpl ? ((ConfigSnapshotHolderImpl) input).getFileName() : input.toString();
+        }
+    };
+
     private NetconfOperationService getOperationServiceWithRetries(Set<String> expectedCapabilities, String idForReporting) {
         Stopwatch stopwatch = Stopwatch.createStarted();
         NotEnoughCapabilitiesException lastException;
         do {
+            long capabilityChanges = capabilityChangeMonitor.getChanges();
             try {
                 return getOperationService(expectedCapabilities, idForReporting);
             } catch (NotEnoughCapabilitiesException e) {
                 LOG.debug("Not enough capabilities: {}", e.toString());
                 lastException = e;
-                sleep();
+                capabilityChangeMonitor.awaitChange(capabilityChanges,
+                        maxWaitForCapabilitiesMillis - stopwatch.elapsed(TimeUnit.MILLISECONDS));
             }
         } while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < maxWaitForCapabilitiesMillis);
         throw new IllegalStateException("Max wait for capabilities reached." + lastException.getMessage(), lastException);
     }
 
+    /**
+     * Counts capability changes of config-netconf-connector, so that waiting for capabilities can be woken up
+     * as soon as they change.
+     */
+    private static final class CapabilityChangeMonitor implements CapabilityListener {
+        @GuardedBy("this")
+        private long changes = 0;
+
+        @Override
+        public synchronized void onCapabilitiesAdded(Set<Capability> addedCaps) {
+            changes++;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onCapabilitiesRemoved(Set<Capability> removedCaps) {
+            changes++;
+            notifyAll();
+        }
+
+        synchronized long getChanges() {
+            return changes;
+        }
+
+        /**
+         * Wait until capabilities change after seenChanges were observed, timeout elapses
+         * or {@link #CAPABILITIES_RECHECK_MILLIS} elapses.
+         */
+        synchronized void awaitChange(long seenChanges, long timeoutMillis) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(timeoutMillis, CAPABILITIES_RECHECK_MILLIS));
+            long remainingMillis;
+            while (changes == seenChanges
+                    && (remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
     private static class NotEnoughCapabilitiesException extends Exception {
         private static final long serialVersionUID = 1L;
 
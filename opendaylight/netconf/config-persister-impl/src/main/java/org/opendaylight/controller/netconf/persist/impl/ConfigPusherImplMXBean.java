@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import java.util.Map;
+
+/**
+ * Exposes timings of config snapshots pushed by {@link ConfigPusherImpl}. Snapshots are identified by
+ * file name if available. Snapshots pushed together by single edit-config share their timings.
+ */
+public interface ConfigPusherImplMXBean {
+
+    /**
+     * @return time from start of pushing until successful commit of each snapshot in milliseconds,
+     *         including waiting for capabilities and retries
+     */
+    Map<String, Long> getSnapshotPushMillis();
+
+    /**
+     * @return time spent waiting for capabilities required by each snapshot in milliseconds
+     */
+    Map<String, Long> getSnapshotCapabilitiesWaitMillis();
+}
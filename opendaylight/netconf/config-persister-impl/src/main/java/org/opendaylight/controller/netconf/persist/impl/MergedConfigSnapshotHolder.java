@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import com.google.common.base.Optional;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import javax.xml.XMLConstants;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ * Several config snapshots pushed by single edit-config and commit. Modules and services of all
+ * snapshots are merged into single modules and services elements, as config-netconf-connector accepts
+ * only one of each. Snapshots configuring the same module or service instance cannot be merged,
+ * because the result would depend on order of edits.
+ */
+final class MergedConfigSnapshotHolder implements ConfigSnapshotHolder {
+    private static final Logger LOG = LoggerFactory.getLogger(MergedConfigSnapshotHolder.class);
+
+    private static final String SERVICE_KEY = "service";
+
+    private final List<ConfigSnapshotHolder> snapshots = new ArrayList<>();
+    private final SortedSet<String> capabilities = new TreeSet<>();
+    private final Set<String> configuredInstances = new HashSet<>();
+    // namespace + name of top level element -> merged element
+    private final Map<String, Element> topLevelElements = new HashMap<>();
+    private final Document document = XmlUtil.newDocument();
+    private final Element data;
+
+    MergedConfigSnapshotHolder() {
+        data = document.createElement(XmlNetconfConstants.DATA_KEY);
+        document.appendChild(data);
+    }
+
+    /**
+     * Merge snapshot into this one if possible.
+     *
+     * @return false if the snapshot has no capabilities, cannot be parsed, contains something else than modules and services
+     *         or configures an instance already configured by merged snapshots
+     */
+    boolean tryAdd(final ConfigSnapshotHolder snapshot) {
+        if (snapshot.getCapabilities() == null) {
+            // reported when pushed alone
+            return false;
+        }
+
+        Element snapshotElement;
+        try {
+            snapshotElement = XmlUtil.readXmlToElement(snapshot.getConfigSnapshot());
+        } catch (SAXException | IOException e) {
+            LOG.debug("Unable to parse {}, cannot be merged", snapshot, e);
+            return false;
+        }
+
+        Optional<Set<String>> instances = getConfiguredInstances(XmlElement.fromDomElement(snapshotElement));
+        if (instances.isPresent() == false || Collections.disjoint(configuredInstances, instances.get()) == false) {
+            return false;
+        }
+
+        for (XmlElement topLevel : XmlElement.fromDomElement(snapshotElement).getChildElements()) {
+            Element merged = getMergedElement(topLevel);
+            for (XmlElement child : topLevel.getChildElements()) {
+                Element imported = (Element) document.importNode(child.getDomElement(), true);
+                // prefixes in text content, e.g. module types, might be declared on parent elements
+                copyNamespaceDeclarations(topLevel.getDomElement(), imported);
+                copyNamespaceDeclarations(snapshotElement, imported);
+                merged.appendChild(imported);
+            }
+        }
+        configuredInstances.addAll(instances.get());
+        capabilities.addAll(snapshot.getCapabilities());
+        snapshots.add(snapshot);
+        return true;
+    }
+
+    private Element getMergedElement(final XmlElement topLevel) {
+        String key = topLevel.getNamespaceOptionally().or("") + ' ' + topLevel.getName();
+        Element merged = topLevelElements.get(key);
+        if (merged == null) {
+            merged = (Element) document.importNode(topLevel.getDomElement(), false);
+            data.appendChild(merged);
+            topLevelElements.put(key, merged);
+        }
+        return merged;
+    }
+
+    private static void copyNamespaceDeclarations(final Element from, final Element to) {
+        for (Entry<String, Attr> attribute : XmlElement.fromDomElement(from).getAttributes().entrySet()) {
+            if (attribute.getKey().startsWith(XmlUtil.XMLNS_ATTRIBUTE_KEY) && to.hasAttribute(attribute.getKey()) == false) {
+                to.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getKey(), attribute.getValue().getValue());
+            }
+        }
+    }
+
+    /**
+     * @return identifiers of all module and service instances configured by snapshot, absent if the snapshot
+     *         contains anything else
+     */
+    private static Optional<Set<String>> getConfiguredInstances(final XmlElement snapshot) {
+        Set<String> instances = new HashSet<>();
+        try {
+            for (XmlElement topLevel : snapshot.getChildElements()) {
+                if (XmlNetconfConstants.MODULES_KEY.equals(topLevel.getName())) {
+                    for (XmlElement module : topLevel.getChildElements(XmlNetconfConstants.MODULE_KEY)) {
+                        instances.add("module " + getType(module) + ' '
+                                + module.getOnlyChildElement(XmlNetconfConstants.NAME_KEY).getTextContent());
+                    }
+                } else if (XmlNetconfConstants.SERVICES_KEY.equals(topLevel.getName())) {
+                    for (XmlElement service : topLevel.getChildElements(SERVICE_KEY)) {
+                        String type = getType(service);
+                        for (XmlElement instance : service.getChildElements(XmlNetconfConstants.INSTANCE_KEY)) {
+                            instances.add("service " + type + ' '
+                                    + instance.getOnlyChildElement(XmlNetconfConstants.NAME_KEY).getTextContent());
+                        }
+                    }
+                } else {
+                    return Optional.absent();
+                }
+            }
+        } catch (NetconfDocumentedException | IllegalArgumentException e) {
+            LOG.debug("Unexpected content of {}, cannot be merged", snapshot, e);
+            return Optional.absent();
+        }
+        return Optional.of(instances);
+    }
+
+    /**
+     * @return type with prefix replaced by its namespace, so that the same types are equal in all snapshots
+     */
+    private static String getType(final XmlElement element) throws NetconfDocumentedException {
+        XmlElement type = element.getOnlyChildElement(XmlNetconfConstants.TYPE_KEY);
+        Entry<String, String> prefixToNamespace = type.findNamespaceOfTextContent();
+        String text = type.getTextContent();
+        return prefixToNamespace.getValue() + ' ' + text.substring(text.indexOf(':') + 1);
+    }
+
+    List<ConfigSnapshotHolder> getSnapshots() {
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    @Override
+    public String getConfigSnapshot() {
+        return XmlUtil.toString(data);
+    }
+
+    @Override
+    public SortedSet<String> getCapabilities() {
+        return Collections.unmodifiableSortedSet(capabilities);
+    }
+
+    @Override
+    public String toString() {
+        return "MergedConfigSnapshotHolder{" + snapshots + '}';
+    }
+}
@@ -9,15 +9,21 @@
 package org.opendaylight.controller.netconf.persist.impl.osgi;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.JMException;
 import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.opendaylight.controller.config.persist.api.ConfigPusher;
 import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.Persister;
+import org.opendaylight.controller.config.util.ConfigRegistryJMXClient;
 import org.opendaylight.controller.netconf.mapping.api.NetconfOperationServiceFactory;
+import org.opendaylight.controller.netconf.persist.impl.BinaryConfigSnapshotPersister;
 import org.opendaylight.controller.netconf.persist.impl.ConfigPusherImpl;
 import org.opendaylight.controller.netconf.persist.impl.PersisterAggregator;
 import org.opendaylight.controller.netconf.util.CloseableUtil;
@@ -43,6 +49,11 @@ public class ConfigPersisterActivator implements BundleActivator {
     public static final String CONFLICTING_VERSION_TIMEOUT_MILLIS_PROPERTY = "conflictingVersionTimeoutMillis";
     private static final long CONFLICTING_VERSION_TIMEOUT_MILLIS_DEFAULT = TimeUnit.MINUTES.toMillis(1);
 
+    /**
+     * Optional path of binary config snapshot. If set, it is applied on startup instead of XML snapshots when possible.
+     */
+    public static final String BINARY_SNAPSHOT_FILE_PROPERTY = "binarySnapshotFile";
+
     public static final String NETCONF_CONFIG_PERSISTER = "netconf.config.persister";
 
     public static final String STORAGE_ADAPTER_CLASS_PROP_SUFFIX = "storageAdapterClass";
@@ -67,8 +78,10 @@ public class ConfigPersisterActivator implements BundleActivator {
         long conflictingVersionTimeoutMillis = getConflictingVersionTimeoutMillis(propertiesProvider);
         LOG.debug("Following configs will be pushed: {}", configs);
 
+        String binarySnapshotFile = propertiesProvider.getProperty(BINARY_SNAPSHOT_FILE_PROPERTY);
+
         InnerCustomizer innerCustomizer = new InnerCustomizer(configs, maxWaitForCapabilitiesMillis,
-                conflictingVersionTimeoutMillis, persisterAggregator);
+                conflictingVersionTimeoutMillis, persisterAggregator, binarySnapshotFile);
         OuterCustomizer outerCustomizer = new OuterCustomizer(context, innerCustomizer);
         new ServiceTracker<>(context, NetconfOperationServiceFactory.class, outerCustomizer).open();
     }
@@ -140,17 +153,19 @@ public class ConfigPersisterActivator implements BundleActivator {
     class InnerCustomizer implements ServiceTrackerCustomizer<NetconfOperationServiceFactory, NetconfOperationServiceFactory> {
         private final List<ConfigSnapshotHolder> configs;
         private final PersisterAggregator persisterAggregator;
+        private final String binarySnapshotFile;
         private final long maxWaitForCapabilitiesMillis, conflictingVersionTimeoutMillis;
         // This inner customizer has its filter to find the right operation service, but it gets triggered after any
         // operation service appears. This means that it could start pushing thread up to N times (N = number of operation services spawned in OSGi)
         private final AtomicBoolean alreadyStarted = new AtomicBoolean(false);
 
         InnerCustomizer(List<ConfigSnapshotHolder> configs, long maxWaitForCapabilitiesMillis, long conflictingVersionTimeoutMillis,
-                        PersisterAggregator persisterAggregator) {
+                        PersisterAggregator persisterAggregator, String binarySnapshotFile) {
             this.configs = configs;
             this.maxWaitForCapabilitiesMillis = maxWaitForCapabilitiesMillis;
             this.conflictingVersionTimeoutMillis = conflictingVersionTimeoutMillis;
             this.persisterAggregator = persisterAggregator;
+            this.binarySnapshotFile = binarySnapshotFile;
         }
 
         @Override
@@ -165,6 +180,7 @@ public class ConfigPersisterActivator implements BundleActivator {
             LOG.debug("Creating new job queue");
 
             final ConfigPusherImpl configPusher = new ConfigPusherImpl(service, maxWaitForCapabilitiesMillis, conflictingVersionTimeoutMillis);
+            registerToJMX(configPusher);
             LOG.debug("Configuration Persister got {}", service);
             LOG.debug("Context was {}", context);
             LOG.debug("Registration was {}", registration);
@@ -173,12 +189,22 @@ public class ConfigPersisterActivator implements BundleActivator {
                 @Override
                 public void run() {
                     try {
-                        if(configs != null && !configs.isEmpty()) {
+                        BinaryConfigSnapshotPersister binaryPersister = null;
+                        boolean binarySnapshotApplied = false;
+                        if (binarySnapshotFile != null) {
+                            binaryPersister = new BinaryConfigSnapshotPersister(persisterAggregator,
+                                    new File(binarySnapshotFile), new ConfigRegistryJMXClient(platformMBeanServer));
+                            binarySnapshotApplied = configs != null
+                                    && binaryPersister.tryApplySnapshot(configs, maxWaitForCapabilitiesMillis);
+                        }
+                        if(binarySnapshotApplied == false && configs != null && !configs.isEmpty()) {
+                            // binary snapshot is written by the pusher once these configs are pushed
                             configPusher.pushConfigs(configs);
                         }
+                        Persister persister = binaryPersister == null ? persisterAggregator : binaryPersister;
                         if(context != null) {
                             registration = context.registerService(ConfigPusher.class.getName(), configPusher, null);
-                            configPusher.process(autoCloseables, platformMBeanServer, persisterAggregator);
+                            configPusher.process(autoCloseables, platformMBeanServer, persister, binarySnapshotApplied);
                         } else {
                             LOG.warn("Unable to process configs as BundleContext is null");
                         }
@@ -200,6 +226,25 @@ public class ConfigPersisterActivator implements BundleActivator {
             return service;
         }
 
+        private void registerToJMX(ConfigPusherImpl configPusher) {
+            final ObjectName objectName;
+            try {
+                objectName = new ObjectName(ConfigPusherImpl.OBJECT_NAME);
+                platformMBeanServer.registerMBean(configPusher, objectName);
+            } catch (JMException e) {
+                LOG.warn("Unable to register config pusher to JMX, push timings will not be available", e);
+                return;
+            }
+            synchronized (autoCloseables) {
+                autoCloseables.add(new AutoCloseable() {
+                    @Override
+                    public void close() throws JMException {
+                        platformMBeanServer.unregisterMBean(objectName);
+                    }
+                });
+            }
+        }
+
         @Override
         public void modifiedService(ServiceReference<NetconfOperationServiceFactory> reference, NetconfOperationServiceFactory service) {
             LOG.trace("Got InnerCustomizer.modifiedService {}", reference);
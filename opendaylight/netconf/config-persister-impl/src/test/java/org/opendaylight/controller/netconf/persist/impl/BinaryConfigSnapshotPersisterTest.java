@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.config.api.jmx.CommitStatus;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolderImpl;
+import org.opendaylight.controller.config.persist.api.Persister;
+import org.opendaylight.controller.config.util.ConfigRegistryClient;
+import org.opendaylight.controller.config.util.ConfigTransactionClient;
+
+public class BinaryConfigSnapshotPersisterTest {
+
+    private File file;
+    private Persister delegate;
+    private ConfigRegistryClient configRegistryClient;
+    private ConfigTransactionClient transaction;
+    private List<ConfigSnapshotHolder> configs;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("config", ".bin");
+        configs = Collections.<ConfigSnapshotHolder>singletonList(
+                new ConfigSnapshotHolderImpl("<data/>", new TreeSet<>(Sets.newHashSet("cap1")), "config.xml"));
+        delegate = mock(Persister.class);
+        doReturn(configs).when(delegate).loadLastConfigs();
+
+        configRegistryClient = mock(ConfigRegistryClient.class);
+        doReturn(1L).when(configRegistryClient).getVersion();
+        doReturn(Collections.<ObjectName>emptySet()).when(configRegistryClient).lookupConfigBeans();
+        doReturn(Collections.<String, Map<String, ObjectName>>emptyMap()).when(configRegistryClient).getServiceMapping();
+        doReturn(Collections.<String>emptySet()).when(configRegistryClient).getAvailableModuleNames();
+        transaction = mock(ConfigTransactionClient.class);
+        doReturn(transaction).when(configRegistryClient).createTransaction();
+        doReturn(mock(CommitStatus.class)).when(transaction).commit();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testPersistAndApply() throws Exception {
+        BinaryConfigSnapshotPersister persister = new BinaryConfigSnapshotPersister(delegate, file, configRegistryClient);
+        persister.persistConfig(configs.get(0));
+        verify(delegate).persistConfig(configs.get(0));
+
+        assertTrue(persister.tryApplySnapshot(configs, 0));
+        verify(transaction).commit();
+    }
+
+    @Test
+    public void testChangedXmlNotApplied() throws Exception {
+        BinaryConfigSnapshotPersister persister = new BinaryConfigSnapshotPersister(delegate, file, configRegistryClient);
+        persister.saveSnapshot();
+
+        List<ConfigSnapshotHolder> changed = Collections.<ConfigSnapshotHolder>singletonList(
+                new ConfigSnapshotHolderImpl("<data><modules/></data>", new TreeSet<>(Sets.newHashSet("cap1")), "config.xml"));
+        assertFalse(persister.tryApplySnapshot(changed, 0));
+        verify(configRegistryClient, never()).createTransaction();
+    }
+
+    @Test
+    public void testMissingOrBrokenFileNotApplied() throws Exception {
+        BinaryConfigSnapshotPersister persister = new BinaryConfigSnapshotPersister(delegate, file, configRegistryClient);
+        // empty file
+        assertFalse(persister.tryApplySnapshot(configs, 0));
+        file.delete();
+        assertFalse(persister.tryApplySnapshot(configs, 0));
+        verify(configRegistryClient, never()).createTransaction();
+    }
+}
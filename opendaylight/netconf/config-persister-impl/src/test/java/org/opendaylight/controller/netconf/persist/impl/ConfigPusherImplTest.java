@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.Sets;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServerConnection;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.opendaylight.controller.config.api.jmx.CommitStatus;
+import org.opendaylight.controller.config.api.jmx.ObjectNameUtil;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolderImpl;
+import org.opendaylight.controller.config.persist.api.Persister;
+import org.opendaylight.controller.config.util.ConfigRegistryClient;
+import org.opendaylight.controller.config.util.ConfigTransactionClient;
+import org.opendaylight.controller.netconf.api.Capability;
+import org.opendaylight.controller.netconf.mapping.api.HandlingPriority;
+import org.opendaylight.controller.netconf.mapping.api.NetconfOperation;
+import org.opendaylight.controller.netconf.mapping.api.NetconfOperationChainedExecution;
+import org.opendaylight.controller.netconf.mapping.api.NetconfOperationService;
+import org.opendaylight.controller.netconf.mapping.api.NetconfOperationServiceFactory;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+
+public class ConfigPusherImplTest {
+
+    private static final ObjectName MODULE_ON = ObjectNameUtil.createReadOnlyModuleON("factory", "instance");
+
+    private File file;
+    private List<ConfigSnapshotHolder> configs;
+    private NetconfOperationServiceFactory serviceFactory;
+    private ConfigRegistryClient configRegistryClient;
+    private ConfigTransactionClient transaction;
+    private MBeanServerConnection mBeanServer;
+    private final AtomicBoolean pushed = new AtomicBoolean(false);
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("config", ".bin");
+        file.delete();
+        configs = Collections.<ConfigSnapshotHolder>singletonList(
+                new ConfigSnapshotHolderImpl("<data><modules/></data>", new TreeSet<>(Sets.newHashSet("cap1")), "config.xml"));
+
+        final Document ok = XmlUtil.readXmlToDocument(
+                "<rpc-reply message-id=\"1\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><ok/></rpc-reply>");
+        NetconfOperation operation = mock(NetconfOperation.class);
+        doReturn(HandlingPriority.getHandlingPriority(1)).when(operation).canHandle(any(Document.class));
+        doAnswer(new Answer<Document>() {
+            @Override
+            public Document answer(final InvocationOnMock invocation) {
+                pushed.set(true);
+                return ok;
+            }
+        }).when(operation).handle(any(Document.class), any(NetconfOperationChainedExecution.class));
+        NetconfOperationService service = mock(NetconfOperationService.class);
+        doReturn(Collections.singleton(operation)).when(service).getNetconfOperations();
+
+        serviceFactory = mock(NetconfOperationServiceFactory.class);
+        doReturn(service).when(serviceFactory).createService(anyString());
+        Capability capability = mock(Capability.class);
+        doReturn("cap1").when(capability).getCapabilityUri();
+        doReturn(Collections.singleton(capability)).when(serviceFactory).getCapabilities();
+
+        // config registry contains the module only after the XML snapshot was pushed
+        configRegistryClient = mock(ConfigRegistryClient.class);
+        doReturn(1L).when(configRegistryClient).getVersion();
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return pushed.get() ? Collections.singleton(MODULE_ON) : Collections.emptySet();
+            }
+        }).when(configRegistryClient).lookupConfigBeans();
+        doReturn(new MBeanInfo("module", null, new MBeanAttributeInfo[0], null, null, null))
+                .when(configRegistryClient).getAttributeCurrentValue(MODULE_ON, "MBeanInfo");
+        doReturn(Collections.<String, Map<String, ObjectName>>emptyMap()).when(configRegistryClient).getServiceMapping();
+        doReturn(Collections.singleton("factory")).when(configRegistryClient).getAvailableModuleNames();
+        transaction = mock(ConfigTransactionClient.class);
+        doReturn(transaction).when(configRegistryClient).createTransaction();
+        doReturn(mock(CommitStatus.class)).when(transaction).commit();
+
+        mBeanServer = mock(MBeanServerConnection.class);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testBinarySnapshotWrittenAfterPush() throws Exception {
+        Persister delegate = mock(Persister.class);
+        doReturn(configs).when(delegate).loadLastConfigs();
+        BinaryConfigSnapshotPersister persister = new BinaryConfigSnapshotPersister(delegate, file, configRegistryClient);
+        assertFalse(persister.tryApplySnapshot(configs, 0));
+
+        ConfigPusherImpl pusher = new ConfigPusherImpl(serviceFactory, 1000, 1000);
+        pusher.pushConfigs(configs);
+        Thread processThread = startProcessing(pusher, persister, false);
+        verify(mBeanServer, timeout(5000)).addNotificationListener(any(ObjectName.class), any(NotificationListener.class),
+                any(NotificationFilter.class), any());
+        processThread.interrupt();
+        processThread.join();
+
+        // restart with unchanged XML applies the binary snapshot, which has to contain the pushed module
+        BinaryConfigSnapshotPersister restarted = new BinaryConfigSnapshotPersister(delegate, file, configRegistryClient);
+        assertTrue(restarted.tryApplySnapshot(configs, 0));
+        verify(transaction).createModule("factory", "instance");
+    }
+
+    @Test
+    public void testCommitsPersistedAfterBinarySnapshotApplied() throws Exception {
+        ConfigPusherImpl pusher = new ConfigPusherImpl(serviceFactory, 1000, 1000);
+        Thread processThread = startProcessing(pusher, mock(Persister.class), true);
+        verify(mBeanServer, timeout(5000)).addNotificationListener(any(ObjectName.class), any(NotificationListener.class),
+                any(NotificationFilter.class), any());
+        processThread.interrupt();
+        processThread.join();
+    }
+
+    @Test
+    public void testFailedMergedSnapshotsPushedOneByOne() throws Exception {
+        final AtomicInteger badPushes = new AtomicInteger();
+        NetconfOperation operation = mock(NetconfOperation.class);
+        doReturn(HandlingPriority.getHandlingPriority(1)).when(operation).canHandle(any(Document.class));
+        final Document ok = XmlUtil.readXmlToDocument(
+                "<rpc-reply message-id=\"1\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><ok/></rpc-reply>");
+        doAnswer(new Answer<Document>() {
+            @Override
+            public Document answer(final InvocationOnMock invocation) {
+                if (XmlUtil.toString((Document) invocation.getArguments()[0]).contains("bad")) {
+                    badPushes.incrementAndGet();
+                    throw new IllegalArgumentException("bad module");
+                }
+                return ok;
+            }
+        }).when(operation).handle(any(Document.class), any(NetconfOperationChainedExecution.class));
+        NetconfOperationService service = mock(NetconfOperationService.class);
+        doReturn(Collections.singleton(operation)).when(service).getNetconfOperations();
+        doReturn(service).when(serviceFactory).createService(anyString());
+
+        // bad snapshot is the last of mergeable ones
+        List<ConfigSnapshotHolder> snapshots = new ArrayList<>();
+        for (String name : new String[]{"first", "second", "third", "bad"}) {
+            snapshots.add(new ConfigSnapshotHolderImpl("<data xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">"
+                    + "<modules xmlns=\"urn:opendaylight:params:xml:ns:yang:controller:config\"><module>"
+                    + "<type xmlns:prefix=\"urn:impl\">prefix:impl</type><name>" + name + "</name>"
+                    + "</module></modules></data>", new TreeSet<>(Sets.newHashSet("cap1")), name + ".xml"));
+        }
+
+        ConfigPusherImpl pusher = new ConfigPusherImpl(serviceFactory, 1000, 1000);
+        pusher.pushConfigs(snapshots);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Thread processThread = startProcessing(pusher, mock(Persister.class), false, failure);
+        processThread.join(10000);
+
+        assertTrue(failure.get() instanceof IllegalStateException);
+        // once merged, once alone
+        assertEquals(2, badPushes.get());
+    }
+
+    private Thread startProcessing(final ConfigPusherImpl pusher, final Persister persister, final boolean configsApplied) {
+        return startProcessing(pusher, persister, configsApplied, new AtomicReference<RuntimeException>());
+    }
+
+    private Thread startProcessing(final ConfigPusherImpl pusher, final Persister persister, final boolean configsApplied,
+                                   final AtomicReference<RuntimeException> failure) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    pusher.process(new ArrayList<AutoCloseable>(), mBeanServer, persister, configsApplied);
+                } catch (InterruptedException e) {
+                    // test finished
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+}
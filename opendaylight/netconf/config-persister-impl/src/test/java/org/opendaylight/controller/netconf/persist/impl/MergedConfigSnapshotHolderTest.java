@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.netconf.persist.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Sets;
+import java.util.TreeSet;
+import org.junit.Test;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolder;
+import org.opendaylight.controller.config.persist.api.ConfigSnapshotHolderImpl;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+
+public class MergedConfigSnapshotHolderTest {
+
+    private static final String CONFIG_NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:config";
+
+    @Test
+    public void testMerge() throws Exception {
+        MergedConfigSnapshotHolder merged = new MergedConfigSnapshotHolder();
+        assertTrue(merged.tryAdd(snapshot("cap1", module("impl", "data-store", "ds") + service("api", "dom-data-store", "ref_ds"))));
+        assertTrue(merged.tryAdd(snapshot("cap2", module("impl", "broker", "broker"))));
+
+        XmlElement data = XmlElement.fromString(merged.getConfigSnapshot());
+        assertEquals(1, data.getChildElements(XmlNetconfConstants.MODULES_KEY).size());
+        assertEquals(1, data.getChildElements(XmlNetconfConstants.SERVICES_KEY).size());
+        XmlElement modules = data.getOnlyChildElement(XmlNetconfConstants.MODULES_KEY);
+        assertEquals(CONFIG_NAMESPACE, modules.getNamespace());
+        assertEquals(2, modules.getChildElements(XmlNetconfConstants.MODULE_KEY).size());
+        // prefix of type must stay resolvable
+        XmlElement secondType = modules.getChildElements(XmlNetconfConstants.MODULE_KEY).get(1)
+                .getOnlyChildElement(XmlNetconfConstants.TYPE_KEY);
+        assertEquals("urn:impl", secondType.findNamespaceOfTextContent().getValue());
+
+        assertEquals(Sets.newTreeSet(Sets.newHashSet("cap1", "cap2")), merged.getCapabilities());
+        assertEquals(2, merged.getSnapshots().size());
+    }
+
+    @Test
+    public void testSameInstanceNotMerged() throws Exception {
+        MergedConfigSnapshotHolder merged = new MergedConfigSnapshotHolder();
+        assertTrue(merged.tryAdd(snapshot("cap1", module("impl", "data-store", "ds"))));
+        // same type with different prefix
+        assertFalse(merged.tryAdd(snapshot("cap2", module("other", "data-store", "ds").replace("urn:other", "urn:impl"))));
+        assertTrue(merged.tryAdd(snapshot("cap2", module("impl", "data-store", "ds2"))));
+        assertEquals(2, merged.getSnapshots().size());
+    }
+
+    @Test
+    public void testUnknownContentNotMerged() throws Exception {
+        MergedConfigSnapshotHolder merged = new MergedConfigSnapshotHolder();
+        assertFalse(merged.tryAdd(snapshot("cap1", "<unknown xmlns=\"urn:unknown\"/>")));
+        assertFalse(merged.tryAdd(new ConfigSnapshotHolderImpl("<data><modules", new TreeSet<String>(), "broken.xml")));
+        assertTrue(merged.getSnapshots().isEmpty());
+    }
+
+    private static ConfigSnapshotHolder snapshot(final String capability, final String content) {
+        return new ConfigSnapshotHolderImpl("<data xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">" + content + "</data>",
+                new TreeSet<>(Sets.newHashSet(capability)), capability + ".xml");
+    }
+
+    private static String module(final String prefix, final String type, final String name) {
+        return "<modules xmlns=\"" + CONFIG_NAMESPACE + "\"><module>"
+                + "<type xmlns:" + prefix + "=\"urn:" + prefix + "\">" + prefix + ":" + type + "</type>"
+                + "<name>" + name + "</name>"
+                + "</module></modules>";
+    }
+
+    private static String service(final String prefix, final String type, final String name) {
+        return "<services xmlns=\"" + CONFIG_NAMESPACE + "\"><service>"
+                + "<type xmlns:" + prefix + "=\"urn:" + prefix + "\">" + prefix + ":" + type + "</type>"
+                + "<instance><name>" + name + "</name><provider>/modules/module[type='data-store'][name='ds']</provider></instance>"
+                + "</service></services>";
+    }
+}
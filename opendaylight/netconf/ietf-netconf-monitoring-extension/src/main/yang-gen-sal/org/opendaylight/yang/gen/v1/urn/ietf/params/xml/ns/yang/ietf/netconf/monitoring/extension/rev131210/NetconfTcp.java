@@ -0,0 +1,43 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.Transport;
+
+
+/**
+ * NETCONF over TCP.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring-extension&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring-extension.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity netconf-tcp {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring?revision=2010-10-04)transport]";
+ *     description
+ *         "NETCONF over TCP.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring-extension/netconf-tcp&lt;/i&gt;
+ *
+ */
+public abstract class NetconfTcp extends Transport
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring-extension","2013-12-10","netconf-tcp"));
+
+
+    public NetconfTcp() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
@@ -0,0 +1,114 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.concepts.Builder;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1
+ *
+ */
+public class Session1Builder implements Builder <org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1> {
+
+    private java.lang.String _sessionIdentifier;
+
+
+    public Session1Builder() {
+    }
+
+    public Session1Builder(Session1 base) {
+        this._sessionIdentifier = base.getSessionIdentifier();
+    }
+
+
+    public java.lang.String getSessionIdentifier() {
+        return _sessionIdentifier;
+    }
+
+    public Session1Builder setSessionIdentifier(java.lang.String value) {
+        this._sessionIdentifier = value;
+        return this;
+    }
+
+    public Session1 build() {
+        return new Session1Impl(this);
+    }
+
+    private static final class Session1Impl implements Session1 {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1.class;
+        }
+
+        private final java.lang.String _sessionIdentifier;
+
+
+        private Session1Impl(Session1Builder base) {
+            this._sessionIdentifier = base.getSessionIdentifier();
+        }
+
+        @Override
+        public java.lang.String getSessionIdentifier() {
+            return _sessionIdentifier;
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_sessionIdentifier == null) ? 0 : _sessionIdentifier.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1 other = (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1)obj;
+            if (_sessionIdentifier == null) {
+                if (other.getSessionIdentifier() != null) {
+                    return false;
+                }
+            } else if(!_sessionIdentifier.equals(other.getSessionIdentifier())) {
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("Session1 [");
+            boolean first = true;
+        
+            if (_sessionIdentifier != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_sessionIdentifier=");
+                builder.append(_sessionIdentifier);
+             }
+            return builder.append(']').toString();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.ZeroBasedCounter32;
+
+
+/**
+ * Counters that exist both per session, and also globally, accumulated from all 
+ * sessions.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping common-counters {
+ *     leaf in-rpcs {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf in-bad-rpcs {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf out-rpc-errors {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf out-notifications {
+ *         type zero-based-counter32;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/common-counters&lt;/i&gt;
+ *
+ */
+public interface CommonCounters
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","common-counters"));
+
+    /**
+     * Number of correct &lt;rpc&gt; messages received.
+     *
+     */
+    ZeroBasedCounter32 getInRpcs();
+    
+    /**
+     * Number of messages received when an &lt;rpc&gt; message was expected, that were 
+     * not correct &lt;rpc&gt; messages. This includes XML parse errors and errors on 
+     * the rpc layer.
+     *
+     */
+    ZeroBasedCounter32 getInBadRpcs();
+    
+    /**
+     * Number of &lt;rpc-reply&gt; messages sent that contained an &lt;rpc-error&gt; 
+     * element.
+     *
+     */
+    ZeroBasedCounter32 getOutRpcErrors();
+    
+    /**
+     * Number of &lt;notification&gt; messages sent.
+     *
+     */
+    ZeroBasedCounter32 getOutNotifications();
+
+}
+
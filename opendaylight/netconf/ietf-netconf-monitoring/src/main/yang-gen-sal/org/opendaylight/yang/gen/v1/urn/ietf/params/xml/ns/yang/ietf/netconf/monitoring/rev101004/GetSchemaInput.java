@@ -0,0 +1,63 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     leaf identifier {
+ *         type string;
+ *     }
+ *     leaf version {
+ *         type string;
+ *     }
+ *     leaf format {
+ *         type identityref;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/get-schema/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.GetSchemaInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.GetSchemaInputBuilder
+ *
+ */
+public interface GetSchemaInput
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.GetSchemaInput>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","input"));
+
+    /**
+     * Identifier for the schema list entry.
+     *
+     */
+    java.lang.String getIdentifier();
+    
+    /**
+     * Version of the schema requested. If this parameter is not present, and more than
+     * one version of the schema exists on the server, a 'data-not-unique' error is 
+     * returned, as described above.
+     *
+     */
+    java.lang.String getVersion();
+    
+    /**
+     * The data modeling language of the schema. If this parameter is not present, and 
+     * more than one formats of the schema exists on the server, a 'data-not-unique' 
+     * error is returned, as described above.
+     *
+     */
+    java.lang.Class<? extends org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.SchemaFormat> getFormat();
+
+}
+
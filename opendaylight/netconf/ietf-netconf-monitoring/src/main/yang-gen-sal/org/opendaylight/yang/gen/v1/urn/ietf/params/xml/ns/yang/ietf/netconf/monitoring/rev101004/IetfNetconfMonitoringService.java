@@ -0,0 +1,64 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc get-schema {
+ *     "This operation is used to retrieve a schema from the
+ *            NETCONF server.
+ *     
+ *            Positive Response:
+ *              The NETCONF server returns the requested schema.
+ *     
+ *            Negative Response:
+ *              If requested schema does not exist, the &lt;error-tag&gt; is
+ *              'invalid-value'.
+ *     
+ *              If more than one schema matches the requested parameters, the
+ *              &lt;error-tag&gt; is 'operation-failed', and &lt;error-app-tag&gt; is
+ *              'data-not-unique'.";
+ *     input {
+ *         leaf identifier {
+ *             type string;
+ *         }
+ *         leaf version {
+ *             type string;
+ *         }
+ *         leaf format {
+ *             type identityref;
+ *         }
+ *     }
+ *     
+ *     output {
+ *         anyxml data;
+ *     }
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface IetfNetconfMonitoringService
+    extends
+    RpcService
+{
+
+
+
+
+    /**
+     * This operation is used to retrieve a schema from the NETCONF server. Positive 
+     * Response: The NETCONF server returns the requested schema. Negative Response: If
+     * requested schema does not exist, the &lt;error-tag&gt; is 'invalid-value'. If 
+     * more than one schema matches the requested parameters, the &lt;error-tag&gt; is 
+     * 'operation-failed', and &lt;error-app-tag&gt; is 'data-not-unique'.
+     *
+     */
+    Future<RpcResult<GetSchemaOutput>> getSchema(GetSchemaInput input);
+
+}
+
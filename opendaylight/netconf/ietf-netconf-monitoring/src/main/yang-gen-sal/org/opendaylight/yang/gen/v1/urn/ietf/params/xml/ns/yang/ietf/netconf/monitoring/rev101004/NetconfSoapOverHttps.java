@@ -0,0 +1,47 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * NETCONF over Simple Object Access Protocol (SOAP) over Hypertext Transfer 
+ * Protocol Secure (HTTPS).
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity netconf-soap-over-https {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring?revision=2010-10-04)transport]";
+ *     description
+ *         "NETCONF over Simple Object Access Protocol (SOAP)
+ *               over Hypertext Transfer Protocol Secure (HTTPS).";
+ *     reference
+ *         "RFC 4743: Using NETCONF over the Simple Object
+ *                       Access Protocol (SOAP)";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-soap-over-https&lt;/i&gt;
+ *
+ */
+public abstract class NetconfSoapOverHttps extends Transport
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","netconf-soap-over-https"));
+
+
+    public NetconfSoapOverHttps() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
@@ -0,0 +1,45 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * NETCONF over Secure Shell (SSH).
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity netconf-ssh {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring?revision=2010-10-04)transport]";
+ *     description
+ *         "NETCONF over Secure Shell (SSH).";
+ *     reference
+ *         "RFC 4742: Using the NETCONF Configuration Protocol
+ *                       over Secure SHell (SSH)";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-ssh&lt;/i&gt;
+ *
+ */
+public abstract class NetconfSsh extends Transport
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","netconf-ssh"));
+
+
+    public NetconfSsh() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
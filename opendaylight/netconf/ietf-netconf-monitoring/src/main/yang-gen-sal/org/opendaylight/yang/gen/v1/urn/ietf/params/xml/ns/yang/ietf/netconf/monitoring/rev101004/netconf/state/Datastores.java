@@ -0,0 +1,94 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.Datastore;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+
+
+/**
+ * Contains the list of NETCONF configuration datastores.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container datastores {
+ *     list datastore {
+ *         key "name"
+ *         leaf name {
+ *             type netconf-datastore-type;
+ *         }
+ *         container locks {
+ *             choice lock-type {
+ *                 case global-lock {
+ *                     container global-lock {
+ *                         leaf locked-by-session {
+ *                             type uint32;
+ *                         }
+ *                         leaf locked-time {
+ *                             type date-and-time;
+ *                         }
+ *                         uses netconf-state;
+ *                     }
+ *                 }
+ *                 case partial-lock {
+ *                     list partial-lock {
+ *                         key "lock-id"
+ *                         leaf lock-id {
+ *                             type uint32;
+ *                         }
+ *                         leaf locked-by-session {
+ *                             type uint32;
+ *                         }
+ *                         leaf locked-time {
+ *                             type date-and-time;
+ *                         }
+ *                         leaf-list select {
+ *                             type xpath1.0;
+ *                         }
+ *                         leaf-list locked-node {
+ *                             type instance-identifier;
+ *                         }
+ *                         uses netconf-state;
+ *                     }
+ *                 }
+ *             }
+ *             grouping lock-info {
+ *                 leaf locked-by-session {
+ *                     type uint32;
+ *                 }
+ *                 leaf locked-time {
+ *                     type date-and-time;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/datastores&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.DatastoresBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.DatastoresBuilder
+ *
+ */
+public interface Datastores
+    extends
+    ChildOf<NetconfState>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Datastores>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","datastores"));
+
+    /**
+     * List of NETCONF configuration datastores supported by the NETCONF server and 
+     * related information.
+     *
+     */
+    List<Datastore> getDatastore();
+
+}
+
@@ -0,0 +1,76 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.Session;
+
+
+/**
+ * The sessions container includes session-specific data for NETCONF management 
+ * sessions. The session list MUST include all currently active NETCONF sessions.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container sessions {
+ *     list session {
+ *         key "session-id"
+ *         leaf session-id {
+ *             type uint32;
+ *         }
+ *         leaf transport {
+ *             type identityref;
+ *         }
+ *         leaf username {
+ *             type string;
+ *         }
+ *         leaf source-host {
+ *             type host;
+ *         }
+ *         leaf login-time {
+ *             type date-and-time;
+ *         }
+ *         leaf in-rpcs {
+ *             type zero-based-counter32;
+ *         }
+ *         leaf in-bad-rpcs {
+ *             type zero-based-counter32;
+ *         }
+ *         leaf out-rpc-errors {
+ *             type zero-based-counter32;
+ *         }
+ *         leaf out-notifications {
+ *             type zero-based-counter32;
+ *         }
+ *         uses common-counters;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/sessions&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.SessionsBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.SessionsBuilder
+ *
+ */
+public interface Sessions
+    extends
+    ChildOf<NetconfState>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Sessions>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","sessions"));
+
+    /**
+     * All NETCONF sessions managed by the NETCONF server MUST be reported in this 
+     * list.
+     *
+     */
+    List<Session> getSession();
+
+}
+
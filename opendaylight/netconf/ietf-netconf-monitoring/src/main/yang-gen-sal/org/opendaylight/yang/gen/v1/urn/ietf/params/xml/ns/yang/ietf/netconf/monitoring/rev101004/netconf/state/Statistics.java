@@ -0,0 +1,95 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.DateAndTime;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.ZeroBasedCounter32;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.CommonCounters;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+
+
+/**
+ * Statistical data pertaining to the NETCONF server.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container statistics {
+ *     leaf netconf-start-time {
+ *         type date-and-time;
+ *     }
+ *     leaf in-bad-hellos {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf in-sessions {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf dropped-sessions {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf in-rpcs {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf in-bad-rpcs {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf out-rpc-errors {
+ *         type zero-based-counter32;
+ *     }
+ *     leaf out-notifications {
+ *         type zero-based-counter32;
+ *     }
+ *     uses common-counters;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/statistics&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.StatisticsBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.StatisticsBuilder
+ *
+ */
+public interface Statistics
+    extends
+    ChildOf<NetconfState>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Statistics>,
+    CommonCounters
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","statistics"));
+
+    /**
+     * Date and time at which the management subsystem was started.
+     *
+     */
+    DateAndTime getNetconfStartTime();
+    
+    /**
+     * Number of sessions silently dropped because an invalid &lt;hello&gt; message was
+     * received. This includes &lt;hello&gt; messages with a 'session-id' attribute, 
+     * bad namespace, and bad capability declarations.
+     *
+     */
+    ZeroBasedCounter32 getInBadHellos();
+    
+    /**
+     * Number of sessions started. This counter is incremented when a &lt;hello&gt; 
+     * message with a &lt;session-id&gt; is sent. 'in-sessions' - 'in-bad-hellos' = 
+     * 'number of correctly started netconf sessions'
+     *
+     */
+    ZeroBasedCounter32 getInSessions();
+    
+    /**
+     * Number of sessions that were abnormally terminated, e.g., due to idle timeout or
+     * transport close. This counter is not incremented when a session is properly 
+     * closed by a &lt;close-session&gt; operation, or killed by a &lt;kill-session&gt;
+     * operation.
+     *
+     */
+    ZeroBasedCounter32 getDroppedSessions();
+
+}
+
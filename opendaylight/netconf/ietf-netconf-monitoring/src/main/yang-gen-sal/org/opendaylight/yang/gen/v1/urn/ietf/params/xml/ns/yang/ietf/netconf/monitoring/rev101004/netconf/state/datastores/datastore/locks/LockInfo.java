@@ -0,0 +1,51 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.DateAndTime;
+
+
+/**
+ * Lock related parameters, common to both global and partial locks.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping lock-info {
+ *     leaf locked-by-session {
+ *         type uint32;
+ *     }
+ *     leaf locked-time {
+ *         type date-and-time;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/datastores/datastore/locks/lock-info&lt;/i&gt;
+ *
+ */
+public interface LockInfo
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","lock-info"));
+
+    /**
+     * The session ID of the session that has locked this resource. Both a global lock 
+     * and a partial lock MUST contain the NETCONF session-id. If the lock is held by a
+     * session that is not managed by the NETCONF server (e.g., a CLI session), a 
+     * session id of 0 (zero) is reported.
+     *
+     */
+    java.lang.Long getLockedBySession();
+    
+    /**
+     * The date and time of when the resource was locked.
+     *
+     */
+    DateAndTime getLockedTime();
+
+}
+
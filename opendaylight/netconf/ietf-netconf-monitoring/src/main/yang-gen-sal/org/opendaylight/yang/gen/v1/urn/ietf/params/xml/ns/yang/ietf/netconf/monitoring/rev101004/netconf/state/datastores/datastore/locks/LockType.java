@@ -0,0 +1,62 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Indicates if a global lock or a set of partial locks are set.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * choice lock-type {
+ *     case global-lock {
+ *         container global-lock {
+ *             leaf locked-by-session {
+ *                 type uint32;
+ *             }
+ *             leaf locked-time {
+ *                 type date-and-time;
+ *             }
+ *             uses netconf-state;
+ *         }
+ *     }
+ *     case partial-lock {
+ *         list partial-lock {
+ *             key "lock-id"
+ *             leaf lock-id {
+ *                 type uint32;
+ *             }
+ *             leaf locked-by-session {
+ *                 type uint32;
+ *             }
+ *             leaf locked-time {
+ *                 type date-and-time;
+ *             }
+ *             leaf-list select {
+ *                 type xpath1.0;
+ *             }
+ *             leaf-list locked-node {
+ *                 type instance-identifier;
+ *             }
+ *             uses netconf-state;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/datastores/datastore/locks/lock-type&lt;/i&gt;
+ *
+ */
+public interface LockType
+    extends
+    DataContainer
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","lock-type"));
+
+
+}
+
@@ -0,0 +1,57 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks.lock.type;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks.LockType;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-monitoring&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-monitoring.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * case partial-lock {
+ *     list partial-lock {
+ *         key "lock-id"
+ *         leaf lock-id {
+ *             type uint32;
+ *         }
+ *         leaf locked-by-session {
+ *             type uint32;
+ *         }
+ *         leaf locked-time {
+ *             type date-and-time;
+ *         }
+ *         leaf-list select {
+ *             type xpath1.0;
+ *         }
+ *         leaf-list locked-node {
+ *             type instance-identifier;
+ *         }
+ *         uses netconf-state;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-monitoring/netconf-state/datastores/datastore/locks/lock-type/partial-lock&lt;/i&gt;
+ *
+ */
+public interface PartialLock
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks.lock.type.PartialLock>,
+    LockType
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring","2010-10-04","partial-lock"));
+
+    /**
+     * List of partial locks.
+     *
+     */
+    List<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.datastores.datastore.locks.lock.type.partial.lock.PartialLock> getPartialLock();
+
+}
+
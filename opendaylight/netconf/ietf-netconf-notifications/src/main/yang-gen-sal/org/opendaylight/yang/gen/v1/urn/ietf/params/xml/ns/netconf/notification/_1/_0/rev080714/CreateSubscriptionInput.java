@@ -0,0 +1,66 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.DateAndTime;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     leaf stream {
+ *         type streamNameType;
+ *     }
+ *     anyxml filter;
+ *     leaf startTime {
+ *         type date-and-time;
+ *     }
+ *     leaf stopTime {
+ *         type date-and-time;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;notifications/create-subscription/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInputBuilder
+ *
+ */
+public interface CreateSubscriptionInput
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInput>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:notification:1.0","2008-07-14","input"));
+
+    /**
+     * An optional parameter that indicates which stream of events is of interest. If 
+     * not present, then events in the default NETCONF stream will be sent.
+     *
+     */
+    StreamNameType getStream();
+    
+    /**
+     * A parameter used to trigger the replay feature and indicates that the replay 
+     * should start at the time specified. If start time is not present, this is not a 
+     * replay subscription.
+     *
+     */
+    DateAndTime getStartTime();
+    
+    /**
+     * An optional parameter used with the optional replay feature to indicate the 
+     * newest notifications of interest. If stop time is not present, the notifications
+     * will continue until the subscription is terminated. Must be used with startTime.
+     *
+     */
+    DateAndTime getStopTime();
+
+}
+
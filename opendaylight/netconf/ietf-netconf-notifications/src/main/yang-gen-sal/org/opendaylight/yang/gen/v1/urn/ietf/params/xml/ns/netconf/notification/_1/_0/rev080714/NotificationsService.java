@@ -0,0 +1,56 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc create-subscription {
+ *     "The command to create a notification subscription. It
+ *              takes as argument the name of the notification stream
+ *              and filter. Both of those options limit the content of
+ *              the subscription. In addition, there are two time-related
+ *              parameters, startTime and stopTime, which can be used to
+ *              select the time interval of interest to the notification
+ *              replay feature.";
+ *     input {
+ *         leaf stream {
+ *             type streamNameType;
+ *         }
+ *         anyxml filter;
+ *         leaf startTime {
+ *             type date-and-time;
+ *         }
+ *         leaf stopTime {
+ *             type date-and-time;
+ *         }
+ *     }
+ *     
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface NotificationsService
+    extends
+    RpcService
+{
+
+
+
+
+    /**
+     * The command to create a notification subscription. It takes as argument the name
+     * of the notification stream and filter. Both of those options limit the content 
+     * of the subscription. In addition, there are two time-related parameters, 
+     * startTime and stopTime, which can be used to select the time interval of 
+     * interest to the notification replay feature.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> createSubscription(CreateSubscriptionInput input);
+
+}
+
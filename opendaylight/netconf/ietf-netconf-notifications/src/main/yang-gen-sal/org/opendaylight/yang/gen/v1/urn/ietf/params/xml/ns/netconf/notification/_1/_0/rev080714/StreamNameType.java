@@ -0,0 +1,95 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714;
+import java.io.Serializable;
+import java.beans.ConstructorProperties;
+import com.google.common.base.Preconditions;
+
+
+/**
+ * The name of an event stream.
+ *
+ */
+public class StreamNameType
+ implements Serializable {
+    private static final long serialVersionUID = 2107824323962254690L;
+    private final java.lang.String _value;
+
+
+    @ConstructorProperties("value")
+    public StreamNameType(java.lang.String _value) {
+    
+    
+        Preconditions.checkNotNull(_value, "Supplied value may not be null");
+    
+    
+        this._value = _value;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public StreamNameType(StreamNameType source) {
+        this._value = source._value;
+    }
+
+    public static StreamNameType getDefaultInstance(String defaultValue) {
+        return new StreamNameType(defaultValue);
+    }
+
+    public java.lang.String getValue() {
+        return _value;
+    }
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_value == null) ? 0 : _value.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        StreamNameType other = (StreamNameType) obj;
+        if (_value == null) {
+            if (other._value != null) {
+                return false;
+            }
+        } else if(!_value.equals(other._value)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_value != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_value=");
+            builder.append(_value);
+         }
+        return builder.append(']').toString();
+    }
+
+
+
+}
+
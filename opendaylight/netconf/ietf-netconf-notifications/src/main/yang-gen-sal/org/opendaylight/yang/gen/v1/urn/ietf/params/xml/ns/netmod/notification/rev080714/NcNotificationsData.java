@@ -0,0 +1,76 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714;
+import org.opendaylight.yangtools.yang.binding.DataRoot;
+
+
+/**
+ * Conversion of the 'manageEvent' XSD in the NETCONF Notifications RFC.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;nc-notifications&lt;/b&gt;
+ * &lt;br&gt;Source path: &lt;i&gt;META-INF/yang/nc-notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * module nc-notifications {
+ *     yang-version 1;
+ *     namespace "urn:ietf:params:xml:ns:netmod:notification";
+ *     prefix "manageEvent";
+ *
+ *     import notifications { prefix "ncEvent"; }
+ *     
+ *     import ietf-yang-types { prefix "yang"; }
+ *     revision 2008-07-14 {
+ *         description "Conversion of the 'manageEvent' XSD in the NETCONF Notifications RFC.
+ *         ";
+ *     }
+ *
+ *     container netconf {
+ *         container streams {
+ *             list stream {
+ *                 key "name"
+ *                 leaf name {
+ *                     type streamNameType;
+ *                 }
+ *                 leaf description {
+ *                     type string;
+ *                 }
+ *                 leaf replaySupport {
+ *                     type boolean;
+ *                 }
+ *                 leaf replayLogCreationTime {
+ *                     type date-and-time;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *
+ *     notification notificationComplete {
+ *         description
+ *             "This notification is sent to signal the end of a notification
+ *                      subscription. It is sent in the case that stopTime was
+ *                      specified during the creation of the subscription..";
+ *         status CURRENT;
+ *     }
+ *     notification replayComplete {
+ *         description
+ *             "This notification is sent to signal the end of a replay
+ *                      portion of a subscription.";
+ *         status CURRENT;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface NcNotificationsData
+    extends
+    DataRoot
+{
+
+
+
+
+    /**
+     * Top-level element in the notification namespace
+     *
+     */
+    Netconf getNetconf();
+
+}
+
@@ -0,0 +1,49 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714;
+import org.opendaylight.yangtools.yang.binding.NotificationListener;
+
+
+/**
+ * Interface for receiving the following YANG notifications defined in module &lt;b&gt;nc-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/nc-notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification notificationComplete {
+ *     description
+ *         "This notification is sent to signal the end of a notification
+ *                  subscription. It is sent in the case that stopTime was
+ *                  specified during the creation of the subscription..";
+ *     status CURRENT;
+ * }
+ * notification replayComplete {
+ *     description
+ *         "This notification is sent to signal the end of a replay
+ *                  portion of a subscription.";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface NcNotificationsListener
+    extends
+    NotificationListener
+{
+
+
+
+
+    /**
+     * This notification is sent to signal the end of a notification subscription. It 
+     * is sent in the case that stopTime was specified during the creation of the 
+     * subscription..
+     *
+     */
+    void onNotificationComplete(NotificationComplete notification);
+    
+    /**
+     * This notification is sent to signal the end of a replay portion of a 
+     * subscription.
+     *
+     */
+    void onReplayComplete(ReplayComplete notification);
+
+}
+
@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+
+/**
+ * This notification is sent to signal the end of a notification subscription. It 
+ * is sent in the case that stopTime was specified during the creation of the 
+ * subscription..
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;nc-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/nc-notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification notificationComplete {
+ *     description
+ *         "This notification is sent to signal the end of a notification
+ *                  subscription. It is sent in the case that stopTime was
+ *                  specified during the creation of the subscription..";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;nc-notifications/notificationComplete&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationCompleteBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationCompleteBuilder
+ *
+ */
+public interface NotificationComplete
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationComplete>,
+    Notification
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netmod:notification","2008-07-14","notificationComplete"));
+
+
+}
+
@@ -0,0 +1,59 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.Netconf;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.Stream;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * The list of event streams supported by the system. When a query is issued, the 
+ * returned set of streams is determined based on user privileges.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;nc-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/nc-notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container streams {
+ *     list stream {
+ *         key "name"
+ *         leaf name {
+ *             type streamNameType;
+ *         }
+ *         leaf description {
+ *             type string;
+ *         }
+ *         leaf replaySupport {
+ *             type boolean;
+ *         }
+ *         leaf replayLogCreationTime {
+ *             type date-and-time;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;nc-notifications/netconf/streams&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.StreamsBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.StreamsBuilder
+ *
+ */
+public interface Streams
+    extends
+    ChildOf<Netconf>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.Streams>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netmod:notification","2008-07-14","streams"));
+
+    /**
+     * Stream name, description and other information.
+     *
+     */
+    List<Stream> getStream();
+
+}
+
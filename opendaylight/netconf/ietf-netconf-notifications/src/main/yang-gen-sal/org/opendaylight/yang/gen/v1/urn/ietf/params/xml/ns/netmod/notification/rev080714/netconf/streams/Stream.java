@@ -0,0 +1,89 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev100924.DateAndTime;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.Streams;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+
+
+/**
+ * Stream name, description and other information.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;nc-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/nc-notifications@2008-07-14.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * list stream {
+ *     key "name"
+ *     leaf name {
+ *         type streamNameType;
+ *     }
+ *     leaf description {
+ *         type string;
+ *     }
+ *     leaf replaySupport {
+ *         type boolean;
+ *     }
+ *     leaf replayLogCreationTime {
+ *         type date-and-time;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;nc-notifications/netconf/streams/stream&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.StreamBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.StreamBuilder
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.StreamKey
+ *
+ */
+public interface Stream
+    extends
+    ChildOf<Streams>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.Stream>,
+    Identifiable<StreamKey>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netmod:notification","2008-07-14","stream"));
+
+    /**
+     * The name of the event stream. If this is the default NETCONF stream, this must 
+     * have the value 'NETCONF'.
+     *
+     */
+    StreamNameType getName();
+    
+    /**
+     * A description of the event stream, including such information as the type of 
+     * events that are sent over this stream.
+     *
+     */
+    java.lang.String getDescription();
+    
+    /**
+     * A description of the event stream, including such information as the type of 
+     * events that are sent over this stream.
+     *
+     */
+    java.lang.Boolean isReplaySupport();
+    
+    /**
+     * The timestamp of the creation of the log used to support the replay function on 
+     * this stream. Note that this might be earlier then the earliest available 
+     * notification in the log. This object is updated if the log resets for some 
+     * reason. This object MUST be present if replay is supported.
+     *
+     */
+    DateAndTime getReplayLogCreationTime();
+    
+    /**
+     * Returns Primary Key of Yang List Type
+     *
+     */
+    StreamKey getKey();
+
+}
+
@@ -0,0 +1,60 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.changed.by.parms.ChangedBy;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * Common parameters to identify the source of a change event, such as a 
+ * configuration or capability change.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping changed-by-parms {
+ *     container changed-by {
+ *         choice server-or-user {
+ *             case by-user {
+ *                 leaf username {
+ *                     type string;
+ *                 }
+ *                 leaf session-id {
+ *                     type session-id-or-zero-type;
+ *                 }
+ *                 leaf source-host {
+ *                     type ip-address;
+ *                 }
+ *             }
+ *             case server {
+ *                 leaf server {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/changed-by-parms&lt;/i&gt;
+ *
+ */
+public interface ChangedByParms
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","changed-by-parms"));
+
+    /**
+     * Indicates the source of the change. If caused by internal action, then the empty
+     * leaf 'server' will be present. If caused by a management session, then the name,
+     * remote host address, and session ID of the session that made the change will be 
+     * reported.
+     *
+     */
+    ChangedBy getChangedBy();
+
+}
+
@@ -0,0 +1,59 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdOrZeroType;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.IpAddress;
+
+
+/**
+ * Common session parameters to identify a management session.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * grouping common-session-parms {
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/common-session-parms&lt;/i&gt;
+ *
+ */
+public interface CommonSessionParms
+    extends
+    DataObject
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","common-session-parms"));
+
+    /**
+     * Name of the user for the session.
+     *
+     */
+    java.lang.String getUsername();
+    
+    /**
+     * Identifier of the session. A NETCONF session MUST be identified by a non-zero 
+     * value. A non-NETCONF session MAY be identified by the value zero.
+     *
+     */
+    SessionIdOrZeroType getSessionId();
+    
+    /**
+     * Address of the remote host for the session.
+     *
+     */
+    IpAddress getSourceHost();
+
+}
+
@@ -0,0 +1,221 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.NotificationListener;
+
+
+/**
+ * Interface for receiving the following YANG notifications defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification netconf-capability-change {
+ *     description
+ *         "Generated when the NETCONF server detects that
+ *                the server capabilities have changed.
+ *                Indicates which capabilities have been added, deleted,
+ *                and/or modified.  The manner in which a server
+ *                capability is changed is outside the scope of this
+ *                document.";
+ *     container changed-by {
+ *         choice server-or-user {
+ *             case by-user {
+ *                 leaf username {
+ *                     type string;
+ *                 }
+ *                 leaf session-id {
+ *                     type session-id-or-zero-type;
+ *                 }
+ *                 leaf source-host {
+ *                     type ip-address;
+ *                 }
+ *             }
+ *             case server {
+ *                 leaf server {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf-list added-capability {
+ *         type uri;
+ *     }
+ *     leaf-list deleted-capability {
+ *         type uri;
+ *     }
+ *     leaf-list modified-capability {
+ *         type uri;
+ *     }
+ *     uses changed-by-parms;
+ *     status CURRENT;
+ * }
+ * notification netconf-config-change {
+ *     description
+ *         "Generated when the NETCONF server detects that the
+ *                &lt;running&gt; or &lt;startup&gt; configuration datastore
+ *                has been changed by a management session.
+ *                The notification summarizes the edits that
+ *                have been detected.
+ *         
+ *                The server MAY choose to also generate this
+ *                notification while loading a datastore during the
+ *                boot process for the device.";
+ *     container changed-by {
+ *         choice server-or-user {
+ *             case by-user {
+ *                 leaf username {
+ *                     type string;
+ *                 }
+ *                 leaf session-id {
+ *                     type session-id-or-zero-type;
+ *                 }
+ *                 leaf source-host {
+ *                     type ip-address;
+ *                 }
+ *             }
+ *             case server {
+ *                 leaf server {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf datastore {
+ *         type enumeration;
+ *     }
+ *     list edit {
+ *         key     leaf target {
+ *             type instance-identifier;
+ *         }
+ *         leaf operation {
+ *             type edit-operation-type;
+ *         }
+ *     }
+ *     uses changed-by-parms;
+ *     status CURRENT;
+ * }
+ * notification netconf-confirmed-commit {
+ *     description
+ *         "Generated when a NETCONF server detects that a
+ *                confirmed-commit event has occurred.  Indicates the event
+ *                and the current state of the confirmed-commit procedure
+ *                in progress.";
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ *     leaf confirm-event {
+ *         type enumeration;
+ *     }
+ *     leaf timeout {
+ *         type uint32;
+ *     }
+ *     uses common-session-parms;
+ *     reference
+ *         "RFC 6241, Section 8.4";
+ *     status CURRENT;
+ * }
+ * notification netconf-session-end {
+ *     description
+ *         "Generated when a NETCONF server detects that a
+ *                NETCONF session has terminated.
+ *                A server MAY optionally generate this event for
+ *                non-NETCONF management sessions.  Indicates the
+ *                identity of the user that owned the session,
+ *                and why the session was terminated.";
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ *     leaf killed-by {
+ *         type session-id-type;
+ *     }
+ *     leaf termination-reason {
+ *         type enumeration;
+ *     }
+ *     uses common-session-parms;
+ *     status CURRENT;
+ * }
+ * notification netconf-session-start {
+ *     description
+ *         "Generated when a NETCONF server detects that a
+ *                NETCONF session has started.  A server MAY generate
+ *                this event for non-NETCONF management sessions.
+ *                Indicates the identity of the user that started
+ *                the session.";
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ *     uses common-session-parms;
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface IetfNetconfNotificationsListener
+    extends
+    NotificationListener
+{
+
+
+
+
+    /**
+     * Generated when the NETCONF server detects that the server capabilities have 
+     * changed. Indicates which capabilities have been added, deleted, and/or modified.
+     * The manner in which a server capability is changed is outside the scope of this 
+     * document.
+     *
+     */
+    void onNetconfCapabilityChange(NetconfCapabilityChange notification);
+    
+    /**
+     * Generated when the NETCONF server detects that the &lt;running&gt; or 
+     * &lt;startup&gt; configuration datastore has been changed by a management 
+     * session. The notification summarizes the edits that have been detected. The 
+     * server MAY choose to also generate this notification while loading a datastore 
+     * during the boot process for the device.
+     *
+     */
+    void onNetconfConfigChange(NetconfConfigChange notification);
+    
+    /**
+     * Generated when a NETCONF server detects that a confirmed-commit event has 
+     * occurred. Indicates the event and the current state of the confirmed-commit 
+     * procedure in progress.
+     *
+     */
+    void onNetconfConfirmedCommit(NetconfConfirmedCommit notification);
+    
+    /**
+     * Generated when a NETCONF server detects that a NETCONF session has terminated. A
+     * server MAY optionally generate this event for non-NETCONF management sessions. 
+     * Indicates the identity of the user that owned the session, and why the session 
+     * was terminated.
+     *
+     */
+    void onNetconfSessionEnd(NetconfSessionEnd notification);
+    
+    /**
+     * Generated when a NETCONF server detects that a NETCONF session has started. A 
+     * server MAY generate this event for non-NETCONF management sessions. Indicates 
+     * the identity of the user that started the session.
+     *
+     */
+    void onNetconfSessionStart(NetconfSessionStart notification);
+
+}
+
@@ -0,0 +1,101 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.Uri;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+
+/**
+ * Generated when the NETCONF server detects that the server capabilities have 
+ * changed. Indicates which capabilities have been added, deleted, and/or modified.
+ * The manner in which a server capability is changed is outside the scope of this 
+ * document.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification netconf-capability-change {
+ *     description
+ *         "Generated when the NETCONF server detects that
+ *                the server capabilities have changed.
+ *                Indicates which capabilities have been added, deleted,
+ *                and/or modified.  The manner in which a server
+ *                capability is changed is outside the scope of this
+ *                document.";
+ *     container changed-by {
+ *         choice server-or-user {
+ *             case by-user {
+ *                 leaf username {
+ *                     type string;
+ *                 }
+ *                 leaf session-id {
+ *                     type session-id-or-zero-type;
+ *                 }
+ *                 leaf source-host {
+ *                     type ip-address;
+ *                 }
+ *             }
+ *             case server {
+ *                 leaf server {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf-list added-capability {
+ *         type uri;
+ *     }
+ *     leaf-list deleted-capability {
+ *         type uri;
+ *     }
+ *     leaf-list modified-capability {
+ *         type uri;
+ *     }
+ *     uses changed-by-parms;
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/netconf-capability-change&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChangeBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChangeBuilder
+ *
+ */
+public interface NetconfCapabilityChange
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>,
+    ChangedByParms,
+    Notification
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","netconf-capability-change"));
+
+    /**
+     * List of capabilities that have just been added.
+     *
+     */
+    List<Uri> getAddedCapability();
+    
+    /**
+     * List of capabilities that have just been deleted.
+     *
+     */
+    List<Uri> getDeletedCapability();
+    
+    /**
+     * List of capabilities that have just been modified. A capability is considered to
+     * be modified if the base URI for the capability has not changed, but one or more 
+     * of the parameters encoded at the end of the capability URI have changed. The new
+     * modified value of the complete URI is returned.
+     *
+     */
+    List<Uri> getModifiedCapability();
+
+}
+
@@ -0,0 +1,344 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.changed.by.parms.ChangedBy;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.util.List;
+import java.util.Collections;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.Uri;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange
+ *
+ */
+public class NetconfCapabilityChangeBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange> {
+
+    private List<Uri> _addedCapability;
+    private ChangedBy _changedBy;
+    private List<Uri> _deletedCapability;
+    private List<Uri> _modifiedCapability;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> augmentation = Collections.emptyMap();
+
+    public NetconfCapabilityChangeBuilder() {
+    }
+    public NetconfCapabilityChangeBuilder(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.ChangedByParms arg) {
+        this._changedBy = arg.getChangedBy();
+    }
+
+    public NetconfCapabilityChangeBuilder(NetconfCapabilityChange base) {
+        this._addedCapability = base.getAddedCapability();
+        this._changedBy = base.getChangedBy();
+        this._deletedCapability = base.getDeletedCapability();
+        this._modifiedCapability = base.getModifiedCapability();
+        if (base instanceof NetconfCapabilityChangeImpl) {
+            NetconfCapabilityChangeImpl impl = (NetconfCapabilityChangeImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+    /**
+     *Set fields from given grouping argument. Valid argument is instance of one of following types:
+     * <ul>
+     * <li>org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.ChangedByParms</li>
+     * </ul>
+     *
+     * @param arg grouping object
+     * @throws IllegalArgumentException if given argument is none of valid types
+    */
+    public void fieldsFrom(DataObject arg) {
+        boolean isValidArg = false;
+        if (arg instanceof org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.ChangedByParms) {
+            this._changedBy = ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.ChangedByParms)arg).getChangedBy();
+            isValidArg = true;
+        }
+        if (!isValidArg) {
+            throw new IllegalArgumentException(
+              "expected one of: [org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.ChangedByParms] \n" +
+              "but was: " + arg
+            );
+        }
+    }
+
+    public List<Uri> getAddedCapability() {
+        return _addedCapability;
+    }
+    
+    public ChangedBy getChangedBy() {
+        return _changedBy;
+    }
+    
+    public List<Uri> getDeletedCapability() {
+        return _deletedCapability;
+    }
+    
+    public List<Uri> getModifiedCapability() {
+        return _modifiedCapability;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    public NetconfCapabilityChangeBuilder setAddedCapability(List<Uri> value) {
+        this._addedCapability = value;
+        return this;
+    }
+    
+    public NetconfCapabilityChangeBuilder setChangedBy(ChangedBy value) {
+        this._changedBy = value;
+        return this;
+    }
+    
+    public NetconfCapabilityChangeBuilder setDeletedCapability(List<Uri> value) {
+        this._deletedCapability = value;
+        return this;
+    }
+    
+    public NetconfCapabilityChangeBuilder setModifiedCapability(List<Uri> value) {
+        this._modifiedCapability = value;
+        return this;
+    }
+    
+    public NetconfCapabilityChangeBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public NetconfCapabilityChangeBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public NetconfCapabilityChange build() {
+        return new NetconfCapabilityChangeImpl(this);
+    }
+
+    private static final class NetconfCapabilityChangeImpl implements NetconfCapabilityChange {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange.class;
+        }
+
+        private final List<Uri> _addedCapability;
+        private final ChangedBy _changedBy;
+        private final List<Uri> _deletedCapability;
+        private final List<Uri> _modifiedCapability;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> augmentation = Collections.emptyMap();
+
+        private NetconfCapabilityChangeImpl(NetconfCapabilityChangeBuilder base) {
+            this._addedCapability = base.getAddedCapability();
+            this._changedBy = base.getChangedBy();
+            this._deletedCapability = base.getDeletedCapability();
+            this._modifiedCapability = base.getModifiedCapability();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public List<Uri> getAddedCapability() {
+            return _addedCapability;
+        }
+        
+        @Override
+        public ChangedBy getChangedBy() {
+            return _changedBy;
+        }
+        
+        @Override
+        public List<Uri> getDeletedCapability() {
+            return _deletedCapability;
+        }
+        
+        @Override
+        public List<Uri> getModifiedCapability() {
+            return _modifiedCapability;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_addedCapability == null) ? 0 : _addedCapability.hashCode());
+            result = prime * result + ((_changedBy == null) ? 0 : _changedBy.hashCode());
+            result = prime * result + ((_deletedCapability == null) ? 0 : _deletedCapability.hashCode());
+            result = prime * result + ((_modifiedCapability == null) ? 0 : _modifiedCapability.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange other = (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange)obj;
+            if (_addedCapability == null) {
+                if (other.getAddedCapability() != null) {
+                    return false;
+                }
+            } else if(!_addedCapability.equals(other.getAddedCapability())) {
+                return false;
+            }
+            if (_changedBy == null) {
+                if (other.getChangedBy() != null) {
+                    return false;
+                }
+            } else if(!_changedBy.equals(other.getChangedBy())) {
+                return false;
+            }
+            if (_deletedCapability == null) {
+                if (other.getDeletedCapability() != null) {
+                    return false;
+                }
+            } else if(!_deletedCapability.equals(other.getDeletedCapability())) {
+                return false;
+            }
+            if (_modifiedCapability == null) {
+                if (other.getModifiedCapability() != null) {
+                    return false;
+                }
+            } else if(!_modifiedCapability.equals(other.getModifiedCapability())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                NetconfCapabilityChangeImpl otherImpl = (NetconfCapabilityChangeImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("NetconfCapabilityChange [");
+            boolean first = true;
+        
+            if (_addedCapability != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_addedCapability=");
+                builder.append(_addedCapability);
+             }
+            if (_changedBy != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_changedBy=");
+                builder.append(_changedBy);
+             }
+            if (_deletedCapability != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_deletedCapability=");
+                builder.append(_deletedCapability);
+             }
+            if (_modifiedCapability != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_modifiedCapability=");
+                builder.append(_modifiedCapability);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChange.Datastore;
+import org.opendaylight.yangtools.yang.common.QName;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.netconf.config.change.Edit;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+
+/**
+ * Generated when the NETCONF server detects that the &lt;running&gt; or &lt;startup&gt; 
+ * configuration datastore has been changed by a management session. The 
+ * notification summarizes the edits that have been detected. The server MAY choose
+ * to also generate this notification while loading a datastore during the boot 
+ * process for the device.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification netconf-config-change {
+ *     description
+ *         "Generated when the NETCONF server detects that the
+ *                &lt;running&gt; or &lt;startup&gt; configuration datastore
+ *                has been changed by a management session.
+ *                The notification summarizes the edits that
+ *                have been detected.
+ *         
+ *                The server MAY choose to also generate this
+ *                notification while loading a datastore during the
+ *                boot process for the device.";
+ *     container changed-by {
+ *         choice server-or-user {
+ *             case by-user {
+ *                 leaf username {
+ *                     type string;
+ *                 }
+ *                 leaf session-id {
+ *                     type session-id-or-zero-type;
+ *                 }
+ *                 leaf source-host {
+ *                     type ip-address;
+ *                 }
+ *             }
+ *             case server {
+ *                 leaf server {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf datastore {
+ *         type enumeration;
+ *     }
+ *     list edit {
+ *         key     leaf target {
+ *             type instance-identifier;
+ *         }
+ *         leaf operation {
+ *             type edit-operation-type;
+ *         }
+ *     }
+ *     uses changed-by-parms;
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/netconf-config-change&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChangeBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChangeBuilder
+ *
+ */
+public interface NetconfConfigChange
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChange>,
+    ChangedByParms,
+    Notification
+{
+
+
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum Datastore {
+        /**
+         * The &amp;lt;running&amp;gt; datastore has changed.
+         *
+         */
+        Running(0),
+        
+        /**
+         * The &amp;lt;startup&amp;gt; datastore has changed
+         *
+         */
+        Startup(1)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, Datastore> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, Datastore> b = com.google.common.collect.ImmutableMap.builder();
+            for (Datastore enumItem : Datastore.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private Datastore(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding Datastore item
+         */
+        public static Datastore forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","netconf-config-change"));
+
+    /**
+     * Indicates which configuration datastore has changed.
+     *
+     */
+    Datastore getDatastore();
+    
+    /**
+     * An edit record SHOULD be present for each distinct edit operation that the 
+     * server has detected on the target datastore. This list MAY be omitted if the 
+     * detailed edit operations are not known. The server MAY report entries in this 
+     * list for changes not made by a NETCONF session (e.g., CLI).
+     *
+     */
+    List<Edit> getEdit();
+
+}
+
@@ -0,0 +1,151 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfirmedCommit.ConfirmEvent;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+
+/**
+ * Generated when a NETCONF server detects that a confirmed-commit event has 
+ * occurred. Indicates the event and the current state of the confirmed-commit 
+ * procedure in progress.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification netconf-confirmed-commit {
+ *     description
+ *         "Generated when a NETCONF server detects that a
+ *                confirmed-commit event has occurred.  Indicates the event
+ *                and the current state of the confirmed-commit procedure
+ *                in progress.";
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ *     leaf confirm-event {
+ *         type enumeration;
+ *     }
+ *     leaf timeout {
+ *         type uint32;
+ *     }
+ *     uses common-session-parms;
+ *     reference
+ *         "RFC 6241, Section 8.4";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/netconf-confirmed-commit&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfirmedCommitBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfirmedCommitBuilder
+ *
+ */
+public interface NetconfConfirmedCommit
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfirmedCommit>,
+    CommonSessionParms,
+    Notification
+{
+
+
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum ConfirmEvent {
+        /**
+         * The confirmed-commit procedure has started.
+         *
+         */
+        Start(0),
+        
+        /**
+         * The confirmed-commit procedure has been canceled, e.g., due to the session 
+         * beingterminated, or an explicit &amp;lt;cancel-commit&amp;gt; operation.
+         *
+         */
+        Cancel(1),
+        
+        /**
+         * The confirmed-commit procedure has been canceled due to the confirm-timeout 
+         * interval expiring. The common session parameters will not be present in this 
+         * sub-mode.
+         *
+         */
+        Timeout(2),
+        
+        /**
+         * The confirmed-commit timeout has been extended, e.g., by a new 
+         * &amp;lt;confirmed-commit&amp;gt; operation.
+         *
+         */
+        Extend(3),
+        
+        /**
+         * The confirmed-commit procedure has been completed.
+         *
+         */
+        Complete(4)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, ConfirmEvent> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, ConfirmEvent> b = com.google.common.collect.ImmutableMap.builder();
+            for (ConfirmEvent enumItem : ConfirmEvent.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private ConfirmEvent(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding ConfirmEvent item
+         */
+        public static ConfirmEvent forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","netconf-confirmed-commit"));
+
+    /**
+     * Indicates the event that caused the notification.
+     *
+     */
+    ConfirmEvent getConfirmEvent();
+    
+    /**
+     * The configured timeout value if the event type is 'start' or 'extend'. This 
+     * value represents the approximate number of seconds from the event time when the 
+     * 'timeout' event might occur.
+     *
+     */
+    java.lang.Long getTimeout();
+
+}
+
@@ -0,0 +1,159 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd.TerminationReason;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdType;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+
+/**
+ * Generated when a NETCONF server detects that a NETCONF session has terminated. A
+ * server MAY optionally generate this event for non-NETCONF management sessions. 
+ * Indicates the identity of the user that owned the session, and why the session 
+ * was terminated.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * notification netconf-session-end {
+ *     description
+ *         "Generated when a NETCONF server detects that a
+ *                NETCONF session has terminated.
+ *                A server MAY optionally generate this event for
+ *                non-NETCONF management sessions.  Indicates the
+ *                identity of the user that owned the session,
+ *                and why the session was terminated.";
+ *     leaf username {
+ *         type string;
+ *     }
+ *     leaf session-id {
+ *         type session-id-or-zero-type;
+ *     }
+ *     leaf source-host {
+ *         type ip-address;
+ *     }
+ *     leaf killed-by {
+ *         type session-id-type;
+ *     }
+ *     leaf termination-reason {
+ *         type enumeration;
+ *     }
+ *     uses common-session-parms;
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/netconf-session-end&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEndBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEndBuilder
+ *
+ */
+public interface NetconfSessionEnd
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>,
+    CommonSessionParms,
+    Notification
+{
+
+
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum TerminationReason {
+        /**
+         * The session was terminated by the client in normal fashion, e.g., by the 
+         * NETCONF&amp;lt;close-session&amp;gt; protocol operation.
+         *
+         */
+        Closed(0),
+        
+        /**
+         * The session was terminated in abnormal fashion, e.g., by the NETCONF 
+         * &amp;lt;kill-session&amp;gt; protocol operation.
+         *
+         */
+        Killed(1),
+        
+        /**
+         * The session was terminated because the transport layer connection was 
+         * unexpectedly closed.
+         *
+         */
+        Dropped(2),
+        
+        /**
+         * The session was terminated because of inactivity, e.g., waiting for the 
+         * &amp;lt;hello&amp;gt; message or &amp;lt;rpc&amp;gt; messages.
+         *
+         */
+        Timeout(3),
+        
+        /**
+         * The client's &amp;lt;hello&amp;gt; message was invalid.
+         *
+         */
+        BadHello(4),
+        
+        /**
+         * The session was terminated for some other reason.
+         *
+         */
+        Other(5)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, TerminationReason> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, TerminationReason> b = com.google.common.collect.ImmutableMap.builder();
+            for (TerminationReason enumItem : TerminationReason.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private TerminationReason(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding TerminationReason item
+         */
+        public static TerminationReason forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","netconf-session-end"));
+
+    /**
+     * The ID of the session that directly caused this session to be abnormally 
+     * terminated. If this session was abnormally terminated by a non-NETCONF session 
+     * unknown to the server, then this leaf will not be present.
+     *
+     */
+    SessionIdType getKilledBy();
+    
+    /**
+     * Reason the session was terminated.
+     *
+     */
+    TerminationReason getTerminationReason();
+
+}
+
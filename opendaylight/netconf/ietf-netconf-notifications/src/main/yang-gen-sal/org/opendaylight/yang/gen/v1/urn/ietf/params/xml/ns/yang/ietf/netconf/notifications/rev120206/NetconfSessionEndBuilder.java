@@ -0,0 +1,427 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdType;
+import com.google.common.collect.Range;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdOrZeroType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd.TerminationReason;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.math.BigInteger;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev100924.IpAddress;
+import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd
+ *
+ */
+public class NetconfSessionEndBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd> {
+
+    private SessionIdType _killedBy;
+    private SessionIdOrZeroType _sessionId;
+    private IpAddress _sourceHost;
+    private TerminationReason _terminationReason;
+    private java.lang.String _username;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> augmentation = Collections.emptyMap();
+
+    public NetconfSessionEndBuilder() {
+    }
+    public NetconfSessionEndBuilder(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms arg) {
+        this._username = arg.getUsername();
+        this._sessionId = arg.getSessionId();
+        this._sourceHost = arg.getSourceHost();
+    }
+
+    public NetconfSessionEndBuilder(NetconfSessionEnd base) {
+        this._killedBy = base.getKilledBy();
+        this._sessionId = base.getSessionId();
+        this._sourceHost = base.getSourceHost();
+        this._terminationReason = base.getTerminationReason();
+        this._username = base.getUsername();
+        if (base instanceof NetconfSessionEndImpl) {
+            NetconfSessionEndImpl impl = (NetconfSessionEndImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+    /**
+     *Set fields from given grouping argument. Valid argument is instance of one of following types:
+     * <ul>
+     * <li>org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms</li>
+     * </ul>
+     *
+     * @param arg grouping object
+     * @throws IllegalArgumentException if given argument is none of valid types
+    */
+    public void fieldsFrom(DataObject arg) {
+        boolean isValidArg = false;
+        if (arg instanceof org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms) {
+            this._username = ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms)arg).getUsername();
+            this._sessionId = ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms)arg).getSessionId();
+            this._sourceHost = ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms)arg).getSourceHost();
+            isValidArg = true;
+        }
+        if (!isValidArg) {
+            throw new IllegalArgumentException(
+              "expected one of: [org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.CommonSessionParms] \n" +
+              "but was: " + arg
+            );
+        }
+    }
+
+    public SessionIdType getKilledBy() {
+        return _killedBy;
+    }
+    
+    public SessionIdOrZeroType getSessionId() {
+        return _sessionId;
+    }
+    
+    public IpAddress getSourceHost() {
+        return _sourceHost;
+    }
+    
+    public TerminationReason getTerminationReason() {
+        return _terminationReason;
+    }
+    
+    public java.lang.String getUsername() {
+        return _username;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    private static void checkKilledByRange(final long value) {
+        if (value >= 1L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[1?4294967295]].", value));
+    }
+    
+    public NetconfSessionEndBuilder setKilledBy(SessionIdType value) {
+        if (value != null) {
+            checkKilledByRange(value.getValue());
+        }
+        this._killedBy = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _killedBy_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ONE, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+    
+    private static void checkSessionIdRange(final long value) {
+        if (value >= 0L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?4294967295]].", value));
+    }
+    
+    public NetconfSessionEndBuilder setSessionId(SessionIdOrZeroType value) {
+        if (value != null) {
+            checkSessionIdRange(value.getValue());
+        }
+        this._sessionId = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _sessionId_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+    
+    public NetconfSessionEndBuilder setSourceHost(IpAddress value) {
+        if (value != null) {
+        }
+        this._sourceHost = value;
+        return this;
+    }
+    
+    public NetconfSessionEndBuilder setTerminationReason(TerminationReason value) {
+        this._terminationReason = value;
+        return this;
+    }
+    
+    public NetconfSessionEndBuilder setUsername(java.lang.String value) {
+        this._username = value;
+        return this;
+    }
+    
+    public NetconfSessionEndBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public NetconfSessionEndBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public NetconfSessionEnd build() {
+        return new NetconfSessionEndImpl(this);
+    }
+
+    private static final class NetconfSessionEndImpl implements NetconfSessionEnd {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd.class;
+        }
+
+        private final SessionIdType _killedBy;
+        private final SessionIdOrZeroType _sessionId;
+        private final IpAddress _sourceHost;
+        private final TerminationReason _terminationReason;
+        private final java.lang.String _username;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> augmentation = Collections.emptyMap();
+
+        private NetconfSessionEndImpl(NetconfSessionEndBuilder base) {
+            this._killedBy = base.getKilledBy();
+            this._sessionId = base.getSessionId();
+            this._sourceHost = base.getSourceHost();
+            this._terminationReason = base.getTerminationReason();
+            this._username = base.getUsername();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public SessionIdType getKilledBy() {
+            return _killedBy;
+        }
+        
+        @Override
+        public SessionIdOrZeroType getSessionId() {
+            return _sessionId;
+        }
+        
+        @Override
+        public IpAddress getSourceHost() {
+            return _sourceHost;
+        }
+        
+        @Override
+        public TerminationReason getTerminationReason() {
+            return _terminationReason;
+        }
+        
+        @Override
+        public java.lang.String getUsername() {
+            return _username;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_killedBy == null) ? 0 : _killedBy.hashCode());
+            result = prime * result + ((_sessionId == null) ? 0 : _sessionId.hashCode());
+            result = prime * result + ((_sourceHost == null) ? 0 : _sourceHost.hashCode());
+            result = prime * result + ((_terminationReason == null) ? 0 : _terminationReason.hashCode());
+            result = prime * result + ((_username == null) ? 0 : _username.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd other = (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd)obj;
+            if (_killedBy == null) {
+                if (other.getKilledBy() != null) {
+                    return false;
+                }
+            } else if(!_killedBy.equals(other.getKilledBy())) {
+                return false;
+            }
+            if (_sessionId == null) {
+                if (other.getSessionId() != null) {
+                    return false;
+                }
+            } else if(!_sessionId.equals(other.getSessionId())) {
+                return false;
+            }
+            if (_sourceHost == null) {
+                if (other.getSourceHost() != null) {
+                    return false;
+                }
+            } else if(!_sourceHost.equals(other.getSourceHost())) {
+                return false;
+            }
+            if (_terminationReason == null) {
+                if (other.getTerminationReason() != null) {
+                    return false;
+                }
+            } else if(!_terminationReason.equals(other.getTerminationReason())) {
+                return false;
+            }
+            if (_username == null) {
+                if (other.getUsername() != null) {
+                    return false;
+                }
+            } else if(!_username.equals(other.getUsername())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                NetconfSessionEndImpl otherImpl = (NetconfSessionEndImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("NetconfSessionEnd [");
+            boolean first = true;
+        
+            if (_killedBy != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_killedBy=");
+                builder.append(_killedBy);
+             }
+            if (_sessionId != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_sessionId=");
+                builder.append(_sessionId);
+             }
+            if (_sourceHost != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_sourceHost=");
+                builder.append(_sourceHost);
+             }
+            if (_terminationReason != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_terminationReason=");
+                builder.append(_terminationReason);
+             }
+            if (_username != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_username=");
+                builder.append(_username);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.changed.by.parms.changed.by;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * choice server-or-user {
+ *     case by-user {
+ *         leaf username {
+ *             type string;
+ *         }
+ *         leaf session-id {
+ *             type session-id-or-zero-type;
+ *         }
+ *         leaf source-host {
+ *             type ip-address;
+ *         }
+ *     }
+ *     case server {
+ *         leaf server {
+ *             type empty;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/changed-by-parms/changed-by/server-or-user&lt;/i&gt;
+ *
+ */
+public interface ServerOrUser
+    extends
+    DataContainer
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","server-or-user"));
+
+
+}
+
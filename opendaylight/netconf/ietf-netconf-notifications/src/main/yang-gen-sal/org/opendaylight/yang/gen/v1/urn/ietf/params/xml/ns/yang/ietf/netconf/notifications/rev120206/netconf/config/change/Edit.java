@@ -0,0 +1,63 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.netconf.config.change;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChange;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditOperationType;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * An edit record SHOULD be present for each distinct edit operation that the 
+ * server has detected on the target datastore. This list MAY be omitted if the 
+ * detailed edit operations are not known. The server MAY report entries in this 
+ * list for changes not made by a NETCONF session (e.g., CLI).
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf-notifications&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf-notifications@2012-02-06.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * list edit {
+ *     key     leaf target {
+ *         type instance-identifier;
+ *     }
+ *     leaf operation {
+ *         type edit-operation-type;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf-notifications/netconf-config-change/edit&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.netconf.config.change.EditBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.netconf.config.change.EditBuilder
+ *
+ *
+ */
+public interface Edit
+    extends
+    ChildOf<NetconfConfigChange>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.netconf.config.change.Edit>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:yang:ietf-netconf-notifications","2012-02-06","edit"));
+
+    /**
+     * Topmost node associated with the configuration change. A server SHOULD set this 
+     * object to the node within the datastore that is being altered. A server MAY set 
+     * this object to one of the ancestors of the actual node that was changed, or omit
+     * this object, if the exact node is not known.
+     *
+     */
+    InstanceIdentifier<?> getTarget();
+    
+    /**
+     * Type of edit operation performed. A server MUST set this object to the NETCONF 
+     * edit operation performed on the target datastore.
+     *
+     */
+    EditOperationType getOperation();
+
+}
+
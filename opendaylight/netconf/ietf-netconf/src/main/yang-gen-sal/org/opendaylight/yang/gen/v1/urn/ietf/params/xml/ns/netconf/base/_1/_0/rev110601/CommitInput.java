@@ -0,0 +1,77 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     leaf confirmed {
+ *         type empty;
+ *     }
+ *     leaf confirm-timeout {
+ *         type uint32;
+ *     }
+ *     leaf persist {
+ *         type string;
+ *     }
+ *     leaf persist-id {
+ *         type string;
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/commit/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInputBuilder
+ *
+ */
+public interface CommitInput
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","input"));
+
+    /**
+     * Requests a confirmed commit.
+     *
+     */
+    java.lang.Boolean isConfirmed();
+    
+    /**
+     * The timeout interval for a confirmed commit.
+     *
+     */
+    java.lang.Long getConfirmTimeout();
+    
+    /**
+     * This parameter is used to make a confirmed commit persistent. A persistent 
+     * confirmed commit is not aborted if the NETCONF session terminates. The only way 
+     * to abort a persistent confirmed commit is to let the timer expire, or to use the
+     * &lt;cancel-commit&gt; operation. The value of this parameter is a token that 
+     * must be given in the 'persist-id' parameter of &lt;commit&gt; or 
+     * &lt;cancel-commit&gt; operations in order to confirm or cancel the persistent 
+     * confirmed commit. The token should be a random string.
+     *
+     */
+    java.lang.String getPersist();
+    
+    /**
+     * This parameter is given in order to commit a persistent confirmed commit. The 
+     * value must be equal to the value given in the 'persist' parameter to the 
+     * &lt;commit&gt; operation. If it does not match, the operation fails with an 
+     * 'invalid-value' error.
+     *
+     */
+    java.lang.String getPersistId();
+
+}
+
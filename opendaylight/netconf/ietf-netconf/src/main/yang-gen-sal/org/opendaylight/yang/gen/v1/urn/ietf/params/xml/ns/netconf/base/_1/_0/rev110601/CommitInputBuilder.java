@@ -0,0 +1,338 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Collections;
+import com.google.common.collect.Range;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput
+ *
+ */
+public class CommitInputBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput> {
+
+    private java.lang.Long _confirmTimeout;
+    private java.lang.String _persist;
+    private java.lang.String _persistId;
+    private java.lang.Boolean _confirmed;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> augmentation = Collections.emptyMap();
+
+    public CommitInputBuilder() {
+    }
+
+    public CommitInputBuilder(CommitInput base) {
+        this._confirmTimeout = base.getConfirmTimeout();
+        this._persist = base.getPersist();
+        this._persistId = base.getPersistId();
+        this._confirmed = base.isConfirmed();
+        if (base instanceof CommitInputImpl) {
+            CommitInputImpl impl = (CommitInputImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+
+    public java.lang.Long getConfirmTimeout() {
+        return _confirmTimeout;
+    }
+    
+    public java.lang.String getPersist() {
+        return _persist;
+    }
+    
+    public java.lang.String getPersistId() {
+        return _persistId;
+    }
+    
+    public java.lang.Boolean isConfirmed() {
+        return _confirmed;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    private static void checkConfirmTimeoutRange(final long value) {
+        if (value >= 1L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[1?4294967295]].", value));
+    }
+    
+    public CommitInputBuilder setConfirmTimeout(java.lang.Long value) {
+        if (value != null) {
+            checkConfirmTimeoutRange(value);
+        }
+        this._confirmTimeout = value;
+        return this;
+    }
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> _confirmTimeout_range() {
+        final List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+        ret.add(Range.closed(BigInteger.ONE, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+    
+    public CommitInputBuilder setPersist(java.lang.String value) {
+        this._persist = value;
+        return this;
+    }
+    
+    public CommitInputBuilder setPersistId(java.lang.String value) {
+        this._persistId = value;
+        return this;
+    }
+    
+    public CommitInputBuilder setConfirmed(java.lang.Boolean value) {
+        this._confirmed = value;
+        return this;
+    }
+    
+    public CommitInputBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public CommitInputBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public CommitInput build() {
+        return new CommitInputImpl(this);
+    }
+
+    private static final class CommitInputImpl implements CommitInput {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput.class;
+        }
+
+        private final java.lang.Long _confirmTimeout;
+        private final java.lang.String _persist;
+        private final java.lang.String _persistId;
+        private final java.lang.Boolean _confirmed;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> augmentation = Collections.emptyMap();
+
+        private CommitInputImpl(CommitInputBuilder base) {
+            this._confirmTimeout = base.getConfirmTimeout();
+            this._persist = base.getPersist();
+            this._persistId = base.getPersistId();
+            this._confirmed = base.isConfirmed();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public java.lang.Long getConfirmTimeout() {
+            return _confirmTimeout;
+        }
+        
+        @Override
+        public java.lang.String getPersist() {
+            return _persist;
+        }
+        
+        @Override
+        public java.lang.String getPersistId() {
+            return _persistId;
+        }
+        
+        @Override
+        public java.lang.Boolean isConfirmed() {
+            return _confirmed;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_confirmTimeout == null) ? 0 : _confirmTimeout.hashCode());
+            result = prime * result + ((_persist == null) ? 0 : _persist.hashCode());
+            result = prime * result + ((_persistId == null) ? 0 : _persistId.hashCode());
+            result = prime * result + ((_confirmed == null) ? 0 : _confirmed.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput other = (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput)obj;
+            if (_confirmTimeout == null) {
+                if (other.getConfirmTimeout() != null) {
+                    return false;
+                }
+            } else if(!_confirmTimeout.equals(other.getConfirmTimeout())) {
+                return false;
+            }
+            if (_persist == null) {
+                if (other.getPersist() != null) {
+                    return false;
+                }
+            } else if(!_persist.equals(other.getPersist())) {
+                return false;
+            }
+            if (_persistId == null) {
+                if (other.getPersistId() != null) {
+                    return false;
+                }
+            } else if(!_persistId.equals(other.getPersistId())) {
+                return false;
+            }
+            if (_confirmed == null) {
+                if (other.isConfirmed() != null) {
+                    return false;
+                }
+            } else if(!_confirmed.equals(other.isConfirmed())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                CommitInputImpl otherImpl = (CommitInputImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CommitInput>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("CommitInput [");
+            boolean first = true;
+        
+            if (_confirmTimeout != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_confirmTimeout=");
+                builder.append(_confirmTimeout);
+             }
+            if (_persist != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_persist=");
+                builder.append(_persist);
+             }
+            if (_persistId != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_persistId=");
+                builder.append(_persistId);
+             }
+            if (_confirmed != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_confirmed=");
+                builder.append(_confirmed);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.Target;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.Source;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     container target {
+ *         choice config-target {
+ *             case candidate {
+ *                 leaf candidate {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case running {
+ *                 leaf running {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case startup {
+ *                 leaf startup {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case url {
+ *                 leaf url {
+ *                     type uri;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     container source {
+ *         choice config-source {
+ *             case candidate {
+ *                 leaf candidate {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case config {
+ *                 anyxml config;
+ *             }
+ *             case running {
+ *                 leaf running {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case startup {
+ *                 leaf startup {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case url {
+ *                 leaf url {
+ *                     type uri;
+ *                 }
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/copy-config/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CopyConfigInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CopyConfigInputBuilder
+ *
+ */
+public interface CopyConfigInput
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CopyConfigInput>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","input"));
+
+    /**
+     * Particular configuration to copy to.
+     *
+     */
+    Target getTarget();
+    
+    /**
+     * Particular configuration to copy from.
+     *
+     */
+    Source getSource();
+
+}
+
@@ -0,0 +1,274 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.Target;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.DefaultOperation;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.TestOption;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.ErrorOption;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container input {
+ *     container target {
+ *         choice config-target {
+ *             case candidate {
+ *                 leaf candidate {
+ *                     type empty;
+ *                 }
+ *             }
+ *             case running {
+ *                 leaf running {
+ *                     type empty;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     leaf default-operation {
+ *         type enumeration;
+ *     }
+ *     leaf test-option {
+ *         type enumeration;
+ *     }
+ *     leaf error-option {
+ *         type enumeration;
+ *     }
+ *     choice edit-content {
+ *         case config {
+ *             anyxml config;
+ *         }
+ *         case url {
+ *             leaf url {
+ *                 type uri;
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/edit-config/input&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInputBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInputBuilder
+ *
+ */
+public interface EditConfigInput
+    extends
+    DataObject,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>
+{
+
+
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum DefaultOperation {
+        /**
+         * The default operation is merge.
+         *
+         */
+        Merge(0),
+        
+        /**
+         * The default operation is replace.
+         *
+         */
+        Replace(1),
+        
+        /**
+         * There is no default operation.
+         *
+         */
+        None(2)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, DefaultOperation> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, DefaultOperation> b = com.google.common.collect.ImmutableMap.builder();
+            for (DefaultOperation enumItem : DefaultOperation.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private DefaultOperation(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding DefaultOperation item
+         */
+        public static DefaultOperation forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+    
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum TestOption {
+        /**
+         * The server will test and then set if no errors.
+         *
+         */
+        TestThenSet(0),
+        
+        /**
+         * The server will set without a test first.
+         *
+         */
+        Set(1),
+        
+        /**
+         * The server will only test and not set, even if there are no errors.
+         *
+         */
+        TestOnly(2)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, TestOption> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, TestOption> b = com.google.common.collect.ImmutableMap.builder();
+            for (TestOption enumItem : TestOption.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private TestOption(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding TestOption item
+         */
+        public static TestOption forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+    
+    /**
+     * The enumeration built-in type represents values from a set of assigned names.
+     *
+     */
+    public enum ErrorOption {
+        /**
+         * The server will stop on errors.
+         *
+         */
+        StopOnError(0),
+        
+        /**
+         * The server may continue on errors.
+         *
+         */
+        ContinueOnError(1),
+        
+        /**
+         * The server will roll back on errors. This value can only be used if the 
+         * 'rollback-on-error' feature is supported.
+         *
+         */
+        RollbackOnError(2)
+        ;
+    
+    
+        int value;
+        private static final java.util.Map<java.lang.Integer, ErrorOption> VALUE_MAP;
+    
+        static {
+            final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, ErrorOption> b = com.google.common.collect.ImmutableMap.builder();
+            for (ErrorOption enumItem : ErrorOption.values())
+            {
+                b.put(enumItem.value, enumItem);
+            }
+    
+            VALUE_MAP = b.build();
+        }
+    
+        private ErrorOption(int value) {
+            this.value = value;
+        }
+    
+        /**
+         * @return integer value
+         */
+        public int getIntValue() {
+            return value;
+        }
+    
+        /**
+         * @param valueArg
+         * @return corresponding ErrorOption item
+         */
+        public static ErrorOption forValue(int valueArg) {
+            return VALUE_MAP.get(valueArg);
+        }
+    }
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","input"));
+
+    /**
+     * Particular configuration to edit.
+     *
+     */
+    Target getTarget();
+    
+    /**
+     * The default operation to use.
+     *
+     */
+    DefaultOperation getDefaultOperation();
+    
+    /**
+     * The test option to use.
+     *
+     */
+    TestOption getTestOption();
+    
+    /**
+     * The error option to use.
+     *
+     */
+    ErrorOption getErrorOption();
+    
+    /**
+     * The content for the edit operation.
+     *
+     */
+    EditContent getEditContent();
+
+}
+
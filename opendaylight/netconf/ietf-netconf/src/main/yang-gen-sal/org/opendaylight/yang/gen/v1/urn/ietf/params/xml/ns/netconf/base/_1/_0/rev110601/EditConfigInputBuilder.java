@@ -0,0 +1,356 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
+import org.opendaylight.yangtools.yang.binding.AugmentationHolder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.Target;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.DefaultOperation;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.TestOption;
+import java.util.HashMap;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.ErrorOption;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * Class that builds {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput} instances.
+ *
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput
+ *
+ */
+public class EditConfigInputBuilder implements Builder <org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput> {
+
+    private DefaultOperation _defaultOperation;
+    private EditContent _editContent;
+    private ErrorOption _errorOption;
+    private Target _target;
+    private TestOption _testOption;
+
+    Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> augmentation = Collections.emptyMap();
+
+    public EditConfigInputBuilder() {
+    }
+
+    public EditConfigInputBuilder(EditConfigInput base) {
+        this._defaultOperation = base.getDefaultOperation();
+        this._editContent = base.getEditContent();
+        this._errorOption = base.getErrorOption();
+        this._target = base.getTarget();
+        this._testOption = base.getTestOption();
+        if (base instanceof EditConfigInputImpl) {
+            EditConfigInputImpl impl = (EditConfigInputImpl) base;
+            if (!impl.augmentation.isEmpty()) {
+                this.augmentation = new HashMap<>(impl.augmentation);
+            }
+        } else if (base instanceof AugmentationHolder) {
+            @SuppressWarnings("unchecked")
+            AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput> casted =(AugmentationHolder<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>) base;
+            if (!casted.augmentations().isEmpty()) {
+                this.augmentation = new HashMap<>(casted.augmentations());
+            }
+        }
+    }
+
+
+    public DefaultOperation getDefaultOperation() {
+        return _defaultOperation;
+    }
+    
+    public EditContent getEditContent() {
+        return _editContent;
+    }
+    
+    public ErrorOption getErrorOption() {
+        return _errorOption;
+    }
+    
+    public Target getTarget() {
+        return _target;
+    }
+    
+    public TestOption getTestOption() {
+        return _testOption;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+        if (augmentationType == null) {
+            throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+        }
+        return (E) augmentation.get(augmentationType);
+    }
+
+    public EditConfigInputBuilder setDefaultOperation(DefaultOperation value) {
+        this._defaultOperation = value;
+        return this;
+    }
+    
+    public EditConfigInputBuilder setEditContent(EditContent value) {
+        this._editContent = value;
+        return this;
+    }
+    
+    public EditConfigInputBuilder setErrorOption(ErrorOption value) {
+        this._errorOption = value;
+        return this;
+    }
+    
+    public EditConfigInputBuilder setTarget(Target value) {
+        this._target = value;
+        return this;
+    }
+    
+    public EditConfigInputBuilder setTestOption(TestOption value) {
+        this._testOption = value;
+        return this;
+    }
+    
+    public EditConfigInputBuilder addAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> augmentationType, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput> augmentation) {
+        if (augmentation == null) {
+            return removeAugmentation(augmentationType);
+        }
+    
+        if (!(this.augmentation instanceof HashMap)) {
+            this.augmentation = new HashMap<>();
+        }
+    
+        this.augmentation.put(augmentationType, augmentation);
+        return this;
+    }
+    
+    public EditConfigInputBuilder removeAugmentation(java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> augmentationType) {
+        if (this.augmentation instanceof HashMap) {
+            this.augmentation.remove(augmentationType);
+        }
+        return this;
+    }
+
+    public EditConfigInput build() {
+        return new EditConfigInputImpl(this);
+    }
+
+    private static final class EditConfigInputImpl implements EditConfigInput {
+
+        public java.lang.Class<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput> getImplementedInterface() {
+            return org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.class;
+        }
+
+        private final DefaultOperation _defaultOperation;
+        private final EditContent _editContent;
+        private final ErrorOption _errorOption;
+        private final Target _target;
+        private final TestOption _testOption;
+
+        private Map<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> augmentation = Collections.emptyMap();
+
+        private EditConfigInputImpl(EditConfigInputBuilder base) {
+            this._defaultOperation = base.getDefaultOperation();
+            this._editContent = base.getEditContent();
+            this._errorOption = base.getErrorOption();
+            this._target = base.getTarget();
+            this._testOption = base.getTestOption();
+            switch (base.augmentation.size()) {
+            case 0:
+                this.augmentation = Collections.emptyMap();
+                break;
+            case 1:
+                final Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> e = base.augmentation.entrySet().iterator().next();
+                this.augmentation = Collections.<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>singletonMap(e.getKey(), e.getValue());
+                break;
+            default :
+                this.augmentation = new HashMap<>(base.augmentation);
+            }
+        }
+
+        @Override
+        public DefaultOperation getDefaultOperation() {
+            return _defaultOperation;
+        }
+        
+        @Override
+        public EditContent getEditContent() {
+            return _editContent;
+        }
+        
+        @Override
+        public ErrorOption getErrorOption() {
+            return _errorOption;
+        }
+        
+        @Override
+        public Target getTarget() {
+            return _target;
+        }
+        
+        @Override
+        public TestOption getTestOption() {
+            return _testOption;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> E getAugmentation(java.lang.Class<E> augmentationType) {
+            if (augmentationType == null) {
+                throw new IllegalArgumentException("Augmentation Type reference cannot be NULL!");
+            }
+            return (E) augmentation.get(augmentationType);
+        }
+
+        private int hash = 0;
+        private volatile boolean hashValid = false;
+        
+        @Override
+        public int hashCode() {
+            if (hashValid) {
+                return hash;
+            }
+        
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((_defaultOperation == null) ? 0 : _defaultOperation.hashCode());
+            result = prime * result + ((_editContent == null) ? 0 : _editContent.hashCode());
+            result = prime * result + ((_errorOption == null) ? 0 : _errorOption.hashCode());
+            result = prime * result + ((_target == null) ? 0 : _target.hashCode());
+            result = prime * result + ((_testOption == null) ? 0 : _testOption.hashCode());
+            result = prime * result + ((augmentation == null) ? 0 : augmentation.hashCode());
+        
+            hash = result;
+            hashValid = true;
+            return result;
+        }
+
+        @Override
+        public boolean equals(java.lang.Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DataObject)) {
+                return false;
+            }
+            if (!org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput.class.equals(((DataObject)obj).getImplementedInterface())) {
+                return false;
+            }
+            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput other = (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput)obj;
+            if (_defaultOperation == null) {
+                if (other.getDefaultOperation() != null) {
+                    return false;
+                }
+            } else if(!_defaultOperation.equals(other.getDefaultOperation())) {
+                return false;
+            }
+            if (_editContent == null) {
+                if (other.getEditContent() != null) {
+                    return false;
+                }
+            } else if(!_editContent.equals(other.getEditContent())) {
+                return false;
+            }
+            if (_errorOption == null) {
+                if (other.getErrorOption() != null) {
+                    return false;
+                }
+            } else if(!_errorOption.equals(other.getErrorOption())) {
+                return false;
+            }
+            if (_target == null) {
+                if (other.getTarget() != null) {
+                    return false;
+                }
+            } else if(!_target.equals(other.getTarget())) {
+                return false;
+            }
+            if (_testOption == null) {
+                if (other.getTestOption() != null) {
+                    return false;
+                }
+            } else if(!_testOption.equals(other.getTestOption())) {
+                return false;
+            }
+            if (getClass() == obj.getClass()) {
+                // Simple case: we are comparing against self
+                EditConfigInputImpl otherImpl = (EditConfigInputImpl) obj;
+                if (augmentation == null) {
+                    if (otherImpl.augmentation != null) {
+                        return false;
+                    }
+                } else if(!augmentation.equals(otherImpl.augmentation)) {
+                    return false;
+                }
+            } else {
+                // Hard case: compare our augments with presence there...
+                for (Map.Entry<java.lang.Class<? extends Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>>, Augmentation<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.EditConfigInput>> e : augmentation.entrySet()) {
+                    if (!e.getValue().equals(other.getAugmentation(e.getKey()))) {
+                        return false;
+                    }
+                }
+                // .. and give the other one the chance to do the same
+                if (!obj.equals(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            java.lang.StringBuilder builder = new java.lang.StringBuilder ("EditConfigInput [");
+            boolean first = true;
+        
+            if (_defaultOperation != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_defaultOperation=");
+                builder.append(_defaultOperation);
+             }
+            if (_editContent != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_editContent=");
+                builder.append(_editContent);
+             }
+            if (_errorOption != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_errorOption=");
+                builder.append(_errorOption);
+             }
+            if (_target != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_target=");
+                builder.append(_target);
+             }
+            if (_testOption != null) {
+                if (first) {
+                    first = false;
+                } else {
+                    builder.append(", ");
+                }
+                builder.append("_testOption=");
+                builder.append(_testOption);
+             }
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("augmentation=");
+            builder.append(augmentation.values());
+            return builder.append(']').toString();
+        }
+    }
+
+}
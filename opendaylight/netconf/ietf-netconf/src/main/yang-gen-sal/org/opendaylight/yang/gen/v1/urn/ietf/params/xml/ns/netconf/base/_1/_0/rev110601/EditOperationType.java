@@ -0,0 +1,90 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+
+
+/**
+ * The enumeration built-in type represents values from a set of assigned names.
+ *
+ */
+public enum EditOperationType {
+    /**
+     * The configuration data identified by the element containing this attribute is 
+     * merged with the configuration at the corresponding level in the configuration 
+     * datastore identified by the target parameter.
+     *
+     */
+    Merge(0),
+    
+    /**
+     * The configuration data identified by the element containing this attribute 
+     * replaces any related configuration in the configuration datastore identified by 
+     * the target parameter. If no such configuration data exists in the configuration 
+     * datastore, it is created. Unlike a &amp;lt;copy-config&amp;gt; operation, which 
+     * replacesthe entire target configuration, only the configuration actually present
+     * in the config parameter is affected.
+     *
+     */
+    Replace(1),
+    
+    /**
+     * The configuration data identified by the element containing this attribute is 
+     * added to the configuration if and only if the configuration data does not 
+     * already exist in the configuration datastore. If the configuration data exists, 
+     * an &amp;lt;rpc-error&amp;gt; element is returned with an 
+     * &amp;lt;error-tag&amp;gt; value of 'data-exists'.
+     *
+     */
+    Create(2),
+    
+    /**
+     * The configuration data identified by the element containing this attribute is 
+     * deleted from the configuration if and only if the configuration data currently 
+     * exists in the configuration datastore. If the configuration data does not 
+     * exist,an &amp;lt;rpc-error&amp;gt; element is returned with an 
+     * &amp;lt;error-tag&amp;gt; value of 'data-missing'.
+     *
+     */
+    Delete(3),
+    
+    /**
+     * The configuration data identified by the element containing this attribute is 
+     * deleted from the configuration if the configuration data currently exists in 
+     * theconfiguration datastore. If the configuration data does not exist, the 
+     * 'remove' operation is silently ignored by the server.
+     *
+     */
+    Remove(4)
+    ;
+
+
+    int value;
+    private static final java.util.Map<java.lang.Integer, EditOperationType> VALUE_MAP;
+
+    static {
+        final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, EditOperationType> b = com.google.common.collect.ImmutableMap.builder();
+        for (EditOperationType enumItem : EditOperationType.values())
+        {
+            b.put(enumItem.value, enumItem);
+        }
+
+        VALUE_MAP = b.build();
+    }
+
+    private EditOperationType(int value) {
+        this.value = value;
+    }
+
+    /**
+     * @return integer value
+     */
+    public int getIntValue() {
+        return value;
+    }
+
+    /**
+     * @param valueArg
+     * @return corresponding EditOperationType item
+     */
+    public static EditOperationType forValue(int valueArg) {
+        return VALUE_MAP.get(valueArg);
+    }
+}
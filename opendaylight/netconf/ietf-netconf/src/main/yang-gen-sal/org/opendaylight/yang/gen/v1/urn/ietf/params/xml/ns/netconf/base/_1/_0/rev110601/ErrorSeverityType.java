@@ -0,0 +1,54 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+
+
+/**
+ * The enumeration built-in type represents values from a set of assigned names.
+ *
+ */
+public enum ErrorSeverityType {
+    /**
+     * Error severity
+     *
+     */
+    Error(0),
+    
+    /**
+     * Warning severity
+     *
+     */
+    Warning(1)
+    ;
+
+
+    int value;
+    private static final java.util.Map<java.lang.Integer, ErrorSeverityType> VALUE_MAP;
+
+    static {
+        final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, ErrorSeverityType> b = com.google.common.collect.ImmutableMap.builder();
+        for (ErrorSeverityType enumItem : ErrorSeverityType.values())
+        {
+            b.put(enumItem.value, enumItem);
+        }
+
+        VALUE_MAP = b.build();
+    }
+
+    private ErrorSeverityType(int value) {
+        this.value = value;
+    }
+
+    /**
+     * @return integer value
+     */
+    public int getIntValue() {
+        return value;
+    }
+
+    /**
+     * @param valueArg
+     * @return corresponding ErrorSeverityType item
+     */
+    public static ErrorSeverityType forValue(int valueArg) {
+        return VALUE_MAP.get(valueArg);
+    }
+}
@@ -0,0 +1,176 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+
+
+/**
+ * The enumeration built-in type represents values from a set of assigned names.
+ *
+ */
+public enum ErrorTagType {
+    /**
+     * The request requires a resource that already is in use.
+     *
+     */
+    InUse(0),
+    
+    /**
+     * The request specifies an unacceptable value for one or more parameters.
+     *
+     */
+    InvalidValue(1),
+    
+    /**
+     * The request or response (that would be generated) is too large for the 
+     * implementation to handle.
+     *
+     */
+    TooBig(2),
+    
+    /**
+     * An expected attribute is missing.
+     *
+     */
+    MissingAttribute(3),
+    
+    /**
+     * An attribute value is not correct; e.g., wrong type, out of range, pattern 
+     * mismatch.
+     *
+     */
+    BadAttribute(4),
+    
+    /**
+     * An unexpected attribute is present.
+     *
+     */
+    UnknownAttribute(5),
+    
+    /**
+     * An expected element is missing.
+     *
+     */
+    MissingElement(6),
+    
+    /**
+     * An element value is not correct; e.g., wrong type, out of range, pattern 
+     * mismatch.
+     *
+     */
+    BadElement(7),
+    
+    /**
+     * An unexpected element is present.
+     *
+     */
+    UnknownElement(8),
+    
+    /**
+     * An unexpected namespace is present.
+     *
+     */
+    UnknownNamespace(9),
+    
+    /**
+     * Access to the requested protocol operation or data model is denied because 
+     * authorization failed.
+     *
+     */
+    AccessDenied(10),
+    
+    /**
+     * Access to the requested lock is denied because the lock is currently held by 
+     * another entity.
+     *
+     */
+    LockDenied(11),
+    
+    /**
+     * Request could not be completed because of insufficient resources.
+     *
+     */
+    ResourceDenied(12),
+    
+    /**
+     * Request to roll back some configuration change (via rollback-on-error or 
+     * &amp;lt;discard-changes&amp;gt; operations) was not completed for some reason.
+     *
+     */
+    RollbackFailed(13),
+    
+    /**
+     * Request could not be completed because the relevant data model content already 
+     * exists. For example, a 'create' operation was attempted on data that already 
+     * exists.
+     *
+     */
+    DataExists(14),
+    
+    /**
+     * Request could not be completed because the relevant data model content does not 
+     * exist. For example, a 'delete' operation was attempted on data that does not 
+     * exist.
+     *
+     */
+    DataMissing(15),
+    
+    /**
+     * Request could not be completed because the requested operation is not supported 
+     * by this implementation.
+     *
+     */
+    OperationNotSupported(16),
+    
+    /**
+     * Request could not be completed because the requested operation failed for some 
+     * reason not covered by any other error condition.
+     *
+     */
+    OperationFailed(17),
+    
+    /**
+     * This error-tag is obsolete, and SHOULD NOT be sent by servers conforming to 
+     * thisdocument.
+     *
+     */
+    PartialOperation(18),
+    
+    /**
+     * A message could not be handled because it failed to be parsed correctly. For 
+     * example, the message is not well-formed XML or it uses an invalid character set.
+     *
+     */
+    MalformedMessage(19)
+    ;
+
+
+    int value;
+    private static final java.util.Map<java.lang.Integer, ErrorTagType> VALUE_MAP;
+
+    static {
+        final com.google.common.collect.ImmutableMap.Builder<java.lang.Integer, ErrorTagType> b = com.google.common.collect.ImmutableMap.builder();
+        for (ErrorTagType enumItem : ErrorTagType.values())
+        {
+            b.put(enumItem.value, enumItem);
+        }
+
+        VALUE_MAP = b.build();
+    }
+
+    private ErrorTagType(int value) {
+        this.value = value;
+    }
+
+    /**
+     * @return integer value
+     */
+    public int getIntValue() {
+        return value;
+    }
+
+    /**
+     * @param valueArg
+     * @return corresponding ErrorTagType item
+     */
+    public static ErrorTagType forValue(int valueArg) {
+        return VALUE_MAP.get(valueArg);
+    }
+}
@@ -0,0 +1,435 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.binding.RpcService;
+import java.util.concurrent.Future;
+
+
+/**
+ * Interface for implementing the following YANG RPCs defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * rpc cancel-commit {
+ *     "This operation is used to cancel an ongoing confirmed commit.
+ *            If the confirmed commit is persistent, the parameter
+ *            'persist-id' must be given, and it must match the value of the
+ *            'persist' parameter.";
+ *     input {
+ *         leaf persist-id {
+ *             type string;
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 8.4.4.1";
+ *     status CURRENT;
+ * }
+ * rpc close-session {
+ *     "Request graceful termination of a NETCONF session.";
+ *     reference
+ *         "RFC 6241, Section 7.8";
+ *     status CURRENT;
+ * }
+ * rpc commit {
+ *     "Commit the candidate configuration as the device's new
+ *            current configuration.";
+ *     input {
+ *         leaf confirmed {
+ *             type empty;
+ *         }
+ *         leaf confirm-timeout {
+ *             type uint32;
+ *         }
+ *         leaf persist {
+ *             type string;
+ *         }
+ *         leaf persist-id {
+ *             type string;
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 8.3.4.1";
+ *     status CURRENT;
+ * }
+ * rpc copy-config {
+ *     "Create or replace an entire configuration datastore with the
+ *            contents of another complete configuration datastore.";
+ *     input {
+ *         container target {
+ *             choice config-target {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case url {
+ *                     leaf url {
+ *                         type uri;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *         container source {
+ *             choice config-source {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case config {
+ *                     anyxml config;
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case url {
+ *                     leaf url {
+ *                         type uri;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.3";
+ *     status CURRENT;
+ * }
+ * rpc delete-config {
+ *     "Delete a configuration datastore.";
+ *     input {
+ *         container target {
+ *             choice config-target {
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case url {
+ *                     leaf url {
+ *                         type uri;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.4";
+ *     status CURRENT;
+ * }
+ * rpc discard-changes {
+ *     "Revert the candidate configuration to the current
+ *            running configuration.";
+ *     reference
+ *         "RFC 6241, Section 8.3.4.2";
+ *     status CURRENT;
+ * }
+ * rpc edit-config {
+ *     "The &lt;edit-config&gt; operation loads all or part of a specified
+ *            configuration to the specified target configuration.";
+ *     input {
+ *         container target {
+ *             choice config-target {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *         leaf default-operation {
+ *             type enumeration;
+ *         }
+ *         leaf test-option {
+ *             type enumeration;
+ *         }
+ *         leaf error-option {
+ *             type enumeration;
+ *         }
+ *         choice edit-content {
+ *             case config {
+ *                 anyxml config;
+ *             }
+ *             case url {
+ *                 leaf url {
+ *                     type uri;
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.2";
+ *     status CURRENT;
+ * }
+ * rpc get {
+ *     "Retrieve running configuration and device state information.";
+ *     input {
+ *         anyxml filter;
+ *     }
+ *     
+ *     output {
+ *         anyxml data;
+ *     }
+ *     reference
+ *         "RFC 6241, Section 7.7";
+ *     status CURRENT;
+ * }
+ * rpc get-config {
+ *     "Retrieve all or part of a specified configuration.";
+ *     input {
+ *         container source {
+ *             choice config-source {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *         anyxml filter;
+ *     }
+ *     
+ *     output {
+ *         anyxml data;
+ *     }
+ *     reference
+ *         "RFC 6241, Section 7.1";
+ *     status CURRENT;
+ * }
+ * rpc kill-session {
+ *     "Force the termination of a NETCONF session.";
+ *     input {
+ *         leaf session-id {
+ *             type session-id-type;
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.9";
+ *     status CURRENT;
+ * }
+ * rpc lock {
+ *     "The lock operation allows the client to lock the configuration
+ *            system of a device.";
+ *     input {
+ *         container target {
+ *             choice config-target {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.5";
+ *     status CURRENT;
+ * }
+ * rpc unlock {
+ *     "The unlock operation is used to release a configuration lock,
+ *            previously obtained with the 'lock' operation.";
+ *     input {
+ *         container target {
+ *             choice config-target {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 7.6";
+ *     status CURRENT;
+ * }
+ * rpc validate {
+ *     "Validates the contents of the specified configuration.";
+ *     input {
+ *         container source {
+ *             choice config-source {
+ *                 case candidate {
+ *                     leaf candidate {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case config {
+ *                     anyxml config;
+ *                 }
+ *                 case running {
+ *                     leaf running {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case startup {
+ *                     leaf startup {
+ *                         type empty;
+ *                     }
+ *                 }
+ *                 case url {
+ *                     leaf url {
+ *                         type uri;
+ *                     }
+ *                 }
+ *             }
+ *         }
+ *     }
+ *     
+ *     reference
+ *         "RFC 6241, Section 8.6.4.1";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ *
+ */
+public interface IetfNetconfService
+    extends
+    RpcService
+{
+
+
+
+
+    /**
+     * This operation is used to cancel an ongoing confirmed commit. If the confirmed 
+     * commit is persistent, the parameter 'persist-id' must be given, and it must 
+     * match the value of the 'persist' parameter.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> cancelCommit(CancelCommitInput input);
+    
+    /**
+     * Request graceful termination of a NETCONF session.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> closeSession();
+    
+    /**
+     * Commit the candidate configuration as the device's new current configuration.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> commit(CommitInput input);
+    
+    /**
+     * Create or replace an entire configuration datastore with the contents of another
+     * complete configuration datastore.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> copyConfig(CopyConfigInput input);
+    
+    /**
+     * Delete a configuration datastore.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> deleteConfig(DeleteConfigInput input);
+    
+    /**
+     * Revert the candidate configuration to the current running configuration.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> discardChanges();
+    
+    /**
+     * The &lt;edit-config&gt; operation loads all or part of a specified configuration
+     * to the specified target configuration.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> editConfig(EditConfigInput input);
+    
+    /**
+     * Retrieve running configuration and device state information.
+     *
+     */
+    Future<RpcResult<GetOutput>> get(GetInput input);
+    
+    /**
+     * Retrieve all or part of a specified configuration.
+     *
+     */
+    Future<RpcResult<GetConfigOutput>> getConfig(GetConfigInput input);
+    
+    /**
+     * Force the termination of a NETCONF session.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> killSession(KillSessionInput input);
+    
+    /**
+     * The lock operation allows the client to lock the configuration system of a 
+     * device.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> lock(LockInput input);
+    
+    /**
+     * The unlock operation is used to release a configuration lock, previously 
+     * obtained with the 'lock' operation.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> unlock(UnlockInput input);
+    
+    /**
+     * Validates the contents of the specified configuration.
+     *
+     */
+    Future<RpcResult<java.lang.Void>> validate(ValidateInput input);
+
+}
+
@@ -0,0 +1,116 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601;
+import java.io.Serializable;
+import java.beans.ConstructorProperties;
+import com.google.common.base.Preconditions;
+import java.math.BigInteger;
+import java.util.List;
+import com.google.common.collect.Range;
+
+
+/**
+ * NETCONF Session Id or Zero to indicate none
+ *
+ */
+public class SessionIdOrZeroType
+ implements Serializable {
+    private static final long serialVersionUID = -157133317442902772L;
+    private final java.lang.Long _value;
+
+    private static void check_valueRange(final long value) {
+        if (value >= 0L && value <= 4294967295L) {
+            return;
+        }
+        throw new IllegalArgumentException(String.format("Invalid range: %s, expected: [[0?4294967295]].", value));
+    }
+
+    @ConstructorProperties("value")
+    public SessionIdOrZeroType(java.lang.Long _value) {
+        if (_value != null) {
+            check_valueRange(_value);
+            }
+    
+    
+        Preconditions.checkNotNull(_value, "Supplied value may not be null");
+    
+    
+        this._value = _value;
+    }
+    
+    /**
+     * Creates a copy from Source Object.
+     *
+     * @param source Source object
+     */
+    public SessionIdOrZeroType(SessionIdOrZeroType source) {
+        this._value = source._value;
+    }
+
+    public static SessionIdOrZeroType getDefaultInstance(String defaultValue) {
+        return new SessionIdOrZeroType(Long.valueOf(defaultValue));
+    }
+
+    public java.lang.Long getValue() {
+        return _value;
+    }
+
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((_value == null) ? 0 : _value.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        SessionIdOrZeroType other = (SessionIdOrZeroType) obj;
+        if (_value == null) {
+            if (other._value != null) {
+                return false;
+            }
+        } else if(!_value.equals(other._value)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        java.lang.StringBuilder builder = new java.lang.StringBuilder(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdOrZeroType.class.getSimpleName()).append(" [");
+        boolean first = true;
+    
+        if (_value != null) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+            builder.append("_value=");
+            builder.append(_value);
+         }
+        return builder.append(']').toString();
+    }
+
+
+    /**
+     * @deprecated This method is slated for removal in a future release. See BUG-1485 for details.
+     */
+    @Deprecated
+    public static List<Range<BigInteger>> range() {
+    List<Range<BigInteger>> ret = new java.util.ArrayList<>(1);
+    ret.add(Range.closed(BigInteger.ZERO, BigInteger.valueOf(4294967295L)));
+        return ret;
+    }
+
+}
+
@@ -0,0 +1,67 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.source.ConfigSource;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CopyConfigInput;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * Particular configuration to copy from.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container source {
+ *     choice config-source {
+ *         case candidate {
+ *             leaf candidate {
+ *                 type empty;
+ *             }
+ *         }
+ *         case config {
+ *             anyxml config;
+ *         }
+ *         case running {
+ *             leaf running {
+ *                 type empty;
+ *             }
+ *         }
+ *         case startup {
+ *             leaf startup {
+ *                 type empty;
+ *             }
+ *         }
+ *         case url {
+ *             leaf url {
+ *                 type uri;
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/copy-config/input/source&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.SourceBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.SourceBuilder
+ *
+ */
+public interface Source
+    extends
+    ChildOf<CopyConfigInput>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.Source>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","source"));
+
+    /**
+     * The configuration source for the copy operation.
+     *
+     */
+    ConfigSource getConfigSource();
+
+}
+
@@ -0,0 +1,64 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input;
+import org.opendaylight.yangtools.yang.binding.ChildOf;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.target.ConfigTarget;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.CopyConfigInput;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+
+
+/**
+ * Particular configuration to copy to.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * container target {
+ *     choice config-target {
+ *         case candidate {
+ *             leaf candidate {
+ *                 type empty;
+ *             }
+ *         }
+ *         case running {
+ *             leaf running {
+ *                 type empty;
+ *             }
+ *         }
+ *         case startup {
+ *             leaf startup {
+ *                 type empty;
+ *             }
+ *         }
+ *         case url {
+ *             leaf url {
+ *                 type uri;
+ *             }
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/copy-config/input/target&lt;/i&gt;
+ *
+ * &lt;p&gt;To create instances of this class use {@link org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.TargetBuilder}.
+ * @see org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.TargetBuilder
+ *
+ */
+public interface Target
+    extends
+    ChildOf<CopyConfigInput>,
+    Augmentable<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.Target>
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","target"));
+
+    /**
+     * The configuration target of the copy operation.
+     *
+     */
+    ConfigTarget getConfigTarget();
+
+}
+
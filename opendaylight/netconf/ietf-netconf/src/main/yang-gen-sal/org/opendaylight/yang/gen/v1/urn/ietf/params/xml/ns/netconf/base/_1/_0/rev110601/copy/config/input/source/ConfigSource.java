@@ -0,0 +1,53 @@
+package org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.source;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * The configuration source for the copy operation.
+ *
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;ietf-netconf&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/ietf-netconf@2011-06-01.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * choice config-source {
+ *     case candidate {
+ *         leaf candidate {
+ *             type empty;
+ *         }
+ *     }
+ *     case config {
+ *         anyxml config;
+ *     }
+ *     case running {
+ *         leaf running {
+ *             type empty;
+ *         }
+ *     }
+ *     case startup {
+ *         leaf startup {
+ *             type empty;
+ *         }
+ *     }
+ *     case url {
+ *         leaf url {
+ *             type uri;
+ *         }
+ *     }
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;ietf-netconf/copy-config/input/source/config-source&lt;/i&gt;
+ *
+ */
+public interface ConfigSource
+    extends
+    DataContainer
+{
+
+
+
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:ietf:params:xml:ns:netconf:base:1.0","2011-06-01","config-source"));
+
+
+}
+
@@ -12,28 +12,39 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.CheckedFuture;
 import java.io.IOException;
+import java.util.List;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.dom.DOMResult;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadTransaction;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.mdsal.connector.CurrentSchemaContext;
 import org.opendaylight.controller.netconf.mdsal.connector.ops.Datastore;
 import org.opendaylight.controller.netconf.util.mapping.AbstractLastNetconfOperation;
 import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.impl.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
 public abstract class AbstractGet extends AbstractLastNetconfOperation {
@@ -55,6 +66,75 @@ public abstract class AbstractGet extends AbstractLastNetconfOperation {
         XML_OUTPUT_FACTORY.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
     }
 
+    /**
+     * Read data selected by the subtree filter of operationElement and serialize them into a data element.
+     * Only the subtrees selected by the filter are read and serialized, exact filtering is left to SubtreeFilter.
+     */
+    protected Element readFilteredData(final Document document, final XmlElement operationElement,
+            final DOMDataReadTransaction tx, final LogicalDatastoreType datastoreType) throws ReadFailedException {
+        final List<YangInstanceIdentifier> paths = SubtreeFilterPaths.fromOperation(operationElement, schemaContext.getCurrentContext());
+        if (paths.size() == 1 && ROOT.equals(paths.get(0))) {
+            final Optional<NormalizedNode<?, ?>> root = tx.read(datastoreType, ROOT).checkedGet();
+            return (Element) transformNormalizedNode(document, root.get(), ROOT);
+        }
+
+        // Submit all reads first, so that the datastore can process them concurrently
+        final List<CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException>> reads = Lists.newArrayListWithCapacity(paths.size());
+        for (final YangInstanceIdentifier path : paths) {
+            reads.add(tx.read(datastoreType, path));
+        }
+
+        final Element dataElement = document.createElement(XmlNetconfConstants.DATA_KEY);
+        for (int i = 0; i < paths.size(); i++) {
+            final Optional<NormalizedNode<?, ?>> node = reads.get(i).checkedGet();
+            if (node.isPresent()) {
+                appendNormalizedNode(document, dataElement, node.get(), paths.get(i));
+            }
+        }
+        return dataElement;
+    }
+
+    /**
+     * Serialize node read from path under dataElement, wrapped in elements of its ancestors.
+     */
+    private void appendNormalizedNode(final Document document, final Element dataElement, final NormalizedNode<?, ?> node,
+            final YangInstanceIdentifier path) {
+        final List<PathArgument> pathArguments = Lists.newArrayList(path.getPathArguments());
+        NormalizedNode<?, ?> toWrite = node;
+        if (Iterables.getLast(pathArguments) instanceof NodeIdentifierWithPredicates) {
+            // List entry has to be written as a part of its list
+            pathArguments.remove(pathArguments.size() - 1);
+            toWrite = ImmutableNodes.mapNodeBuilder(node.getNodeType()).addChild((MapEntryNode) node).build();
+        }
+        // Last argument identifies the node itself
+        final List<PathArgument> ancestors = pathArguments.subList(0, pathArguments.size() - 1);
+
+        Element parent = dataElement;
+        String parentNamespace = null;
+        for (final PathArgument ancestor : ancestors) {
+            final String namespace = ancestor.getNodeType().getNamespace().toString();
+            final Element element = namespace.equals(parentNamespace)
+                    ? document.createElementNS(namespace, ancestor.getNodeType().getLocalName())
+                    : XmlUtil.createElement(document, ancestor.getNodeType().getLocalName(), Optional.of(namespace));
+            parent.appendChild(element);
+            parent = element;
+            parentNamespace = namespace;
+        }
+
+        final DOMResult result = new DOMResult(parent);
+        final XMLStreamWriter xmlWriter = getXmlStreamWriter(result);
+        final NormalizedNodeStreamWriter nnStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(xmlWriter,
+                schemaContext.getCurrentContext(), SchemaPath.create(Iterables.transform(ancestors, PATH_ARG_TO_QNAME), true));
+        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(nnStreamWriter);
+        try {
+            nnWriter.write(toWrite);
+            nnWriter.flush();
+            xmlWriter.flush();
+        } catch (XMLStreamException | IOException e) {
+            Throwables.propagate(e);
+        }
+    }
+
     protected Node transformNormalizedNode(final Document document, final NormalizedNode<?, ?> data, final YangInstanceIdentifier dataRoot) {
 
         final DOMResult result = new DOMResult(document.createElement(XmlNetconfConstants.DATA_KEY));
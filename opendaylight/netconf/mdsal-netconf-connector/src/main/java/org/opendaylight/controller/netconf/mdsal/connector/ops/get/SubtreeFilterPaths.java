@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.mdsal.connector.ops.get;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
+import org.opendaylight.yangtools.yang.data.impl.codec.xml.XmlUtils;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.InstanceIdentifierTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+
+/**
+ * Translates subtree filter of get/get-config into paths, which are read from the datastore instead of its root.
+ * <p/>
+ * Every path selects a superset of what the filter matches, precise filtering (content and attribute matches,
+ * multiple selection nodes) is still performed by SubtreeFilter in netconf-impl, but on a fraction of the data.
+ * Each top level filter element is followed down while it selects a single container, or a single list entry
+ * with all keys specified as content match nodes. Any filter that cannot be translated results in reading
+ * the whole datastore, as if no filter was present.
+ */
+final class SubtreeFilterPaths {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SubtreeFilterPaths.class);
+
+    private static final String SUBTREE = "subtree";
+
+    private SubtreeFilterPaths() {
+    }
+
+    /**
+     * @param operationElement get or get-config element
+     * @return paths to be read, root path if no filter is present
+     */
+    static List<YangInstanceIdentifier> fromOperation(final XmlElement operationElement, final SchemaContext schemaContext) {
+        final Optional<XmlElement> filter = operationElement.getOnlyChildElementOptionally(
+                XmlNetconfConstants.FILTER, XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0);
+        if (!filter.isPresent() || !isSubtree(filter.get())) {
+            return ImmutableList.of(AbstractGet.ROOT);
+        }
+
+        final Map<PathArgument, YangInstanceIdentifier> paths = new LinkedHashMap<>();
+        for (final XmlElement filterChild : filter.get().getChildElements()) {
+            final Optional<YangInstanceIdentifier> path = toPath(filterChild, schemaContext);
+            if (!path.isPresent()) {
+                LOG.debug("Unable to translate filter {}, reading whole datastore", filterChild);
+                return ImmutableList.of(AbstractGet.ROOT);
+            }
+
+            // Multiple selections within the same top level node are read together
+            final PathArgument topLevel = path.get().getPathArguments().iterator().next();
+            if (paths.containsKey(topLevel)) {
+                paths.put(topLevel, YangInstanceIdentifier.create(topLevel));
+            } else {
+                paths.put(topLevel, path.get());
+            }
+        }
+        return ImmutableList.copyOf(paths.values());
+    }
+
+    private static boolean isSubtree(final XmlElement filter) {
+        final String type = filter.getAttribute(XmlNetconfConstants.TYPE_KEY);
+        final String nsType = filter.getAttribute(XmlNetconfConstants.TYPE_KEY, XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0);
+        // Same condition as in SubtreeFilter, filters it does not apply must not be pushed down either
+        return SUBTREE.equals(type) || SUBTREE.equals(nsType);
+    }
+
+    private static Optional<YangInstanceIdentifier> toPath(final XmlElement topLevel, final SchemaContext schemaContext) {
+        final Optional<QName> qname = toQName(topLevel, schemaContext);
+        if (!qname.isPresent()) {
+            return Optional.absent();
+        }
+
+        final DataSchemaNode schema = schemaContext.getDataChildByName(qname.get());
+        if (!(schema instanceof ContainerSchemaNode) && !(schema instanceof ListSchemaNode)) {
+            return Optional.absent();
+        }
+
+        final List<PathArgument> path = new ArrayList<>();
+        appendPath(topLevel, schema, path, schemaContext);
+        return Optional.of(YangInstanceIdentifier.create(path));
+    }
+
+    private static void appendPath(final XmlElement filter, final DataSchemaNode schema, final List<PathArgument> path,
+            final SchemaContext schemaContext) {
+        path.add(new NodeIdentifier(schema.getQName()));
+        if (schema instanceof ListSchemaNode) {
+            final Optional<NodeIdentifierWithPredicates> entry = toEntryIdentifier(filter, (ListSchemaNode) schema, schemaContext);
+            if (entry.isPresent()) {
+                path.add(entry.get());
+            }
+            // Entry is the deepest level, filters within it are left to SubtreeFilter
+            return;
+        }
+
+        final List<XmlElement> children = filter.getChildElements();
+        if (children.size() != 1 || filter.getOnlyTextContentOptionally().isPresent() || hasAttributes(filter)) {
+            return;
+        }
+
+        final XmlElement child = children.get(0);
+        final Optional<DataSchemaNode> childSchema = findChild((DataNodeContainer) schema, child, schemaContext);
+        if (childSchema.isPresent()) {
+            appendPath(child, childSchema.get(), path, schemaContext);
+        }
+    }
+
+    /**
+     * Only containers and lists that are not added by augmentation are followed, their path arguments are
+     * a plain node identifier.
+     */
+    private static Optional<DataSchemaNode> findChild(final DataNodeContainer parent, final XmlElement child,
+            final SchemaContext schemaContext) {
+        final Optional<QName> qname = toQName(child, schemaContext);
+        if (!qname.isPresent()) {
+            return Optional.absent();
+        }
+
+        final DataSchemaNode schema = parent.getDataChildByName(qname.get());
+        if ((schema instanceof ContainerSchemaNode || schema instanceof ListSchemaNode) && !schema.isAugmenting()) {
+            return Optional.of(schema);
+        }
+        return Optional.absent();
+    }
+
+    private static Optional<NodeIdentifierWithPredicates> toEntryIdentifier(final XmlElement filter, final ListSchemaNode schema,
+            final SchemaContext schemaContext) {
+        final List<QName> keyDefinition = schema.getKeyDefinition();
+        if (keyDefinition.isEmpty() || hasAttributes(filter)) {
+            return Optional.absent();
+        }
+
+        final Map<QName, Object> keys = new LinkedHashMap<>();
+        for (final XmlElement child : filter.getChildElements()) {
+            final Optional<QName> qname = toQName(child, schemaContext);
+            if (!qname.isPresent() || !keyDefinition.contains(qname.get())) {
+                continue;
+            }
+
+            final Optional<String> text = child.getOnlyTextContentOptionally();
+            if (!text.isPresent()) {
+                continue;
+            }
+
+            final Optional<Object> value = parseKey(((LeafSchemaNode) schema.getDataChildByName(qname.get())).getType(), text.get());
+            if (value.isPresent()) {
+                keys.put(qname.get(), value.get());
+            }
+        }
+
+        if (keys.size() != keyDefinition.size()) {
+            return Optional.absent();
+        }
+        return Optional.of(new NodeIdentifierWithPredicates(schema.getQName(), keys));
+    }
+
+    /**
+     * Parse key value, only types whose value does not depend on the namespace context are supported.
+     */
+    private static Optional<Object> parseKey(final TypeDefinition<?> type, final String text) {
+        final TypeDefinition<?> baseType = XmlUtils.resolveBaseTypeFrom(type);
+        if (baseType instanceof IdentityrefTypeDefinition || baseType instanceof InstanceIdentifierTypeDefinition
+                || baseType instanceof LeafrefTypeDefinition) {
+            return Optional.absent();
+        }
+
+        final TypeDefinitionAwareCodec<Object, ?> codec = XmlUtils.DEFAULT_XML_CODEC_PROVIDER.codecFor(baseType);
+        if (codec == null) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.fromNullable(codec.deserialize(text));
+        } catch (final IllegalArgumentException e) {
+            LOG.debug("Unable to parse key value {} of type {}", text, type, e);
+            return Optional.absent();
+        }
+    }
+
+    private static Optional<QName> toQName(final XmlElement element, final SchemaContext schemaContext) {
+        final Optional<String> namespace = element.getNamespaceOptionally();
+        if (!namespace.isPresent()) {
+            return Optional.absent();
+        }
+
+        final Module module = schemaContext.findModuleByNamespaceAndRevision(URI.create(namespace.get()), null);
+        if (module == null) {
+            return Optional.absent();
+        }
+        return Optional.of(QName.create(module.getNamespace(), module.getRevision(), element.getName()));
+    }
+
+    private static boolean hasAttributes(final XmlElement element) {
+        for (final Attr attr : element.getAttributes().values()) {
+            // ignore namespace declarations
+            if (!XmlUtil.XMLNS_URI.equals(attr.getNamespaceURI())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -183,6 +183,20 @@ public class NetconfMDSalMappingTest {
 
     }
 
+    @Test
+    public void testFilteredGetConfig() throws Exception {
+
+        verifyResponse(edit("messages/mapping/editConfig_merge_multiple_1.xml"), RPC_REPLY_OK);
+        verifyResponse(edit("messages/mapping/editConfig_merge_single_1.xml"), RPC_REPLY_OK);
+        verifyResponse(commit(), RPC_REPLY_OK);
+
+        // Only the selected list entry is read from the datastore
+        verifyResponse(getConfigFiltered(), XmlFileLoader.xmlFileToDocument("messages/mapping/getConfig_filtered_control.xml"));
+
+        deleteDatastore();
+
+    }
+
     @Test
     public void testMoreComplexEditConfigs() throws Exception {
 
@@ -346,6 +360,11 @@ public class NetconfMDSalMappingTest {
         return executeOperation(getConfig, "messages/mapping/getConfig.xml");
     }
 
+    private Document getConfigFiltered() throws NetconfDocumentedException, ParserConfigurationException, SAXException, IOException {
+        GetConfig getConfig = new GetConfig(sessionIdForReporting, currentSchemaContext, transactionProvider);
+        return executeOperation(getConfig, "messages/mapping/getConfig_filtered.xml");
+    }
+
     private Document getConfigCandidate() throws NetconfDocumentedException, ParserConfigurationException, SAXException, IOException {
         GetConfig getConfig = new GetConfig(sessionIdForReporting, currentSchemaContext, transactionProvider);
         return executeOperation(getConfig, "messages/mapping/getConfig_candidate.xml");
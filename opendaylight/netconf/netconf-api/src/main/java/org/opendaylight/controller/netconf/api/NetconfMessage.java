@@ -22,6 +22,14 @@ import org.w3c.dom.Document;
 /**
  * NetconfMessage represents a wrapper around org.w3c.dom.Document. Needed for
  * implementing ProtocolMessage interface.
+ *
+ * <p>
+ * Compatibility note: subclasses may create the document on demand, see
+ * {@link #NetconfMessage()}. Code which extends this class or reads the
+ * document must therefore always go through {@link #getDocument()}; it may
+ * parse the message on first use and fail with an unchecked exception if
+ * the content cannot be parsed. {@link #toString()} uses
+ * {@link #getDocument()} as well.
  */
 public class NetconfMessage {
     private static final Transformer TRANSFORMER;
@@ -45,6 +53,15 @@ public class NetconfMessage {
         this.doc = doc;
     }
 
+    /**
+     * Constructor for subclasses which create the document on demand. Such
+     * subclasses have to override {@link #getDocument()}, otherwise it
+     * returns null.
+     */
+    protected NetconfMessage() {
+        this.doc = null;
+    }
+
     public Document getDocument() {
         return this.doc;
     }
@@ -52,7 +69,7 @@ public class NetconfMessage {
     @Override
     public String toString() {
         final StreamResult result = new StreamResult(new StringWriter());
-        final DOMSource source = new DOMSource(doc.getDocumentElement());
+        final DOMSource source = new DOMSource(getDocument().getDocumentElement());
 
         try {
             // Slight critical section is a tradeoff. This should be reasonably fast.
@@ -0,0 +1,17 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: netconf-northbound yang module local name: netconf-server-dispatcher
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:31:59 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.config.netconf.northbound;
+@org.opendaylight.controller.config.api.annotations.ServiceInterfaceAnnotation(value = "(urn:opendaylight:params:xml:ns:yang:controller:config:netconf:northbound?revision=2015-01-14)netconf-server-dispatcher", osgiRegistrationType = org.opendaylight.controller.netconf.api.NetconfServerDispatcher.class, namespace = "urn:opendaylight:params:xml:ns:yang:controller:config:netconf:northbound", revision = "2015-01-14", localName = "netconf-server-dispatcher")
+
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:config:netconf:northbound", revision = "2015-01-14", name = "netconf-northbound")
+
+public interface NetconfServerDispatcherServiceInterface extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface {
+
+}
@@ -14,8 +14,11 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import java.util.Collection;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.nettyutil.AbstractNetconfSession;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfEXICodec;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfEXIToMessageDecoder;
 import org.opendaylight.controller.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
 import org.opendaylight.controller.netconf.nettyutil.handler.NetconfXMLToMessageDecoder;
+import org.openexi.proc.common.EXIOptionsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +51,12 @@ public class NetconfClientSession extends AbstractNetconfSession<NetconfClientSe
         return this;
     }
 
+    @Override
+    protected NetconfEXIToMessageDecoder createExiDecoder(final NetconfEXICodec exiCodec) throws EXIOptionsException {
+        // Same as for XML, replies are streamed by the client
+        return NetconfEXIToMessageDecoder.create(exiCodec, true);
+    }
+
     @Override
     protected void addExiHandlers(final ByteToMessageDecoder decoder, final MessageToByteEncoder<NetconfMessage> encoder) {
         // TODO used only in negotiator, client supports only auto start-exi
@@ -58,7 +67,7 @@ public class NetconfClientSession extends AbstractNetconfSession<NetconfClientSe
     @Override
     public void stopExiCommunication() {
         // TODO never used, Netconf client does not support stop-exi
-        replaceMessageDecoder(new NetconfXMLToMessageDecoder());
+        replaceMessageDecoder(new NetconfXMLToMessageDecoder(true));
         replaceMessageEncoder(new NetconfMessageToXMLEncoder());
     }
 }
@@ -26,6 +26,7 @@ import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.nettyutil.AbstractChannelInitializer;
 import org.opendaylight.controller.netconf.nettyutil.AbstractNetconfSessionNegotiator;
+import org.opendaylight.controller.netconf.nettyutil.handler.NetconfXMLToMessageDecoder;
 import org.opendaylight.controller.netconf.nettyutil.handler.exi.NetconfStartExiMessage;
 import org.opendaylight.controller.netconf.util.messages.NetconfHelloMessage;
 import org.opendaylight.controller.netconf.util.messages.NetconfMessageUtil;
@@ -135,6 +136,12 @@ public class NetconfClientSessionNegotiator extends
         return new NetconfClientSession(sessionListener, channel, sessionId, capabilities);
     }
 
+    @Override
+    protected NetconfXMLToMessageDecoder createMessageDecoder() {
+        // Replies may be large and are usually consumed as a stream, DOM is built only if needed
+        return new NetconfXMLToMessageDecoder(true);
+    }
+
     /**
      * Handler to process response for start-exi message
      */
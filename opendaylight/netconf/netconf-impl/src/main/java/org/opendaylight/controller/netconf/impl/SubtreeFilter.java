@@ -8,8 +8,9 @@
 
 package org.opendaylight.controller.netconf.impl;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
-import java.io.IOException;
+import com.google.common.base.Strings;
 import java.util.Map;
 import org.opendaylight.controller.netconf.api.NetconfDocumentedException;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
@@ -22,7 +23,6 @@ import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 /**
  * See <a href="http://tools.ietf.org/html/rfc6241#section-6">rfc6241</a> for details.
@@ -31,14 +31,6 @@ public class SubtreeFilter {
     private static final Logger LOG = LoggerFactory.getLogger(SubtreeFilter.class);
 
     static Document applySubtreeFilter(Document requestDocument, Document rpcReply) throws NetconfDocumentedException {
-        // FIXME: rpcReply document must be reread otherwise some nodes do not inherit namespaces. (services/service)
-        try {
-            rpcReply = XmlUtil.readXmlToDocument(XmlUtil.toString(rpcReply, true));
-        } catch (SAXException | IOException e) {
-            LOG.error("Cannot transform document", e);
-            throw new NetconfDocumentedException("Cannot transform document");
-        }
-
         OperationNameAndNamespace operationNameAndNamespace = new OperationNameAndNamespace(requestDocument);
         if (XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0.equals(operationNameAndNamespace.getNamespace()) &&
                 XmlNetconfConstants.GET.equals(operationNameAndNamespace.getOperationName()) ||
@@ -51,9 +43,6 @@ public class SubtreeFilter {
                     "subtree".equals(maybeFilter.get().getAttribute("type"))||
                             "subtree".equals(maybeFilter.get().getAttribute("type", XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0)))
             ) {
-
-
-                // do
                 return filtered(maybeFilter.get(), rpcReply);
             }
         }
@@ -126,7 +115,7 @@ public class SubtreeFilter {
      */
     private static MatchingResult matches(XmlElement src, XmlElement filter) throws NetconfDocumentedException {
         boolean tagMatch = src.getName().equals(filter.getName()) &&
-                src.getNamespaceOptionally().equals(filter.getNamespaceOptionally());
+                getInheritedNamespace(src).equals(filter.getNamespaceOptionally());
         MatchingResult result = null;
         if (tagMatch) {
             // match text content
@@ -164,6 +153,31 @@ public class SubtreeFilter {
         return result;
     }
 
+    /**
+     * Namespace of element as if the reply was serialized and parsed again. Some replies contain elements created
+     * without namespace, e.g. services/service, which inherit namespace of their parents once serialized.
+     */
+    private static Optional<String> getInheritedNamespace(final XmlElement element) {
+        Optional<String> namespace = element.getNamespaceOptionally();
+        if (namespace.isPresent()) {
+            return namespace;
+        }
+        String tagName = element.getDomElement().getTagName();
+        int indexOfColon = tagName.indexOf(':');
+        String prefix = indexOfColon == -1 ? null : tagName.substring(0, indexOfColon);
+        String declaration = prefix == null ? XmlUtil.XMLNS_ATTRIBUTE_KEY : XmlUtil.XMLNS_ATTRIBUTE_KEY + ':' + prefix;
+        for (Node node = element.getDomElement(); node instanceof Element; node = node.getParentNode()) {
+            Element ancestor = (Element) node;
+            if (ancestor.hasAttribute(declaration)) {
+                return Optional.fromNullable(Strings.emptyToNull(ancestor.getAttribute(declaration)));
+            }
+            if (ancestor.getNamespaceURI() != null && Objects.equal(ancestor.getPrefix(), prefix)) {
+                return Optional.of(ancestor.getNamespaceURI());
+            }
+        }
+        return Optional.absent();
+    }
+
     private static boolean prefixedContentMatches(final XmlElement filter, final XmlElement src) throws NetconfDocumentedException {
         final Map.Entry<String, String> prefixToNamespaceOfFilter = filter.findNamespaceOfTextContent();
         final Map.Entry<String, String> prefixToNamespaceOfSrc = src.findNamespaceOfTextContent();
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.impl;
+
+import static org.junit.Assert.assertTrue;
+
+import org.custommonkey.xmlunit.Diff;
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.Test;
+import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class SubtreeFilterInheritedNamespaceTest {
+
+    private static final String CONFIG_NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:config";
+
+    @Test
+    public void testElementsWithoutNamespaceMatchedByParentNamespace() throws Exception {
+        XMLUnit.setIgnoreWhitespace(true);
+        Document request = XmlUtil.readXmlToDocument("<rpc message-id=\"a\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">"
+                + "<get-config><source><running/></source><filter type=\"subtree\">"
+                + "<services xmlns=\"" + CONFIG_NAMESPACE + "\"><service><type>type1</type></service></services>"
+                + "</filter></get-config></rpc>");
+
+        // reply built in DOM, service elements are created without namespace as done by config-netconf-connector
+        Document reply = XmlUtil.newDocument();
+        Element rpcReply = reply.createElementNS(XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0, "rpc-reply");
+        reply.appendChild(rpcReply);
+        Element data = reply.createElementNS(XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0, "data");
+        rpcReply.appendChild(data);
+        Element services = reply.createElementNS(CONFIG_NAMESPACE, "services");
+        data.appendChild(services);
+        services.appendChild(service(reply, "type1"));
+        services.appendChild(service(reply, "type2"));
+
+        Document filtered = SubtreeFilter.applySubtreeFilter(request, reply);
+
+        Document expected = XmlUtil.readXmlToDocument("<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><data>"
+                + "<services xmlns=\"" + CONFIG_NAMESPACE + "\"><service><type>type1</type><name>type1-instance</name></service></services>"
+                + "</data></rpc-reply>");
+        // compare serialized forms, as the filtered reply is serialized before it is sent
+        Diff diff = XMLUnit.compareXML(expected, XmlUtil.readXmlToDocument(XmlUtil.toString(filtered)));
+        assertTrue(diff.toString(), diff.similar());
+    }
+
+    private static Element service(final Document document, final String type) {
+        Element service = document.createElement("service");
+        Element typeElement = document.createElement("type");
+        typeElement.setTextContent(type);
+        service.appendChild(typeElement);
+        Element name = document.createElement("name");
+        name.setTextContent(type + "-instance");
+        service.appendChild(name);
+        return service;
+    }
+}
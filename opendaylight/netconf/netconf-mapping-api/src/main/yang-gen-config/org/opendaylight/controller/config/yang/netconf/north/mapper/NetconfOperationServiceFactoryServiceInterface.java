@@ -0,0 +1,17 @@
+/*
+* Generated file
+*
+* Generated from: yang module name: netconf-northbound-mapper yang module local name: netconf-northbound-mapper
+* Generated by: org.opendaylight.controller.config.yangjmxgenerator.plugin.JMXGenerator
+* Generated at: Mon Oct 19 05:32:01 UTC 2026
+*
+* Do not modify this file unless it is present under src/main directory
+*/
+package org.opendaylight.controller.config.yang.netconf.north.mapper;
+@org.opendaylight.controller.config.api.annotations.ServiceInterfaceAnnotation(value = "(urn:opendaylight:params:xml:ns:yang:controller:netconf:north:mapper?revision=2015-01-14)netconf-northbound-mapper", osgiRegistrationType = org.opendaylight.controller.netconf.mapping.api.NetconfOperationServiceFactory.class, namespace = "urn:opendaylight:params:xml:ns:yang:controller:netconf:north:mapper", revision = "2015-01-14", localName = "netconf-northbound-mapper")
+
+@org.opendaylight.yangtools.yang.binding.annotations.ModuleQName(namespace = "urn:opendaylight:params:xml:ns:yang:controller:netconf:north:mapper", revision = "2015-01-14", name = "netconf-northbound-mapper")
+
+public interface NetconfOperationServiceFactoryServiceInterface extends org.opendaylight.controller.config.api.annotations.AbstractServiceInterface {
+
+}
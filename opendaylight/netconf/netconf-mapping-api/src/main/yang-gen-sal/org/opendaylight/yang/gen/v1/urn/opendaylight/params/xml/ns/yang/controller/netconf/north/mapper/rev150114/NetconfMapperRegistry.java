@@ -0,0 +1,39 @@
+package org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.netconf.north.mapper.rev150114;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.config.rev130405.ServiceType;
+import org.opendaylight.yangtools.yang.common.QName;
+
+
+/**
+ * &lt;p&gt;This class represents the following YANG schema fragment defined in module &lt;b&gt;netconf-northbound-mapper&lt;/b&gt;
+ * &lt;br&gt;(Source path: &lt;i&gt;META-INF/yang/netconf-northbound-mapper.yang&lt;/i&gt;):
+ * &lt;pre&gt;
+ * identity netconf-mapper-registry {
+ *     base "()IdentitySchemaNodeImpl[base=null, qname=(urn:opendaylight:params:xml:ns:yang:controller:config?revision=2013-04-05)service-type]";
+ *     status CURRENT;
+ * }
+ * &lt;/pre&gt;
+ * The schema path to identify an instance is
+ * &lt;i&gt;netconf-northbound-mapper/netconf-mapper-registry&lt;/i&gt;
+ *
+ */
+public abstract class NetconfMapperRegistry extends ServiceType
+ {
+    public static final QName QNAME = org.opendaylight.yangtools.yang.common.QName.cachedReference(org.opendaylight.yangtools.yang.common.QName.create("urn:opendaylight:params:xml:ns:yang:controller:netconf:north:mapper","2015-01-14","netconf-mapper-registry"));
+
+
+    public NetconfMapperRegistry() {
+    
+    
+    }
+    
+
+
+
+
+
+
+
+
+
+}
+
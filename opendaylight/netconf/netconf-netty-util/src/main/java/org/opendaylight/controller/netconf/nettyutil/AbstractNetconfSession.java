@@ -134,7 +134,7 @@ public abstract class AbstractNetconfSession<S extends NetconfSession, L extends
 
         final NetconfEXIToMessageDecoder exiDecoder;
         try {
-            exiDecoder = NetconfEXIToMessageDecoder.create(exiCodec);
+            exiDecoder = createExiDecoder(exiCodec);
         } catch (EXIOptionsException e) {
             LOG.warn("Failed to instantiate EXI decodeer for {} on session {}", exiCodec, this, e);
             throw new IllegalStateException("Cannot instantiate encoder for options", e);
@@ -144,6 +144,13 @@ public abstract class AbstractNetconfSession<S extends NetconfSession, L extends
         LOG.debug("Session {} EXI handlers added to pipeline", this);
     }
 
+    /**
+     * Create decoder of incoming EXI messages. Decoded messages are DOM documents by default.
+     */
+    protected NetconfEXIToMessageDecoder createExiDecoder(final NetconfEXICodec exiCodec) throws EXIOptionsException {
+        return NetconfEXIToMessageDecoder.create(exiCodec);
+    }
+
     /**
      * Add a set encoder/decoder tuple into the channel pipeline as appropriate.
      *
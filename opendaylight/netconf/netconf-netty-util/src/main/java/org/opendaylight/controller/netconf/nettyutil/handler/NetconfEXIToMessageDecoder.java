@@ -21,6 +21,8 @@ import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.XmlEventNetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlEventBuffer;
 import org.openexi.proc.common.EXIOptionsException;
 import org.openexi.sax.EXIReader;
 import org.slf4j.Logger;
@@ -39,13 +41,24 @@ public final class NetconfEXIToMessageDecoder extends ByteToMessageDecoder {
      * cannot be invoked concurrently. Hence we can reuse the reader.
      */
     private final EXIReader reader;
+    private final boolean lazy;
 
-    private NetconfEXIToMessageDecoder(final EXIReader reader) {
+    private NetconfEXIToMessageDecoder(final EXIReader reader, final boolean lazy) {
         this.reader = Preconditions.checkNotNull(reader);
+        this.lazy = lazy;
     }
 
     public static NetconfEXIToMessageDecoder create(final NetconfEXICodec codec) throws EXIOptionsException {
-        return new NetconfEXIToMessageDecoder(codec.getReader());
+        return create(codec, false);
+    }
+
+    /**
+     * @param lazy if true, EXI events are recorded instead of building DOM, see {@link XmlEventNetconfMessage}.
+     *             Consumers can then stream the message, e.g. straight into normalized nodes, and DOM is built only
+     *             if requested.
+     */
+    public static NetconfEXIToMessageDecoder create(final NetconfEXICodec codec, final boolean lazy) throws EXIOptionsException {
+        return new NetconfEXIToMessageDecoder(codec.getReader(), lazy);
     }
 
     @Override
@@ -67,17 +80,26 @@ public final class NetconfEXIToMessageDecoder extends ByteToMessageDecoder {
             LOG.trace("Received to decode: {}", ByteBufUtil.hexDump(in));
         }
 
-        final TransformerHandler handler = FACTORY.newTransformerHandler();
-        reader.setContentHandler(handler);
-
-        final DOMResult domResult = new DOMResult();
-        handler.setResult(domResult);
+        if (lazy) {
+            // Keep the decoded events as they are, consumers pull them without any text in between
+            final XmlEventBuffer.Recorder recorder = XmlEventBuffer.recorder();
+            reader.setContentHandler(recorder);
+            parse(in);
+            out.add(new XmlEventNetconfMessage(recorder.build()));
+        } else {
+            final TransformerHandler handler = FACTORY.newTransformerHandler();
+            reader.setContentHandler(handler);
+            final DOMResult domResult = new DOMResult();
+            handler.setResult(domResult);
+            parse(in);
+            out.add(new NetconfMessage((Document) domResult.getNode()));
+        }
+    }
 
+    private void parse(final ByteBuf in) throws IOException, SAXException {
         try (final InputStream is = new ByteBufInputStream(in)) {
             // Performs internal reset before doing anything
             reader.parse(new InputSource(is));
         }
-
-        out.add(new NetconfMessage((Document) domResult.getNode()));
     }
 }
@@ -19,12 +19,14 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXResult;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
 import org.openexi.proc.common.EXIOptionsException;
 import org.openexi.sax.Transmogrifier;
 import org.openexi.sax.TransmogrifierException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 
 public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<NetconfMessage> {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToEXIEncoder.class);
@@ -44,7 +46,7 @@ public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<Netco
     }
 
     @Override
-    protected void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws EXIOptionsException, IOException, TransformerException, TransmogrifierException {
+    protected void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws EXIOptionsException, IOException, TransformerException, TransmogrifierException, SAXException {
         LOG.trace("Sent to encode : {}", msg);
 
         // TODO Workaround for bug 2679, recreate transmogrifier every time
@@ -56,8 +58,13 @@ public final class NetconfMessageToEXIEncoder extends MessageToByteEncoder<Netco
         try (final OutputStream os = new ByteBufOutputStream(out)) {
             transmogrifier.setOutputStream(os);
             final ContentHandler handler = transmogrifier.getSAXTransmogrifier();
-            final Transformer transformer = ThreadLocalTransformers.getDefaultTransformer();
-            transformer.transform(new DOMSource(msg.getDocument()), new SAXResult(handler));
+            if (msg instanceof LazyNetconfMessage && !((LazyNetconfMessage) msg).isDocumentBuilt()) {
+                // The message feeds its SAX events straight into EXI, no need to build DOM
+                ((LazyNetconfMessage) msg).writeTo(handler);
+            } else {
+                final Transformer transformer = ThreadLocalTransformers.getDefaultTransformer();
+                transformer.transform(new DOMSource(msg.getDocument()), new SAXResult(handler));
+            }
         } finally {
             // Make sure we do not retain any reference to state by removing
             // the output stream reference and resetting internal state.
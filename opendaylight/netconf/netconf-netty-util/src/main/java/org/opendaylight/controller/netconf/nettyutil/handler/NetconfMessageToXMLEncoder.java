@@ -21,6 +21,7 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.LazyNetconfMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Comment;
@@ -43,6 +44,14 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
     public void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) throws IOException, TransformerException {
         LOG.trace("Sent to encode : {}", msg);
 
+        if (msg instanceof LazyNetconfMessage && !((LazyNetconfMessage) msg).isDocumentBuilt() && !clientId.isPresent()) {
+            // Write the message directly, no need to build and transform DOM
+            try (OutputStream os = new ByteBufOutputStream(out)) {
+                ((LazyNetconfMessage) msg).writeTo(os);
+            }
+            return;
+        }
+
         if (clientId.isPresent()) {
             Comment comment = msg.getDocument().createComment("clientId:" + clientId.get());
             msg.getDocument().appendChild(comment);
@@ -15,6 +15,7 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 import java.io.IOException;
 import java.util.List;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.SerializedNetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,21 @@ import org.xml.sax.SAXException;
 public final class NetconfXMLToMessageDecoder extends ByteToMessageDecoder {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfXMLToMessageDecoder.class);
 
+    private final boolean lazy;
+
+    public NetconfXMLToMessageDecoder() {
+        this(false);
+    }
+
+    /**
+     * @param lazy if true, messages keep the bytes of their frame and are not parsed here, see
+     *             {@link SerializedNetconfMessage}. Consumers read them in a single streaming pass, which
+     *             reports malformed messages.
+     */
+    public NetconfXMLToMessageDecoder(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
     @Override
     public void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) throws IOException, SAXException {
         if (in.isReadable()) {
@@ -30,7 +46,13 @@ public final class NetconfXMLToMessageDecoder extends ByteToMessageDecoder {
                 LOG.trace("Received to decode: {}", ByteBufUtil.hexDump(in));
             }
 
-            out.add(new NetconfMessage(XmlUtil.readXmlToDocument(new ByteBufInputStream(in))));
+            if (lazy) {
+                final byte[] bytes = new byte[in.readableBytes()];
+                in.readBytes(bytes);
+                out.add(new SerializedNetconfMessage(bytes));
+            } else {
+                out.add(new NetconfMessage(XmlUtil.readXmlToDocument(new ByteBufInputStream(in))));
+            }
         } else {
             LOG.debug("No more content in incoming buffer.");
         }
@@ -10,6 +10,9 @@ package org.opendaylight.controller.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -22,6 +25,8 @@ import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.SerializedNetconfMessage;
+import org.opendaylight.controller.netconf.util.messages.XmlEventNetconfMessage;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
 import org.openexi.proc.common.EXIOptions;
 import org.openexi.proc.common.EXIOptionsException;
@@ -34,6 +39,7 @@ public class NetconfEXIHandlersTest {
     private final String msgAsString = "<netconf-message/>";
     private NetconfMessageToEXIEncoder netconfMessageToEXIEncoder;
     private NetconfEXIToMessageDecoder netconfEXIToMessageDecoder;
+    private NetconfEXIToMessageDecoder lazyNetconfEXIToMessageDecoder;
     private NetconfMessage msg;
     private byte[] msgAsExi;
 
@@ -42,6 +48,7 @@ public class NetconfEXIHandlersTest {
         final NetconfEXICodec codec = new NetconfEXICodec(new EXIOptions());
         netconfMessageToEXIEncoder = NetconfMessageToEXIEncoder.create(codec);
         netconfEXIToMessageDecoder = NetconfEXIToMessageDecoder.create(codec);
+        lazyNetconfEXIToMessageDecoder = NetconfEXIToMessageDecoder.create(codec, true);
 
         msg = new NetconfMessage(XmlUtil.readXmlToDocument(msgAsString));
         this.msgAsExi = msgToExi(msgAsString, codec);
@@ -73,4 +80,30 @@ public class NetconfEXIHandlersTest {
 
         XMLUnit.compareXML(msg.getDocument(), ((NetconfMessage) out.get(0)).getDocument());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEncodeDecodeWithoutDocument() throws Exception {
+        final SerializedNetconfMessage serialized = new SerializedNetconfMessage(msgAsString.getBytes());
+
+        final ByteBuf buffer = Unpooled.buffer();
+        netconfMessageToEXIEncoder.encode(null, serialized, buffer);
+        assertFalse(serialized.isDocumentBuilt());
+        assertArrayEquals(msgAsExi, Arrays.copyOfRange(buffer.array(), 0, msgAsExi.length));
+
+        final List<Object> out = Lists.newArrayList();
+        lazyNetconfEXIToMessageDecoder.decode(null, buffer, out);
+
+        assertTrue(out.get(0) instanceof XmlEventNetconfMessage);
+        final XmlEventNetconfMessage decoded = (XmlEventNetconfMessage) out.get(0);
+        assertEquals("netconf-message", decoded.getRootElementName());
+        assertFalse(decoded.isDocumentBuilt());
+
+        // Decoded events are encoded again without any DOM or text in between
+        final ByteBuf reencoded = Unpooled.buffer();
+        netconfMessageToEXIEncoder.encode(null, decoded, reencoded);
+        assertFalse(decoded.isDocumentBuilt());
+        assertArrayEquals(msgAsExi, Arrays.copyOfRange(reencoded.array(), 0, msgAsExi.length));
+
+        XMLUnit.compareXML(msg.getDocument(), decoded.getDocument());
+    }
+}
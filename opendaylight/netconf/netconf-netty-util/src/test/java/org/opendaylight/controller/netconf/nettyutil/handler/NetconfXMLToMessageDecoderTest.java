@@ -9,11 +9,17 @@
 package org.opendaylight.controller.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Lists;
 import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.junit.Test;
+import org.opendaylight.controller.netconf.util.messages.SerializedNetconfMessage;
+import org.xml.sax.SAXParseException;
 
 public class NetconfXMLToMessageDecoderTest {
 
@@ -30,4 +36,38 @@ public class NetconfXMLToMessageDecoderTest {
         new NetconfXMLToMessageDecoder().decode(null, Unpooled.wrappedBuffer("<msg/>".getBytes()), out);
         assertEquals(1, out.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDecodeLazy() throws Exception {
+        final ArrayList<Object> out = Lists.newArrayList();
+        new NetconfXMLToMessageDecoder(true).decode(null, Unpooled.wrappedBuffer("<msg a=\"b\"/>".getBytes()), out);
+        assertEquals(1, out.size());
+
+        final SerializedNetconfMessage msg = (SerializedNetconfMessage) out.get(0);
+        assertEquals("msg", msg.getRootElementName());
+        assertEquals("b", msg.getRootAttribute("a"));
+        assertFalse(msg.isDocumentBuilt());
+        assertEquals("msg", msg.getDocument().getDocumentElement().getLocalName());
+        assertTrue(msg.isDocumentBuilt());
+    }
+
+    @Test(expected = SAXParseException.class)
+    public void testDecodeMalformed() throws Exception {
+        new NetconfXMLToMessageDecoder().decode(null, Unpooled.wrappedBuffer("<msg><a></msg>".getBytes()), Lists.newArrayList());
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testDecodeLazyMalformed() throws Exception {
+        // The frame is not parsed by the decoder, the error is found by the pass reading the message
+        final ArrayList<Object> out = Lists.newArrayList();
+        new NetconfXMLToMessageDecoder(true).decode(null, Unpooled.wrappedBuffer("<msg><a/><b></msg>".getBytes()), out);
+        assertEquals(1, out.size());
+
+        final SerializedNetconfMessage msg = (SerializedNetconfMessage) out.get(0);
+        assertEquals("msg", msg.getRootElementName());
+        final XMLStreamReader reader = msg.createStreamReader();
+        while (reader.hasNext()) {
+            reader.next();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects latency samples and computes their percentiles. All samples are kept, which is fine
+ * for the number of samples produced by a single test run.
+ */
+final class LatencyStatistics {
+
+    private final List<Long> samples = new ArrayList<>();
+
+    synchronized void record(final long nanos) {
+        samples.add(nanos);
+    }
+
+    synchronized int getCount() {
+        return samples.size();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return sample in milliseconds, that percentile of samples are lower than or equal to, 0 if there are no samples
+     */
+    synchronized double getPercentileMillis(final double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "Percentile has to be between 0 and 100");
+        if (samples.isEmpty()) {
+            return 0;
+        }
+
+        Collections.sort(samples);
+        // Nearest rank
+        final int rank = (int) Math.ceil(percentile / 100 * samples.size());
+        return toMillis(samples.get(Math.max(rank, 1) - 1));
+    }
+
+    synchronized double getMaxMillis() {
+        return samples.isEmpty() ? 0 : toMillis(Collections.max(samples));
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("count=%d, p50=%.2fms, p90=%.2fms, p99=%.2fms, max=%.2fms", getCount(),
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis());
+    }
+}
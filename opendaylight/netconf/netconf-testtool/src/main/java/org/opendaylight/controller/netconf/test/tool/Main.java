@@ -81,6 +81,42 @@ public final class Main {
         @Arg(dest = "notification-file")
         public File notificationFile;
 
+        @Arg(dest = "notification-rate")
+        public int notificationRate;
+
+        @Arg(dest = "get-payload-size")
+        public int getPayloadSize;
+
+        @Arg(dest = "rpc-latency")
+        public long rpcLatency;
+
+        @Arg(dest = "scale-test")
+        public boolean scaleTest;
+
+        @Arg(dest = "controller-restconf-url")
+        public String controllerRestconfUrl;
+
+        @Arg(dest = "controller-username")
+        public String controllerUsername;
+
+        @Arg(dest = "controller-password")
+        public String controllerPassword;
+
+        @Arg(dest = "scale-test-timeout")
+        public int scaleTestTimeout;
+
+        @Arg(dest = "scale-test-rpc-count")
+        public int scaleTestRpcCount;
+
+        @Arg(dest = "scale-test-rpc-threads")
+        public int scaleTestRpcThreads;
+
+        @Arg(dest = "scale-test-notification-time")
+        public int scaleTestNotificationTime;
+
+        @Arg(dest = "scale-test-report")
+        public File scaleTestReport;
+
         static ArgumentParser getParser() {
             final ArgumentParser parser = ArgumentParsers.newArgumentParser("netconf testool");
 
@@ -103,6 +139,24 @@ public final class Main {
                     .help("Xml file containing notifications that should be sent to clients after create subscription is called")
                     .dest("notification-file");
 
+            parser.addArgument("--notification-rate")
+                    .type(Integer.class)
+                    .setDefault(0)
+                    .help("Number of generated notifications per second sent to each client after create subscription is called. Notification file is ignored if set")
+                    .dest("notification-rate");
+
+            parser.addArgument("--get-payload-size")
+                    .type(Integer.class)
+                    .setDefault(0)
+                    .help("Number of generated list entries (about 100 bytes each) in every get reply")
+                    .dest("get-payload-size");
+
+            parser.addArgument("--rpc-latency-millis")
+                    .type(Long.class)
+                    .setDefault(0L)
+                    .help("Latency added to every message sent by simulated devices")
+                    .dest("rpc-latency");
+
             parser.addArgument("--starting-port")
                     .type(Integer.class)
                     .setDefault(17830)
@@ -144,6 +198,60 @@ public final class Main {
                     .help("Whether to use exi to transport xml content")
                     .dest("exi");
 
+            parser.addArgument("--scale-test")
+                    .type(Boolean.class)
+                    .setDefault(false)
+                    .help("Whether to measure connect time, schema setup time, rpc latency and notification throughput of a controller connected to simulated devices")
+                    .dest("scale-test");
+
+            parser.addArgument("--controller-restconf-url")
+                    .type(String.class)
+                    .setDefault("http://127.0.0.1:8181/restconf")
+                    .help("Restconf of the controller used by scale test")
+                    .dest("controller-restconf-url");
+
+            parser.addArgument("--controller-username")
+                    .type(String.class)
+                    .setDefault("admin")
+                    .help("Username for controller's restconf")
+                    .dest("controller-username");
+
+            parser.addArgument("--controller-password")
+                    .type(String.class)
+                    .setDefault("admin")
+                    .help("Password for controller's restconf")
+                    .dest("controller-password");
+
+            parser.addArgument("--scale-test-timeout-seconds")
+                    .type(Integer.class)
+                    .setDefault((int) TimeUnit.MINUTES.toSeconds(30))
+                    .help("How long scale test waits for the controller to connect all simulated devices")
+                    .dest("scale-test-timeout");
+
+            parser.addArgument("--scale-test-rpc-count")
+                    .type(Integer.class)
+                    .setDefault(1000)
+                    .help("Number of get requests sent to connected devices by scale test")
+                    .dest("scale-test-rpc-count");
+
+            parser.addArgument("--scale-test-rpc-threads")
+                    .type(Integer.class)
+                    .setDefault(8)
+                    .help("Number of concurrent get requests sent by scale test")
+                    .dest("scale-test-rpc-threads");
+
+            parser.addArgument("--scale-test-notification-seconds")
+                    .type(Integer.class)
+                    .setDefault(30)
+                    .help("How long scale test measures notification throughput")
+                    .dest("scale-test-notification-time");
+
+            parser.addArgument("--scale-test-report")
+                    .type(File.class)
+                    .setDefault(new File("scale-test-report.txt"))
+                    .help("File to write scale test report to, in addition to the log")
+                    .dest("scale-test-report");
+
             parser.addArgument("--debug")
                     .type(Boolean.class)
                     .setDefault(false)
@@ -156,6 +264,16 @@ public final class Main {
         void validate() {
             checkArgument(deviceCount > 0, "Device count has to be > 0");
             checkArgument(startingPort > 1023, "Starting port has to be > 1023");
+            checkArgument(notificationRate >= 0, "Notification rate has to be >= 0");
+            checkArgument(getPayloadSize >= 0, "Get payload size has to be >= 0");
+            checkArgument(rpcLatency >= 0, "Rpc latency has to be >= 0");
+
+            if(scaleTest) {
+                // Requests of scale test read the generated payload
+                checkArgument(getPayloadSize > 0, "Get payload size has to be > 0 for scale test");
+                checkArgument(scaleTestRpcThreads > 0, "Scale test rpc threads has to be > 0");
+                checkArgument(scaleTestNotificationTime > 0, "Scale test notification time has to be > 0");
+            }
 
             if(schemasDir != null) {
                 checkArgument(schemasDir.exists(), "Schemas dir has to exist");
@@ -185,6 +303,9 @@ public final class Main {
                 configGenerator.updateFeatureFile(generated);
                 configGenerator.changeLoadOrder();
             }
+            if(params.scaleTest) {
+                new ScaleTestDriver(params, netconfDeviceSimulator.getStatistics(), openDevices).run();
+            }
         } catch (final Exception e) {
             LOG.error("Unhandled exception", e);
             netconfDeviceSimulator.close();
@@ -214,7 +335,7 @@ public final class Main {
         return null;
     }
 
-    private static class ConfigGenerator {
+    static class ConfigGenerator {
         public static final String NETCONF_CONNECTOR_XML = "/initial/99-netconf-connector.xml";
         public static final String NETCONF_CONNECTOR_NAME = "controller-config";
         public static final String NETCONF_CONNECTOR_PORT = "1830";
@@ -79,6 +79,7 @@ import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedEditConfig;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedGet;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedGetConfig;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedLock;
+import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedPayload;
 import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedUnLock;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceException;
@@ -108,6 +109,7 @@ public class NetconfDeviceSimulator implements Closeable {
     private final List<SshProxyServer> sshWrappers = Lists.newArrayList();
     private final ScheduledExecutorService minaTimerExecutor;
     private final ExecutorService nioExecutor;
+    private final SimulatorStatistics statistics = new SimulatorStatistics();
 
     private boolean sendFakeSchema = false;
 
@@ -125,7 +127,7 @@ public class NetconfDeviceSimulator implements Closeable {
         this.nioExecutor = nioExecutor;
     }
 
-    private NetconfServerDispatcherImpl createDispatcher(final Map<ModuleBuilder, String> moduleBuilders, final boolean exi, final int generateConfigsTimeout, final Optional<File> notificationsFile) {
+    private NetconfServerDispatcherImpl createDispatcher(final Map<ModuleBuilder, String> moduleBuilders, final Main.Params params) {
 
         final Set<Capability> capabilities = Sets.newHashSet(Collections2.transform(moduleBuilders.keySet(), new Function<ModuleBuilder, Capability>() {
             @Override
@@ -142,7 +144,8 @@ public class NetconfDeviceSimulator implements Closeable {
         final SessionIdProvider idProvider = new SessionIdProvider();
 
         final AggregatedNetconfOperationServiceFactory aggregatedNetconfOperationServiceFactory = new AggregatedNetconfOperationServiceFactory();
-        final SimulatedOperationProvider simulatedOperationProvider = new SimulatedOperationProvider(idProvider, capabilities, notificationsFile);
+        final SimulatedOperationProvider simulatedOperationProvider = new SimulatedOperationProvider(idProvider, capabilities,
+                Optional.fromNullable(params.notificationFile), params.notificationRate, params.getPayloadSize, statistics);
 
         final NetconfMonitoringService monitoringService1 = new DummyMonitoringService(capabilities);
 
@@ -154,15 +157,15 @@ public class NetconfDeviceSimulator implements Closeable {
 
         final DefaultCommitNotificationProducer commitNotifier = new DefaultCommitNotificationProducer(ManagementFactory.getPlatformMBeanServer());
 
-        final Set<String> serverCapabilities = exi
+        final Set<String> serverCapabilities = params.exi
                 ? NetconfServerSessionNegotiatorFactory.DEFAULT_BASE_CAPABILITIES
                 : Sets.newHashSet(XmlNetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_0, XmlNetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_1);
 
         final NetconfServerSessionNegotiatorFactory serverNegotiatorFactory = new NetconfServerSessionNegotiatorFactory(
-                hashedWheelTimer, aggregatedNetconfOperationServiceFactory, idProvider, generateConfigsTimeout, commitNotifier, monitoringService1, serverCapabilities);
+                hashedWheelTimer, aggregatedNetconfOperationServiceFactory, idProvider, params.generateConfigsTimeout, commitNotifier, monitoringService1, serverCapabilities);
 
-        final NetconfServerDispatcherImpl.ServerChannelInitializer serverChannelInitializer = new NetconfServerDispatcherImpl.ServerChannelInitializer(
-                serverNegotiatorFactory);
+        final NetconfServerDispatcherImpl.ServerChannelInitializer serverChannelInitializer = new SimulatedDeviceChannelInitializer(
+                serverNegotiatorFactory, statistics, params.rpcLatency);
         return new NetconfServerDispatcherImpl(serverChannelInitializer, nettyThreadgroup, nettyThreadgroup);
     }
 
@@ -199,7 +202,7 @@ public class NetconfDeviceSimulator implements Closeable {
 
         final Map<ModuleBuilder, String> moduleBuilders = parseSchemasToModuleBuilders(params);
 
-        final NetconfServerDispatcherImpl dispatcher = createDispatcher(moduleBuilders, params.exi, params.generateConfigsTimeout, Optional.fromNullable(params.notificationFile));
+        final NetconfServerDispatcherImpl dispatcher = createDispatcher(moduleBuilders, params);
 
         int currentPort = params.startingPort;
 
@@ -219,6 +222,7 @@ public class NetconfDeviceSimulator implements Closeable {
             if(params.ssh) {
                 final InetSocketAddress bindingAddress = InetSocketAddress.createUnresolved("0.0.0.0", currentPort);
                 final LocalAddress tcpLocalAddress = new LocalAddress(address.toString());
+                statistics.registerLocalDevice(tcpLocalAddress, currentPort);
 
                 server = dispatcher.createLocalServer(tcpLocalAddress);
                 try {
@@ -282,6 +286,10 @@ public class NetconfDeviceSimulator implements Closeable {
         return openDevices;
     }
 
+    public SimulatorStatistics getStatistics() {
+        return statistics;
+    }
+
     private SshProxyServerConfiguration getSshConfiguration(final InetSocketAddress bindingAddress, final LocalAddress tcpLocalAddress, final PEMGeneratorHostKeyProvider keyPairProvider) throws IOException {
         return new SshProxyServerConfigurationBuilder()
                 .setBindingAddress(bindingAddress)
@@ -362,6 +370,13 @@ public class NetconfDeviceSimulator implements Closeable {
 
         sId = new SourceIdentifier("ietf-inet-types", "2010-09-24");
         registerSource(consumer, "/META-INF/yang/ietf-inet-types.yang", sId);
+
+        // Notifications are needed by clients to subscribe for notifications streamed by simulated devices
+        sId = new SourceIdentifier("notifications", "2008-07-14");
+        registerSource(consumer, "/META-INF/yang/notifications@2008-07-14.yang", sId);
+
+        sId = new SourceIdentifier(SimulatedPayload.MODULE_NAME, SimulatedPayload.REVISION);
+        registerSource(consumer, "/META-INF/yang/" + SimulatedPayload.MODULE_NAME + ".yang", sId);
     }
 
     private void registerSource(final SharedSchemaRepository consumer, final String resource, final SourceIdentifier sourceId) {
@@ -411,9 +426,11 @@ public class NetconfDeviceSimulator implements Closeable {
         private final SimulatedOperationService simulatedOperationService;
 
 
-        public SimulatedOperationProvider(final SessionIdProvider idProvider, final Set<Capability> caps, final Optional<File> notificationsFile) {
+        public SimulatedOperationProvider(final SessionIdProvider idProvider, final Set<Capability> caps, final Optional<File> notificationsFile,
+                                          final int notificationRate, final int getPayloadSize, final SimulatorStatistics statistics) {
             this.caps = caps;
-            simulatedOperationService = new SimulatedOperationService(idProvider.getCurrentSessionId(), notificationsFile);
+            simulatedOperationService = new SimulatedOperationService(idProvider.getCurrentSessionId(), notificationsFile,
+                    notificationRate, getPayloadSize, statistics);
         }
 
         @Override
@@ -438,22 +455,30 @@ public class NetconfDeviceSimulator implements Closeable {
         static class SimulatedOperationService implements NetconfOperationService {
             private final long currentSessionId;
             private final Optional<File> notificationsFile;
+            private final int notificationRate;
+            private final int getPayloadSize;
+            private final SimulatorStatistics statistics;
 
-            public SimulatedOperationService(final long currentSessionId, final Optional<File> notificationsFile) {
+            public SimulatedOperationService(final long currentSessionId, final Optional<File> notificationsFile,
+                                             final int notificationRate, final int getPayloadSize, final SimulatorStatistics statistics) {
                 this.currentSessionId = currentSessionId;
                 this.notificationsFile = notificationsFile;
+                this.notificationRate = notificationRate;
+                this.getPayloadSize = getPayloadSize;
+                this.statistics = statistics;
             }
 
             @Override
             public Set<NetconfOperation> getNetconfOperations() {
                 final DataList storage = new DataList();
-                final SimulatedGet sGet = new SimulatedGet(String.valueOf(currentSessionId), storage);
+                final SimulatedGet sGet = new SimulatedGet(String.valueOf(currentSessionId), storage, getPayloadSize);
                 final SimulatedEditConfig sEditConfig = new SimulatedEditConfig(String.valueOf(currentSessionId), storage);
                 final SimulatedGetConfig sGetConfig = new SimulatedGetConfig(String.valueOf(currentSessionId), storage);
                 final SimulatedCommit sCommit = new SimulatedCommit(String.valueOf(currentSessionId));
                 final SimulatedLock sLock = new SimulatedLock(String.valueOf(currentSessionId));
                 final SimulatedUnLock sUnlock = new SimulatedUnLock(String.valueOf(currentSessionId));
-                final SimulatedCreateSubscription sCreateSubs = new SimulatedCreateSubscription(String.valueOf(currentSessionId), notificationsFile);
+                final SimulatedCreateSubscription sCreateSubs = new SimulatedCreateSubscription(String.valueOf(currentSessionId), notificationsFile,
+                        notificationRate, statistics);
                 return Sets.<NetconfOperation>newHashSet(sGet,  sGetConfig, sEditConfig, sCommit, sLock, sUnlock, sCreateSubs);
             }
 
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.netconf.test.tool.rpc.SimulatedPayload;
+import org.opendaylight.controller.netconf.util.xml.XmlElement;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures how a controller running netconf connector copes with simulated devices. The controller is expected
+ * to have a connector configured for each simulated device, e.g. by configs generated by testtool.
+ * <p/>
+ * Following is reported:
+ * <ul>
+ * <li>connect time: time from the first device connected by the controller until each device is connected</li>
+ * <li>schema setup time: time from a device connected until the controller reports it as connected in topology,
+ * measured with precision of topology polling interval</li>
+ * <li>rpc latency: latency of get requests on devices' mount points, issued over restconf</li>
+ * <li>notification throughput: number of notifications per second written by devices to the controller,
+ * a controller unable to keep up slows down the devices by tcp backpressure</li>
+ * </ul>
+ */
+final class ScaleTestDriver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScaleTestDriver.class);
+
+    private static final String TOPOLOGY_PATH = "network-topology:network-topology/topology/topology-netconf";
+    private static final String MOUNT_PATH = "/yang-ext:mount/";
+    private static final String CONNECTED = "connected";
+    private static final String XML = "application/xml";
+    private static final long POLL_INTERVAL_MILLIS = 500;
+    private static final int HTTP_TIMEOUT_MILLIS = (int) TimeUnit.MINUTES.toMillis(1);
+
+    private final Main.Params params;
+    private final SimulatorStatistics statistics;
+    private final List<Integer> openDevices;
+    private final String authorization;
+    private final Map<String, String> report = new LinkedHashMap<>();
+
+    ScaleTestDriver(final Main.Params params, final SimulatorStatistics statistics, final List<Integer> openDevices) {
+        this.params = params;
+        this.statistics = statistics;
+        this.openDevices = openDevices;
+        this.authorization = "Basic " + BaseEncoding.base64().encode(
+                (params.controllerUsername + ":" + params.controllerPassword).getBytes(Charsets.UTF_8));
+    }
+
+    /**
+     * Run all measurements and log the report, also write it to report file if configured.
+     */
+    void run() throws InterruptedException, IOException {
+        LOG.info("Scale test started against {}, waiting for {} devices to be connected", params.controllerRestconfUrl, openDevices.size());
+
+        final Map<Integer, Long> connectedDevices = waitForConnectedDevices();
+        reportSetupTimes(connectedDevices);
+
+        if (connectedDevices.isEmpty() == false) {
+            measureRpcLatency(Lists.newArrayList(connectedDevices.keySet()));
+            if (params.notificationRate > 0) {
+                measureNotificationThroughput(Lists.newArrayList(connectedDevices.keySet()));
+            }
+        }
+
+        final StringBuilder b = new StringBuilder();
+        for (final Map.Entry<String, String> entry : report.entrySet()) {
+            LOG.info("{}: {}", entry.getKey(), entry.getValue());
+            b.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        if (params.scaleTestReport != null) {
+            Files.write(b.toString(), params.scaleTestReport, Charsets.UTF_8);
+            LOG.info("Scale test report written to {}", params.scaleTestReport);
+        }
+    }
+
+    /**
+     * @return device port -> System.nanoTime() when the device was first seen connected in controller's topology
+     */
+    private Map<Integer, Long> waitForConnectedDevices() throws InterruptedException {
+        final Map<Integer, Long> connected = new HashMap<>();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(params.scaleTestTimeout);
+
+        while (connected.size() < openDevices.size() && System.nanoTime() < deadline) {
+            final long now = System.nanoTime();
+            try {
+                for (final Integer device : getConnectedDevices()) {
+                    if (connected.containsKey(device) == false) {
+                        connected.put(device, now);
+                    }
+                }
+            } catch (final IOException | SAXException e) {
+                // Controller might not be up yet
+                LOG.debug("Unable to read netconf topology from controller", e);
+            }
+            LOG.debug("{} of {} devices connected", connected.size(), openDevices.size());
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+
+        if (connected.size() < openDevices.size()) {
+            LOG.warn("Only {} of {} devices connected within {} seconds", connected.size(), openDevices.size(), params.scaleTestTimeout);
+        }
+        return connected;
+    }
+
+    private List<Integer> getConnectedDevices() throws IOException, SAXException {
+        final HttpURLConnection connection = openConnection("GET", "/operational/" + TOPOLOGY_PATH);
+        final List<Integer> connected = Lists.newArrayList();
+        try (InputStream in = connection.getInputStream()) {
+            final XmlElement topology = XmlElement.fromDomDocument(XmlUtil.readXmlToDocument(in));
+            for (final XmlElement node : topology.getChildElements("node")) {
+                final Optional<XmlElement> nodeId = node.getOnlyChildElementOptionally("node-id");
+                final Optional<XmlElement> status = node.getOnlyChildElementOptionally("connection-status");
+                if (nodeId.isPresent() && status.isPresent() && CONNECTED.equals(status.get().getOnlyTextContentOptionally().orNull())) {
+                    final Optional<Integer> port = toDevicePort(nodeId.get().getOnlyTextContentOptionally().or(""));
+                    if (port.isPresent()) {
+                        connected.add(port.get());
+                    }
+                }
+            }
+        }
+        return connected;
+    }
+
+    private Optional<Integer> toDevicePort(final String nodeId) {
+        if (nodeId.endsWith(Main.ConfigGenerator.SIM_DEVICE_SUFFIX) == false) {
+            return Optional.absent();
+        }
+        try {
+            final Integer port = Integer.valueOf(nodeId.substring(0, nodeId.length() - Main.ConfigGenerator.SIM_DEVICE_SUFFIX.length()));
+            return openDevices.contains(port) ? Optional.of(port) : Optional.<Integer>absent();
+        } catch (final NumberFormatException e) {
+            return Optional.absent();
+        }
+    }
+
+    private static String toNodeId(final Integer port) {
+        return port + Main.ConfigGenerator.SIM_DEVICE_SUFFIX;
+    }
+
+    private void reportSetupTimes(final Map<Integer, Long> controllerConnected) {
+        final Map<Integer, Long> devicesConnected = statistics.getConnectedDevices();
+        report.put("devices", String.valueOf(openDevices.size()));
+        report.put("devices-connected", String.valueOf(controllerConnected.size()));
+        if (devicesConnected.isEmpty()) {
+            return;
+        }
+
+        final long firstConnected = Collections.min(devicesConnected.values());
+        final LatencyStatistics connectTimes = new LatencyStatistics();
+        final LatencyStatistics schemaSetupTimes = new LatencyStatistics();
+        for (final Map.Entry<Integer, Long> device : devicesConnected.entrySet()) {
+            connectTimes.record(device.getValue() - firstConnected);
+            final Long setupDone = controllerConnected.get(device.getKey());
+            if (setupDone != null) {
+                schemaSetupTimes.record(Math.max(setupDone - device.getValue(), 0));
+            }
+        }
+        report.put("connect-time", connectTimes.toString());
+        report.put("schema-setup-time", schemaSetupTimes.toString());
+    }
+
+    private void measureRpcLatency(final List<Integer> devices) throws InterruptedException {
+        final LatencyStatistics latencies = new LatencyStatistics();
+        final AtomicInteger requestCounter = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(params.scaleTestRpcThreads);
+        final long start = System.nanoTime();
+        for (int i = 0; i < params.scaleTestRpcThreads; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    int request;
+                    while ((request = requestCounter.getAndIncrement()) < params.scaleTestRpcCount) {
+                        final String path = "/operational/" + TOPOLOGY_PATH + "/node/" + toNodeId(devices.get(request % devices.size()))
+                                + MOUNT_PATH + SimulatedPayload.MODULE_NAME + ":" + SimulatedPayload.PAYLOAD;
+                        final long requestStart = System.nanoTime();
+                        try {
+                            final HttpURLConnection connection = openConnection("GET", path);
+                            try (InputStream in = connection.getInputStream()) {
+                                ByteStreams.toByteArray(in);
+                            }
+                            latencies.record(System.nanoTime() - requestStart);
+                        } catch (final IOException e) {
+                            LOG.debug("Get request {} failed", path, e);
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        final long elapsed = System.nanoTime() - start;
+
+        report.put("rpc-latency", latencies.toString());
+        report.put("rpc-failures", String.valueOf(failures.get()));
+        report.put("rpc-throughput", String.format("%.2f/s", latencies.getCount() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1))));
+    }
+
+    private void measureNotificationThroughput(final List<Integer> devices) throws InterruptedException {
+        int subscribed = 0;
+        for (final Integer device : devices) {
+            final String path = "/operations/" + TOPOLOGY_PATH + "/node/" + toNodeId(device)
+                    + MOUNT_PATH + "notifications:create-subscription";
+            try {
+                final HttpURLConnection connection = openConnection("POST", path);
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", XML);
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write("<input xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\"/>".getBytes(Charsets.UTF_8));
+                }
+                try (InputStream in = connection.getInputStream()) {
+                    ByteStreams.toByteArray(in);
+                }
+                subscribed++;
+            } catch (final IOException e) {
+                LOG.warn("Unable to subscribe for notifications of device {}", device, e);
+            }
+        }
+
+        final long sentBefore = statistics.getNotificationsSent();
+        final long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(params.scaleTestNotificationTime));
+        final long sent = statistics.getNotificationsSent() - sentBefore;
+        final long elapsed = System.nanoTime() - start;
+
+        report.put("notification-subscriptions", String.valueOf(subscribed));
+        report.put("notification-throughput", String.format("%.2f/s, expected %d/s",
+                sent / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)), (long) subscribed * params.notificationRate));
+    }
+
+    private HttpURLConnection openConnection(final String method, final String path) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(params.controllerRestconfUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Authorization", authorization);
+        connection.setRequestProperty("Accept", XML);
+        connection.setConnectTimeout(HTTP_TIMEOUT_MILLIS);
+        connection.setReadTimeout(HTTP_TIMEOUT_MILLIS);
+        return connection;
+    }
+}
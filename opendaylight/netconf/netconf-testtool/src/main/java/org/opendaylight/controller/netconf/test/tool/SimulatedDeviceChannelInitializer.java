@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Promise;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.netconf.impl.NetconfServerDispatcherImpl;
+import org.opendaylight.controller.netconf.impl.NetconfServerSession;
+import org.opendaylight.controller.netconf.impl.NetconfServerSessionNegotiatorFactory;
+
+/**
+ * Channel initializer of simulated devices. Records device connections and delays all outgoing messages
+ * by configured latency.
+ */
+class SimulatedDeviceChannelInitializer extends NetconfServerDispatcherImpl.ServerChannelInitializer {
+
+    public static final String SIMULATED_DEVICE_HANDLER = "simulatedDevice";
+
+    private final SimulatorStatistics statistics;
+    private final long latencyMillis;
+
+    SimulatedDeviceChannelInitializer(final NetconfServerSessionNegotiatorFactory negotiatorFactory,
+                                      final SimulatorStatistics statistics, final long latencyMillis) {
+        super(negotiatorFactory);
+        this.statistics = statistics;
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public void initialize(final Channel ch, final Promise<NetconfServerSession> promise) {
+        super.initialize(ch, promise);
+        // First in pipeline, so that it handles serialized messages right before they are written to the wire
+        ch.pipeline().addFirst(SIMULATED_DEVICE_HANDLER, new SimulatedDeviceHandler());
+    }
+
+    private final class SimulatedDeviceHandler extends ChannelDuplexHandler {
+
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+            statistics.onDeviceConnected(ctx.channel().localAddress());
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+            if (latencyMillis == 0) {
+                super.write(ctx, msg, promise);
+                return;
+            }
+
+            // Writes and flushes are delayed by the same amount, so their order is preserved
+            ctx.executor().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    ctx.write(msg, promise);
+                }
+            }, latencyMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void flush(final ChannelHandlerContext ctx) throws Exception {
+            if (latencyMillis == 0) {
+                super.flush(ctx);
+                return;
+            }
+
+            ctx.executor().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    ctx.flush();
+                }
+            }, latencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool;
+
+import com.google.common.collect.ImmutableMap;
+import io.netty.channel.local.LocalAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics collected by simulated devices, shared by all of them.
+ */
+public class SimulatorStatistics {
+
+    // Ssh devices are served by local channels, their address has to be mapped to ssh port
+    private final ConcurrentMap<LocalAddress, Integer> localDevices = new ConcurrentHashMap<>();
+    // Device port -> System.nanoTime() of the first connection to that device
+    private final ConcurrentMap<Integer, Long> connectedDevices = new ConcurrentHashMap<>();
+    private final AtomicLong notificationsSent = new AtomicLong();
+
+    void registerLocalDevice(final LocalAddress localAddress, final int port) {
+        localDevices.put(localAddress, port);
+    }
+
+    void onDeviceConnected(final SocketAddress localAddress) {
+        final Integer port;
+        if (localAddress instanceof InetSocketAddress) {
+            port = ((InetSocketAddress) localAddress).getPort();
+        } else {
+            port = localDevices.get(localAddress);
+        }
+
+        if (port != null) {
+            connectedDevices.putIfAbsent(port, System.nanoTime());
+        }
+    }
+
+    public void onNotificationSent() {
+        notificationsSent.incrementAndGet();
+    }
+
+    /**
+     * @return device port -> System.nanoTime() when a client connected to the device for the first time
+     */
+    public Map<Integer, Long> getConnectedDevices() {
+        return ImmutableMap.copyOf(connectedDevices);
+    }
+
+    /**
+     * @return number of notifications written to clients by all devices
+     */
+    public long getNotificationsSent() {
+        return notificationsSent.get();
+    }
+}
@@ -10,14 +10,18 @@ package org.opendaylight.controller.netconf.test.tool.rpc;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.GenericFutureListener;
 import java.io.File;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
@@ -27,6 +31,7 @@ import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.controller.netconf.impl.NetconfServerSession;
 import org.opendaylight.controller.netconf.impl.mapping.operations.DefaultNetconfOperation;
+import org.opendaylight.controller.netconf.test.tool.SimulatorStatistics;
 import org.opendaylight.controller.netconf.util.mapping.AbstractLastNetconfOperation;
 import org.opendaylight.controller.netconf.util.xml.XmlElement;
 import org.opendaylight.controller.netconf.util.xml.XmlUtil;
@@ -36,15 +41,32 @@ import org.xml.sax.SAXException;
 
 public class SimulatedCreateSubscription extends AbstractLastNetconfOperation implements DefaultNetconfOperation {
 
+    // Generated notifications are sent in batches, once per tick
+    private static final long RATE_TICK_MILLIS = 10;
+    // Notifications are skipped while this many are waiting to be written, so that slow client does not
+    // exhaust memory of the simulator. Rate achieved by the client is visible in statistics.
+    private static final int MAX_PENDING_NOTIFICATIONS = 1000;
+
     private NetconfServerSession session;
     private final Optional<Notifications> notifications;
-    private ScheduledExecutorService scheduledExecutorService;
+    private final int notificationRate;
+    private final SimulatorStatistics statistics;
 
     public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile) {
+        this(id, notificationsFile, 0, new SimulatorStatistics());
+    }
+
+    /**
+     * @param notificationRate number of generated notifications per second sent after subscription,
+     *                         notifications file is ignored if greater than 0
+     */
+    public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile,
+                                       final int notificationRate, final SimulatorStatistics statistics) {
         super(id);
-        if(notificationsFile.isPresent()) {
+        this.notificationRate = notificationRate;
+        this.statistics = statistics;
+        if(notificationRate <= 0 && notificationsFile.isPresent()) {
             notifications = Optional.of(loadNotifications(notificationsFile.get()));
-            scheduledExecutorService = Executors.newScheduledThreadPool(1);
         } else {
             notifications = Optional.absent();
         }
@@ -73,8 +95,11 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
     @Override
     protected Element handleWithNoSubsequentOperations(final Document document, final XmlElement operationElement) throws NetconfDocumentedException {
 
-
-        if(notifications.isPresent()) {
+        // Executor exists only once a subscription is made over the session, and is shut down once done
+        if(notificationRate > 0) {
+            scheduleGeneratedNotifications(createExecutor());
+        } else if(notifications.isPresent()) {
+            final ScheduledExecutorService scheduledExecutorService = createExecutor();
             long delayAggregator = 0;
             System.console().writer().println("Scheduling notifications " + notifications.get());
 
@@ -98,16 +123,58 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
                     }, delayAggregator, TimeUnit.SECONDS);
                 }
             }
+            // Already scheduled notifications are still sent
+            scheduledExecutorService.shutdown();
         }
         return XmlUtil.createElement(document, XmlNetconfConstants.OK, Optional.<String>absent());
     }
 
+    private ScheduledExecutorService createExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("simulated-notifications-%d").setDaemon(true).build());
+    }
+
+    private void scheduleGeneratedNotifications(final ScheduledExecutorService scheduledExecutorService) {
+        final long start = System.nanoTime();
+        final AtomicLong sequence = new AtomicLong();
+        final AtomicInteger pending = new AtomicInteger();
+        final GenericFutureListener<ChannelFuture> sentListener = new GenericFutureListener<ChannelFuture>() {
+            @Override
+            public void operationComplete(final ChannelFuture future) {
+                pending.decrementAndGet();
+                if(future.isSuccess()) {
+                    statistics.onNotificationSent();
+                }
+            }
+        };
+
+        scheduledExecutorService.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                if(session == null || session.isUp() == false) {
+                    scheduledExecutorService.shutdown();
+                    return;
+                }
+
+                // Catch up with the rate even if ticks are late
+                final long expected = notificationRate * TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 1000;
+                while(sequence.get() < expected) {
+                    final long next = sequence.getAndIncrement();
+                    if(pending.get() < MAX_PENDING_NOTIFICATIONS) {
+                        pending.incrementAndGet();
+                        session.sendMessage(SimulatedPayload.createNotification(next)).addListener(sentListener);
+                    }
+                }
+            }
+        }, 0, RATE_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
     private static NetconfMessage parseNetconfNotification(String content) throws IOException, SAXException {
         final int startEventTime = content.indexOf("<eventTime>") + "<eventTime>".length();
         final int endEventTime = content.indexOf("</eventTime>");
         final String eventTime = content.substring(startEventTime, endEventTime);
         if(eventTime.equals("XXXX")) {
-            content = content.replace(eventTime, new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX").format(new Date()));
+            content = content.replace(eventTime, SimulatedPayload.formatEventTime(new Date()));
         }
 
         return new NetconfMessage(XmlUtil.readXmlToDocument(content));
@@ -20,10 +20,22 @@ import org.w3c.dom.Element;
 public class SimulatedGet extends AbstractConfigNetconfOperation {
 
     private final DataList storage;
+    // Generated payload appended to every reply, built once and imported into each reply document
+    private final Optional<Element> payload;
 
     public SimulatedGet(final String netconfSessionIdForReporting, final DataList storage) {
+        this(netconfSessionIdForReporting, storage, 0);
+    }
+
+    /**
+     * @param payloadSize number of generated list entries in every reply
+     */
+    public SimulatedGet(final String netconfSessionIdForReporting, final DataList storage, final int payloadSize) {
         super(null, netconfSessionIdForReporting);
         this.storage = storage;
+        this.payload = payloadSize > 0
+                ? Optional.of(SimulatedPayload.createPayload(XmlUtil.newDocument(), payloadSize))
+                : Optional.<Element>absent();
     }
 
     @Override
@@ -35,6 +47,10 @@ public class SimulatedGet extends AbstractConfigNetconfOperation {
             element.appendChild(element.getOwnerDocument().importNode(domElement, true));
         }
 
+        if(payload.isPresent()) {
+            element.appendChild(document.importNode(payload.get(), true));
+        }
+
         return element;
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.rpc;
+
+import com.google.common.base.Strings;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Generates data and notifications defined in netconf-testtool-payload yang module.
+ */
+public final class SimulatedPayload {
+
+    public static final String MODULE_NAME = "netconf-testtool-payload";
+    public static final String REVISION = "2015-03-01";
+    public static final String NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:netconf:testtool:payload";
+    public static final String PAYLOAD = "payload";
+
+    private static final String NOTIFICATION_NAMESPACE = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    private static final String ENTRY_VALUE = Strings.repeat("x", 64);
+
+    // SimpleDateFormat is not thread-safe, notifications are generated by many device threads
+    private static final ThreadLocal<SimpleDateFormat> EVENT_TIME_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
+        }
+    };
+
+    private SimulatedPayload() {}
+
+    /**
+     * @return payload container with entryCount list entries, each carrying roughly 100 bytes of xml
+     */
+    static Element createPayload(final Document document, final int entryCount) {
+        final Element payload = document.createElementNS(NAMESPACE, PAYLOAD);
+        for (int i = 0; i < entryCount; i++) {
+            final Element entry = document.createElementNS(NAMESPACE, "entry");
+            appendLeaf(document, entry, "id", String.valueOf(i));
+            appendLeaf(document, entry, "value", ENTRY_VALUE);
+            payload.appendChild(entry);
+        }
+        return payload;
+    }
+
+    static NetconfMessage createNotification(final long sequence) {
+        final Document document = XmlUtil.newDocument();
+        final Element notification = document.createElementNS(NOTIFICATION_NAMESPACE, "notification");
+        document.appendChild(notification);
+
+        final Element eventTime = document.createElementNS(NOTIFICATION_NAMESPACE, "eventTime");
+        eventTime.setTextContent(formatEventTime(new Date()));
+        notification.appendChild(eventTime);
+
+        final Element payloadNotification = document.createElementNS(NAMESPACE, "payload-notification");
+        appendLeaf(document, payloadNotification, "sequence", String.valueOf(sequence));
+        notification.appendChild(payloadNotification);
+        return new NetconfMessage(document);
+    }
+
+    /**
+     * @return date formatted as notification eventTime
+     */
+    static String formatEventTime(final Date date) {
+        return EVENT_TIME_FORMAT.get().format(date);
+    }
+
+    private static void appendLeaf(final Document document, final Element parent, final String name, final String value) {
+        final Element leaf = document.createElementNS(NAMESPACE, name);
+        leaf.setTextContent(value);
+        parent.appendChild(leaf);
+    }
+}
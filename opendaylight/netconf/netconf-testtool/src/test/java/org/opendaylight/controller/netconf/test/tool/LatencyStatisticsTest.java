@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LatencyStatisticsTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void testEmpty() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getPercentileMillis(50), DELTA);
+        assertEquals(0, statistics.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        // Recorded out of order, 1ms .. 100ms
+        for (int i = 100; i > 0; i--) {
+            statistics.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(100, statistics.getCount());
+        assertEquals(1, statistics.getPercentileMillis(0), DELTA);
+        assertEquals(1, statistics.getPercentileMillis(1), DELTA);
+        assertEquals(50, statistics.getPercentileMillis(50), DELTA);
+        assertEquals(90, statistics.getPercentileMillis(90), DELTA);
+        assertEquals(99, statistics.getPercentileMillis(99), DELTA);
+        assertEquals(100, statistics.getPercentileMillis(100), DELTA);
+        assertEquals(100, statistics.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void testNearestRank() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(10));
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(20));
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertEquals(10, statistics.getPercentileMillis(33), DELTA);
+        assertEquals(20, statistics.getPercentileMillis(34), DELTA);
+        assertEquals(30, statistics.getPercentileMillis(90), DELTA);
+    }
+
+    @Test
+    public void testSubMillisecondSamples() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        statistics.record(TimeUnit.MICROSECONDS.toNanos(250));
+        assertEquals(0.25, statistics.getPercentileMillis(50), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyStatistics().getPercentileMillis(101);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.test.tool.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class SimulatedPayloadTest {
+
+    @Test
+    public void testCreatePayload() {
+        final Document document = XmlUtil.newDocument();
+        final Element payload = SimulatedPayload.createPayload(document, 3);
+        assertEquals(SimulatedPayload.NAMESPACE, payload.getNamespaceURI());
+        assertEquals(3, payload.getElementsByTagNameNS(SimulatedPayload.NAMESPACE, "entry").getLength());
+    }
+
+    @Test
+    public void testCreateNotification() {
+        final Element notification = SimulatedPayload.createNotification(42).getDocument().getDocumentElement();
+        assertEquals("notification", notification.getLocalName());
+        assertEquals("42", notification.getElementsByTagNameNS(SimulatedPayload.NAMESPACE, "sequence").item(0).getTextContent());
+        final String eventTime = notification.getElementsByTagNameNS("*", "eventTime").item(0).getTextContent();
+        assertTrue(eventTime, eventTime.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(Z|[+-]\\d{2}:\\d{2})"));
+    }
+
+    @Test
+    public void testConcurrentEventTimeFormatting() throws Exception {
+        final Date date = new Date(1425168000000L);
+        final String expected = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX").format(date);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        for (int j = 0; j < 10000; j++) {
+                            if (!expected.equals(SimulatedPayload.formatEventTime(date))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
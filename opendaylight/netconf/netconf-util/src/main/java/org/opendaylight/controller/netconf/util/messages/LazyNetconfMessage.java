@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.messages;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.opendaylight.controller.netconf.api.NetconfMessage;
+import org.w3c.dom.Document;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * NetconfMessage which builds its DOM document only when {@link #getDocument()} is first invoked.
+ * Until then the message can be written out and its envelope inspected without a DOM being
+ * created, which matters for large rpc replies.
+ */
+public abstract class LazyNetconfMessage extends NetconfMessage {
+
+    private volatile Document document;
+
+    protected LazyNetconfMessage() {
+        super();
+    }
+
+    @Override
+    public final Document getDocument() {
+        Document ret = document;
+        if (ret == null) {
+            synchronized (this) {
+                ret = document;
+                if (ret == null) {
+                    ret = buildDocument();
+                    document = ret;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return true if the DOM document was already built, e.g. for logging. Users may have modified it
+     * since, so it takes precedence over {@link #writeTo(OutputStream)}.
+     */
+    public final boolean isDocumentBuilt() {
+        return document != null;
+    }
+
+    /**
+     * @return local name of the root element, e.g. rpc-reply
+     */
+    public abstract String getRootElementName();
+
+    /**
+     * @return value of unqualified attribute of root element, empty string if not present (same as DOM)
+     */
+    public abstract String getRootAttribute(String localName);
+
+    /**
+     * @return local name of the first child element of root, null if root has no child elements
+     */
+    public abstract String getFirstChildElementName();
+
+    /**
+     * Write serialized message to the stream, without building the DOM document.
+     */
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Feed the message to the handler as a single document, without building the DOM document. Used by
+     * SAX based encoders, e.g. EXI, so that messages not received as text are not serialized to text first.
+     */
+    public abstract void writeTo(ContentHandler handler) throws IOException, SAXException;
+
+    protected abstract Document buildDocument();
+}
@@ -43,6 +43,12 @@ public final class NetconfMessageUtil {
     }
 
     public static boolean isErrorMessage(NetconfMessage message) throws NetconfDocumentedException {
+        if (message instanceof LazyNetconfMessage && !((LazyNetconfMessage) message).isDocumentBuilt()) {
+            // Look at the first child without parsing the whole (potentially large) reply
+            if (!XmlNetconfConstants.RPC_ERROR.equals(((LazyNetconfMessage) message).getFirstChildElementName())) {
+                return false;
+            }
+        }
         return isErrorMessage(message.getDocument());
     }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.opendaylight.controller.netconf.util.xml.XmlUtil;
+import org.w3c.dom.Document;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Inbound NetconfMessage backed by its serialized form, as received from the wire. The message
+ * can be consumed as a stream with {@link #createStreamReader()}, the DOM document is parsed
+ * only if requested.
+ *
+ * <p>
+ * The bytes are not checked when the message is created. Malformed content is reported by the pass
+ * reading it: {@link XMLStreamException} from the stream reader, {@link IllegalStateException} from
+ * the header accessors and {@link #getDocument()}.
+ */
+public final class SerializedNetconfMessage extends StreamableNetconfMessage {
+
+    private static final XMLInputFactory INPUT_FACTORY;
+    private static final SAXParserFactory SAX_FACTORY;
+
+    static {
+        final XMLInputFactory f = XMLInputFactory.newFactory();
+        // Same restrictions as the document builder in XmlUtil
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        f.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        INPUT_FACTORY = f;
+
+        final SAXParserFactory sf = SAXParserFactory.newInstance();
+        try {
+            sf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            sf.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            sf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        sf.setNamespaceAware(true);
+        SAX_FACTORY = sf;
+    }
+
+    private final byte[] bytes;
+
+    public SerializedNetconfMessage(final byte[] bytes) {
+        this.bytes = Preconditions.checkNotNull(bytes);
+    }
+
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public XMLStreamReader createStreamReader() throws XMLStreamException {
+        return INPUT_FACTORY.createXMLStreamReader(openStream());
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    @Override
+    public void writeTo(final ContentHandler handler) throws IOException, SAXException {
+        // The message is text already, a single SAX pass is all it takes
+        final XMLReader reader;
+        try {
+            reader = SAX_FACTORY.newSAXParser().getXMLReader();
+        } catch (final ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create SAX parser", e);
+        }
+        reader.setContentHandler(handler);
+        reader.parse(new InputSource(openStream()));
+    }
+
+    @Override
+    protected Document buildDocument() {
+        try {
+            return XmlUtil.readXmlToDocument(openStream());
+        } catch (SAXException | IOException e) {
+            throw new IllegalStateException("Failed to parse message", e);
+        }
+    }
+}
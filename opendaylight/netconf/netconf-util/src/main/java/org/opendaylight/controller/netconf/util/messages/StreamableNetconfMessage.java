@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.messages;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Inbound NetconfMessage which can be consumed as a stream with {@link #createStreamReader()}, e.g. straight
+ * into normalized nodes. The envelope is read from the stream as well, the DOM document is built only if
+ * requested.
+ */
+public abstract class StreamableNetconfMessage extends LazyNetconfMessage {
+
+    private volatile Header header;
+
+    StreamableNetconfMessage() {
+        super();
+    }
+
+    /**
+     * @return new reader over the message, positioned at the start of the document
+     */
+    public abstract XMLStreamReader createStreamReader() throws XMLStreamException;
+
+    @Override
+    public final String getRootElementName() {
+        return getHeader().rootName;
+    }
+
+    @Override
+    public final String getRootAttribute(final String localName) {
+        return Strings.nullToEmpty(getHeader().rootAttributes.get(localName));
+    }
+
+    @Override
+    public final String getFirstChildElementName() {
+        return getHeader().firstChildName;
+    }
+
+    private Header getHeader() {
+        Header ret = header;
+        if (ret == null) {
+            // Racing threads compute the same header, no need to lock
+            try {
+                ret = readHeader();
+            } catch (final XMLStreamException e) {
+                throw new IllegalStateException("Failed to parse message", e);
+            }
+            header = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * Read root element and the name of its first child. Stops without looking at the rest of the message.
+     */
+    private Header readHeader() throws XMLStreamException {
+        final XMLStreamReader reader = createStreamReader();
+        try {
+            reader.nextTag();
+            final String rootName = reader.getLocalName();
+            final ImmutableMap.Builder<String, String> attributes = ImmutableMap.builder();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (Strings.isNullOrEmpty(reader.getAttributeNamespace(i))) {
+                    attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+            }
+
+            String firstChildName = null;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    firstChildName = reader.getLocalName();
+                    break;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    break;
+                }
+            }
+            return new Header(rootName, attributes.build(), firstChildName);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static final class Header {
+        private final String rootName;
+        private final Map<String, String> rootAttributes;
+        private final String firstChildName;
+
+        Header(final String rootName, final Map<String, String> rootAttributes, final String firstChildName) {
+            this.rootName = rootName;
+            this.rootAttributes = rootAttributes;
+            this.firstChildName = firstChildName;
+        }
+    }
+}
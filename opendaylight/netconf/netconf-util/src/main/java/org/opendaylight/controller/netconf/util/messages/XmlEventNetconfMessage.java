@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Result;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import org.opendaylight.controller.netconf.util.xml.XmlEventBuffer;
+import org.w3c.dom.Document;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Inbound NetconfMessage backed by the recorded events of a document which was not received as text,
+ * e.g. decoded from EXI. The events are pulled by {@link #createStreamReader()} or replayed into SAX
+ * handlers directly, the message is serialized to text or DOM only if requested.
+ */
+public final class XmlEventNetconfMessage extends StreamableNetconfMessage {
+
+    private static final SAXTransformerFactory FACTORY = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
+
+    private final XmlEventBuffer events;
+
+    public XmlEventNetconfMessage(final XmlEventBuffer events) {
+        this.events = Preconditions.checkNotNull(events);
+    }
+
+    @Override
+    public XMLStreamReader createStreamReader() {
+        return events.createStreamReader();
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        try {
+            events.replay(newTransformerHandler(new StreamResult(out)));
+        } catch (final SAXException e) {
+            throw new IOException("Failed to serialize message", e);
+        }
+    }
+
+    @Override
+    public void writeTo(final ContentHandler handler) throws SAXException {
+        events.replay(handler);
+    }
+
+    @Override
+    protected Document buildDocument() {
+        final DOMResult result = new DOMResult();
+        try {
+            events.replay(newTransformerHandler(result));
+        } catch (final SAXException e) {
+            throw new IllegalStateException("Failed to build document", e);
+        }
+        return (Document) result.getNode();
+    }
+
+    private static TransformerHandler newTransformerHandler(final Result result) {
+        final TransformerHandler handler;
+        try {
+            handler = FACTORY.newTransformerHandler();
+        } catch (final TransformerConfigurationException e) {
+            throw new IllegalStateException("Failed to create transformer", e);
+        }
+        handler.setResult(result);
+        return handler;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.xml;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * Non-repairing {@link XMLStreamWriter} which passes everything written to a SAX {@link ContentHandler},
+ * e.g. an EXI encoder, so that code writing StAX can feed SAX consumers without serializing the document
+ * to text in between. The JDK does not provide one, its writers do not accept a SAXResult.
+ *
+ * <p>
+ * Start of an element is reported once its attributes and namespace declarations are known, i.e. when
+ * the next element, text or end element is written. Comments and DTD are not representable and are dropped.
+ */
+public final class ContentHandlerStreamWriter implements XMLStreamWriter {
+
+    private final ContentHandler handler;
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final List<Element> open = new ArrayList<>();
+    private NamespaceContext rootContext;
+    private Element pending;
+    private AttributesImpl pendingAttributes;
+    private boolean pendingEmpty;
+
+    public ContentHandlerStreamWriter(final ContentHandler handler) {
+        this.handler = Preconditions.checkNotNull(handler);
+        // Prefixes set before the root element belong to the root scope
+        namespaces.pushContext();
+    }
+
+    @Override
+    public void writeStartElement(final String localName) throws XMLStreamException {
+        startElement(localName, false);
+    }
+
+    @Override
+    public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        startElement(boundPrefix(namespaceURI), localName, namespaceURI, false);
+    }
+
+    @Override
+    public void writeStartElement(final String prefix, final String localName, final String namespaceURI)
+            throws XMLStreamException {
+        startElement(prefix, localName, namespaceURI, false);
+    }
+
+    @Override
+    public void writeEmptyElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        startElement(boundPrefix(namespaceURI), localName, namespaceURI, true);
+    }
+
+    @Override
+    public void writeEmptyElement(final String prefix, final String localName, final String namespaceURI)
+            throws XMLStreamException {
+        startElement(prefix, localName, namespaceURI, true);
+    }
+
+    @Override
+    public void writeEmptyElement(final String localName) throws XMLStreamException {
+        startElement(localName, true);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        flushStart();
+        if (open.isEmpty()) {
+            throw new XMLStreamException("No element to end");
+        }
+        endElement(open.remove(open.size() - 1));
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        flushStart();
+        while (!open.isEmpty()) {
+            endElement(open.remove(open.size() - 1));
+        }
+        try {
+            handler.endDocument();
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to end document", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // The handler is not owned by the writer
+    }
+
+    @Override
+    public void flush() {
+        // Events are passed on as they are written
+    }
+
+    @Override
+    public void writeAttribute(final String localName, final String value) throws XMLStreamException {
+        // The JDK's SAX to StAX bridge passes qualified names here, their namespace is resolved with the element
+        final int colon = localName.indexOf(':');
+        if (colon > 0) {
+            addAttribute(localName.substring(0, colon), XMLConstants.NULL_NS_URI, localName.substring(colon + 1),
+                    value);
+        } else {
+            addAttribute(XMLConstants.DEFAULT_NS_PREFIX, XMLConstants.NULL_NS_URI, localName, value);
+        }
+    }
+
+    @Override
+    public void writeAttribute(final String prefix, final String namespaceURI, final String localName,
+            final String value) throws XMLStreamException {
+        addAttribute(prefix, namespaceURI, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(final String namespaceURI, final String localName, final String value)
+            throws XMLStreamException {
+        final String prefix = Strings.isNullOrEmpty(namespaceURI) ? XMLConstants.DEFAULT_NS_PREFIX
+                : boundPrefix(namespaceURI);
+        addAttribute(prefix, namespaceURI, localName, value);
+    }
+
+    @Override
+    public void writeNamespace(final String prefix, final String namespaceURI) throws XMLStreamException {
+        if (Strings.isNullOrEmpty(prefix) || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            writeDefaultNamespace(namespaceURI);
+            return;
+        }
+        declare(prefix, namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(final String namespaceURI) throws XMLStreamException {
+        declare(XMLConstants.DEFAULT_NS_PREFIX, namespaceURI);
+    }
+
+    @Override
+    public void writeComment(final String data) throws XMLStreamException {
+        flushStart();
+    }
+
+    @Override
+    public void writeProcessingInstruction(final String target) throws XMLStreamException {
+        writeProcessingInstruction(target, "");
+    }
+
+    @Override
+    public void writeProcessingInstruction(final String target, final String data) throws XMLStreamException {
+        flushStart();
+        try {
+            handler.processingInstruction(target, data);
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to write processing instruction " + target, e);
+        }
+    }
+
+    @Override
+    public void writeCData(final String data) throws XMLStreamException {
+        writeCharacters(data);
+    }
+
+    @Override
+    public void writeDTD(final String dtd) {
+        // DTD is not passed to content handlers
+    }
+
+    @Override
+    public void writeEntityRef(final String name) throws XMLStreamException {
+        throw new XMLStreamException("Entity references are not supported, unable to write " + name);
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        try {
+            handler.startDocument();
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to start document", e);
+        }
+    }
+
+    @Override
+    public void writeStartDocument(final String version) throws XMLStreamException {
+        writeStartDocument();
+    }
+
+    @Override
+    public void writeStartDocument(final String encoding, final String version) throws XMLStreamException {
+        writeStartDocument();
+    }
+
+    @Override
+    public void writeCharacters(final String text) throws XMLStreamException {
+        writeCharacters(text.toCharArray(), 0, text.length());
+    }
+
+    @Override
+    public void writeCharacters(final char[] text, final int start, final int len) throws XMLStreamException {
+        flushStart();
+        try {
+            handler.characters(text, start, len);
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to write characters", e);
+        }
+    }
+
+    @Override
+    public String getPrefix(final String uri) {
+        return getNamespaceContext().getPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(final String prefix, final String uri) {
+        namespaces.declarePrefix(Strings.nullToEmpty(prefix), Strings.nullToEmpty(uri));
+    }
+
+    @Override
+    public void setDefaultNamespace(final String uri) {
+        setPrefix(XMLConstants.DEFAULT_NS_PREFIX, uri);
+    }
+
+    @Override
+    public void setNamespaceContext(final NamespaceContext context) throws XMLStreamException {
+        if (!open.isEmpty() || pending != null) {
+            throw new XMLStreamException("Namespace context can be set only before the root element");
+        }
+        rootContext = context;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(final String prefix) {
+                final String uri = namespaces.getURI(prefix);
+                if (uri != null) {
+                    return uri;
+                }
+                return rootContext == null ? null : rootContext.getNamespaceURI(prefix);
+            }
+
+            @Override
+            public String getPrefix(final String namespaceURI) {
+                final Iterator<String> it = getPrefixes(namespaceURI);
+                return it.hasNext() ? it.next() : null;
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(final String namespaceURI) {
+                final List<String> ret = new ArrayList<>();
+                // NamespaceSupport does not report the default namespace
+                if (namespaceURI.equals(namespaces.getURI(XMLConstants.DEFAULT_NS_PREFIX))) {
+                    ret.add(XMLConstants.DEFAULT_NS_PREFIX);
+                }
+                @SuppressWarnings("unchecked")
+                final Enumeration<String> prefixes = namespaces.getPrefixes(namespaceURI);
+                ret.addAll(Collections.list(prefixes));
+                if (ret.isEmpty() && rootContext != null) {
+                    final Iterator<?> it = rootContext.getPrefixes(namespaceURI);
+                    while (it.hasNext()) {
+                        ret.add((String) it.next());
+                    }
+                }
+                return ret.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Object getProperty(final String name) {
+        throw new IllegalArgumentException("Property " + name + " is not supported");
+    }
+
+    private String boundPrefix(final String namespaceURI) throws XMLStreamException {
+        final String prefix = getPrefix(namespaceURI);
+        if (prefix == null) {
+            throw new XMLStreamException("Namespace " + namespaceURI + " is not bound to a prefix");
+        }
+        return prefix;
+    }
+
+    private void startElement(final String name, final boolean empty) throws XMLStreamException {
+        // The JDK's SAX to StAX bridge passes qualified names here. Namespace of the element is resolved once
+        // its own declarations are known.
+        final int colon = name.indexOf(':');
+        if (colon > 0) {
+            startElement(name.substring(0, colon), name.substring(colon + 1), null, empty);
+        } else {
+            startElement(XMLConstants.DEFAULT_NS_PREFIX, name, null, empty);
+        }
+    }
+
+    private void startElement(final String prefix, final String localName, final String namespaceURI,
+            final boolean empty) throws XMLStreamException {
+        flushStart();
+        namespaces.pushContext();
+        pending = new Element(Strings.nullToEmpty(prefix), localName, namespaceURI);
+        pendingAttributes = new AttributesImpl();
+        pendingEmpty = empty;
+    }
+
+    private void addAttribute(final String prefix, final String namespaceURI, final String localName,
+            final String value) throws XMLStreamException {
+        if (pending == null) {
+            throw new XMLStreamException("Attribute " + localName + " written outside of a start element");
+        }
+        // Namespace declarations passed as attributes, as the JDK's SAX to StAX bridge does
+        if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            declare(localName, value);
+            return;
+        }
+        if (Strings.isNullOrEmpty(prefix) && XMLConstants.XMLNS_ATTRIBUTE.equals(localName)) {
+            declare(XMLConstants.DEFAULT_NS_PREFIX, value);
+            return;
+        }
+        pendingAttributes.addAttribute(Strings.nullToEmpty(namespaceURI), localName, qName(prefix, localName),
+                "CDATA", value);
+    }
+
+    private void declare(final String prefix, final String namespaceURI) throws XMLStreamException {
+        if (pending == null) {
+            throw new XMLStreamException("Namespace " + namespaceURI + " declared outside of a start element");
+        }
+        namespaces.declarePrefix(prefix, Strings.nullToEmpty(namespaceURI));
+        final int existing = pending.prefixes.indexOf(prefix);
+        if (existing != -1) {
+            // Declared again, e.g. both as a namespace and as an xmlns attribute
+            pending.uris.set(existing, Strings.nullToEmpty(namespaceURI));
+            return;
+        }
+        pending.prefixes.add(prefix);
+        pending.uris.add(Strings.nullToEmpty(namespaceURI));
+    }
+
+    private void flushStart() throws XMLStreamException {
+        final Element element = pending;
+        if (element == null) {
+            return;
+        }
+        pending = null;
+
+        if (element.namespaceURI == null) {
+            final String uri = getNamespaceContext().getNamespaceURI(element.prefix);
+            if (uri == null && !element.prefix.isEmpty()) {
+                throw new XMLStreamException("Prefix of element " + element.getQName()
+                        + " is not bound to a namespace");
+            }
+            element.namespaceURI = Strings.nullToEmpty(uri);
+        }
+
+        // Prefixed attributes may be written without their namespace, e.g. by the JDK's SAX to StAX bridge
+        for (int i = 0; i < pendingAttributes.getLength(); i++) {
+            final String qName = pendingAttributes.getQName(i);
+            final int colon = qName.indexOf(':');
+            if (colon > 0 && pendingAttributes.getURI(i).isEmpty()) {
+                final String uri = getNamespaceContext().getNamespaceURI(qName.substring(0, colon));
+                if (uri == null) {
+                    throw new XMLStreamException("Prefix of attribute " + qName + " is not bound to a namespace");
+                }
+                pendingAttributes.setURI(i, uri);
+            }
+        }
+
+        try {
+            for (int i = 0; i < element.prefixes.size(); i++) {
+                handler.startPrefixMapping(element.prefixes.get(i), element.uris.get(i));
+            }
+            handler.startElement(element.namespaceURI, element.localName, element.getQName(), pendingAttributes);
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to start element " + element.localName, e);
+        }
+        pendingAttributes = null;
+
+        if (pendingEmpty) {
+            endElement(element);
+        } else {
+            open.add(element);
+        }
+    }
+
+    private void endElement(final Element element) throws XMLStreamException {
+        try {
+            handler.endElement(element.namespaceURI, element.localName, element.getQName());
+            for (final String prefix : element.prefixes) {
+                handler.endPrefixMapping(prefix);
+            }
+        } catch (final SAXException e) {
+            throw new XMLStreamException("Failed to end element " + element.localName, e);
+        }
+        namespaces.popContext();
+    }
+
+    private static String qName(final String prefix, final String localName) {
+        return Strings.isNullOrEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+
+    private static final class Element {
+        private final String prefix;
+        private final String localName;
+        // Null until resolved from the namespaces in scope of the element
+        private String namespaceURI;
+        private final List<String> prefixes = new ArrayList<>(1);
+        private final List<String> uris = new ArrayList<>(1);
+
+        Element(final String prefix, final String localName, final String namespaceURI) {
+            this.prefix = prefix;
+            this.localName = localName;
+            this.namespaceURI = namespaceURI;
+        }
+
+        String getQName() {
+            return qName(prefix, localName);
+        }
+    }
+}
@@ -0,0 +1,677 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.xml;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * In-memory copy of the SAX events of a single XML document, e.g. as pushed by an EXI decoder. The document
+ * can be replayed into another {@link ContentHandler} or pulled with an {@link XMLStreamReader} any number
+ * of times, without being serialized to text and parsed again. Elements, attributes, namespace declarations
+ * and text are kept, comments and processing instructions are dropped.
+ *
+ * <p>
+ * Buffers are immutable and can be shared between threads, a {@link Recorder} is used by a single thread.
+ */
+public final class XmlEventBuffer {
+
+    private final List<Event> events;
+
+    private XmlEventBuffer(final List<Event> events) {
+        this.events = events;
+    }
+
+    /**
+     * @return new handler which records the events of a single document
+     */
+    public static Recorder recorder() {
+        return new Recorder();
+    }
+
+    /**
+     * Feed the recorded document to the handler, including the start and end of document.
+     */
+    public void replay(final ContentHandler handler) throws SAXException {
+        handler.startDocument();
+        for (final Event event : events) {
+            event.replay(handler);
+        }
+        handler.endDocument();
+    }
+
+    /**
+     * @return new reader over the recorded document, positioned at the start of the document
+     */
+    public XMLStreamReader createStreamReader() {
+        return new EventReader(events);
+    }
+
+    /**
+     * Records events of a single document, {@link #build()} returns the buffer once the document ended.
+     */
+    public static final class Recorder extends DefaultHandler {
+        private final ImmutableList.Builder<Event> events = ImmutableList.builder();
+        private final List<StartElement> open = new ArrayList<>();
+        private final List<String> namespaces = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private boolean ended;
+
+        private Recorder() {
+        }
+
+        @Override
+        public void startPrefixMapping(final String prefix, final String uri) {
+            namespaces.add(Strings.nullToEmpty(prefix));
+            namespaces.add(Strings.nullToEmpty(uri));
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes atts) {
+            flushText();
+            final List<String> attributes = new ArrayList<>(atts.getLength() * 4);
+            for (int i = 0; i < atts.getLength(); i++) {
+                final String name = atts.getQName(i);
+                if (XMLConstants.XMLNS_ATTRIBUTE.equals(name)) {
+                    declareIfMissing(XMLConstants.DEFAULT_NS_PREFIX, atts.getValue(i));
+                } else if (name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ':')) {
+                    declareIfMissing(name.substring(XMLConstants.XMLNS_ATTRIBUTE.length() + 1), atts.getValue(i));
+                } else {
+                    attributes.add(Strings.nullToEmpty(atts.getURI(i)));
+                    attributes.add(localName(atts.getLocalName(i), name));
+                    attributes.add(prefix(name));
+                    attributes.add(atts.getValue(i));
+                }
+            }
+
+            final StartElement start = new StartElement(Strings.nullToEmpty(uri), localName(localName, qName),
+                    prefix(qName), attributes.toArray(new String[attributes.size()]),
+                    namespaces.toArray(new String[namespaces.size()]));
+            namespaces.clear();
+            open.add(start);
+            events.add(start);
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            flushText();
+            if (open.isEmpty()) {
+                throw new SAXException("Unexpected end of element " + qName);
+            }
+            events.add(new EndElement(open.remove(open.size() - 1)));
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            text.append(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+            text.append(ch, start, length);
+        }
+
+        @Override
+        public void endDocument() {
+            flushText();
+            ended = true;
+        }
+
+        /**
+         * @return buffer with the recorded document
+         * @throws IllegalStateException if the document has not ended yet
+         */
+        public XmlEventBuffer build() {
+            Preconditions.checkState(ended && open.isEmpty(), "Document has not ended yet");
+            return new XmlEventBuffer(events.build());
+        }
+
+        private void declareIfMissing(final String prefix, final String uri) {
+            for (int i = 0; i < namespaces.size(); i += 2) {
+                if (namespaces.get(i).equals(prefix)) {
+                    return;
+                }
+            }
+            startPrefixMapping(prefix, uri);
+        }
+
+        private void flushText() {
+            if (text.length() != 0) {
+                events.add(new Characters(text.toString()));
+                text.setLength(0);
+            }
+        }
+
+        private static String localName(final String localName, final String qName) {
+            if (!Strings.isNullOrEmpty(localName)) {
+                return localName;
+            }
+            // Parsers which are not namespace aware report the qualified name only
+            return qName.substring(qName.indexOf(':') + 1);
+        }
+
+        private static String prefix(final String qName) {
+            final int colon = qName.indexOf(':');
+            return colon == -1 ? XMLConstants.DEFAULT_NS_PREFIX : qName.substring(0, colon);
+        }
+    }
+
+    private abstract static class Event {
+        abstract int getEventType();
+
+        abstract void replay(ContentHandler handler) throws SAXException;
+    }
+
+    private static final class StartElement extends Event {
+        private final String uri;
+        private final String localName;
+        private final String prefix;
+        // Quadruples of uri, local name, prefix and value
+        private final String[] attributes;
+        // Pairs of prefix and uri
+        private final String[] namespaces;
+
+        StartElement(final String uri, final String localName, final String prefix, final String[] attributes,
+                final String[] namespaces) {
+            this.uri = uri;
+            this.localName = localName;
+            this.prefix = prefix;
+            this.attributes = attributes;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        int getEventType() {
+            return XMLStreamConstants.START_ELEMENT;
+        }
+
+        String getQName() {
+            return qName(prefix, localName);
+        }
+
+        @Override
+        void replay(final ContentHandler handler) throws SAXException {
+            for (int i = 0; i < namespaces.length; i += 2) {
+                handler.startPrefixMapping(namespaces[i], namespaces[i + 1]);
+            }
+            final AttributesImpl atts = new AttributesImpl();
+            for (int i = 0; i < attributes.length; i += 4) {
+                atts.addAttribute(attributes[i], attributes[i + 1], qName(attributes[i + 2], attributes[i + 1]),
+                        "CDATA", attributes[i + 3]);
+            }
+            handler.startElement(uri, localName, getQName(), atts);
+        }
+
+        private static String qName(final String prefix, final String localName) {
+            return prefix.isEmpty() ? localName : prefix + ':' + localName;
+        }
+    }
+
+    private static final class EndElement extends Event {
+        private final StartElement start;
+
+        EndElement(final StartElement start) {
+            this.start = start;
+        }
+
+        @Override
+        int getEventType() {
+            return XMLStreamConstants.END_ELEMENT;
+        }
+
+        @Override
+        void replay(final ContentHandler handler) throws SAXException {
+            handler.endElement(start.uri, start.localName, start.getQName());
+            for (int i = 0; i < start.namespaces.length; i += 2) {
+                handler.endPrefixMapping(start.namespaces[i]);
+            }
+        }
+    }
+
+    private static final class Characters extends Event {
+        private final String text;
+
+        Characters(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        int getEventType() {
+            return XMLStreamConstants.CHARACTERS;
+        }
+
+        @Override
+        void replay(final ContentHandler handler) throws SAXException {
+            handler.characters(text.toCharArray(), 0, text.length());
+        }
+    }
+
+    /**
+     * Pull view of the events. The namespaces declared by an element are in scope from its start to its end
+     * element, inclusive, as required by {@link XMLStreamReader}.
+     */
+    private static final class EventReader implements XMLStreamReader, NamespaceContext {
+        private static final Location LOCATION = new Location() {
+            @Override
+            public int getLineNumber() {
+                return -1;
+            }
+
+            @Override
+            public int getColumnNumber() {
+                return -1;
+            }
+
+            @Override
+            public int getCharacterOffset() {
+                return -1;
+            }
+
+            @Override
+            public String getPublicId() {
+                return null;
+            }
+
+            @Override
+            public String getSystemId() {
+                return null;
+            }
+        };
+
+        private final List<Event> events;
+        // Pairs of prefix and uri of the namespaces in scope
+        private final List<String> namespaces = new ArrayList<>();
+        private int index = -1;
+
+        EventReader(final List<Event> events) {
+            this.events = events;
+        }
+
+        @Override
+        public Object getProperty(final String name) {
+            Preconditions.checkArgument(name != null, "Property name must not be null");
+            return null;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more events");
+            }
+            final Event current = currentEvent();
+            if (current instanceof EndElement) {
+                final int declared = ((EndElement) current).start.namespaces.length;
+                namespaces.subList(namespaces.size() - declared, namespaces.size()).clear();
+            }
+
+            index++;
+            final Event next = currentEvent();
+            if (next instanceof StartElement) {
+                namespaces.addAll(Arrays.asList(((StartElement) next).namespaces));
+            }
+            return getEventType();
+        }
+
+        @Override
+        public void require(final int type, final String namespaceURI, final String localName)
+                throws XMLStreamException {
+            if (type != getEventType()) {
+                throw new XMLStreamException("Expected event " + type + ", current event is " + getEventType());
+            }
+            if (namespaceURI != null && !namespaceURI.equals(Strings.nullToEmpty(getNamespaceURI()))) {
+                throw new XMLStreamException("Expected namespace " + namespaceURI + ", current is " + getNamespaceURI());
+            }
+            if (localName != null && !localName.equals(getLocalName())) {
+                throw new XMLStreamException("Expected name " + localName + ", current is " + getLocalName());
+            }
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            if (getEventType() != START_ELEMENT) {
+                throw new XMLStreamException("Current event is not a start element");
+            }
+            final StringBuilder sb = new StringBuilder();
+            while (true) {
+                final int event = next();
+                if (event == CHARACTERS) {
+                    sb.append(getText());
+                } else if (event == END_ELEMENT) {
+                    return sb.toString();
+                } else {
+                    throw new XMLStreamException("Element text expected, got event " + event);
+                }
+            }
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int event = next();
+            while (event == CHARACTERS && isWhiteSpace()) {
+                event = next();
+            }
+            if (event != START_ELEMENT && event != END_ELEMENT) {
+                throw new XMLStreamException("Start or end element expected, got event " + event);
+            }
+            return event;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < events.size();
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release
+        }
+
+        @Override
+        public String getNamespaceURI(final String prefix) {
+            Preconditions.checkArgument(prefix != null, "Prefix must not be null");
+            if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+                return XMLConstants.XML_NS_URI;
+            }
+            if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+                return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+            }
+            for (int i = namespaces.size() - 2; i >= 0; i -= 2) {
+                if (namespaces.get(i).equals(prefix)) {
+                    return namespaces.get(i + 1);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String getPrefix(final String namespaceURI) {
+            final Iterator<String> it = getPrefixes(namespaceURI);
+            return it.hasNext() ? it.next() : null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(final String namespaceURI) {
+            Preconditions.checkArgument(namespaceURI != null, "Namespace must not be null");
+            final List<String> ret = new ArrayList<>();
+            for (int i = namespaces.size() - 2; i >= 0; i -= 2) {
+                final String prefix = namespaces.get(i);
+                // Skip prefixes redeclared by a nested element
+                if (namespaces.get(i + 1).equals(namespaceURI) && namespaceURI.equals(getNamespaceURI(prefix))
+                        && !ret.contains(prefix)) {
+                    ret.add(prefix);
+                }
+            }
+            return ret.iterator();
+        }
+
+        @Override
+        public boolean isStartElement() {
+            return getEventType() == START_ELEMENT;
+        }
+
+        @Override
+        public boolean isEndElement() {
+            return getEventType() == END_ELEMENT;
+        }
+
+        @Override
+        public boolean isCharacters() {
+            return getEventType() == CHARACTERS;
+        }
+
+        @Override
+        public boolean isWhiteSpace() {
+            if (!isCharacters()) {
+                return false;
+            }
+            final String text = getText();
+            for (int i = 0; i < text.length(); i++) {
+                if (!Character.isWhitespace(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String getAttributeValue(final String namespaceURI, final String localName) {
+            final String[] attributes = startElement().attributes;
+            for (int i = 0; i < attributes.length; i += 4) {
+                if (attributes[i + 1].equals(localName)
+                        && (namespaceURI == null || namespaceURI.equals(attributes[i]))) {
+                    return attributes[i + 3];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public int getAttributeCount() {
+            return startElement().attributes.length / 4;
+        }
+
+        @Override
+        public QName getAttributeName(final int index) {
+            return new QName(getAttributeNamespace(index) == null ? XMLConstants.NULL_NS_URI
+                    : getAttributeNamespace(index), getAttributeLocalName(index), getAttributePrefix(index));
+        }
+
+        @Override
+        public String getAttributeNamespace(final int index) {
+            return Strings.emptyToNull(attribute(index, 0));
+        }
+
+        @Override
+        public String getAttributeLocalName(final int index) {
+            return attribute(index, 1);
+        }
+
+        @Override
+        public String getAttributePrefix(final int index) {
+            return attribute(index, 2);
+        }
+
+        @Override
+        public String getAttributeType(final int index) {
+            attribute(index, 0);
+            return "CDATA";
+        }
+
+        @Override
+        public String getAttributeValue(final int index) {
+            return attribute(index, 3);
+        }
+
+        @Override
+        public boolean isAttributeSpecified(final int index) {
+            attribute(index, 0);
+            return true;
+        }
+
+        @Override
+        public int getNamespaceCount() {
+            return declaringElement().namespaces.length / 2;
+        }
+
+        @Override
+        public String getNamespacePrefix(final int index) {
+            return Strings.emptyToNull(declaringElement().namespaces[index * 2]);
+        }
+
+        @Override
+        public String getNamespaceURI(final int index) {
+            return declaringElement().namespaces[index * 2 + 1];
+        }
+
+        @Override
+        public NamespaceContext getNamespaceContext() {
+            return this;
+        }
+
+        @Override
+        public int getEventType() {
+            if (index < 0) {
+                return START_DOCUMENT;
+            }
+            return index < events.size() ? events.get(index).getEventType() : END_DOCUMENT;
+        }
+
+        @Override
+        public String getText() {
+            final Event current = currentEvent();
+            Preconditions.checkState(current instanceof Characters, "Current event has no text");
+            return ((Characters) current).text;
+        }
+
+        @Override
+        public char[] getTextCharacters() {
+            return getText().toCharArray();
+        }
+
+        @Override
+        public int getTextCharacters(final int sourceStart, final char[] target, final int targetStart,
+                final int length) {
+            final String text = getText();
+            final int count = Math.min(length, text.length() - sourceStart);
+            text.getChars(sourceStart, sourceStart + count, target, targetStart);
+            return count;
+        }
+
+        @Override
+        public int getTextStart() {
+            getText();
+            return 0;
+        }
+
+        @Override
+        public int getTextLength() {
+            return getText().length();
+        }
+
+        @Override
+        public String getEncoding() {
+            return null;
+        }
+
+        @Override
+        public boolean hasText() {
+            return isCharacters();
+        }
+
+        @Override
+        public Location getLocation() {
+            return LOCATION;
+        }
+
+        @Override
+        public QName getName() {
+            final StartElement element = declaringElement();
+            return new QName(element.uri, element.localName, element.prefix);
+        }
+
+        @Override
+        public String getLocalName() {
+            return declaringElement().localName;
+        }
+
+        @Override
+        public boolean hasName() {
+            return isStartElement() || isEndElement();
+        }
+
+        @Override
+        public String getNamespaceURI() {
+            return Strings.emptyToNull(declaringElement().uri);
+        }
+
+        @Override
+        public String getPrefix() {
+            return declaringElement().prefix;
+        }
+
+        @Override
+        public String getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isStandalone() {
+            return false;
+        }
+
+        @Override
+        public boolean standaloneSet() {
+            return false;
+        }
+
+        @Override
+        public String getCharacterEncodingScheme() {
+            return null;
+        }
+
+        @Override
+        public String getPITarget() {
+            return null;
+        }
+
+        @Override
+        public String getPIData() {
+            return null;
+        }
+
+        private Event currentEvent() {
+            return index >= 0 && index < events.size() ? events.get(index) : null;
+        }
+
+        private StartElement startElement() {
+            final Event current = currentEvent();
+            Preconditions.checkState(current instanceof StartElement, "Current event is not a start element");
+            return (StartElement) current;
+        }
+
+        /**
+         * @return start element of the current start or end element event
+         */
+        private StartElement declaringElement() {
+            final Event current = currentEvent();
+            if (current instanceof EndElement) {
+                return ((EndElement) current).start;
+            }
+            Preconditions.checkState(current instanceof StartElement, "Current event is not an element");
+            return (StartElement) current;
+        }
+
+        private String attribute(final int index, final int field) {
+            final String[] attributes = startElement().attributes;
+            if (index < 0 || index * 4 >= attributes.length) {
+                throw new IndexOutOfBoundsException("No attribute at index " + index);
+            }
+            return attributes[index * 4 + field];
+        }
+    }
+}
@@ -8,10 +8,15 @@
 
 package org.opendaylight.controller.netconf.util.messages;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.google.common.base.Charsets;
 import java.util.Collection;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.junit.Test;
 import org.opendaylight.controller.netconf.api.NetconfMessage;
 import org.opendaylight.controller.netconf.util.test.XmlFileLoader;
@@ -33,4 +38,51 @@ public class NetconfMessageUtilTest {
         assertTrue(caps.contains("urn:ietf:params:netconf:base:1.0"));
         assertTrue(caps.contains("urn:ietf:params:netconf:base:1.1"));
     }
+
+    @Test
+    public void testSerializedMessage() throws Exception {
+        final SerializedNetconfMessage ok = new SerializedNetconfMessage(
+                "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\" message-id=\"m-5\"><ok/></rpc-reply>".getBytes(Charsets.UTF_8));
+        assertEquals("rpc-reply", ok.getRootElementName());
+        assertEquals("m-5", ok.getRootAttribute("message-id"));
+        assertEquals("", ok.getRootAttribute("missing"));
+        assertEquals("ok", ok.getFirstChildElementName());
+        assertFalse(NetconfMessageUtil.isErrorMessage(ok));
+        assertFalse(ok.isDocumentBuilt());
+
+        assertTrue(NetconfMessageUtil.isOKMessage(ok));
+        assertTrue(ok.isDocumentBuilt());
+
+        final SerializedNetconfMessage error = new SerializedNetconfMessage(
+                "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\" message-id=\"m-6\"><rpc-error/></rpc-reply>".getBytes(Charsets.UTF_8));
+        assertTrue(NetconfMessageUtil.isErrorMessage(error));
+    }
+
+    @Test
+    public void testSerializedMessageMalformed() throws Exception {
+        final byte[] malformed = "<rpc-reply message-id=\"m-7\"><ok/><data></rpc-reply>".getBytes(Charsets.UTF_8);
+        final SerializedNetconfMessage message = new SerializedNetconfMessage(malformed);
+
+        // The streaming pass reports the error once it reaches it
+        final XMLStreamReader reader = message.createStreamReader();
+        try {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            fail("Malformed message should be rejected");
+        } catch (final XMLStreamException e) {
+            // expected
+        } finally {
+            reader.close();
+        }
+
+        // The header precedes the error, the document does not
+        assertEquals("rpc-reply", message.getRootElementName());
+        try {
+            message.getDocument();
+            fail("Malformed message should not be parsed");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
 }
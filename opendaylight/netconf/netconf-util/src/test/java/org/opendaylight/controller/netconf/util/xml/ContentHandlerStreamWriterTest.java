@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stax.StAXResult;
+import org.custommonkey.xmlunit.Diff;
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class ContentHandlerStreamWriterTest {
+
+    private final String xml = "<top xmlns=\"namespace\" xmlns:pref=\"prefixNamespace\" pref:attr=\"a\" plain=\"b\">" +
+            "<innerText>value</innerText>" +
+            "<innerPrefixedText xmlns=\"randomNamespace\">pref:value</innerPrefixedText>" +
+            "<pref:empty/>" +
+            "</top>";
+
+    @Test
+    public void testWriteToHandler() throws Exception {
+        final TransformerHandler handler = ((SAXTransformerFactory) SAXTransformerFactory.newInstance())
+                .newTransformerHandler();
+        final DOMResult result = new DOMResult();
+        handler.setResult(result);
+
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(handler);
+        writer.writeStartDocument();
+        writer.writeStartElement("", "top", "namespace");
+        writer.writeDefaultNamespace("namespace");
+        writer.writeNamespace("pref", "prefixNamespace");
+        writer.writeAttribute("prefixNamespace", "attr", "a");
+        writer.writeAttribute("plain", "b");
+        writer.writeStartElement("namespace", "innerText");
+        writer.writeCharacters("value");
+        writer.writeEndElement();
+        writer.writeStartElement("", "innerPrefixedText", "randomNamespace");
+        writer.writeDefaultNamespace("randomNamespace");
+        assertEquals("", writer.getPrefix("randomNamespace"));
+        writer.writeCharacters("pref:value");
+        writer.writeEndElement();
+        assertNull(writer.getPrefix("randomNamespace"));
+        writer.writeEmptyElement("prefixNamespace", "empty");
+        // Open elements are closed by the end of document
+        writer.writeEndDocument();
+
+        XMLUnit.setIgnoreAttributeOrder(true);
+        final Diff diff = XMLUnit.compareXML(XmlUtil.readXmlToDocument(xml), (Document) result.getNode());
+        assertTrue(diff.toString(), diff.similar());
+    }
+
+    @Test
+    public void testRoundTripThroughEvents() throws Exception {
+        final XmlEventBuffer.Recorder recorder = XmlEventBuffer.recorder();
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(recorder);
+        writer.writeStartDocument();
+        writer.writeStartElement("", "top", "namespace");
+        writer.writeDefaultNamespace("namespace");
+        writer.writeNamespace("pref", "prefixNamespace");
+        writer.writeAttribute("pref", "prefixNamespace", "attr", "a");
+        writer.writeCharacters("text");
+        writer.writeEndElement();
+        writer.writeEndDocument();
+
+        final XMLStreamReader reader = recorder.build().createStreamReader();
+        reader.nextTag();
+        assertEquals("namespace", reader.getNamespaceURI());
+        assertEquals("top", reader.getLocalName());
+        assertEquals("a", reader.getAttributeValue("prefixNamespace", "attr"));
+        assertEquals("prefixNamespace", reader.getNamespaceURI("pref"));
+        assertEquals("text", reader.getElementText());
+    }
+
+    @Test
+    public void testWriteFromTransformer() throws Exception {
+        final TransformerHandler handler = ((SAXTransformerFactory) SAXTransformerFactory.newInstance())
+                .newTransformerHandler();
+        final DOMResult result = new DOMResult();
+        handler.setResult(result);
+
+        // The JDK passes prefixed attributes on without their namespace
+        TransformerFactory.newInstance().newTransformer().transform(
+                new DOMSource(XmlUtil.readXmlToDocument(xml)), new StAXResult(new ContentHandlerStreamWriter(handler)));
+
+        final Document document = (Document) result.getNode();
+        assertEquals("a", document.getDocumentElement().getAttributeNS("prefixNamespace", "attr"));
+        XMLUnit.setIgnoreAttributeOrder(true);
+        final Diff diff = XMLUnit.compareXML(XmlUtil.readXmlToDocument(xml), document);
+        assertTrue(diff.toString(), diff.similar());
+    }
+
+    @Test
+    public void testNamespaceAttributes() throws Exception {
+        final TransformerHandler handler = ((SAXTransformerFactory) SAXTransformerFactory.newInstance())
+                .newTransformerHandler();
+        final DOMResult result = new DOMResult();
+        handler.setResult(result);
+
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(handler);
+        writer.writeStartDocument();
+        writer.writeStartElement("top");
+        writer.writeAttribute("xmlns", "namespace");
+        writer.writeDefaultNamespace("namespace");
+        writer.writeAttribute("xmlns", XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "pref", "prefixNamespace");
+        writer.writeAttribute("pref:attr", "a");
+        writer.writeAttribute("plain", "b");
+        writer.writeEndDocument();
+
+        final Element top = ((Document) result.getNode()).getDocumentElement();
+        assertEquals("namespace", top.getNamespaceURI());
+        assertEquals("a", top.getAttributeNS("prefixNamespace", "attr"));
+        assertEquals("attr", top.getAttributeNodeNS("prefixNamespace", "attr").getLocalName());
+        assertEquals("b", top.getAttribute("plain"));
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testUnboundNamespace() throws Exception {
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(XmlEventBuffer.recorder());
+        writer.writeStartDocument();
+        writer.writeStartElement("unbound", "top");
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testAttributeOutsideStartElement() throws Exception {
+        final XMLStreamWriter writer = new ContentHandlerStreamWriter(XmlEventBuffer.recorder());
+        writer.writeStartDocument();
+        writer.writeStartElement("top");
+        writer.writeCharacters("text");
+        writer.writeAttribute("late", "value");
+    }
+}
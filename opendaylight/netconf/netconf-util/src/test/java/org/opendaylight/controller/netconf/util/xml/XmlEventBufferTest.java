@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.netconf.util.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Charsets;
+import java.io.ByteArrayInputStream;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import org.custommonkey.xmlunit.Diff;
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.AttributesImpl;
+
+public class XmlEventBufferTest {
+
+    private final String xml = "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\" message-id=\"101\">\n" +
+            "<data>\n" +
+            "<top xmlns=\"namespace\" xmlns:pref=\"prefixNamespace\" pref:attr=\"a\">\n" +
+            "<innerText>value &amp; more</innerText>\n" +
+            "<innerPrefixedText>pref:value</innerPrefixedText>\n" +
+            "<empty/>\n" +
+            "</top>\n" +
+            "</data>\n" +
+            "</rpc-reply>";
+
+    @Test
+    public void testStreamReaderMatchesParser() throws Exception {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        final XMLStreamReader expected = factory.createXMLStreamReader(
+                new ByteArrayInputStream(xml.getBytes(Charsets.UTF_8)));
+        final XMLStreamReader actual = record(xml).createStreamReader();
+
+        assertEquals(XMLStreamConstants.START_DOCUMENT, actual.getEventType());
+        while (expected.hasNext()) {
+            assertTrue(actual.hasNext());
+            final int event = expected.next();
+            assertEquals(event, actual.next());
+            if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_ELEMENT) {
+                assertEquals(expected.getName(), actual.getName());
+                assertEquals(expected.getNamespaceURI(), actual.getNamespaceURI());
+                assertEquals(expected.getNamespaceCount(), actual.getNamespaceCount());
+                for (int i = 0; i < expected.getNamespaceCount(); i++) {
+                    assertEquals(expected.getNamespacePrefix(i), actual.getNamespacePrefix(i));
+                    assertEquals(expected.getNamespaceURI(i), actual.getNamespaceURI(i));
+                }
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                assertEquals(expected.getAttributeCount(), actual.getAttributeCount());
+                for (int i = 0; i < expected.getAttributeCount(); i++) {
+                    assertEquals(expected.getAttributeName(i), actual.getAttributeName(i));
+                    assertEquals(expected.getAttributeValue(i), actual.getAttributeValue(i));
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS) {
+                assertEquals(expected.getText(), actual.getText());
+                assertEquals(expected.isWhiteSpace(), actual.isWhiteSpace());
+            }
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    public void testNamespaceScope() throws Exception {
+        final XMLStreamReader reader = record(xml).createStreamReader();
+        reader.nextTag();
+        assertEquals("101", reader.getAttributeValue(null, "message-id"));
+        reader.nextTag();
+        reader.nextTag();
+        assertEquals("top", reader.getLocalName());
+        assertEquals("a", reader.getAttributeValue("prefixNamespace", "attr"));
+        assertEquals("prefixNamespace", reader.getNamespaceURI("pref"));
+        assertEquals("namespace", reader.getNamespaceURI(""));
+
+        reader.nextTag();
+        assertEquals("value & more", reader.getElementText());
+        reader.nextTag();
+        assertEquals("pref:value", reader.getElementText());
+        assertEquals("pref", reader.getNamespaceContext().getPrefix("prefixNamespace"));
+
+        reader.nextTag();
+        reader.nextTag();
+        reader.nextTag();
+        // Declarations of an element stay in scope until after its end element
+        assertEquals("top", reader.getLocalName());
+        assertTrue(reader.isEndElement());
+        assertEquals("prefixNamespace", reader.getNamespaceURI("pref"));
+        reader.nextTag();
+        assertEquals("data", reader.getLocalName());
+        assertNull(reader.getNamespaceURI("pref"));
+        assertEquals("urn:ietf:params:xml:ns:netconf:base:1.0", reader.getNamespaceURI(""));
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testNextTagOnText() throws Exception {
+        final XMLStreamReader reader = record("<top>text<inner/></top>").createStreamReader();
+        reader.nextTag();
+        reader.nextTag();
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        final XmlEventBuffer buffer = record(xml);
+        // Buffer can be replayed any number of times
+        for (int i = 0; i < 2; i++) {
+            final TransformerHandler handler = ((SAXTransformerFactory) SAXTransformerFactory.newInstance())
+                    .newTransformerHandler();
+            final DOMResult result = new DOMResult();
+            handler.setResult(result);
+            buffer.replay(handler);
+
+            final Diff diff = XMLUnit.compareXML(XmlUtil.readXmlToDocument(xml), (Document) result.getNode());
+            assertTrue(diff.toString(), diff.similar());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnfinishedDocument() throws Exception {
+        final XmlEventBuffer.Recorder recorder = XmlEventBuffer.recorder();
+        recorder.startDocument();
+        recorder.startElement("", "top", "top", new AttributesImpl());
+        recorder.build();
+    }
+
+    private static XmlEventBuffer record(final String xml) throws Exception {
+        final SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final XMLReader reader = factory.newSAXParser().getXMLReader();
+        final XmlEventBuffer.Recorder recorder = XmlEventBuffer.recorder();
+        reader.setContentHandler(recorder);
+        reader.parse(new InputSource(new ByteArrayInputStream(xml.getBytes(Charsets.UTF_8))));
+        return recorder.build();
+    }
+}